@@ -0,0 +1,71 @@
+package com.codeenhancer.java_code_enhancer.benchmark;
+
+import com.codeenhancer.java_code_enhancer.analysis.JavaParserPool;
+import com.codeenhancer.java_code_enhancer.analysis.ParallelScanner;
+import com.codeenhancer.java_code_enhancer.backend.AnalysisBackend;
+import com.codeenhancer.java_code_enhancer.backend.JavaParserBackend;
+import com.codeenhancer.java_code_enhancer.backend.JdtBackend;
+import com.codeenhancer.java_code_enhancer.backend.SourceFile;
+import com.codeenhancer.java_code_enhancer.config.CodeEnhancerProperties;
+import com.codeenhancer.java_code_enhancer.config.SymbolSolverConfig;
+import com.codeenhancer.java_code_enhancer.dto.SourceAnalysisResult;
+import com.codeenhancer.java_code_enhancer.rules.RuleSet;
+import com.codeenhancer.java_code_enhancer.service.impl.DashboardServiceImpl;
+import com.codeenhancer.java_code_enhancer.symbols.ProjectIndexer;
+import com.github.javaparser.resolution.TypeSolver;
+import com.github.javaparser.symbolsolver.JavaSymbolSolver;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Multi-file analysis, validity, metrics and type-resolved deprecated API
+ * use, of the same sources with each backend: JavaParser resolving every
+ * source through an index of the batch, and JDT compiling them in one batch. The sources are
+ * copies of the Small and Medium corpus files, each in a package of its own.
+ * <p>
+ * Run with: mvn -P benchmark test-compile exec:exec -Djmh.include=AnalysisBackendBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 8)
+@Measurement(iterations = 10)
+@Fork(1)
+public class AnalysisBackendBenchmark {
+
+    @Param({JavaParserBackend.ID, JdtBackend.ID})
+    public String backend;
+
+    @Param({"20", "200"})
+    public int files;
+
+    private AnalysisBackend analysis;
+    private final List<SourceFile> sources = new ArrayList<>();
+
+    @Setup
+    public void setUp() {
+        CodeEnhancerProperties properties = new CodeEnhancerProperties();
+        if (backend.equals(JdtBackend.ID)) {
+            analysis = new JdtBackend(properties);
+        } else {
+            TypeSolver typeSolver = new SymbolSolverConfig().typeSolver(properties);
+            JavaParserPool parsers = new JavaParserPool(properties.getParser(), new JavaSymbolSolver(typeSolver));
+            analysis = new JavaParserBackend(parsers, new DashboardServiceImpl(), null,
+                    new ProjectIndexer(properties, parsers, typeSolver), null, properties, ParallelScanner.SEQUENTIAL);
+        }
+        String small = BenchmarkCorpus.load("Small");
+        String medium = BenchmarkCorpus.load("Medium");
+        for (int i = 0; i < files; i++) {
+            String source = (i % 2 == 0 ? small : medium).replaceFirst("package corpus;", "package corpus.p" + i + ";");
+            sources.add(new SourceFile("corpus/p" + i + (i % 2 == 0 ? "/Small.java" : "/Medium.java"), source));
+        }
+    }
+
+    @Benchmark
+    public List<SourceAnalysisResult> analyzeAll() {
+        return analysis.analyzeAll(sources, RuleSet.BUILT_IN);
+    }
+}
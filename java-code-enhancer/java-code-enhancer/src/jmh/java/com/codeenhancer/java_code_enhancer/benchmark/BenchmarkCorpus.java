@@ -0,0 +1,41 @@
+package com.codeenhancer.java_code_enhancer.benchmark;
+
+import com.codeenhancer.java_code_enhancer.analysis.JavaParserPool;
+import com.codeenhancer.java_code_enhancer.config.CodeEnhancerProperties;
+import com.codeenhancer.java_code_enhancer.config.SymbolSolverConfig;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * The checked-in corpus under src/jmh/resources/corpus: Small (about 100
+ * lines), Medium (about 1.5k lines) and Large (about 11k lines), each using
+ * every construct the rewrites and warnings look for.
+ */
+final class BenchmarkCorpus {
+
+    private BenchmarkCorpus() {
+    }
+
+    static String load(String name) {
+        try (InputStream in = BenchmarkCorpus.class.getResourceAsStream("/corpus/" + name + ".java")) {
+            if (in == null) {
+                throw new IllegalArgumentException("No corpus file " + name);
+            }
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Parsers configured as in the application, with symbol resolution
+     */
+    static JavaParserPool parsers() {
+        CodeEnhancerProperties properties = new CodeEnhancerProperties();
+        SymbolSolverConfig symbols = new SymbolSolverConfig();
+        return new JavaParserPool(properties.getParser(), symbols.symbolResolver(symbols.typeSolver(properties)));
+    }
+}
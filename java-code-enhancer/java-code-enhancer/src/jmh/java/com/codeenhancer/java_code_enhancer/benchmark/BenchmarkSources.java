@@ -0,0 +1,44 @@
+package com.codeenhancer.java_code_enhancer.benchmark;
+
+/**
+ * Synthetic sources shaped like the generated code the engine is used on
+ */
+final class BenchmarkSources {
+
+    private static final String METHOD_TEMPLATE = ""
+            + "    public int method%1$d(int[] values, String key) {\n"
+            + "        int total = 0;\n"
+            + "        for (int i = 0; i < values.length; i++) {\n"
+            + "            total += values[i];\n"
+            + "        }\n"
+            + "        switch (key) {\n"
+            + "            case \"a\": total++; break;\n"
+            + "            case \"b\": return total;\n"
+            + "            default: total--;\n"
+            + "        }\n"
+            + "        while (true) {\n"
+            + "            if (key.equals(\"stop\")) break;\n"
+            + "            key = key.substring(1);\n"
+            + "        }\n"
+            + "        java.util.Date created = new java.util.Date();\n"
+            + "        System.out.println(created.hashCode() + key.getBytes().length);\n"
+            + "        return total;\n"
+            + "    }\n\n";
+
+    private static final int METHOD_LINES = 19;
+
+    private BenchmarkSources() {
+    }
+
+    /**
+     * Generate a class of roughly the given number of lines
+     */
+    static String generate(int lines) {
+        StringBuilder source = new StringBuilder("package generated;\n\npublic class Generated {\n\n");
+        int methods = Math.max(1, lines / METHOD_LINES);
+        for (int i = 0; i < methods; i++) {
+            source.append(String.format(METHOD_TEMPLATE, i));
+        }
+        return source.append("}\n").toString();
+    }
+}
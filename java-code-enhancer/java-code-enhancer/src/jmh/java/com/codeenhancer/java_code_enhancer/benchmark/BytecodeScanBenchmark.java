@@ -0,0 +1,58 @@
+package com.codeenhancer.java_code_enhancer.benchmark;
+
+import com.codeenhancer.java_code_enhancer.bytecode.ClassFileScanner;
+import com.google.common.collect.ImmutableList;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+
+/**
+ * Bytecode scan of every class in the Guava jar, read into memory first, so
+ * the score divided by the printed class count is the time per class.
+ * <p>
+ * Run with: mvn -P benchmark test-compile exec:exec -Djmh.include=BytecodeScanBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BytecodeScanBenchmark {
+
+    private final List<String> names = new ArrayList<>();
+    private final List<byte[]> classes = new ArrayList<>();
+
+    @Setup
+    public void setUp() throws Exception {
+        Path jar = Path.of(ImmutableList.class.getProtectionDomain().getCodeSource().getLocation().toURI());
+        try (InputStream in = Files.newInputStream(jar); ZipInputStream zip = new ZipInputStream(in)) {
+            ZipEntry entry;
+            while ((entry = zip.getNextEntry()) != null) {
+                if (entry.getName().endsWith(".class")) {
+                    names.add(entry.getName());
+                    classes.add(zip.readAllBytes());
+                }
+            }
+        } catch (IOException e) {
+            throw new IllegalStateException("Cannot read " + jar, e);
+        }
+        System.out.printf("%n%d classes from %s%n", classes.size(), jar.getFileName());
+    }
+
+    @Benchmark
+    public void scanJar(Blackhole bh) {
+        for (int i = 0; i < classes.size(); i++) {
+            bh.consume(ClassFileScanner.scan(names.get(i), classes.get(i)));
+        }
+    }
+}
@@ -0,0 +1,104 @@
+package com.codeenhancer.java_code_enhancer.benchmark;
+
+import com.codeenhancer.java_code_enhancer.analysis.AnalysisBudget;
+import com.codeenhancer.java_code_enhancer.analysis.JavaParserPool;
+import com.codeenhancer.java_code_enhancer.analysis.ModernizationPatterns;
+import com.codeenhancer.java_code_enhancer.analysis.ScanResult;
+import com.codeenhancer.java_code_enhancer.config.CodeEnhancerProperties;
+import com.codeenhancer.java_code_enhancer.rules.RuleSet;
+import com.github.javaparser.ast.CompilationUnit;
+import com.github.javaparser.ast.body.MethodDeclaration;
+import com.github.javaparser.ast.expr.MethodCallExpr;
+import com.github.javaparser.ast.expr.ObjectCreationExpr;
+import com.github.javaparser.ast.stmt.ForStmt;
+import com.github.javaparser.ast.stmt.SwitchStmt;
+import com.github.javaparser.ast.stmt.WhileStmt;
+import com.github.javaparser.ast.visitor.VoidVisitorAdapter;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the single fused scan with the per-type findAll scans that
+ * DashboardServiceImpl and CodeTransformationUtils used to run, and with the
+ * same scan split into units on a fork-join pool.
+ * <p>
+ * Run with: mvn -P benchmark test-compile exec:exec -Djmh.include=FusedScanBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class FusedScanBenchmark {
+
+    @Param({"5000", "20000"})
+    public int lines;
+
+    private CompilationUnit cu;
+    private ForkJoinPool pool;
+
+    @Setup
+    public void setUp() {
+        cu = new JavaParserPool(new CodeEnhancerProperties.Parser(), null)
+                .parse(BenchmarkSources.generate(lines)).getResult().orElseThrow();
+        pool = new ForkJoinPool(Runtime.getRuntime().availableProcessors());
+    }
+
+    @TearDown
+    public void tearDown() {
+        pool.shutdownNow();
+    }
+
+    @Benchmark
+    public ScanResult fusedScan() {
+        return RuleSet.BUILT_IN.scan(cu);
+    }
+
+    @Benchmark
+    public ScanResult parallelScan() {
+        return RuleSet.BUILT_IN.scan(cu, AnalysisBudget.unlimited(), pool, new CodeEnhancerProperties.Scan().getUnitLines());
+    }
+
+    @Benchmark
+    public void multiScan(Blackhole bh) {
+        // Metrics, as in the former DashboardServiceImpl.analyzeCode
+        ComplexityVisitor complexity = new ComplexityVisitor();
+        complexity.visit(cu, null);
+        bh.consume(complexity.complexity);
+        bh.consume(cu.findAll(MethodCallExpr.class).stream()
+                .filter(m -> ModernizationPatterns.DEPRECATED_METHODS.contains(m.getNameAsString())).count());
+        bh.consume(cu.findAll(ObjectCreationExpr.class).stream()
+                .filter(e -> ModernizationPatterns.DEPRECATED_TYPES.contains(e.getTypeAsString())).count());
+        bh.consume(cu.findAll(ForStmt.class).stream().filter(ModernizationPatterns::isModernizableForLoop).count());
+        bh.consume(cu.findAll(WhileStmt.class).stream().filter(ModernizationPatterns::isInfiniteLoop).count());
+        bh.consume(cu.findAll(SwitchStmt.class).stream().filter(ModernizationPatterns::isModernizableSwitch).count());
+
+        // Warnings, as in the former detectWarnings
+        bh.consume(cu.findAll(MethodDeclaration.class).stream()
+                .filter(m -> m.getAnnotationByName("Deprecated").isPresent()).count());
+        bh.consume(cu.findAll(MethodCallExpr.class).stream()
+                .filter(m -> m.getNameAsString().equals("equals") || m.getNameAsString().equals("hashCode")).count());
+
+        // Rewrite discovery, as in the former transformation passes
+        bh.consume(cu.findAll(ForStmt.class).stream().filter(ModernizationPatterns::isArrayOrCollectionLoop).count());
+        bh.consume(cu.findAll(WhileStmt.class).stream().filter(ModernizationPatterns::isInfiniteLoop).count());
+        bh.consume(cu.findAll(ForStmt.class).stream().filter(ModernizationPatterns::isIndexBasedLoop).count());
+        bh.consume(cu.findAll(SwitchStmt.class).size());
+        bh.consume(cu.findAll(MethodCallExpr.class).size());
+        bh.consume(cu.findAll(ObjectCreationExpr.class).size());
+    }
+
+    private static class ComplexityVisitor extends VoidVisitorAdapter<Void> {
+        private int complexity = 1;
+
+        @Override
+        public void visit(SwitchStmt n, Void arg) {
+            super.visit(n, arg);
+            complexity += n.getEntries().size();
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package com.codeenhancer.java_code_enhancer.benchmark;
+
+import com.codeenhancer.java_code_enhancer.analysis.AnalysisContext;
+import com.codeenhancer.java_code_enhancer.analysis.IncrementalDocument;
+import com.codeenhancer.java_code_enhancer.analysis.JavaParserPool;
+import com.codeenhancer.java_code_enhancer.analysis.ScanResult;
+import com.codeenhancer.java_code_enhancer.config.CodeEnhancerProperties;
+import com.codeenhancer.java_code_enhancer.rules.RuleSet;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Server-side cost of one keystroke in a 10k-line file: an incremental edit
+ * of an open session compared to parsing and scanning the whole file again.
+ * <p>
+ * Run with: mvn -P benchmark test-compile exec:exec -Djmh.include=IncrementalSessionBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class IncrementalSessionBenchmark {
+
+    private JavaParserPool pool;
+    private IncrementalDocument document;
+    private int offset;
+    private boolean inserted;
+
+    @Setup
+    public void setUp() {
+        pool = new JavaParserPool(new CodeEnhancerProperties.Parser(), null);
+        String source = BenchmarkSources.generate(10_000);
+        document = new IncrementalDocument(source, pool, RuleSet.BUILT_IN);
+        offset = source.indexOf("int total = 0;", source.length() / 2) + "int total = ".length();
+    }
+
+    @Benchmark
+    public IncrementalDocument.Change incrementalEdit() {
+        // Type a digit, then delete it again, so the document stays the same size
+        inserted = !inserted;
+        return inserted
+                ? document.applyEdit(offset, 0, "1")
+                : document.applyEdit(offset, 1, "");
+    }
+
+    @Benchmark
+    public ScanResult fullReanalysis() {
+        return AnalysisContext.parse(document.getSource(), pool).getScan();
+    }
+}
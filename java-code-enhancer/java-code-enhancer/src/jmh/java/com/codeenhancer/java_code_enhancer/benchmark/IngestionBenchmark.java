@@ -0,0 +1,58 @@
+package com.codeenhancer.java_code_enhancer.benchmark;
+
+import com.codeenhancer.java_code_enhancer.config.CodeEnhancerProperties;
+import com.codeenhancer.java_code_enhancer.ingest.SourceReader;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Decoding an uploaded source: reading all of its bytes and building a
+ * String from them, as the file endpoints used to, compared to the source
+ * reader with its limit checks and charset detection. The heap allocated per MB of input is reported
+ * by the gc profiler as gc.alloc.rate.norm divided by the size.
+ * <p>
+ * Run with: mvn -P benchmark test-compile exec:exec -Djmh.include=IngestionBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class IngestionBenchmark {
+
+    @Param({"1", "8"})
+    public int megabytes;
+
+    private byte[] upload;
+    private SourceReader reader;
+
+    @Setup
+    public void setUp() {
+        String text = BenchmarkSources.generate(megabytes * 1024 * 1024 / 40);
+        upload = text.getBytes(StandardCharsets.UTF_8);
+        CodeEnhancerProperties properties = new CodeEnhancerProperties();
+        properties.getIngest().setMaxBytes(upload.length);
+        properties.getIngest().setMaxLines(Integer.MAX_VALUE);
+        reader = new SourceReader(properties);
+    }
+
+    @Benchmark
+    public String readAllBytes() throws IOException {
+        try (InputStream in = new ByteArrayInputStream(upload)) {
+            return new String(in.readAllBytes());
+        }
+    }
+
+    @Benchmark
+    public String sourceReader() throws IOException {
+        try (InputStream in = new ByteArrayInputStream(upload)) {
+            return reader.read(in, null, upload.length);
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package com.codeenhancer.java_code_enhancer.benchmark;
+
+import com.codeenhancer.java_code_enhancer.analysis.JavaParserPool;
+import com.codeenhancer.java_code_enhancer.analysis.ParseProfile;
+import com.codeenhancer.java_code_enhancer.config.CodeEnhancerProperties;
+import com.github.javaparser.ast.CompilationUnit;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Parse time of one megabyte of source with the full and the lean profile.
+ * The trial setup also prints the heap a parsed megabyte retains, measured
+ * after a collection with a few trees held.
+ * <p>
+ * Run with: mvn -P benchmark test-compile exec:exec -Djmh.include=ParseProfileBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ParseProfileBenchmark {
+    private static final int MEGABYTE = 1024 * 1024;
+    private static final int RETAINED_TREES = 4;
+
+    @Param({"FULL", "LEAN"})
+    public ParseProfile profile;
+
+    private JavaParserPool parsers;
+    private String source;
+
+    @Setup
+    public void setUp() {
+        parsers = new JavaParserPool(new CodeEnhancerProperties.Parser(), null);
+        String sample = BenchmarkSources.generate(1000);
+        source = BenchmarkSources.generate((int) (1000L * MEGABYTE / sample.length()));
+
+        long before = usedHeap();
+        CompilationUnit[] trees = new CompilationUnit[RETAINED_TREES];
+        for (int i = 0; i < trees.length; i++) {
+            trees[i] = parse();
+        }
+        long retained = usedHeap() - before;
+        double megabytes = (double) source.length() / MEGABYTE;
+        System.out.printf("%n%s: %.2f MB of source, %.1f MB retained per MB parsed%n",
+                profile, megabytes, retained / (double) MEGABYTE / trees.length / megabytes);
+    }
+
+    @Benchmark
+    public CompilationUnit parse() {
+        return parsers.parse(source, profile).getResult().orElseThrow();
+    }
+
+    private static long usedHeap() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
@@ -0,0 +1,70 @@
+package com.codeenhancer.java_code_enhancer.benchmark;
+
+import com.codeenhancer.java_code_enhancer.analysis.JavaParserPool;
+import com.codeenhancer.java_code_enhancer.config.CodeEnhancerProperties;
+import com.github.javaparser.ParseResult;
+import com.github.javaparser.StaticJavaParser;
+import com.github.javaparser.ast.CompilationUnit;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Parse throughput under 1, 8 and 32 concurrent callers, for the former
+ * StaticJavaParser calls and for the pooled, explicitly configured parsers.
+ * <p>
+ * Run with: mvn -P benchmark test-compile exec:exec -Djmh.include=ParserContentionBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ParserContentionBenchmark {
+
+    private String source;
+    private JavaParserPool pool;
+
+    @Setup
+    public void setUp() {
+        source = BenchmarkSources.generate(500);
+        pool = new JavaParserPool(new CodeEnhancerProperties.Parser(), null);
+    }
+
+    @Benchmark
+    @Threads(1)
+    public CompilationUnit staticParser_01() {
+        return StaticJavaParser.parse(source);
+    }
+
+    @Benchmark
+    @Threads(8)
+    public CompilationUnit staticParser_08() {
+        return StaticJavaParser.parse(source);
+    }
+
+    @Benchmark
+    @Threads(32)
+    public CompilationUnit staticParser_32() {
+        return StaticJavaParser.parse(source);
+    }
+
+    @Benchmark
+    @Threads(1)
+    public ParseResult<CompilationUnit> pooledParser_01() {
+        return pool.parse(source);
+    }
+
+    @Benchmark
+    @Threads(8)
+    public ParseResult<CompilationUnit> pooledParser_08() {
+        return pool.parse(source);
+    }
+
+    @Benchmark
+    @Threads(32)
+    public ParseResult<CompilationUnit> pooledParser_32() {
+        return pool.parse(source);
+    }
+}
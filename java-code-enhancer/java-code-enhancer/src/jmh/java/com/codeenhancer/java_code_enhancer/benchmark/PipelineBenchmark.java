@@ -0,0 +1,118 @@
+package com.codeenhancer.java_code_enhancer.benchmark;
+
+import com.codeenhancer.java_code_enhancer.JavaCodeEnhancerApplication;
+import com.codeenhancer.java_code_enhancer.analysis.AnalysisContext;
+import com.codeenhancer.java_code_enhancer.analysis.JavaParserPool;
+import com.codeenhancer.java_code_enhancer.dto.EnhancementResponse;
+import com.codeenhancer.java_code_enhancer.dto.OutputMode;
+import com.codeenhancer.java_code_enhancer.rules.RuleRegistry;
+import com.codeenhancer.java_code_enhancer.rules.RuleSet;
+import com.codeenhancer.java_code_enhancer.service.CodeEnhancementService;
+import com.codeenhancer.java_code_enhancer.service.impl.DashboardServiceImpl;
+import com.codeenhancer.java_code_enhancer.util.CodeMetrics;
+import com.codeenhancer.java_code_enhancer.util.CodeTransformationUtils;
+import com.github.javaparser.ParseResult;
+import com.github.javaparser.StaticJavaParser;
+import com.github.javaparser.ast.CompilationUnit;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Every stage of the enhancement pipeline on the corpus files: parsing,
+ * metrics, warnings and the end-to-end enhancement of the service.
+ * <p>
+ * Run with: mvn -P benchmark test-compile exec:exec -Djmh.include=PipelineBenchmark
+ * (allocation rates come from the GC profiler, results go to target/jmh-result.json)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PipelineBenchmark {
+
+    @Param({"Small", "Medium", "Large"})
+    public String file;
+
+    private String source;
+    private JavaParserPool pool;
+    private DashboardServiceImpl dashboardService;
+
+    @Setup
+    public void setUp() {
+        source = BenchmarkCorpus.load(file);
+        pool = BenchmarkCorpus.parsers();
+        dashboardService = new DashboardServiceImpl();
+    }
+
+    /**
+     * A freshly parsed source for every call, for stages that read the scan
+     * the context computes once
+     */
+    @State(Scope.Thread)
+    public static class Parsed {
+        AnalysisContext context;
+
+        @Setup(Level.Invocation)
+        public void parse(PipelineBenchmark benchmark) {
+            context = AnalysisContext.parse(benchmark.source, benchmark.pool);
+        }
+    }
+
+    /**
+     * The application with the result cache off, so every call does the work
+     */
+    @State(Scope.Benchmark)
+    public static class Application {
+        ConfigurableApplicationContext context;
+        CodeEnhancementService service;
+        RuleSet rules;
+
+        @Setup
+        public void start() {
+            context = new SpringApplicationBuilder(JavaCodeEnhancerApplication.class)
+                    .web(WebApplicationType.NONE)
+                    // Arguments, because application.properties overrides default properties
+                    .run("--code-enhancer.cache.enabled=false",
+                            "--spring.main.banner-mode=off",
+                            "--logging.level.root=WARN");
+            service = context.getBean(CodeEnhancementService.class);
+            rules = context.getBean(RuleRegistry.class).getDefaults();
+        }
+
+        @TearDown
+        public void stop() {
+            context.close();
+        }
+    }
+
+    @Benchmark
+    public CompilationUnit parseStatic() {
+        return StaticJavaParser.parse(source);
+    }
+
+    @Benchmark
+    public ParseResult<CompilationUnit> parsePooled() {
+        return pool.parse(source);
+    }
+
+    @Benchmark
+    public CodeMetrics analyzeCode(Parsed parsed) {
+        return dashboardService.analyzeCode(parsed.context);
+    }
+
+    @Benchmark
+    public String[] detectWarnings(Parsed parsed) {
+        return CodeTransformationUtils.detectWarnings(parsed.context);
+    }
+
+    @Benchmark
+    public EnhancementResponse enhanceTextCode(Application application) {
+        return application.service.enhanceTextCode(source, OutputMode.FULL, false, application.rules);
+    }
+}
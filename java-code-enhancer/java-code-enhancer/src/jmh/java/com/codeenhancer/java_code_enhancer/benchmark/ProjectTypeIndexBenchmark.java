@@ -0,0 +1,174 @@
+package com.codeenhancer.java_code_enhancer.benchmark;
+
+import com.codeenhancer.java_code_enhancer.analysis.JavaParserPool;
+import com.codeenhancer.java_code_enhancer.config.CodeEnhancerProperties;
+import com.codeenhancer.java_code_enhancer.config.SymbolSolverConfig;
+import com.codeenhancer.java_code_enhancer.symbols.ProjectTypeIndex;
+import com.github.javaparser.resolution.TypeSolver;
+import com.github.javaparser.resolution.declarations.ResolvedReferenceTypeDeclaration;
+import com.github.javaparser.resolution.model.SymbolReference;
+import com.github.javaparser.symbolsolver.JavaSymbolSolver;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The type index of a generated project of 5,000 files in 50 packages, each
+ * class extending another of its package or java.io.File, with a nested
+ * type, fields and methods: the time to build the index, and lookups of
+ * project and library names. The trial setup also prints the heap the index
+ * retains, before and after every project type has been resolved once.
+ * <p>
+ * Run with: mvn -P benchmark test-compile exec:exec -Djmh.include=ProjectTypeIndexBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ProjectTypeIndexBenchmark {
+    private static final int FILES = 5_000;
+    private static final int PACKAGES = 50;
+    private static final int MEGABYTE = 1024 * 1024;
+
+    private final CodeEnhancerProperties properties = new CodeEnhancerProperties();
+    private JavaParserPool parsers;
+    private TypeSolver libraries;
+    private final List<String> sources = new ArrayList<>();
+    private final String[] names = new String[FILES];
+    private ProjectTypeIndex index;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        libraries = new SymbolSolverConfig().typeSolver(properties);
+        parsers = new JavaParserPool(properties.getParser(), new JavaSymbolSolver(libraries));
+        long characters = 0;
+        for (int i = 0; i < FILES; i++) {
+            sources.add(source(i));
+            names[i] = "proj.m" + i % PACKAGES + ".C" + i;
+            characters += sources.get(i).length();
+        }
+
+        // The first build loads the parser, which is not part of the index
+        build();
+        long before = usedHeap();
+        index = build();
+        long built = usedHeap();
+        for (int i = 0; i < FILES; i++) {
+            index.getTypeSolver().tryToSolveType(names[i]);
+        }
+        long resolved = usedHeap();
+        System.out.printf("%n%d files, %.1f MB of source: %d types, %d names; index %.1f MB, "
+                        + "%.1f MB after resolving every type%n",
+                FILES, (double) characters / MEGABYTE, index.getTypeCount(), index.getNameCount(),
+                (double) (built - before) / MEGABYTE, (double) (resolved - before) / MEGABYTE);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public ProjectTypeIndex build() {
+        ProjectTypeIndex.Builder builder = ProjectTypeIndex.builder(parsers, libraries, 1_000,
+                properties.getParser().getLanguageLevel());
+        for (String source : sources) {
+            builder.add(source);
+        }
+        return builder.build();
+    }
+
+    @Benchmark
+    public boolean projectType() {
+        return index.hasType(names[next++ % FILES]);
+    }
+
+    @Benchmark
+    public boolean missingType() {
+        return index.hasType("java.util.List");
+    }
+
+    @Benchmark
+    public boolean inherits() {
+        return index.inherits(names[next++ % FILES], "java.io.File", "list");
+    }
+
+    @Benchmark
+    public SymbolReference<ResolvedReferenceTypeDeclaration> solveProjectType() {
+        // The types of the last files stay in the cache of parsed stubs
+        return index.getTypeSolver().tryToSolveType(names[FILES - 1 - next++ % 500]);
+    }
+
+    @Benchmark
+    public SymbolReference<ResolvedReferenceTypeDeclaration> solveLibraryType() {
+        return index.getTypeSolver().tryToSolveType("java.util.List");
+    }
+
+    /**
+     * A class of about 60 lines extending the previous class of its package,
+     * or File for every tenth one, so no chain is longer than ten classes
+     */
+    private static String source(int i) {
+        String superclass = i / PACKAGES % 10 == 0 ? "File" : "C" + (i - PACKAGES);
+        return "package proj.m" + i % PACKAGES + ";\n\n"
+                + "import java.io.File;\n"
+                + "import java.util.ArrayList;\n"
+                + "import java.util.List;\n"
+                + "import proj.m" + (i + 1) % PACKAGES + ".*;\n\n"
+                + "public class C" + i + " extends " + superclass + " implements Runnable {\n"
+                + "    private final List<String> names = new ArrayList<>();\n"
+                + "    private int count;\n\n"
+                + "    public C" + i + "(String path) {\n"
+                + "        super(path);\n"
+                + "    }\n\n"
+                + "    public File directory" + i + "() {\n"
+                + "        return new File(getPath(), \"c" + i + "\");\n"
+                + "    }\n\n"
+                + "    @Override\n"
+                + "    public void run() {\n"
+                + "        for (int k = 0; k < names.size(); k++) {\n"
+                + "            if (names.get(k).isEmpty()) {\n"
+                + "                count++;\n"
+                + "            } else {\n"
+                + "                count += names.get(k).length();\n"
+                + "            }\n"
+                + "        }\n"
+                + "    }\n\n"
+                + "    public String describe(int depth, List<String> values) {\n"
+                + "        StringBuilder text = new StringBuilder();\n"
+                + "        for (String value : values) {\n"
+                + "            text.append(value).append(':').append(depth);\n"
+                + "        }\n"
+                + "        return text.toString();\n"
+                + "    }\n\n"
+                + "    public List<Entry> entries() {\n"
+                + "        List<Entry> entries = new ArrayList<>();\n"
+                + "        for (String name : names) {\n"
+                + "            entries.add(new Entry(name, count));\n"
+                + "        }\n"
+                + "        return entries;\n"
+                + "    }\n\n"
+                + "    public static class Entry {\n"
+                + "        private final String name;\n"
+                + "        private final int value;\n\n"
+                + "        public Entry(String name, int value) {\n"
+                + "            this.name = name;\n"
+                + "            this.value = value;\n"
+                + "        }\n\n"
+                + "        public int value() {\n"
+                + "            return value;\n"
+                + "        }\n"
+                + "    }\n"
+                + "}\n";
+    }
+
+    private static long usedHeap() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
@@ -0,0 +1,64 @@
+package com.codeenhancer.java_code_enhancer.benchmark;
+
+import com.codeenhancer.java_code_enhancer.analysis.AnalysisContext;
+import com.codeenhancer.java_code_enhancer.analysis.JavaParserPool;
+import com.codeenhancer.java_code_enhancer.analysis.RewriteCandidate;
+import com.codeenhancer.java_code_enhancer.rules.RuleSet;
+import com.codeenhancer.java_code_enhancer.util.CodeTransformationUtils;
+import com.github.javaparser.ast.CompilationUnit;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Each built-in rewrite rule on its own: the rewrites of one rule applied to
+ * a freshly parsed and scanned corpus file.
+ * <p>
+ * Run with: mvn -P benchmark test-compile exec:exec -Djmh.include=RewriteBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RewriteBenchmark {
+
+    @Param({"Small", "Medium", "Large"})
+    public String file;
+
+    @Param({"collection_loop", "infinite_while", "indexed_loop", "switch", "deprecated_call", "legacy_type"})
+    public String rule;
+
+    private String source;
+    private JavaParserPool pool;
+    private RuleSet only;
+
+    private CompilationUnit cu;
+    private List<RewriteCandidate> candidates;
+
+    @Setup
+    public void setUp() {
+        source = BenchmarkCorpus.load(file);
+        pool = BenchmarkCorpus.parsers();
+        // Same rule instances as the built-in set, so its candidates are recognized
+        only = RuleSet.of(RuleSet.BUILT_IN.getRules().stream()
+                .filter(candidate -> candidate.id().equals(rule))
+                .collect(Collectors.toList()));
+    }
+
+    @Setup(Level.Invocation)
+    public void parse() {
+        AnalysisContext context = AnalysisContext.parse(source, pool);
+        cu = context.getCompilationUnit();
+        candidates = context.getScan().getRewriteCandidates();
+    }
+
+    @Benchmark
+    public CompilationUnit applyRewrites() {
+        CodeTransformationUtils.applyRewrites(cu, candidates, only, pool);
+        return cu;
+    }
+}
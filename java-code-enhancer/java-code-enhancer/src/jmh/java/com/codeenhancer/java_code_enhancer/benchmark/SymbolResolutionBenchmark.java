@@ -0,0 +1,43 @@
+package com.codeenhancer.java_code_enhancer.benchmark;
+
+import com.codeenhancer.java_code_enhancer.config.CodeEnhancerProperties;
+import com.codeenhancer.java_code_enhancer.config.SymbolSolverConfig;
+import com.github.javaparser.resolution.TypeSolver;
+import com.github.javaparser.resolution.declarations.ResolvedReferenceTypeDeclaration;
+import com.github.javaparser.symbolsolver.resolution.typesolvers.CombinedTypeSolver;
+import com.github.javaparser.symbolsolver.resolution.typesolvers.ReflectionTypeSolver;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of resolving a JDK type with the shared, memoized solver compared to
+ * a solver built for each request.
+ * <p>
+ * Run with: mvn -P benchmark test-compile exec:exec -Djmh.include=SymbolResolutionBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SymbolResolutionBenchmark {
+
+    private TypeSolver shared;
+
+    @Setup
+    public void setUp() {
+        shared = new SymbolSolverConfig().typeSolver(new CodeEnhancerProperties());
+    }
+
+    @Benchmark
+    public ResolvedReferenceTypeDeclaration sharedSolver() {
+        return shared.solveType("java.io.File");
+    }
+
+    @Benchmark
+    public ResolvedReferenceTypeDeclaration solverPerRequest() {
+        return new CombinedTypeSolver(new ReflectionTypeSolver(false)).solveType("java.io.File");
+    }
+}
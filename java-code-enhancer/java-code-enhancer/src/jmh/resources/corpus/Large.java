@@ -0,0 +1,11182 @@
+package corpus;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URL;
+import java.security.SecureRandom;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * Generated benchmark corpus file.
+ */
+public class Large {
+
+    private final Map<String, String> cache = new HashMap<>();
+    private int counter;
+
+    /**
+     * Sum the positive entries of a report row.
+     */
+    public int total0(int[] values) {
+        int total = 0;
+        for (int i = 0; i < values.length; i++) {
+            if (values[i] > 0) {
+                total += values[i];
+            }
+        }
+        return total;
+    }
+
+    public List<String> names1(List<String> input) {
+        List<String> result = new ArrayList<>();
+        for (int i = 0; i < input.size(); i++) {
+            String name = input.get(i);
+            if (name != null && !name.isEmpty()) {
+                result.add(name.trim());
+            }
+        }
+        return result;
+    }
+
+    public String label2(String code) {
+        switch (code) {
+            case "A":
+                return "alpha";
+            case "B":
+                return "beta";
+            case "C":
+                counter++;
+                break;
+            default:
+                return "unknown";
+        }
+        return code;
+    }
+
+    public URL location3(File file) throws IOException {
+        String[] children = file.list();
+        if (children != null && children.length > 3) {
+            return file.toURL();
+        }
+        return null;
+    }
+
+    public Object create4(Class<?> type) throws Exception {
+        Date created = new Date();
+        Random random = new SecureRandom();
+        cache.put("created" + 4, created.toString() + random.nextInt());
+        return type.newInstance();
+    }
+
+    public int drain5(List<Integer> queue) {
+        int drained = 0;
+        while (true) {
+            if (queue.isEmpty()) {
+                break;
+            }
+            drained += queue.remove(0);
+        }
+        return drained;
+    }
+
+    @Deprecated
+    public byte[] encode6(String text) throws IOException {
+        byte[] bytes = text.getBytes("UTF-8");
+        if (text.equals(cache.get("last"))) {
+            return new byte[0];
+        }
+        cache.put("last", text);
+        return bytes;
+    }
+
+    public Map<String, Integer> histogram7(String[] words) {
+        Map<String, Integer> counts = new HashMap<>();
+        for (String word : words) {
+            counts.merge(word, 1, Integer::sum);
+        }
+        counts.forEach((key, value) -> {
+            if (value > 0) {
+                counter += key.hashCode();
+            }
+        });
+        return counts;
+    }
+
+    /**
+     * Sum the positive entries of a report row.
+     */
+    public int total8(int[] values) {
+        int total = 0;
+        for (int i = 0; i < values.length; i++) {
+            if (values[i] > 0) {
+                total += values[i];
+            }
+        }
+        return total;
+    }
+
+    public List<String> names9(List<String> input) {
+        List<String> result = new ArrayList<>();
+        for (int i = 0; i < input.size(); i++) {
+            String name = input.get(i);
+            if (name != null && !name.isEmpty()) {
+                result.add(name.trim());
+            }
+        }
+        return result;
+    }
+
+    public String label10(String code) {
+        switch (code) {
+            case "A":
+                return "alpha";
+            case "B":
+                return "beta";
+            case "C":
+                counter++;
+                break;
+            default:
+                return "unknown";
+        }
+        return code;
+    }
+
+    public URL location11(File file) throws IOException {
+        String[] children = file.list();
+        if (children != null && children.length > 4) {
+            return file.toURL();
+        }
+        return null;
+    }
+
+    public Object create12(Class<?> type) throws Exception {
+        Date created = new Date();
+        Random random = new SecureRandom();
+        cache.put("created" + 12, created.toString() + random.nextInt());
+        return type.newInstance();
+    }
+
+    public int drain13(List<Integer> queue) {
+        int drained = 0;
+        while (true) {
+            if (queue.isEmpty()) {
+                break;
+            }
+            drained += queue.remove(0);
+        }
+        return drained;
+    }
+
+    @Deprecated
+    public byte[] encode14(String text) throws IOException {
+        byte[] bytes = text.getBytes("UTF-8");
+        if (text.equals(cache.get("last"))) {
+            return new byte[0];
+        }
+        cache.put("last", text);
+        return bytes;
+    }
+
+    public Map<String, Integer> histogram15(String[] words) {
+        Map<String, Integer> counts = new HashMap<>();
+        for (String word : words) {
+            counts.merge(word, 1, Integer::sum);
+        }
+        counts.forEach((key, value) -> {
+            if (value > 1) {
+                counter += key.hashCode();
+            }
+        });
+        return counts;
+    }
+
+    /**
+     * Sum the positive entries of a report row.
+     */
+    public int total16(int[] values) {
+        int total = 0;
+        for (int i = 0; i < values.length; i++) {
+            if (values[i] > 0) {
+                total += values[i];
+            }
+        }
+        return total;
+    }
+
+    public List<String> names17(List<String> input) {
+        List<String> result = new ArrayList<>();
+        for (int i = 0; i < input.size(); i++) {
+            String name = input.get(i);
+            if (name != null && !name.isEmpty()) {
+                result.add(name.trim());
+            }
+        }
+        return result;
+    }
+
+    public String label18(String code) {
+        switch (code) {
+            case "A":
+                return "alpha";
+            case "B":
+                return "beta";
+            case "C":
+                counter++;
+                break;
+            default:
+                return "unknown";
+        }
+        return code;
+    }
+
+    public URL location19(File file) throws IOException {
+        String[] children = file.list();
+        if (children != null && children.length > 5) {
+            return file.toURL();
+        }
+        return null;
+    }
+
+    public Object create20(Class<?> type) throws Exception {
+        Date created = new Date();
+        Random random = new SecureRandom();
+        cache.put("created" + 20, created.toString() + random.nextInt());
+        return type.newInstance();
+    }
+
+    public int drain21(List<Integer> queue) {
+        int drained = 0;
+        while (true) {
+            if (queue.isEmpty()) {
+                break;
+            }
+            drained += queue.remove(0);
+        }
+        return drained;
+    }
+
+    @Deprecated
+    public byte[] encode22(String text) throws IOException {
+        byte[] bytes = text.getBytes("UTF-8");
+        if (text.equals(cache.get("last"))) {
+            return new byte[0];
+        }
+        cache.put("last", text);
+        return bytes;
+    }
+
+    public Map<String, Integer> histogram23(String[] words) {
+        Map<String, Integer> counts = new HashMap<>();
+        for (String word : words) {
+            counts.merge(word, 1, Integer::sum);
+        }
+        counts.forEach((key, value) -> {
+            if (value > 2) {
+                counter += key.hashCode();
+            }
+        });
+        return counts;
+    }
+
+    /**
+     * Sum the positive entries of a report row.
+     */
+    public int total24(int[] values) {
+        int total = 0;
+        for (int i = 0; i < values.length; i++) {
+            if (values[i] > 0) {
+                total += values[i];
+            }
+        }
+        return total;
+    }
+
+    public List<String> names25(List<String> input) {
+        List<String> result = new ArrayList<>();
+        for (int i = 0; i < input.size(); i++) {
+            String name = input.get(i);
+            if (name != null && !name.isEmpty()) {
+                result.add(name.trim());
+            }
+        }
+        return result;
+    }
+
+    public String label26(String code) {
+        switch (code) {
+            case "A":
+                return "alpha";
+            case "B":
+                return "beta";
+            case "C":
+                counter++;
+                break;
+            default:
+                return "unknown";
+        }
+        return code;
+    }
+
+    public URL location27(File file) throws IOException {
+        String[] children = file.list();
+        if (children != null && children.length > 6) {
+            return file.toURL();
+        }
+        return null;
+    }
+
+    public Object create28(Class<?> type) throws Exception {
+        Date created = new Date();
+        Random random = new SecureRandom();
+        cache.put("created" + 28, created.toString() + random.nextInt());
+        return type.newInstance();
+    }
+
+    public int drain29(List<Integer> queue) {
+        int drained = 0;
+        while (true) {
+            if (queue.isEmpty()) {
+                break;
+            }
+            drained += queue.remove(0);
+        }
+        return drained;
+    }
+
+    @Deprecated
+    public byte[] encode30(String text) throws IOException {
+        byte[] bytes = text.getBytes("UTF-8");
+        if (text.equals(cache.get("last"))) {
+            return new byte[0];
+        }
+        cache.put("last", text);
+        return bytes;
+    }
+
+    public Map<String, Integer> histogram31(String[] words) {
+        Map<String, Integer> counts = new HashMap<>();
+        for (String word : words) {
+            counts.merge(word, 1, Integer::sum);
+        }
+        counts.forEach((key, value) -> {
+            if (value > 3) {
+                counter += key.hashCode();
+            }
+        });
+        return counts;
+    }
+
+    /**
+     * Sum the positive entries of a report row.
+     */
+    public int total32(int[] values) {
+        int total = 0;
+        for (int i = 0; i < values.length; i++) {
+            if (values[i] > 0) {
+                total += values[i];
+            }
+        }
+        return total;
+    }
+
+    public List<String> names33(List<String> input) {
+        List<String> result = new ArrayList<>();
+        for (int i = 0; i < input.size(); i++) {
+            String name = input.get(i);
+            if (name != null && !name.isEmpty()) {
+                result.add(name.trim());
+            }
+        }
+        return result;
+    }
+
+    public String label34(String code) {
+        switch (code) {
+            case "A":
+                return "alpha";
+            case "B":
+                return "beta";
+            case "C":
+                counter++;
+                break;
+            default:
+                return "unknown";
+        }
+        return code;
+    }
+
+    public URL location35(File file) throws IOException {
+        String[] children = file.list();
+        if (children != null && children.length > 0) {
+            return file.toURL();
+        }
+        return null;
+    }
+
+    public Object create36(Class<?> type) throws Exception {
+        Date created = new Date();
+        Random random = new SecureRandom();
+        cache.put("created" + 36, created.toString() + random.nextInt());
+        return type.newInstance();
+    }
+
+    public int drain37(List<Integer> queue) {
+        int drained = 0;
+        while (true) {
+            if (queue.isEmpty()) {
+                break;
+            }
+            drained += queue.remove(0);
+        }
+        return drained;
+    }
+
+    @Deprecated
+    public byte[] encode38(String text) throws IOException {
+        byte[] bytes = text.getBytes("UTF-8");
+        if (text.equals(cache.get("last"))) {
+            return new byte[0];
+        }
+        cache.put("last", text);
+        return bytes;
+    }
+
+    public Map<String, Integer> histogram39(String[] words) {
+        Map<String, Integer> counts = new HashMap<>();
+        for (String word : words) {
+            counts.merge(word, 1, Integer::sum);
+        }
+        counts.forEach((key, value) -> {
+            if (value > 4) {
+                counter += key.hashCode();
+            }
+        });
+        return counts;
+    }
+
+    /**
+     * Sum the positive entries of a report row.
+     */
+    public int total40(int[] values) {
+        int total = 0;
+        for (int i = 0; i < values.length; i++) {
+            if (values[i] > 0) {
+                total += values[i];
+            }
+        }
+        return total;
+    }
+
+    public List<String> names41(List<String> input) {
+        List<String> result = new ArrayList<>();
+        for (int i = 0; i < input.size(); i++) {
+            String name = input.get(i);
+            if (name != null && !name.isEmpty()) {
+                result.add(name.trim());
+            }
+        }
+        return result;
+    }
+
+    public String label42(String code) {
+        switch (code) {
+            case "A":
+                return "alpha";
+            case "B":
+                return "beta";
+            case "C":
+                counter++;
+                break;
+            default:
+                return "unknown";
+        }
+        return code;
+    }
+
+    public URL location43(File file) throws IOException {
+        String[] children = file.list();
+        if (children != null && children.length > 1) {
+            return file.toURL();
+        }
+        return null;
+    }
+
+    public Object create44(Class<?> type) throws Exception {
+        Date created = new Date();
+        Random random = new SecureRandom();
+        cache.put("created" + 44, created.toString() + random.nextInt());
+        return type.newInstance();
+    }
+
+    public int drain45(List<Integer> queue) {
+        int drained = 0;
+        while (true) {
+            if (queue.isEmpty()) {
+                break;
+            }
+            drained += queue.remove(0);
+        }
+        return drained;
+    }
+
+    @Deprecated
+    public byte[] encode46(String text) throws IOException {
+        byte[] bytes = text.getBytes("UTF-8");
+        if (text.equals(cache.get("last"))) {
+            return new byte[0];
+        }
+        cache.put("last", text);
+        return bytes;
+    }
+
+    public Map<String, Integer> histogram47(String[] words) {
+        Map<String, Integer> counts = new HashMap<>();
+        for (String word : words) {
+            counts.merge(word, 1, Integer::sum);
+        }
+        counts.forEach((key, value) -> {
+            if (value > 5) {
+                counter += key.hashCode();
+            }
+        });
+        return counts;
+    }
+
+    /**
+     * Sum the positive entries of a report row.
+     */
+    public int total48(int[] values) {
+        int total = 0;
+        for (int i = 0; i < values.length; i++) {
+            if (values[i] > 0) {
+                total += values[i];
+            }
+        }
+        return total;
+    }
+
+    public List<String> names49(List<String> input) {
+        List<String> result = new ArrayList<>();
+        for (int i = 0; i < input.size(); i++) {
+            String name = input.get(i);
+            if (name != null && !name.isEmpty()) {
+                result.add(name.trim());
+            }
+        }
+        return result;
+    }
+
+    static class Nested49 {
+        private final int id = 49;
+
+        int id() {
+            return id;
+        }
+    }
+
+    public String label50(String code) {
+        switch (code) {
+            case "A":
+                return "alpha";
+            case "B":
+                return "beta";
+            case "C":
+                counter++;
+                break;
+            default:
+                return "unknown";
+        }
+        return code;
+    }
+
+    public URL location51(File file) throws IOException {
+        String[] children = file.list();
+        if (children != null && children.length > 2) {
+            return file.toURL();
+        }
+        return null;
+    }
+
+    public Object create52(Class<?> type) throws Exception {
+        Date created = new Date();
+        Random random = new SecureRandom();
+        cache.put("created" + 52, created.toString() + random.nextInt());
+        return type.newInstance();
+    }
+
+    public int drain53(List<Integer> queue) {
+        int drained = 0;
+        while (true) {
+            if (queue.isEmpty()) {
+                break;
+            }
+            drained += queue.remove(0);
+        }
+        return drained;
+    }
+
+    @Deprecated
+    public byte[] encode54(String text) throws IOException {
+        byte[] bytes = text.getBytes("UTF-8");
+        if (text.equals(cache.get("last"))) {
+            return new byte[0];
+        }
+        cache.put("last", text);
+        return bytes;
+    }
+
+    public Map<String, Integer> histogram55(String[] words) {
+        Map<String, Integer> counts = new HashMap<>();
+        for (String word : words) {
+            counts.merge(word, 1, Integer::sum);
+        }
+        counts.forEach((key, value) -> {
+            if (value > 6) {
+                counter += key.hashCode();
+            }
+        });
+        return counts;
+    }
+
+    /**
+     * Sum the positive entries of a report row.
+     */
+    public int total56(int[] values) {
+        int total = 0;
+        for (int i = 0; i < values.length; i++) {
+            if (values[i] > 0) {
+                total += values[i];
+            }
+        }
+        return total;
+    }
+
+    public List<String> names57(List<String> input) {
+        List<String> result = new ArrayList<>();
+        for (int i = 0; i < input.size(); i++) {
+            String name = input.get(i);
+            if (name != null && !name.isEmpty()) {
+                result.add(name.trim());
+            }
+        }
+        return result;
+    }
+
+    public String label58(String code) {
+        switch (code) {
+            case "A":
+                return "alpha";
+            case "B":
+                return "beta";
+            case "C":
+                counter++;
+                break;
+            default:
+                return "unknown";
+        }
+        return code;
+    }
+
+    public URL location59(File file) throws IOException {
+        String[] children = file.list();
+        if (children != null && children.length > 3) {
+            return file.toURL();
+        }
+        return null;
+    }
+
+    public Object create60(Class<?> type) throws Exception {
+        Date created = new Date();
+        Random random = new SecureRandom();
+        cache.put("created" + 60, created.toString() + random.nextInt());
+        return type.newInstance();
+    }
+
+    public int drain61(List<Integer> queue) {
+        int drained = 0;
+        while (true) {
+            if (queue.isEmpty()) {
+                break;
+            }
+            drained += queue.remove(0);
+        }
+        return drained;
+    }
+
+    @Deprecated
+    public byte[] encode62(String text) throws IOException {
+        byte[] bytes = text.getBytes("UTF-8");
+        if (text.equals(cache.get("last"))) {
+            return new byte[0];
+        }
+        cache.put("last", text);
+        return bytes;
+    }
+
+    public Map<String, Integer> histogram63(String[] words) {
+        Map<String, Integer> counts = new HashMap<>();
+        for (String word : words) {
+            counts.merge(word, 1, Integer::sum);
+        }
+        counts.forEach((key, value) -> {
+            if (value > 0) {
+                counter += key.hashCode();
+            }
+        });
+        return counts;
+    }
+
+    /**
+     * Sum the positive entries of a report row.
+     */
+    public int total64(int[] values) {
+        int total = 0;
+        for (int i = 0; i < values.length; i++) {
+            if (values[i] > 0) {
+                total += values[i];
+            }
+        }
+        return total;
+    }
+
+    public List<String> names65(List<String> input) {
+        List<String> result = new ArrayList<>();
+        for (int i = 0; i < input.size(); i++) {
+            String name = input.get(i);
+            if (name != null && !name.isEmpty()) {
+                result.add(name.trim());
+            }
+        }
+        return result;
+    }
+
+    public String label66(String code) {
+        switch (code) {
+            case "A":
+                return "alpha";
+            case "B":
+                return "beta";
+            case "C":
+                counter++;
+                break;
+            default:
+                return "unknown";
+        }
+        return code;
+    }
+
+    public URL location67(File file) throws IOException {
+        String[] children = file.list();
+        if (children != null && children.length > 4) {
+            return file.toURL();
+        }
+        return null;
+    }
+
+    public Object create68(Class<?> type) throws Exception {
+        Date created = new Date();
+        Random random = new SecureRandom();
+        cache.put("created" + 68, created.toString() + random.nextInt());
+        return type.newInstance();
+    }
+
+    public int drain69(List<Integer> queue) {
+        int drained = 0;
+        while (true) {
+            if (queue.isEmpty()) {
+                break;
+            }
+            drained += queue.remove(0);
+        }
+        return drained;
+    }
+
+    @Deprecated
+    public byte[] encode70(String text) throws IOException {
+        byte[] bytes = text.getBytes("UTF-8");
+        if (text.equals(cache.get("last"))) {
+            return new byte[0];
+        }
+        cache.put("last", text);
+        return bytes;
+    }
+
+    public Map<String, Integer> histogram71(String[] words) {
+        Map<String, Integer> counts = new HashMap<>();
+        for (String word : words) {
+            counts.merge(word, 1, Integer::sum);
+        }
+        counts.forEach((key, value) -> {
+            if (value > 1) {
+                counter += key.hashCode();
+            }
+        });
+        return counts;
+    }
+
+    /**
+     * Sum the positive entries of a report row.
+     */
+    public int total72(int[] values) {
+        int total = 0;
+        for (int i = 0; i < values.length; i++) {
+            if (values[i] > 0) {
+                total += values[i];
+            }
+        }
+        return total;
+    }
+
+    public List<String> names73(List<String> input) {
+        List<String> result = new ArrayList<>();
+        for (int i = 0; i < input.size(); i++) {
+            String name = input.get(i);
+            if (name != null && !name.isEmpty()) {
+                result.add(name.trim());
+            }
+        }
+        return result;
+    }
+
+    public String label74(String code) {
+        switch (code) {
+            case "A":
+                return "alpha";
+            case "B":
+                return "beta";
+            case "C":
+                counter++;
+                break;
+            default:
+                return "unknown";
+        }
+        return code;
+    }
+
+    public URL location75(File file) throws IOException {
+        String[] children = file.list();
+        if (children != null && children.length > 5) {
+            return file.toURL();
+        }
+        return null;
+    }
+
+    public Object create76(Class<?> type) throws Exception {
+        Date created = new Date();
+        Random random = new SecureRandom();
+        cache.put("created" + 76, created.toString() + random.nextInt());
+        return type.newInstance();
+    }
+
+    public int drain77(List<Integer> queue) {
+        int drained = 0;
+        while (true) {
+            if (queue.isEmpty()) {
+                break;
+            }
+            drained += queue.remove(0);
+        }
+        return drained;
+    }
+
+    @Deprecated
+    public byte[] encode78(String text) throws IOException {
+        byte[] bytes = text.getBytes("UTF-8");
+        if (text.equals(cache.get("last"))) {
+            return new byte[0];
+        }
+        cache.put("last", text);
+        return bytes;
+    }
+
+    public Map<String, Integer> histogram79(String[] words) {
+        Map<String, Integer> counts = new HashMap<>();
+        for (String word : words) {
+            counts.merge(word, 1, Integer::sum);
+        }
+        counts.forEach((key, value) -> {
+            if (value > 2) {
+                counter += key.hashCode();
+            }
+        });
+        return counts;
+    }
+
+    /**
+     * Sum the positive entries of a report row.
+     */
+    public int total80(int[] values) {
+        int total = 0;
+        for (int i = 0; i < values.length; i++) {
+            if (values[i] > 0) {
+                total += values[i];
+            }
+        }
+        return total;
+    }
+
+    public List<String> names81(List<String> input) {
+        List<String> result = new ArrayList<>();
+        for (int i = 0; i < input.size(); i++) {
+            String name = input.get(i);
+            if (name != null && !name.isEmpty()) {
+                result.add(name.trim());
+            }
+        }
+        return result;
+    }
+
+    public String label82(String code) {
+        switch (code) {
+            case "A":
+                return "alpha";
+            case "B":
+                return "beta";
+            case "C":
+                counter++;
+                break;
+            default:
+                return "unknown";
+        }
+        return code;
+    }
+
+    public URL location83(File file) throws IOException {
+        String[] children = file.list();
+        if (children != null && children.length > 6) {
+            return file.toURL();
+        }
+        return null;
+    }
+
+    public Object create84(Class<?> type) throws Exception {
+        Date created = new Date();
+        Random random = new SecureRandom();
+        cache.put("created" + 84, created.toString() + random.nextInt());
+        return type.newInstance();
+    }
+
+    public int drain85(List<Integer> queue) {
+        int drained = 0;
+        while (true) {
+            if (queue.isEmpty()) {
+                break;
+            }
+            drained += queue.remove(0);
+        }
+        return drained;
+    }
+
+    @Deprecated
+    public byte[] encode86(String text) throws IOException {
+        byte[] bytes = text.getBytes("UTF-8");
+        if (text.equals(cache.get("last"))) {
+            return new byte[0];
+        }
+        cache.put("last", text);
+        return bytes;
+    }
+
+    public Map<String, Integer> histogram87(String[] words) {
+        Map<String, Integer> counts = new HashMap<>();
+        for (String word : words) {
+            counts.merge(word, 1, Integer::sum);
+        }
+        counts.forEach((key, value) -> {
+            if (value > 3) {
+                counter += key.hashCode();
+            }
+        });
+        return counts;
+    }
+
+    /**
+     * Sum the positive entries of a report row.
+     */
+    public int total88(int[] values) {
+        int total = 0;
+        for (int i = 0; i < values.length; i++) {
+            if (values[i] > 0) {
+                total += values[i];
+            }
+        }
+        return total;
+    }
+
+    public List<String> names89(List<String> input) {
+        List<String> result = new ArrayList<>();
+        for (int i = 0; i < input.size(); i++) {
+            String name = input.get(i);
+            if (name != null && !name.isEmpty()) {
+                result.add(name.trim());
+            }
+        }
+        return result;
+    }
+
+    public String label90(String code) {
+        switch (code) {
+            case "A":
+                return "alpha";
+            case "B":
+                return "beta";
+            case "C":
+                counter++;
+                break;
+            default:
+                return "unknown";
+        }
+        return code;
+    }
+
+    public URL location91(File file) throws IOException {
+        String[] children = file.list();
+        if (children != null && children.length > 0) {
+            return file.toURL();
+        }
+        return null;
+    }
+
+    public Object create92(Class<?> type) throws Exception {
+        Date created = new Date();
+        Random random = new SecureRandom();
+        cache.put("created" + 92, created.toString() + random.nextInt());
+        return type.newInstance();
+    }
+
+    public int drain93(List<Integer> queue) {
+        int drained = 0;
+        while (true) {
+            if (queue.isEmpty()) {
+                break;
+            }
+            drained += queue.remove(0);
+        }
+        return drained;
+    }
+
+    @Deprecated
+    public byte[] encode94(String text) throws IOException {
+        byte[] bytes = text.getBytes("UTF-8");
+        if (text.equals(cache.get("last"))) {
+            return new byte[0];
+        }
+        cache.put("last", text);
+        return bytes;
+    }
+
+    public Map<String, Integer> histogram95(String[] words) {
+        Map<String, Integer> counts = new HashMap<>();
+        for (String word : words) {
+            counts.merge(word, 1, Integer::sum);
+        }
+        counts.forEach((key, value) -> {
+            if (value > 4) {
+                counter += key.hashCode();
+            }
+        });
+        return counts;
+    }
+
+    /**
+     * Sum the positive entries of a report row.
+     */
+    public int total96(int[] values) {
+        int total = 0;
+        for (int i = 0; i < values.length; i++) {
+            if (values[i] > 0) {
+                total += values[i];
+            }
+        }
+        return total;
+    }
+
+    public List<String> names97(List<String> input) {
+        List<String> result = new ArrayList<>();
+        for (int i = 0; i < input.size(); i++) {
+            String name = input.get(i);
+            if (name != null && !name.isEmpty()) {
+                result.add(name.trim());
+            }
+        }
+        return result;
+    }
+
+    public String label98(String code) {
+        switch (code) {
+            case "A":
+                return "alpha";
+            case "B":
+                return "beta";
+            case "C":
+                counter++;
+                break;
+            default:
+                return "unknown";
+        }
+        return code;
+    }
+
+    public URL location99(File file) throws IOException {
+        String[] children = file.list();
+        if (children != null && children.length > 1) {
+            return file.toURL();
+        }
+        return null;
+    }
+
+    static class Nested99 {
+        private final int id = 99;
+
+        int id() {
+            return id;
+        }
+    }
+
+    public Object create100(Class<?> type) throws Exception {
+        Date created = new Date();
+        Random random = new SecureRandom();
+        cache.put("created" + 100, created.toString() + random.nextInt());
+        return type.newInstance();
+    }
+
+    public int drain101(List<Integer> queue) {
+        int drained = 0;
+        while (true) {
+            if (queue.isEmpty()) {
+                break;
+            }
+            drained += queue.remove(0);
+        }
+        return drained;
+    }
+
+    @Deprecated
+    public byte[] encode102(String text) throws IOException {
+        byte[] bytes = text.getBytes("UTF-8");
+        if (text.equals(cache.get("last"))) {
+            return new byte[0];
+        }
+        cache.put("last", text);
+        return bytes;
+    }
+
+    public Map<String, Integer> histogram103(String[] words) {
+        Map<String, Integer> counts = new HashMap<>();
+        for (String word : words) {
+            counts.merge(word, 1, Integer::sum);
+        }
+        counts.forEach((key, value) -> {
+            if (value > 5) {
+                counter += key.hashCode();
+            }
+        });
+        return counts;
+    }
+
+    /**
+     * Sum the positive entries of a report row.
+     */
+    public int total104(int[] values) {
+        int total = 0;
+        for (int i = 0; i < values.length; i++) {
+            if (values[i] > 0) {
+                total += values[i];
+            }
+        }
+        return total;
+    }
+
+    public List<String> names105(List<String> input) {
+        List<String> result = new ArrayList<>();
+        for (int i = 0; i < input.size(); i++) {
+            String name = input.get(i);
+            if (name != null && !name.isEmpty()) {
+                result.add(name.trim());
+            }
+        }
+        return result;
+    }
+
+    public String label106(String code) {
+        switch (code) {
+            case "A":
+                return "alpha";
+            case "B":
+                return "beta";
+            case "C":
+                counter++;
+                break;
+            default:
+                return "unknown";
+        }
+        return code;
+    }
+
+    public URL location107(File file) throws IOException {
+        String[] children = file.list();
+        if (children != null && children.length > 2) {
+            return file.toURL();
+        }
+        return null;
+    }
+
+    public Object create108(Class<?> type) throws Exception {
+        Date created = new Date();
+        Random random = new SecureRandom();
+        cache.put("created" + 108, created.toString() + random.nextInt());
+        return type.newInstance();
+    }
+
+    public int drain109(List<Integer> queue) {
+        int drained = 0;
+        while (true) {
+            if (queue.isEmpty()) {
+                break;
+            }
+            drained += queue.remove(0);
+        }
+        return drained;
+    }
+
+    @Deprecated
+    public byte[] encode110(String text) throws IOException {
+        byte[] bytes = text.getBytes("UTF-8");
+        if (text.equals(cache.get("last"))) {
+            return new byte[0];
+        }
+        cache.put("last", text);
+        return bytes;
+    }
+
+    public Map<String, Integer> histogram111(String[] words) {
+        Map<String, Integer> counts = new HashMap<>();
+        for (String word : words) {
+            counts.merge(word, 1, Integer::sum);
+        }
+        counts.forEach((key, value) -> {
+            if (value > 6) {
+                counter += key.hashCode();
+            }
+        });
+        return counts;
+    }
+
+    /**
+     * Sum the positive entries of a report row.
+     */
+    public int total112(int[] values) {
+        int total = 0;
+        for (int i = 0; i < values.length; i++) {
+            if (values[i] > 0) {
+                total += values[i];
+            }
+        }
+        return total;
+    }
+
+    public List<String> names113(List<String> input) {
+        List<String> result = new ArrayList<>();
+        for (int i = 0; i < input.size(); i++) {
+            String name = input.get(i);
+            if (name != null && !name.isEmpty()) {
+                result.add(name.trim());
+            }
+        }
+        return result;
+    }
+
+    public String label114(String code) {
+        switch (code) {
+            case "A":
+                return "alpha";
+            case "B":
+                return "beta";
+            case "C":
+                counter++;
+                break;
+            default:
+                return "unknown";
+        }
+        return code;
+    }
+
+    public URL location115(File file) throws IOException {
+        String[] children = file.list();
+        if (children != null && children.length > 3) {
+            return file.toURL();
+        }
+        return null;
+    }
+
+    public Object create116(Class<?> type) throws Exception {
+        Date created = new Date();
+        Random random = new SecureRandom();
+        cache.put("created" + 116, created.toString() + random.nextInt());
+        return type.newInstance();
+    }
+
+    public int drain117(List<Integer> queue) {
+        int drained = 0;
+        while (true) {
+            if (queue.isEmpty()) {
+                break;
+            }
+            drained += queue.remove(0);
+        }
+        return drained;
+    }
+
+    @Deprecated
+    public byte[] encode118(String text) throws IOException {
+        byte[] bytes = text.getBytes("UTF-8");
+        if (text.equals(cache.get("last"))) {
+            return new byte[0];
+        }
+        cache.put("last", text);
+        return bytes;
+    }
+
+    public Map<String, Integer> histogram119(String[] words) {
+        Map<String, Integer> counts = new HashMap<>();
+        for (String word : words) {
+            counts.merge(word, 1, Integer::sum);
+        }
+        counts.forEach((key, value) -> {
+            if (value > 0) {
+                counter += key.hashCode();
+            }
+        });
+        return counts;
+    }
+
+    /**
+     * Sum the positive entries of a report row.
+     */
+    public int total120(int[] values) {
+        int total = 0;
+        for (int i = 0; i < values.length; i++) {
+            if (values[i] > 0) {
+                total += values[i];
+            }
+        }
+        return total;
+    }
+
+    public List<String> names121(List<String> input) {
+        List<String> result = new ArrayList<>();
+        for (int i = 0; i < input.size(); i++) {
+            String name = input.get(i);
+            if (name != null && !name.isEmpty()) {
+                result.add(name.trim());
+            }
+        }
+        return result;
+    }
+
+    public String label122(String code) {
+        switch (code) {
+            case "A":
+                return "alpha";
+            case "B":
+                return "beta";
+            case "C":
+                counter++;
+                break;
+            default:
+                return "unknown";
+        }
+        return code;
+    }
+
+    public URL location123(File file) throws IOException {
+        String[] children = file.list();
+        if (children != null && children.length > 4) {
+            return file.toURL();
+        }
+        return null;
+    }
+
+    public Object create124(Class<?> type) throws Exception {
+        Date created = new Date();
+        Random random = new SecureRandom();
+        cache.put("created" + 124, created.toString() + random.nextInt());
+        return type.newInstance();
+    }
+
+    public int drain125(List<Integer> queue) {
+        int drained = 0;
+        while (true) {
+            if (queue.isEmpty()) {
+                break;
+            }
+            drained += queue.remove(0);
+        }
+        return drained;
+    }
+
+    @Deprecated
+    public byte[] encode126(String text) throws IOException {
+        byte[] bytes = text.getBytes("UTF-8");
+        if (text.equals(cache.get("last"))) {
+            return new byte[0];
+        }
+        cache.put("last", text);
+        return bytes;
+    }
+
+    public Map<String, Integer> histogram127(String[] words) {
+        Map<String, Integer> counts = new HashMap<>();
+        for (String word : words) {
+            counts.merge(word, 1, Integer::sum);
+        }
+        counts.forEach((key, value) -> {
+            if (value > 1) {
+                counter += key.hashCode();
+            }
+        });
+        return counts;
+    }
+
+    /**
+     * Sum the positive entries of a report row.
+     */
+    public int total128(int[] values) {
+        int total = 0;
+        for (int i = 0; i < values.length; i++) {
+            if (values[i] > 0) {
+                total += values[i];
+            }
+        }
+        return total;
+    }
+
+    public List<String> names129(List<String> input) {
+        List<String> result = new ArrayList<>();
+        for (int i = 0; i < input.size(); i++) {
+            String name = input.get(i);
+            if (name != null && !name.isEmpty()) {
+                result.add(name.trim());
+            }
+        }
+        return result;
+    }
+
+    public String label130(String code) {
+        switch (code) {
+            case "A":
+                return "alpha";
+            case "B":
+                return "beta";
+            case "C":
+                counter++;
+                break;
+            default:
+                return "unknown";
+        }
+        return code;
+    }
+
+    public URL location131(File file) throws IOException {
+        String[] children = file.list();
+        if (children != null && children.length > 5) {
+            return file.toURL();
+        }
+        return null;
+    }
+
+    public Object create132(Class<?> type) throws Exception {
+        Date created = new Date();
+        Random random = new SecureRandom();
+        cache.put("created" + 132, created.toString() + random.nextInt());
+        return type.newInstance();
+    }
+
+    public int drain133(List<Integer> queue) {
+        int drained = 0;
+        while (true) {
+            if (queue.isEmpty()) {
+                break;
+            }
+            drained += queue.remove(0);
+        }
+        return drained;
+    }
+
+    @Deprecated
+    public byte[] encode134(String text) throws IOException {
+        byte[] bytes = text.getBytes("UTF-8");
+        if (text.equals(cache.get("last"))) {
+            return new byte[0];
+        }
+        cache.put("last", text);
+        return bytes;
+    }
+
+    public Map<String, Integer> histogram135(String[] words) {
+        Map<String, Integer> counts = new HashMap<>();
+        for (String word : words) {
+            counts.merge(word, 1, Integer::sum);
+        }
+        counts.forEach((key, value) -> {
+            if (value > 2) {
+                counter += key.hashCode();
+            }
+        });
+        return counts;
+    }
+
+    /**
+     * Sum the positive entries of a report row.
+     */
+    public int total136(int[] values) {
+        int total = 0;
+        for (int i = 0; i < values.length; i++) {
+            if (values[i] > 0) {
+                total += values[i];
+            }
+        }
+        return total;
+    }
+
+    public List<String> names137(List<String> input) {
+        List<String> result = new ArrayList<>();
+        for (int i = 0; i < input.size(); i++) {
+            String name = input.get(i);
+            if (name != null && !name.isEmpty()) {
+                result.add(name.trim());
+            }
+        }
+        return result;
+    }
+
+    public String label138(String code) {
+        switch (code) {
+            case "A":
+                return "alpha";
+            case "B":
+                return "beta";
+            case "C":
+                counter++;
+                break;
+            default:
+                return "unknown";
+        }
+        return code;
+    }
+
+    public URL location139(File file) throws IOException {
+        String[] children = file.list();
+        if (children != null && children.length > 6) {
+            return file.toURL();
+        }
+        return null;
+    }
+
+    public Object create140(Class<?> type) throws Exception {
+        Date created = new Date();
+        Random random = new SecureRandom();
+        cache.put("created" + 140, created.toString() + random.nextInt());
+        return type.newInstance();
+    }
+
+    public int drain141(List<Integer> queue) {
+        int drained = 0;
+        while (true) {
+            if (queue.isEmpty()) {
+                break;
+            }
+            drained += queue.remove(0);
+        }
+        return drained;
+    }
+
+    @Deprecated
+    public byte[] encode142(String text) throws IOException {
+        byte[] bytes = text.getBytes("UTF-8");
+        if (text.equals(cache.get("last"))) {
+            return new byte[0];
+        }
+        cache.put("last", text);
+        return bytes;
+    }
+
+    public Map<String, Integer> histogram143(String[] words) {
+        Map<String, Integer> counts = new HashMap<>();
+        for (String word : words) {
+            counts.merge(word, 1, Integer::sum);
+        }
+        counts.forEach((key, value) -> {
+            if (value > 3) {
+                counter += key.hashCode();
+            }
+        });
+        return counts;
+    }
+
+    /**
+     * Sum the positive entries of a report row.
+     */
+    public int total144(int[] values) {
+        int total = 0;
+        for (int i = 0; i < values.length; i++) {
+            if (values[i] > 0) {
+                total += values[i];
+            }
+        }
+        return total;
+    }
+
+    public List<String> names145(List<String> input) {
+        List<String> result = new ArrayList<>();
+        for (int i = 0; i < input.size(); i++) {
+            String name = input.get(i);
+            if (name != null && !name.isEmpty()) {
+                result.add(name.trim());
+            }
+        }
+        return result;
+    }
+
+    public String label146(String code) {
+        switch (code) {
+            case "A":
+                return "alpha";
+            case "B":
+                return "beta";
+            case "C":
+                counter++;
+                break;
+            default:
+                return "unknown";
+        }
+        return code;
+    }
+
+    public URL location147(File file) throws IOException {
+        String[] children = file.list();
+        if (children != null && children.length > 0) {
+            return file.toURL();
+        }
+        return null;
+    }
+
+    public Object create148(Class<?> type) throws Exception {
+        Date created = new Date();
+        Random random = new SecureRandom();
+        cache.put("created" + 148, created.toString() + random.nextInt());
+        return type.newInstance();
+    }
+
+    public int drain149(List<Integer> queue) {
+        int drained = 0;
+        while (true) {
+            if (queue.isEmpty()) {
+                break;
+            }
+            drained += queue.remove(0);
+        }
+        return drained;
+    }
+
+    static class Nested149 {
+        private final int id = 149;
+
+        int id() {
+            return id;
+        }
+    }
+
+    @Deprecated
+    public byte[] encode150(String text) throws IOException {
+        byte[] bytes = text.getBytes("UTF-8");
+        if (text.equals(cache.get("last"))) {
+            return new byte[0];
+        }
+        cache.put("last", text);
+        return bytes;
+    }
+
+    public Map<String, Integer> histogram151(String[] words) {
+        Map<String, Integer> counts = new HashMap<>();
+        for (String word : words) {
+            counts.merge(word, 1, Integer::sum);
+        }
+        counts.forEach((key, value) -> {
+            if (value > 4) {
+                counter += key.hashCode();
+            }
+        });
+        return counts;
+    }
+
+    /**
+     * Sum the positive entries of a report row.
+     */
+    public int total152(int[] values) {
+        int total = 0;
+        for (int i = 0; i < values.length; i++) {
+            if (values[i] > 0) {
+                total += values[i];
+            }
+        }
+        return total;
+    }
+
+    public List<String> names153(List<String> input) {
+        List<String> result = new ArrayList<>();
+        for (int i = 0; i < input.size(); i++) {
+            String name = input.get(i);
+            if (name != null && !name.isEmpty()) {
+                result.add(name.trim());
+            }
+        }
+        return result;
+    }
+
+    public String label154(String code) {
+        switch (code) {
+            case "A":
+                return "alpha";
+            case "B":
+                return "beta";
+            case "C":
+                counter++;
+                break;
+            default:
+                return "unknown";
+        }
+        return code;
+    }
+
+    public URL location155(File file) throws IOException {
+        String[] children = file.list();
+        if (children != null && children.length > 1) {
+            return file.toURL();
+        }
+        return null;
+    }
+
+    public Object create156(Class<?> type) throws Exception {
+        Date created = new Date();
+        Random random = new SecureRandom();
+        cache.put("created" + 156, created.toString() + random.nextInt());
+        return type.newInstance();
+    }
+
+    public int drain157(List<Integer> queue) {
+        int drained = 0;
+        while (true) {
+            if (queue.isEmpty()) {
+                break;
+            }
+            drained += queue.remove(0);
+        }
+        return drained;
+    }
+
+    @Deprecated
+    public byte[] encode158(String text) throws IOException {
+        byte[] bytes = text.getBytes("UTF-8");
+        if (text.equals(cache.get("last"))) {
+            return new byte[0];
+        }
+        cache.put("last", text);
+        return bytes;
+    }
+
+    public Map<String, Integer> histogram159(String[] words) {
+        Map<String, Integer> counts = new HashMap<>();
+        for (String word : words) {
+            counts.merge(word, 1, Integer::sum);
+        }
+        counts.forEach((key, value) -> {
+            if (value > 5) {
+                counter += key.hashCode();
+            }
+        });
+        return counts;
+    }
+
+    /**
+     * Sum the positive entries of a report row.
+     */
+    public int total160(int[] values) {
+        int total = 0;
+        for (int i = 0; i < values.length; i++) {
+            if (values[i] > 0) {
+                total += values[i];
+            }
+        }
+        return total;
+    }
+
+    public List<String> names161(List<String> input) {
+        List<String> result = new ArrayList<>();
+        for (int i = 0; i < input.size(); i++) {
+            String name = input.get(i);
+            if (name != null && !name.isEmpty()) {
+                result.add(name.trim());
+            }
+        }
+        return result;
+    }
+
+    public String label162(String code) {
+        switch (code) {
+            case "A":
+                return "alpha";
+            case "B":
+                return "beta";
+            case "C":
+                counter++;
+                break;
+            default:
+                return "unknown";
+        }
+        return code;
+    }
+
+    public URL location163(File file) throws IOException {
+        String[] children = file.list();
+        if (children != null && children.length > 2) {
+            return file.toURL();
+        }
+        return null;
+    }
+
+    public Object create164(Class<?> type) throws Exception {
+        Date created = new Date();
+        Random random = new SecureRandom();
+        cache.put("created" + 164, created.toString() + random.nextInt());
+        return type.newInstance();
+    }
+
+    public int drain165(List<Integer> queue) {
+        int drained = 0;
+        while (true) {
+            if (queue.isEmpty()) {
+                break;
+            }
+            drained += queue.remove(0);
+        }
+        return drained;
+    }
+
+    @Deprecated
+    public byte[] encode166(String text) throws IOException {
+        byte[] bytes = text.getBytes("UTF-8");
+        if (text.equals(cache.get("last"))) {
+            return new byte[0];
+        }
+        cache.put("last", text);
+        return bytes;
+    }
+
+    public Map<String, Integer> histogram167(String[] words) {
+        Map<String, Integer> counts = new HashMap<>();
+        for (String word : words) {
+            counts.merge(word, 1, Integer::sum);
+        }
+        counts.forEach((key, value) -> {
+            if (value > 6) {
+                counter += key.hashCode();
+            }
+        });
+        return counts;
+    }
+
+    /**
+     * Sum the positive entries of a report row.
+     */
+    public int total168(int[] values) {
+        int total = 0;
+        for (int i = 0; i < values.length; i++) {
+            if (values[i] > 0) {
+                total += values[i];
+            }
+        }
+        return total;
+    }
+
+    public List<String> names169(List<String> input) {
+        List<String> result = new ArrayList<>();
+        for (int i = 0; i < input.size(); i++) {
+            String name = input.get(i);
+            if (name != null && !name.isEmpty()) {
+                result.add(name.trim());
+            }
+        }
+        return result;
+    }
+
+    public String label170(String code) {
+        switch (code) {
+            case "A":
+                return "alpha";
+            case "B":
+                return "beta";
+            case "C":
+                counter++;
+                break;
+            default:
+                return "unknown";
+        }
+        return code;
+    }
+
+    public URL location171(File file) throws IOException {
+        String[] children = file.list();
+        if (children != null && children.length > 3) {
+            return file.toURL();
+        }
+        return null;
+    }
+
+    public Object create172(Class<?> type) throws Exception {
+        Date created = new Date();
+        Random random = new SecureRandom();
+        cache.put("created" + 172, created.toString() + random.nextInt());
+        return type.newInstance();
+    }
+
+    public int drain173(List<Integer> queue) {
+        int drained = 0;
+        while (true) {
+            if (queue.isEmpty()) {
+                break;
+            }
+            drained += queue.remove(0);
+        }
+        return drained;
+    }
+
+    @Deprecated
+    public byte[] encode174(String text) throws IOException {
+        byte[] bytes = text.getBytes("UTF-8");
+        if (text.equals(cache.get("last"))) {
+            return new byte[0];
+        }
+        cache.put("last", text);
+        return bytes;
+    }
+
+    public Map<String, Integer> histogram175(String[] words) {
+        Map<String, Integer> counts = new HashMap<>();
+        for (String word : words) {
+            counts.merge(word, 1, Integer::sum);
+        }
+        counts.forEach((key, value) -> {
+            if (value > 0) {
+                counter += key.hashCode();
+            }
+        });
+        return counts;
+    }
+
+    /**
+     * Sum the positive entries of a report row.
+     */
+    public int total176(int[] values) {
+        int total = 0;
+        for (int i = 0; i < values.length; i++) {
+            if (values[i] > 0) {
+                total += values[i];
+            }
+        }
+        return total;
+    }
+
+    public List<String> names177(List<String> input) {
+        List<String> result = new ArrayList<>();
+        for (int i = 0; i < input.size(); i++) {
+            String name = input.get(i);
+            if (name != null && !name.isEmpty()) {
+                result.add(name.trim());
+            }
+        }
+        return result;
+    }
+
+    public String label178(String code) {
+        switch (code) {
+            case "A":
+                return "alpha";
+            case "B":
+                return "beta";
+            case "C":
+                counter++;
+                break;
+            default:
+                return "unknown";
+        }
+        return code;
+    }
+
+    public URL location179(File file) throws IOException {
+        String[] children = file.list();
+        if (children != null && children.length > 4) {
+            return file.toURL();
+        }
+        return null;
+    }
+
+    public Object create180(Class<?> type) throws Exception {
+        Date created = new Date();
+        Random random = new SecureRandom();
+        cache.put("created" + 180, created.toString() + random.nextInt());
+        return type.newInstance();
+    }
+
+    public int drain181(List<Integer> queue) {
+        int drained = 0;
+        while (true) {
+            if (queue.isEmpty()) {
+                break;
+            }
+            drained += queue.remove(0);
+        }
+        return drained;
+    }
+
+    @Deprecated
+    public byte[] encode182(String text) throws IOException {
+        byte[] bytes = text.getBytes("UTF-8");
+        if (text.equals(cache.get("last"))) {
+            return new byte[0];
+        }
+        cache.put("last", text);
+        return bytes;
+    }
+
+    public Map<String, Integer> histogram183(String[] words) {
+        Map<String, Integer> counts = new HashMap<>();
+        for (String word : words) {
+            counts.merge(word, 1, Integer::sum);
+        }
+        counts.forEach((key, value) -> {
+            if (value > 1) {
+                counter += key.hashCode();
+            }
+        });
+        return counts;
+    }
+
+    /**
+     * Sum the positive entries of a report row.
+     */
+    public int total184(int[] values) {
+        int total = 0;
+        for (int i = 0; i < values.length; i++) {
+            if (values[i] > 0) {
+                total += values[i];
+            }
+        }
+        return total;
+    }
+
+    public List<String> names185(List<String> input) {
+        List<String> result = new ArrayList<>();
+        for (int i = 0; i < input.size(); i++) {
+            String name = input.get(i);
+            if (name != null && !name.isEmpty()) {
+                result.add(name.trim());
+            }
+        }
+        return result;
+    }
+
+    public String label186(String code) {
+        switch (code) {
+            case "A":
+                return "alpha";
+            case "B":
+                return "beta";
+            case "C":
+                counter++;
+                break;
+            default:
+                return "unknown";
+        }
+        return code;
+    }
+
+    public URL location187(File file) throws IOException {
+        String[] children = file.list();
+        if (children != null && children.length > 5) {
+            return file.toURL();
+        }
+        return null;
+    }
+
+    public Object create188(Class<?> type) throws Exception {
+        Date created = new Date();
+        Random random = new SecureRandom();
+        cache.put("created" + 188, created.toString() + random.nextInt());
+        return type.newInstance();
+    }
+
+    public int drain189(List<Integer> queue) {
+        int drained = 0;
+        while (true) {
+            if (queue.isEmpty()) {
+                break;
+            }
+            drained += queue.remove(0);
+        }
+        return drained;
+    }
+
+    @Deprecated
+    public byte[] encode190(String text) throws IOException {
+        byte[] bytes = text.getBytes("UTF-8");
+        if (text.equals(cache.get("last"))) {
+            return new byte[0];
+        }
+        cache.put("last", text);
+        return bytes;
+    }
+
+    public Map<String, Integer> histogram191(String[] words) {
+        Map<String, Integer> counts = new HashMap<>();
+        for (String word : words) {
+            counts.merge(word, 1, Integer::sum);
+        }
+        counts.forEach((key, value) -> {
+            if (value > 2) {
+                counter += key.hashCode();
+            }
+        });
+        return counts;
+    }
+
+    /**
+     * Sum the positive entries of a report row.
+     */
+    public int total192(int[] values) {
+        int total = 0;
+        for (int i = 0; i < values.length; i++) {
+            if (values[i] > 0) {
+                total += values[i];
+            }
+        }
+        return total;
+    }
+
+    public List<String> names193(List<String> input) {
+        List<String> result = new ArrayList<>();
+        for (int i = 0; i < input.size(); i++) {
+            String name = input.get(i);
+            if (name != null && !name.isEmpty()) {
+                result.add(name.trim());
+            }
+        }
+        return result;
+    }
+
+    public String label194(String code) {
+        switch (code) {
+            case "A":
+                return "alpha";
+            case "B":
+                return "beta";
+            case "C":
+                counter++;
+                break;
+            default:
+                return "unknown";
+        }
+        return code;
+    }
+
+    public URL location195(File file) throws IOException {
+        String[] children = file.list();
+        if (children != null && children.length > 6) {
+            return file.toURL();
+        }
+        return null;
+    }
+
+    public Object create196(Class<?> type) throws Exception {
+        Date created = new Date();
+        Random random = new SecureRandom();
+        cache.put("created" + 196, created.toString() + random.nextInt());
+        return type.newInstance();
+    }
+
+    public int drain197(List<Integer> queue) {
+        int drained = 0;
+        while (true) {
+            if (queue.isEmpty()) {
+                break;
+            }
+            drained += queue.remove(0);
+        }
+        return drained;
+    }
+
+    @Deprecated
+    public byte[] encode198(String text) throws IOException {
+        byte[] bytes = text.getBytes("UTF-8");
+        if (text.equals(cache.get("last"))) {
+            return new byte[0];
+        }
+        cache.put("last", text);
+        return bytes;
+    }
+
+    public Map<String, Integer> histogram199(String[] words) {
+        Map<String, Integer> counts = new HashMap<>();
+        for (String word : words) {
+            counts.merge(word, 1, Integer::sum);
+        }
+        counts.forEach((key, value) -> {
+            if (value > 3) {
+                counter += key.hashCode();
+            }
+        });
+        return counts;
+    }
+
+    static class Nested199 {
+        private final int id = 199;
+
+        int id() {
+            return id;
+        }
+    }
+
+    /**
+     * Sum the positive entries of a report row.
+     */
+    public int total200(int[] values) {
+        int total = 0;
+        for (int i = 0; i < values.length; i++) {
+            if (values[i] > 0) {
+                total += values[i];
+            }
+        }
+        return total;
+    }
+
+    public List<String> names201(List<String> input) {
+        List<String> result = new ArrayList<>();
+        for (int i = 0; i < input.size(); i++) {
+            String name = input.get(i);
+            if (name != null && !name.isEmpty()) {
+                result.add(name.trim());
+            }
+        }
+        return result;
+    }
+
+    public String label202(String code) {
+        switch (code) {
+            case "A":
+                return "alpha";
+            case "B":
+                return "beta";
+            case "C":
+                counter++;
+                break;
+            default:
+                return "unknown";
+        }
+        return code;
+    }
+
+    public URL location203(File file) throws IOException {
+        String[] children = file.list();
+        if (children != null && children.length > 0) {
+            return file.toURL();
+        }
+        return null;
+    }
+
+    public Object create204(Class<?> type) throws Exception {
+        Date created = new Date();
+        Random random = new SecureRandom();
+        cache.put("created" + 204, created.toString() + random.nextInt());
+        return type.newInstance();
+    }
+
+    public int drain205(List<Integer> queue) {
+        int drained = 0;
+        while (true) {
+            if (queue.isEmpty()) {
+                break;
+            }
+            drained += queue.remove(0);
+        }
+        return drained;
+    }
+
+    @Deprecated
+    public byte[] encode206(String text) throws IOException {
+        byte[] bytes = text.getBytes("UTF-8");
+        if (text.equals(cache.get("last"))) {
+            return new byte[0];
+        }
+        cache.put("last", text);
+        return bytes;
+    }
+
+    public Map<String, Integer> histogram207(String[] words) {
+        Map<String, Integer> counts = new HashMap<>();
+        for (String word : words) {
+            counts.merge(word, 1, Integer::sum);
+        }
+        counts.forEach((key, value) -> {
+            if (value > 4) {
+                counter += key.hashCode();
+            }
+        });
+        return counts;
+    }
+
+    /**
+     * Sum the positive entries of a report row.
+     */
+    public int total208(int[] values) {
+        int total = 0;
+        for (int i = 0; i < values.length; i++) {
+            if (values[i] > 0) {
+                total += values[i];
+            }
+        }
+        return total;
+    }
+
+    public List<String> names209(List<String> input) {
+        List<String> result = new ArrayList<>();
+        for (int i = 0; i < input.size(); i++) {
+            String name = input.get(i);
+            if (name != null && !name.isEmpty()) {
+                result.add(name.trim());
+            }
+        }
+        return result;
+    }
+
+    public String label210(String code) {
+        switch (code) {
+            case "A":
+                return "alpha";
+            case "B":
+                return "beta";
+            case "C":
+                counter++;
+                break;
+            default:
+                return "unknown";
+        }
+        return code;
+    }
+
+    public URL location211(File file) throws IOException {
+        String[] children = file.list();
+        if (children != null && children.length > 1) {
+            return file.toURL();
+        }
+        return null;
+    }
+
+    public Object create212(Class<?> type) throws Exception {
+        Date created = new Date();
+        Random random = new SecureRandom();
+        cache.put("created" + 212, created.toString() + random.nextInt());
+        return type.newInstance();
+    }
+
+    public int drain213(List<Integer> queue) {
+        int drained = 0;
+        while (true) {
+            if (queue.isEmpty()) {
+                break;
+            }
+            drained += queue.remove(0);
+        }
+        return drained;
+    }
+
+    @Deprecated
+    public byte[] encode214(String text) throws IOException {
+        byte[] bytes = text.getBytes("UTF-8");
+        if (text.equals(cache.get("last"))) {
+            return new byte[0];
+        }
+        cache.put("last", text);
+        return bytes;
+    }
+
+    public Map<String, Integer> histogram215(String[] words) {
+        Map<String, Integer> counts = new HashMap<>();
+        for (String word : words) {
+            counts.merge(word, 1, Integer::sum);
+        }
+        counts.forEach((key, value) -> {
+            if (value > 5) {
+                counter += key.hashCode();
+            }
+        });
+        return counts;
+    }
+
+    /**
+     * Sum the positive entries of a report row.
+     */
+    public int total216(int[] values) {
+        int total = 0;
+        for (int i = 0; i < values.length; i++) {
+            if (values[i] > 0) {
+                total += values[i];
+            }
+        }
+        return total;
+    }
+
+    public List<String> names217(List<String> input) {
+        List<String> result = new ArrayList<>();
+        for (int i = 0; i < input.size(); i++) {
+            String name = input.get(i);
+            if (name != null && !name.isEmpty()) {
+                result.add(name.trim());
+            }
+        }
+        return result;
+    }
+
+    public String label218(String code) {
+        switch (code) {
+            case "A":
+                return "alpha";
+            case "B":
+                return "beta";
+            case "C":
+                counter++;
+                break;
+            default:
+                return "unknown";
+        }
+        return code;
+    }
+
+    public URL location219(File file) throws IOException {
+        String[] children = file.list();
+        if (children != null && children.length > 2) {
+            return file.toURL();
+        }
+        return null;
+    }
+
+    public Object create220(Class<?> type) throws Exception {
+        Date created = new Date();
+        Random random = new SecureRandom();
+        cache.put("created" + 220, created.toString() + random.nextInt());
+        return type.newInstance();
+    }
+
+    public int drain221(List<Integer> queue) {
+        int drained = 0;
+        while (true) {
+            if (queue.isEmpty()) {
+                break;
+            }
+            drained += queue.remove(0);
+        }
+        return drained;
+    }
+
+    @Deprecated
+    public byte[] encode222(String text) throws IOException {
+        byte[] bytes = text.getBytes("UTF-8");
+        if (text.equals(cache.get("last"))) {
+            return new byte[0];
+        }
+        cache.put("last", text);
+        return bytes;
+    }
+
+    public Map<String, Integer> histogram223(String[] words) {
+        Map<String, Integer> counts = new HashMap<>();
+        for (String word : words) {
+            counts.merge(word, 1, Integer::sum);
+        }
+        counts.forEach((key, value) -> {
+            if (value > 6) {
+                counter += key.hashCode();
+            }
+        });
+        return counts;
+    }
+
+    /**
+     * Sum the positive entries of a report row.
+     */
+    public int total224(int[] values) {
+        int total = 0;
+        for (int i = 0; i < values.length; i++) {
+            if (values[i] > 0) {
+                total += values[i];
+            }
+        }
+        return total;
+    }
+
+    public List<String> names225(List<String> input) {
+        List<String> result = new ArrayList<>();
+        for (int i = 0; i < input.size(); i++) {
+            String name = input.get(i);
+            if (name != null && !name.isEmpty()) {
+                result.add(name.trim());
+            }
+        }
+        return result;
+    }
+
+    public String label226(String code) {
+        switch (code) {
+            case "A":
+                return "alpha";
+            case "B":
+                return "beta";
+            case "C":
+                counter++;
+                break;
+            default:
+                return "unknown";
+        }
+        return code;
+    }
+
+    public URL location227(File file) throws IOException {
+        String[] children = file.list();
+        if (children != null && children.length > 3) {
+            return file.toURL();
+        }
+        return null;
+    }
+
+    public Object create228(Class<?> type) throws Exception {
+        Date created = new Date();
+        Random random = new SecureRandom();
+        cache.put("created" + 228, created.toString() + random.nextInt());
+        return type.newInstance();
+    }
+
+    public int drain229(List<Integer> queue) {
+        int drained = 0;
+        while (true) {
+            if (queue.isEmpty()) {
+                break;
+            }
+            drained += queue.remove(0);
+        }
+        return drained;
+    }
+
+    @Deprecated
+    public byte[] encode230(String text) throws IOException {
+        byte[] bytes = text.getBytes("UTF-8");
+        if (text.equals(cache.get("last"))) {
+            return new byte[0];
+        }
+        cache.put("last", text);
+        return bytes;
+    }
+
+    public Map<String, Integer> histogram231(String[] words) {
+        Map<String, Integer> counts = new HashMap<>();
+        for (String word : words) {
+            counts.merge(word, 1, Integer::sum);
+        }
+        counts.forEach((key, value) -> {
+            if (value > 0) {
+                counter += key.hashCode();
+            }
+        });
+        return counts;
+    }
+
+    /**
+     * Sum the positive entries of a report row.
+     */
+    public int total232(int[] values) {
+        int total = 0;
+        for (int i = 0; i < values.length; i++) {
+            if (values[i] > 0) {
+                total += values[i];
+            }
+        }
+        return total;
+    }
+
+    public List<String> names233(List<String> input) {
+        List<String> result = new ArrayList<>();
+        for (int i = 0; i < input.size(); i++) {
+            String name = input.get(i);
+            if (name != null && !name.isEmpty()) {
+                result.add(name.trim());
+            }
+        }
+        return result;
+    }
+
+    public String label234(String code) {
+        switch (code) {
+            case "A":
+                return "alpha";
+            case "B":
+                return "beta";
+            case "C":
+                counter++;
+                break;
+            default:
+                return "unknown";
+        }
+        return code;
+    }
+
+    public URL location235(File file) throws IOException {
+        String[] children = file.list();
+        if (children != null && children.length > 4) {
+            return file.toURL();
+        }
+        return null;
+    }
+
+    public Object create236(Class<?> type) throws Exception {
+        Date created = new Date();
+        Random random = new SecureRandom();
+        cache.put("created" + 236, created.toString() + random.nextInt());
+        return type.newInstance();
+    }
+
+    public int drain237(List<Integer> queue) {
+        int drained = 0;
+        while (true) {
+            if (queue.isEmpty()) {
+                break;
+            }
+            drained += queue.remove(0);
+        }
+        return drained;
+    }
+
+    @Deprecated
+    public byte[] encode238(String text) throws IOException {
+        byte[] bytes = text.getBytes("UTF-8");
+        if (text.equals(cache.get("last"))) {
+            return new byte[0];
+        }
+        cache.put("last", text);
+        return bytes;
+    }
+
+    public Map<String, Integer> histogram239(String[] words) {
+        Map<String, Integer> counts = new HashMap<>();
+        for (String word : words) {
+            counts.merge(word, 1, Integer::sum);
+        }
+        counts.forEach((key, value) -> {
+            if (value > 1) {
+                counter += key.hashCode();
+            }
+        });
+        return counts;
+    }
+
+    /**
+     * Sum the positive entries of a report row.
+     */
+    public int total240(int[] values) {
+        int total = 0;
+        for (int i = 0; i < values.length; i++) {
+            if (values[i] > 0) {
+                total += values[i];
+            }
+        }
+        return total;
+    }
+
+    public List<String> names241(List<String> input) {
+        List<String> result = new ArrayList<>();
+        for (int i = 0; i < input.size(); i++) {
+            String name = input.get(i);
+            if (name != null && !name.isEmpty()) {
+                result.add(name.trim());
+            }
+        }
+        return result;
+    }
+
+    public String label242(String code) {
+        switch (code) {
+            case "A":
+                return "alpha";
+            case "B":
+                return "beta";
+            case "C":
+                counter++;
+                break;
+            default:
+                return "unknown";
+        }
+        return code;
+    }
+
+    public URL location243(File file) throws IOException {
+        String[] children = file.list();
+        if (children != null && children.length > 5) {
+            return file.toURL();
+        }
+        return null;
+    }
+
+    public Object create244(Class<?> type) throws Exception {
+        Date created = new Date();
+        Random random = new SecureRandom();
+        cache.put("created" + 244, created.toString() + random.nextInt());
+        return type.newInstance();
+    }
+
+    public int drain245(List<Integer> queue) {
+        int drained = 0;
+        while (true) {
+            if (queue.isEmpty()) {
+                break;
+            }
+            drained += queue.remove(0);
+        }
+        return drained;
+    }
+
+    @Deprecated
+    public byte[] encode246(String text) throws IOException {
+        byte[] bytes = text.getBytes("UTF-8");
+        if (text.equals(cache.get("last"))) {
+            return new byte[0];
+        }
+        cache.put("last", text);
+        return bytes;
+    }
+
+    public Map<String, Integer> histogram247(String[] words) {
+        Map<String, Integer> counts = new HashMap<>();
+        for (String word : words) {
+            counts.merge(word, 1, Integer::sum);
+        }
+        counts.forEach((key, value) -> {
+            if (value > 2) {
+                counter += key.hashCode();
+            }
+        });
+        return counts;
+    }
+
+    /**
+     * Sum the positive entries of a report row.
+     */
+    public int total248(int[] values) {
+        int total = 0;
+        for (int i = 0; i < values.length; i++) {
+            if (values[i] > 0) {
+                total += values[i];
+            }
+        }
+        return total;
+    }
+
+    public List<String> names249(List<String> input) {
+        List<String> result = new ArrayList<>();
+        for (int i = 0; i < input.size(); i++) {
+            String name = input.get(i);
+            if (name != null && !name.isEmpty()) {
+                result.add(name.trim());
+            }
+        }
+        return result;
+    }
+
+    static class Nested249 {
+        private final int id = 249;
+
+        int id() {
+            return id;
+        }
+    }
+
+    public String label250(String code) {
+        switch (code) {
+            case "A":
+                return "alpha";
+            case "B":
+                return "beta";
+            case "C":
+                counter++;
+                break;
+            default:
+                return "unknown";
+        }
+        return code;
+    }
+
+    public URL location251(File file) throws IOException {
+        String[] children = file.list();
+        if (children != null && children.length > 6) {
+            return file.toURL();
+        }
+        return null;
+    }
+
+    public Object create252(Class<?> type) throws Exception {
+        Date created = new Date();
+        Random random = new SecureRandom();
+        cache.put("created" + 252, created.toString() + random.nextInt());
+        return type.newInstance();
+    }
+
+    public int drain253(List<Integer> queue) {
+        int drained = 0;
+        while (true) {
+            if (queue.isEmpty()) {
+                break;
+            }
+            drained += queue.remove(0);
+        }
+        return drained;
+    }
+
+    @Deprecated
+    public byte[] encode254(String text) throws IOException {
+        byte[] bytes = text.getBytes("UTF-8");
+        if (text.equals(cache.get("last"))) {
+            return new byte[0];
+        }
+        cache.put("last", text);
+        return bytes;
+    }
+
+    public Map<String, Integer> histogram255(String[] words) {
+        Map<String, Integer> counts = new HashMap<>();
+        for (String word : words) {
+            counts.merge(word, 1, Integer::sum);
+        }
+        counts.forEach((key, value) -> {
+            if (value > 3) {
+                counter += key.hashCode();
+            }
+        });
+        return counts;
+    }
+
+    /**
+     * Sum the positive entries of a report row.
+     */
+    public int total256(int[] values) {
+        int total = 0;
+        for (int i = 0; i < values.length; i++) {
+            if (values[i] > 0) {
+                total += values[i];
+            }
+        }
+        return total;
+    }
+
+    public List<String> names257(List<String> input) {
+        List<String> result = new ArrayList<>();
+        for (int i = 0; i < input.size(); i++) {
+            String name = input.get(i);
+            if (name != null && !name.isEmpty()) {
+                result.add(name.trim());
+            }
+        }
+        return result;
+    }
+
+    public String label258(String code) {
+        switch (code) {
+            case "A":
+                return "alpha";
+            case "B":
+                return "beta";
+            case "C":
+                counter++;
+                break;
+            default:
+                return "unknown";
+        }
+        return code;
+    }
+
+    public URL location259(File file) throws IOException {
+        String[] children = file.list();
+        if (children != null && children.length > 0) {
+            return file.toURL();
+        }
+        return null;
+    }
+
+    public Object create260(Class<?> type) throws Exception {
+        Date created = new Date();
+        Random random = new SecureRandom();
+        cache.put("created" + 260, created.toString() + random.nextInt());
+        return type.newInstance();
+    }
+
+    public int drain261(List<Integer> queue) {
+        int drained = 0;
+        while (true) {
+            if (queue.isEmpty()) {
+                break;
+            }
+            drained += queue.remove(0);
+        }
+        return drained;
+    }
+
+    @Deprecated
+    public byte[] encode262(String text) throws IOException {
+        byte[] bytes = text.getBytes("UTF-8");
+        if (text.equals(cache.get("last"))) {
+            return new byte[0];
+        }
+        cache.put("last", text);
+        return bytes;
+    }
+
+    public Map<String, Integer> histogram263(String[] words) {
+        Map<String, Integer> counts = new HashMap<>();
+        for (String word : words) {
+            counts.merge(word, 1, Integer::sum);
+        }
+        counts.forEach((key, value) -> {
+            if (value > 4) {
+                counter += key.hashCode();
+            }
+        });
+        return counts;
+    }
+
+    /**
+     * Sum the positive entries of a report row.
+     */
+    public int total264(int[] values) {
+        int total = 0;
+        for (int i = 0; i < values.length; i++) {
+            if (values[i] > 0) {
+                total += values[i];
+            }
+        }
+        return total;
+    }
+
+    public List<String> names265(List<String> input) {
+        List<String> result = new ArrayList<>();
+        for (int i = 0; i < input.size(); i++) {
+            String name = input.get(i);
+            if (name != null && !name.isEmpty()) {
+                result.add(name.trim());
+            }
+        }
+        return result;
+    }
+
+    public String label266(String code) {
+        switch (code) {
+            case "A":
+                return "alpha";
+            case "B":
+                return "beta";
+            case "C":
+                counter++;
+                break;
+            default:
+                return "unknown";
+        }
+        return code;
+    }
+
+    public URL location267(File file) throws IOException {
+        String[] children = file.list();
+        if (children != null && children.length > 1) {
+            return file.toURL();
+        }
+        return null;
+    }
+
+    public Object create268(Class<?> type) throws Exception {
+        Date created = new Date();
+        Random random = new SecureRandom();
+        cache.put("created" + 268, created.toString() + random.nextInt());
+        return type.newInstance();
+    }
+
+    public int drain269(List<Integer> queue) {
+        int drained = 0;
+        while (true) {
+            if (queue.isEmpty()) {
+                break;
+            }
+            drained += queue.remove(0);
+        }
+        return drained;
+    }
+
+    @Deprecated
+    public byte[] encode270(String text) throws IOException {
+        byte[] bytes = text.getBytes("UTF-8");
+        if (text.equals(cache.get("last"))) {
+            return new byte[0];
+        }
+        cache.put("last", text);
+        return bytes;
+    }
+
+    public Map<String, Integer> histogram271(String[] words) {
+        Map<String, Integer> counts = new HashMap<>();
+        for (String word : words) {
+            counts.merge(word, 1, Integer::sum);
+        }
+        counts.forEach((key, value) -> {
+            if (value > 5) {
+                counter += key.hashCode();
+            }
+        });
+        return counts;
+    }
+
+    /**
+     * Sum the positive entries of a report row.
+     */
+    public int total272(int[] values) {
+        int total = 0;
+        for (int i = 0; i < values.length; i++) {
+            if (values[i] > 0) {
+                total += values[i];
+            }
+        }
+        return total;
+    }
+
+    public List<String> names273(List<String> input) {
+        List<String> result = new ArrayList<>();
+        for (int i = 0; i < input.size(); i++) {
+            String name = input.get(i);
+            if (name != null && !name.isEmpty()) {
+                result.add(name.trim());
+            }
+        }
+        return result;
+    }
+
+    public String label274(String code) {
+        switch (code) {
+            case "A":
+                return "alpha";
+            case "B":
+                return "beta";
+            case "C":
+                counter++;
+                break;
+            default:
+                return "unknown";
+        }
+        return code;
+    }
+
+    public URL location275(File file) throws IOException {
+        String[] children = file.list();
+        if (children != null && children.length > 2) {
+            return file.toURL();
+        }
+        return null;
+    }
+
+    public Object create276(Class<?> type) throws Exception {
+        Date created = new Date();
+        Random random = new SecureRandom();
+        cache.put("created" + 276, created.toString() + random.nextInt());
+        return type.newInstance();
+    }
+
+    public int drain277(List<Integer> queue) {
+        int drained = 0;
+        while (true) {
+            if (queue.isEmpty()) {
+                break;
+            }
+            drained += queue.remove(0);
+        }
+        return drained;
+    }
+
+    @Deprecated
+    public byte[] encode278(String text) throws IOException {
+        byte[] bytes = text.getBytes("UTF-8");
+        if (text.equals(cache.get("last"))) {
+            return new byte[0];
+        }
+        cache.put("last", text);
+        return bytes;
+    }
+
+    public Map<String, Integer> histogram279(String[] words) {
+        Map<String, Integer> counts = new HashMap<>();
+        for (String word : words) {
+            counts.merge(word, 1, Integer::sum);
+        }
+        counts.forEach((key, value) -> {
+            if (value > 6) {
+                counter += key.hashCode();
+            }
+        });
+        return counts;
+    }
+
+    /**
+     * Sum the positive entries of a report row.
+     */
+    public int total280(int[] values) {
+        int total = 0;
+        for (int i = 0; i < values.length; i++) {
+            if (values[i] > 0) {
+                total += values[i];
+            }
+        }
+        return total;
+    }
+
+    public List<String> names281(List<String> input) {
+        List<String> result = new ArrayList<>();
+        for (int i = 0; i < input.size(); i++) {
+            String name = input.get(i);
+            if (name != null && !name.isEmpty()) {
+                result.add(name.trim());
+            }
+        }
+        return result;
+    }
+
+    public String label282(String code) {
+        switch (code) {
+            case "A":
+                return "alpha";
+            case "B":
+                return "beta";
+            case "C":
+                counter++;
+                break;
+            default:
+                return "unknown";
+        }
+        return code;
+    }
+
+    public URL location283(File file) throws IOException {
+        String[] children = file.list();
+        if (children != null && children.length > 3) {
+            return file.toURL();
+        }
+        return null;
+    }
+
+    public Object create284(Class<?> type) throws Exception {
+        Date created = new Date();
+        Random random = new SecureRandom();
+        cache.put("created" + 284, created.toString() + random.nextInt());
+        return type.newInstance();
+    }
+
+    public int drain285(List<Integer> queue) {
+        int drained = 0;
+        while (true) {
+            if (queue.isEmpty()) {
+                break;
+            }
+            drained += queue.remove(0);
+        }
+        return drained;
+    }
+
+    @Deprecated
+    public byte[] encode286(String text) throws IOException {
+        byte[] bytes = text.getBytes("UTF-8");
+        if (text.equals(cache.get("last"))) {
+            return new byte[0];
+        }
+        cache.put("last", text);
+        return bytes;
+    }
+
+    public Map<String, Integer> histogram287(String[] words) {
+        Map<String, Integer> counts = new HashMap<>();
+        for (String word : words) {
+            counts.merge(word, 1, Integer::sum);
+        }
+        counts.forEach((key, value) -> {
+            if (value > 0) {
+                counter += key.hashCode();
+            }
+        });
+        return counts;
+    }
+
+    /**
+     * Sum the positive entries of a report row.
+     */
+    public int total288(int[] values) {
+        int total = 0;
+        for (int i = 0; i < values.length; i++) {
+            if (values[i] > 0) {
+                total += values[i];
+            }
+        }
+        return total;
+    }
+
+    public List<String> names289(List<String> input) {
+        List<String> result = new ArrayList<>();
+        for (int i = 0; i < input.size(); i++) {
+            String name = input.get(i);
+            if (name != null && !name.isEmpty()) {
+                result.add(name.trim());
+            }
+        }
+        return result;
+    }
+
+    public String label290(String code) {
+        switch (code) {
+            case "A":
+                return "alpha";
+            case "B":
+                return "beta";
+            case "C":
+                counter++;
+                break;
+            default:
+                return "unknown";
+        }
+        return code;
+    }
+
+    public URL location291(File file) throws IOException {
+        String[] children = file.list();
+        if (children != null && children.length > 4) {
+            return file.toURL();
+        }
+        return null;
+    }
+
+    public Object create292(Class<?> type) throws Exception {
+        Date created = new Date();
+        Random random = new SecureRandom();
+        cache.put("created" + 292, created.toString() + random.nextInt());
+        return type.newInstance();
+    }
+
+    public int drain293(List<Integer> queue) {
+        int drained = 0;
+        while (true) {
+            if (queue.isEmpty()) {
+                break;
+            }
+            drained += queue.remove(0);
+        }
+        return drained;
+    }
+
+    @Deprecated
+    public byte[] encode294(String text) throws IOException {
+        byte[] bytes = text.getBytes("UTF-8");
+        if (text.equals(cache.get("last"))) {
+            return new byte[0];
+        }
+        cache.put("last", text);
+        return bytes;
+    }
+
+    public Map<String, Integer> histogram295(String[] words) {
+        Map<String, Integer> counts = new HashMap<>();
+        for (String word : words) {
+            counts.merge(word, 1, Integer::sum);
+        }
+        counts.forEach((key, value) -> {
+            if (value > 1) {
+                counter += key.hashCode();
+            }
+        });
+        return counts;
+    }
+
+    /**
+     * Sum the positive entries of a report row.
+     */
+    public int total296(int[] values) {
+        int total = 0;
+        for (int i = 0; i < values.length; i++) {
+            if (values[i] > 0) {
+                total += values[i];
+            }
+        }
+        return total;
+    }
+
+    public List<String> names297(List<String> input) {
+        List<String> result = new ArrayList<>();
+        for (int i = 0; i < input.size(); i++) {
+            String name = input.get(i);
+            if (name != null && !name.isEmpty()) {
+                result.add(name.trim());
+            }
+        }
+        return result;
+    }
+
+    public String label298(String code) {
+        switch (code) {
+            case "A":
+                return "alpha";
+            case "B":
+                return "beta";
+            case "C":
+                counter++;
+                break;
+            default:
+                return "unknown";
+        }
+        return code;
+    }
+
+    public URL location299(File file) throws IOException {
+        String[] children = file.list();
+        if (children != null && children.length > 5) {
+            return file.toURL();
+        }
+        return null;
+    }
+
+    static class Nested299 {
+        private final int id = 299;
+
+        int id() {
+            return id;
+        }
+    }
+
+    public Object create300(Class<?> type) throws Exception {
+        Date created = new Date();
+        Random random = new SecureRandom();
+        cache.put("created" + 300, created.toString() + random.nextInt());
+        return type.newInstance();
+    }
+
+    public int drain301(List<Integer> queue) {
+        int drained = 0;
+        while (true) {
+            if (queue.isEmpty()) {
+                break;
+            }
+            drained += queue.remove(0);
+        }
+        return drained;
+    }
+
+    @Deprecated
+    public byte[] encode302(String text) throws IOException {
+        byte[] bytes = text.getBytes("UTF-8");
+        if (text.equals(cache.get("last"))) {
+            return new byte[0];
+        }
+        cache.put("last", text);
+        return bytes;
+    }
+
+    public Map<String, Integer> histogram303(String[] words) {
+        Map<String, Integer> counts = new HashMap<>();
+        for (String word : words) {
+            counts.merge(word, 1, Integer::sum);
+        }
+        counts.forEach((key, value) -> {
+            if (value > 2) {
+                counter += key.hashCode();
+            }
+        });
+        return counts;
+    }
+
+    /**
+     * Sum the positive entries of a report row.
+     */
+    public int total304(int[] values) {
+        int total = 0;
+        for (int i = 0; i < values.length; i++) {
+            if (values[i] > 0) {
+                total += values[i];
+            }
+        }
+        return total;
+    }
+
+    public List<String> names305(List<String> input) {
+        List<String> result = new ArrayList<>();
+        for (int i = 0; i < input.size(); i++) {
+            String name = input.get(i);
+            if (name != null && !name.isEmpty()) {
+                result.add(name.trim());
+            }
+        }
+        return result;
+    }
+
+    public String label306(String code) {
+        switch (code) {
+            case "A":
+                return "alpha";
+            case "B":
+                return "beta";
+            case "C":
+                counter++;
+                break;
+            default:
+                return "unknown";
+        }
+        return code;
+    }
+
+    public URL location307(File file) throws IOException {
+        String[] children = file.list();
+        if (children != null && children.length > 6) {
+            return file.toURL();
+        }
+        return null;
+    }
+
+    public Object create308(Class<?> type) throws Exception {
+        Date created = new Date();
+        Random random = new SecureRandom();
+        cache.put("created" + 308, created.toString() + random.nextInt());
+        return type.newInstance();
+    }
+
+    public int drain309(List<Integer> queue) {
+        int drained = 0;
+        while (true) {
+            if (queue.isEmpty()) {
+                break;
+            }
+            drained += queue.remove(0);
+        }
+        return drained;
+    }
+
+    @Deprecated
+    public byte[] encode310(String text) throws IOException {
+        byte[] bytes = text.getBytes("UTF-8");
+        if (text.equals(cache.get("last"))) {
+            return new byte[0];
+        }
+        cache.put("last", text);
+        return bytes;
+    }
+
+    public Map<String, Integer> histogram311(String[] words) {
+        Map<String, Integer> counts = new HashMap<>();
+        for (String word : words) {
+            counts.merge(word, 1, Integer::sum);
+        }
+        counts.forEach((key, value) -> {
+            if (value > 3) {
+                counter += key.hashCode();
+            }
+        });
+        return counts;
+    }
+
+    /**
+     * Sum the positive entries of a report row.
+     */
+    public int total312(int[] values) {
+        int total = 0;
+        for (int i = 0; i < values.length; i++) {
+            if (values[i] > 0) {
+                total += values[i];
+            }
+        }
+        return total;
+    }
+
+    public List<String> names313(List<String> input) {
+        List<String> result = new ArrayList<>();
+        for (int i = 0; i < input.size(); i++) {
+            String name = input.get(i);
+            if (name != null && !name.isEmpty()) {
+                result.add(name.trim());
+            }
+        }
+        return result;
+    }
+
+    public String label314(String code) {
+        switch (code) {
+            case "A":
+                return "alpha";
+            case "B":
+                return "beta";
+            case "C":
+                counter++;
+                break;
+            default:
+                return "unknown";
+        }
+        return code;
+    }
+
+    public URL location315(File file) throws IOException {
+        String[] children = file.list();
+        if (children != null && children.length > 0) {
+            return file.toURL();
+        }
+        return null;
+    }
+
+    public Object create316(Class<?> type) throws Exception {
+        Date created = new Date();
+        Random random = new SecureRandom();
+        cache.put("created" + 316, created.toString() + random.nextInt());
+        return type.newInstance();
+    }
+
+    public int drain317(List<Integer> queue) {
+        int drained = 0;
+        while (true) {
+            if (queue.isEmpty()) {
+                break;
+            }
+            drained += queue.remove(0);
+        }
+        return drained;
+    }
+
+    @Deprecated
+    public byte[] encode318(String text) throws IOException {
+        byte[] bytes = text.getBytes("UTF-8");
+        if (text.equals(cache.get("last"))) {
+            return new byte[0];
+        }
+        cache.put("last", text);
+        return bytes;
+    }
+
+    public Map<String, Integer> histogram319(String[] words) {
+        Map<String, Integer> counts = new HashMap<>();
+        for (String word : words) {
+            counts.merge(word, 1, Integer::sum);
+        }
+        counts.forEach((key, value) -> {
+            if (value > 4) {
+                counter += key.hashCode();
+            }
+        });
+        return counts;
+    }
+
+    /**
+     * Sum the positive entries of a report row.
+     */
+    public int total320(int[] values) {
+        int total = 0;
+        for (int i = 0; i < values.length; i++) {
+            if (values[i] > 0) {
+                total += values[i];
+            }
+        }
+        return total;
+    }
+
+    public List<String> names321(List<String> input) {
+        List<String> result = new ArrayList<>();
+        for (int i = 0; i < input.size(); i++) {
+            String name = input.get(i);
+            if (name != null && !name.isEmpty()) {
+                result.add(name.trim());
+            }
+        }
+        return result;
+    }
+
+    public String label322(String code) {
+        switch (code) {
+            case "A":
+                return "alpha";
+            case "B":
+                return "beta";
+            case "C":
+                counter++;
+                break;
+            default:
+                return "unknown";
+        }
+        return code;
+    }
+
+    public URL location323(File file) throws IOException {
+        String[] children = file.list();
+        if (children != null && children.length > 1) {
+            return file.toURL();
+        }
+        return null;
+    }
+
+    public Object create324(Class<?> type) throws Exception {
+        Date created = new Date();
+        Random random = new SecureRandom();
+        cache.put("created" + 324, created.toString() + random.nextInt());
+        return type.newInstance();
+    }
+
+    public int drain325(List<Integer> queue) {
+        int drained = 0;
+        while (true) {
+            if (queue.isEmpty()) {
+                break;
+            }
+            drained += queue.remove(0);
+        }
+        return drained;
+    }
+
+    @Deprecated
+    public byte[] encode326(String text) throws IOException {
+        byte[] bytes = text.getBytes("UTF-8");
+        if (text.equals(cache.get("last"))) {
+            return new byte[0];
+        }
+        cache.put("last", text);
+        return bytes;
+    }
+
+    public Map<String, Integer> histogram327(String[] words) {
+        Map<String, Integer> counts = new HashMap<>();
+        for (String word : words) {
+            counts.merge(word, 1, Integer::sum);
+        }
+        counts.forEach((key, value) -> {
+            if (value > 5) {
+                counter += key.hashCode();
+            }
+        });
+        return counts;
+    }
+
+    /**
+     * Sum the positive entries of a report row.
+     */
+    public int total328(int[] values) {
+        int total = 0;
+        for (int i = 0; i < values.length; i++) {
+            if (values[i] > 0) {
+                total += values[i];
+            }
+        }
+        return total;
+    }
+
+    public List<String> names329(List<String> input) {
+        List<String> result = new ArrayList<>();
+        for (int i = 0; i < input.size(); i++) {
+            String name = input.get(i);
+            if (name != null && !name.isEmpty()) {
+                result.add(name.trim());
+            }
+        }
+        return result;
+    }
+
+    public String label330(String code) {
+        switch (code) {
+            case "A":
+                return "alpha";
+            case "B":
+                return "beta";
+            case "C":
+                counter++;
+                break;
+            default:
+                return "unknown";
+        }
+        return code;
+    }
+
+    public URL location331(File file) throws IOException {
+        String[] children = file.list();
+        if (children != null && children.length > 2) {
+            return file.toURL();
+        }
+        return null;
+    }
+
+    public Object create332(Class<?> type) throws Exception {
+        Date created = new Date();
+        Random random = new SecureRandom();
+        cache.put("created" + 332, created.toString() + random.nextInt());
+        return type.newInstance();
+    }
+
+    public int drain333(List<Integer> queue) {
+        int drained = 0;
+        while (true) {
+            if (queue.isEmpty()) {
+                break;
+            }
+            drained += queue.remove(0);
+        }
+        return drained;
+    }
+
+    @Deprecated
+    public byte[] encode334(String text) throws IOException {
+        byte[] bytes = text.getBytes("UTF-8");
+        if (text.equals(cache.get("last"))) {
+            return new byte[0];
+        }
+        cache.put("last", text);
+        return bytes;
+    }
+
+    public Map<String, Integer> histogram335(String[] words) {
+        Map<String, Integer> counts = new HashMap<>();
+        for (String word : words) {
+            counts.merge(word, 1, Integer::sum);
+        }
+        counts.forEach((key, value) -> {
+            if (value > 6) {
+                counter += key.hashCode();
+            }
+        });
+        return counts;
+    }
+
+    /**
+     * Sum the positive entries of a report row.
+     */
+    public int total336(int[] values) {
+        int total = 0;
+        for (int i = 0; i < values.length; i++) {
+            if (values[i] > 0) {
+                total += values[i];
+            }
+        }
+        return total;
+    }
+
+    public List<String> names337(List<String> input) {
+        List<String> result = new ArrayList<>();
+        for (int i = 0; i < input.size(); i++) {
+            String name = input.get(i);
+            if (name != null && !name.isEmpty()) {
+                result.add(name.trim());
+            }
+        }
+        return result;
+    }
+
+    public String label338(String code) {
+        switch (code) {
+            case "A":
+                return "alpha";
+            case "B":
+                return "beta";
+            case "C":
+                counter++;
+                break;
+            default:
+                return "unknown";
+        }
+        return code;
+    }
+
+    public URL location339(File file) throws IOException {
+        String[] children = file.list();
+        if (children != null && children.length > 3) {
+            return file.toURL();
+        }
+        return null;
+    }
+
+    public Object create340(Class<?> type) throws Exception {
+        Date created = new Date();
+        Random random = new SecureRandom();
+        cache.put("created" + 340, created.toString() + random.nextInt());
+        return type.newInstance();
+    }
+
+    public int drain341(List<Integer> queue) {
+        int drained = 0;
+        while (true) {
+            if (queue.isEmpty()) {
+                break;
+            }
+            drained += queue.remove(0);
+        }
+        return drained;
+    }
+
+    @Deprecated
+    public byte[] encode342(String text) throws IOException {
+        byte[] bytes = text.getBytes("UTF-8");
+        if (text.equals(cache.get("last"))) {
+            return new byte[0];
+        }
+        cache.put("last", text);
+        return bytes;
+    }
+
+    public Map<String, Integer> histogram343(String[] words) {
+        Map<String, Integer> counts = new HashMap<>();
+        for (String word : words) {
+            counts.merge(word, 1, Integer::sum);
+        }
+        counts.forEach((key, value) -> {
+            if (value > 0) {
+                counter += key.hashCode();
+            }
+        });
+        return counts;
+    }
+
+    /**
+     * Sum the positive entries of a report row.
+     */
+    public int total344(int[] values) {
+        int total = 0;
+        for (int i = 0; i < values.length; i++) {
+            if (values[i] > 0) {
+                total += values[i];
+            }
+        }
+        return total;
+    }
+
+    public List<String> names345(List<String> input) {
+        List<String> result = new ArrayList<>();
+        for (int i = 0; i < input.size(); i++) {
+            String name = input.get(i);
+            if (name != null && !name.isEmpty()) {
+                result.add(name.trim());
+            }
+        }
+        return result;
+    }
+
+    public String label346(String code) {
+        switch (code) {
+            case "A":
+                return "alpha";
+            case "B":
+                return "beta";
+            case "C":
+                counter++;
+                break;
+            default:
+                return "unknown";
+        }
+        return code;
+    }
+
+    public URL location347(File file) throws IOException {
+        String[] children = file.list();
+        if (children != null && children.length > 4) {
+            return file.toURL();
+        }
+        return null;
+    }
+
+    public Object create348(Class<?> type) throws Exception {
+        Date created = new Date();
+        Random random = new SecureRandom();
+        cache.put("created" + 348, created.toString() + random.nextInt());
+        return type.newInstance();
+    }
+
+    public int drain349(List<Integer> queue) {
+        int drained = 0;
+        while (true) {
+            if (queue.isEmpty()) {
+                break;
+            }
+            drained += queue.remove(0);
+        }
+        return drained;
+    }
+
+    static class Nested349 {
+        private final int id = 349;
+
+        int id() {
+            return id;
+        }
+    }
+
+    @Deprecated
+    public byte[] encode350(String text) throws IOException {
+        byte[] bytes = text.getBytes("UTF-8");
+        if (text.equals(cache.get("last"))) {
+            return new byte[0];
+        }
+        cache.put("last", text);
+        return bytes;
+    }
+
+    public Map<String, Integer> histogram351(String[] words) {
+        Map<String, Integer> counts = new HashMap<>();
+        for (String word : words) {
+            counts.merge(word, 1, Integer::sum);
+        }
+        counts.forEach((key, value) -> {
+            if (value > 1) {
+                counter += key.hashCode();
+            }
+        });
+        return counts;
+    }
+
+    /**
+     * Sum the positive entries of a report row.
+     */
+    public int total352(int[] values) {
+        int total = 0;
+        for (int i = 0; i < values.length; i++) {
+            if (values[i] > 0) {
+                total += values[i];
+            }
+        }
+        return total;
+    }
+
+    public List<String> names353(List<String> input) {
+        List<String> result = new ArrayList<>();
+        for (int i = 0; i < input.size(); i++) {
+            String name = input.get(i);
+            if (name != null && !name.isEmpty()) {
+                result.add(name.trim());
+            }
+        }
+        return result;
+    }
+
+    public String label354(String code) {
+        switch (code) {
+            case "A":
+                return "alpha";
+            case "B":
+                return "beta";
+            case "C":
+                counter++;
+                break;
+            default:
+                return "unknown";
+        }
+        return code;
+    }
+
+    public URL location355(File file) throws IOException {
+        String[] children = file.list();
+        if (children != null && children.length > 5) {
+            return file.toURL();
+        }
+        return null;
+    }
+
+    public Object create356(Class<?> type) throws Exception {
+        Date created = new Date();
+        Random random = new SecureRandom();
+        cache.put("created" + 356, created.toString() + random.nextInt());
+        return type.newInstance();
+    }
+
+    public int drain357(List<Integer> queue) {
+        int drained = 0;
+        while (true) {
+            if (queue.isEmpty()) {
+                break;
+            }
+            drained += queue.remove(0);
+        }
+        return drained;
+    }
+
+    @Deprecated
+    public byte[] encode358(String text) throws IOException {
+        byte[] bytes = text.getBytes("UTF-8");
+        if (text.equals(cache.get("last"))) {
+            return new byte[0];
+        }
+        cache.put("last", text);
+        return bytes;
+    }
+
+    public Map<String, Integer> histogram359(String[] words) {
+        Map<String, Integer> counts = new HashMap<>();
+        for (String word : words) {
+            counts.merge(word, 1, Integer::sum);
+        }
+        counts.forEach((key, value) -> {
+            if (value > 2) {
+                counter += key.hashCode();
+            }
+        });
+        return counts;
+    }
+
+    /**
+     * Sum the positive entries of a report row.
+     */
+    public int total360(int[] values) {
+        int total = 0;
+        for (int i = 0; i < values.length; i++) {
+            if (values[i] > 0) {
+                total += values[i];
+            }
+        }
+        return total;
+    }
+
+    public List<String> names361(List<String> input) {
+        List<String> result = new ArrayList<>();
+        for (int i = 0; i < input.size(); i++) {
+            String name = input.get(i);
+            if (name != null && !name.isEmpty()) {
+                result.add(name.trim());
+            }
+        }
+        return result;
+    }
+
+    public String label362(String code) {
+        switch (code) {
+            case "A":
+                return "alpha";
+            case "B":
+                return "beta";
+            case "C":
+                counter++;
+                break;
+            default:
+                return "unknown";
+        }
+        return code;
+    }
+
+    public URL location363(File file) throws IOException {
+        String[] children = file.list();
+        if (children != null && children.length > 6) {
+            return file.toURL();
+        }
+        return null;
+    }
+
+    public Object create364(Class<?> type) throws Exception {
+        Date created = new Date();
+        Random random = new SecureRandom();
+        cache.put("created" + 364, created.toString() + random.nextInt());
+        return type.newInstance();
+    }
+
+    public int drain365(List<Integer> queue) {
+        int drained = 0;
+        while (true) {
+            if (queue.isEmpty()) {
+                break;
+            }
+            drained += queue.remove(0);
+        }
+        return drained;
+    }
+
+    @Deprecated
+    public byte[] encode366(String text) throws IOException {
+        byte[] bytes = text.getBytes("UTF-8");
+        if (text.equals(cache.get("last"))) {
+            return new byte[0];
+        }
+        cache.put("last", text);
+        return bytes;
+    }
+
+    public Map<String, Integer> histogram367(String[] words) {
+        Map<String, Integer> counts = new HashMap<>();
+        for (String word : words) {
+            counts.merge(word, 1, Integer::sum);
+        }
+        counts.forEach((key, value) -> {
+            if (value > 3) {
+                counter += key.hashCode();
+            }
+        });
+        return counts;
+    }
+
+    /**
+     * Sum the positive entries of a report row.
+     */
+    public int total368(int[] values) {
+        int total = 0;
+        for (int i = 0; i < values.length; i++) {
+            if (values[i] > 0) {
+                total += values[i];
+            }
+        }
+        return total;
+    }
+
+    public List<String> names369(List<String> input) {
+        List<String> result = new ArrayList<>();
+        for (int i = 0; i < input.size(); i++) {
+            String name = input.get(i);
+            if (name != null && !name.isEmpty()) {
+                result.add(name.trim());
+            }
+        }
+        return result;
+    }
+
+    public String label370(String code) {
+        switch (code) {
+            case "A":
+                return "alpha";
+            case "B":
+                return "beta";
+            case "C":
+                counter++;
+                break;
+            default:
+                return "unknown";
+        }
+        return code;
+    }
+
+    public URL location371(File file) throws IOException {
+        String[] children = file.list();
+        if (children != null && children.length > 0) {
+            return file.toURL();
+        }
+        return null;
+    }
+
+    public Object create372(Class<?> type) throws Exception {
+        Date created = new Date();
+        Random random = new SecureRandom();
+        cache.put("created" + 372, created.toString() + random.nextInt());
+        return type.newInstance();
+    }
+
+    public int drain373(List<Integer> queue) {
+        int drained = 0;
+        while (true) {
+            if (queue.isEmpty()) {
+                break;
+            }
+            drained += queue.remove(0);
+        }
+        return drained;
+    }
+
+    @Deprecated
+    public byte[] encode374(String text) throws IOException {
+        byte[] bytes = text.getBytes("UTF-8");
+        if (text.equals(cache.get("last"))) {
+            return new byte[0];
+        }
+        cache.put("last", text);
+        return bytes;
+    }
+
+    public Map<String, Integer> histogram375(String[] words) {
+        Map<String, Integer> counts = new HashMap<>();
+        for (String word : words) {
+            counts.merge(word, 1, Integer::sum);
+        }
+        counts.forEach((key, value) -> {
+            if (value > 4) {
+                counter += key.hashCode();
+            }
+        });
+        return counts;
+    }
+
+    /**
+     * Sum the positive entries of a report row.
+     */
+    public int total376(int[] values) {
+        int total = 0;
+        for (int i = 0; i < values.length; i++) {
+            if (values[i] > 0) {
+                total += values[i];
+            }
+        }
+        return total;
+    }
+
+    public List<String> names377(List<String> input) {
+        List<String> result = new ArrayList<>();
+        for (int i = 0; i < input.size(); i++) {
+            String name = input.get(i);
+            if (name != null && !name.isEmpty()) {
+                result.add(name.trim());
+            }
+        }
+        return result;
+    }
+
+    public String label378(String code) {
+        switch (code) {
+            case "A":
+                return "alpha";
+            case "B":
+                return "beta";
+            case "C":
+                counter++;
+                break;
+            default:
+                return "unknown";
+        }
+        return code;
+    }
+
+    public URL location379(File file) throws IOException {
+        String[] children = file.list();
+        if (children != null && children.length > 1) {
+            return file.toURL();
+        }
+        return null;
+    }
+
+    public Object create380(Class<?> type) throws Exception {
+        Date created = new Date();
+        Random random = new SecureRandom();
+        cache.put("created" + 380, created.toString() + random.nextInt());
+        return type.newInstance();
+    }
+
+    public int drain381(List<Integer> queue) {
+        int drained = 0;
+        while (true) {
+            if (queue.isEmpty()) {
+                break;
+            }
+            drained += queue.remove(0);
+        }
+        return drained;
+    }
+
+    @Deprecated
+    public byte[] encode382(String text) throws IOException {
+        byte[] bytes = text.getBytes("UTF-8");
+        if (text.equals(cache.get("last"))) {
+            return new byte[0];
+        }
+        cache.put("last", text);
+        return bytes;
+    }
+
+    public Map<String, Integer> histogram383(String[] words) {
+        Map<String, Integer> counts = new HashMap<>();
+        for (String word : words) {
+            counts.merge(word, 1, Integer::sum);
+        }
+        counts.forEach((key, value) -> {
+            if (value > 5) {
+                counter += key.hashCode();
+            }
+        });
+        return counts;
+    }
+
+    /**
+     * Sum the positive entries of a report row.
+     */
+    public int total384(int[] values) {
+        int total = 0;
+        for (int i = 0; i < values.length; i++) {
+            if (values[i] > 0) {
+                total += values[i];
+            }
+        }
+        return total;
+    }
+
+    public List<String> names385(List<String> input) {
+        List<String> result = new ArrayList<>();
+        for (int i = 0; i < input.size(); i++) {
+            String name = input.get(i);
+            if (name != null && !name.isEmpty()) {
+                result.add(name.trim());
+            }
+        }
+        return result;
+    }
+
+    public String label386(String code) {
+        switch (code) {
+            case "A":
+                return "alpha";
+            case "B":
+                return "beta";
+            case "C":
+                counter++;
+                break;
+            default:
+                return "unknown";
+        }
+        return code;
+    }
+
+    public URL location387(File file) throws IOException {
+        String[] children = file.list();
+        if (children != null && children.length > 2) {
+            return file.toURL();
+        }
+        return null;
+    }
+
+    public Object create388(Class<?> type) throws Exception {
+        Date created = new Date();
+        Random random = new SecureRandom();
+        cache.put("created" + 388, created.toString() + random.nextInt());
+        return type.newInstance();
+    }
+
+    public int drain389(List<Integer> queue) {
+        int drained = 0;
+        while (true) {
+            if (queue.isEmpty()) {
+                break;
+            }
+            drained += queue.remove(0);
+        }
+        return drained;
+    }
+
+    @Deprecated
+    public byte[] encode390(String text) throws IOException {
+        byte[] bytes = text.getBytes("UTF-8");
+        if (text.equals(cache.get("last"))) {
+            return new byte[0];
+        }
+        cache.put("last", text);
+        return bytes;
+    }
+
+    public Map<String, Integer> histogram391(String[] words) {
+        Map<String, Integer> counts = new HashMap<>();
+        for (String word : words) {
+            counts.merge(word, 1, Integer::sum);
+        }
+        counts.forEach((key, value) -> {
+            if (value > 6) {
+                counter += key.hashCode();
+            }
+        });
+        return counts;
+    }
+
+    /**
+     * Sum the positive entries of a report row.
+     */
+    public int total392(int[] values) {
+        int total = 0;
+        for (int i = 0; i < values.length; i++) {
+            if (values[i] > 0) {
+                total += values[i];
+            }
+        }
+        return total;
+    }
+
+    public List<String> names393(List<String> input) {
+        List<String> result = new ArrayList<>();
+        for (int i = 0; i < input.size(); i++) {
+            String name = input.get(i);
+            if (name != null && !name.isEmpty()) {
+                result.add(name.trim());
+            }
+        }
+        return result;
+    }
+
+    public String label394(String code) {
+        switch (code) {
+            case "A":
+                return "alpha";
+            case "B":
+                return "beta";
+            case "C":
+                counter++;
+                break;
+            default:
+                return "unknown";
+        }
+        return code;
+    }
+
+    public URL location395(File file) throws IOException {
+        String[] children = file.list();
+        if (children != null && children.length > 3) {
+            return file.toURL();
+        }
+        return null;
+    }
+
+    public Object create396(Class<?> type) throws Exception {
+        Date created = new Date();
+        Random random = new SecureRandom();
+        cache.put("created" + 396, created.toString() + random.nextInt());
+        return type.newInstance();
+    }
+
+    public int drain397(List<Integer> queue) {
+        int drained = 0;
+        while (true) {
+            if (queue.isEmpty()) {
+                break;
+            }
+            drained += queue.remove(0);
+        }
+        return drained;
+    }
+
+    @Deprecated
+    public byte[] encode398(String text) throws IOException {
+        byte[] bytes = text.getBytes("UTF-8");
+        if (text.equals(cache.get("last"))) {
+            return new byte[0];
+        }
+        cache.put("last", text);
+        return bytes;
+    }
+
+    public Map<String, Integer> histogram399(String[] words) {
+        Map<String, Integer> counts = new HashMap<>();
+        for (String word : words) {
+            counts.merge(word, 1, Integer::sum);
+        }
+        counts.forEach((key, value) -> {
+            if (value > 0) {
+                counter += key.hashCode();
+            }
+        });
+        return counts;
+    }
+
+    static class Nested399 {
+        private final int id = 399;
+
+        int id() {
+            return id;
+        }
+    }
+
+    /**
+     * Sum the positive entries of a report row.
+     */
+    public int total400(int[] values) {
+        int total = 0;
+        for (int i = 0; i < values.length; i++) {
+            if (values[i] > 0) {
+                total += values[i];
+            }
+        }
+        return total;
+    }
+
+    public List<String> names401(List<String> input) {
+        List<String> result = new ArrayList<>();
+        for (int i = 0; i < input.size(); i++) {
+            String name = input.get(i);
+            if (name != null && !name.isEmpty()) {
+                result.add(name.trim());
+            }
+        }
+        return result;
+    }
+
+    public String label402(String code) {
+        switch (code) {
+            case "A":
+                return "alpha";
+            case "B":
+                return "beta";
+            case "C":
+                counter++;
+                break;
+            default:
+                return "unknown";
+        }
+        return code;
+    }
+
+    public URL location403(File file) throws IOException {
+        String[] children = file.list();
+        if (children != null && children.length > 4) {
+            return file.toURL();
+        }
+        return null;
+    }
+
+    public Object create404(Class<?> type) throws Exception {
+        Date created = new Date();
+        Random random = new SecureRandom();
+        cache.put("created" + 404, created.toString() + random.nextInt());
+        return type.newInstance();
+    }
+
+    public int drain405(List<Integer> queue) {
+        int drained = 0;
+        while (true) {
+            if (queue.isEmpty()) {
+                break;
+            }
+            drained += queue.remove(0);
+        }
+        return drained;
+    }
+
+    @Deprecated
+    public byte[] encode406(String text) throws IOException {
+        byte[] bytes = text.getBytes("UTF-8");
+        if (text.equals(cache.get("last"))) {
+            return new byte[0];
+        }
+        cache.put("last", text);
+        return bytes;
+    }
+
+    public Map<String, Integer> histogram407(String[] words) {
+        Map<String, Integer> counts = new HashMap<>();
+        for (String word : words) {
+            counts.merge(word, 1, Integer::sum);
+        }
+        counts.forEach((key, value) -> {
+            if (value > 1) {
+                counter += key.hashCode();
+            }
+        });
+        return counts;
+    }
+
+    /**
+     * Sum the positive entries of a report row.
+     */
+    public int total408(int[] values) {
+        int total = 0;
+        for (int i = 0; i < values.length; i++) {
+            if (values[i] > 0) {
+                total += values[i];
+            }
+        }
+        return total;
+    }
+
+    public List<String> names409(List<String> input) {
+        List<String> result = new ArrayList<>();
+        for (int i = 0; i < input.size(); i++) {
+            String name = input.get(i);
+            if (name != null && !name.isEmpty()) {
+                result.add(name.trim());
+            }
+        }
+        return result;
+    }
+
+    public String label410(String code) {
+        switch (code) {
+            case "A":
+                return "alpha";
+            case "B":
+                return "beta";
+            case "C":
+                counter++;
+                break;
+            default:
+                return "unknown";
+        }
+        return code;
+    }
+
+    public URL location411(File file) throws IOException {
+        String[] children = file.list();
+        if (children != null && children.length > 5) {
+            return file.toURL();
+        }
+        return null;
+    }
+
+    public Object create412(Class<?> type) throws Exception {
+        Date created = new Date();
+        Random random = new SecureRandom();
+        cache.put("created" + 412, created.toString() + random.nextInt());
+        return type.newInstance();
+    }
+
+    public int drain413(List<Integer> queue) {
+        int drained = 0;
+        while (true) {
+            if (queue.isEmpty()) {
+                break;
+            }
+            drained += queue.remove(0);
+        }
+        return drained;
+    }
+
+    @Deprecated
+    public byte[] encode414(String text) throws IOException {
+        byte[] bytes = text.getBytes("UTF-8");
+        if (text.equals(cache.get("last"))) {
+            return new byte[0];
+        }
+        cache.put("last", text);
+        return bytes;
+    }
+
+    public Map<String, Integer> histogram415(String[] words) {
+        Map<String, Integer> counts = new HashMap<>();
+        for (String word : words) {
+            counts.merge(word, 1, Integer::sum);
+        }
+        counts.forEach((key, value) -> {
+            if (value > 2) {
+                counter += key.hashCode();
+            }
+        });
+        return counts;
+    }
+
+    /**
+     * Sum the positive entries of a report row.
+     */
+    public int total416(int[] values) {
+        int total = 0;
+        for (int i = 0; i < values.length; i++) {
+            if (values[i] > 0) {
+                total += values[i];
+            }
+        }
+        return total;
+    }
+
+    public List<String> names417(List<String> input) {
+        List<String> result = new ArrayList<>();
+        for (int i = 0; i < input.size(); i++) {
+            String name = input.get(i);
+            if (name != null && !name.isEmpty()) {
+                result.add(name.trim());
+            }
+        }
+        return result;
+    }
+
+    public String label418(String code) {
+        switch (code) {
+            case "A":
+                return "alpha";
+            case "B":
+                return "beta";
+            case "C":
+                counter++;
+                break;
+            default:
+                return "unknown";
+        }
+        return code;
+    }
+
+    public URL location419(File file) throws IOException {
+        String[] children = file.list();
+        if (children != null && children.length > 6) {
+            return file.toURL();
+        }
+        return null;
+    }
+
+    public Object create420(Class<?> type) throws Exception {
+        Date created = new Date();
+        Random random = new SecureRandom();
+        cache.put("created" + 420, created.toString() + random.nextInt());
+        return type.newInstance();
+    }
+
+    public int drain421(List<Integer> queue) {
+        int drained = 0;
+        while (true) {
+            if (queue.isEmpty()) {
+                break;
+            }
+            drained += queue.remove(0);
+        }
+        return drained;
+    }
+
+    @Deprecated
+    public byte[] encode422(String text) throws IOException {
+        byte[] bytes = text.getBytes("UTF-8");
+        if (text.equals(cache.get("last"))) {
+            return new byte[0];
+        }
+        cache.put("last", text);
+        return bytes;
+    }
+
+    public Map<String, Integer> histogram423(String[] words) {
+        Map<String, Integer> counts = new HashMap<>();
+        for (String word : words) {
+            counts.merge(word, 1, Integer::sum);
+        }
+        counts.forEach((key, value) -> {
+            if (value > 3) {
+                counter += key.hashCode();
+            }
+        });
+        return counts;
+    }
+
+    /**
+     * Sum the positive entries of a report row.
+     */
+    public int total424(int[] values) {
+        int total = 0;
+        for (int i = 0; i < values.length; i++) {
+            if (values[i] > 0) {
+                total += values[i];
+            }
+        }
+        return total;
+    }
+
+    public List<String> names425(List<String> input) {
+        List<String> result = new ArrayList<>();
+        for (int i = 0; i < input.size(); i++) {
+            String name = input.get(i);
+            if (name != null && !name.isEmpty()) {
+                result.add(name.trim());
+            }
+        }
+        return result;
+    }
+
+    public String label426(String code) {
+        switch (code) {
+            case "A":
+                return "alpha";
+            case "B":
+                return "beta";
+            case "C":
+                counter++;
+                break;
+            default:
+                return "unknown";
+        }
+        return code;
+    }
+
+    public URL location427(File file) throws IOException {
+        String[] children = file.list();
+        if (children != null && children.length > 0) {
+            return file.toURL();
+        }
+        return null;
+    }
+
+    public Object create428(Class<?> type) throws Exception {
+        Date created = new Date();
+        Random random = new SecureRandom();
+        cache.put("created" + 428, created.toString() + random.nextInt());
+        return type.newInstance();
+    }
+
+    public int drain429(List<Integer> queue) {
+        int drained = 0;
+        while (true) {
+            if (queue.isEmpty()) {
+                break;
+            }
+            drained += queue.remove(0);
+        }
+        return drained;
+    }
+
+    @Deprecated
+    public byte[] encode430(String text) throws IOException {
+        byte[] bytes = text.getBytes("UTF-8");
+        if (text.equals(cache.get("last"))) {
+            return new byte[0];
+        }
+        cache.put("last", text);
+        return bytes;
+    }
+
+    public Map<String, Integer> histogram431(String[] words) {
+        Map<String, Integer> counts = new HashMap<>();
+        for (String word : words) {
+            counts.merge(word, 1, Integer::sum);
+        }
+        counts.forEach((key, value) -> {
+            if (value > 4) {
+                counter += key.hashCode();
+            }
+        });
+        return counts;
+    }
+
+    /**
+     * Sum the positive entries of a report row.
+     */
+    public int total432(int[] values) {
+        int total = 0;
+        for (int i = 0; i < values.length; i++) {
+            if (values[i] > 0) {
+                total += values[i];
+            }
+        }
+        return total;
+    }
+
+    public List<String> names433(List<String> input) {
+        List<String> result = new ArrayList<>();
+        for (int i = 0; i < input.size(); i++) {
+            String name = input.get(i);
+            if (name != null && !name.isEmpty()) {
+                result.add(name.trim());
+            }
+        }
+        return result;
+    }
+
+    public String label434(String code) {
+        switch (code) {
+            case "A":
+                return "alpha";
+            case "B":
+                return "beta";
+            case "C":
+                counter++;
+                break;
+            default:
+                return "unknown";
+        }
+        return code;
+    }
+
+    public URL location435(File file) throws IOException {
+        String[] children = file.list();
+        if (children != null && children.length > 1) {
+            return file.toURL();
+        }
+        return null;
+    }
+
+    public Object create436(Class<?> type) throws Exception {
+        Date created = new Date();
+        Random random = new SecureRandom();
+        cache.put("created" + 436, created.toString() + random.nextInt());
+        return type.newInstance();
+    }
+
+    public int drain437(List<Integer> queue) {
+        int drained = 0;
+        while (true) {
+            if (queue.isEmpty()) {
+                break;
+            }
+            drained += queue.remove(0);
+        }
+        return drained;
+    }
+
+    @Deprecated
+    public byte[] encode438(String text) throws IOException {
+        byte[] bytes = text.getBytes("UTF-8");
+        if (text.equals(cache.get("last"))) {
+            return new byte[0];
+        }
+        cache.put("last", text);
+        return bytes;
+    }
+
+    public Map<String, Integer> histogram439(String[] words) {
+        Map<String, Integer> counts = new HashMap<>();
+        for (String word : words) {
+            counts.merge(word, 1, Integer::sum);
+        }
+        counts.forEach((key, value) -> {
+            if (value > 5) {
+                counter += key.hashCode();
+            }
+        });
+        return counts;
+    }
+
+    /**
+     * Sum the positive entries of a report row.
+     */
+    public int total440(int[] values) {
+        int total = 0;
+        for (int i = 0; i < values.length; i++) {
+            if (values[i] > 0) {
+                total += values[i];
+            }
+        }
+        return total;
+    }
+
+    public List<String> names441(List<String> input) {
+        List<String> result = new ArrayList<>();
+        for (int i = 0; i < input.size(); i++) {
+            String name = input.get(i);
+            if (name != null && !name.isEmpty()) {
+                result.add(name.trim());
+            }
+        }
+        return result;
+    }
+
+    public String label442(String code) {
+        switch (code) {
+            case "A":
+                return "alpha";
+            case "B":
+                return "beta";
+            case "C":
+                counter++;
+                break;
+            default:
+                return "unknown";
+        }
+        return code;
+    }
+
+    public URL location443(File file) throws IOException {
+        String[] children = file.list();
+        if (children != null && children.length > 2) {
+            return file.toURL();
+        }
+        return null;
+    }
+
+    public Object create444(Class<?> type) throws Exception {
+        Date created = new Date();
+        Random random = new SecureRandom();
+        cache.put("created" + 444, created.toString() + random.nextInt());
+        return type.newInstance();
+    }
+
+    public int drain445(List<Integer> queue) {
+        int drained = 0;
+        while (true) {
+            if (queue.isEmpty()) {
+                break;
+            }
+            drained += queue.remove(0);
+        }
+        return drained;
+    }
+
+    @Deprecated
+    public byte[] encode446(String text) throws IOException {
+        byte[] bytes = text.getBytes("UTF-8");
+        if (text.equals(cache.get("last"))) {
+            return new byte[0];
+        }
+        cache.put("last", text);
+        return bytes;
+    }
+
+    public Map<String, Integer> histogram447(String[] words) {
+        Map<String, Integer> counts = new HashMap<>();
+        for (String word : words) {
+            counts.merge(word, 1, Integer::sum);
+        }
+        counts.forEach((key, value) -> {
+            if (value > 6) {
+                counter += key.hashCode();
+            }
+        });
+        return counts;
+    }
+
+    /**
+     * Sum the positive entries of a report row.
+     */
+    public int total448(int[] values) {
+        int total = 0;
+        for (int i = 0; i < values.length; i++) {
+            if (values[i] > 0) {
+                total += values[i];
+            }
+        }
+        return total;
+    }
+
+    public List<String> names449(List<String> input) {
+        List<String> result = new ArrayList<>();
+        for (int i = 0; i < input.size(); i++) {
+            String name = input.get(i);
+            if (name != null && !name.isEmpty()) {
+                result.add(name.trim());
+            }
+        }
+        return result;
+    }
+
+    static class Nested449 {
+        private final int id = 449;
+
+        int id() {
+            return id;
+        }
+    }
+
+    public String label450(String code) {
+        switch (code) {
+            case "A":
+                return "alpha";
+            case "B":
+                return "beta";
+            case "C":
+                counter++;
+                break;
+            default:
+                return "unknown";
+        }
+        return code;
+    }
+
+    public URL location451(File file) throws IOException {
+        String[] children = file.list();
+        if (children != null && children.length > 3) {
+            return file.toURL();
+        }
+        return null;
+    }
+
+    public Object create452(Class<?> type) throws Exception {
+        Date created = new Date();
+        Random random = new SecureRandom();
+        cache.put("created" + 452, created.toString() + random.nextInt());
+        return type.newInstance();
+    }
+
+    public int drain453(List<Integer> queue) {
+        int drained = 0;
+        while (true) {
+            if (queue.isEmpty()) {
+                break;
+            }
+            drained += queue.remove(0);
+        }
+        return drained;
+    }
+
+    @Deprecated
+    public byte[] encode454(String text) throws IOException {
+        byte[] bytes = text.getBytes("UTF-8");
+        if (text.equals(cache.get("last"))) {
+            return new byte[0];
+        }
+        cache.put("last", text);
+        return bytes;
+    }
+
+    public Map<String, Integer> histogram455(String[] words) {
+        Map<String, Integer> counts = new HashMap<>();
+        for (String word : words) {
+            counts.merge(word, 1, Integer::sum);
+        }
+        counts.forEach((key, value) -> {
+            if (value > 0) {
+                counter += key.hashCode();
+            }
+        });
+        return counts;
+    }
+
+    /**
+     * Sum the positive entries of a report row.
+     */
+    public int total456(int[] values) {
+        int total = 0;
+        for (int i = 0; i < values.length; i++) {
+            if (values[i] > 0) {
+                total += values[i];
+            }
+        }
+        return total;
+    }
+
+    public List<String> names457(List<String> input) {
+        List<String> result = new ArrayList<>();
+        for (int i = 0; i < input.size(); i++) {
+            String name = input.get(i);
+            if (name != null && !name.isEmpty()) {
+                result.add(name.trim());
+            }
+        }
+        return result;
+    }
+
+    public String label458(String code) {
+        switch (code) {
+            case "A":
+                return "alpha";
+            case "B":
+                return "beta";
+            case "C":
+                counter++;
+                break;
+            default:
+                return "unknown";
+        }
+        return code;
+    }
+
+    public URL location459(File file) throws IOException {
+        String[] children = file.list();
+        if (children != null && children.length > 4) {
+            return file.toURL();
+        }
+        return null;
+    }
+
+    public Object create460(Class<?> type) throws Exception {
+        Date created = new Date();
+        Random random = new SecureRandom();
+        cache.put("created" + 460, created.toString() + random.nextInt());
+        return type.newInstance();
+    }
+
+    public int drain461(List<Integer> queue) {
+        int drained = 0;
+        while (true) {
+            if (queue.isEmpty()) {
+                break;
+            }
+            drained += queue.remove(0);
+        }
+        return drained;
+    }
+
+    @Deprecated
+    public byte[] encode462(String text) throws IOException {
+        byte[] bytes = text.getBytes("UTF-8");
+        if (text.equals(cache.get("last"))) {
+            return new byte[0];
+        }
+        cache.put("last", text);
+        return bytes;
+    }
+
+    public Map<String, Integer> histogram463(String[] words) {
+        Map<String, Integer> counts = new HashMap<>();
+        for (String word : words) {
+            counts.merge(word, 1, Integer::sum);
+        }
+        counts.forEach((key, value) -> {
+            if (value > 1) {
+                counter += key.hashCode();
+            }
+        });
+        return counts;
+    }
+
+    /**
+     * Sum the positive entries of a report row.
+     */
+    public int total464(int[] values) {
+        int total = 0;
+        for (int i = 0; i < values.length; i++) {
+            if (values[i] > 0) {
+                total += values[i];
+            }
+        }
+        return total;
+    }
+
+    public List<String> names465(List<String> input) {
+        List<String> result = new ArrayList<>();
+        for (int i = 0; i < input.size(); i++) {
+            String name = input.get(i);
+            if (name != null && !name.isEmpty()) {
+                result.add(name.trim());
+            }
+        }
+        return result;
+    }
+
+    public String label466(String code) {
+        switch (code) {
+            case "A":
+                return "alpha";
+            case "B":
+                return "beta";
+            case "C":
+                counter++;
+                break;
+            default:
+                return "unknown";
+        }
+        return code;
+    }
+
+    public URL location467(File file) throws IOException {
+        String[] children = file.list();
+        if (children != null && children.length > 5) {
+            return file.toURL();
+        }
+        return null;
+    }
+
+    public Object create468(Class<?> type) throws Exception {
+        Date created = new Date();
+        Random random = new SecureRandom();
+        cache.put("created" + 468, created.toString() + random.nextInt());
+        return type.newInstance();
+    }
+
+    public int drain469(List<Integer> queue) {
+        int drained = 0;
+        while (true) {
+            if (queue.isEmpty()) {
+                break;
+            }
+            drained += queue.remove(0);
+        }
+        return drained;
+    }
+
+    @Deprecated
+    public byte[] encode470(String text) throws IOException {
+        byte[] bytes = text.getBytes("UTF-8");
+        if (text.equals(cache.get("last"))) {
+            return new byte[0];
+        }
+        cache.put("last", text);
+        return bytes;
+    }
+
+    public Map<String, Integer> histogram471(String[] words) {
+        Map<String, Integer> counts = new HashMap<>();
+        for (String word : words) {
+            counts.merge(word, 1, Integer::sum);
+        }
+        counts.forEach((key, value) -> {
+            if (value > 2) {
+                counter += key.hashCode();
+            }
+        });
+        return counts;
+    }
+
+    /**
+     * Sum the positive entries of a report row.
+     */
+    public int total472(int[] values) {
+        int total = 0;
+        for (int i = 0; i < values.length; i++) {
+            if (values[i] > 0) {
+                total += values[i];
+            }
+        }
+        return total;
+    }
+
+    public List<String> names473(List<String> input) {
+        List<String> result = new ArrayList<>();
+        for (int i = 0; i < input.size(); i++) {
+            String name = input.get(i);
+            if (name != null && !name.isEmpty()) {
+                result.add(name.trim());
+            }
+        }
+        return result;
+    }
+
+    public String label474(String code) {
+        switch (code) {
+            case "A":
+                return "alpha";
+            case "B":
+                return "beta";
+            case "C":
+                counter++;
+                break;
+            default:
+                return "unknown";
+        }
+        return code;
+    }
+
+    public URL location475(File file) throws IOException {
+        String[] children = file.list();
+        if (children != null && children.length > 6) {
+            return file.toURL();
+        }
+        return null;
+    }
+
+    public Object create476(Class<?> type) throws Exception {
+        Date created = new Date();
+        Random random = new SecureRandom();
+        cache.put("created" + 476, created.toString() + random.nextInt());
+        return type.newInstance();
+    }
+
+    public int drain477(List<Integer> queue) {
+        int drained = 0;
+        while (true) {
+            if (queue.isEmpty()) {
+                break;
+            }
+            drained += queue.remove(0);
+        }
+        return drained;
+    }
+
+    @Deprecated
+    public byte[] encode478(String text) throws IOException {
+        byte[] bytes = text.getBytes("UTF-8");
+        if (text.equals(cache.get("last"))) {
+            return new byte[0];
+        }
+        cache.put("last", text);
+        return bytes;
+    }
+
+    public Map<String, Integer> histogram479(String[] words) {
+        Map<String, Integer> counts = new HashMap<>();
+        for (String word : words) {
+            counts.merge(word, 1, Integer::sum);
+        }
+        counts.forEach((key, value) -> {
+            if (value > 3) {
+                counter += key.hashCode();
+            }
+        });
+        return counts;
+    }
+
+    /**
+     * Sum the positive entries of a report row.
+     */
+    public int total480(int[] values) {
+        int total = 0;
+        for (int i = 0; i < values.length; i++) {
+            if (values[i] > 0) {
+                total += values[i];
+            }
+        }
+        return total;
+    }
+
+    public List<String> names481(List<String> input) {
+        List<String> result = new ArrayList<>();
+        for (int i = 0; i < input.size(); i++) {
+            String name = input.get(i);
+            if (name != null && !name.isEmpty()) {
+                result.add(name.trim());
+            }
+        }
+        return result;
+    }
+
+    public String label482(String code) {
+        switch (code) {
+            case "A":
+                return "alpha";
+            case "B":
+                return "beta";
+            case "C":
+                counter++;
+                break;
+            default:
+                return "unknown";
+        }
+        return code;
+    }
+
+    public URL location483(File file) throws IOException {
+        String[] children = file.list();
+        if (children != null && children.length > 0) {
+            return file.toURL();
+        }
+        return null;
+    }
+
+    public Object create484(Class<?> type) throws Exception {
+        Date created = new Date();
+        Random random = new SecureRandom();
+        cache.put("created" + 484, created.toString() + random.nextInt());
+        return type.newInstance();
+    }
+
+    public int drain485(List<Integer> queue) {
+        int drained = 0;
+        while (true) {
+            if (queue.isEmpty()) {
+                break;
+            }
+            drained += queue.remove(0);
+        }
+        return drained;
+    }
+
+    @Deprecated
+    public byte[] encode486(String text) throws IOException {
+        byte[] bytes = text.getBytes("UTF-8");
+        if (text.equals(cache.get("last"))) {
+            return new byte[0];
+        }
+        cache.put("last", text);
+        return bytes;
+    }
+
+    public Map<String, Integer> histogram487(String[] words) {
+        Map<String, Integer> counts = new HashMap<>();
+        for (String word : words) {
+            counts.merge(word, 1, Integer::sum);
+        }
+        counts.forEach((key, value) -> {
+            if (value > 4) {
+                counter += key.hashCode();
+            }
+        });
+        return counts;
+    }
+
+    /**
+     * Sum the positive entries of a report row.
+     */
+    public int total488(int[] values) {
+        int total = 0;
+        for (int i = 0; i < values.length; i++) {
+            if (values[i] > 0) {
+                total += values[i];
+            }
+        }
+        return total;
+    }
+
+    public List<String> names489(List<String> input) {
+        List<String> result = new ArrayList<>();
+        for (int i = 0; i < input.size(); i++) {
+            String name = input.get(i);
+            if (name != null && !name.isEmpty()) {
+                result.add(name.trim());
+            }
+        }
+        return result;
+    }
+
+    public String label490(String code) {
+        switch (code) {
+            case "A":
+                return "alpha";
+            case "B":
+                return "beta";
+            case "C":
+                counter++;
+                break;
+            default:
+                return "unknown";
+        }
+        return code;
+    }
+
+    public URL location491(File file) throws IOException {
+        String[] children = file.list();
+        if (children != null && children.length > 1) {
+            return file.toURL();
+        }
+        return null;
+    }
+
+    public Object create492(Class<?> type) throws Exception {
+        Date created = new Date();
+        Random random = new SecureRandom();
+        cache.put("created" + 492, created.toString() + random.nextInt());
+        return type.newInstance();
+    }
+
+    public int drain493(List<Integer> queue) {
+        int drained = 0;
+        while (true) {
+            if (queue.isEmpty()) {
+                break;
+            }
+            drained += queue.remove(0);
+        }
+        return drained;
+    }
+
+    @Deprecated
+    public byte[] encode494(String text) throws IOException {
+        byte[] bytes = text.getBytes("UTF-8");
+        if (text.equals(cache.get("last"))) {
+            return new byte[0];
+        }
+        cache.put("last", text);
+        return bytes;
+    }
+
+    public Map<String, Integer> histogram495(String[] words) {
+        Map<String, Integer> counts = new HashMap<>();
+        for (String word : words) {
+            counts.merge(word, 1, Integer::sum);
+        }
+        counts.forEach((key, value) -> {
+            if (value > 5) {
+                counter += key.hashCode();
+            }
+        });
+        return counts;
+    }
+
+    /**
+     * Sum the positive entries of a report row.
+     */
+    public int total496(int[] values) {
+        int total = 0;
+        for (int i = 0; i < values.length; i++) {
+            if (values[i] > 0) {
+                total += values[i];
+            }
+        }
+        return total;
+    }
+
+    public List<String> names497(List<String> input) {
+        List<String> result = new ArrayList<>();
+        for (int i = 0; i < input.size(); i++) {
+            String name = input.get(i);
+            if (name != null && !name.isEmpty()) {
+                result.add(name.trim());
+            }
+        }
+        return result;
+    }
+
+    public String label498(String code) {
+        switch (code) {
+            case "A":
+                return "alpha";
+            case "B":
+                return "beta";
+            case "C":
+                counter++;
+                break;
+            default:
+                return "unknown";
+        }
+        return code;
+    }
+
+    public URL location499(File file) throws IOException {
+        String[] children = file.list();
+        if (children != null && children.length > 2) {
+            return file.toURL();
+        }
+        return null;
+    }
+
+    static class Nested499 {
+        private final int id = 499;
+
+        int id() {
+            return id;
+        }
+    }
+
+    public Object create500(Class<?> type) throws Exception {
+        Date created = new Date();
+        Random random = new SecureRandom();
+        cache.put("created" + 500, created.toString() + random.nextInt());
+        return type.newInstance();
+    }
+
+    public int drain501(List<Integer> queue) {
+        int drained = 0;
+        while (true) {
+            if (queue.isEmpty()) {
+                break;
+            }
+            drained += queue.remove(0);
+        }
+        return drained;
+    }
+
+    @Deprecated
+    public byte[] encode502(String text) throws IOException {
+        byte[] bytes = text.getBytes("UTF-8");
+        if (text.equals(cache.get("last"))) {
+            return new byte[0];
+        }
+        cache.put("last", text);
+        return bytes;
+    }
+
+    public Map<String, Integer> histogram503(String[] words) {
+        Map<String, Integer> counts = new HashMap<>();
+        for (String word : words) {
+            counts.merge(word, 1, Integer::sum);
+        }
+        counts.forEach((key, value) -> {
+            if (value > 6) {
+                counter += key.hashCode();
+            }
+        });
+        return counts;
+    }
+
+    /**
+     * Sum the positive entries of a report row.
+     */
+    public int total504(int[] values) {
+        int total = 0;
+        for (int i = 0; i < values.length; i++) {
+            if (values[i] > 0) {
+                total += values[i];
+            }
+        }
+        return total;
+    }
+
+    public List<String> names505(List<String> input) {
+        List<String> result = new ArrayList<>();
+        for (int i = 0; i < input.size(); i++) {
+            String name = input.get(i);
+            if (name != null && !name.isEmpty()) {
+                result.add(name.trim());
+            }
+        }
+        return result;
+    }
+
+    public String label506(String code) {
+        switch (code) {
+            case "A":
+                return "alpha";
+            case "B":
+                return "beta";
+            case "C":
+                counter++;
+                break;
+            default:
+                return "unknown";
+        }
+        return code;
+    }
+
+    public URL location507(File file) throws IOException {
+        String[] children = file.list();
+        if (children != null && children.length > 3) {
+            return file.toURL();
+        }
+        return null;
+    }
+
+    public Object create508(Class<?> type) throws Exception {
+        Date created = new Date();
+        Random random = new SecureRandom();
+        cache.put("created" + 508, created.toString() + random.nextInt());
+        return type.newInstance();
+    }
+
+    public int drain509(List<Integer> queue) {
+        int drained = 0;
+        while (true) {
+            if (queue.isEmpty()) {
+                break;
+            }
+            drained += queue.remove(0);
+        }
+        return drained;
+    }
+
+    @Deprecated
+    public byte[] encode510(String text) throws IOException {
+        byte[] bytes = text.getBytes("UTF-8");
+        if (text.equals(cache.get("last"))) {
+            return new byte[0];
+        }
+        cache.put("last", text);
+        return bytes;
+    }
+
+    public Map<String, Integer> histogram511(String[] words) {
+        Map<String, Integer> counts = new HashMap<>();
+        for (String word : words) {
+            counts.merge(word, 1, Integer::sum);
+        }
+        counts.forEach((key, value) -> {
+            if (value > 0) {
+                counter += key.hashCode();
+            }
+        });
+        return counts;
+    }
+
+    /**
+     * Sum the positive entries of a report row.
+     */
+    public int total512(int[] values) {
+        int total = 0;
+        for (int i = 0; i < values.length; i++) {
+            if (values[i] > 0) {
+                total += values[i];
+            }
+        }
+        return total;
+    }
+
+    public List<String> names513(List<String> input) {
+        List<String> result = new ArrayList<>();
+        for (int i = 0; i < input.size(); i++) {
+            String name = input.get(i);
+            if (name != null && !name.isEmpty()) {
+                result.add(name.trim());
+            }
+        }
+        return result;
+    }
+
+    public String label514(String code) {
+        switch (code) {
+            case "A":
+                return "alpha";
+            case "B":
+                return "beta";
+            case "C":
+                counter++;
+                break;
+            default:
+                return "unknown";
+        }
+        return code;
+    }
+
+    public URL location515(File file) throws IOException {
+        String[] children = file.list();
+        if (children != null && children.length > 4) {
+            return file.toURL();
+        }
+        return null;
+    }
+
+    public Object create516(Class<?> type) throws Exception {
+        Date created = new Date();
+        Random random = new SecureRandom();
+        cache.put("created" + 516, created.toString() + random.nextInt());
+        return type.newInstance();
+    }
+
+    public int drain517(List<Integer> queue) {
+        int drained = 0;
+        while (true) {
+            if (queue.isEmpty()) {
+                break;
+            }
+            drained += queue.remove(0);
+        }
+        return drained;
+    }
+
+    @Deprecated
+    public byte[] encode518(String text) throws IOException {
+        byte[] bytes = text.getBytes("UTF-8");
+        if (text.equals(cache.get("last"))) {
+            return new byte[0];
+        }
+        cache.put("last", text);
+        return bytes;
+    }
+
+    public Map<String, Integer> histogram519(String[] words) {
+        Map<String, Integer> counts = new HashMap<>();
+        for (String word : words) {
+            counts.merge(word, 1, Integer::sum);
+        }
+        counts.forEach((key, value) -> {
+            if (value > 1) {
+                counter += key.hashCode();
+            }
+        });
+        return counts;
+    }
+
+    /**
+     * Sum the positive entries of a report row.
+     */
+    public int total520(int[] values) {
+        int total = 0;
+        for (int i = 0; i < values.length; i++) {
+            if (values[i] > 0) {
+                total += values[i];
+            }
+        }
+        return total;
+    }
+
+    public List<String> names521(List<String> input) {
+        List<String> result = new ArrayList<>();
+        for (int i = 0; i < input.size(); i++) {
+            String name = input.get(i);
+            if (name != null && !name.isEmpty()) {
+                result.add(name.trim());
+            }
+        }
+        return result;
+    }
+
+    public String label522(String code) {
+        switch (code) {
+            case "A":
+                return "alpha";
+            case "B":
+                return "beta";
+            case "C":
+                counter++;
+                break;
+            default:
+                return "unknown";
+        }
+        return code;
+    }
+
+    public URL location523(File file) throws IOException {
+        String[] children = file.list();
+        if (children != null && children.length > 5) {
+            return file.toURL();
+        }
+        return null;
+    }
+
+    public Object create524(Class<?> type) throws Exception {
+        Date created = new Date();
+        Random random = new SecureRandom();
+        cache.put("created" + 524, created.toString() + random.nextInt());
+        return type.newInstance();
+    }
+
+    public int drain525(List<Integer> queue) {
+        int drained = 0;
+        while (true) {
+            if (queue.isEmpty()) {
+                break;
+            }
+            drained += queue.remove(0);
+        }
+        return drained;
+    }
+
+    @Deprecated
+    public byte[] encode526(String text) throws IOException {
+        byte[] bytes = text.getBytes("UTF-8");
+        if (text.equals(cache.get("last"))) {
+            return new byte[0];
+        }
+        cache.put("last", text);
+        return bytes;
+    }
+
+    public Map<String, Integer> histogram527(String[] words) {
+        Map<String, Integer> counts = new HashMap<>();
+        for (String word : words) {
+            counts.merge(word, 1, Integer::sum);
+        }
+        counts.forEach((key, value) -> {
+            if (value > 2) {
+                counter += key.hashCode();
+            }
+        });
+        return counts;
+    }
+
+    /**
+     * Sum the positive entries of a report row.
+     */
+    public int total528(int[] values) {
+        int total = 0;
+        for (int i = 0; i < values.length; i++) {
+            if (values[i] > 0) {
+                total += values[i];
+            }
+        }
+        return total;
+    }
+
+    public List<String> names529(List<String> input) {
+        List<String> result = new ArrayList<>();
+        for (int i = 0; i < input.size(); i++) {
+            String name = input.get(i);
+            if (name != null && !name.isEmpty()) {
+                result.add(name.trim());
+            }
+        }
+        return result;
+    }
+
+    public String label530(String code) {
+        switch (code) {
+            case "A":
+                return "alpha";
+            case "B":
+                return "beta";
+            case "C":
+                counter++;
+                break;
+            default:
+                return "unknown";
+        }
+        return code;
+    }
+
+    public URL location531(File file) throws IOException {
+        String[] children = file.list();
+        if (children != null && children.length > 6) {
+            return file.toURL();
+        }
+        return null;
+    }
+
+    public Object create532(Class<?> type) throws Exception {
+        Date created = new Date();
+        Random random = new SecureRandom();
+        cache.put("created" + 532, created.toString() + random.nextInt());
+        return type.newInstance();
+    }
+
+    public int drain533(List<Integer> queue) {
+        int drained = 0;
+        while (true) {
+            if (queue.isEmpty()) {
+                break;
+            }
+            drained += queue.remove(0);
+        }
+        return drained;
+    }
+
+    @Deprecated
+    public byte[] encode534(String text) throws IOException {
+        byte[] bytes = text.getBytes("UTF-8");
+        if (text.equals(cache.get("last"))) {
+            return new byte[0];
+        }
+        cache.put("last", text);
+        return bytes;
+    }
+
+    public Map<String, Integer> histogram535(String[] words) {
+        Map<String, Integer> counts = new HashMap<>();
+        for (String word : words) {
+            counts.merge(word, 1, Integer::sum);
+        }
+        counts.forEach((key, value) -> {
+            if (value > 3) {
+                counter += key.hashCode();
+            }
+        });
+        return counts;
+    }
+
+    /**
+     * Sum the positive entries of a report row.
+     */
+    public int total536(int[] values) {
+        int total = 0;
+        for (int i = 0; i < values.length; i++) {
+            if (values[i] > 0) {
+                total += values[i];
+            }
+        }
+        return total;
+    }
+
+    public List<String> names537(List<String> input) {
+        List<String> result = new ArrayList<>();
+        for (int i = 0; i < input.size(); i++) {
+            String name = input.get(i);
+            if (name != null && !name.isEmpty()) {
+                result.add(name.trim());
+            }
+        }
+        return result;
+    }
+
+    public String label538(String code) {
+        switch (code) {
+            case "A":
+                return "alpha";
+            case "B":
+                return "beta";
+            case "C":
+                counter++;
+                break;
+            default:
+                return "unknown";
+        }
+        return code;
+    }
+
+    public URL location539(File file) throws IOException {
+        String[] children = file.list();
+        if (children != null && children.length > 0) {
+            return file.toURL();
+        }
+        return null;
+    }
+
+    public Object create540(Class<?> type) throws Exception {
+        Date created = new Date();
+        Random random = new SecureRandom();
+        cache.put("created" + 540, created.toString() + random.nextInt());
+        return type.newInstance();
+    }
+
+    public int drain541(List<Integer> queue) {
+        int drained = 0;
+        while (true) {
+            if (queue.isEmpty()) {
+                break;
+            }
+            drained += queue.remove(0);
+        }
+        return drained;
+    }
+
+    @Deprecated
+    public byte[] encode542(String text) throws IOException {
+        byte[] bytes = text.getBytes("UTF-8");
+        if (text.equals(cache.get("last"))) {
+            return new byte[0];
+        }
+        cache.put("last", text);
+        return bytes;
+    }
+
+    public Map<String, Integer> histogram543(String[] words) {
+        Map<String, Integer> counts = new HashMap<>();
+        for (String word : words) {
+            counts.merge(word, 1, Integer::sum);
+        }
+        counts.forEach((key, value) -> {
+            if (value > 4) {
+                counter += key.hashCode();
+            }
+        });
+        return counts;
+    }
+
+    /**
+     * Sum the positive entries of a report row.
+     */
+    public int total544(int[] values) {
+        int total = 0;
+        for (int i = 0; i < values.length; i++) {
+            if (values[i] > 0) {
+                total += values[i];
+            }
+        }
+        return total;
+    }
+
+    public List<String> names545(List<String> input) {
+        List<String> result = new ArrayList<>();
+        for (int i = 0; i < input.size(); i++) {
+            String name = input.get(i);
+            if (name != null && !name.isEmpty()) {
+                result.add(name.trim());
+            }
+        }
+        return result;
+    }
+
+    public String label546(String code) {
+        switch (code) {
+            case "A":
+                return "alpha";
+            case "B":
+                return "beta";
+            case "C":
+                counter++;
+                break;
+            default:
+                return "unknown";
+        }
+        return code;
+    }
+
+    public URL location547(File file) throws IOException {
+        String[] children = file.list();
+        if (children != null && children.length > 1) {
+            return file.toURL();
+        }
+        return null;
+    }
+
+    public Object create548(Class<?> type) throws Exception {
+        Date created = new Date();
+        Random random = new SecureRandom();
+        cache.put("created" + 548, created.toString() + random.nextInt());
+        return type.newInstance();
+    }
+
+    public int drain549(List<Integer> queue) {
+        int drained = 0;
+        while (true) {
+            if (queue.isEmpty()) {
+                break;
+            }
+            drained += queue.remove(0);
+        }
+        return drained;
+    }
+
+    static class Nested549 {
+        private final int id = 549;
+
+        int id() {
+            return id;
+        }
+    }
+
+    @Deprecated
+    public byte[] encode550(String text) throws IOException {
+        byte[] bytes = text.getBytes("UTF-8");
+        if (text.equals(cache.get("last"))) {
+            return new byte[0];
+        }
+        cache.put("last", text);
+        return bytes;
+    }
+
+    public Map<String, Integer> histogram551(String[] words) {
+        Map<String, Integer> counts = new HashMap<>();
+        for (String word : words) {
+            counts.merge(word, 1, Integer::sum);
+        }
+        counts.forEach((key, value) -> {
+            if (value > 5) {
+                counter += key.hashCode();
+            }
+        });
+        return counts;
+    }
+
+    /**
+     * Sum the positive entries of a report row.
+     */
+    public int total552(int[] values) {
+        int total = 0;
+        for (int i = 0; i < values.length; i++) {
+            if (values[i] > 0) {
+                total += values[i];
+            }
+        }
+        return total;
+    }
+
+    public List<String> names553(List<String> input) {
+        List<String> result = new ArrayList<>();
+        for (int i = 0; i < input.size(); i++) {
+            String name = input.get(i);
+            if (name != null && !name.isEmpty()) {
+                result.add(name.trim());
+            }
+        }
+        return result;
+    }
+
+    public String label554(String code) {
+        switch (code) {
+            case "A":
+                return "alpha";
+            case "B":
+                return "beta";
+            case "C":
+                counter++;
+                break;
+            default:
+                return "unknown";
+        }
+        return code;
+    }
+
+    public URL location555(File file) throws IOException {
+        String[] children = file.list();
+        if (children != null && children.length > 2) {
+            return file.toURL();
+        }
+        return null;
+    }
+
+    public Object create556(Class<?> type) throws Exception {
+        Date created = new Date();
+        Random random = new SecureRandom();
+        cache.put("created" + 556, created.toString() + random.nextInt());
+        return type.newInstance();
+    }
+
+    public int drain557(List<Integer> queue) {
+        int drained = 0;
+        while (true) {
+            if (queue.isEmpty()) {
+                break;
+            }
+            drained += queue.remove(0);
+        }
+        return drained;
+    }
+
+    @Deprecated
+    public byte[] encode558(String text) throws IOException {
+        byte[] bytes = text.getBytes("UTF-8");
+        if (text.equals(cache.get("last"))) {
+            return new byte[0];
+        }
+        cache.put("last", text);
+        return bytes;
+    }
+
+    public Map<String, Integer> histogram559(String[] words) {
+        Map<String, Integer> counts = new HashMap<>();
+        for (String word : words) {
+            counts.merge(word, 1, Integer::sum);
+        }
+        counts.forEach((key, value) -> {
+            if (value > 6) {
+                counter += key.hashCode();
+            }
+        });
+        return counts;
+    }
+
+    /**
+     * Sum the positive entries of a report row.
+     */
+    public int total560(int[] values) {
+        int total = 0;
+        for (int i = 0; i < values.length; i++) {
+            if (values[i] > 0) {
+                total += values[i];
+            }
+        }
+        return total;
+    }
+
+    public List<String> names561(List<String> input) {
+        List<String> result = new ArrayList<>();
+        for (int i = 0; i < input.size(); i++) {
+            String name = input.get(i);
+            if (name != null && !name.isEmpty()) {
+                result.add(name.trim());
+            }
+        }
+        return result;
+    }
+
+    public String label562(String code) {
+        switch (code) {
+            case "A":
+                return "alpha";
+            case "B":
+                return "beta";
+            case "C":
+                counter++;
+                break;
+            default:
+                return "unknown";
+        }
+        return code;
+    }
+
+    public URL location563(File file) throws IOException {
+        String[] children = file.list();
+        if (children != null && children.length > 3) {
+            return file.toURL();
+        }
+        return null;
+    }
+
+    public Object create564(Class<?> type) throws Exception {
+        Date created = new Date();
+        Random random = new SecureRandom();
+        cache.put("created" + 564, created.toString() + random.nextInt());
+        return type.newInstance();
+    }
+
+    public int drain565(List<Integer> queue) {
+        int drained = 0;
+        while (true) {
+            if (queue.isEmpty()) {
+                break;
+            }
+            drained += queue.remove(0);
+        }
+        return drained;
+    }
+
+    @Deprecated
+    public byte[] encode566(String text) throws IOException {
+        byte[] bytes = text.getBytes("UTF-8");
+        if (text.equals(cache.get("last"))) {
+            return new byte[0];
+        }
+        cache.put("last", text);
+        return bytes;
+    }
+
+    public Map<String, Integer> histogram567(String[] words) {
+        Map<String, Integer> counts = new HashMap<>();
+        for (String word : words) {
+            counts.merge(word, 1, Integer::sum);
+        }
+        counts.forEach((key, value) -> {
+            if (value > 0) {
+                counter += key.hashCode();
+            }
+        });
+        return counts;
+    }
+
+    /**
+     * Sum the positive entries of a report row.
+     */
+    public int total568(int[] values) {
+        int total = 0;
+        for (int i = 0; i < values.length; i++) {
+            if (values[i] > 0) {
+                total += values[i];
+            }
+        }
+        return total;
+    }
+
+    public List<String> names569(List<String> input) {
+        List<String> result = new ArrayList<>();
+        for (int i = 0; i < input.size(); i++) {
+            String name = input.get(i);
+            if (name != null && !name.isEmpty()) {
+                result.add(name.trim());
+            }
+        }
+        return result;
+    }
+
+    public String label570(String code) {
+        switch (code) {
+            case "A":
+                return "alpha";
+            case "B":
+                return "beta";
+            case "C":
+                counter++;
+                break;
+            default:
+                return "unknown";
+        }
+        return code;
+    }
+
+    public URL location571(File file) throws IOException {
+        String[] children = file.list();
+        if (children != null && children.length > 4) {
+            return file.toURL();
+        }
+        return null;
+    }
+
+    public Object create572(Class<?> type) throws Exception {
+        Date created = new Date();
+        Random random = new SecureRandom();
+        cache.put("created" + 572, created.toString() + random.nextInt());
+        return type.newInstance();
+    }
+
+    public int drain573(List<Integer> queue) {
+        int drained = 0;
+        while (true) {
+            if (queue.isEmpty()) {
+                break;
+            }
+            drained += queue.remove(0);
+        }
+        return drained;
+    }
+
+    @Deprecated
+    public byte[] encode574(String text) throws IOException {
+        byte[] bytes = text.getBytes("UTF-8");
+        if (text.equals(cache.get("last"))) {
+            return new byte[0];
+        }
+        cache.put("last", text);
+        return bytes;
+    }
+
+    public Map<String, Integer> histogram575(String[] words) {
+        Map<String, Integer> counts = new HashMap<>();
+        for (String word : words) {
+            counts.merge(word, 1, Integer::sum);
+        }
+        counts.forEach((key, value) -> {
+            if (value > 1) {
+                counter += key.hashCode();
+            }
+        });
+        return counts;
+    }
+
+    /**
+     * Sum the positive entries of a report row.
+     */
+    public int total576(int[] values) {
+        int total = 0;
+        for (int i = 0; i < values.length; i++) {
+            if (values[i] > 0) {
+                total += values[i];
+            }
+        }
+        return total;
+    }
+
+    public List<String> names577(List<String> input) {
+        List<String> result = new ArrayList<>();
+        for (int i = 0; i < input.size(); i++) {
+            String name = input.get(i);
+            if (name != null && !name.isEmpty()) {
+                result.add(name.trim());
+            }
+        }
+        return result;
+    }
+
+    public String label578(String code) {
+        switch (code) {
+            case "A":
+                return "alpha";
+            case "B":
+                return "beta";
+            case "C":
+                counter++;
+                break;
+            default:
+                return "unknown";
+        }
+        return code;
+    }
+
+    public URL location579(File file) throws IOException {
+        String[] children = file.list();
+        if (children != null && children.length > 5) {
+            return file.toURL();
+        }
+        return null;
+    }
+
+    public Object create580(Class<?> type) throws Exception {
+        Date created = new Date();
+        Random random = new SecureRandom();
+        cache.put("created" + 580, created.toString() + random.nextInt());
+        return type.newInstance();
+    }
+
+    public int drain581(List<Integer> queue) {
+        int drained = 0;
+        while (true) {
+            if (queue.isEmpty()) {
+                break;
+            }
+            drained += queue.remove(0);
+        }
+        return drained;
+    }
+
+    @Deprecated
+    public byte[] encode582(String text) throws IOException {
+        byte[] bytes = text.getBytes("UTF-8");
+        if (text.equals(cache.get("last"))) {
+            return new byte[0];
+        }
+        cache.put("last", text);
+        return bytes;
+    }
+
+    public Map<String, Integer> histogram583(String[] words) {
+        Map<String, Integer> counts = new HashMap<>();
+        for (String word : words) {
+            counts.merge(word, 1, Integer::sum);
+        }
+        counts.forEach((key, value) -> {
+            if (value > 2) {
+                counter += key.hashCode();
+            }
+        });
+        return counts;
+    }
+
+    /**
+     * Sum the positive entries of a report row.
+     */
+    public int total584(int[] values) {
+        int total = 0;
+        for (int i = 0; i < values.length; i++) {
+            if (values[i] > 0) {
+                total += values[i];
+            }
+        }
+        return total;
+    }
+
+    public List<String> names585(List<String> input) {
+        List<String> result = new ArrayList<>();
+        for (int i = 0; i < input.size(); i++) {
+            String name = input.get(i);
+            if (name != null && !name.isEmpty()) {
+                result.add(name.trim());
+            }
+        }
+        return result;
+    }
+
+    public String label586(String code) {
+        switch (code) {
+            case "A":
+                return "alpha";
+            case "B":
+                return "beta";
+            case "C":
+                counter++;
+                break;
+            default:
+                return "unknown";
+        }
+        return code;
+    }
+
+    public URL location587(File file) throws IOException {
+        String[] children = file.list();
+        if (children != null && children.length > 6) {
+            return file.toURL();
+        }
+        return null;
+    }
+
+    public Object create588(Class<?> type) throws Exception {
+        Date created = new Date();
+        Random random = new SecureRandom();
+        cache.put("created" + 588, created.toString() + random.nextInt());
+        return type.newInstance();
+    }
+
+    public int drain589(List<Integer> queue) {
+        int drained = 0;
+        while (true) {
+            if (queue.isEmpty()) {
+                break;
+            }
+            drained += queue.remove(0);
+        }
+        return drained;
+    }
+
+    @Deprecated
+    public byte[] encode590(String text) throws IOException {
+        byte[] bytes = text.getBytes("UTF-8");
+        if (text.equals(cache.get("last"))) {
+            return new byte[0];
+        }
+        cache.put("last", text);
+        return bytes;
+    }
+
+    public Map<String, Integer> histogram591(String[] words) {
+        Map<String, Integer> counts = new HashMap<>();
+        for (String word : words) {
+            counts.merge(word, 1, Integer::sum);
+        }
+        counts.forEach((key, value) -> {
+            if (value > 3) {
+                counter += key.hashCode();
+            }
+        });
+        return counts;
+    }
+
+    /**
+     * Sum the positive entries of a report row.
+     */
+    public int total592(int[] values) {
+        int total = 0;
+        for (int i = 0; i < values.length; i++) {
+            if (values[i] > 0) {
+                total += values[i];
+            }
+        }
+        return total;
+    }
+
+    public List<String> names593(List<String> input) {
+        List<String> result = new ArrayList<>();
+        for (int i = 0; i < input.size(); i++) {
+            String name = input.get(i);
+            if (name != null && !name.isEmpty()) {
+                result.add(name.trim());
+            }
+        }
+        return result;
+    }
+
+    public String label594(String code) {
+        switch (code) {
+            case "A":
+                return "alpha";
+            case "B":
+                return "beta";
+            case "C":
+                counter++;
+                break;
+            default:
+                return "unknown";
+        }
+        return code;
+    }
+
+    public URL location595(File file) throws IOException {
+        String[] children = file.list();
+        if (children != null && children.length > 0) {
+            return file.toURL();
+        }
+        return null;
+    }
+
+    public Object create596(Class<?> type) throws Exception {
+        Date created = new Date();
+        Random random = new SecureRandom();
+        cache.put("created" + 596, created.toString() + random.nextInt());
+        return type.newInstance();
+    }
+
+    public int drain597(List<Integer> queue) {
+        int drained = 0;
+        while (true) {
+            if (queue.isEmpty()) {
+                break;
+            }
+            drained += queue.remove(0);
+        }
+        return drained;
+    }
+
+    @Deprecated
+    public byte[] encode598(String text) throws IOException {
+        byte[] bytes = text.getBytes("UTF-8");
+        if (text.equals(cache.get("last"))) {
+            return new byte[0];
+        }
+        cache.put("last", text);
+        return bytes;
+    }
+
+    public Map<String, Integer> histogram599(String[] words) {
+        Map<String, Integer> counts = new HashMap<>();
+        for (String word : words) {
+            counts.merge(word, 1, Integer::sum);
+        }
+        counts.forEach((key, value) -> {
+            if (value > 4) {
+                counter += key.hashCode();
+            }
+        });
+        return counts;
+    }
+
+    static class Nested599 {
+        private final int id = 599;
+
+        int id() {
+            return id;
+        }
+    }
+
+    /**
+     * Sum the positive entries of a report row.
+     */
+    public int total600(int[] values) {
+        int total = 0;
+        for (int i = 0; i < values.length; i++) {
+            if (values[i] > 0) {
+                total += values[i];
+            }
+        }
+        return total;
+    }
+
+    public List<String> names601(List<String> input) {
+        List<String> result = new ArrayList<>();
+        for (int i = 0; i < input.size(); i++) {
+            String name = input.get(i);
+            if (name != null && !name.isEmpty()) {
+                result.add(name.trim());
+            }
+        }
+        return result;
+    }
+
+    public String label602(String code) {
+        switch (code) {
+            case "A":
+                return "alpha";
+            case "B":
+                return "beta";
+            case "C":
+                counter++;
+                break;
+            default:
+                return "unknown";
+        }
+        return code;
+    }
+
+    public URL location603(File file) throws IOException {
+        String[] children = file.list();
+        if (children != null && children.length > 1) {
+            return file.toURL();
+        }
+        return null;
+    }
+
+    public Object create604(Class<?> type) throws Exception {
+        Date created = new Date();
+        Random random = new SecureRandom();
+        cache.put("created" + 604, created.toString() + random.nextInt());
+        return type.newInstance();
+    }
+
+    public int drain605(List<Integer> queue) {
+        int drained = 0;
+        while (true) {
+            if (queue.isEmpty()) {
+                break;
+            }
+            drained += queue.remove(0);
+        }
+        return drained;
+    }
+
+    @Deprecated
+    public byte[] encode606(String text) throws IOException {
+        byte[] bytes = text.getBytes("UTF-8");
+        if (text.equals(cache.get("last"))) {
+            return new byte[0];
+        }
+        cache.put("last", text);
+        return bytes;
+    }
+
+    public Map<String, Integer> histogram607(String[] words) {
+        Map<String, Integer> counts = new HashMap<>();
+        for (String word : words) {
+            counts.merge(word, 1, Integer::sum);
+        }
+        counts.forEach((key, value) -> {
+            if (value > 5) {
+                counter += key.hashCode();
+            }
+        });
+        return counts;
+    }
+
+    /**
+     * Sum the positive entries of a report row.
+     */
+    public int total608(int[] values) {
+        int total = 0;
+        for (int i = 0; i < values.length; i++) {
+            if (values[i] > 0) {
+                total += values[i];
+            }
+        }
+        return total;
+    }
+
+    public List<String> names609(List<String> input) {
+        List<String> result = new ArrayList<>();
+        for (int i = 0; i < input.size(); i++) {
+            String name = input.get(i);
+            if (name != null && !name.isEmpty()) {
+                result.add(name.trim());
+            }
+        }
+        return result;
+    }
+
+    public String label610(String code) {
+        switch (code) {
+            case "A":
+                return "alpha";
+            case "B":
+                return "beta";
+            case "C":
+                counter++;
+                break;
+            default:
+                return "unknown";
+        }
+        return code;
+    }
+
+    public URL location611(File file) throws IOException {
+        String[] children = file.list();
+        if (children != null && children.length > 2) {
+            return file.toURL();
+        }
+        return null;
+    }
+
+    public Object create612(Class<?> type) throws Exception {
+        Date created = new Date();
+        Random random = new SecureRandom();
+        cache.put("created" + 612, created.toString() + random.nextInt());
+        return type.newInstance();
+    }
+
+    public int drain613(List<Integer> queue) {
+        int drained = 0;
+        while (true) {
+            if (queue.isEmpty()) {
+                break;
+            }
+            drained += queue.remove(0);
+        }
+        return drained;
+    }
+
+    @Deprecated
+    public byte[] encode614(String text) throws IOException {
+        byte[] bytes = text.getBytes("UTF-8");
+        if (text.equals(cache.get("last"))) {
+            return new byte[0];
+        }
+        cache.put("last", text);
+        return bytes;
+    }
+
+    public Map<String, Integer> histogram615(String[] words) {
+        Map<String, Integer> counts = new HashMap<>();
+        for (String word : words) {
+            counts.merge(word, 1, Integer::sum);
+        }
+        counts.forEach((key, value) -> {
+            if (value > 6) {
+                counter += key.hashCode();
+            }
+        });
+        return counts;
+    }
+
+    /**
+     * Sum the positive entries of a report row.
+     */
+    public int total616(int[] values) {
+        int total = 0;
+        for (int i = 0; i < values.length; i++) {
+            if (values[i] > 0) {
+                total += values[i];
+            }
+        }
+        return total;
+    }
+
+    public List<String> names617(List<String> input) {
+        List<String> result = new ArrayList<>();
+        for (int i = 0; i < input.size(); i++) {
+            String name = input.get(i);
+            if (name != null && !name.isEmpty()) {
+                result.add(name.trim());
+            }
+        }
+        return result;
+    }
+
+    public String label618(String code) {
+        switch (code) {
+            case "A":
+                return "alpha";
+            case "B":
+                return "beta";
+            case "C":
+                counter++;
+                break;
+            default:
+                return "unknown";
+        }
+        return code;
+    }
+
+    public URL location619(File file) throws IOException {
+        String[] children = file.list();
+        if (children != null && children.length > 3) {
+            return file.toURL();
+        }
+        return null;
+    }
+
+    public Object create620(Class<?> type) throws Exception {
+        Date created = new Date();
+        Random random = new SecureRandom();
+        cache.put("created" + 620, created.toString() + random.nextInt());
+        return type.newInstance();
+    }
+
+    public int drain621(List<Integer> queue) {
+        int drained = 0;
+        while (true) {
+            if (queue.isEmpty()) {
+                break;
+            }
+            drained += queue.remove(0);
+        }
+        return drained;
+    }
+
+    @Deprecated
+    public byte[] encode622(String text) throws IOException {
+        byte[] bytes = text.getBytes("UTF-8");
+        if (text.equals(cache.get("last"))) {
+            return new byte[0];
+        }
+        cache.put("last", text);
+        return bytes;
+    }
+
+    public Map<String, Integer> histogram623(String[] words) {
+        Map<String, Integer> counts = new HashMap<>();
+        for (String word : words) {
+            counts.merge(word, 1, Integer::sum);
+        }
+        counts.forEach((key, value) -> {
+            if (value > 0) {
+                counter += key.hashCode();
+            }
+        });
+        return counts;
+    }
+
+    /**
+     * Sum the positive entries of a report row.
+     */
+    public int total624(int[] values) {
+        int total = 0;
+        for (int i = 0; i < values.length; i++) {
+            if (values[i] > 0) {
+                total += values[i];
+            }
+        }
+        return total;
+    }
+
+    public List<String> names625(List<String> input) {
+        List<String> result = new ArrayList<>();
+        for (int i = 0; i < input.size(); i++) {
+            String name = input.get(i);
+            if (name != null && !name.isEmpty()) {
+                result.add(name.trim());
+            }
+        }
+        return result;
+    }
+
+    public String label626(String code) {
+        switch (code) {
+            case "A":
+                return "alpha";
+            case "B":
+                return "beta";
+            case "C":
+                counter++;
+                break;
+            default:
+                return "unknown";
+        }
+        return code;
+    }
+
+    public URL location627(File file) throws IOException {
+        String[] children = file.list();
+        if (children != null && children.length > 4) {
+            return file.toURL();
+        }
+        return null;
+    }
+
+    public Object create628(Class<?> type) throws Exception {
+        Date created = new Date();
+        Random random = new SecureRandom();
+        cache.put("created" + 628, created.toString() + random.nextInt());
+        return type.newInstance();
+    }
+
+    public int drain629(List<Integer> queue) {
+        int drained = 0;
+        while (true) {
+            if (queue.isEmpty()) {
+                break;
+            }
+            drained += queue.remove(0);
+        }
+        return drained;
+    }
+
+    @Deprecated
+    public byte[] encode630(String text) throws IOException {
+        byte[] bytes = text.getBytes("UTF-8");
+        if (text.equals(cache.get("last"))) {
+            return new byte[0];
+        }
+        cache.put("last", text);
+        return bytes;
+    }
+
+    public Map<String, Integer> histogram631(String[] words) {
+        Map<String, Integer> counts = new HashMap<>();
+        for (String word : words) {
+            counts.merge(word, 1, Integer::sum);
+        }
+        counts.forEach((key, value) -> {
+            if (value > 1) {
+                counter += key.hashCode();
+            }
+        });
+        return counts;
+    }
+
+    /**
+     * Sum the positive entries of a report row.
+     */
+    public int total632(int[] values) {
+        int total = 0;
+        for (int i = 0; i < values.length; i++) {
+            if (values[i] > 0) {
+                total += values[i];
+            }
+        }
+        return total;
+    }
+
+    public List<String> names633(List<String> input) {
+        List<String> result = new ArrayList<>();
+        for (int i = 0; i < input.size(); i++) {
+            String name = input.get(i);
+            if (name != null && !name.isEmpty()) {
+                result.add(name.trim());
+            }
+        }
+        return result;
+    }
+
+    public String label634(String code) {
+        switch (code) {
+            case "A":
+                return "alpha";
+            case "B":
+                return "beta";
+            case "C":
+                counter++;
+                break;
+            default:
+                return "unknown";
+        }
+        return code;
+    }
+
+    public URL location635(File file) throws IOException {
+        String[] children = file.list();
+        if (children != null && children.length > 5) {
+            return file.toURL();
+        }
+        return null;
+    }
+
+    public Object create636(Class<?> type) throws Exception {
+        Date created = new Date();
+        Random random = new SecureRandom();
+        cache.put("created" + 636, created.toString() + random.nextInt());
+        return type.newInstance();
+    }
+
+    public int drain637(List<Integer> queue) {
+        int drained = 0;
+        while (true) {
+            if (queue.isEmpty()) {
+                break;
+            }
+            drained += queue.remove(0);
+        }
+        return drained;
+    }
+
+    @Deprecated
+    public byte[] encode638(String text) throws IOException {
+        byte[] bytes = text.getBytes("UTF-8");
+        if (text.equals(cache.get("last"))) {
+            return new byte[0];
+        }
+        cache.put("last", text);
+        return bytes;
+    }
+
+    public Map<String, Integer> histogram639(String[] words) {
+        Map<String, Integer> counts = new HashMap<>();
+        for (String word : words) {
+            counts.merge(word, 1, Integer::sum);
+        }
+        counts.forEach((key, value) -> {
+            if (value > 2) {
+                counter += key.hashCode();
+            }
+        });
+        return counts;
+    }
+
+    /**
+     * Sum the positive entries of a report row.
+     */
+    public int total640(int[] values) {
+        int total = 0;
+        for (int i = 0; i < values.length; i++) {
+            if (values[i] > 0) {
+                total += values[i];
+            }
+        }
+        return total;
+    }
+
+    public List<String> names641(List<String> input) {
+        List<String> result = new ArrayList<>();
+        for (int i = 0; i < input.size(); i++) {
+            String name = input.get(i);
+            if (name != null && !name.isEmpty()) {
+                result.add(name.trim());
+            }
+        }
+        return result;
+    }
+
+    public String label642(String code) {
+        switch (code) {
+            case "A":
+                return "alpha";
+            case "B":
+                return "beta";
+            case "C":
+                counter++;
+                break;
+            default:
+                return "unknown";
+        }
+        return code;
+    }
+
+    public URL location643(File file) throws IOException {
+        String[] children = file.list();
+        if (children != null && children.length > 6) {
+            return file.toURL();
+        }
+        return null;
+    }
+
+    public Object create644(Class<?> type) throws Exception {
+        Date created = new Date();
+        Random random = new SecureRandom();
+        cache.put("created" + 644, created.toString() + random.nextInt());
+        return type.newInstance();
+    }
+
+    public int drain645(List<Integer> queue) {
+        int drained = 0;
+        while (true) {
+            if (queue.isEmpty()) {
+                break;
+            }
+            drained += queue.remove(0);
+        }
+        return drained;
+    }
+
+    @Deprecated
+    public byte[] encode646(String text) throws IOException {
+        byte[] bytes = text.getBytes("UTF-8");
+        if (text.equals(cache.get("last"))) {
+            return new byte[0];
+        }
+        cache.put("last", text);
+        return bytes;
+    }
+
+    public Map<String, Integer> histogram647(String[] words) {
+        Map<String, Integer> counts = new HashMap<>();
+        for (String word : words) {
+            counts.merge(word, 1, Integer::sum);
+        }
+        counts.forEach((key, value) -> {
+            if (value > 3) {
+                counter += key.hashCode();
+            }
+        });
+        return counts;
+    }
+
+    /**
+     * Sum the positive entries of a report row.
+     */
+    public int total648(int[] values) {
+        int total = 0;
+        for (int i = 0; i < values.length; i++) {
+            if (values[i] > 0) {
+                total += values[i];
+            }
+        }
+        return total;
+    }
+
+    public List<String> names649(List<String> input) {
+        List<String> result = new ArrayList<>();
+        for (int i = 0; i < input.size(); i++) {
+            String name = input.get(i);
+            if (name != null && !name.isEmpty()) {
+                result.add(name.trim());
+            }
+        }
+        return result;
+    }
+
+    static class Nested649 {
+        private final int id = 649;
+
+        int id() {
+            return id;
+        }
+    }
+
+    public String label650(String code) {
+        switch (code) {
+            case "A":
+                return "alpha";
+            case "B":
+                return "beta";
+            case "C":
+                counter++;
+                break;
+            default:
+                return "unknown";
+        }
+        return code;
+    }
+
+    public URL location651(File file) throws IOException {
+        String[] children = file.list();
+        if (children != null && children.length > 0) {
+            return file.toURL();
+        }
+        return null;
+    }
+
+    public Object create652(Class<?> type) throws Exception {
+        Date created = new Date();
+        Random random = new SecureRandom();
+        cache.put("created" + 652, created.toString() + random.nextInt());
+        return type.newInstance();
+    }
+
+    public int drain653(List<Integer> queue) {
+        int drained = 0;
+        while (true) {
+            if (queue.isEmpty()) {
+                break;
+            }
+            drained += queue.remove(0);
+        }
+        return drained;
+    }
+
+    @Deprecated
+    public byte[] encode654(String text) throws IOException {
+        byte[] bytes = text.getBytes("UTF-8");
+        if (text.equals(cache.get("last"))) {
+            return new byte[0];
+        }
+        cache.put("last", text);
+        return bytes;
+    }
+
+    public Map<String, Integer> histogram655(String[] words) {
+        Map<String, Integer> counts = new HashMap<>();
+        for (String word : words) {
+            counts.merge(word, 1, Integer::sum);
+        }
+        counts.forEach((key, value) -> {
+            if (value > 4) {
+                counter += key.hashCode();
+            }
+        });
+        return counts;
+    }
+
+    /**
+     * Sum the positive entries of a report row.
+     */
+    public int total656(int[] values) {
+        int total = 0;
+        for (int i = 0; i < values.length; i++) {
+            if (values[i] > 0) {
+                total += values[i];
+            }
+        }
+        return total;
+    }
+
+    public List<String> names657(List<String> input) {
+        List<String> result = new ArrayList<>();
+        for (int i = 0; i < input.size(); i++) {
+            String name = input.get(i);
+            if (name != null && !name.isEmpty()) {
+                result.add(name.trim());
+            }
+        }
+        return result;
+    }
+
+    public String label658(String code) {
+        switch (code) {
+            case "A":
+                return "alpha";
+            case "B":
+                return "beta";
+            case "C":
+                counter++;
+                break;
+            default:
+                return "unknown";
+        }
+        return code;
+    }
+
+    public URL location659(File file) throws IOException {
+        String[] children = file.list();
+        if (children != null && children.length > 1) {
+            return file.toURL();
+        }
+        return null;
+    }
+
+    public Object create660(Class<?> type) throws Exception {
+        Date created = new Date();
+        Random random = new SecureRandom();
+        cache.put("created" + 660, created.toString() + random.nextInt());
+        return type.newInstance();
+    }
+
+    public int drain661(List<Integer> queue) {
+        int drained = 0;
+        while (true) {
+            if (queue.isEmpty()) {
+                break;
+            }
+            drained += queue.remove(0);
+        }
+        return drained;
+    }
+
+    @Deprecated
+    public byte[] encode662(String text) throws IOException {
+        byte[] bytes = text.getBytes("UTF-8");
+        if (text.equals(cache.get("last"))) {
+            return new byte[0];
+        }
+        cache.put("last", text);
+        return bytes;
+    }
+
+    public Map<String, Integer> histogram663(String[] words) {
+        Map<String, Integer> counts = new HashMap<>();
+        for (String word : words) {
+            counts.merge(word, 1, Integer::sum);
+        }
+        counts.forEach((key, value) -> {
+            if (value > 5) {
+                counter += key.hashCode();
+            }
+        });
+        return counts;
+    }
+
+    /**
+     * Sum the positive entries of a report row.
+     */
+    public int total664(int[] values) {
+        int total = 0;
+        for (int i = 0; i < values.length; i++) {
+            if (values[i] > 0) {
+                total += values[i];
+            }
+        }
+        return total;
+    }
+
+    public List<String> names665(List<String> input) {
+        List<String> result = new ArrayList<>();
+        for (int i = 0; i < input.size(); i++) {
+            String name = input.get(i);
+            if (name != null && !name.isEmpty()) {
+                result.add(name.trim());
+            }
+        }
+        return result;
+    }
+
+    public String label666(String code) {
+        switch (code) {
+            case "A":
+                return "alpha";
+            case "B":
+                return "beta";
+            case "C":
+                counter++;
+                break;
+            default:
+                return "unknown";
+        }
+        return code;
+    }
+
+    public URL location667(File file) throws IOException {
+        String[] children = file.list();
+        if (children != null && children.length > 2) {
+            return file.toURL();
+        }
+        return null;
+    }
+
+    public Object create668(Class<?> type) throws Exception {
+        Date created = new Date();
+        Random random = new SecureRandom();
+        cache.put("created" + 668, created.toString() + random.nextInt());
+        return type.newInstance();
+    }
+
+    public int drain669(List<Integer> queue) {
+        int drained = 0;
+        while (true) {
+            if (queue.isEmpty()) {
+                break;
+            }
+            drained += queue.remove(0);
+        }
+        return drained;
+    }
+
+    @Deprecated
+    public byte[] encode670(String text) throws IOException {
+        byte[] bytes = text.getBytes("UTF-8");
+        if (text.equals(cache.get("last"))) {
+            return new byte[0];
+        }
+        cache.put("last", text);
+        return bytes;
+    }
+
+    public Map<String, Integer> histogram671(String[] words) {
+        Map<String, Integer> counts = new HashMap<>();
+        for (String word : words) {
+            counts.merge(word, 1, Integer::sum);
+        }
+        counts.forEach((key, value) -> {
+            if (value > 6) {
+                counter += key.hashCode();
+            }
+        });
+        return counts;
+    }
+
+    /**
+     * Sum the positive entries of a report row.
+     */
+    public int total672(int[] values) {
+        int total = 0;
+        for (int i = 0; i < values.length; i++) {
+            if (values[i] > 0) {
+                total += values[i];
+            }
+        }
+        return total;
+    }
+
+    public List<String> names673(List<String> input) {
+        List<String> result = new ArrayList<>();
+        for (int i = 0; i < input.size(); i++) {
+            String name = input.get(i);
+            if (name != null && !name.isEmpty()) {
+                result.add(name.trim());
+            }
+        }
+        return result;
+    }
+
+    public String label674(String code) {
+        switch (code) {
+            case "A":
+                return "alpha";
+            case "B":
+                return "beta";
+            case "C":
+                counter++;
+                break;
+            default:
+                return "unknown";
+        }
+        return code;
+    }
+
+    public URL location675(File file) throws IOException {
+        String[] children = file.list();
+        if (children != null && children.length > 3) {
+            return file.toURL();
+        }
+        return null;
+    }
+
+    public Object create676(Class<?> type) throws Exception {
+        Date created = new Date();
+        Random random = new SecureRandom();
+        cache.put("created" + 676, created.toString() + random.nextInt());
+        return type.newInstance();
+    }
+
+    public int drain677(List<Integer> queue) {
+        int drained = 0;
+        while (true) {
+            if (queue.isEmpty()) {
+                break;
+            }
+            drained += queue.remove(0);
+        }
+        return drained;
+    }
+
+    @Deprecated
+    public byte[] encode678(String text) throws IOException {
+        byte[] bytes = text.getBytes("UTF-8");
+        if (text.equals(cache.get("last"))) {
+            return new byte[0];
+        }
+        cache.put("last", text);
+        return bytes;
+    }
+
+    public Map<String, Integer> histogram679(String[] words) {
+        Map<String, Integer> counts = new HashMap<>();
+        for (String word : words) {
+            counts.merge(word, 1, Integer::sum);
+        }
+        counts.forEach((key, value) -> {
+            if (value > 0) {
+                counter += key.hashCode();
+            }
+        });
+        return counts;
+    }
+
+    /**
+     * Sum the positive entries of a report row.
+     */
+    public int total680(int[] values) {
+        int total = 0;
+        for (int i = 0; i < values.length; i++) {
+            if (values[i] > 0) {
+                total += values[i];
+            }
+        }
+        return total;
+    }
+
+    public List<String> names681(List<String> input) {
+        List<String> result = new ArrayList<>();
+        for (int i = 0; i < input.size(); i++) {
+            String name = input.get(i);
+            if (name != null && !name.isEmpty()) {
+                result.add(name.trim());
+            }
+        }
+        return result;
+    }
+
+    public String label682(String code) {
+        switch (code) {
+            case "A":
+                return "alpha";
+            case "B":
+                return "beta";
+            case "C":
+                counter++;
+                break;
+            default:
+                return "unknown";
+        }
+        return code;
+    }
+
+    public URL location683(File file) throws IOException {
+        String[] children = file.list();
+        if (children != null && children.length > 4) {
+            return file.toURL();
+        }
+        return null;
+    }
+
+    public Object create684(Class<?> type) throws Exception {
+        Date created = new Date();
+        Random random = new SecureRandom();
+        cache.put("created" + 684, created.toString() + random.nextInt());
+        return type.newInstance();
+    }
+
+    public int drain685(List<Integer> queue) {
+        int drained = 0;
+        while (true) {
+            if (queue.isEmpty()) {
+                break;
+            }
+            drained += queue.remove(0);
+        }
+        return drained;
+    }
+
+    @Deprecated
+    public byte[] encode686(String text) throws IOException {
+        byte[] bytes = text.getBytes("UTF-8");
+        if (text.equals(cache.get("last"))) {
+            return new byte[0];
+        }
+        cache.put("last", text);
+        return bytes;
+    }
+
+    public Map<String, Integer> histogram687(String[] words) {
+        Map<String, Integer> counts = new HashMap<>();
+        for (String word : words) {
+            counts.merge(word, 1, Integer::sum);
+        }
+        counts.forEach((key, value) -> {
+            if (value > 1) {
+                counter += key.hashCode();
+            }
+        });
+        return counts;
+    }
+
+    /**
+     * Sum the positive entries of a report row.
+     */
+    public int total688(int[] values) {
+        int total = 0;
+        for (int i = 0; i < values.length; i++) {
+            if (values[i] > 0) {
+                total += values[i];
+            }
+        }
+        return total;
+    }
+
+    public List<String> names689(List<String> input) {
+        List<String> result = new ArrayList<>();
+        for (int i = 0; i < input.size(); i++) {
+            String name = input.get(i);
+            if (name != null && !name.isEmpty()) {
+                result.add(name.trim());
+            }
+        }
+        return result;
+    }
+
+    public String label690(String code) {
+        switch (code) {
+            case "A":
+                return "alpha";
+            case "B":
+                return "beta";
+            case "C":
+                counter++;
+                break;
+            default:
+                return "unknown";
+        }
+        return code;
+    }
+
+    public URL location691(File file) throws IOException {
+        String[] children = file.list();
+        if (children != null && children.length > 5) {
+            return file.toURL();
+        }
+        return null;
+    }
+
+    public Object create692(Class<?> type) throws Exception {
+        Date created = new Date();
+        Random random = new SecureRandom();
+        cache.put("created" + 692, created.toString() + random.nextInt());
+        return type.newInstance();
+    }
+
+    public int drain693(List<Integer> queue) {
+        int drained = 0;
+        while (true) {
+            if (queue.isEmpty()) {
+                break;
+            }
+            drained += queue.remove(0);
+        }
+        return drained;
+    }
+
+    @Deprecated
+    public byte[] encode694(String text) throws IOException {
+        byte[] bytes = text.getBytes("UTF-8");
+        if (text.equals(cache.get("last"))) {
+            return new byte[0];
+        }
+        cache.put("last", text);
+        return bytes;
+    }
+
+    public Map<String, Integer> histogram695(String[] words) {
+        Map<String, Integer> counts = new HashMap<>();
+        for (String word : words) {
+            counts.merge(word, 1, Integer::sum);
+        }
+        counts.forEach((key, value) -> {
+            if (value > 2) {
+                counter += key.hashCode();
+            }
+        });
+        return counts;
+    }
+
+    /**
+     * Sum the positive entries of a report row.
+     */
+    public int total696(int[] values) {
+        int total = 0;
+        for (int i = 0; i < values.length; i++) {
+            if (values[i] > 0) {
+                total += values[i];
+            }
+        }
+        return total;
+    }
+
+    public List<String> names697(List<String> input) {
+        List<String> result = new ArrayList<>();
+        for (int i = 0; i < input.size(); i++) {
+            String name = input.get(i);
+            if (name != null && !name.isEmpty()) {
+                result.add(name.trim());
+            }
+        }
+        return result;
+    }
+
+    public String label698(String code) {
+        switch (code) {
+            case "A":
+                return "alpha";
+            case "B":
+                return "beta";
+            case "C":
+                counter++;
+                break;
+            default:
+                return "unknown";
+        }
+        return code;
+    }
+
+    public URL location699(File file) throws IOException {
+        String[] children = file.list();
+        if (children != null && children.length > 6) {
+            return file.toURL();
+        }
+        return null;
+    }
+
+    static class Nested699 {
+        private final int id = 699;
+
+        int id() {
+            return id;
+        }
+    }
+
+    public Object create700(Class<?> type) throws Exception {
+        Date created = new Date();
+        Random random = new SecureRandom();
+        cache.put("created" + 700, created.toString() + random.nextInt());
+        return type.newInstance();
+    }
+
+    public int drain701(List<Integer> queue) {
+        int drained = 0;
+        while (true) {
+            if (queue.isEmpty()) {
+                break;
+            }
+            drained += queue.remove(0);
+        }
+        return drained;
+    }
+
+    @Deprecated
+    public byte[] encode702(String text) throws IOException {
+        byte[] bytes = text.getBytes("UTF-8");
+        if (text.equals(cache.get("last"))) {
+            return new byte[0];
+        }
+        cache.put("last", text);
+        return bytes;
+    }
+
+    public Map<String, Integer> histogram703(String[] words) {
+        Map<String, Integer> counts = new HashMap<>();
+        for (String word : words) {
+            counts.merge(word, 1, Integer::sum);
+        }
+        counts.forEach((key, value) -> {
+            if (value > 3) {
+                counter += key.hashCode();
+            }
+        });
+        return counts;
+    }
+
+    /**
+     * Sum the positive entries of a report row.
+     */
+    public int total704(int[] values) {
+        int total = 0;
+        for (int i = 0; i < values.length; i++) {
+            if (values[i] > 0) {
+                total += values[i];
+            }
+        }
+        return total;
+    }
+
+    public List<String> names705(List<String> input) {
+        List<String> result = new ArrayList<>();
+        for (int i = 0; i < input.size(); i++) {
+            String name = input.get(i);
+            if (name != null && !name.isEmpty()) {
+                result.add(name.trim());
+            }
+        }
+        return result;
+    }
+
+    public String label706(String code) {
+        switch (code) {
+            case "A":
+                return "alpha";
+            case "B":
+                return "beta";
+            case "C":
+                counter++;
+                break;
+            default:
+                return "unknown";
+        }
+        return code;
+    }
+
+    public URL location707(File file) throws IOException {
+        String[] children = file.list();
+        if (children != null && children.length > 0) {
+            return file.toURL();
+        }
+        return null;
+    }
+
+    public Object create708(Class<?> type) throws Exception {
+        Date created = new Date();
+        Random random = new SecureRandom();
+        cache.put("created" + 708, created.toString() + random.nextInt());
+        return type.newInstance();
+    }
+
+    public int drain709(List<Integer> queue) {
+        int drained = 0;
+        while (true) {
+            if (queue.isEmpty()) {
+                break;
+            }
+            drained += queue.remove(0);
+        }
+        return drained;
+    }
+
+    @Deprecated
+    public byte[] encode710(String text) throws IOException {
+        byte[] bytes = text.getBytes("UTF-8");
+        if (text.equals(cache.get("last"))) {
+            return new byte[0];
+        }
+        cache.put("last", text);
+        return bytes;
+    }
+
+    public Map<String, Integer> histogram711(String[] words) {
+        Map<String, Integer> counts = new HashMap<>();
+        for (String word : words) {
+            counts.merge(word, 1, Integer::sum);
+        }
+        counts.forEach((key, value) -> {
+            if (value > 4) {
+                counter += key.hashCode();
+            }
+        });
+        return counts;
+    }
+
+    /**
+     * Sum the positive entries of a report row.
+     */
+    public int total712(int[] values) {
+        int total = 0;
+        for (int i = 0; i < values.length; i++) {
+            if (values[i] > 0) {
+                total += values[i];
+            }
+        }
+        return total;
+    }
+
+    public List<String> names713(List<String> input) {
+        List<String> result = new ArrayList<>();
+        for (int i = 0; i < input.size(); i++) {
+            String name = input.get(i);
+            if (name != null && !name.isEmpty()) {
+                result.add(name.trim());
+            }
+        }
+        return result;
+    }
+
+    public String label714(String code) {
+        switch (code) {
+            case "A":
+                return "alpha";
+            case "B":
+                return "beta";
+            case "C":
+                counter++;
+                break;
+            default:
+                return "unknown";
+        }
+        return code;
+    }
+
+    public URL location715(File file) throws IOException {
+        String[] children = file.list();
+        if (children != null && children.length > 1) {
+            return file.toURL();
+        }
+        return null;
+    }
+
+    public Object create716(Class<?> type) throws Exception {
+        Date created = new Date();
+        Random random = new SecureRandom();
+        cache.put("created" + 716, created.toString() + random.nextInt());
+        return type.newInstance();
+    }
+
+    public int drain717(List<Integer> queue) {
+        int drained = 0;
+        while (true) {
+            if (queue.isEmpty()) {
+                break;
+            }
+            drained += queue.remove(0);
+        }
+        return drained;
+    }
+
+    @Deprecated
+    public byte[] encode718(String text) throws IOException {
+        byte[] bytes = text.getBytes("UTF-8");
+        if (text.equals(cache.get("last"))) {
+            return new byte[0];
+        }
+        cache.put("last", text);
+        return bytes;
+    }
+
+    public Map<String, Integer> histogram719(String[] words) {
+        Map<String, Integer> counts = new HashMap<>();
+        for (String word : words) {
+            counts.merge(word, 1, Integer::sum);
+        }
+        counts.forEach((key, value) -> {
+            if (value > 5) {
+                counter += key.hashCode();
+            }
+        });
+        return counts;
+    }
+
+    /**
+     * Sum the positive entries of a report row.
+     */
+    public int total720(int[] values) {
+        int total = 0;
+        for (int i = 0; i < values.length; i++) {
+            if (values[i] > 0) {
+                total += values[i];
+            }
+        }
+        return total;
+    }
+
+    public List<String> names721(List<String> input) {
+        List<String> result = new ArrayList<>();
+        for (int i = 0; i < input.size(); i++) {
+            String name = input.get(i);
+            if (name != null && !name.isEmpty()) {
+                result.add(name.trim());
+            }
+        }
+        return result;
+    }
+
+    public String label722(String code) {
+        switch (code) {
+            case "A":
+                return "alpha";
+            case "B":
+                return "beta";
+            case "C":
+                counter++;
+                break;
+            default:
+                return "unknown";
+        }
+        return code;
+    }
+
+    public URL location723(File file) throws IOException {
+        String[] children = file.list();
+        if (children != null && children.length > 2) {
+            return file.toURL();
+        }
+        return null;
+    }
+
+    public Object create724(Class<?> type) throws Exception {
+        Date created = new Date();
+        Random random = new SecureRandom();
+        cache.put("created" + 724, created.toString() + random.nextInt());
+        return type.newInstance();
+    }
+
+    public int drain725(List<Integer> queue) {
+        int drained = 0;
+        while (true) {
+            if (queue.isEmpty()) {
+                break;
+            }
+            drained += queue.remove(0);
+        }
+        return drained;
+    }
+
+    @Deprecated
+    public byte[] encode726(String text) throws IOException {
+        byte[] bytes = text.getBytes("UTF-8");
+        if (text.equals(cache.get("last"))) {
+            return new byte[0];
+        }
+        cache.put("last", text);
+        return bytes;
+    }
+
+    public Map<String, Integer> histogram727(String[] words) {
+        Map<String, Integer> counts = new HashMap<>();
+        for (String word : words) {
+            counts.merge(word, 1, Integer::sum);
+        }
+        counts.forEach((key, value) -> {
+            if (value > 6) {
+                counter += key.hashCode();
+            }
+        });
+        return counts;
+    }
+
+    /**
+     * Sum the positive entries of a report row.
+     */
+    public int total728(int[] values) {
+        int total = 0;
+        for (int i = 0; i < values.length; i++) {
+            if (values[i] > 0) {
+                total += values[i];
+            }
+        }
+        return total;
+    }
+
+    public List<String> names729(List<String> input) {
+        List<String> result = new ArrayList<>();
+        for (int i = 0; i < input.size(); i++) {
+            String name = input.get(i);
+            if (name != null && !name.isEmpty()) {
+                result.add(name.trim());
+            }
+        }
+        return result;
+    }
+
+    public String label730(String code) {
+        switch (code) {
+            case "A":
+                return "alpha";
+            case "B":
+                return "beta";
+            case "C":
+                counter++;
+                break;
+            default:
+                return "unknown";
+        }
+        return code;
+    }
+
+    public URL location731(File file) throws IOException {
+        String[] children = file.list();
+        if (children != null && children.length > 3) {
+            return file.toURL();
+        }
+        return null;
+    }
+
+    public Object create732(Class<?> type) throws Exception {
+        Date created = new Date();
+        Random random = new SecureRandom();
+        cache.put("created" + 732, created.toString() + random.nextInt());
+        return type.newInstance();
+    }
+
+    public int drain733(List<Integer> queue) {
+        int drained = 0;
+        while (true) {
+            if (queue.isEmpty()) {
+                break;
+            }
+            drained += queue.remove(0);
+        }
+        return drained;
+    }
+
+    @Deprecated
+    public byte[] encode734(String text) throws IOException {
+        byte[] bytes = text.getBytes("UTF-8");
+        if (text.equals(cache.get("last"))) {
+            return new byte[0];
+        }
+        cache.put("last", text);
+        return bytes;
+    }
+
+    public Map<String, Integer> histogram735(String[] words) {
+        Map<String, Integer> counts = new HashMap<>();
+        for (String word : words) {
+            counts.merge(word, 1, Integer::sum);
+        }
+        counts.forEach((key, value) -> {
+            if (value > 0) {
+                counter += key.hashCode();
+            }
+        });
+        return counts;
+    }
+
+    /**
+     * Sum the positive entries of a report row.
+     */
+    public int total736(int[] values) {
+        int total = 0;
+        for (int i = 0; i < values.length; i++) {
+            if (values[i] > 0) {
+                total += values[i];
+            }
+        }
+        return total;
+    }
+
+    public List<String> names737(List<String> input) {
+        List<String> result = new ArrayList<>();
+        for (int i = 0; i < input.size(); i++) {
+            String name = input.get(i);
+            if (name != null && !name.isEmpty()) {
+                result.add(name.trim());
+            }
+        }
+        return result;
+    }
+
+    public String label738(String code) {
+        switch (code) {
+            case "A":
+                return "alpha";
+            case "B":
+                return "beta";
+            case "C":
+                counter++;
+                break;
+            default:
+                return "unknown";
+        }
+        return code;
+    }
+
+    public URL location739(File file) throws IOException {
+        String[] children = file.list();
+        if (children != null && children.length > 4) {
+            return file.toURL();
+        }
+        return null;
+    }
+
+    public Object create740(Class<?> type) throws Exception {
+        Date created = new Date();
+        Random random = new SecureRandom();
+        cache.put("created" + 740, created.toString() + random.nextInt());
+        return type.newInstance();
+    }
+
+    public int drain741(List<Integer> queue) {
+        int drained = 0;
+        while (true) {
+            if (queue.isEmpty()) {
+                break;
+            }
+            drained += queue.remove(0);
+        }
+        return drained;
+    }
+
+    @Deprecated
+    public byte[] encode742(String text) throws IOException {
+        byte[] bytes = text.getBytes("UTF-8");
+        if (text.equals(cache.get("last"))) {
+            return new byte[0];
+        }
+        cache.put("last", text);
+        return bytes;
+    }
+
+    public Map<String, Integer> histogram743(String[] words) {
+        Map<String, Integer> counts = new HashMap<>();
+        for (String word : words) {
+            counts.merge(word, 1, Integer::sum);
+        }
+        counts.forEach((key, value) -> {
+            if (value > 1) {
+                counter += key.hashCode();
+            }
+        });
+        return counts;
+    }
+
+    /**
+     * Sum the positive entries of a report row.
+     */
+    public int total744(int[] values) {
+        int total = 0;
+        for (int i = 0; i < values.length; i++) {
+            if (values[i] > 0) {
+                total += values[i];
+            }
+        }
+        return total;
+    }
+
+    public List<String> names745(List<String> input) {
+        List<String> result = new ArrayList<>();
+        for (int i = 0; i < input.size(); i++) {
+            String name = input.get(i);
+            if (name != null && !name.isEmpty()) {
+                result.add(name.trim());
+            }
+        }
+        return result;
+    }
+
+    public String label746(String code) {
+        switch (code) {
+            case "A":
+                return "alpha";
+            case "B":
+                return "beta";
+            case "C":
+                counter++;
+                break;
+            default:
+                return "unknown";
+        }
+        return code;
+    }
+
+    public URL location747(File file) throws IOException {
+        String[] children = file.list();
+        if (children != null && children.length > 5) {
+            return file.toURL();
+        }
+        return null;
+    }
+
+    public Object create748(Class<?> type) throws Exception {
+        Date created = new Date();
+        Random random = new SecureRandom();
+        cache.put("created" + 748, created.toString() + random.nextInt());
+        return type.newInstance();
+    }
+
+    public int drain749(List<Integer> queue) {
+        int drained = 0;
+        while (true) {
+            if (queue.isEmpty()) {
+                break;
+            }
+            drained += queue.remove(0);
+        }
+        return drained;
+    }
+
+    static class Nested749 {
+        private final int id = 749;
+
+        int id() {
+            return id;
+        }
+    }
+
+    @Deprecated
+    public byte[] encode750(String text) throws IOException {
+        byte[] bytes = text.getBytes("UTF-8");
+        if (text.equals(cache.get("last"))) {
+            return new byte[0];
+        }
+        cache.put("last", text);
+        return bytes;
+    }
+
+    public Map<String, Integer> histogram751(String[] words) {
+        Map<String, Integer> counts = new HashMap<>();
+        for (String word : words) {
+            counts.merge(word, 1, Integer::sum);
+        }
+        counts.forEach((key, value) -> {
+            if (value > 2) {
+                counter += key.hashCode();
+            }
+        });
+        return counts;
+    }
+
+    /**
+     * Sum the positive entries of a report row.
+     */
+    public int total752(int[] values) {
+        int total = 0;
+        for (int i = 0; i < values.length; i++) {
+            if (values[i] > 0) {
+                total += values[i];
+            }
+        }
+        return total;
+    }
+
+    public List<String> names753(List<String> input) {
+        List<String> result = new ArrayList<>();
+        for (int i = 0; i < input.size(); i++) {
+            String name = input.get(i);
+            if (name != null && !name.isEmpty()) {
+                result.add(name.trim());
+            }
+        }
+        return result;
+    }
+
+    public String label754(String code) {
+        switch (code) {
+            case "A":
+                return "alpha";
+            case "B":
+                return "beta";
+            case "C":
+                counter++;
+                break;
+            default:
+                return "unknown";
+        }
+        return code;
+    }
+
+    public URL location755(File file) throws IOException {
+        String[] children = file.list();
+        if (children != null && children.length > 6) {
+            return file.toURL();
+        }
+        return null;
+    }
+
+    public Object create756(Class<?> type) throws Exception {
+        Date created = new Date();
+        Random random = new SecureRandom();
+        cache.put("created" + 756, created.toString() + random.nextInt());
+        return type.newInstance();
+    }
+
+    public int drain757(List<Integer> queue) {
+        int drained = 0;
+        while (true) {
+            if (queue.isEmpty()) {
+                break;
+            }
+            drained += queue.remove(0);
+        }
+        return drained;
+    }
+
+    @Deprecated
+    public byte[] encode758(String text) throws IOException {
+        byte[] bytes = text.getBytes("UTF-8");
+        if (text.equals(cache.get("last"))) {
+            return new byte[0];
+        }
+        cache.put("last", text);
+        return bytes;
+    }
+
+    public Map<String, Integer> histogram759(String[] words) {
+        Map<String, Integer> counts = new HashMap<>();
+        for (String word : words) {
+            counts.merge(word, 1, Integer::sum);
+        }
+        counts.forEach((key, value) -> {
+            if (value > 3) {
+                counter += key.hashCode();
+            }
+        });
+        return counts;
+    }
+
+    /**
+     * Sum the positive entries of a report row.
+     */
+    public int total760(int[] values) {
+        int total = 0;
+        for (int i = 0; i < values.length; i++) {
+            if (values[i] > 0) {
+                total += values[i];
+            }
+        }
+        return total;
+    }
+
+    public List<String> names761(List<String> input) {
+        List<String> result = new ArrayList<>();
+        for (int i = 0; i < input.size(); i++) {
+            String name = input.get(i);
+            if (name != null && !name.isEmpty()) {
+                result.add(name.trim());
+            }
+        }
+        return result;
+    }
+
+    public String label762(String code) {
+        switch (code) {
+            case "A":
+                return "alpha";
+            case "B":
+                return "beta";
+            case "C":
+                counter++;
+                break;
+            default:
+                return "unknown";
+        }
+        return code;
+    }
+
+    public URL location763(File file) throws IOException {
+        String[] children = file.list();
+        if (children != null && children.length > 0) {
+            return file.toURL();
+        }
+        return null;
+    }
+
+    public Object create764(Class<?> type) throws Exception {
+        Date created = new Date();
+        Random random = new SecureRandom();
+        cache.put("created" + 764, created.toString() + random.nextInt());
+        return type.newInstance();
+    }
+
+    public int drain765(List<Integer> queue) {
+        int drained = 0;
+        while (true) {
+            if (queue.isEmpty()) {
+                break;
+            }
+            drained += queue.remove(0);
+        }
+        return drained;
+    }
+
+    @Deprecated
+    public byte[] encode766(String text) throws IOException {
+        byte[] bytes = text.getBytes("UTF-8");
+        if (text.equals(cache.get("last"))) {
+            return new byte[0];
+        }
+        cache.put("last", text);
+        return bytes;
+    }
+
+    public Map<String, Integer> histogram767(String[] words) {
+        Map<String, Integer> counts = new HashMap<>();
+        for (String word : words) {
+            counts.merge(word, 1, Integer::sum);
+        }
+        counts.forEach((key, value) -> {
+            if (value > 4) {
+                counter += key.hashCode();
+            }
+        });
+        return counts;
+    }
+
+    /**
+     * Sum the positive entries of a report row.
+     */
+    public int total768(int[] values) {
+        int total = 0;
+        for (int i = 0; i < values.length; i++) {
+            if (values[i] > 0) {
+                total += values[i];
+            }
+        }
+        return total;
+    }
+
+    public List<String> names769(List<String> input) {
+        List<String> result = new ArrayList<>();
+        for (int i = 0; i < input.size(); i++) {
+            String name = input.get(i);
+            if (name != null && !name.isEmpty()) {
+                result.add(name.trim());
+            }
+        }
+        return result;
+    }
+
+    public String label770(String code) {
+        switch (code) {
+            case "A":
+                return "alpha";
+            case "B":
+                return "beta";
+            case "C":
+                counter++;
+                break;
+            default:
+                return "unknown";
+        }
+        return code;
+    }
+
+    public URL location771(File file) throws IOException {
+        String[] children = file.list();
+        if (children != null && children.length > 1) {
+            return file.toURL();
+        }
+        return null;
+    }
+
+    public Object create772(Class<?> type) throws Exception {
+        Date created = new Date();
+        Random random = new SecureRandom();
+        cache.put("created" + 772, created.toString() + random.nextInt());
+        return type.newInstance();
+    }
+
+    public int drain773(List<Integer> queue) {
+        int drained = 0;
+        while (true) {
+            if (queue.isEmpty()) {
+                break;
+            }
+            drained += queue.remove(0);
+        }
+        return drained;
+    }
+
+    @Deprecated
+    public byte[] encode774(String text) throws IOException {
+        byte[] bytes = text.getBytes("UTF-8");
+        if (text.equals(cache.get("last"))) {
+            return new byte[0];
+        }
+        cache.put("last", text);
+        return bytes;
+    }
+
+    public Map<String, Integer> histogram775(String[] words) {
+        Map<String, Integer> counts = new HashMap<>();
+        for (String word : words) {
+            counts.merge(word, 1, Integer::sum);
+        }
+        counts.forEach((key, value) -> {
+            if (value > 5) {
+                counter += key.hashCode();
+            }
+        });
+        return counts;
+    }
+
+    /**
+     * Sum the positive entries of a report row.
+     */
+    public int total776(int[] values) {
+        int total = 0;
+        for (int i = 0; i < values.length; i++) {
+            if (values[i] > 0) {
+                total += values[i];
+            }
+        }
+        return total;
+    }
+
+    public List<String> names777(List<String> input) {
+        List<String> result = new ArrayList<>();
+        for (int i = 0; i < input.size(); i++) {
+            String name = input.get(i);
+            if (name != null && !name.isEmpty()) {
+                result.add(name.trim());
+            }
+        }
+        return result;
+    }
+
+    public String label778(String code) {
+        switch (code) {
+            case "A":
+                return "alpha";
+            case "B":
+                return "beta";
+            case "C":
+                counter++;
+                break;
+            default:
+                return "unknown";
+        }
+        return code;
+    }
+
+    public URL location779(File file) throws IOException {
+        String[] children = file.list();
+        if (children != null && children.length > 2) {
+            return file.toURL();
+        }
+        return null;
+    }
+
+    public Object create780(Class<?> type) throws Exception {
+        Date created = new Date();
+        Random random = new SecureRandom();
+        cache.put("created" + 780, created.toString() + random.nextInt());
+        return type.newInstance();
+    }
+
+    public int drain781(List<Integer> queue) {
+        int drained = 0;
+        while (true) {
+            if (queue.isEmpty()) {
+                break;
+            }
+            drained += queue.remove(0);
+        }
+        return drained;
+    }
+
+    @Deprecated
+    public byte[] encode782(String text) throws IOException {
+        byte[] bytes = text.getBytes("UTF-8");
+        if (text.equals(cache.get("last"))) {
+            return new byte[0];
+        }
+        cache.put("last", text);
+        return bytes;
+    }
+
+    public Map<String, Integer> histogram783(String[] words) {
+        Map<String, Integer> counts = new HashMap<>();
+        for (String word : words) {
+            counts.merge(word, 1, Integer::sum);
+        }
+        counts.forEach((key, value) -> {
+            if (value > 6) {
+                counter += key.hashCode();
+            }
+        });
+        return counts;
+    }
+
+    /**
+     * Sum the positive entries of a report row.
+     */
+    public int total784(int[] values) {
+        int total = 0;
+        for (int i = 0; i < values.length; i++) {
+            if (values[i] > 0) {
+                total += values[i];
+            }
+        }
+        return total;
+    }
+
+    public List<String> names785(List<String> input) {
+        List<String> result = new ArrayList<>();
+        for (int i = 0; i < input.size(); i++) {
+            String name = input.get(i);
+            if (name != null && !name.isEmpty()) {
+                result.add(name.trim());
+            }
+        }
+        return result;
+    }
+
+    public String label786(String code) {
+        switch (code) {
+            case "A":
+                return "alpha";
+            case "B":
+                return "beta";
+            case "C":
+                counter++;
+                break;
+            default:
+                return "unknown";
+        }
+        return code;
+    }
+
+    public URL location787(File file) throws IOException {
+        String[] children = file.list();
+        if (children != null && children.length > 3) {
+            return file.toURL();
+        }
+        return null;
+    }
+
+    public Object create788(Class<?> type) throws Exception {
+        Date created = new Date();
+        Random random = new SecureRandom();
+        cache.put("created" + 788, created.toString() + random.nextInt());
+        return type.newInstance();
+    }
+
+    public int drain789(List<Integer> queue) {
+        int drained = 0;
+        while (true) {
+            if (queue.isEmpty()) {
+                break;
+            }
+            drained += queue.remove(0);
+        }
+        return drained;
+    }
+
+    @Deprecated
+    public byte[] encode790(String text) throws IOException {
+        byte[] bytes = text.getBytes("UTF-8");
+        if (text.equals(cache.get("last"))) {
+            return new byte[0];
+        }
+        cache.put("last", text);
+        return bytes;
+    }
+
+    public Map<String, Integer> histogram791(String[] words) {
+        Map<String, Integer> counts = new HashMap<>();
+        for (String word : words) {
+            counts.merge(word, 1, Integer::sum);
+        }
+        counts.forEach((key, value) -> {
+            if (value > 0) {
+                counter += key.hashCode();
+            }
+        });
+        return counts;
+    }
+
+    /**
+     * Sum the positive entries of a report row.
+     */
+    public int total792(int[] values) {
+        int total = 0;
+        for (int i = 0; i < values.length; i++) {
+            if (values[i] > 0) {
+                total += values[i];
+            }
+        }
+        return total;
+    }
+
+    public List<String> names793(List<String> input) {
+        List<String> result = new ArrayList<>();
+        for (int i = 0; i < input.size(); i++) {
+            String name = input.get(i);
+            if (name != null && !name.isEmpty()) {
+                result.add(name.trim());
+            }
+        }
+        return result;
+    }
+
+    public String label794(String code) {
+        switch (code) {
+            case "A":
+                return "alpha";
+            case "B":
+                return "beta";
+            case "C":
+                counter++;
+                break;
+            default:
+                return "unknown";
+        }
+        return code;
+    }
+
+    public URL location795(File file) throws IOException {
+        String[] children = file.list();
+        if (children != null && children.length > 4) {
+            return file.toURL();
+        }
+        return null;
+    }
+
+    public Object create796(Class<?> type) throws Exception {
+        Date created = new Date();
+        Random random = new SecureRandom();
+        cache.put("created" + 796, created.toString() + random.nextInt());
+        return type.newInstance();
+    }
+
+    public int drain797(List<Integer> queue) {
+        int drained = 0;
+        while (true) {
+            if (queue.isEmpty()) {
+                break;
+            }
+            drained += queue.remove(0);
+        }
+        return drained;
+    }
+
+    @Deprecated
+    public byte[] encode798(String text) throws IOException {
+        byte[] bytes = text.getBytes("UTF-8");
+        if (text.equals(cache.get("last"))) {
+            return new byte[0];
+        }
+        cache.put("last", text);
+        return bytes;
+    }
+
+    public Map<String, Integer> histogram799(String[] words) {
+        Map<String, Integer> counts = new HashMap<>();
+        for (String word : words) {
+            counts.merge(word, 1, Integer::sum);
+        }
+        counts.forEach((key, value) -> {
+            if (value > 1) {
+                counter += key.hashCode();
+            }
+        });
+        return counts;
+    }
+
+    static class Nested799 {
+        private final int id = 799;
+
+        int id() {
+            return id;
+        }
+    }
+
+    /**
+     * Sum the positive entries of a report row.
+     */
+    public int total800(int[] values) {
+        int total = 0;
+        for (int i = 0; i < values.length; i++) {
+            if (values[i] > 0) {
+                total += values[i];
+            }
+        }
+        return total;
+    }
+
+    public List<String> names801(List<String> input) {
+        List<String> result = new ArrayList<>();
+        for (int i = 0; i < input.size(); i++) {
+            String name = input.get(i);
+            if (name != null && !name.isEmpty()) {
+                result.add(name.trim());
+            }
+        }
+        return result;
+    }
+
+    public String label802(String code) {
+        switch (code) {
+            case "A":
+                return "alpha";
+            case "B":
+                return "beta";
+            case "C":
+                counter++;
+                break;
+            default:
+                return "unknown";
+        }
+        return code;
+    }
+
+    public URL location803(File file) throws IOException {
+        String[] children = file.list();
+        if (children != null && children.length > 5) {
+            return file.toURL();
+        }
+        return null;
+    }
+
+    public Object create804(Class<?> type) throws Exception {
+        Date created = new Date();
+        Random random = new SecureRandom();
+        cache.put("created" + 804, created.toString() + random.nextInt());
+        return type.newInstance();
+    }
+
+    public int drain805(List<Integer> queue) {
+        int drained = 0;
+        while (true) {
+            if (queue.isEmpty()) {
+                break;
+            }
+            drained += queue.remove(0);
+        }
+        return drained;
+    }
+
+    @Deprecated
+    public byte[] encode806(String text) throws IOException {
+        byte[] bytes = text.getBytes("UTF-8");
+        if (text.equals(cache.get("last"))) {
+            return new byte[0];
+        }
+        cache.put("last", text);
+        return bytes;
+    }
+
+    public Map<String, Integer> histogram807(String[] words) {
+        Map<String, Integer> counts = new HashMap<>();
+        for (String word : words) {
+            counts.merge(word, 1, Integer::sum);
+        }
+        counts.forEach((key, value) -> {
+            if (value > 2) {
+                counter += key.hashCode();
+            }
+        });
+        return counts;
+    }
+
+    /**
+     * Sum the positive entries of a report row.
+     */
+    public int total808(int[] values) {
+        int total = 0;
+        for (int i = 0; i < values.length; i++) {
+            if (values[i] > 0) {
+                total += values[i];
+            }
+        }
+        return total;
+    }
+
+    public List<String> names809(List<String> input) {
+        List<String> result = new ArrayList<>();
+        for (int i = 0; i < input.size(); i++) {
+            String name = input.get(i);
+            if (name != null && !name.isEmpty()) {
+                result.add(name.trim());
+            }
+        }
+        return result;
+    }
+
+    public String label810(String code) {
+        switch (code) {
+            case "A":
+                return "alpha";
+            case "B":
+                return "beta";
+            case "C":
+                counter++;
+                break;
+            default:
+                return "unknown";
+        }
+        return code;
+    }
+
+    public URL location811(File file) throws IOException {
+        String[] children = file.list();
+        if (children != null && children.length > 6) {
+            return file.toURL();
+        }
+        return null;
+    }
+
+    public Object create812(Class<?> type) throws Exception {
+        Date created = new Date();
+        Random random = new SecureRandom();
+        cache.put("created" + 812, created.toString() + random.nextInt());
+        return type.newInstance();
+    }
+
+    public int drain813(List<Integer> queue) {
+        int drained = 0;
+        while (true) {
+            if (queue.isEmpty()) {
+                break;
+            }
+            drained += queue.remove(0);
+        }
+        return drained;
+    }
+
+    @Deprecated
+    public byte[] encode814(String text) throws IOException {
+        byte[] bytes = text.getBytes("UTF-8");
+        if (text.equals(cache.get("last"))) {
+            return new byte[0];
+        }
+        cache.put("last", text);
+        return bytes;
+    }
+
+    public Map<String, Integer> histogram815(String[] words) {
+        Map<String, Integer> counts = new HashMap<>();
+        for (String word : words) {
+            counts.merge(word, 1, Integer::sum);
+        }
+        counts.forEach((key, value) -> {
+            if (value > 3) {
+                counter += key.hashCode();
+            }
+        });
+        return counts;
+    }
+
+    /**
+     * Sum the positive entries of a report row.
+     */
+    public int total816(int[] values) {
+        int total = 0;
+        for (int i = 0; i < values.length; i++) {
+            if (values[i] > 0) {
+                total += values[i];
+            }
+        }
+        return total;
+    }
+
+    public List<String> names817(List<String> input) {
+        List<String> result = new ArrayList<>();
+        for (int i = 0; i < input.size(); i++) {
+            String name = input.get(i);
+            if (name != null && !name.isEmpty()) {
+                result.add(name.trim());
+            }
+        }
+        return result;
+    }
+
+    public String label818(String code) {
+        switch (code) {
+            case "A":
+                return "alpha";
+            case "B":
+                return "beta";
+            case "C":
+                counter++;
+                break;
+            default:
+                return "unknown";
+        }
+        return code;
+    }
+
+    public URL location819(File file) throws IOException {
+        String[] children = file.list();
+        if (children != null && children.length > 0) {
+            return file.toURL();
+        }
+        return null;
+    }
+
+    public Object create820(Class<?> type) throws Exception {
+        Date created = new Date();
+        Random random = new SecureRandom();
+        cache.put("created" + 820, created.toString() + random.nextInt());
+        return type.newInstance();
+    }
+
+    public int drain821(List<Integer> queue) {
+        int drained = 0;
+        while (true) {
+            if (queue.isEmpty()) {
+                break;
+            }
+            drained += queue.remove(0);
+        }
+        return drained;
+    }
+
+    @Deprecated
+    public byte[] encode822(String text) throws IOException {
+        byte[] bytes = text.getBytes("UTF-8");
+        if (text.equals(cache.get("last"))) {
+            return new byte[0];
+        }
+        cache.put("last", text);
+        return bytes;
+    }
+
+    public Map<String, Integer> histogram823(String[] words) {
+        Map<String, Integer> counts = new HashMap<>();
+        for (String word : words) {
+            counts.merge(word, 1, Integer::sum);
+        }
+        counts.forEach((key, value) -> {
+            if (value > 4) {
+                counter += key.hashCode();
+            }
+        });
+        return counts;
+    }
+
+    /**
+     * Sum the positive entries of a report row.
+     */
+    public int total824(int[] values) {
+        int total = 0;
+        for (int i = 0; i < values.length; i++) {
+            if (values[i] > 0) {
+                total += values[i];
+            }
+        }
+        return total;
+    }
+
+    public List<String> names825(List<String> input) {
+        List<String> result = new ArrayList<>();
+        for (int i = 0; i < input.size(); i++) {
+            String name = input.get(i);
+            if (name != null && !name.isEmpty()) {
+                result.add(name.trim());
+            }
+        }
+        return result;
+    }
+
+    public String label826(String code) {
+        switch (code) {
+            case "A":
+                return "alpha";
+            case "B":
+                return "beta";
+            case "C":
+                counter++;
+                break;
+            default:
+                return "unknown";
+        }
+        return code;
+    }
+
+    public URL location827(File file) throws IOException {
+        String[] children = file.list();
+        if (children != null && children.length > 1) {
+            return file.toURL();
+        }
+        return null;
+    }
+
+    public Object create828(Class<?> type) throws Exception {
+        Date created = new Date();
+        Random random = new SecureRandom();
+        cache.put("created" + 828, created.toString() + random.nextInt());
+        return type.newInstance();
+    }
+
+    public int drain829(List<Integer> queue) {
+        int drained = 0;
+        while (true) {
+            if (queue.isEmpty()) {
+                break;
+            }
+            drained += queue.remove(0);
+        }
+        return drained;
+    }
+
+    @Deprecated
+    public byte[] encode830(String text) throws IOException {
+        byte[] bytes = text.getBytes("UTF-8");
+        if (text.equals(cache.get("last"))) {
+            return new byte[0];
+        }
+        cache.put("last", text);
+        return bytes;
+    }
+
+    public Map<String, Integer> histogram831(String[] words) {
+        Map<String, Integer> counts = new HashMap<>();
+        for (String word : words) {
+            counts.merge(word, 1, Integer::sum);
+        }
+        counts.forEach((key, value) -> {
+            if (value > 5) {
+                counter += key.hashCode();
+            }
+        });
+        return counts;
+    }
+
+    /**
+     * Sum the positive entries of a report row.
+     */
+    public int total832(int[] values) {
+        int total = 0;
+        for (int i = 0; i < values.length; i++) {
+            if (values[i] > 0) {
+                total += values[i];
+            }
+        }
+        return total;
+    }
+
+    public List<String> names833(List<String> input) {
+        List<String> result = new ArrayList<>();
+        for (int i = 0; i < input.size(); i++) {
+            String name = input.get(i);
+            if (name != null && !name.isEmpty()) {
+                result.add(name.trim());
+            }
+        }
+        return result;
+    }
+
+    public String label834(String code) {
+        switch (code) {
+            case "A":
+                return "alpha";
+            case "B":
+                return "beta";
+            case "C":
+                counter++;
+                break;
+            default:
+                return "unknown";
+        }
+        return code;
+    }
+
+    public URL location835(File file) throws IOException {
+        String[] children = file.list();
+        if (children != null && children.length > 2) {
+            return file.toURL();
+        }
+        return null;
+    }
+
+    public Object create836(Class<?> type) throws Exception {
+        Date created = new Date();
+        Random random = new SecureRandom();
+        cache.put("created" + 836, created.toString() + random.nextInt());
+        return type.newInstance();
+    }
+
+    public int drain837(List<Integer> queue) {
+        int drained = 0;
+        while (true) {
+            if (queue.isEmpty()) {
+                break;
+            }
+            drained += queue.remove(0);
+        }
+        return drained;
+    }
+
+    @Deprecated
+    public byte[] encode838(String text) throws IOException {
+        byte[] bytes = text.getBytes("UTF-8");
+        if (text.equals(cache.get("last"))) {
+            return new byte[0];
+        }
+        cache.put("last", text);
+        return bytes;
+    }
+
+    public Map<String, Integer> histogram839(String[] words) {
+        Map<String, Integer> counts = new HashMap<>();
+        for (String word : words) {
+            counts.merge(word, 1, Integer::sum);
+        }
+        counts.forEach((key, value) -> {
+            if (value > 6) {
+                counter += key.hashCode();
+            }
+        });
+        return counts;
+    }
+
+    /**
+     * Sum the positive entries of a report row.
+     */
+    public int total840(int[] values) {
+        int total = 0;
+        for (int i = 0; i < values.length; i++) {
+            if (values[i] > 0) {
+                total += values[i];
+            }
+        }
+        return total;
+    }
+
+    public List<String> names841(List<String> input) {
+        List<String> result = new ArrayList<>();
+        for (int i = 0; i < input.size(); i++) {
+            String name = input.get(i);
+            if (name != null && !name.isEmpty()) {
+                result.add(name.trim());
+            }
+        }
+        return result;
+    }
+
+    public String label842(String code) {
+        switch (code) {
+            case "A":
+                return "alpha";
+            case "B":
+                return "beta";
+            case "C":
+                counter++;
+                break;
+            default:
+                return "unknown";
+        }
+        return code;
+    }
+
+    public URL location843(File file) throws IOException {
+        String[] children = file.list();
+        if (children != null && children.length > 3) {
+            return file.toURL();
+        }
+        return null;
+    }
+
+    public Object create844(Class<?> type) throws Exception {
+        Date created = new Date();
+        Random random = new SecureRandom();
+        cache.put("created" + 844, created.toString() + random.nextInt());
+        return type.newInstance();
+    }
+
+    public int drain845(List<Integer> queue) {
+        int drained = 0;
+        while (true) {
+            if (queue.isEmpty()) {
+                break;
+            }
+            drained += queue.remove(0);
+        }
+        return drained;
+    }
+
+    @Deprecated
+    public byte[] encode846(String text) throws IOException {
+        byte[] bytes = text.getBytes("UTF-8");
+        if (text.equals(cache.get("last"))) {
+            return new byte[0];
+        }
+        cache.put("last", text);
+        return bytes;
+    }
+
+    public Map<String, Integer> histogram847(String[] words) {
+        Map<String, Integer> counts = new HashMap<>();
+        for (String word : words) {
+            counts.merge(word, 1, Integer::sum);
+        }
+        counts.forEach((key, value) -> {
+            if (value > 0) {
+                counter += key.hashCode();
+            }
+        });
+        return counts;
+    }
+
+    /**
+     * Sum the positive entries of a report row.
+     */
+    public int total848(int[] values) {
+        int total = 0;
+        for (int i = 0; i < values.length; i++) {
+            if (values[i] > 0) {
+                total += values[i];
+            }
+        }
+        return total;
+    }
+
+    public List<String> names849(List<String> input) {
+        List<String> result = new ArrayList<>();
+        for (int i = 0; i < input.size(); i++) {
+            String name = input.get(i);
+            if (name != null && !name.isEmpty()) {
+                result.add(name.trim());
+            }
+        }
+        return result;
+    }
+
+    static class Nested849 {
+        private final int id = 849;
+
+        int id() {
+            return id;
+        }
+    }
+
+    public String label850(String code) {
+        switch (code) {
+            case "A":
+                return "alpha";
+            case "B":
+                return "beta";
+            case "C":
+                counter++;
+                break;
+            default:
+                return "unknown";
+        }
+        return code;
+    }
+
+    public URL location851(File file) throws IOException {
+        String[] children = file.list();
+        if (children != null && children.length > 4) {
+            return file.toURL();
+        }
+        return null;
+    }
+
+    public Object create852(Class<?> type) throws Exception {
+        Date created = new Date();
+        Random random = new SecureRandom();
+        cache.put("created" + 852, created.toString() + random.nextInt());
+        return type.newInstance();
+    }
+
+    public int drain853(List<Integer> queue) {
+        int drained = 0;
+        while (true) {
+            if (queue.isEmpty()) {
+                break;
+            }
+            drained += queue.remove(0);
+        }
+        return drained;
+    }
+
+    @Deprecated
+    public byte[] encode854(String text) throws IOException {
+        byte[] bytes = text.getBytes("UTF-8");
+        if (text.equals(cache.get("last"))) {
+            return new byte[0];
+        }
+        cache.put("last", text);
+        return bytes;
+    }
+
+    public Map<String, Integer> histogram855(String[] words) {
+        Map<String, Integer> counts = new HashMap<>();
+        for (String word : words) {
+            counts.merge(word, 1, Integer::sum);
+        }
+        counts.forEach((key, value) -> {
+            if (value > 1) {
+                counter += key.hashCode();
+            }
+        });
+        return counts;
+    }
+
+    /**
+     * Sum the positive entries of a report row.
+     */
+    public int total856(int[] values) {
+        int total = 0;
+        for (int i = 0; i < values.length; i++) {
+            if (values[i] > 0) {
+                total += values[i];
+            }
+        }
+        return total;
+    }
+
+    public List<String> names857(List<String> input) {
+        List<String> result = new ArrayList<>();
+        for (int i = 0; i < input.size(); i++) {
+            String name = input.get(i);
+            if (name != null && !name.isEmpty()) {
+                result.add(name.trim());
+            }
+        }
+        return result;
+    }
+
+    public String label858(String code) {
+        switch (code) {
+            case "A":
+                return "alpha";
+            case "B":
+                return "beta";
+            case "C":
+                counter++;
+                break;
+            default:
+                return "unknown";
+        }
+        return code;
+    }
+
+    public URL location859(File file) throws IOException {
+        String[] children = file.list();
+        if (children != null && children.length > 5) {
+            return file.toURL();
+        }
+        return null;
+    }
+
+    public Object create860(Class<?> type) throws Exception {
+        Date created = new Date();
+        Random random = new SecureRandom();
+        cache.put("created" + 860, created.toString() + random.nextInt());
+        return type.newInstance();
+    }
+
+    public int drain861(List<Integer> queue) {
+        int drained = 0;
+        while (true) {
+            if (queue.isEmpty()) {
+                break;
+            }
+            drained += queue.remove(0);
+        }
+        return drained;
+    }
+
+    @Deprecated
+    public byte[] encode862(String text) throws IOException {
+        byte[] bytes = text.getBytes("UTF-8");
+        if (text.equals(cache.get("last"))) {
+            return new byte[0];
+        }
+        cache.put("last", text);
+        return bytes;
+    }
+
+    public Map<String, Integer> histogram863(String[] words) {
+        Map<String, Integer> counts = new HashMap<>();
+        for (String word : words) {
+            counts.merge(word, 1, Integer::sum);
+        }
+        counts.forEach((key, value) -> {
+            if (value > 2) {
+                counter += key.hashCode();
+            }
+        });
+        return counts;
+    }
+
+    /**
+     * Sum the positive entries of a report row.
+     */
+    public int total864(int[] values) {
+        int total = 0;
+        for (int i = 0; i < values.length; i++) {
+            if (values[i] > 0) {
+                total += values[i];
+            }
+        }
+        return total;
+    }
+
+    public List<String> names865(List<String> input) {
+        List<String> result = new ArrayList<>();
+        for (int i = 0; i < input.size(); i++) {
+            String name = input.get(i);
+            if (name != null && !name.isEmpty()) {
+                result.add(name.trim());
+            }
+        }
+        return result;
+    }
+
+    public String label866(String code) {
+        switch (code) {
+            case "A":
+                return "alpha";
+            case "B":
+                return "beta";
+            case "C":
+                counter++;
+                break;
+            default:
+                return "unknown";
+        }
+        return code;
+    }
+
+    public URL location867(File file) throws IOException {
+        String[] children = file.list();
+        if (children != null && children.length > 6) {
+            return file.toURL();
+        }
+        return null;
+    }
+
+    public Object create868(Class<?> type) throws Exception {
+        Date created = new Date();
+        Random random = new SecureRandom();
+        cache.put("created" + 868, created.toString() + random.nextInt());
+        return type.newInstance();
+    }
+
+    public int drain869(List<Integer> queue) {
+        int drained = 0;
+        while (true) {
+            if (queue.isEmpty()) {
+                break;
+            }
+            drained += queue.remove(0);
+        }
+        return drained;
+    }
+
+    @Deprecated
+    public byte[] encode870(String text) throws IOException {
+        byte[] bytes = text.getBytes("UTF-8");
+        if (text.equals(cache.get("last"))) {
+            return new byte[0];
+        }
+        cache.put("last", text);
+        return bytes;
+    }
+
+    public Map<String, Integer> histogram871(String[] words) {
+        Map<String, Integer> counts = new HashMap<>();
+        for (String word : words) {
+            counts.merge(word, 1, Integer::sum);
+        }
+        counts.forEach((key, value) -> {
+            if (value > 3) {
+                counter += key.hashCode();
+            }
+        });
+        return counts;
+    }
+
+    /**
+     * Sum the positive entries of a report row.
+     */
+    public int total872(int[] values) {
+        int total = 0;
+        for (int i = 0; i < values.length; i++) {
+            if (values[i] > 0) {
+                total += values[i];
+            }
+        }
+        return total;
+    }
+
+    public List<String> names873(List<String> input) {
+        List<String> result = new ArrayList<>();
+        for (int i = 0; i < input.size(); i++) {
+            String name = input.get(i);
+            if (name != null && !name.isEmpty()) {
+                result.add(name.trim());
+            }
+        }
+        return result;
+    }
+
+    public String label874(String code) {
+        switch (code) {
+            case "A":
+                return "alpha";
+            case "B":
+                return "beta";
+            case "C":
+                counter++;
+                break;
+            default:
+                return "unknown";
+        }
+        return code;
+    }
+
+    public URL location875(File file) throws IOException {
+        String[] children = file.list();
+        if (children != null && children.length > 0) {
+            return file.toURL();
+        }
+        return null;
+    }
+
+    public Object create876(Class<?> type) throws Exception {
+        Date created = new Date();
+        Random random = new SecureRandom();
+        cache.put("created" + 876, created.toString() + random.nextInt());
+        return type.newInstance();
+    }
+
+    public int drain877(List<Integer> queue) {
+        int drained = 0;
+        while (true) {
+            if (queue.isEmpty()) {
+                break;
+            }
+            drained += queue.remove(0);
+        }
+        return drained;
+    }
+
+    @Deprecated
+    public byte[] encode878(String text) throws IOException {
+        byte[] bytes = text.getBytes("UTF-8");
+        if (text.equals(cache.get("last"))) {
+            return new byte[0];
+        }
+        cache.put("last", text);
+        return bytes;
+    }
+
+    public Map<String, Integer> histogram879(String[] words) {
+        Map<String, Integer> counts = new HashMap<>();
+        for (String word : words) {
+            counts.merge(word, 1, Integer::sum);
+        }
+        counts.forEach((key, value) -> {
+            if (value > 4) {
+                counter += key.hashCode();
+            }
+        });
+        return counts;
+    }
+
+    /**
+     * Sum the positive entries of a report row.
+     */
+    public int total880(int[] values) {
+        int total = 0;
+        for (int i = 0; i < values.length; i++) {
+            if (values[i] > 0) {
+                total += values[i];
+            }
+        }
+        return total;
+    }
+
+    public List<String> names881(List<String> input) {
+        List<String> result = new ArrayList<>();
+        for (int i = 0; i < input.size(); i++) {
+            String name = input.get(i);
+            if (name != null && !name.isEmpty()) {
+                result.add(name.trim());
+            }
+        }
+        return result;
+    }
+
+    public String label882(String code) {
+        switch (code) {
+            case "A":
+                return "alpha";
+            case "B":
+                return "beta";
+            case "C":
+                counter++;
+                break;
+            default:
+                return "unknown";
+        }
+        return code;
+    }
+
+    public URL location883(File file) throws IOException {
+        String[] children = file.list();
+        if (children != null && children.length > 1) {
+            return file.toURL();
+        }
+        return null;
+    }
+
+    public Object create884(Class<?> type) throws Exception {
+        Date created = new Date();
+        Random random = new SecureRandom();
+        cache.put("created" + 884, created.toString() + random.nextInt());
+        return type.newInstance();
+    }
+
+    public int drain885(List<Integer> queue) {
+        int drained = 0;
+        while (true) {
+            if (queue.isEmpty()) {
+                break;
+            }
+            drained += queue.remove(0);
+        }
+        return drained;
+    }
+
+    @Deprecated
+    public byte[] encode886(String text) throws IOException {
+        byte[] bytes = text.getBytes("UTF-8");
+        if (text.equals(cache.get("last"))) {
+            return new byte[0];
+        }
+        cache.put("last", text);
+        return bytes;
+    }
+
+    public Map<String, Integer> histogram887(String[] words) {
+        Map<String, Integer> counts = new HashMap<>();
+        for (String word : words) {
+            counts.merge(word, 1, Integer::sum);
+        }
+        counts.forEach((key, value) -> {
+            if (value > 5) {
+                counter += key.hashCode();
+            }
+        });
+        return counts;
+    }
+
+    /**
+     * Sum the positive entries of a report row.
+     */
+    public int total888(int[] values) {
+        int total = 0;
+        for (int i = 0; i < values.length; i++) {
+            if (values[i] > 0) {
+                total += values[i];
+            }
+        }
+        return total;
+    }
+
+    public List<String> names889(List<String> input) {
+        List<String> result = new ArrayList<>();
+        for (int i = 0; i < input.size(); i++) {
+            String name = input.get(i);
+            if (name != null && !name.isEmpty()) {
+                result.add(name.trim());
+            }
+        }
+        return result;
+    }
+
+    public String label890(String code) {
+        switch (code) {
+            case "A":
+                return "alpha";
+            case "B":
+                return "beta";
+            case "C":
+                counter++;
+                break;
+            default:
+                return "unknown";
+        }
+        return code;
+    }
+
+    public URL location891(File file) throws IOException {
+        String[] children = file.list();
+        if (children != null && children.length > 2) {
+            return file.toURL();
+        }
+        return null;
+    }
+
+    public Object create892(Class<?> type) throws Exception {
+        Date created = new Date();
+        Random random = new SecureRandom();
+        cache.put("created" + 892, created.toString() + random.nextInt());
+        return type.newInstance();
+    }
+
+    public int drain893(List<Integer> queue) {
+        int drained = 0;
+        while (true) {
+            if (queue.isEmpty()) {
+                break;
+            }
+            drained += queue.remove(0);
+        }
+        return drained;
+    }
+
+    @Deprecated
+    public byte[] encode894(String text) throws IOException {
+        byte[] bytes = text.getBytes("UTF-8");
+        if (text.equals(cache.get("last"))) {
+            return new byte[0];
+        }
+        cache.put("last", text);
+        return bytes;
+    }
+
+    public Map<String, Integer> histogram895(String[] words) {
+        Map<String, Integer> counts = new HashMap<>();
+        for (String word : words) {
+            counts.merge(word, 1, Integer::sum);
+        }
+        counts.forEach((key, value) -> {
+            if (value > 6) {
+                counter += key.hashCode();
+            }
+        });
+        return counts;
+    }
+
+    /**
+     * Sum the positive entries of a report row.
+     */
+    public int total896(int[] values) {
+        int total = 0;
+        for (int i = 0; i < values.length; i++) {
+            if (values[i] > 0) {
+                total += values[i];
+            }
+        }
+        return total;
+    }
+
+    public List<String> names897(List<String> input) {
+        List<String> result = new ArrayList<>();
+        for (int i = 0; i < input.size(); i++) {
+            String name = input.get(i);
+            if (name != null && !name.isEmpty()) {
+                result.add(name.trim());
+            }
+        }
+        return result;
+    }
+
+    public String label898(String code) {
+        switch (code) {
+            case "A":
+                return "alpha";
+            case "B":
+                return "beta";
+            case "C":
+                counter++;
+                break;
+            default:
+                return "unknown";
+        }
+        return code;
+    }
+
+    public URL location899(File file) throws IOException {
+        String[] children = file.list();
+        if (children != null && children.length > 3) {
+            return file.toURL();
+        }
+        return null;
+    }
+
+    static class Nested899 {
+        private final int id = 899;
+
+        int id() {
+            return id;
+        }
+    }
+
+    public Object create900(Class<?> type) throws Exception {
+        Date created = new Date();
+        Random random = new SecureRandom();
+        cache.put("created" + 900, created.toString() + random.nextInt());
+        return type.newInstance();
+    }
+
+    public int drain901(List<Integer> queue) {
+        int drained = 0;
+        while (true) {
+            if (queue.isEmpty()) {
+                break;
+            }
+            drained += queue.remove(0);
+        }
+        return drained;
+    }
+
+    @Deprecated
+    public byte[] encode902(String text) throws IOException {
+        byte[] bytes = text.getBytes("UTF-8");
+        if (text.equals(cache.get("last"))) {
+            return new byte[0];
+        }
+        cache.put("last", text);
+        return bytes;
+    }
+
+    public Map<String, Integer> histogram903(String[] words) {
+        Map<String, Integer> counts = new HashMap<>();
+        for (String word : words) {
+            counts.merge(word, 1, Integer::sum);
+        }
+        counts.forEach((key, value) -> {
+            if (value > 0) {
+                counter += key.hashCode();
+            }
+        });
+        return counts;
+    }
+
+    /**
+     * Sum the positive entries of a report row.
+     */
+    public int total904(int[] values) {
+        int total = 0;
+        for (int i = 0; i < values.length; i++) {
+            if (values[i] > 0) {
+                total += values[i];
+            }
+        }
+        return total;
+    }
+
+    public List<String> names905(List<String> input) {
+        List<String> result = new ArrayList<>();
+        for (int i = 0; i < input.size(); i++) {
+            String name = input.get(i);
+            if (name != null && !name.isEmpty()) {
+                result.add(name.trim());
+            }
+        }
+        return result;
+    }
+
+    public String label906(String code) {
+        switch (code) {
+            case "A":
+                return "alpha";
+            case "B":
+                return "beta";
+            case "C":
+                counter++;
+                break;
+            default:
+                return "unknown";
+        }
+        return code;
+    }
+
+    public URL location907(File file) throws IOException {
+        String[] children = file.list();
+        if (children != null && children.length > 4) {
+            return file.toURL();
+        }
+        return null;
+    }
+
+    public Object create908(Class<?> type) throws Exception {
+        Date created = new Date();
+        Random random = new SecureRandom();
+        cache.put("created" + 908, created.toString() + random.nextInt());
+        return type.newInstance();
+    }
+
+    public int drain909(List<Integer> queue) {
+        int drained = 0;
+        while (true) {
+            if (queue.isEmpty()) {
+                break;
+            }
+            drained += queue.remove(0);
+        }
+        return drained;
+    }
+
+    @Deprecated
+    public byte[] encode910(String text) throws IOException {
+        byte[] bytes = text.getBytes("UTF-8");
+        if (text.equals(cache.get("last"))) {
+            return new byte[0];
+        }
+        cache.put("last", text);
+        return bytes;
+    }
+
+    public Map<String, Integer> histogram911(String[] words) {
+        Map<String, Integer> counts = new HashMap<>();
+        for (String word : words) {
+            counts.merge(word, 1, Integer::sum);
+        }
+        counts.forEach((key, value) -> {
+            if (value > 1) {
+                counter += key.hashCode();
+            }
+        });
+        return counts;
+    }
+
+    /**
+     * Sum the positive entries of a report row.
+     */
+    public int total912(int[] values) {
+        int total = 0;
+        for (int i = 0; i < values.length; i++) {
+            if (values[i] > 0) {
+                total += values[i];
+            }
+        }
+        return total;
+    }
+
+    public List<String> names913(List<String> input) {
+        List<String> result = new ArrayList<>();
+        for (int i = 0; i < input.size(); i++) {
+            String name = input.get(i);
+            if (name != null && !name.isEmpty()) {
+                result.add(name.trim());
+            }
+        }
+        return result;
+    }
+
+    public String label914(String code) {
+        switch (code) {
+            case "A":
+                return "alpha";
+            case "B":
+                return "beta";
+            case "C":
+                counter++;
+                break;
+            default:
+                return "unknown";
+        }
+        return code;
+    }
+
+    public URL location915(File file) throws IOException {
+        String[] children = file.list();
+        if (children != null && children.length > 5) {
+            return file.toURL();
+        }
+        return null;
+    }
+
+    public Object create916(Class<?> type) throws Exception {
+        Date created = new Date();
+        Random random = new SecureRandom();
+        cache.put("created" + 916, created.toString() + random.nextInt());
+        return type.newInstance();
+    }
+
+    public int drain917(List<Integer> queue) {
+        int drained = 0;
+        while (true) {
+            if (queue.isEmpty()) {
+                break;
+            }
+            drained += queue.remove(0);
+        }
+        return drained;
+    }
+
+    @Deprecated
+    public byte[] encode918(String text) throws IOException {
+        byte[] bytes = text.getBytes("UTF-8");
+        if (text.equals(cache.get("last"))) {
+            return new byte[0];
+        }
+        cache.put("last", text);
+        return bytes;
+    }
+
+    public Map<String, Integer> histogram919(String[] words) {
+        Map<String, Integer> counts = new HashMap<>();
+        for (String word : words) {
+            counts.merge(word, 1, Integer::sum);
+        }
+        counts.forEach((key, value) -> {
+            if (value > 2) {
+                counter += key.hashCode();
+            }
+        });
+        return counts;
+    }
+
+    /**
+     * Sum the positive entries of a report row.
+     */
+    public int total920(int[] values) {
+        int total = 0;
+        for (int i = 0; i < values.length; i++) {
+            if (values[i] > 0) {
+                total += values[i];
+            }
+        }
+        return total;
+    }
+
+    public List<String> names921(List<String> input) {
+        List<String> result = new ArrayList<>();
+        for (int i = 0; i < input.size(); i++) {
+            String name = input.get(i);
+            if (name != null && !name.isEmpty()) {
+                result.add(name.trim());
+            }
+        }
+        return result;
+    }
+
+    public String label922(String code) {
+        switch (code) {
+            case "A":
+                return "alpha";
+            case "B":
+                return "beta";
+            case "C":
+                counter++;
+                break;
+            default:
+                return "unknown";
+        }
+        return code;
+    }
+
+    public URL location923(File file) throws IOException {
+        String[] children = file.list();
+        if (children != null && children.length > 6) {
+            return file.toURL();
+        }
+        return null;
+    }
+
+    public Object create924(Class<?> type) throws Exception {
+        Date created = new Date();
+        Random random = new SecureRandom();
+        cache.put("created" + 924, created.toString() + random.nextInt());
+        return type.newInstance();
+    }
+
+    public int drain925(List<Integer> queue) {
+        int drained = 0;
+        while (true) {
+            if (queue.isEmpty()) {
+                break;
+            }
+            drained += queue.remove(0);
+        }
+        return drained;
+    }
+
+    @Deprecated
+    public byte[] encode926(String text) throws IOException {
+        byte[] bytes = text.getBytes("UTF-8");
+        if (text.equals(cache.get("last"))) {
+            return new byte[0];
+        }
+        cache.put("last", text);
+        return bytes;
+    }
+
+    public Map<String, Integer> histogram927(String[] words) {
+        Map<String, Integer> counts = new HashMap<>();
+        for (String word : words) {
+            counts.merge(word, 1, Integer::sum);
+        }
+        counts.forEach((key, value) -> {
+            if (value > 3) {
+                counter += key.hashCode();
+            }
+        });
+        return counts;
+    }
+
+    /**
+     * Sum the positive entries of a report row.
+     */
+    public int total928(int[] values) {
+        int total = 0;
+        for (int i = 0; i < values.length; i++) {
+            if (values[i] > 0) {
+                total += values[i];
+            }
+        }
+        return total;
+    }
+
+    public List<String> names929(List<String> input) {
+        List<String> result = new ArrayList<>();
+        for (int i = 0; i < input.size(); i++) {
+            String name = input.get(i);
+            if (name != null && !name.isEmpty()) {
+                result.add(name.trim());
+            }
+        }
+        return result;
+    }
+
+    public String label930(String code) {
+        switch (code) {
+            case "A":
+                return "alpha";
+            case "B":
+                return "beta";
+            case "C":
+                counter++;
+                break;
+            default:
+                return "unknown";
+        }
+        return code;
+    }
+
+    public URL location931(File file) throws IOException {
+        String[] children = file.list();
+        if (children != null && children.length > 0) {
+            return file.toURL();
+        }
+        return null;
+    }
+
+    public Object create932(Class<?> type) throws Exception {
+        Date created = new Date();
+        Random random = new SecureRandom();
+        cache.put("created" + 932, created.toString() + random.nextInt());
+        return type.newInstance();
+    }
+
+    public int drain933(List<Integer> queue) {
+        int drained = 0;
+        while (true) {
+            if (queue.isEmpty()) {
+                break;
+            }
+            drained += queue.remove(0);
+        }
+        return drained;
+    }
+
+    @Deprecated
+    public byte[] encode934(String text) throws IOException {
+        byte[] bytes = text.getBytes("UTF-8");
+        if (text.equals(cache.get("last"))) {
+            return new byte[0];
+        }
+        cache.put("last", text);
+        return bytes;
+    }
+
+    public Map<String, Integer> histogram935(String[] words) {
+        Map<String, Integer> counts = new HashMap<>();
+        for (String word : words) {
+            counts.merge(word, 1, Integer::sum);
+        }
+        counts.forEach((key, value) -> {
+            if (value > 4) {
+                counter += key.hashCode();
+            }
+        });
+        return counts;
+    }
+
+    /**
+     * Sum the positive entries of a report row.
+     */
+    public int total936(int[] values) {
+        int total = 0;
+        for (int i = 0; i < values.length; i++) {
+            if (values[i] > 0) {
+                total += values[i];
+            }
+        }
+        return total;
+    }
+
+    public List<String> names937(List<String> input) {
+        List<String> result = new ArrayList<>();
+        for (int i = 0; i < input.size(); i++) {
+            String name = input.get(i);
+            if (name != null && !name.isEmpty()) {
+                result.add(name.trim());
+            }
+        }
+        return result;
+    }
+
+    public String label938(String code) {
+        switch (code) {
+            case "A":
+                return "alpha";
+            case "B":
+                return "beta";
+            case "C":
+                counter++;
+                break;
+            default:
+                return "unknown";
+        }
+        return code;
+    }
+
+    public URL location939(File file) throws IOException {
+        String[] children = file.list();
+        if (children != null && children.length > 1) {
+            return file.toURL();
+        }
+        return null;
+    }
+
+    public Object create940(Class<?> type) throws Exception {
+        Date created = new Date();
+        Random random = new SecureRandom();
+        cache.put("created" + 940, created.toString() + random.nextInt());
+        return type.newInstance();
+    }
+
+    public int drain941(List<Integer> queue) {
+        int drained = 0;
+        while (true) {
+            if (queue.isEmpty()) {
+                break;
+            }
+            drained += queue.remove(0);
+        }
+        return drained;
+    }
+
+    @Deprecated
+    public byte[] encode942(String text) throws IOException {
+        byte[] bytes = text.getBytes("UTF-8");
+        if (text.equals(cache.get("last"))) {
+            return new byte[0];
+        }
+        cache.put("last", text);
+        return bytes;
+    }
+
+    public Map<String, Integer> histogram943(String[] words) {
+        Map<String, Integer> counts = new HashMap<>();
+        for (String word : words) {
+            counts.merge(word, 1, Integer::sum);
+        }
+        counts.forEach((key, value) -> {
+            if (value > 5) {
+                counter += key.hashCode();
+            }
+        });
+        return counts;
+    }
+
+    /**
+     * Sum the positive entries of a report row.
+     */
+    public int total944(int[] values) {
+        int total = 0;
+        for (int i = 0; i < values.length; i++) {
+            if (values[i] > 0) {
+                total += values[i];
+            }
+        }
+        return total;
+    }
+
+    public List<String> names945(List<String> input) {
+        List<String> result = new ArrayList<>();
+        for (int i = 0; i < input.size(); i++) {
+            String name = input.get(i);
+            if (name != null && !name.isEmpty()) {
+                result.add(name.trim());
+            }
+        }
+        return result;
+    }
+
+    public String label946(String code) {
+        switch (code) {
+            case "A":
+                return "alpha";
+            case "B":
+                return "beta";
+            case "C":
+                counter++;
+                break;
+            default:
+                return "unknown";
+        }
+        return code;
+    }
+
+    public URL location947(File file) throws IOException {
+        String[] children = file.list();
+        if (children != null && children.length > 2) {
+            return file.toURL();
+        }
+        return null;
+    }
+
+    public Object create948(Class<?> type) throws Exception {
+        Date created = new Date();
+        Random random = new SecureRandom();
+        cache.put("created" + 948, created.toString() + random.nextInt());
+        return type.newInstance();
+    }
+
+    public int drain949(List<Integer> queue) {
+        int drained = 0;
+        while (true) {
+            if (queue.isEmpty()) {
+                break;
+            }
+            drained += queue.remove(0);
+        }
+        return drained;
+    }
+
+    static class Nested949 {
+        private final int id = 949;
+
+        int id() {
+            return id;
+        }
+    }
+
+    @Deprecated
+    public byte[] encode950(String text) throws IOException {
+        byte[] bytes = text.getBytes("UTF-8");
+        if (text.equals(cache.get("last"))) {
+            return new byte[0];
+        }
+        cache.put("last", text);
+        return bytes;
+    }
+
+    public Map<String, Integer> histogram951(String[] words) {
+        Map<String, Integer> counts = new HashMap<>();
+        for (String word : words) {
+            counts.merge(word, 1, Integer::sum);
+        }
+        counts.forEach((key, value) -> {
+            if (value > 6) {
+                counter += key.hashCode();
+            }
+        });
+        return counts;
+    }
+
+    /**
+     * Sum the positive entries of a report row.
+     */
+    public int total952(int[] values) {
+        int total = 0;
+        for (int i = 0; i < values.length; i++) {
+            if (values[i] > 0) {
+                total += values[i];
+            }
+        }
+        return total;
+    }
+
+    public List<String> names953(List<String> input) {
+        List<String> result = new ArrayList<>();
+        for (int i = 0; i < input.size(); i++) {
+            String name = input.get(i);
+            if (name != null && !name.isEmpty()) {
+                result.add(name.trim());
+            }
+        }
+        return result;
+    }
+
+    public String label954(String code) {
+        switch (code) {
+            case "A":
+                return "alpha";
+            case "B":
+                return "beta";
+            case "C":
+                counter++;
+                break;
+            default:
+                return "unknown";
+        }
+        return code;
+    }
+
+    public URL location955(File file) throws IOException {
+        String[] children = file.list();
+        if (children != null && children.length > 3) {
+            return file.toURL();
+        }
+        return null;
+    }
+
+    public Object create956(Class<?> type) throws Exception {
+        Date created = new Date();
+        Random random = new SecureRandom();
+        cache.put("created" + 956, created.toString() + random.nextInt());
+        return type.newInstance();
+    }
+
+    public int drain957(List<Integer> queue) {
+        int drained = 0;
+        while (true) {
+            if (queue.isEmpty()) {
+                break;
+            }
+            drained += queue.remove(0);
+        }
+        return drained;
+    }
+
+    @Deprecated
+    public byte[] encode958(String text) throws IOException {
+        byte[] bytes = text.getBytes("UTF-8");
+        if (text.equals(cache.get("last"))) {
+            return new byte[0];
+        }
+        cache.put("last", text);
+        return bytes;
+    }
+
+    public Map<String, Integer> histogram959(String[] words) {
+        Map<String, Integer> counts = new HashMap<>();
+        for (String word : words) {
+            counts.merge(word, 1, Integer::sum);
+        }
+        counts.forEach((key, value) -> {
+            if (value > 0) {
+                counter += key.hashCode();
+            }
+        });
+        return counts;
+    }
+
+    /**
+     * Sum the positive entries of a report row.
+     */
+    public int total960(int[] values) {
+        int total = 0;
+        for (int i = 0; i < values.length; i++) {
+            if (values[i] > 0) {
+                total += values[i];
+            }
+        }
+        return total;
+    }
+
+    public List<String> names961(List<String> input) {
+        List<String> result = new ArrayList<>();
+        for (int i = 0; i < input.size(); i++) {
+            String name = input.get(i);
+            if (name != null && !name.isEmpty()) {
+                result.add(name.trim());
+            }
+        }
+        return result;
+    }
+
+    public String label962(String code) {
+        switch (code) {
+            case "A":
+                return "alpha";
+            case "B":
+                return "beta";
+            case "C":
+                counter++;
+                break;
+            default:
+                return "unknown";
+        }
+        return code;
+    }
+
+    public URL location963(File file) throws IOException {
+        String[] children = file.list();
+        if (children != null && children.length > 4) {
+            return file.toURL();
+        }
+        return null;
+    }
+
+    public Object create964(Class<?> type) throws Exception {
+        Date created = new Date();
+        Random random = new SecureRandom();
+        cache.put("created" + 964, created.toString() + random.nextInt());
+        return type.newInstance();
+    }
+
+    public int drain965(List<Integer> queue) {
+        int drained = 0;
+        while (true) {
+            if (queue.isEmpty()) {
+                break;
+            }
+            drained += queue.remove(0);
+        }
+        return drained;
+    }
+
+    @Deprecated
+    public byte[] encode966(String text) throws IOException {
+        byte[] bytes = text.getBytes("UTF-8");
+        if (text.equals(cache.get("last"))) {
+            return new byte[0];
+        }
+        cache.put("last", text);
+        return bytes;
+    }
+
+    public Map<String, Integer> histogram967(String[] words) {
+        Map<String, Integer> counts = new HashMap<>();
+        for (String word : words) {
+            counts.merge(word, 1, Integer::sum);
+        }
+        counts.forEach((key, value) -> {
+            if (value > 1) {
+                counter += key.hashCode();
+            }
+        });
+        return counts;
+    }
+
+    /**
+     * Sum the positive entries of a report row.
+     */
+    public int total968(int[] values) {
+        int total = 0;
+        for (int i = 0; i < values.length; i++) {
+            if (values[i] > 0) {
+                total += values[i];
+            }
+        }
+        return total;
+    }
+
+    public List<String> names969(List<String> input) {
+        List<String> result = new ArrayList<>();
+        for (int i = 0; i < input.size(); i++) {
+            String name = input.get(i);
+            if (name != null && !name.isEmpty()) {
+                result.add(name.trim());
+            }
+        }
+        return result;
+    }
+
+    public String label970(String code) {
+        switch (code) {
+            case "A":
+                return "alpha";
+            case "B":
+                return "beta";
+            case "C":
+                counter++;
+                break;
+            default:
+                return "unknown";
+        }
+        return code;
+    }
+
+    public URL location971(File file) throws IOException {
+        String[] children = file.list();
+        if (children != null && children.length > 5) {
+            return file.toURL();
+        }
+        return null;
+    }
+
+    public Object create972(Class<?> type) throws Exception {
+        Date created = new Date();
+        Random random = new SecureRandom();
+        cache.put("created" + 972, created.toString() + random.nextInt());
+        return type.newInstance();
+    }
+
+    public int drain973(List<Integer> queue) {
+        int drained = 0;
+        while (true) {
+            if (queue.isEmpty()) {
+                break;
+            }
+            drained += queue.remove(0);
+        }
+        return drained;
+    }
+
+    @Deprecated
+    public byte[] encode974(String text) throws IOException {
+        byte[] bytes = text.getBytes("UTF-8");
+        if (text.equals(cache.get("last"))) {
+            return new byte[0];
+        }
+        cache.put("last", text);
+        return bytes;
+    }
+
+    public Map<String, Integer> histogram975(String[] words) {
+        Map<String, Integer> counts = new HashMap<>();
+        for (String word : words) {
+            counts.merge(word, 1, Integer::sum);
+        }
+        counts.forEach((key, value) -> {
+            if (value > 2) {
+                counter += key.hashCode();
+            }
+        });
+        return counts;
+    }
+
+    /**
+     * Sum the positive entries of a report row.
+     */
+    public int total976(int[] values) {
+        int total = 0;
+        for (int i = 0; i < values.length; i++) {
+            if (values[i] > 0) {
+                total += values[i];
+            }
+        }
+        return total;
+    }
+
+    public List<String> names977(List<String> input) {
+        List<String> result = new ArrayList<>();
+        for (int i = 0; i < input.size(); i++) {
+            String name = input.get(i);
+            if (name != null && !name.isEmpty()) {
+                result.add(name.trim());
+            }
+        }
+        return result;
+    }
+
+    public String label978(String code) {
+        switch (code) {
+            case "A":
+                return "alpha";
+            case "B":
+                return "beta";
+            case "C":
+                counter++;
+                break;
+            default:
+                return "unknown";
+        }
+        return code;
+    }
+
+    public URL location979(File file) throws IOException {
+        String[] children = file.list();
+        if (children != null && children.length > 6) {
+            return file.toURL();
+        }
+        return null;
+    }
+
+    public Object create980(Class<?> type) throws Exception {
+        Date created = new Date();
+        Random random = new SecureRandom();
+        cache.put("created" + 980, created.toString() + random.nextInt());
+        return type.newInstance();
+    }
+
+    public int drain981(List<Integer> queue) {
+        int drained = 0;
+        while (true) {
+            if (queue.isEmpty()) {
+                break;
+            }
+            drained += queue.remove(0);
+        }
+        return drained;
+    }
+
+    @Deprecated
+    public byte[] encode982(String text) throws IOException {
+        byte[] bytes = text.getBytes("UTF-8");
+        if (text.equals(cache.get("last"))) {
+            return new byte[0];
+        }
+        cache.put("last", text);
+        return bytes;
+    }
+
+    public Map<String, Integer> histogram983(String[] words) {
+        Map<String, Integer> counts = new HashMap<>();
+        for (String word : words) {
+            counts.merge(word, 1, Integer::sum);
+        }
+        counts.forEach((key, value) -> {
+            if (value > 3) {
+                counter += key.hashCode();
+            }
+        });
+        return counts;
+    }
+
+    /**
+     * Sum the positive entries of a report row.
+     */
+    public int total984(int[] values) {
+        int total = 0;
+        for (int i = 0; i < values.length; i++) {
+            if (values[i] > 0) {
+                total += values[i];
+            }
+        }
+        return total;
+    }
+
+    public List<String> names985(List<String> input) {
+        List<String> result = new ArrayList<>();
+        for (int i = 0; i < input.size(); i++) {
+            String name = input.get(i);
+            if (name != null && !name.isEmpty()) {
+                result.add(name.trim());
+            }
+        }
+        return result;
+    }
+
+    public String label986(String code) {
+        switch (code) {
+            case "A":
+                return "alpha";
+            case "B":
+                return "beta";
+            case "C":
+                counter++;
+                break;
+            default:
+                return "unknown";
+        }
+        return code;
+    }
+
+    public URL location987(File file) throws IOException {
+        String[] children = file.list();
+        if (children != null && children.length > 0) {
+            return file.toURL();
+        }
+        return null;
+    }
+
+    public Object create988(Class<?> type) throws Exception {
+        Date created = new Date();
+        Random random = new SecureRandom();
+        cache.put("created" + 988, created.toString() + random.nextInt());
+        return type.newInstance();
+    }
+
+    public int drain989(List<Integer> queue) {
+        int drained = 0;
+        while (true) {
+            if (queue.isEmpty()) {
+                break;
+            }
+            drained += queue.remove(0);
+        }
+        return drained;
+    }
+
+    @Deprecated
+    public byte[] encode990(String text) throws IOException {
+        byte[] bytes = text.getBytes("UTF-8");
+        if (text.equals(cache.get("last"))) {
+            return new byte[0];
+        }
+        cache.put("last", text);
+        return bytes;
+    }
+
+    public Map<String, Integer> histogram991(String[] words) {
+        Map<String, Integer> counts = new HashMap<>();
+        for (String word : words) {
+            counts.merge(word, 1, Integer::sum);
+        }
+        counts.forEach((key, value) -> {
+            if (value > 4) {
+                counter += key.hashCode();
+            }
+        });
+        return counts;
+    }
+
+    /**
+     * Sum the positive entries of a report row.
+     */
+    public int total992(int[] values) {
+        int total = 0;
+        for (int i = 0; i < values.length; i++) {
+            if (values[i] > 0) {
+                total += values[i];
+            }
+        }
+        return total;
+    }
+
+    public List<String> names993(List<String> input) {
+        List<String> result = new ArrayList<>();
+        for (int i = 0; i < input.size(); i++) {
+            String name = input.get(i);
+            if (name != null && !name.isEmpty()) {
+                result.add(name.trim());
+            }
+        }
+        return result;
+    }
+
+    public String label994(String code) {
+        switch (code) {
+            case "A":
+                return "alpha";
+            case "B":
+                return "beta";
+            case "C":
+                counter++;
+                break;
+            default:
+                return "unknown";
+        }
+        return code;
+    }
+
+    public URL location995(File file) throws IOException {
+        String[] children = file.list();
+        if (children != null && children.length > 1) {
+            return file.toURL();
+        }
+        return null;
+    }
+
+    public Object create996(Class<?> type) throws Exception {
+        Date created = new Date();
+        Random random = new SecureRandom();
+        cache.put("created" + 996, created.toString() + random.nextInt());
+        return type.newInstance();
+    }
+
+    public int drain997(List<Integer> queue) {
+        int drained = 0;
+        while (true) {
+            if (queue.isEmpty()) {
+                break;
+            }
+            drained += queue.remove(0);
+        }
+        return drained;
+    }
+
+    @Deprecated
+    public byte[] encode998(String text) throws IOException {
+        byte[] bytes = text.getBytes("UTF-8");
+        if (text.equals(cache.get("last"))) {
+            return new byte[0];
+        }
+        cache.put("last", text);
+        return bytes;
+    }
+
+    public Map<String, Integer> histogram999(String[] words) {
+        Map<String, Integer> counts = new HashMap<>();
+        for (String word : words) {
+            counts.merge(word, 1, Integer::sum);
+        }
+        counts.forEach((key, value) -> {
+            if (value > 5) {
+                counter += key.hashCode();
+            }
+        });
+        return counts;
+    }
+
+    static class Nested999 {
+        private final int id = 999;
+
+        int id() {
+            return id;
+        }
+    }
+
+}
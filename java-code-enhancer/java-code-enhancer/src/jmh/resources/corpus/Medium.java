@@ -0,0 +1,1478 @@
+package corpus;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URL;
+import java.security.SecureRandom;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * Generated benchmark corpus file.
+ */
+public class Medium {
+
+    private final Map<String, String> cache = new HashMap<>();
+    private int counter;
+
+    /**
+     * Sum the positive entries of a report row.
+     */
+    public int total0(int[] values) {
+        int total = 0;
+        for (int i = 0; i < values.length; i++) {
+            if (values[i] > 0) {
+                total += values[i];
+            }
+        }
+        return total;
+    }
+
+    public List<String> names1(List<String> input) {
+        List<String> result = new ArrayList<>();
+        for (int i = 0; i < input.size(); i++) {
+            String name = input.get(i);
+            if (name != null && !name.isEmpty()) {
+                result.add(name.trim());
+            }
+        }
+        return result;
+    }
+
+    public String label2(String code) {
+        switch (code) {
+            case "A":
+                return "alpha";
+            case "B":
+                return "beta";
+            case "C":
+                counter++;
+                break;
+            default:
+                return "unknown";
+        }
+        return code;
+    }
+
+    public URL location3(File file) throws IOException {
+        String[] children = file.list();
+        if (children != null && children.length > 3) {
+            return file.toURL();
+        }
+        return null;
+    }
+
+    public Object create4(Class<?> type) throws Exception {
+        Date created = new Date();
+        Random random = new SecureRandom();
+        cache.put("created" + 4, created.toString() + random.nextInt());
+        return type.newInstance();
+    }
+
+    public int drain5(List<Integer> queue) {
+        int drained = 0;
+        while (true) {
+            if (queue.isEmpty()) {
+                break;
+            }
+            drained += queue.remove(0);
+        }
+        return drained;
+    }
+
+    @Deprecated
+    public byte[] encode6(String text) throws IOException {
+        byte[] bytes = text.getBytes("UTF-8");
+        if (text.equals(cache.get("last"))) {
+            return new byte[0];
+        }
+        cache.put("last", text);
+        return bytes;
+    }
+
+    public Map<String, Integer> histogram7(String[] words) {
+        Map<String, Integer> counts = new HashMap<>();
+        for (String word : words) {
+            counts.merge(word, 1, Integer::sum);
+        }
+        counts.forEach((key, value) -> {
+            if (value > 0) {
+                counter += key.hashCode();
+            }
+        });
+        return counts;
+    }
+
+    /**
+     * Sum the positive entries of a report row.
+     */
+    public int total8(int[] values) {
+        int total = 0;
+        for (int i = 0; i < values.length; i++) {
+            if (values[i] > 0) {
+                total += values[i];
+            }
+        }
+        return total;
+    }
+
+    public List<String> names9(List<String> input) {
+        List<String> result = new ArrayList<>();
+        for (int i = 0; i < input.size(); i++) {
+            String name = input.get(i);
+            if (name != null && !name.isEmpty()) {
+                result.add(name.trim());
+            }
+        }
+        return result;
+    }
+
+    public String label10(String code) {
+        switch (code) {
+            case "A":
+                return "alpha";
+            case "B":
+                return "beta";
+            case "C":
+                counter++;
+                break;
+            default:
+                return "unknown";
+        }
+        return code;
+    }
+
+    public URL location11(File file) throws IOException {
+        String[] children = file.list();
+        if (children != null && children.length > 4) {
+            return file.toURL();
+        }
+        return null;
+    }
+
+    public Object create12(Class<?> type) throws Exception {
+        Date created = new Date();
+        Random random = new SecureRandom();
+        cache.put("created" + 12, created.toString() + random.nextInt());
+        return type.newInstance();
+    }
+
+    public int drain13(List<Integer> queue) {
+        int drained = 0;
+        while (true) {
+            if (queue.isEmpty()) {
+                break;
+            }
+            drained += queue.remove(0);
+        }
+        return drained;
+    }
+
+    @Deprecated
+    public byte[] encode14(String text) throws IOException {
+        byte[] bytes = text.getBytes("UTF-8");
+        if (text.equals(cache.get("last"))) {
+            return new byte[0];
+        }
+        cache.put("last", text);
+        return bytes;
+    }
+
+    public Map<String, Integer> histogram15(String[] words) {
+        Map<String, Integer> counts = new HashMap<>();
+        for (String word : words) {
+            counts.merge(word, 1, Integer::sum);
+        }
+        counts.forEach((key, value) -> {
+            if (value > 1) {
+                counter += key.hashCode();
+            }
+        });
+        return counts;
+    }
+
+    /**
+     * Sum the positive entries of a report row.
+     */
+    public int total16(int[] values) {
+        int total = 0;
+        for (int i = 0; i < values.length; i++) {
+            if (values[i] > 0) {
+                total += values[i];
+            }
+        }
+        return total;
+    }
+
+    public List<String> names17(List<String> input) {
+        List<String> result = new ArrayList<>();
+        for (int i = 0; i < input.size(); i++) {
+            String name = input.get(i);
+            if (name != null && !name.isEmpty()) {
+                result.add(name.trim());
+            }
+        }
+        return result;
+    }
+
+    public String label18(String code) {
+        switch (code) {
+            case "A":
+                return "alpha";
+            case "B":
+                return "beta";
+            case "C":
+                counter++;
+                break;
+            default:
+                return "unknown";
+        }
+        return code;
+    }
+
+    public URL location19(File file) throws IOException {
+        String[] children = file.list();
+        if (children != null && children.length > 5) {
+            return file.toURL();
+        }
+        return null;
+    }
+
+    public Object create20(Class<?> type) throws Exception {
+        Date created = new Date();
+        Random random = new SecureRandom();
+        cache.put("created" + 20, created.toString() + random.nextInt());
+        return type.newInstance();
+    }
+
+    public int drain21(List<Integer> queue) {
+        int drained = 0;
+        while (true) {
+            if (queue.isEmpty()) {
+                break;
+            }
+            drained += queue.remove(0);
+        }
+        return drained;
+    }
+
+    @Deprecated
+    public byte[] encode22(String text) throws IOException {
+        byte[] bytes = text.getBytes("UTF-8");
+        if (text.equals(cache.get("last"))) {
+            return new byte[0];
+        }
+        cache.put("last", text);
+        return bytes;
+    }
+
+    public Map<String, Integer> histogram23(String[] words) {
+        Map<String, Integer> counts = new HashMap<>();
+        for (String word : words) {
+            counts.merge(word, 1, Integer::sum);
+        }
+        counts.forEach((key, value) -> {
+            if (value > 2) {
+                counter += key.hashCode();
+            }
+        });
+        return counts;
+    }
+
+    /**
+     * Sum the positive entries of a report row.
+     */
+    public int total24(int[] values) {
+        int total = 0;
+        for (int i = 0; i < values.length; i++) {
+            if (values[i] > 0) {
+                total += values[i];
+            }
+        }
+        return total;
+    }
+
+    public List<String> names25(List<String> input) {
+        List<String> result = new ArrayList<>();
+        for (int i = 0; i < input.size(); i++) {
+            String name = input.get(i);
+            if (name != null && !name.isEmpty()) {
+                result.add(name.trim());
+            }
+        }
+        return result;
+    }
+
+    public String label26(String code) {
+        switch (code) {
+            case "A":
+                return "alpha";
+            case "B":
+                return "beta";
+            case "C":
+                counter++;
+                break;
+            default:
+                return "unknown";
+        }
+        return code;
+    }
+
+    public URL location27(File file) throws IOException {
+        String[] children = file.list();
+        if (children != null && children.length > 6) {
+            return file.toURL();
+        }
+        return null;
+    }
+
+    public Object create28(Class<?> type) throws Exception {
+        Date created = new Date();
+        Random random = new SecureRandom();
+        cache.put("created" + 28, created.toString() + random.nextInt());
+        return type.newInstance();
+    }
+
+    public int drain29(List<Integer> queue) {
+        int drained = 0;
+        while (true) {
+            if (queue.isEmpty()) {
+                break;
+            }
+            drained += queue.remove(0);
+        }
+        return drained;
+    }
+
+    @Deprecated
+    public byte[] encode30(String text) throws IOException {
+        byte[] bytes = text.getBytes("UTF-8");
+        if (text.equals(cache.get("last"))) {
+            return new byte[0];
+        }
+        cache.put("last", text);
+        return bytes;
+    }
+
+    public Map<String, Integer> histogram31(String[] words) {
+        Map<String, Integer> counts = new HashMap<>();
+        for (String word : words) {
+            counts.merge(word, 1, Integer::sum);
+        }
+        counts.forEach((key, value) -> {
+            if (value > 3) {
+                counter += key.hashCode();
+            }
+        });
+        return counts;
+    }
+
+    /**
+     * Sum the positive entries of a report row.
+     */
+    public int total32(int[] values) {
+        int total = 0;
+        for (int i = 0; i < values.length; i++) {
+            if (values[i] > 0) {
+                total += values[i];
+            }
+        }
+        return total;
+    }
+
+    public List<String> names33(List<String> input) {
+        List<String> result = new ArrayList<>();
+        for (int i = 0; i < input.size(); i++) {
+            String name = input.get(i);
+            if (name != null && !name.isEmpty()) {
+                result.add(name.trim());
+            }
+        }
+        return result;
+    }
+
+    public String label34(String code) {
+        switch (code) {
+            case "A":
+                return "alpha";
+            case "B":
+                return "beta";
+            case "C":
+                counter++;
+                break;
+            default:
+                return "unknown";
+        }
+        return code;
+    }
+
+    public URL location35(File file) throws IOException {
+        String[] children = file.list();
+        if (children != null && children.length > 0) {
+            return file.toURL();
+        }
+        return null;
+    }
+
+    public Object create36(Class<?> type) throws Exception {
+        Date created = new Date();
+        Random random = new SecureRandom();
+        cache.put("created" + 36, created.toString() + random.nextInt());
+        return type.newInstance();
+    }
+
+    public int drain37(List<Integer> queue) {
+        int drained = 0;
+        while (true) {
+            if (queue.isEmpty()) {
+                break;
+            }
+            drained += queue.remove(0);
+        }
+        return drained;
+    }
+
+    @Deprecated
+    public byte[] encode38(String text) throws IOException {
+        byte[] bytes = text.getBytes("UTF-8");
+        if (text.equals(cache.get("last"))) {
+            return new byte[0];
+        }
+        cache.put("last", text);
+        return bytes;
+    }
+
+    public Map<String, Integer> histogram39(String[] words) {
+        Map<String, Integer> counts = new HashMap<>();
+        for (String word : words) {
+            counts.merge(word, 1, Integer::sum);
+        }
+        counts.forEach((key, value) -> {
+            if (value > 4) {
+                counter += key.hashCode();
+            }
+        });
+        return counts;
+    }
+
+    static class Nested39 {
+        private final int id = 39;
+
+        int id() {
+            return id;
+        }
+    }
+
+    /**
+     * Sum the positive entries of a report row.
+     */
+    public int total40(int[] values) {
+        int total = 0;
+        for (int i = 0; i < values.length; i++) {
+            if (values[i] > 0) {
+                total += values[i];
+            }
+        }
+        return total;
+    }
+
+    public List<String> names41(List<String> input) {
+        List<String> result = new ArrayList<>();
+        for (int i = 0; i < input.size(); i++) {
+            String name = input.get(i);
+            if (name != null && !name.isEmpty()) {
+                result.add(name.trim());
+            }
+        }
+        return result;
+    }
+
+    public String label42(String code) {
+        switch (code) {
+            case "A":
+                return "alpha";
+            case "B":
+                return "beta";
+            case "C":
+                counter++;
+                break;
+            default:
+                return "unknown";
+        }
+        return code;
+    }
+
+    public URL location43(File file) throws IOException {
+        String[] children = file.list();
+        if (children != null && children.length > 1) {
+            return file.toURL();
+        }
+        return null;
+    }
+
+    public Object create44(Class<?> type) throws Exception {
+        Date created = new Date();
+        Random random = new SecureRandom();
+        cache.put("created" + 44, created.toString() + random.nextInt());
+        return type.newInstance();
+    }
+
+    public int drain45(List<Integer> queue) {
+        int drained = 0;
+        while (true) {
+            if (queue.isEmpty()) {
+                break;
+            }
+            drained += queue.remove(0);
+        }
+        return drained;
+    }
+
+    @Deprecated
+    public byte[] encode46(String text) throws IOException {
+        byte[] bytes = text.getBytes("UTF-8");
+        if (text.equals(cache.get("last"))) {
+            return new byte[0];
+        }
+        cache.put("last", text);
+        return bytes;
+    }
+
+    public Map<String, Integer> histogram47(String[] words) {
+        Map<String, Integer> counts = new HashMap<>();
+        for (String word : words) {
+            counts.merge(word, 1, Integer::sum);
+        }
+        counts.forEach((key, value) -> {
+            if (value > 5) {
+                counter += key.hashCode();
+            }
+        });
+        return counts;
+    }
+
+    /**
+     * Sum the positive entries of a report row.
+     */
+    public int total48(int[] values) {
+        int total = 0;
+        for (int i = 0; i < values.length; i++) {
+            if (values[i] > 0) {
+                total += values[i];
+            }
+        }
+        return total;
+    }
+
+    public List<String> names49(List<String> input) {
+        List<String> result = new ArrayList<>();
+        for (int i = 0; i < input.size(); i++) {
+            String name = input.get(i);
+            if (name != null && !name.isEmpty()) {
+                result.add(name.trim());
+            }
+        }
+        return result;
+    }
+
+    public String label50(String code) {
+        switch (code) {
+            case "A":
+                return "alpha";
+            case "B":
+                return "beta";
+            case "C":
+                counter++;
+                break;
+            default:
+                return "unknown";
+        }
+        return code;
+    }
+
+    public URL location51(File file) throws IOException {
+        String[] children = file.list();
+        if (children != null && children.length > 2) {
+            return file.toURL();
+        }
+        return null;
+    }
+
+    public Object create52(Class<?> type) throws Exception {
+        Date created = new Date();
+        Random random = new SecureRandom();
+        cache.put("created" + 52, created.toString() + random.nextInt());
+        return type.newInstance();
+    }
+
+    public int drain53(List<Integer> queue) {
+        int drained = 0;
+        while (true) {
+            if (queue.isEmpty()) {
+                break;
+            }
+            drained += queue.remove(0);
+        }
+        return drained;
+    }
+
+    @Deprecated
+    public byte[] encode54(String text) throws IOException {
+        byte[] bytes = text.getBytes("UTF-8");
+        if (text.equals(cache.get("last"))) {
+            return new byte[0];
+        }
+        cache.put("last", text);
+        return bytes;
+    }
+
+    public Map<String, Integer> histogram55(String[] words) {
+        Map<String, Integer> counts = new HashMap<>();
+        for (String word : words) {
+            counts.merge(word, 1, Integer::sum);
+        }
+        counts.forEach((key, value) -> {
+            if (value > 6) {
+                counter += key.hashCode();
+            }
+        });
+        return counts;
+    }
+
+    /**
+     * Sum the positive entries of a report row.
+     */
+    public int total56(int[] values) {
+        int total = 0;
+        for (int i = 0; i < values.length; i++) {
+            if (values[i] > 0) {
+                total += values[i];
+            }
+        }
+        return total;
+    }
+
+    public List<String> names57(List<String> input) {
+        List<String> result = new ArrayList<>();
+        for (int i = 0; i < input.size(); i++) {
+            String name = input.get(i);
+            if (name != null && !name.isEmpty()) {
+                result.add(name.trim());
+            }
+        }
+        return result;
+    }
+
+    public String label58(String code) {
+        switch (code) {
+            case "A":
+                return "alpha";
+            case "B":
+                return "beta";
+            case "C":
+                counter++;
+                break;
+            default:
+                return "unknown";
+        }
+        return code;
+    }
+
+    public URL location59(File file) throws IOException {
+        String[] children = file.list();
+        if (children != null && children.length > 3) {
+            return file.toURL();
+        }
+        return null;
+    }
+
+    public Object create60(Class<?> type) throws Exception {
+        Date created = new Date();
+        Random random = new SecureRandom();
+        cache.put("created" + 60, created.toString() + random.nextInt());
+        return type.newInstance();
+    }
+
+    public int drain61(List<Integer> queue) {
+        int drained = 0;
+        while (true) {
+            if (queue.isEmpty()) {
+                break;
+            }
+            drained += queue.remove(0);
+        }
+        return drained;
+    }
+
+    @Deprecated
+    public byte[] encode62(String text) throws IOException {
+        byte[] bytes = text.getBytes("UTF-8");
+        if (text.equals(cache.get("last"))) {
+            return new byte[0];
+        }
+        cache.put("last", text);
+        return bytes;
+    }
+
+    public Map<String, Integer> histogram63(String[] words) {
+        Map<String, Integer> counts = new HashMap<>();
+        for (String word : words) {
+            counts.merge(word, 1, Integer::sum);
+        }
+        counts.forEach((key, value) -> {
+            if (value > 0) {
+                counter += key.hashCode();
+            }
+        });
+        return counts;
+    }
+
+    /**
+     * Sum the positive entries of a report row.
+     */
+    public int total64(int[] values) {
+        int total = 0;
+        for (int i = 0; i < values.length; i++) {
+            if (values[i] > 0) {
+                total += values[i];
+            }
+        }
+        return total;
+    }
+
+    public List<String> names65(List<String> input) {
+        List<String> result = new ArrayList<>();
+        for (int i = 0; i < input.size(); i++) {
+            String name = input.get(i);
+            if (name != null && !name.isEmpty()) {
+                result.add(name.trim());
+            }
+        }
+        return result;
+    }
+
+    public String label66(String code) {
+        switch (code) {
+            case "A":
+                return "alpha";
+            case "B":
+                return "beta";
+            case "C":
+                counter++;
+                break;
+            default:
+                return "unknown";
+        }
+        return code;
+    }
+
+    public URL location67(File file) throws IOException {
+        String[] children = file.list();
+        if (children != null && children.length > 4) {
+            return file.toURL();
+        }
+        return null;
+    }
+
+    public Object create68(Class<?> type) throws Exception {
+        Date created = new Date();
+        Random random = new SecureRandom();
+        cache.put("created" + 68, created.toString() + random.nextInt());
+        return type.newInstance();
+    }
+
+    public int drain69(List<Integer> queue) {
+        int drained = 0;
+        while (true) {
+            if (queue.isEmpty()) {
+                break;
+            }
+            drained += queue.remove(0);
+        }
+        return drained;
+    }
+
+    @Deprecated
+    public byte[] encode70(String text) throws IOException {
+        byte[] bytes = text.getBytes("UTF-8");
+        if (text.equals(cache.get("last"))) {
+            return new byte[0];
+        }
+        cache.put("last", text);
+        return bytes;
+    }
+
+    public Map<String, Integer> histogram71(String[] words) {
+        Map<String, Integer> counts = new HashMap<>();
+        for (String word : words) {
+            counts.merge(word, 1, Integer::sum);
+        }
+        counts.forEach((key, value) -> {
+            if (value > 1) {
+                counter += key.hashCode();
+            }
+        });
+        return counts;
+    }
+
+    /**
+     * Sum the positive entries of a report row.
+     */
+    public int total72(int[] values) {
+        int total = 0;
+        for (int i = 0; i < values.length; i++) {
+            if (values[i] > 0) {
+                total += values[i];
+            }
+        }
+        return total;
+    }
+
+    public List<String> names73(List<String> input) {
+        List<String> result = new ArrayList<>();
+        for (int i = 0; i < input.size(); i++) {
+            String name = input.get(i);
+            if (name != null && !name.isEmpty()) {
+                result.add(name.trim());
+            }
+        }
+        return result;
+    }
+
+    public String label74(String code) {
+        switch (code) {
+            case "A":
+                return "alpha";
+            case "B":
+                return "beta";
+            case "C":
+                counter++;
+                break;
+            default:
+                return "unknown";
+        }
+        return code;
+    }
+
+    public URL location75(File file) throws IOException {
+        String[] children = file.list();
+        if (children != null && children.length > 5) {
+            return file.toURL();
+        }
+        return null;
+    }
+
+    public Object create76(Class<?> type) throws Exception {
+        Date created = new Date();
+        Random random = new SecureRandom();
+        cache.put("created" + 76, created.toString() + random.nextInt());
+        return type.newInstance();
+    }
+
+    public int drain77(List<Integer> queue) {
+        int drained = 0;
+        while (true) {
+            if (queue.isEmpty()) {
+                break;
+            }
+            drained += queue.remove(0);
+        }
+        return drained;
+    }
+
+    @Deprecated
+    public byte[] encode78(String text) throws IOException {
+        byte[] bytes = text.getBytes("UTF-8");
+        if (text.equals(cache.get("last"))) {
+            return new byte[0];
+        }
+        cache.put("last", text);
+        return bytes;
+    }
+
+    public Map<String, Integer> histogram79(String[] words) {
+        Map<String, Integer> counts = new HashMap<>();
+        for (String word : words) {
+            counts.merge(word, 1, Integer::sum);
+        }
+        counts.forEach((key, value) -> {
+            if (value > 2) {
+                counter += key.hashCode();
+            }
+        });
+        return counts;
+    }
+
+    static class Nested79 {
+        private final int id = 79;
+
+        int id() {
+            return id;
+        }
+    }
+
+    /**
+     * Sum the positive entries of a report row.
+     */
+    public int total80(int[] values) {
+        int total = 0;
+        for (int i = 0; i < values.length; i++) {
+            if (values[i] > 0) {
+                total += values[i];
+            }
+        }
+        return total;
+    }
+
+    public List<String> names81(List<String> input) {
+        List<String> result = new ArrayList<>();
+        for (int i = 0; i < input.size(); i++) {
+            String name = input.get(i);
+            if (name != null && !name.isEmpty()) {
+                result.add(name.trim());
+            }
+        }
+        return result;
+    }
+
+    public String label82(String code) {
+        switch (code) {
+            case "A":
+                return "alpha";
+            case "B":
+                return "beta";
+            case "C":
+                counter++;
+                break;
+            default:
+                return "unknown";
+        }
+        return code;
+    }
+
+    public URL location83(File file) throws IOException {
+        String[] children = file.list();
+        if (children != null && children.length > 6) {
+            return file.toURL();
+        }
+        return null;
+    }
+
+    public Object create84(Class<?> type) throws Exception {
+        Date created = new Date();
+        Random random = new SecureRandom();
+        cache.put("created" + 84, created.toString() + random.nextInt());
+        return type.newInstance();
+    }
+
+    public int drain85(List<Integer> queue) {
+        int drained = 0;
+        while (true) {
+            if (queue.isEmpty()) {
+                break;
+            }
+            drained += queue.remove(0);
+        }
+        return drained;
+    }
+
+    @Deprecated
+    public byte[] encode86(String text) throws IOException {
+        byte[] bytes = text.getBytes("UTF-8");
+        if (text.equals(cache.get("last"))) {
+            return new byte[0];
+        }
+        cache.put("last", text);
+        return bytes;
+    }
+
+    public Map<String, Integer> histogram87(String[] words) {
+        Map<String, Integer> counts = new HashMap<>();
+        for (String word : words) {
+            counts.merge(word, 1, Integer::sum);
+        }
+        counts.forEach((key, value) -> {
+            if (value > 3) {
+                counter += key.hashCode();
+            }
+        });
+        return counts;
+    }
+
+    /**
+     * Sum the positive entries of a report row.
+     */
+    public int total88(int[] values) {
+        int total = 0;
+        for (int i = 0; i < values.length; i++) {
+            if (values[i] > 0) {
+                total += values[i];
+            }
+        }
+        return total;
+    }
+
+    public List<String> names89(List<String> input) {
+        List<String> result = new ArrayList<>();
+        for (int i = 0; i < input.size(); i++) {
+            String name = input.get(i);
+            if (name != null && !name.isEmpty()) {
+                result.add(name.trim());
+            }
+        }
+        return result;
+    }
+
+    public String label90(String code) {
+        switch (code) {
+            case "A":
+                return "alpha";
+            case "B":
+                return "beta";
+            case "C":
+                counter++;
+                break;
+            default:
+                return "unknown";
+        }
+        return code;
+    }
+
+    public URL location91(File file) throws IOException {
+        String[] children = file.list();
+        if (children != null && children.length > 0) {
+            return file.toURL();
+        }
+        return null;
+    }
+
+    public Object create92(Class<?> type) throws Exception {
+        Date created = new Date();
+        Random random = new SecureRandom();
+        cache.put("created" + 92, created.toString() + random.nextInt());
+        return type.newInstance();
+    }
+
+    public int drain93(List<Integer> queue) {
+        int drained = 0;
+        while (true) {
+            if (queue.isEmpty()) {
+                break;
+            }
+            drained += queue.remove(0);
+        }
+        return drained;
+    }
+
+    @Deprecated
+    public byte[] encode94(String text) throws IOException {
+        byte[] bytes = text.getBytes("UTF-8");
+        if (text.equals(cache.get("last"))) {
+            return new byte[0];
+        }
+        cache.put("last", text);
+        return bytes;
+    }
+
+    public Map<String, Integer> histogram95(String[] words) {
+        Map<String, Integer> counts = new HashMap<>();
+        for (String word : words) {
+            counts.merge(word, 1, Integer::sum);
+        }
+        counts.forEach((key, value) -> {
+            if (value > 4) {
+                counter += key.hashCode();
+            }
+        });
+        return counts;
+    }
+
+    /**
+     * Sum the positive entries of a report row.
+     */
+    public int total96(int[] values) {
+        int total = 0;
+        for (int i = 0; i < values.length; i++) {
+            if (values[i] > 0) {
+                total += values[i];
+            }
+        }
+        return total;
+    }
+
+    public List<String> names97(List<String> input) {
+        List<String> result = new ArrayList<>();
+        for (int i = 0; i < input.size(); i++) {
+            String name = input.get(i);
+            if (name != null && !name.isEmpty()) {
+                result.add(name.trim());
+            }
+        }
+        return result;
+    }
+
+    public String label98(String code) {
+        switch (code) {
+            case "A":
+                return "alpha";
+            case "B":
+                return "beta";
+            case "C":
+                counter++;
+                break;
+            default:
+                return "unknown";
+        }
+        return code;
+    }
+
+    public URL location99(File file) throws IOException {
+        String[] children = file.list();
+        if (children != null && children.length > 1) {
+            return file.toURL();
+        }
+        return null;
+    }
+
+    public Object create100(Class<?> type) throws Exception {
+        Date created = new Date();
+        Random random = new SecureRandom();
+        cache.put("created" + 100, created.toString() + random.nextInt());
+        return type.newInstance();
+    }
+
+    public int drain101(List<Integer> queue) {
+        int drained = 0;
+        while (true) {
+            if (queue.isEmpty()) {
+                break;
+            }
+            drained += queue.remove(0);
+        }
+        return drained;
+    }
+
+    @Deprecated
+    public byte[] encode102(String text) throws IOException {
+        byte[] bytes = text.getBytes("UTF-8");
+        if (text.equals(cache.get("last"))) {
+            return new byte[0];
+        }
+        cache.put("last", text);
+        return bytes;
+    }
+
+    public Map<String, Integer> histogram103(String[] words) {
+        Map<String, Integer> counts = new HashMap<>();
+        for (String word : words) {
+            counts.merge(word, 1, Integer::sum);
+        }
+        counts.forEach((key, value) -> {
+            if (value > 5) {
+                counter += key.hashCode();
+            }
+        });
+        return counts;
+    }
+
+    /**
+     * Sum the positive entries of a report row.
+     */
+    public int total104(int[] values) {
+        int total = 0;
+        for (int i = 0; i < values.length; i++) {
+            if (values[i] > 0) {
+                total += values[i];
+            }
+        }
+        return total;
+    }
+
+    public List<String> names105(List<String> input) {
+        List<String> result = new ArrayList<>();
+        for (int i = 0; i < input.size(); i++) {
+            String name = input.get(i);
+            if (name != null && !name.isEmpty()) {
+                result.add(name.trim());
+            }
+        }
+        return result;
+    }
+
+    public String label106(String code) {
+        switch (code) {
+            case "A":
+                return "alpha";
+            case "B":
+                return "beta";
+            case "C":
+                counter++;
+                break;
+            default:
+                return "unknown";
+        }
+        return code;
+    }
+
+    public URL location107(File file) throws IOException {
+        String[] children = file.list();
+        if (children != null && children.length > 2) {
+            return file.toURL();
+        }
+        return null;
+    }
+
+    public Object create108(Class<?> type) throws Exception {
+        Date created = new Date();
+        Random random = new SecureRandom();
+        cache.put("created" + 108, created.toString() + random.nextInt());
+        return type.newInstance();
+    }
+
+    public int drain109(List<Integer> queue) {
+        int drained = 0;
+        while (true) {
+            if (queue.isEmpty()) {
+                break;
+            }
+            drained += queue.remove(0);
+        }
+        return drained;
+    }
+
+    @Deprecated
+    public byte[] encode110(String text) throws IOException {
+        byte[] bytes = text.getBytes("UTF-8");
+        if (text.equals(cache.get("last"))) {
+            return new byte[0];
+        }
+        cache.put("last", text);
+        return bytes;
+    }
+
+    public Map<String, Integer> histogram111(String[] words) {
+        Map<String, Integer> counts = new HashMap<>();
+        for (String word : words) {
+            counts.merge(word, 1, Integer::sum);
+        }
+        counts.forEach((key, value) -> {
+            if (value > 6) {
+                counter += key.hashCode();
+            }
+        });
+        return counts;
+    }
+
+    /**
+     * Sum the positive entries of a report row.
+     */
+    public int total112(int[] values) {
+        int total = 0;
+        for (int i = 0; i < values.length; i++) {
+            if (values[i] > 0) {
+                total += values[i];
+            }
+        }
+        return total;
+    }
+
+    public List<String> names113(List<String> input) {
+        List<String> result = new ArrayList<>();
+        for (int i = 0; i < input.size(); i++) {
+            String name = input.get(i);
+            if (name != null && !name.isEmpty()) {
+                result.add(name.trim());
+            }
+        }
+        return result;
+    }
+
+    public String label114(String code) {
+        switch (code) {
+            case "A":
+                return "alpha";
+            case "B":
+                return "beta";
+            case "C":
+                counter++;
+                break;
+            default:
+                return "unknown";
+        }
+        return code;
+    }
+
+    public URL location115(File file) throws IOException {
+        String[] children = file.list();
+        if (children != null && children.length > 3) {
+            return file.toURL();
+        }
+        return null;
+    }
+
+    public Object create116(Class<?> type) throws Exception {
+        Date created = new Date();
+        Random random = new SecureRandom();
+        cache.put("created" + 116, created.toString() + random.nextInt());
+        return type.newInstance();
+    }
+
+    public int drain117(List<Integer> queue) {
+        int drained = 0;
+        while (true) {
+            if (queue.isEmpty()) {
+                break;
+            }
+            drained += queue.remove(0);
+        }
+        return drained;
+    }
+
+    @Deprecated
+    public byte[] encode118(String text) throws IOException {
+        byte[] bytes = text.getBytes("UTF-8");
+        if (text.equals(cache.get("last"))) {
+            return new byte[0];
+        }
+        cache.put("last", text);
+        return bytes;
+    }
+
+    public Map<String, Integer> histogram119(String[] words) {
+        Map<String, Integer> counts = new HashMap<>();
+        for (String word : words) {
+            counts.merge(word, 1, Integer::sum);
+        }
+        counts.forEach((key, value) -> {
+            if (value > 0) {
+                counter += key.hashCode();
+            }
+        });
+        return counts;
+    }
+
+    static class Nested119 {
+        private final int id = 119;
+
+        int id() {
+            return id;
+        }
+    }
+
+    /**
+     * Sum the positive entries of a report row.
+     */
+    public int total120(int[] values) {
+        int total = 0;
+        for (int i = 0; i < values.length; i++) {
+            if (values[i] > 0) {
+                total += values[i];
+            }
+        }
+        return total;
+    }
+
+    public List<String> names121(List<String> input) {
+        List<String> result = new ArrayList<>();
+        for (int i = 0; i < input.size(); i++) {
+            String name = input.get(i);
+            if (name != null && !name.isEmpty()) {
+                result.add(name.trim());
+            }
+        }
+        return result;
+    }
+
+    public String label122(String code) {
+        switch (code) {
+            case "A":
+                return "alpha";
+            case "B":
+                return "beta";
+            case "C":
+                counter++;
+                break;
+            default:
+                return "unknown";
+        }
+        return code;
+    }
+
+    public URL location123(File file) throws IOException {
+        String[] children = file.list();
+        if (children != null && children.length > 4) {
+            return file.toURL();
+        }
+        return null;
+    }
+
+    public Object create124(Class<?> type) throws Exception {
+        Date created = new Date();
+        Random random = new SecureRandom();
+        cache.put("created" + 124, created.toString() + random.nextInt());
+        return type.newInstance();
+    }
+
+    public int drain125(List<Integer> queue) {
+        int drained = 0;
+        while (true) {
+            if (queue.isEmpty()) {
+                break;
+            }
+            drained += queue.remove(0);
+        }
+        return drained;
+    }
+
+    @Deprecated
+    public byte[] encode126(String text) throws IOException {
+        byte[] bytes = text.getBytes("UTF-8");
+        if (text.equals(cache.get("last"))) {
+            return new byte[0];
+        }
+        cache.put("last", text);
+        return bytes;
+    }
+
+    public Map<String, Integer> histogram127(String[] words) {
+        Map<String, Integer> counts = new HashMap<>();
+        for (String word : words) {
+            counts.merge(word, 1, Integer::sum);
+        }
+        counts.forEach((key, value) -> {
+            if (value > 1) {
+                counter += key.hashCode();
+            }
+        });
+        return counts;
+    }
+
+    /**
+     * Sum the positive entries of a report row.
+     */
+    public int total128(int[] values) {
+        int total = 0;
+        for (int i = 0; i < values.length; i++) {
+            if (values[i] > 0) {
+                total += values[i];
+            }
+        }
+        return total;
+    }
+
+    public List<String> names129(List<String> input) {
+        List<String> result = new ArrayList<>();
+        for (int i = 0; i < input.size(); i++) {
+            String name = input.get(i);
+            if (name != null && !name.isEmpty()) {
+                result.add(name.trim());
+            }
+        }
+        return result;
+    }
+
+}
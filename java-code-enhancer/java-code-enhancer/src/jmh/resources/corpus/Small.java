@@ -0,0 +1,110 @@
+package corpus;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URL;
+import java.security.SecureRandom;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * Generated benchmark corpus file.
+ */
+public class Small {
+
+    private final Map<String, String> cache = new HashMap<>();
+    private int counter;
+
+    /**
+     * Sum the positive entries of a report row.
+     */
+    public int total0(int[] values) {
+        int total = 0;
+        for (int i = 0; i < values.length; i++) {
+            if (values[i] > 0) {
+                total += values[i];
+            }
+        }
+        return total;
+    }
+
+    public List<String> names1(List<String> input) {
+        List<String> result = new ArrayList<>();
+        for (int i = 0; i < input.size(); i++) {
+            String name = input.get(i);
+            if (name != null && !name.isEmpty()) {
+                result.add(name.trim());
+            }
+        }
+        return result;
+    }
+
+    public String label2(String code) {
+        switch (code) {
+            case "A":
+                return "alpha";
+            case "B":
+                return "beta";
+            case "C":
+                counter++;
+                break;
+            default:
+                return "unknown";
+        }
+        return code;
+    }
+
+    public URL location3(File file) throws IOException {
+        String[] children = file.list();
+        if (children != null && children.length > 3) {
+            return file.toURL();
+        }
+        return null;
+    }
+
+    public Object create4(Class<?> type) throws Exception {
+        Date created = new Date();
+        Random random = new SecureRandom();
+        cache.put("created" + 4, created.toString() + random.nextInt());
+        return type.newInstance();
+    }
+
+    public int drain5(List<Integer> queue) {
+        int drained = 0;
+        while (true) {
+            if (queue.isEmpty()) {
+                break;
+            }
+            drained += queue.remove(0);
+        }
+        return drained;
+    }
+
+    @Deprecated
+    public byte[] encode6(String text) throws IOException {
+        byte[] bytes = text.getBytes("UTF-8");
+        if (text.equals(cache.get("last"))) {
+            return new byte[0];
+        }
+        cache.put("last", text);
+        return bytes;
+    }
+
+    public Map<String, Integer> histogram7(String[] words) {
+        Map<String, Integer> counts = new HashMap<>();
+        for (String word : words) {
+            counts.merge(word, 1, Integer::sum);
+        }
+        counts.forEach((key, value) -> {
+            if (value > 0) {
+                counter += key.hashCode();
+            }
+        });
+        return counts;
+    }
+
+}
@@ -1,12 +1,21 @@
 package com.codeenhancer.java_code_enhancer;
 
+import com.codeenhancer.java_code_enhancer.cli.EnhanceCommand;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.context.properties.ConfigurationPropertiesScan;
+
+import java.util.Arrays;
 
 @SpringBootApplication
+@ConfigurationPropertiesScan
 public class JavaCodeEnhancerApplication {
 
     public static void main(String[] args) {
+        // "enhance <path> ..." runs the command line instead of the server
+        if (args.length > 0 && EnhanceCommand.NAME.equals(args[0])) {
+            System.exit(EnhanceCommand.launch(Arrays.copyOfRange(args, 1, args.length)));
+        }
         SpringApplication.run(JavaCodeEnhancerApplication.class, args);
     }
 
@@ -0,0 +1,118 @@
+package com.codeenhancer.java_code_enhancer.admission;
+
+import com.codeenhancer.java_code_enhancer.config.CodeEnhancerProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Budget of source bytes being processed at once, one per {@link Lane}.
+ * <p>
+ * A request costs its size, at least the lane's minimum and at most the
+ * whole budget, so the CPU-bound work in flight grows with the input rather
+ * than with the number of requests. A request that finds no room waits at
+ * most the lane's maximum wait and is then rejected; waiting requests are
+ * admitted in arrival order.
+ */
+@Component
+public class AdmissionControl {
+    private static final int UNIT = 1024;
+
+    private final Map<Lane, Budget> budgets = new EnumMap<>(Lane.class);
+
+    public AdmissionControl(CodeEnhancerProperties properties, MeterRegistry meterRegistry) {
+        CodeEnhancerProperties.Admission settings = properties.getAdmission();
+        budgets.put(Lane.INTERACTIVE, new Budget(Lane.INTERACTIVE, settings.getInteractive(), meterRegistry));
+        budgets.put(Lane.BATCH, new Budget(Lane.BATCH, settings.getBatch(), meterRegistry));
+    }
+
+    /**
+     * Take room for a request, waiting at most the lane's maximum wait
+     *
+     * @param bytes Size of the request, or a negative value when unknown
+     * @return Permit to close when the request is done, or null when rejected
+     */
+    public Permit tryAdmit(Lane lane, long bytes) {
+        return budgets.get(lane).tryAdmit(bytes);
+    }
+
+    /**
+     * How long a client should wait before retrying a rejected request
+     */
+    public Duration retryAfter(Lane lane) {
+        return budgets.get(lane).settings.getRetryAfter();
+    }
+
+    /**
+     * Room taken by one admitted request, given back exactly once on close
+     */
+    public static final class Permit implements AutoCloseable {
+        private final Semaphore semaphore;
+        private final int units;
+        private boolean released;
+
+        Permit(Semaphore semaphore, int units) {
+            this.semaphore = semaphore;
+            this.units = units;
+        }
+
+        @Override
+        public synchronized void close() {
+            if (!released) {
+                released = true;
+                semaphore.release(units);
+            }
+        }
+    }
+
+    private static final class Budget {
+        private final CodeEnhancerProperties.Lane settings;
+        private final int capacity;
+        private final int minimum;
+        private final Semaphore semaphore;
+        private final Counter admitted;
+        private final Counter rejected;
+
+        Budget(Lane lane, CodeEnhancerProperties.Lane settings, MeterRegistry meterRegistry) {
+            this.settings = settings;
+            this.capacity = units(settings.getMaxBytes());
+            this.minimum = Math.min(capacity, units(settings.getMinRequestBytes()));
+            this.semaphore = new Semaphore(capacity, true);
+
+            String tag = lane.name().toLowerCase();
+            this.admitted = Counter.builder("code_enhancer.admission.admitted").tag("lane", tag).register(meterRegistry);
+            this.rejected = Counter.builder("code_enhancer.admission.rejected").tag("lane", tag).register(meterRegistry);
+            Gauge.builder("code_enhancer.admission.in_flight", semaphore, s -> (double) (capacity - s.availablePermits()) * UNIT)
+                    .description("Request bytes being processed")
+                    .baseUnit("bytes")
+                    .tag("lane", tag)
+                    .register(meterRegistry);
+        }
+
+        Permit tryAdmit(long bytes) {
+            // Unknown sizes are charged the whole budget, so they run alone
+            int cost = bytes < 0 ? capacity : Math.max(minimum, Math.min(capacity, units(bytes)));
+            try {
+                if (semaphore.tryAcquire(cost, settings.getMaxWait().toNanos(), TimeUnit.NANOSECONDS)) {
+                    admitted.increment();
+                    return new Permit(semaphore, cost);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            rejected.increment();
+            return null;
+        }
+
+        private static int units(long bytes) {
+            return (int) Math.min(Integer.MAX_VALUE, Math.max(1, (bytes + UNIT - 1) / UNIT));
+        }
+    }
+}
@@ -0,0 +1,126 @@
+package com.codeenhancer.java_code_enhancer.admission;
+
+import com.codeenhancer.java_code_enhancer.config.CodeEnhancerProperties;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Admits every POST to the API before its body is read. The cost of a
+ * request is its Content-Length. Endpoints that take many sources (batches,
+ * job uploads and batch or bytecode analysis), and any request too large or
+ * of unknown size, go through the batch lane, so that small interactive
+ * requests never wait behind them. A request that finds no room is answered
+ * 429 with a Retry-After header instead of being queued.
+ * <p>
+ * The permit is held until the response is complete, including streamed
+ * responses that finish after the handler has returned.
+ */
+@Component
+public class AdmissionFilter extends OncePerRequestFilter {
+    private static final String API = "/api/code-enhancer/";
+    /** Endpoints taking many sources per request, by path below the API */
+    private static final List<String> BATCH_ENDPOINTS = List.of(
+            "enhance/batch", "jobs/files", "analyze/batch", "analyze/bytecode");
+
+    private final AdmissionControl admissionControl;
+    private final boolean enabled;
+    private final long largeRequestBytes;
+
+    public AdmissionFilter(AdmissionControl admissionControl, CodeEnhancerProperties properties) {
+        this.admissionControl = admissionControl;
+        this.enabled = properties.getAdmission().isEnabled();
+        this.largeRequestBytes = properties.getAdmission().getLargeRequestBytes();
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !enabled
+                || !HttpMethod.POST.matches(request.getMethod())
+                || !request.getRequestURI().startsWith(API);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        long length = request.getContentLengthLong();
+        Lane lane = isBatchEndpoint(request.getRequestURI()) || length < 0 || length > largeRequestBytes
+                ? Lane.BATCH
+                : Lane.INTERACTIVE;
+        AdmissionControl.Permit permit = admissionControl.tryAdmit(lane, length);
+        if (permit == null) {
+            reject(response, lane);
+            return;
+        }
+
+        boolean async = false;
+        try {
+            chain.doFilter(request, response);
+            if (request.isAsyncStarted()) {
+                request.getAsyncContext().addListener(new ReleaseOnCompletion(permit));
+                async = true;
+            }
+        } finally {
+            if (!async) {
+                permit.close();
+            }
+        }
+    }
+
+    private static boolean isBatchEndpoint(String uri) {
+        for (String endpoint : BATCH_ENDPOINTS) {
+            if (uri.startsWith(API + endpoint)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void reject(HttpServletResponse response, Lane lane) throws IOException {
+        long seconds = Math.max(1, admissionControl.retryAfter(lane).toSeconds());
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        response.setHeader("Retry-After", String.valueOf(seconds));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.getWriter().write("{\"status\":429,\"error\":\"Too Many Requests\",\"message\":\"The "
+                + lane.name().toLowerCase() + " lane is at capacity, retry in " + seconds + " s\"}");
+    }
+
+    private static final class ReleaseOnCompletion implements AsyncListener {
+        private final AdmissionControl.Permit permit;
+
+        ReleaseOnCompletion(AdmissionControl.Permit permit) {
+            this.permit = permit;
+        }
+
+        @Override
+        public void onComplete(AsyncEvent event) {
+            permit.close();
+        }
+
+        @Override
+        public void onTimeout(AsyncEvent event) {
+            permit.close();
+        }
+
+        @Override
+        public void onError(AsyncEvent event) {
+            permit.close();
+        }
+
+        @Override
+        public void onStartAsync(AsyncEvent event) {
+            // Re-dispatches keep the permit until the final completion
+        }
+    }
+}
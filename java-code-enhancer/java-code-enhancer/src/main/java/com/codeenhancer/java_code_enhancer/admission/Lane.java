@@ -0,0 +1,10 @@
+package com.codeenhancer.java_code_enhancer.admission;
+
+/**
+ * Traffic classes with separate admission budgets, so that large batches
+ * cannot use up the room of interactive requests
+ */
+public enum Lane {
+    INTERACTIVE,
+    BATCH
+}
@@ -0,0 +1,69 @@
+package com.codeenhancer.java_code_enhancer.analysis;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Time and node count one source may take, checked cooperatively by the scan
+ * and the rewrite loop. Once exceeded it stays exceeded, and the work that
+ * checks it stops where it is, leaving partial results.
+ * <p>
+ * The deadline runs from the creation of the budget. Scans charge their
+ * nodes in chunks, so the parts of a source scanned on several threads share
+ * one budget without contending on every node.
+ */
+public final class AnalysisBudget {
+    /** Nodes a scan visits before it charges them and reads the clock */
+    static final int CHUNK = 1024;
+
+    private final long deadline;
+    private final boolean timed;
+    private final long maxNodes;
+    private final AtomicLong nodes = new AtomicLong();
+    private volatile boolean exceeded;
+
+    private AnalysisBudget(long deadline, boolean timed, long maxNodes) {
+        this.deadline = deadline;
+        this.timed = timed;
+        this.maxNodes = maxNodes;
+    }
+
+    /**
+     * A budget that is never exceeded
+     */
+    public static AnalysisBudget unlimited() {
+        return new AnalysisBudget(0, false, Long.MAX_VALUE);
+    }
+
+    /**
+     * @param time     Time from now, zero or negative for no time limit
+     * @param maxNodes Nodes the scans may visit in total, zero or negative for no limit
+     */
+    public static AnalysisBudget of(Duration time, long maxNodes) {
+        boolean timed = time != null && !time.isZero() && !time.isNegative();
+        return new AnalysisBudget(timed ? System.nanoTime() + time.toNanos() : 0, timed,
+                maxNodes > 0 ? maxNodes : Long.MAX_VALUE);
+    }
+
+    /**
+     * Charge visited nodes
+     *
+     * @return Whether the scan may go on
+     */
+    boolean charge(long visited) {
+        if (nodes.addAndGet(visited) > maxNodes) {
+            exceeded = true;
+        }
+        return !isExceeded();
+    }
+
+    /**
+     * Whether the budget is used up, reading the clock
+     */
+    public boolean isExceeded() {
+        if (!exceeded && timed && System.nanoTime() - deadline > 0) {
+            exceeded = true;
+        }
+        return exceeded;
+    }
+}
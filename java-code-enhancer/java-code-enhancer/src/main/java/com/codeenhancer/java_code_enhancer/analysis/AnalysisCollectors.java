@@ -0,0 +1,26 @@
+package com.codeenhancer.java_code_enhancer.analysis;
+
+import com.github.javaparser.ast.stmt.SwitchStmt;
+
+import java.util.List;
+
+/**
+ * Collectors that run on every scan, whatever rules are enabled. Everything
+ * else is contributed by the modernization rules.
+ */
+public final class AnalysisCollectors {
+
+    private AnalysisCollectors() {
+    }
+
+    /**
+     * Collectors behind the rule-independent values of CodeMetrics
+     */
+    public static List<NodeCollector> core() {
+        return List.of(
+                // Each switch case adds to complexity
+                NodeCollector.of(SwitchStmt.class, (switchStmt, result) ->
+                        result.addComplexity(switchStmt.getEntries().size()))
+        );
+    }
+}
@@ -0,0 +1,288 @@
+package com.codeenhancer.java_code_enhancer.analysis;
+
+import com.codeenhancer.java_code_enhancer.rules.RuleSet;
+import com.github.javaparser.ParseProblemException;
+import com.github.javaparser.ParseResult;
+import com.github.javaparser.ast.CompilationUnit;
+
+/**
+ * Per-request analysis state: the source, its single parsed CompilationUnit
+ * and the data derived from it (line index and the result of the fused scan).
+ * <p>
+ * Validation, metrics, warnings and transformation all read from the same
+ * context so the source is parsed only once per request. The scan is taken
+ * before {@link #markTransformed()} is called, because the transformation
+ * mutates the tree in place, and serves as the metrics and warnings snapshot.
+ * Scan and transformation share the budget of the context, and stop where
+ * they are once it runs out.
+ */
+public class AnalysisContext {
+    private final String source;
+    private final CompilationUnit compilationUnit;
+    private final String parseError;
+    private final JavaParserPool parsers;
+    private final RuleSet rules;
+    private final PipelineTrace trace;
+    private final AnalysisBudget budget;
+    private final ParallelScanner scanner;
+
+    private int[] lineOffsets;
+    private ScanResult scan;
+    private boolean transformed;
+
+    private AnalysisContext(String source, CompilationUnit compilationUnit, String parseError,
+                            JavaParserPool parsers, RuleSet rules, PipelineTrace trace, AnalysisBudget budget,
+                            ParallelScanner scanner) {
+        this.source = source;
+        this.compilationUnit = compilationUnit;
+        this.parseError = parseError;
+        this.parsers = parsers;
+        this.rules = rules;
+        this.trace = trace;
+        this.budget = budget;
+        this.scanner = scanner;
+    }
+
+    /**
+     * Parse the source once and wrap the result in a new context analyzed
+     * with the default {@link Options}
+     *
+     * @param source  Java source code
+     * @param parsers Parsers to use, also for code built by rewrites
+     * @return Context holding either the CompilationUnit or the parse error
+     */
+    public static AnalysisContext parse(String source, JavaParserPool parsers) {
+        return parse(source, parsers, options());
+    }
+
+    /**
+     * Parse the source once and wrap the result in a new context
+     *
+     * @param source  Java source code
+     * @param parsers Parsers to use, also for code built by rewrites
+     * @param options Rules, budget, scanner and parse profile of the analysis
+     * @return Context holding either the CompilationUnit or the parse error
+     */
+    public static AnalysisContext parse(String source, JavaParserPool parsers, Options options) {
+        RuleSet rules = options.rules;
+        AnalysisBudget budget = options.budget;
+        ParallelScanner scanner = options.scanner;
+        PipelineTrace trace = new PipelineTrace();
+        long start = System.nanoTime();
+        try {
+            ParseResult<CompilationUnit> result = parsers.parse(source, options.profile);
+            if (result.isSuccessful() && result.getResult().isPresent()) {
+                return new AnalysisContext(source, result.getResult().get(), null, parsers, rules, trace, budget, scanner);
+            }
+            if (options.profile != ParseProfile.FULL) {
+                // Without tokens the problems carry no position; failures are rare, so parse again for one
+                result = parsers.parse(source, ParseProfile.FULL);
+            }
+            throw new ParseProblemException(result.getProblems());
+        } catch (Exception e) {
+            trace.markParseFailed();
+            return new AnalysisContext(source, null, cleanMessage(e), parsers, rules, trace, budget, scanner);
+        } finally {
+            trace.addStage(PipelineTrace.Stage.PARSE, System.nanoTime() - start);
+        }
+    }
+
+    /**
+     * Options of a new context: the built-in rules, no budget, a sequential
+     * scan and a full parse, until set otherwise
+     */
+    public static Options options() {
+        return new Options();
+    }
+
+    /**
+     * Strip the parser stack trace from an exception message
+     */
+    public static String cleanMessage(Exception e) {
+        String message = e.getMessage();
+        if (message == null) {
+            return e.getClass().getSimpleName();
+        }
+        return message.split("Problem stacktrace :")[0].trim();
+    }
+
+    public String getSource() {
+        return source;
+    }
+
+    public boolean isParsed() {
+        return compilationUnit != null;
+    }
+
+    public CompilationUnit getCompilationUnit() {
+        if (compilationUnit == null) {
+            throw new IllegalStateException("Source could not be parsed: " + parseError);
+        }
+        return compilationUnit;
+    }
+
+    public String getParseError() {
+        return parseError;
+    }
+
+    public JavaParserPool getParsers() {
+        return parsers;
+    }
+
+    public RuleSet getRules() {
+        return rules;
+    }
+
+    public AnalysisBudget getBudget() {
+        return budget;
+    }
+
+    /**
+     * Timings and counts of the work done on this context so far
+     */
+    public PipelineTrace getTrace() {
+        return trace;
+    }
+
+    public boolean isTransformed() {
+        return transformed;
+    }
+
+    /**
+     * Record that the tree has been mutated. The scan must have been taken
+     * before, as it can no longer be computed from the tree.
+     */
+    public void markTransformed() {
+        getScan();
+        transformed = true;
+    }
+
+    /**
+     * Number of lines, counted the same way as {@code source.split("\n").length}
+     */
+    public int getLineCount() {
+        int end = source.length();
+        while (end > 0 && source.charAt(end - 1) == '\n') {
+            end--;
+        }
+        if (end == 0) {
+            return source.isEmpty() ? 1 : 0;
+        }
+        int[] offsets = getLineOffsets();
+        int lines = 0;
+        while (lines < offsets.length && offsets[lines] < end) {
+            lines++;
+        }
+        return lines;
+    }
+
+    /**
+     * Number of lines of a source that has no context, counted as
+     * {@link #getLineCount()} does
+     */
+    public static int countLines(String source) {
+        int end = source.length();
+        while (end > 0 && source.charAt(end - 1) == '\n') {
+            end--;
+        }
+        if (end == 0) {
+            return source.isEmpty() ? 1 : 0;
+        }
+        int lines = 1;
+        for (int i = 0; i < end; i++) {
+            if (source.charAt(i) == '\n') lines++;
+        }
+        return lines;
+    }
+
+    /**
+     * Start offsets of every line of the source, index 0 being line 1
+     */
+    public int[] getLineOffsets() {
+        if (lineOffsets == null) {
+            int count = 1;
+            for (int i = 0; i < source.length(); i++) {
+                if (source.charAt(i) == '\n') count++;
+            }
+            int[] offsets = new int[count];
+            int line = 1;
+            for (int i = 0; i < source.length(); i++) {
+                if (source.charAt(i) == '\n') offsets[line++] = i + 1;
+            }
+            lineOffsets = offsets;
+        }
+        return lineOffsets;
+    }
+
+    /**
+     * Convert a 1-based line and column into an offset in the source
+     */
+    public int offsetOf(int line, int column) {
+        int[] offsets = getLineOffsets();
+        int index = Math.max(0, Math.min(line - 1, offsets.length - 1));
+        return Math.min(source.length(), offsets[index] + Math.max(0, column - 1));
+    }
+
+    /**
+     * Metrics, warnings and rewrite candidates of the untransformed tree,
+     * computed by a single walk the first time they are needed
+     */
+    public ScanResult getScan() {
+        if (scan == null) {
+            scan = trace.time(PipelineTrace.Stage.SCAN,
+                    () -> scanner.scan(rules, getCompilationUnit(), getLineCount(), budget));
+            trace.setNodesVisited(scan.getNodesVisited());
+            if (scan.isTruncated()) {
+                trace.markPartial();
+            }
+        }
+        return scan;
+    }
+
+    /**
+     * What a context is analyzed with. A {@link ParseProfile#LEAN} context
+     * serves validation and metrics; it has no comments or tokens to rewrite
+     * with.
+     */
+    public static final class Options {
+        private RuleSet rules = RuleSet.BUILT_IN;
+        private AnalysisBudget budget = AnalysisBudget.unlimited();
+        private ParallelScanner scanner = ParallelScanner.SEQUENTIAL;
+        private ParseProfile profile = ParseProfile.FULL;
+
+        private Options() {
+        }
+
+        /**
+         * Rules the source is analyzed and transformed with
+         */
+        public Options rules(RuleSet rules) {
+            this.rules = rules;
+            return this;
+        }
+
+        /**
+         * Time and nodes the scan and transformation of the source may take
+         */
+        public Options budget(AnalysisBudget budget) {
+            this.budget = budget;
+            return this;
+        }
+
+        /**
+         * Scanner the fused scan runs on, in parallel when the source is large
+         */
+        public Options scanner(ParallelScanner scanner) {
+            this.scanner = scanner;
+            return this;
+        }
+
+        /**
+         * What the parse keeps besides the syntax tree
+         */
+        public Options profile(ParseProfile profile) {
+            this.profile = profile;
+            return this;
+        }
+    }
+}
@@ -0,0 +1,200 @@
+package com.codeenhancer.java_code_enhancer.analysis;
+
+import com.github.javaparser.ast.Node;
+import com.github.javaparser.ast.NodeList;
+import com.github.javaparser.ast.expr.SimpleName;
+import com.github.javaparser.ast.visitor.GenericVisitorWithDefaults;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Single traversal engine for metrics, warnings and rewrite candidates.
+ * <p>
+ * Every node of the tree is visited exactly once and offered to the
+ * collectors registered for its concrete class, so adding a collector does
+ * not add another scan of the tree. The dispatch table is built once and the
+ * visitor holds no per-scan state, so one instance can be shared by threads,
+ * and so can the parts of one large tree.
+ */
+public class FusedAnalysisVisitor extends GenericVisitorWithDefaults<Void, ScanResult> {
+    private final Map<Class<? extends Node>, NodeCollector[]> dispatch;
+
+    public FusedAnalysisVisitor(List<NodeCollector> collectors) {
+        Map<Class<? extends Node>, List<NodeCollector>> byType = new HashMap<>();
+        for (NodeCollector collector : collectors) {
+            for (Class<? extends Node> type : collector.nodeTypes()) {
+                byType.computeIfAbsent(type, k -> new ArrayList<>()).add(collector);
+            }
+        }
+        Map<Class<? extends Node>, NodeCollector[]> table = new HashMap<>();
+        byType.forEach((type, list) -> table.put(type, list.toArray(new NodeCollector[0])));
+        this.dispatch = Map.copyOf(table);
+    }
+
+    /**
+     * Scan a tree or subtree into a new result
+     *
+     * @param root Node to start from
+     * @return Everything the collectors found
+     */
+    public ScanResult scan(Node root) {
+        return scan(root, AnalysisBudget.unlimited());
+    }
+
+    /**
+     * Scan a tree or subtree, stopping when the budget runs out
+     *
+     * @param root   Node to start from
+     * @param budget Budget the visited nodes are counted against
+     * @return Everything the collectors found, truncated if the budget ran out
+     */
+    public ScanResult scan(Node root, AnalysisBudget budget) {
+        ScanResult result = new ScanResult(budget);
+        root.accept(this, result);
+        result.settle();
+        return result;
+    }
+
+    /**
+     * Scan a tree on a fork-join pool. A node spanning more than unitLines
+     * lines is split into its children, and runs of smaller children are
+     * scanned together as one unit of work. The results of the units are
+     * joined in document order, so they equal those of a sequential scan.
+     *
+     * @param root      Node to start from
+     * @param budget    Budget the visited nodes are counted against
+     * @param pool      Pool the units run on
+     * @param unitLines Lines of source above which a node is split
+     * @return Everything the collectors found, truncated if the budget ran out
+     */
+    public ScanResult scan(Node root, AnalysisBudget budget, ForkJoinPool pool, int unitLines) {
+        // Nodes print through a printer their compilation unit creates on first use;
+        // create it before nodes of the unit are printed on several threads
+        root.findFirst(SimpleName.class).ifPresent(Node::toString);
+        return pool.invoke(new UnitScan(List.of(root), budget, unitLines));
+    }
+
+    @Override
+    public Void defaultAction(Node n, ScanResult result) {
+        if (!collect(n, result)) {
+            return null;
+        }
+        // Pre-order, in the same order as Node.findAll
+        for (Node child : n.getChildNodes()) {
+            child.accept(this, result);
+        }
+        return null;
+    }
+
+    @Override
+    public Void defaultAction(NodeList n, ScanResult result) {
+        for (Object node : n) {
+            if (result.isTruncated()) {
+                break;
+            }
+            ((Node) node).accept(this, result);
+        }
+        return null;
+    }
+
+    /**
+     * Offer one node, without its children, to its collectors
+     *
+     * @return Whether the scan may go on
+     */
+    private boolean collect(Node n, ScanResult result) {
+        if (!result.nodeVisited()) {
+            return false;
+        }
+        NodeCollector[] collectors = dispatch.get(n.getClass());
+        if (collectors != null) {
+            for (NodeCollector collector : collectors) {
+                collector.collect(n, result);
+            }
+        }
+        return true;
+    }
+
+    private static int lines(Node node) {
+        return node.getRange().map(range -> range.end.line - range.begin.line + 1).orElse(0);
+    }
+
+    /**
+     * Consecutive sibling subtrees scanned in order, or a single large node
+     * whose children are split into further units
+     */
+    private final class UnitScan extends RecursiveTask<ScanResult> {
+        private final List<Node> nodes;
+        private final AnalysisBudget budget;
+        private final int unitLines;
+
+        UnitScan(List<Node> nodes, AnalysisBudget budget, int unitLines) {
+            this.nodes = nodes;
+            this.budget = budget;
+            this.unitLines = unitLines;
+        }
+
+        @Override
+        protected ScanResult compute() {
+            ScanResult result = new ScanResult(budget);
+            // Units smaller than a chunk charge the budget only when they end
+            if (budget.isExceeded()) {
+                result.truncate();
+                return result;
+            }
+            if (nodes.size() == 1 && isSplit(nodes.get(0))) {
+                Node node = nodes.get(0);
+                if (collect(node, result)) {
+                    List<UnitScan> units = units(node.getChildNodes());
+                    invokeAll(units);
+                    for (UnitScan unit : units) {
+                        result.append(unit.join());
+                    }
+                }
+            } else {
+                for (Node node : nodes) {
+                    node.accept(FusedAnalysisVisitor.this, result);
+                }
+            }
+            result.settle();
+            return result;
+        }
+
+        private boolean isSplit(Node node) {
+            return lines(node) > unitLines && node.getChildNodes().size() > 1;
+        }
+
+        private List<UnitScan> units(List<Node> children) {
+            List<UnitScan> units = new ArrayList<>();
+            List<Node> run = new ArrayList<>();
+            int runLines = 0;
+            for (Node child : children) {
+                if (isSplit(child)) {
+                    if (!run.isEmpty()) {
+                        units.add(new UnitScan(run, budget, unitLines));
+                        run = new ArrayList<>();
+                        runLines = 0;
+                    }
+                    units.add(new UnitScan(List.of(child), budget, unitLines));
+                    continue;
+                }
+                run.add(child);
+                runLines += lines(child);
+                if (runLines >= unitLines) {
+                    units.add(new UnitScan(run, budget, unitLines));
+                    run = new ArrayList<>();
+                    runLines = 0;
+                }
+            }
+            if (!run.isEmpty()) {
+                units.add(new UnitScan(run, budget, unitLines));
+            }
+            return units;
+        }
+    }
+}
@@ -0,0 +1,447 @@
+package com.codeenhancer.java_code_enhancer.analysis;
+
+import com.codeenhancer.java_code_enhancer.rules.RuleSet;
+import com.github.javaparser.ParseResult;
+import com.github.javaparser.Position;
+import com.github.javaparser.ast.CompilationUnit;
+import com.github.javaparser.ast.Node;
+import com.github.javaparser.ast.body.BodyDeclaration;
+import com.github.javaparser.ast.body.FieldDeclaration;
+import com.github.javaparser.ast.body.TypeDeclaration;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+/**
+ * A source kept open for editing, re-analyzed one member at a time.
+ * <p>
+ * Every member of a top-level type (with its leading comment) is a segment
+ * holding its own share of the metrics, warnings and rewrite candidates. An
+ * edit that falls inside one segment re-parses only that member and updates
+ * the totals by the difference; any other edit, or a member that no longer
+ * parses on its own, re-analyzes the whole document. The re-parsed member
+ * takes the place of the old one in the parsed compilation unit before it is
+ * scanned, so rules that look up from a node to the fields of its type see
+ * the same tree as a full scan. An edit of a field re-analyzes the whole
+ * document, as the members that use the field may report differently.
+ * <p>
+ * Each open and each edit is analyzed within a budget of its own. A document
+ * whose scan ran out of it is partial: it reports what was found so far, and
+ * its next edit analyzes the whole document again.
+ * <p>
+ * Not thread safe; callers serialize the edits of one document.
+ */
+public class IncrementalDocument {
+    private final JavaParserPool parsers;
+    private final RuleSet rules;
+    private final Supplier<AnalysisBudget> budgets;
+    private String source;
+    private String parseError;
+    private long version;
+    private boolean partial;
+
+    private final List<Segment> segments = new ArrayList<>();
+    private List<String> residualWarnings = List.of();
+    private int cyclomaticComplexity;
+    private int deprecatedApiCount;
+    private int modernizationOpportunities;
+
+    public IncrementalDocument(String source, JavaParserPool parsers, RuleSet rules) {
+        this(source, parsers, rules, AnalysisBudget::unlimited);
+    }
+
+    /**
+     * @param budgets Budget of one analysis, starting when it is called
+     */
+    public IncrementalDocument(String source, JavaParserPool parsers, RuleSet rules,
+                               Supplier<AnalysisBudget> budgets) {
+        this.source = source == null ? "" : source;
+        this.parsers = parsers;
+        this.rules = rules;
+        this.budgets = budgets;
+        analyzeAll(budgets.get());
+    }
+
+    /**
+     * Replace {@code length} characters at {@code offset} with {@code text}
+     *
+     * @return What changed in the analysis
+     * @throws IllegalArgumentException When the range is outside the source
+     */
+    public Change applyEdit(int offset, int length, String text) {
+        if (offset < 0 || length < 0 || offset + length > source.length()) {
+            throw new IllegalArgumentException("Edit range " + offset + "+" + length
+                    + " is outside the source of length " + source.length());
+        }
+        String replacement = text == null ? "" : text;
+        String removed = source.substring(offset, offset + length);
+        source = source.substring(0, offset) + replacement + source.substring(offset + length);
+        version++;
+        int lineDelta = countNewlines(replacement, 0, replacement.length()) - countNewlines(removed, 0, removed.length());
+
+        AnalysisBudget budget = budgets.get();
+        int index = isValid() ? segmentContaining(offset, offset + length) : -1;
+        if (index >= 0) {
+            Segment old = segments.get(index);
+            int delta = replacement.length() - length;
+            Segment updated = reparseMember(old, old.start, old.end + delta, budget);
+            if (updated != null) {
+                segments.set(index, updated);
+                for (int i = index + 1; i < segments.size(); i++) {
+                    segments.get(i).shift(delta);
+                }
+                cyclomaticComplexity += updated.complexity - old.complexity;
+                deprecatedApiCount += updated.deprecatedApis - old.deprecatedApis;
+                modernizationOpportunities += updated.modernizations - old.modernizations;
+
+                int startLine = lineAt(updated.start);
+                int endLine = startLine + countNewlines(source, updated.start, updated.end);
+                return new Change(false, startLine, endLine, lineDelta,
+                        difference(updated.warnings, old.warnings),
+                        difference(old.warnings, updated.warnings),
+                        updated.sites(startLine));
+            }
+        }
+
+        List<String> before = getWarnings();
+        analyzeAll(budget);
+        List<String> after = getWarnings();
+        return new Change(true, 1, getLineCount(), lineDelta,
+                difference(after, before), difference(before, after), getRewriteSites());
+    }
+
+    /**
+     * The analysis of the whole document, as reported when it is opened
+     */
+    public Change snapshot() {
+        return new Change(true, 1, getLineCount(), 0, getWarnings(), List.of(), getRewriteSites());
+    }
+
+    public String getSource() {
+        return source;
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
+    public boolean isValid() {
+        return parseError == null;
+    }
+
+    /**
+     * Whether the last analysis of the whole document ran out of its budget,
+     * so that the metrics and warnings cover only part of it
+     */
+    public boolean isPartial() {
+        return partial;
+    }
+
+    public String getParseError() {
+        return parseError;
+    }
+
+    public int getCyclomaticComplexity() {
+        return cyclomaticComplexity;
+    }
+
+    public int getDeprecatedApiCount() {
+        return deprecatedApiCount;
+    }
+
+    public int getModernizationOpportunities() {
+        return modernizationOpportunities;
+    }
+
+    /**
+     * Number of lines, counted the same way as {@code source.split("\n").length}
+     */
+    public int getLineCount() {
+        int end = source.length();
+        while (end > 0 && source.charAt(end - 1) == '\n') {
+            end--;
+        }
+        if (end == 0) {
+            return source.isEmpty() ? 1 : 0;
+        }
+        return countNewlines(source, 0, end) + 1;
+    }
+
+    /**
+     * Warnings of the whole document
+     */
+    public List<String> getWarnings() {
+        List<String> warnings = new ArrayList<>(residualWarnings);
+        for (Segment segment : segments) {
+            warnings.addAll(segment.warnings);
+        }
+        return warnings;
+    }
+
+    private List<RewriteSite> getRewriteSites() {
+        List<RewriteSite> sites = new ArrayList<>();
+        int line = 1;
+        int offset = 0;
+        for (Segment segment : segments) {
+            line += countNewlines(source, offset, segment.start);
+            offset = segment.start;
+            sites.addAll(segment.sites(line));
+        }
+        return sites;
+    }
+
+    private void analyzeAll(AnalysisBudget budget) {
+        segments.clear();
+        residualWarnings = List.of();
+        partial = false;
+        cyclomaticComplexity = 0;
+        deprecatedApiCount = 0;
+        modernizationOpportunities = 0;
+
+        AnalysisContext context = AnalysisContext.parse(source, parsers, AnalysisContext.options()
+                .rules(rules)
+                .budget(budget));
+        parseError = context.getParseError();
+        if (!context.isParsed()) {
+            return;
+        }
+        ScanResult all = context.getScan();
+        cyclomaticComplexity = all.getCyclomaticComplexity();
+        deprecatedApiCount = all.getDeprecatedApiCount();
+        modernizationOpportunities = all.getModernizationOpportunities();
+        residualWarnings = all.getWarnings();
+        partial = all.isTruncated();
+        if (partial) {
+            // Without segments every edit analyzes the whole document again
+            return;
+        }
+
+        Map<String, Integer> residual = counts(all.getWarnings());
+        AnalysisBudget memberBudget = budgets.get();
+        CompilationUnit cu = context.getCompilationUnit();
+        for (TypeDeclaration<?> type : cu.getTypes()) {
+            for (BodyDeclaration<?> member : type.getMembers()) {
+                Optional<Position> begin = member.getComment().flatMap(Node::getBegin).or(member::getBegin);
+                Optional<Position> end = member.getEnd();
+                if (begin.isEmpty() || end.isEmpty()) {
+                    continue; // Stays in the residual, edits there re-analyze the document
+                }
+                ScanResult scan = rules.scan(member, memberBudget);
+                if (scan.isTruncated()) {
+                    // The totals are complete, but the document is not split into segments
+                    segments.clear();
+                    return;
+                }
+                Segment segment = new Segment(member, scan,
+                        context.offsetOf(begin.get().line, begin.get().column),
+                        context.offsetOf(end.get().line, end.get().column) + 1,
+                        begin.get().line);
+                segment.warnings.forEach(warning -> residual.merge(warning, -1, Integer::sum));
+                segments.add(segment);
+            }
+        }
+
+        // Warnings outside every member, kept in document order
+        List<String> outside = new ArrayList<>();
+        for (String warning : all.getWarnings()) {
+            if (residual.merge(warning, -1, Integer::sum) >= 0) {
+                outside.add(warning);
+            }
+        }
+        residualWarnings = outside;
+    }
+
+    /**
+     * Re-parse the member of a segment and put it in place of the old one,
+     * or null when the whole document has to be analyzed again, also when
+     * the scan of the member ran out of the budget
+     */
+    private Segment reparseMember(Segment old, int start, int end, AnalysisBudget budget) {
+        if (old.member instanceof FieldDeclaration) {
+            return null;
+        }
+        ParseResult<BodyDeclaration<?>> result = parsers.parseBodyDeclaration(source.substring(start, end));
+        if (!result.isSuccessful() || result.getResult().isEmpty()) {
+            return null;
+        }
+        BodyDeclaration<?> member = result.getResult().get();
+        if (member instanceof FieldDeclaration || !old.member.replace(member)) {
+            return null;
+        }
+        ScanResult scan = rules.scan(member, budget);
+        return scan.isTruncated() ? null : new Segment(member, scan, start, end, 1);
+    }
+
+    /**
+     * Index of the segment holding the whole range, or -1
+     */
+    private int segmentContaining(int from, int to) {
+        int low = 0;
+        int high = segments.size() - 1;
+        int found = -1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            if (segments.get(mid).start <= from) {
+                found = mid;
+                low = mid + 1;
+            } else {
+                high = mid - 1;
+            }
+        }
+        return found >= 0 && to <= segments.get(found).end ? found : -1;
+    }
+
+    private int lineAt(int offset) {
+        return countNewlines(source, 0, offset) + 1;
+    }
+
+    private static int countNewlines(String text, int from, int to) {
+        int count = 0;
+        for (int i = from; i < to; i++) {
+            if (text.charAt(i) == '\n') count++;
+        }
+        return count;
+    }
+
+    private static Map<String, Integer> counts(List<String> values) {
+        Map<String, Integer> counts = new HashMap<>();
+        values.forEach(value -> counts.merge(value, 1, Integer::sum));
+        return counts;
+    }
+
+    /**
+     * Elements of {@code values} not matched by an element of {@code minus}
+     */
+    private static List<String> difference(List<String> values, List<String> minus) {
+        Map<String, Integer> remaining = counts(minus);
+        List<String> result = new ArrayList<>();
+        for (String value : values) {
+            if (remaining.merge(value, -1, Integer::sum) < 0) {
+                result.add(value);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * One member and its share of the analysis. Positions of rewrite
+     * candidates are kept relative to the first line of the segment, so
+     * edits above it only move its offsets.
+     */
+    private static class Segment {
+        private final BodyDeclaration<?> member;
+        private int start;
+        private int end;
+        private final int complexity;
+        private final int deprecatedApis;
+        private final int modernizations;
+        private final List<String> warnings;
+        private final List<String> ruleIds = new ArrayList<>();
+        private final List<Integer> relativeLines = new ArrayList<>();
+
+        Segment(BodyDeclaration<?> member, ScanResult scan, int start, int end, int firstLine) {
+            this.member = member;
+            this.start = start;
+            this.end = end;
+            this.complexity = scan.getCyclomaticComplexity() - 1; // The base 1 belongs to the document
+            this.deprecatedApis = scan.getDeprecatedApiCount();
+            this.modernizations = scan.getModernizationOpportunities();
+            this.warnings = scan.getWarnings();
+            for (RewriteCandidate candidate : scan.getRewriteCandidates()) {
+                ruleIds.add(candidate.getRule().id());
+                relativeLines.add(candidate.getNode().getBegin().map(p -> p.line - firstLine).orElse(0));
+            }
+        }
+
+        void shift(int delta) {
+            start += delta;
+            end += delta;
+        }
+
+        List<RewriteSite> sites(int firstLine) {
+            List<RewriteSite> sites = new ArrayList<>(ruleIds.size());
+            for (int i = 0; i < ruleIds.size(); i++) {
+                sites.add(new RewriteSite(ruleIds.get(i), firstLine + relativeLines.get(i)));
+            }
+            return sites;
+        }
+    }
+
+    /**
+     * A rewrite of the given rule that applies at the given line
+     */
+    public static class RewriteSite {
+        private final String rule;
+        private final int line;
+
+        RewriteSite(String rule, int line) {
+            this.rule = rule;
+            this.line = line;
+        }
+
+        public String getRule() {
+            return rule;
+        }
+
+        public int getLine() {
+            return line;
+        }
+    }
+
+    /**
+     * Result of one edit: the re-analyzed line range of the new source, the
+     * warnings that appeared or went away, and every rewrite in that range
+     */
+    public static class Change {
+        private final boolean wholeDocument;
+        private final int startLine;
+        private final int endLine;
+        private final int lineDelta;
+        private final List<String> addedWarnings;
+        private final List<String> removedWarnings;
+        private final List<RewriteSite> rewrites;
+
+        Change(boolean wholeDocument, int startLine, int endLine, int lineDelta,
+               List<String> addedWarnings, List<String> removedWarnings, List<RewriteSite> rewrites) {
+            this.wholeDocument = wholeDocument;
+            this.startLine = startLine;
+            this.endLine = endLine;
+            this.lineDelta = lineDelta;
+            this.addedWarnings = addedWarnings;
+            this.removedWarnings = removedWarnings;
+            this.rewrites = rewrites;
+        }
+
+        public boolean isWholeDocument() {
+            return wholeDocument;
+        }
+
+        public int getStartLine() {
+            return startLine;
+        }
+
+        public int getEndLine() {
+            return endLine;
+        }
+
+        public int getLineDelta() {
+            return lineDelta;
+        }
+
+        public List<String> getAddedWarnings() {
+            return addedWarnings;
+        }
+
+        public List<String> getRemovedWarnings() {
+            return removedWarnings;
+        }
+
+        public List<RewriteSite> getRewrites() {
+            return rewrites;
+        }
+    }
+}
@@ -0,0 +1,136 @@
+package com.codeenhancer.java_code_enhancer.analysis;
+
+import com.codeenhancer.java_code_enhancer.config.CodeEnhancerProperties;
+import com.github.javaparser.JavaParser;
+import com.github.javaparser.ParseProblemException;
+import com.github.javaparser.ParseResult;
+import com.github.javaparser.ParserConfiguration;
+import com.github.javaparser.ast.CompilationUnit;
+import com.github.javaparser.ast.body.BodyDeclaration;
+import com.github.javaparser.ast.stmt.Statement;
+import com.github.javaparser.resolution.SymbolResolver;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+/**
+ * Explicitly configured JavaParser instances, shared safely between threads.
+ * <p>
+ * A JavaParser is not thread safe, so each parse borrows an instance for its
+ * own use and hands it back afterwards. Instances are created on demand and a
+ * bounded number of idle ones is kept, so callers never wait for a parser and
+ * the global StaticJavaParser configuration is never touched. Parsers of
+ * each {@link ParseProfile} are kept apart, as the profile is part of their
+ * configuration.
+ */
+@Component
+public class JavaParserPool {
+    private final CodeEnhancerProperties.Parser settings;
+    private final SymbolResolver symbolResolver;
+    private final Map<ParseProfile, Queue<JavaParser>> idle = new EnumMap<>(ParseProfile.class);
+    private final Map<ParseProfile, AtomicInteger> idleCount = new EnumMap<>(ParseProfile.class);
+
+    @Autowired
+    public JavaParserPool(CodeEnhancerProperties properties, ObjectProvider<SymbolResolver> symbolResolver) {
+        this(properties.getParser(), symbolResolver.getIfAvailable());
+    }
+
+    public JavaParserPool(CodeEnhancerProperties.Parser settings, SymbolResolver symbolResolver) {
+        this.settings = settings;
+        this.symbolResolver = symbolResolver;
+        for (ParseProfile profile : ParseProfile.values()) {
+            idle.put(profile, new ConcurrentLinkedQueue<>());
+            idleCount.put(profile, new AtomicInteger());
+        }
+    }
+
+    /**
+     * Parse a complete source file
+     */
+    public ParseResult<CompilationUnit> parse(String source) {
+        return parse(source, ParseProfile.FULL);
+    }
+
+    /**
+     * Parse a complete source file keeping what the profile asks for
+     */
+    public ParseResult<CompilationUnit> parse(String source, ParseProfile profile) {
+        return withParser(profile, parser -> parser.parse(source));
+    }
+
+    /**
+     * Parse a single member of a type, as used by incremental re-analysis
+     */
+    public ParseResult<BodyDeclaration<?>> parseBodyDeclaration(String member) {
+        return withParser(parser -> parser.parseBodyDeclaration(member));
+    }
+
+    /**
+     * Parse a single statement, as used by rewrites that build code from text
+     *
+     * @throws ParseProblemException When the text is not a valid statement
+     */
+    public Statement parseStatement(String statement) {
+        ParseResult<Statement> result = withParser(parser -> parser.parseStatement(statement));
+        if (!result.isSuccessful() || result.getResult().isEmpty()) {
+            throw new ParseProblemException(result.getProblems());
+        }
+        return result.getResult().get();
+    }
+
+    /**
+     * Run work with a parser borrowed for the duration of the call
+     */
+    public <T> T withParser(Function<JavaParser, T> work) {
+        return withParser(ParseProfile.FULL, work);
+    }
+
+    /**
+     * Run work with a parser of the profile borrowed for the duration of the call
+     */
+    public <T> T withParser(ParseProfile profile, Function<JavaParser, T> work) {
+        Queue<JavaParser> parsers = idle.get(profile);
+        AtomicInteger count = idleCount.get(profile);
+        JavaParser parser = parsers.poll();
+        if (parser != null) {
+            count.decrementAndGet();
+        } else {
+            parser = new JavaParser(newConfiguration(profile));
+        }
+        try {
+            return work.apply(parser);
+        } finally {
+            if (count.incrementAndGet() <= settings.getMaxIdle()) {
+                parsers.offer(parser);
+            } else {
+                count.decrementAndGet();
+            }
+        }
+    }
+
+    private ParserConfiguration newConfiguration(ParseProfile profile) {
+        ParserConfiguration configuration = new ParserConfiguration()
+                .setLanguageLevel(settings.getLanguageLevel());
+        if (profile == ParseProfile.LEAN) {
+            return configuration
+                    .setAttributeComments(false)
+                    .setStoreTokens(false)
+                    .setLexicalPreservationEnabled(false);
+        }
+        configuration
+                .setAttributeComments(settings.isAttributeComments())
+                .setStoreTokens(settings.isStoreTokens())
+                .setLexicalPreservationEnabled(settings.isLexicalPreservation());
+        if (symbolResolver != null) {
+            configuration.setSymbolResolver(symbolResolver);
+        }
+        return configuration;
+    }
+}
@@ -0,0 +1,115 @@
+package com.codeenhancer.java_code_enhancer.analysis;
+
+import com.github.javaparser.ast.expr.BinaryExpr;
+import com.github.javaparser.ast.expr.BooleanLiteralExpr;
+import com.github.javaparser.ast.expr.Expression;
+import com.github.javaparser.ast.expr.UnaryExpr;
+import com.github.javaparser.ast.expr.VariableDeclarationExpr;
+import com.github.javaparser.ast.stmt.ForStmt;
+import com.github.javaparser.ast.stmt.SwitchStmt;
+import com.github.javaparser.ast.stmt.WhileStmt;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Shared definitions of the code patterns that metrics, warnings and
+ * rewrites look for, so they cannot drift apart.
+ */
+public final class ModernizationPatterns {
+
+    public static final Set<String> DEPRECATED_METHODS = Set.of(
+            "list",
+            "toURL",
+            "getBytes",
+            "newInstance"
+    );
+
+    public static final Set<String> DEPRECATED_TYPES = Set.of(
+            "Date",
+            "SecureRandom"
+    );
+
+    /**
+     * Wrapper classes whose constructors are deprecated in favor of valueOf
+     */
+    public static final Set<String> BOXED_TYPES = Set.of(
+            "Integer", "Long", "Short", "Byte", "Double", "Float", "Boolean", "Character"
+    );
+
+    /**
+     * Classes that declare the {@link #DEPRECATED_METHODS}, by method name,
+     * for bytecode where the receiver class is known
+     */
+    public static final Map<String, String> DEPRECATED_METHOD_OWNERS = Map.of(
+            "list", "java.io.File",
+            "toURL", "java.io.File",
+            "getBytes", "java.lang.String",
+            "newInstance", "java.lang.Class"
+    );
+
+    /**
+     * Qualified names of the {@link #DEPRECATED_TYPES}, and of the
+     * synchronized collections and buffer the rules replace, whose
+     * instantiations bytecode analysis counts
+     */
+    public static final Set<String> DEPRECATED_CLASSES = Set.of(
+            "java.util.Date",
+            "java.security.SecureRandom",
+            "java.util.Vector",
+            "java.util.Hashtable",
+            "java.lang.StringBuffer"
+    );
+
+    private ModernizationPatterns() {
+    }
+
+    public static boolean isModernizableForLoop(ForStmt forStmt) {
+        Optional<Expression> init = forStmt.getInitialization().stream().findFirst();
+        Optional<Expression> compare = forStmt.getCompare();
+        Optional<Expression> update = forStmt.getUpdate().stream().findFirst();
+
+        // Check if it's a traditional indexed loop or an array/collection loop
+        return init.isPresent() && compare.isPresent() && update.isPresent()
+                && (isIndexBasedLoop(forStmt) || isArrayOrCollectionLoop(forStmt));
+    }
+
+    public static boolean isIndexBasedLoop(ForStmt forStmt) {
+        Optional<Expression> init = forStmt.getInitialization().stream().findFirst();
+        Optional<Expression> compare = forStmt.getCompare();
+        Optional<Expression> update = forStmt.getUpdate().stream().findFirst();
+
+        return init.isPresent() &&
+                compare.isPresent() &&
+                update.isPresent() &&
+                init.get() instanceof VariableDeclarationExpr &&
+                compare.get() instanceof BinaryExpr &&
+                update.get() instanceof UnaryExpr;
+    }
+
+    public static boolean isArrayOrCollectionLoop(ForStmt forStmt) {
+        Optional<Expression> init = forStmt.getInitialization().stream().findFirst();
+        Optional<Expression> compare = forStmt.getCompare();
+        Optional<Expression> update = forStmt.getUpdate().stream().findFirst();
+        if (init.isEmpty() || compare.isEmpty() || update.isEmpty()) return false;
+
+        Expression initExpr = init.get();
+        if (!(initExpr instanceof VariableDeclarationExpr)) return false;
+
+        Expression compareExpr = compare.get();
+        return compareExpr instanceof BinaryExpr &&
+                ((BinaryExpr) compareExpr).getOperator() == BinaryExpr.Operator.LESS;
+    }
+
+    public static boolean isInfiniteLoop(WhileStmt whileStmt) {
+        Expression condition = whileStmt.getCondition();
+        return condition instanceof BooleanLiteralExpr &&
+                ((BooleanLiteralExpr) condition).getValue();
+    }
+
+    public static boolean isModernizableSwitch(SwitchStmt switchStmt) {
+        // A switch statement is modernizable if it uses traditional labels or lacks arrow cases
+        return switchStmt.getEntries().stream().anyMatch(entry -> !entry.getStatements().isEmpty());
+    }
+}
@@ -0,0 +1,44 @@
+package com.codeenhancer.java_code_enhancer.analysis;
+
+import com.github.javaparser.ast.Node;
+
+import java.util.Set;
+import java.util.function.BiConsumer;
+
+/**
+ * Receives the nodes of the types it registered for during the single
+ * traversal done by {@link FusedAnalysisVisitor}. Collectors are stateless;
+ * everything they find is written to the {@link ScanResult}.
+ */
+public interface NodeCollector {
+
+    /**
+     * @return Concrete node classes this collector wants to be offered
+     */
+    Set<Class<? extends Node>> nodeTypes();
+
+    /**
+     * Inspect one node and record metrics, warnings or rewrite candidates
+     *
+     * @param node   Node of one of the registered types
+     * @param result Result of the running scan
+     */
+    void collect(Node node, ScanResult result);
+
+    /**
+     * Build a collector for a single node type
+     */
+    static <T extends Node> NodeCollector of(Class<T> type, BiConsumer<T, ScanResult> action) {
+        return new NodeCollector() {
+            @Override
+            public Set<Class<? extends Node>> nodeTypes() {
+                return Set.of(type);
+            }
+
+            @Override
+            public void collect(Node node, ScanResult result) {
+                action.accept(type.cast(node), result);
+            }
+        };
+    }
+}
@@ -0,0 +1,67 @@
+package com.codeenhancer.java_code_enhancer.analysis;
+
+import com.codeenhancer.java_code_enhancer.config.CodeEnhancerProperties;
+import com.codeenhancer.java_code_enhancer.rules.RuleSet;
+import com.github.javaparser.ast.CompilationUnit;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Runs the fused scan of a large source on a fork-join pool, split into units
+ * of types, methods and statements, so one very large file uses every core.
+ * The units' results are joined in document order, so metrics, warnings and
+ * rewrite candidates, and with them the rewritten code, are the same as
+ * those of the sequential scan that smaller sources get.
+ */
+@Component
+public class ParallelScanner {
+    /** Scans every source on the calling thread */
+    public static final ParallelScanner SEQUENTIAL = new ParallelScanner(null, Integer.MAX_VALUE, 0);
+
+    private final ForkJoinPool pool;
+    private final int minLines;
+    private final int unitLines;
+
+    @Autowired
+    public ParallelScanner(CodeEnhancerProperties properties) {
+        this(properties.getScan());
+    }
+
+    public ParallelScanner(CodeEnhancerProperties.Scan settings) {
+        this(settings.isParallel() ? new ForkJoinPool(settings.getParallelism() > 0
+                        ? settings.getParallelism() : Runtime.getRuntime().availableProcessors()) : null,
+                settings.getMinLines(), settings.getUnitLines());
+    }
+
+    private ParallelScanner(ForkJoinPool pool, int minLines, int unitLines) {
+        this.pool = pool;
+        this.minLines = minLines;
+        this.unitLines = unitLines;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (pool != null) {
+            pool.shutdownNow();
+        }
+    }
+
+    /**
+     * Scan a compilation unit, in parallel when it has at least the
+     * configured number of lines
+     *
+     * @param rules  Rules to scan with
+     * @param cu     Tree to scan
+     * @param lines  Lines of the source of the tree
+     * @param budget Budget the visited nodes are counted against
+     */
+    public ScanResult scan(RuleSet rules, CompilationUnit cu, int lines, AnalysisBudget budget) {
+        if (pool == null || lines < minLines) {
+            return rules.scan(cu, budget);
+        }
+        return rules.scan(cu, budget, pool, unitLines);
+    }
+}
@@ -0,0 +1,22 @@
+package com.codeenhancer.java_code_enhancer.analysis;
+
+/**
+ * What a parse keeps besides the syntax tree, chosen by each caller for the
+ * results it needs
+ */
+public enum ParseProfile {
+    /**
+     * Comments attributed to nodes, the token list behind every node and
+     * symbol resolution, as configured: everything rewriting and printing
+     * with the original layout needs
+     */
+    FULL,
+
+    /**
+     * The bare syntax tree: no comments, no token list, and so no node
+     * positions, and no symbol resolution. Enough to validate a source and
+     * compute its metrics; a failed parse is repeated in full for the
+     * position of its error.
+     */
+    LEAN
+}
@@ -0,0 +1,131 @@
+package com.codeenhancer.java_code_enhancer.analysis;
+
+import com.codeenhancer.java_code_enhancer.dto.AppliedRewrite;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Supplier;
+
+/**
+ * Time spent in each stage of one request and in each rewrite rule, with the
+ * rewrites applied. Filled in by the context and the transformation
+ * as they run; read afterwards for metrics and the explain breakdown.
+ */
+public class PipelineTrace {
+
+    public enum Stage {
+        PARSE, SCAN, ANALYZE, WARNINGS, TRANSFORM, PRINT, DIFF;
+
+        /** Name used in metric tags and the explain breakdown */
+        public String label() {
+            return name().toLowerCase();
+        }
+    }
+
+    private final long[] stageNanos = new long[Stage.values().length];
+    // Nanos and count of the applied rewrites of each rule, by rule id
+    private final Map<String, long[]> rewrites = new LinkedHashMap<>();
+    private final List<AppliedRewrite> applied = new ArrayList<>();
+    private long nodesVisited;
+    private boolean parseFailed;
+    private boolean partial;
+    private String failedRewrite;
+
+    /**
+     * Run work and add its duration to the stage
+     */
+    public <T> T time(Stage stage, Supplier<T> work) {
+        long start = System.nanoTime();
+        try {
+            return work.get();
+        } finally {
+            stageNanos[stage.ordinal()] += System.nanoTime() - start;
+        }
+    }
+
+    public void addStage(Stage stage, long nanos) {
+        stageNanos[stage.ordinal()] += nanos;
+    }
+
+    public void addRewrite(String ruleId, long nanos) {
+        long[] stats = rewrites.computeIfAbsent(ruleId, id -> new long[2]);
+        stats[0] += nanos;
+        stats[1]++;
+    }
+
+    public void addApplied(AppliedRewrite rewrite) {
+        applied.add(rewrite);
+    }
+
+    /**
+     * Rewrites applied to the source, in the order they ran
+     */
+    public List<AppliedRewrite> getAppliedRewrites() {
+        return applied;
+    }
+
+    public long getStageNanos(Stage stage) {
+        return stageNanos[stage.ordinal()];
+    }
+
+    /**
+     * Ids of the rules that applied a rewrite, in the order they ran
+     */
+    public Set<String> getRewriteRules() {
+        return rewrites.keySet();
+    }
+
+    public long getRewriteNanos(String ruleId) {
+        long[] stats = rewrites.get(ruleId);
+        return stats == null ? 0 : stats[0];
+    }
+
+    public int getRewriteCount(String ruleId) {
+        long[] stats = rewrites.get(ruleId);
+        return stats == null ? 0 : (int) stats[1];
+    }
+
+    /**
+     * Nodes visited by the fused scan, 0 when the source was not scanned
+     */
+    public long getNodesVisited() {
+        return nodesVisited;
+    }
+
+    void setNodesVisited(long nodesVisited) {
+        this.nodesVisited = nodesVisited;
+    }
+
+    /**
+     * Whether the budget ran out before the scan or the rewrites finished
+     */
+    public boolean isPartial() {
+        return partial;
+    }
+
+    public void markPartial() {
+        partial = true;
+    }
+
+    public boolean isParseFailed() {
+        return parseFailed;
+    }
+
+    void markParseFailed() {
+        parseFailed = true;
+    }
+
+    /**
+     * Rule whose rewrite threw and stopped the transformation, or null
+     */
+    public String getFailedRewrite() {
+        return failedRewrite;
+    }
+
+    public void markRewriteFailed(String ruleId) {
+        failedRewrite = ruleId;
+    }
+}
@@ -0,0 +1,25 @@
+package com.codeenhancer.java_code_enhancer.analysis;
+
+import com.codeenhancer.java_code_enhancer.rules.ModernizationRule;
+import com.github.javaparser.ast.Node;
+
+/**
+ * A node found during the scan that the rewrite of the given rule applies to
+ */
+public class RewriteCandidate {
+    private final ModernizationRule rule;
+    private final Node node;
+
+    public RewriteCandidate(ModernizationRule rule, Node node) {
+        this.rule = rule;
+        this.node = node;
+    }
+
+    public ModernizationRule getRule() {
+        return rule;
+    }
+
+    public Node getNode() {
+        return node;
+    }
+}
@@ -0,0 +1,153 @@
+package com.codeenhancer.java_code_enhancer.analysis;
+
+import com.codeenhancer.java_code_enhancer.dto.PerformanceFinding;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Everything found by one pass of {@link FusedAnalysisVisitor}: metric
+ * counters, warnings, performance findings and rewrite candidates, all in
+ * document order. A scan that ran out of its budget is truncated and holds
+ * only what was found before it stopped.
+ */
+public class ScanResult {
+    private int cyclomaticComplexity = 1; // Start with 1 for the method itself
+    private int deprecatedApiCount;
+    private int modernizationOpportunities;
+    private long nodesVisited;
+    // Nodes visited since the budget was last charged
+    private int uncharged;
+    private boolean truncated;
+    private final List<String> warnings = new ArrayList<>();
+    private final List<PerformanceFinding> findings = new ArrayList<>();
+    private final List<RewriteCandidate> rewriteCandidates = new ArrayList<>();
+    private final AnalysisBudget budget;
+
+    public ScanResult() {
+        this(AnalysisBudget.unlimited());
+    }
+
+    public ScanResult(AnalysisBudget budget) {
+        this.budget = budget;
+    }
+
+    /**
+     * Count a visited node against the budget
+     *
+     * @return Whether the scan may go on
+     */
+    boolean nodeVisited() {
+        if (truncated) {
+            return false;
+        }
+        nodesVisited++;
+        if (++uncharged == AnalysisBudget.CHUNK) {
+            uncharged = 0;
+            if (!budget.charge(AnalysisBudget.CHUNK)) {
+                truncated = true;
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Stop a scan before it visits anything, when other scans sharing the
+     * budget have used it up
+     */
+    void truncate() {
+        truncated = true;
+    }
+
+    /**
+     * Charge the nodes visited since the last full chunk, at the end of a
+     * scan. The scan is complete, so it is not truncated whatever is left.
+     */
+    void settle() {
+        if (uncharged > 0) {
+            budget.charge(uncharged);
+            uncharged = 0;
+        }
+    }
+
+    /**
+     * Add the result of the scan of a later part of the tree, keeping
+     * document order
+     */
+    void append(ScanResult later) {
+        // Both results start at 1 for the method itself
+        cyclomaticComplexity += later.cyclomaticComplexity - 1;
+        deprecatedApiCount += later.deprecatedApiCount;
+        modernizationOpportunities += later.modernizationOpportunities;
+        nodesVisited += later.nodesVisited;
+        truncated |= later.truncated;
+        warnings.addAll(later.warnings);
+        findings.addAll(later.findings);
+        rewriteCandidates.addAll(later.rewriteCandidates);
+    }
+
+    public void addComplexity(int amount) {
+        cyclomaticComplexity += amount;
+    }
+
+    public void addDeprecatedApi() {
+        deprecatedApiCount++;
+    }
+
+    public void addModernizationOpportunity() {
+        modernizationOpportunities++;
+    }
+
+    public void addWarning(String warning) {
+        warnings.add(warning);
+    }
+
+    /**
+     * Record a finding, and its message as a warning. Warnings carry no
+     * position, so they stay comparable when code moves.
+     */
+    public void addFinding(PerformanceFinding finding) {
+        findings.add(finding);
+        warnings.add(finding.getMessage());
+    }
+
+    public void addRewriteCandidate(RewriteCandidate candidate) {
+        rewriteCandidates.add(candidate);
+    }
+
+    public int getCyclomaticComplexity() {
+        return cyclomaticComplexity;
+    }
+
+    public int getDeprecatedApiCount() {
+        return deprecatedApiCount;
+    }
+
+    public int getModernizationOpportunities() {
+        return modernizationOpportunities;
+    }
+
+    public long getNodesVisited() {
+        return nodesVisited;
+    }
+
+    /**
+     * Whether the scan stopped before the end of the tree
+     */
+    public boolean isTruncated() {
+        return truncated;
+    }
+
+    public List<String> getWarnings() {
+        return warnings;
+    }
+
+    public List<PerformanceFinding> getFindings() {
+        return findings;
+    }
+
+    public List<RewriteCandidate> getRewriteCandidates() {
+        return rewriteCandidates;
+    }
+}
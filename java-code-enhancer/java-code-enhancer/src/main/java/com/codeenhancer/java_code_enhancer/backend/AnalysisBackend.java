@@ -0,0 +1,53 @@
+package com.codeenhancer.java_code_enhancer.backend;
+
+import com.codeenhancer.java_code_enhancer.dto.SourceAnalysisResult;
+import com.codeenhancer.java_code_enhancer.rules.RuleSet;
+import com.codeenhancer.java_code_enhancer.util.CodeMetrics;
+
+import java.util.List;
+
+/**
+ * Parser behind validation and metrics-only analysis, selected with
+ * {@code code-enhancer.backend.type}. Enhancement always parses with
+ * JavaParser, as the rewrites edit and print its tree.
+ * <p>
+ * Every backend computes the metrics of the built-in rules among the rules
+ * of the request, so results do not depend on the backend; a backend that
+ * cannot run a rule added besides the built-in ones rejects rule sets
+ * holding it rather than leaving it out of the counts. The
+ * type-resolved deprecated API counts use the same qualified names as the
+ * bytecode analysis.
+ */
+public interface AnalysisBackend {
+
+    /**
+     * Name of the backend in configuration and responses
+     */
+    String id();
+
+    /**
+     * Check the syntax of one source
+     *
+     * @return Message of the first syntax error, or null when the source parses
+     */
+    String syntaxError(String source);
+
+    /**
+     * Metrics of one source, without resolving types
+     *
+     * @param rules Rules the metrics are counted with
+     * @throws IllegalArgumentException When the source does not parse, or
+     *                                  the backend does not run one of the rules
+     */
+    CodeMetrics metrics(String source, RuleSet rules);
+
+    /**
+     * Validity, metrics and type-resolved deprecated API use of every source,
+     * in input order. Types declared by one source are visible to the others
+     * where the backend resolves them together.
+     *
+     * @param rules Rules the metrics are counted with
+     * @throws IllegalArgumentException When the backend does not run one of the rules
+     */
+    List<SourceAnalysisResult> analyzeAll(List<SourceFile> sources, RuleSet rules);
+}
@@ -0,0 +1,179 @@
+package com.codeenhancer.java_code_enhancer.backend;
+
+import com.codeenhancer.java_code_enhancer.analysis.AnalysisBudget;
+import com.codeenhancer.java_code_enhancer.analysis.AnalysisContext;
+import com.codeenhancer.java_code_enhancer.analysis.JavaParserPool;
+import com.codeenhancer.java_code_enhancer.analysis.ModernizationPatterns;
+import com.codeenhancer.java_code_enhancer.analysis.ParallelScanner;
+import com.codeenhancer.java_code_enhancer.analysis.ParseProfile;
+import com.codeenhancer.java_code_enhancer.config.CodeEnhancerProperties;
+import com.codeenhancer.java_code_enhancer.dto.SourceAnalysisResult;
+import com.codeenhancer.java_code_enhancer.metrics.PipelineMetrics;
+import com.codeenhancer.java_code_enhancer.rules.RuleRegistry;
+import com.codeenhancer.java_code_enhancer.rules.RuleSet;
+import com.codeenhancer.java_code_enhancer.service.impl.DashboardServiceImpl;
+import com.codeenhancer.java_code_enhancer.symbols.ProjectIndexer;
+import com.codeenhancer.java_code_enhancer.symbols.ProjectTypeIndex;
+import com.codeenhancer.java_code_enhancer.util.CodeMetrics;
+import com.github.javaparser.ast.CompilationUnit;
+import com.github.javaparser.ast.expr.MethodCallExpr;
+import com.github.javaparser.ast.expr.ObjectCreationExpr;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+
+/**
+ * Analysis with the parsers of the enhancement pipeline: a lean parse for
+ * validation and metrics, and a full parse with symbol resolution for each
+ * source of a multi-file input, which resolves the types of the other
+ * sources through their project index. Each source is scanned as in
+ * enhancement, with the configured budget and on the parallel scanner.
+ */
+@Component
+@ConditionalOnProperty(prefix = "code-enhancer.backend", name = "type", havingValue = JavaParserBackend.ID,
+        matchIfMissing = true)
+public class JavaParserBackend implements AnalysisBackend {
+    public static final String ID = "javaparser";
+
+    /** Simple names of the classes whose instantiations are resolved */
+    private static final Set<String> DEPRECATED_CLASS_NAMES = ModernizationPatterns.DEPRECATED_CLASSES.stream()
+            .map(name -> name.substring(name.lastIndexOf('.') + 1))
+            .collect(Collectors.toSet());
+
+    private final JavaParserPool parsers;
+    private final DashboardServiceImpl dashboardService;
+    private final PipelineMetrics pipelineMetrics;
+    private final ProjectIndexer projectIndexer;
+    private final RuleRegistry ruleRegistry;
+    private final CodeEnhancerProperties properties;
+    private final ParallelScanner parallelScanner;
+
+    public JavaParserBackend(JavaParserPool parsers, DashboardServiceImpl dashboardService,
+                             PipelineMetrics pipelineMetrics, ProjectIndexer projectIndexer,
+                             RuleRegistry ruleRegistry, CodeEnhancerProperties properties,
+                             ParallelScanner parallelScanner) {
+        this.parsers = parsers;
+        this.dashboardService = dashboardService;
+        this.pipelineMetrics = pipelineMetrics;
+        this.projectIndexer = projectIndexer;
+        this.ruleRegistry = ruleRegistry;
+        this.properties = properties;
+        this.parallelScanner = parallelScanner;
+    }
+
+    @Override
+    public String id() {
+        return ID;
+    }
+
+    @Override
+    public String syntaxError(String source) {
+        // Validation needs the syntax tree only, which is dropped on return
+        AnalysisContext context = AnalysisContext.parse(source, parsers, AnalysisContext.options()
+                .rules(ruleRegistry.getDefaults())
+                .budget(budget())
+                .profile(ParseProfile.LEAN));
+        pipelineMetrics.publish(context);
+        return context.isParsed() ? null : context.getParseError();
+    }
+
+    @Override
+    public CodeMetrics metrics(String source, RuleSet rules) {
+        return dashboardService.analyzeCode(source, rules);
+    }
+
+    @Override
+    public List<SourceAnalysisResult> analyzeAll(List<SourceFile> sources, RuleSet rules) {
+        List<SourceAnalysisResult> results = new ArrayList<>(sources.size());
+        ProjectTypeIndex project = index(sources);
+        for (SourceFile source : sources) {
+            AnalysisContext context = AnalysisContext.parse(source.getContent(), parsers, AnalysisContext.options()
+                    .rules(rules)
+                    .budget(budget())
+                    .scanner(parallelScanner));
+            if (context.isParsed() && project != null) {
+                project.attach(context.getCompilationUnit());
+            }
+            if (!context.isParsed()) {
+                results.add(SourceAnalysisResult.builder()
+                        .path(source.getPath())
+                        .valid(false)
+                        .error(context.getParseError())
+                        .build());
+                continue;
+            }
+            results.add(SourceAnalysisResult.builder()
+                    .path(source.getPath())
+                    .valid(true)
+                    .codeMetrics(dashboardService.analyzeCode(context))
+                    .deprecatedApis(deprecatedApis(context.getCompilationUnit()))
+                    .build());
+        }
+        return results;
+    }
+
+    /**
+     * Budget of the analysis of one source, starting now
+     */
+    private AnalysisBudget budget() {
+        CodeEnhancerProperties.Budget budget = properties.getBudget();
+        return AnalysisBudget.of(budget.getTime(), budget.getMaxNodes());
+    }
+
+    private ProjectTypeIndex index(List<SourceFile> sources) {
+        if (sources.size() < 2 || !projectIndexer.isEnabled()) {
+            return null;
+        }
+        ProjectTypeIndex.Builder builder = projectIndexer.newIndex();
+        for (SourceFile source : sources) {
+            builder.add(source.getContent());
+        }
+        return builder.size() > 1 ? builder.build() : null;
+    }
+
+    /**
+     * Deprecated calls and instantiations whose declaring class resolves to
+     * one of {@link ModernizationPatterns}; only the candidates by name are
+     * resolved, and those that do not resolve are left out
+     */
+    private static Map<String, Integer> deprecatedApis(CompilationUnit cu) {
+        Map<String, Integer> uses = new TreeMap<>();
+        for (MethodCallExpr call : cu.findAll(MethodCallExpr.class,
+                call -> ModernizationPatterns.DEPRECATED_METHOD_OWNERS.containsKey(call.getNameAsString()))) {
+            String owner = ModernizationPatterns.DEPRECATED_METHOD_OWNERS.get(call.getNameAsString());
+            if (owner.equals(resolveOwner(call))) {
+                uses.merge(owner + "." + call.getNameAsString(), 1, Integer::sum);
+            }
+        }
+        for (ObjectCreationExpr creation : cu.findAll(ObjectCreationExpr.class,
+                creation -> DEPRECATED_CLASS_NAMES.contains(creation.getType().getNameAsString()))) {
+            String type = resolveType(creation);
+            if (type != null && ModernizationPatterns.DEPRECATED_CLASSES.contains(type)) {
+                uses.merge(type, 1, Integer::sum);
+            }
+        }
+        return uses;
+    }
+
+    private static String resolveOwner(MethodCallExpr call) {
+        try {
+            return call.resolve().declaringType().getQualifiedName();
+        } catch (RuntimeException e) {
+            return null;
+        }
+    }
+
+    private static String resolveType(ObjectCreationExpr creation) {
+        try {
+            return creation.getType().resolve().asReferenceType().getQualifiedName();
+        } catch (RuntimeException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,300 @@
+package com.codeenhancer.java_code_enhancer.backend;
+
+import com.codeenhancer.java_code_enhancer.analysis.AnalysisContext;
+import com.codeenhancer.java_code_enhancer.config.CodeEnhancerProperties;
+import com.codeenhancer.java_code_enhancer.dto.SourceAnalysisResult;
+import com.codeenhancer.java_code_enhancer.rules.BuiltInRules;
+import com.codeenhancer.java_code_enhancer.rules.ModernizationRule;
+import com.codeenhancer.java_code_enhancer.rules.RuleSet;
+import com.codeenhancer.java_code_enhancer.util.CodeMetrics;
+import com.github.javaparser.ParserConfiguration;
+import org.eclipse.jdt.core.JavaCore;
+import org.eclipse.jdt.core.compiler.CategorizedProblem;
+import org.eclipse.jdt.core.compiler.IProblem;
+import org.eclipse.jdt.core.dom.AST;
+import org.eclipse.jdt.core.dom.ASTParser;
+import org.eclipse.jdt.core.dom.CompilationUnit;
+import org.eclipse.jdt.core.dom.FileASTRequestor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.BiConsumer;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Analysis with the Eclipse compiler's DOM. A multi-file input is compiled
+ * in one batch, so all its sources share one binding environment, built
+ * once from the running JDK and the configured symbol jars and source
+ * roots; each type is resolved once for the whole batch.
+ * <p>
+ * The batch compiler reads sources from disk, so they are written to a
+ * temporary directory for the duration of the call. Only syntax errors make
+ * a source invalid, as with JavaParser; unresolved types do not.
+ * <p>
+ * The metrics are counted by {@link JdtMetricsVisitor}, which re-implements
+ * the built-in rules on JDT's tree and cannot run any other rule. Rule sets
+ * holding a rule added besides the built-in ones are rejected rather than
+ * counted without it; use the JavaParser backend to count such rules.
+ */
+@Component
+@ConditionalOnProperty(prefix = "code-enhancer.backend", name = "type", havingValue = JdtBackend.ID)
+public class JdtBackend implements AnalysisBackend {
+    public static final String ID = "jdt";
+
+    private static final String PROBLEM_OPTIONS = "org.eclipse.jdt.core.compiler.problem.";
+    private static final Set<String> SEVERITIES = Set.of(JavaCore.ERROR, JavaCore.WARNING, JavaCore.INFO);
+    /** Rules this backend runs: those the visitor counts and the built-in rules that count no metrics */
+    private static final Set<String> SUPPORTED_RULES = BuiltInRules.all().stream()
+            .map(ModernizationRule::id)
+            .collect(Collectors.toSet());
+
+    private final Map<String, String> options;
+    private final String[] classpath;
+    private final String[] sourcepath;
+
+    public JdtBackend(CodeEnhancerProperties properties) {
+        options = compilerOptions(properties.getParser().getLanguageLevel());
+        CodeEnhancerProperties.Symbols symbols = properties.getSymbols();
+        classpath = symbols.isEnabled() ? paths(symbols.getJars()) : new String[0];
+        sourcepath = symbols.isEnabled() ? paths(symbols.getSourceRoots()) : new String[0];
+    }
+
+    @Override
+    public String id() {
+        return ID;
+    }
+
+    @Override
+    public String syntaxError(String source) {
+        return syntaxError(parse(source));
+    }
+
+    @Override
+    public CodeMetrics metrics(String source, RuleSet rules) {
+        Set<String> ruleIds = ruleIds(rules);
+        CompilationUnit unit = parse(source);
+        String error = syntaxError(unit);
+        if (error != null) {
+            throw new IllegalArgumentException("Invalid Java syntax: " + error);
+        }
+        JdtMetricsVisitor visitor = new JdtMetricsVisitor(false, ruleIds);
+        unit.accept(visitor);
+        return metrics(source, visitor);
+    }
+
+    @Override
+    public List<SourceAnalysisResult> analyzeAll(List<SourceFile> sources, RuleSet rules) {
+        Set<String> ruleIds = ruleIds(rules);
+        if (sources.isEmpty()) {
+            return Collections.emptyList();
+        }
+        Path directory = null;
+        try {
+            directory = Files.createTempDirectory("code-enhancer-jdt");
+            String[] files = new String[sources.size()];
+            Map<String, Integer> indexes = new HashMap<>();
+            for (int i = 0; i < files.length; i++) {
+                // One directory per source keeps the file name, which public types must match
+                Path file = directory.resolve(Integer.toString(i)).resolve(fileName(sources.get(i).getPath()));
+                Files.createDirectories(file.getParent());
+                Files.writeString(file, sources.get(i).getContent());
+                files[i] = file.toString();
+                indexes.put(files[i], i);
+            }
+
+            SourceAnalysisResult[] results = new SourceAnalysisResult[files.length];
+            List<String> pending = Arrays.asList(files);
+            while (!pending.isEmpty()) {
+                // A type declared again is left unresolved, so its later declarations go to another batch
+                Map<String, CompilationUnit> deferred = new LinkedHashMap<>();
+                compile(pending, (path, unit) -> {
+                    if (declaresDuplicate(unit)) {
+                        deferred.put(path, unit);
+                    } else {
+                        int index = indexes.get(path);
+                        results[index] = analyze(sources.get(index), unit, ruleIds);
+                    }
+                });
+                if (deferred.size() == pending.size()) {
+                    deferred.forEach((path, unit) ->
+                            results[indexes.get(path)] = analyze(sources.get(indexes.get(path)), unit, ruleIds));
+                    break;
+                }
+                pending = new ArrayList<>(deferred.keySet());
+            }
+            return Arrays.asList(results);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot stage sources for the compiler", e);
+        } finally {
+            if (directory != null) {
+                delete(directory);
+            }
+        }
+    }
+
+    /**
+     * Compile the files in one batch, handing each tree to the consumer
+     */
+    private void compile(List<String> files, BiConsumer<String, CompilationUnit> consumer) {
+        String[] encodings = new String[files.size()];
+        Arrays.fill(encodings, StandardCharsets.UTF_8.name());
+        ASTParser parser = newParser();
+        parser.setResolveBindings(true);
+        parser.setEnvironment(classpath, sourcepath, null, true);
+        parser.createASTs(files.toArray(new String[0]), encodings, new String[0], new FileASTRequestor() {
+            @Override
+            public void acceptAST(String sourceFilePath, CompilationUnit unit) {
+                consumer.accept(sourceFilePath, unit);
+            }
+        }, null);
+    }
+
+    private static boolean declaresDuplicate(CompilationUnit unit) {
+        for (IProblem problem : unit.getProblems()) {
+            if (problem.getID() == IProblem.DuplicateTypes) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private SourceAnalysisResult analyze(SourceFile source, CompilationUnit unit, Set<String> ruleIds) {
+        String error = syntaxError(unit);
+        if (error != null) {
+            return SourceAnalysisResult.builder()
+                    .path(source.getPath())
+                    .valid(false)
+                    .error(error)
+                    .build();
+        }
+        JdtMetricsVisitor visitor = new JdtMetricsVisitor(true, ruleIds);
+        unit.accept(visitor);
+        return SourceAnalysisResult.builder()
+                .path(source.getPath())
+                .valid(true)
+                .codeMetrics(metrics(source.getContent(), visitor))
+                .deprecatedApis(visitor.getDeprecatedApis())
+                .build();
+    }
+
+    private CompilationUnit parse(String source) {
+        ASTParser parser = newParser();
+        parser.setSource(source.toCharArray());
+        return (CompilationUnit) parser.createAST(null);
+    }
+
+    private ASTParser newParser() {
+        ASTParser parser = ASTParser.newParser(AST.getJLSLatest());
+        parser.setKind(ASTParser.K_COMPILATION_UNIT);
+        parser.setCompilerOptions(new HashMap<>(options));
+        return parser;
+    }
+
+    /**
+     * First syntax error of the unit, positioned as JavaParser positions its
+     * errors, or null when there is none
+     */
+    private static String syntaxError(CompilationUnit unit) {
+        for (IProblem problem : unit.getProblems()) {
+            if (problem.isError() && problem instanceof CategorizedProblem
+                    && ((CategorizedProblem) problem).getCategoryID() == CategorizedProblem.CAT_SYNTAX) {
+                return "(line " + problem.getSourceLineNumber() + ",col "
+                        + (unit.getColumnNumber(problem.getSourceStart()) + 1) + ") " + problem.getMessage();
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Ids of the rules of the set
+     *
+     * @throws IllegalArgumentException When the set holds a rule this backend does not run
+     */
+    private static Set<String> ruleIds(RuleSet rules) {
+        Set<String> ids = rules.getRules().stream().map(ModernizationRule::id).collect(Collectors.toSet());
+        List<String> unsupported = ids.stream()
+                .filter(id -> !SUPPORTED_RULES.contains(id))
+                .sorted()
+                .collect(Collectors.toList());
+        if (!unsupported.isEmpty()) {
+            throw new IllegalArgumentException("Rules not supported by the " + ID + " backend: "
+                    + String.join(", ", unsupported));
+        }
+        return ids;
+    }
+
+    private static CodeMetrics metrics(String source, JdtMetricsVisitor visitor) {
+        CodeMetrics metrics = new CodeMetrics();
+        metrics.setTotalLinesOfCode(AnalysisContext.countLines(source));
+        metrics.setCyclomaticComplexity(visitor.getComplexity());
+        metrics.setDeprecatedApiCount(visitor.getDeprecatedApiCount());
+        metrics.setModernizationOpportunities(visitor.getModernizationOpportunities());
+        return metrics;
+    }
+
+    /**
+     * Compiler options at the compliance level of the JavaParser language
+     * level, reporting syntax errors only
+     */
+    public static Map<String, String> compilerOptions(ParserConfiguration.LanguageLevel level) {
+        Map<String, String> options = JavaCore.getOptions();
+        JavaCore.setComplianceOptions(javaVersion(level), options);
+        // Only syntax errors are reported, so the compiler's other diagnostics are work for nothing
+        options.replaceAll((key, value) -> key.startsWith(PROBLEM_OPTIONS) && SEVERITIES.contains(value)
+                ? JavaCore.IGNORE : value);
+        options.put(JavaCore.COMPILER_DOC_COMMENT_SUPPORT, JavaCore.DISABLED);
+        options.put(JavaCore.COMPILER_TASK_TAGS, "");
+        return options;
+    }
+
+    /**
+     * Compliance level of the JavaParser language level, the newest one the
+     * compiler supports for the open-ended levels
+     */
+    private static String javaVersion(ParserConfiguration.LanguageLevel level) {
+        String name = level.name();
+        if (!name.startsWith("JAVA_")) {
+            return JavaCore.latestSupportedJavaVersion();
+        }
+        String version = name.substring("JAVA_".length()).replace("_PREVIEW", "").replace('_', '.');
+        return version.matches("[5-8]") ? "1." + version : version;
+    }
+
+    private static String fileName(String path) {
+        String name = path.substring(path.lastIndexOf('/') + 1).replaceAll("[^A-Za-z0-9_$.-]", "_");
+        return name.endsWith(".java") ? name : "Source.java";
+    }
+
+    private static String[] paths(List<String> entries) {
+        List<String> paths = new ArrayList<>();
+        for (String entry : entries) {
+            if (!entry.isBlank()) {
+                paths.add(entry.trim());
+            }
+        }
+        return paths.toArray(new String[0]);
+    }
+
+    private static void delete(Path directory) {
+        try (Stream<Path> walk = Files.walk(directory)) {
+            walk.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+        } catch (IOException e) {
+            // Left for the temporary directory cleanup of the system
+        }
+    }
+}
@@ -0,0 +1,214 @@
+package com.codeenhancer.java_code_enhancer.backend;
+
+import com.codeenhancer.java_code_enhancer.analysis.ModernizationPatterns;
+import org.eclipse.jdt.core.dom.ASTVisitor;
+import org.eclipse.jdt.core.dom.BooleanLiteral;
+import org.eclipse.jdt.core.dom.ClassInstanceCreation;
+import org.eclipse.jdt.core.dom.Expression;
+import org.eclipse.jdt.core.dom.ForStatement;
+import org.eclipse.jdt.core.dom.IMethodBinding;
+import org.eclipse.jdt.core.dom.ITypeBinding;
+import org.eclipse.jdt.core.dom.InfixExpression;
+import org.eclipse.jdt.core.dom.MethodInvocation;
+import org.eclipse.jdt.core.dom.Name;
+import org.eclipse.jdt.core.dom.ParameterizedType;
+import org.eclipse.jdt.core.dom.PostfixExpression;
+import org.eclipse.jdt.core.dom.PrefixExpression;
+import org.eclipse.jdt.core.dom.QualifiedName;
+import org.eclipse.jdt.core.dom.SimpleName;
+import org.eclipse.jdt.core.dom.SimpleType;
+import org.eclipse.jdt.core.dom.SuperMethodInvocation;
+import org.eclipse.jdt.core.dom.SwitchCase;
+import org.eclipse.jdt.core.dom.SwitchStatement;
+import org.eclipse.jdt.core.dom.Type;
+import org.eclipse.jdt.core.dom.VariableDeclarationExpression;
+import org.eclipse.jdt.core.dom.WhileStatement;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+
+/**
+ * The metrics of the built-in rules, computed on a JDT tree: the same
+ * patterns as {@link ModernizationPatterns} and the rules that count them,
+ * matched on JDT's node types. A pattern is counted only when the rule that
+ * counts it is selected. With bindings, the deprecated calls and
+ * instantiations are also counted by the class they resolve to.
+ * <p>
+ * Only the built-in rules in {@link #RULES} count metrics; the other
+ * built-in rules report findings and warnings only. A rule added besides the
+ * built-in ones is not known here, so {@link JdtBackend} rejects rule sets
+ * that hold one.
+ */
+final class JdtMetricsVisitor extends ASTVisitor {
+    /** Ids of the rules whose metrics are counted */
+    static final Set<String> RULES = Set.of("switch", "infinite_while", "collection_loop", "indexed_loop",
+            "legacy_type", "boxed_constructor", "deprecated_call");
+
+    /** Simple names of the classes whose instantiations are resolved */
+    private static final Set<String> DEPRECATED_CLASS_NAMES = ModernizationPatterns.DEPRECATED_CLASSES.stream()
+            .map(name -> name.substring(name.lastIndexOf('.') + 1))
+            .collect(Collectors.toSet());
+
+    private final boolean resolve;
+    private final Set<String> rules;
+    private final Map<String, Integer> deprecatedApis = new TreeMap<>();
+    private int complexity = 1;
+    private int deprecatedApiCount;
+    private int modernizationOpportunities;
+
+    /**
+     * @param resolve Whether to count deprecated APIs by the class they resolve to
+     * @param rules   Ids of the selected rules
+     */
+    JdtMetricsVisitor(boolean resolve, Set<String> rules) {
+        this.resolve = resolve;
+        this.rules = rules;
+    }
+
+    @Override
+    public boolean visit(SwitchStatement node) {
+        List<?> statements = node.statements();
+        boolean hasStatements = false;
+        for (Object statement : statements) {
+            if (statement instanceof SwitchCase) {
+                complexity++;
+            } else {
+                hasStatements = true;
+            }
+        }
+        if (hasStatements && rules.contains("switch")) {
+            modernizationOpportunities++;
+        }
+        return true;
+    }
+
+    @Override
+    public boolean visit(WhileStatement node) {
+        if (node.getExpression() instanceof BooleanLiteral && ((BooleanLiteral) node.getExpression()).booleanValue()
+                && rules.contains("infinite_while")) {
+            modernizationOpportunities++;
+        }
+        return true;
+    }
+
+    @Override
+    public boolean visit(ForStatement node) {
+        // Loops over an array or collection are counted by collection_loop, other index loops by indexed_loop
+        if (isArrayOrCollectionLoop(node) ? rules.contains("collection_loop")
+                : isIndexBasedLoop(node) && rules.contains("indexed_loop")) {
+            modernizationOpportunities++;
+        }
+        return true;
+    }
+
+    @Override
+    public boolean visit(MethodInvocation node) {
+        if (ModernizationPatterns.DEPRECATED_METHODS.contains(node.getName().getIdentifier())) {
+            deprecatedCall(node.getName().getIdentifier(), resolve ? node.resolveMethodBinding() : null);
+        }
+        return true;
+    }
+
+    @Override
+    public boolean visit(SuperMethodInvocation node) {
+        if (ModernizationPatterns.DEPRECATED_METHODS.contains(node.getName().getIdentifier())) {
+            deprecatedCall(node.getName().getIdentifier(), resolve ? node.resolveMethodBinding() : null);
+        }
+        return true;
+    }
+
+    @Override
+    public boolean visit(ClassInstanceCreation node) {
+        Type type = node.getType();
+        if (ModernizationPatterns.DEPRECATED_TYPES.contains(type.toString())) {
+            if (rules.contains("legacy_type")) {
+                deprecatedApiCount++;
+            }
+        } else if (type instanceof SimpleType && node.arguments().size() == 1 && node.getAnonymousClassDeclaration() == null
+                && ModernizationPatterns.BOXED_TYPES.contains(simpleName(((SimpleType) type).getName()))
+                && rules.contains("boxed_constructor")) {
+            deprecatedApiCount++;
+        }
+        // Only the types named like a deprecated class are resolved
+        if (resolve && DEPRECATED_CLASS_NAMES.contains(simpleName(type))) {
+            ITypeBinding binding = type.resolveBinding();
+            if (binding != null && ModernizationPatterns.DEPRECATED_CLASSES.contains(binding.getErasure().getQualifiedName())) {
+                deprecatedApis.merge(binding.getErasure().getQualifiedName(), 1, Integer::sum);
+            }
+        }
+        return true;
+    }
+
+    int getComplexity() {
+        return complexity;
+    }
+
+    int getDeprecatedApiCount() {
+        return deprecatedApiCount;
+    }
+
+    int getModernizationOpportunities() {
+        return modernizationOpportunities;
+    }
+
+    Map<String, Integer> getDeprecatedApis() {
+        return deprecatedApis;
+    }
+
+    private void deprecatedCall(String method, IMethodBinding binding) {
+        if (rules.contains("deprecated_call")) {
+            deprecatedApiCount++;
+        }
+        String owner = ModernizationPatterns.DEPRECATED_METHOD_OWNERS.get(method);
+        if (binding != null && owner.equals(binding.getDeclaringClass().getErasure().getQualifiedName())) {
+            deprecatedApis.merge(owner + "." + method, 1, Integer::sum);
+        }
+    }
+
+    /**
+     * As {@link ModernizationPatterns#isIndexBasedLoop}
+     */
+    private static boolean isIndexBasedLoop(ForStatement node) {
+        if (!hasHeader(node)) {
+            return false;
+        }
+        Object update = node.updaters().get(0);
+        return node.getExpression() instanceof InfixExpression
+                && (update instanceof PostfixExpression || update instanceof PrefixExpression);
+    }
+
+    /**
+     * As {@link ModernizationPatterns#isArrayOrCollectionLoop}
+     */
+    private static boolean isArrayOrCollectionLoop(ForStatement node) {
+        if (!hasHeader(node)) {
+            return false;
+        }
+        Expression compare = node.getExpression();
+        return compare instanceof InfixExpression
+                && ((InfixExpression) compare).getOperator() == InfixExpression.Operator.LESS;
+    }
+
+    /**
+     * Whether the loop has a condition, an update, and declares its variable
+     * in the first initializer
+     */
+    private static boolean hasHeader(ForStatement node) {
+        return node.getExpression() != null && !node.updaters().isEmpty() && !node.initializers().isEmpty()
+                && node.initializers().get(0) instanceof VariableDeclarationExpression;
+    }
+
+    private static String simpleName(Type type) {
+        if (type instanceof ParameterizedType) {
+            return simpleName(((ParameterizedType) type).getType());
+        }
+        return type instanceof SimpleType ? simpleName(((SimpleType) type).getName()) : "";
+    }
+
+    private static String simpleName(Name name) {
+        return name.isSimpleName() ? ((SimpleName) name).getIdentifier() : ((QualifiedName) name).getName().getIdentifier();
+    }
+}
@@ -0,0 +1,22 @@
+package com.codeenhancer.java_code_enhancer.backend;
+
+/**
+ * A source of a multi-file input, named by its path in the upload
+ */
+public final class SourceFile {
+    private final String path;
+    private final String content;
+
+    public SourceFile(String path, String content) {
+        this.path = path;
+        this.content = content;
+    }
+
+    public String getPath() {
+        return path;
+    }
+
+    public String getContent() {
+        return content;
+    }
+}
@@ -0,0 +1,177 @@
+package com.codeenhancer.java_code_enhancer.bytecode;
+
+import com.codeenhancer.java_code_enhancer.analysis.ModernizationPatterns;
+import com.codeenhancer.java_code_enhancer.dto.ClassBytecodeReport;
+import com.codeenhancer.java_code_enhancer.util.CodeMetrics;
+import javassist.bytecode.BadBytecode;
+import javassist.bytecode.ClassFile;
+import javassist.bytecode.CodeAttribute;
+import javassist.bytecode.CodeIterator;
+import javassist.bytecode.ConstPool;
+import javassist.bytecode.LineNumberAttribute;
+import javassist.bytecode.MethodInfo;
+import javassist.bytecode.Opcode;
+
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.util.BitSet;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * Metrics of a compiled class, read from its class file without loading the
+ * class. The constant pool is scanned once for the deprecated classes and
+ * methods of {@link ModernizationPatterns}; the code of each method is then
+ * walked once, counting the instructions that use those entries.
+ * <p>
+ * Bytecode knows the class of every receiver, so File.list counts where a
+ * source scan counts every call named list. The values approximate their
+ * source counterparts: lines are the lines that hold code, complexity adds
+ * the branch targets of each switch, and loop and switch shapes, which
+ * compilation erases, leave no modernization opportunities.
+ */
+public final class ClassFileScanner {
+
+    private ClassFileScanner() {
+    }
+
+    /**
+     * Scan the bytes of one class file
+     *
+     * @param path  Name of the class file in its upload
+     * @param bytes Content of the class file
+     * @return Report of the class, or a failed one when the bytes are not a class file
+     */
+    public static ClassBytecodeReport scan(String path, byte[] bytes) {
+        ClassFile classFile;
+        try {
+            classFile = new ClassFile(new DataInputStream(new ByteArrayInputStream(bytes)));
+        } catch (IOException | RuntimeException e) {
+            return failure(path, "Invalid class file: " + e.getMessage());
+        }
+
+        String[] deprecated = deprecatedEntries(classFile.getConstPool());
+        Map<String, Integer> uses = new TreeMap<>();
+        Set<Integer> lines = new HashSet<>();
+        int complexity = 1;
+        try {
+            for (MethodInfo method : classFile.getMethods()) {
+                CodeAttribute code = method.getCodeAttribute();
+                if (code == null) {
+                    continue;
+                }
+                LineNumberAttribute lineNumbers = (LineNumberAttribute) code.getAttribute(LineNumberAttribute.tag);
+                if (lineNumbers != null) {
+                    for (int i = 0; i < lineNumbers.tableLength(); i++) {
+                        lines.add(lineNumbers.lineNumber(i));
+                    }
+                }
+                complexity += walk(code.iterator(), deprecated, uses);
+            }
+        } catch (BadBytecode | RuntimeException e) {
+            return failure(path, "Invalid bytecode in " + classFile.getName() + ": " + e.getMessage());
+        }
+
+        CodeMetrics metrics = new CodeMetrics();
+        metrics.setTotalLinesOfCode(lines.size());
+        metrics.setCyclomaticComplexity(complexity);
+        metrics.setDeprecatedApiCount(uses.values().stream().mapToInt(Integer::intValue).sum());
+        return ClassBytecodeReport.builder()
+                .path(path)
+                .className(classFile.getName())
+                .success(true)
+                .codeMetrics(metrics)
+                .deprecatedApis(uses)
+                .build();
+    }
+
+    /**
+     * Name of the deprecated API each constant pool entry refers to, null
+     * for every other entry. Classes are named for their instantiation,
+     * methods by class and method name.
+     */
+    private static String[] deprecatedEntries(ConstPool pool) {
+        String[] names = new String[pool.getSize()];
+        for (int i = 1; i < names.length; i++) {
+            int tag = pool.getTag(i);
+            if (tag == ConstPool.CONST_Class) {
+                String name = pool.getClassInfo(i);
+                if (ModernizationPatterns.DEPRECATED_CLASSES.contains(name)) {
+                    names[i] = name;
+                }
+            } else if (tag == ConstPool.CONST_Methodref) {
+                String method = pool.getMethodrefName(i);
+                String owner = ModernizationPatterns.DEPRECATED_METHOD_OWNERS.get(method);
+                if (owner != null && owner.equals(pool.getMethodrefClassName(i))) {
+                    names[i] = owner + "." + method;
+                }
+            }
+        }
+        return names;
+    }
+
+    /**
+     * Count the uses of deprecated entries in the code of one method
+     *
+     * @return Complexity the method adds
+     */
+    private static int walk(CodeIterator code, String[] deprecated, Map<String, Integer> uses) throws BadBytecode {
+        int complexity = 0;
+        while (code.hasNext()) {
+            int index = code.next();
+            switch (code.byteAt(index)) {
+                case Opcode.NEW:
+                case Opcode.INVOKEVIRTUAL:
+                case Opcode.INVOKESTATIC:
+                case Opcode.INVOKESPECIAL:
+                    String name = deprecated[code.u16bitAt(index + 1)];
+                    if (name != null) {
+                        uses.merge(name, 1, Integer::sum);
+                    }
+                    break;
+                case Opcode.TABLESWITCH:
+                case Opcode.LOOKUPSWITCH:
+                    complexity += switchTargets(code, index);
+                    break;
+                default:
+                    break;
+            }
+        }
+        return complexity;
+    }
+
+    /**
+     * Distinct branch targets of a switch instruction, the default included,
+     * as a switch statement has one entry per target
+     */
+    private static int switchTargets(CodeIterator code, int index) {
+        // Operands start at the next multiple of four after the opcode
+        int operands = (index & ~3) + 4;
+        BitSet targets = new BitSet();
+        targets.set(code.s32bitAt(operands) + index);
+        if (code.byteAt(index) == Opcode.TABLESWITCH) {
+            int low = code.s32bitAt(operands + 4);
+            int high = code.s32bitAt(operands + 8);
+            for (int i = 0; i <= high - low; i++) {
+                targets.set(code.s32bitAt(operands + 12 + 4 * i) + index);
+            }
+        } else {
+            int pairs = code.s32bitAt(operands + 4);
+            for (int i = 0; i < pairs; i++) {
+                targets.set(code.s32bitAt(operands + 12 + 8 * i) + index);
+            }
+        }
+        return targets.cardinality();
+    }
+
+    private static ClassBytecodeReport failure(String path, String error) {
+        return ClassBytecodeReport.builder()
+                .path(path)
+                .success(false)
+                .error(error)
+                .build();
+    }
+}
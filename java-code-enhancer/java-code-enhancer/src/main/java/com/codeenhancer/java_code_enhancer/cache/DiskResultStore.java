@@ -0,0 +1,132 @@
+package com.codeenhancer.java_code_enhancer.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.util.ByteBufferBackedInputStream;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * On-disk tier of the result cache. Every entry is one JSON file named after
+ * its key; entries are read through a memory-mapped view of the file, so a
+ * restarted server can serve results computed before the restart. When the
+ * directory grows past its byte budget the oldest entries are removed.
+ */
+@Slf4j
+class DiskResultStore {
+    private final Path directory;
+    private final long maxBytes;
+    private final ObjectMapper objectMapper;
+    private final AtomicLong totalBytes = new AtomicLong();
+
+    DiskResultStore(Path directory, long maxBytes, ObjectMapper objectMapper) throws IOException {
+        this.directory = directory;
+        this.maxBytes = maxBytes;
+        this.objectMapper = objectMapper;
+        Files.createDirectories(directory);
+        try (Stream<Path> files = Files.list(directory)) {
+            totalBytes.set(files.mapToLong(DiskResultStore::sizeOf).sum());
+        }
+    }
+
+    /**
+     * @return The stored value, or null when absent or unreadable
+     */
+    <T> T read(String key, Class<T> type) {
+        Path file = directory.resolve(key + ".json");
+        if (!Files.exists(file)) {
+            return null;
+        }
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            try (InputStream in = new ByteBufferBackedInputStream(buffer)) {
+                return objectMapper.readValue(in, type);
+            }
+        } catch (IOException e) {
+            log.warn("Discarding unreadable cache entry {}: {}", file, e.getMessage());
+            delete(file);
+            return null;
+        }
+    }
+
+    void write(String key, Object value) {
+        Path file = directory.resolve(key + ".json");
+        try {
+            byte[] bytes = objectMapper.writeValueAsBytes(value);
+            // Write to a temporary file first so readers never see a partial entry
+            Path temp = Files.createTempFile(directory, key, ".tmp");
+            Files.write(temp, bytes);
+            long previous = sizeOf(file);
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            if (totalBytes.addAndGet(bytes.length - previous) > maxBytes) {
+                trim();
+            }
+        } catch (IOException e) {
+            log.warn("Could not write cache entry {}: {}", file, e.getMessage());
+        }
+    }
+
+    long getTotalBytes() {
+        return totalBytes.get();
+    }
+
+    /**
+     * Remove the oldest entries until the store is back under 90% of its budget
+     */
+    private synchronized void trim() {
+        if (totalBytes.get() <= maxBytes) {
+            return;
+        }
+        try (Stream<Path> files = Files.list(directory)) {
+            List<Path> oldestFirst = files
+                    .filter(path -> path.toString().endsWith(".json"))
+                    .sorted(Comparator.comparingLong(DiskResultStore::lastModified))
+                    .collect(Collectors.toList());
+            for (Path file : oldestFirst) {
+                if (totalBytes.get() <= maxBytes * 9 / 10) break;
+                delete(file);
+            }
+        } catch (IOException e) {
+            log.warn("Could not trim cache directory {}: {}", directory, e.getMessage());
+        }
+    }
+
+    private void delete(Path file) {
+        long size = sizeOf(file);
+        try {
+            if (Files.deleteIfExists(file)) {
+                totalBytes.addAndGet(-size);
+            }
+        } catch (IOException e) {
+            log.warn("Could not delete cache entry {}: {}", file, e.getMessage());
+        }
+    }
+
+    private static long sizeOf(Path file) {
+        try {
+            return Files.exists(file) ? Files.size(file) : 0;
+        } catch (IOException e) {
+            return 0;
+        }
+    }
+
+    private static long lastModified(Path file) {
+        try {
+            return Files.getLastModifiedTime(file).toMillis();
+        } catch (IOException e) {
+            return 0;
+        }
+    }
+}
@@ -0,0 +1,205 @@
+package com.codeenhancer.java_code_enhancer.cache;
+
+import com.codeenhancer.java_code_enhancer.dto.EnhancementResponse;
+import com.codeenhancer.java_code_enhancer.dto.FileEnhancementResult;
+import com.codeenhancer.java_code_enhancer.dto.OutputMode;
+import com.codeenhancer.java_code_enhancer.rules.RuleSet;
+import com.codeenhancer.java_code_enhancer.util.CodeTransformationUtils;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.common.hash.Hashing;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Results of a previous scan of a source tree, by path, so that a repeated
+ * scan enhances only the files that changed.
+ * <p>
+ * Every entry holds the hash of the file's content, the version of the rules
+ * and output mode it was enhanced with, the fingerprint of the project
+ * declarations it may refer to, and its result. A file is reused when all
+ * match; anything else is enhanced again. Saving keeps only the files seen
+ * in the current scan, so deleted files drop out of the index.
+ */
+@Slf4j
+public final class FingerprintIndex {
+    private static final int FORMAT = 2;
+
+    private final Path file;
+    private final ObjectMapper objectMapper;
+    private final Map<String, Entry> previous;
+    private final Map<String, Entry> current = new ConcurrentHashMap<>();
+    private final AtomicInteger reused = new AtomicInteger();
+    private final AtomicInteger enhanced = new AtomicInteger();
+
+    private FingerprintIndex(Path file, ObjectMapper objectMapper, Map<String, Entry> previous) {
+        this.file = file;
+        this.objectMapper = objectMapper;
+        this.previous = previous;
+    }
+
+    /**
+     * Open the index kept in a file; a missing or unreadable file gives an
+     * empty index
+     */
+    public static FingerprintIndex open(Path file, ObjectMapper objectMapper) {
+        Map<String, Entry> entries = Map.of();
+        if (Files.exists(file)) {
+            try {
+                Stored stored = objectMapper.readValue(file.toFile(), Stored.class);
+                if (stored.getFormat() == FORMAT && stored.getEntries() != null) {
+                    entries = stored.getEntries();
+                } else {
+                    log.warn("Ignoring index {} of an older format", file);
+                }
+            } catch (IOException e) {
+                log.warn("Ignoring unreadable index {}: {}", file, e.getMessage());
+            }
+        }
+        return new FingerprintIndex(file, objectMapper, entries);
+    }
+
+    public static String hash(String content) {
+        return Hashing.sha256().hashString(content, StandardCharsets.UTF_8).toString();
+    }
+
+    /**
+     * Version of the engine, rules and output mode a result was produced with
+     */
+    public static String version(OutputMode mode, RuleSet rules) {
+        return CodeTransformationUtils.RULE_SET_VERSION + "-" + rules.getFingerprint() + "-" + mode.name().toLowerCase();
+    }
+
+    /**
+     * Whether the sources are the files of the previous scan, each with the
+     * content and version it had then, so no declaration of the project can
+     * have changed either
+     *
+     * @param hashes Hash of the content of every source, by path
+     */
+    public boolean isUnchanged(Map<String, String> hashes, String version) {
+        if (hashes.size() != previous.size()) {
+            return false;
+        }
+        for (Map.Entry<String, String> source : hashes.entrySet()) {
+            Entry entry = previous.get(source.getKey());
+            if (entry == null || !entry.getHash().equals(source.getValue()) || !entry.getVersion().equals(version)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Result of the previous scan for a file outside a project, when neither
+     * its content nor the rules changed since
+     *
+     * @return The result, or null when the file must be enhanced again
+     */
+    public FileEnhancementResult get(String path, String hash, String version) {
+        return get(path, hash, version, "");
+    }
+
+    /**
+     * Result of the previous scan for a file, when neither its content, the
+     * rules, nor the declarations it refers to changed since
+     *
+     * @param dependencies Fingerprint of the project declarations the file may
+     *                     refer to, or null when they are known to be unchanged
+     * @return The result, or null when the file must be enhanced again
+     */
+    public FileEnhancementResult get(String path, String hash, String version, String dependencies) {
+        Entry entry = previous.get(path);
+        if (entry == null || !entry.getHash().equals(hash) || !entry.getVersion().equals(version)
+                || dependencies != null && !dependencies.equals(entry.getDependencies())) {
+            return null;
+        }
+        current.put(path, entry);
+        reused.incrementAndGet();
+        return FileEnhancementResult.builder()
+                .path(path)
+                .success(entry.isSuccess())
+                .error(entry.getError())
+                .enhancement(entry.getEnhancement())
+                .build();
+    }
+
+    /**
+     * Record the result of a file enhanced outside a project in this scan
+     */
+    public void put(String path, String hash, String version, FileEnhancementResult result) {
+        put(path, hash, version, "", result);
+    }
+
+    /**
+     * Record the result of a file enhanced in this scan. A partial result is
+     * not kept, so the next scan enhances the file again.
+     *
+     * @param dependencies Fingerprint of the project declarations the file may refer to
+     */
+    public void put(String path, String hash, String version, String dependencies, FileEnhancementResult result) {
+        enhanced.incrementAndGet();
+        if (result.getEnhancement() != null && result.getEnhancement().isPartial()) {
+            return;
+        }
+        current.put(path, new Entry(hash, version, dependencies, result.isSuccess(), result.getError(),
+                result.getEnhancement()));
+    }
+
+    /**
+     * Replace the index file with the files of the current scan
+     */
+    public void save() throws IOException {
+        Path directory = file.toAbsolutePath().getParent();
+        Files.createDirectories(directory);
+        // Write to a temporary file first so a crash never leaves a partial index
+        Path temp = Files.createTempFile(directory, file.getFileName().toString(), ".tmp");
+        try {
+            objectMapper.writeValue(temp.toFile(), new Stored(FORMAT, new TreeMap<>(current)));
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    /** Files answered from the index in this scan */
+    public int getReused() {
+        return reused.get();
+    }
+
+    /** Files enhanced in this scan because they were new or changed */
+    public int getEnhanced() {
+        return enhanced.get();
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    static class Entry {
+        private String hash;
+        private String version;
+        private String dependencies;
+        private boolean success;
+        private String error;
+        private EnhancementResponse enhancement;
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    static class Stored {
+        private int format;
+        private Map<String, Entry> entries;
+    }
+}
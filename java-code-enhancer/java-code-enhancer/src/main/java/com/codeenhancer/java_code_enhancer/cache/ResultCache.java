@@ -0,0 +1,253 @@
+package com.codeenhancer.java_code_enhancer.cache;
+
+import com.codeenhancer.java_code_enhancer.config.CodeEnhancerProperties;
+import com.codeenhancer.java_code_enhancer.dto.CacheStatsResponse;
+import com.codeenhancer.java_code_enhancer.dto.EnhancementResponse;
+import com.codeenhancer.java_code_enhancer.dto.OutputMode;
+import com.codeenhancer.java_code_enhancer.dto.PerformanceFinding;
+import com.codeenhancer.java_code_enhancer.dto.TextEdit;
+import com.codeenhancer.java_code_enhancer.dto.ValidationResponse;
+import com.codeenhancer.java_code_enhancer.rules.RuleSet;
+import com.codeenhancer.java_code_enhancer.util.CodeTransformationUtils;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
+import com.google.common.hash.Hashing;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.GuavaCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Content-addressed cache of enhancement and validation results.
+ * <p>
+ * Keys are the SHA-256 of the source bytes plus the rule set version, and
+ * the rule selection or the validating backend, so an unchanged file sent
+ * again by CI is answered without parsing it. The memory tier is bounded
+ * both by total weight and by entry count; the optional disk tier keeps
+ * results across restarts.
+ */
+@Slf4j
+@Component
+public class ResultCache {
+    private static final String ENHANCE = "enhance";
+    private static final String VALIDATE = "validate";
+
+    private final boolean enabled;
+    private final Cache<String, Object> memory;
+    private final DiskResultStore disk;
+
+    private final AtomicLong diskHits = new AtomicLong();
+    private final AtomicLong diskMisses = new AtomicLong();
+
+    public ResultCache(CodeEnhancerProperties properties, ObjectMapper objectMapper, MeterRegistry meterRegistry) {
+        CodeEnhancerProperties.Cache settings = properties.getCache();
+        this.enabled = settings.isEnabled();
+
+        // Guava cannot bound size and weight together, so every entry weighs at
+        // least its share of the budget, which caps the number of entries
+        long maxWeight = settings.getMaxWeight();
+        long minEntryWeight = Math.max(1, maxWeight / Math.max(1, settings.getMaxEntries()));
+        this.memory = CacheBuilder.newBuilder()
+                .maximumWeight(maxWeight)
+                .weigher((String key, Object value) -> (int) Math.min(Integer.MAX_VALUE,
+                        Math.max(minEntryWeight, weigh(value))))
+                .recordStats()
+                .build();
+        GuavaCacheMetrics.monitor(meterRegistry, memory, "code_enhancer.results");
+
+        this.disk = settings.getDisk().isEnabled() ? openDisk(settings.getDisk(), objectMapper) : null;
+    }
+
+    /**
+     * Cached enhancement of a source in the given output mode with the given
+     * rules, computing it on a miss
+     */
+    public EnhancementResponse getEnhancement(String source, OutputMode mode, RuleSet rules,
+                                              Supplier<EnhancementResponse> compute) {
+        return get(enhanceKind(mode, rules), source, EnhancementResponse.class, compute);
+    }
+
+    /**
+     * Cached enhancement of a source of a project, which also depends on the
+     * declarations of the project, computing it on a miss
+     */
+    public EnhancementResponse getEnhancement(String source, OutputMode mode, RuleSet rules, String projectFingerprint,
+                                              Supplier<EnhancementResponse> compute) {
+        return get(enhanceKind(mode, rules) + "_" + projectFingerprint, source, EnhancementResponse.class, compute);
+    }
+
+    /**
+     * Cached validation of a source by the given backend, computing it on a miss
+     *
+     * @param backend Id of the backend that validates, as backends word and position errors differently
+     */
+    public ValidationResponse getValidation(String source, String backend, Supplier<ValidationResponse> compute) {
+        return get(validateKind(backend), source, ValidationResponse.class, compute);
+    }
+
+    public EnhancementResponse peekEnhancement(String source, OutputMode mode, RuleSet rules) {
+        return peek(enhanceKind(mode, rules), source, EnhancementResponse.class);
+    }
+
+    public ValidationResponse peekValidation(String source, String backend) {
+        return peek(validateKind(backend), source, ValidationResponse.class);
+    }
+
+    public void putEnhancement(String source, OutputMode mode, RuleSet rules, EnhancementResponse response) {
+        put(enhanceKind(mode, rules), source, response);
+    }
+
+    public void putValidation(String source, String backend, ValidationResponse response) {
+        put(validateKind(backend), source, response);
+    }
+
+    public CacheStatsResponse getStats() {
+        CacheStats stats = memory.stats();
+        return CacheStatsResponse.builder()
+                .enabled(enabled)
+                .entries(memory.size())
+                .hits(stats.hitCount())
+                .misses(stats.missCount())
+                .evictions(stats.evictionCount())
+                .diskEnabled(disk != null)
+                .diskHits(diskHits.get())
+                .diskMisses(diskMisses.get())
+                .diskBytes(disk == null ? 0 : disk.getTotalBytes())
+                .build();
+    }
+
+    private <T> T get(String kind, String source, Class<T> type, Supplier<T> compute) {
+        if (!enabled || source == null) {
+            return compute.get();
+        }
+        String key = key(kind, source);
+        try {
+            // Concurrent requests for the same key wait for a single computation
+            Object value = memory.get(key, () -> loadOrCompute(key, type, compute));
+            if (!isComplete(value)) {
+                // Shared with the requests that waited for it, but not kept
+                memory.invalidate(key);
+            }
+            return type.cast(value);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    private <T> T peek(String kind, String source, Class<T> type) {
+        if (!enabled || source == null) {
+            return null;
+        }
+        String key = key(kind, source);
+        Object value = memory.getIfPresent(key);
+        if (value == null && disk != null) {
+            value = readDisk(key, type);
+            if (value != null) {
+                memory.put(key, value);
+            }
+        }
+        return type.cast(value);
+    }
+
+    private void put(String kind, String source, Object value) {
+        if (!enabled || source == null || value == null || !isComplete(value)) {
+            return;
+        }
+        String key = key(kind, source);
+        memory.put(key, value);
+        if (disk != null) {
+            disk.write(key, value);
+        }
+    }
+
+    private <T> T loadOrCompute(String key, Class<T> type, Supplier<T> compute) {
+        if (disk != null) {
+            T stored = readDisk(key, type);
+            if (stored != null) {
+                return stored;
+            }
+        }
+        T value = compute.get();
+        if (disk != null && isComplete(value)) {
+            disk.write(key, value);
+        }
+        return value;
+    }
+
+    private <T> T readDisk(String key, Class<T> type) {
+        T stored = disk.read(key, type);
+        (stored != null ? diskHits : diskMisses).incrementAndGet();
+        return stored;
+    }
+
+    private static String enhanceKind(OutputMode mode, RuleSet rules) {
+        // Results of different rule selections never share an entry
+        return ENHANCE + "_" + mode.name().toLowerCase() + "_" + rules.getFingerprint();
+    }
+
+    private static String validateKind(String backend) {
+        return VALIDATE + "_" + backend;
+    }
+
+    static String key(String kind, String source) {
+        String hash = Hashing.sha256().hashString(source, StandardCharsets.UTF_8).toString();
+        return kind + "-" + CodeTransformationUtils.RULE_SET_VERSION + "-" + hash;
+    }
+
+    /**
+     * Whether a result holds everything, unlike one cut short by its budget
+     */
+    private static boolean isComplete(Object value) {
+        return !(value instanceof EnhancementResponse) || !((EnhancementResponse) value).isPartial();
+    }
+
+    private static long weigh(Object value) {
+        if (value instanceof EnhancementResponse) {
+            EnhancementResponse response = (EnhancementResponse) value;
+            long weight = length(response.getOriginalCode()) + length(response.getEnhancedCode())
+                    + length(response.getDiff());
+            if (response.getEdits() != null) {
+                for (TextEdit edit : response.getEdits()) {
+                    weight += length(edit.getText()) + 8;
+                }
+            }
+            if (response.getWarnings() != null) {
+                for (String warning : response.getWarnings()) {
+                    weight += length(warning);
+                }
+            }
+            if (response.getFindings() != null) {
+                for (PerformanceFinding finding : response.getFindings()) {
+                    weight += length(finding.getMessage()) + 16;
+                }
+            }
+            return weight;
+        }
+        if (value instanceof ValidationResponse) {
+            return length(((ValidationResponse) value).getMessage());
+        }
+        return 1;
+    }
+
+    private static long length(String value) {
+        return value == null ? 0 : value.length();
+    }
+
+    private static DiskResultStore openDisk(CodeEnhancerProperties.Disk settings, ObjectMapper objectMapper) {
+        try {
+            return new DiskResultStore(Path.of(settings.getDirectory()), settings.getMaxBytes(), objectMapper);
+        } catch (IOException e) {
+            log.warn("Disk result cache disabled, cannot open {}: {}", settings.getDirectory(), e.getMessage());
+            return null;
+        }
+    }
+}
@@ -0,0 +1,378 @@
+package com.codeenhancer.java_code_enhancer.cli;
+
+import com.codeenhancer.java_code_enhancer.JavaCodeEnhancerApplication;
+import com.codeenhancer.java_code_enhancer.cache.FingerprintIndex;
+import com.codeenhancer.java_code_enhancer.dto.EnhancementStreamEvent;
+import com.codeenhancer.java_code_enhancer.dto.OutputMode;
+import com.codeenhancer.java_code_enhancer.dto.TextEdit;
+import com.codeenhancer.java_code_enhancer.ingest.SourceReader;
+import com.codeenhancer.java_code_enhancer.rules.RuleRegistry;
+import com.codeenhancer.java_code_enhancer.rules.RuleSet;
+import com.codeenhancer.java_code_enhancer.service.BatchEnhancementService;
+import com.codeenhancer.java_code_enhancer.util.CodeMetrics;
+import com.codeenhancer.java_code_enhancer.util.TextDiff;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.boot.Banner;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayInputStream;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Command line entry point: enhances a source tree without starting the web
+ * server, on the same services as the HTTP API.
+ * <pre>
+ * java -jar java-code-enhancer.jar enhance &lt;directory or .java file&gt;
+ *      [--check | --write | --patch=&lt;file or -&gt;] [--threads=N]
+ *      [--index[=&lt;file&gt;]] [--enable=ids] [--disable=ids] [--quiet]
+ *      [--code-enhancer.&lt;setting&gt;=value ...]
+ * </pre>
+ * --check (the default) lists the files a rewrite would change, --write
+ * rewrites them in place keeping their layout, and --patch writes one
+ * unified diff of all of them. --index keeps the results of every file in an
+ * index, by default .code-enhancer-index.json in the scanned directory, and
+ * the next run with it enhances only the files whose content or rules
+ * changed, or a declaration they refer to; the totals still cover every
+ * file. Exit codes: 0 when nothing failed (and, with
+ * --check, nothing would change), 1 when --check found changes, 2 when a
+ * file failed to parse or enhance, 64 on a usage error and 70 when the run
+ * itself failed.
+ * <p>
+ * The context is started without a web server and with lazy bean
+ * initialization, so only the beans the command uses are created. For a
+ * faster start, extract the jar and train a class data sharing archive:
+ * <pre>
+ * java -Djarmode=tools -jar java-code-enhancer.jar extract --destination app
+ * java -XX:ArchiveClassesAtExit=app.jsa -jar app/java-code-enhancer.jar enhance src --quiet
+ * java -XX:SharedArchiveFile=app.jsa -jar app/java-code-enhancer.jar enhance src
+ * </pre>
+ */
+@Component
+public class EnhanceCommand {
+    public static final String NAME = "enhance";
+
+    static final int OK = 0;
+    static final int CHANGES = 1;
+    static final int FAILURES = 2;
+    static final int USAGE = 64;
+    static final int ERROR = 70;
+
+    private static final String DEFAULT_INDEX = ".code-enhancer-index.json";
+
+    private static final String USAGE_TEXT = "Usage: enhance <directory or .java file> [--check | --write | --patch=<file or ->]"
+            + " [--threads=N] [--index[=<file>]] [--enable=ids] [--disable=ids] [--quiet]"
+            + " [--code-enhancer.<setting>=value ...]";
+
+    private final BatchEnhancementService batchEnhancementService;
+    private final RuleRegistry ruleRegistry;
+    private final SourceReader sourceReader;
+    private final ObjectMapper objectMapper;
+
+    public EnhanceCommand(BatchEnhancementService batchEnhancementService, RuleRegistry ruleRegistry,
+                          SourceReader sourceReader, ObjectMapper objectMapper) {
+        this.batchEnhancementService = batchEnhancementService;
+        this.ruleRegistry = ruleRegistry;
+        this.sourceReader = sourceReader;
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * Parse the arguments, start a context without web server and run the command
+     *
+     * @param args Arguments after the command name
+     * @return Exit code
+     */
+    public static int launch(String[] args) {
+        Options options;
+        try {
+            options = Options.parse(args);
+        } catch (IllegalArgumentException e) {
+            System.err.println(e.getMessage());
+            System.err.println(USAGE_TEXT);
+            return USAGE;
+        }
+
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(JavaCodeEnhancerApplication.class)
+                .web(WebApplicationType.NONE)
+                .bannerMode(Banner.Mode.OFF)
+                .logStartupInfo(false)
+                .lazyInitialization(true)
+                .properties("logging.level.root=WARN")
+                .run(options.settings.toArray(new String[0]))) {
+            return context.getBean(EnhanceCommand.class).run(options, System.out, System.err);
+        } catch (RuntimeException e) {
+            System.err.println("Enhancement failed: " + e.getMessage());
+            return ERROR;
+        }
+    }
+
+    /**
+     * Enhance every source under the path of the options
+     *
+     * @return Exit code
+     */
+    int run(Options options, PrintStream out, PrintStream err) {
+        RuleSet rules;
+        try {
+            rules = ruleRegistry.resolve(null, options.enable, options.disable);
+        } catch (IllegalArgumentException e) {
+            err.println(e.getMessage());
+            return USAGE;
+        }
+
+        FingerprintIndex index = options.index == null ? null : FingerprintIndex.open(options.index, objectMapper);
+        Summary summary = new Summary();
+        try (PrintStream patch = openPatch(options.patch, out)) {
+            batchEnhancementService.streamPaths(List.of(options.root), options.threads, OutputMode.EDITS, rules,
+                    sequence -> true, index, event -> {
+                        summary.files++;
+                        if (!event.isSuccess()) {
+                            summary.failed++;
+                            // A read error names no single file
+                            err.println("error " + Objects.toString(event.getPath(), options.root.toString())
+                                    + ": " + event.getError());
+                            return;
+                        }
+                        summary.metrics.add(event.getCodeMetrics());
+                        if (event.getEdits() == null || event.getEdits().isEmpty()) {
+                            return;
+                        }
+                        summary.changed++;
+                        handleChange(options, event, patch, out, err, summary);
+                    });
+        } catch (IOException e) {
+            err.println("Cannot write patch " + options.patch + ": " + e.getMessage());
+            return ERROR;
+        }
+        if (index != null) {
+            try {
+                index.save();
+            } catch (IOException e) {
+                // The results are complete; only the next run is slower
+                err.println("Cannot save index " + options.index + ": " + e.getMessage());
+            }
+        }
+
+        // A patch on stdout must stay a valid patch, so the summary goes to stderr
+        PrintStream report = "-".equals(options.patch) ? err : out;
+        CodeMetrics metrics = summary.metrics;
+        report.printf("Files: %d, changed: %d, failed: %d%n", summary.files, summary.changed, summary.failed);
+        report.printf("Lines of code: %d, cyclomatic complexity: %d, deprecated APIs: %d, modernization opportunities: %d%n",
+                metrics.getTotalLinesOfCode(), metrics.getCyclomaticComplexity(),
+                metrics.getDeprecatedApiCount(), metrics.getModernizationOpportunities());
+        if (index != null) {
+            report.printf("Reused from the index: %d, enhanced: %d%n", index.getReused(), index.getEnhanced());
+        }
+
+        if (summary.failed > 0) {
+            return FAILURES;
+        }
+        return options.mode == Mode.CHECK && summary.changed > 0 ? CHANGES : OK;
+    }
+
+    private void handleChange(Options options, EnhancementStreamEvent event, PrintStream patch,
+                              PrintStream out, PrintStream err, Summary summary) {
+        String path = event.getPath();
+        int edits = event.getEdits().size();
+        if (options.mode == Mode.CHECK) {
+            if (!options.quiet) {
+                out.println("would change " + path + " (" + edits + (edits == 1 ? " edit)" : " edits)"));
+            }
+            return;
+        }
+
+        Path file = Files.isDirectory(options.root) ? options.root.resolve(path) : options.root;
+        try {
+            byte[] bytes = Files.readAllBytes(file);
+            String original;
+            try (InputStream in = new ByteArrayInputStream(bytes)) {
+                original = sourceReader.read(in, null, bytes.length);
+            }
+            String revised = apply(original, event.getEdits());
+            if (options.mode == Mode.PATCH) {
+                patch.print(TextDiff.unified(path, original, revised, 3));
+            } else if (Arrays.equals(bytes, original.getBytes(StandardCharsets.UTF_8))) {
+                Files.write(file, revised.getBytes(StandardCharsets.UTF_8));
+                if (!options.quiet) {
+                    out.println("rewrote " + path + " (" + edits + (edits == 1 ? " edit)" : " edits)"));
+                }
+            } else {
+                // Writing it back as UTF-8 would change more than the rewrites
+                err.println("skipped " + path + ": not plain UTF-8, use --patch instead");
+            }
+        } catch (IOException e) {
+            summary.failed++;
+            err.println("error " + path + ": " + e.getMessage());
+        }
+    }
+
+    /**
+     * Apply edits, given in ascending order of offset, to the original text
+     */
+    static String apply(String original, List<TextEdit> edits) {
+        StringBuilder revised = new StringBuilder(original.length());
+        int position = 0;
+        for (TextEdit edit : edits) {
+            revised.append(original, position, edit.getOffset()).append(edit.getText());
+            position = edit.getOffset() + edit.getLength();
+        }
+        return revised.append(original, position, original.length()).toString();
+    }
+
+    private static PrintStream openPatch(String patch, PrintStream out) throws IOException {
+        if (patch == null) {
+            return null;
+        }
+        if ("-".equals(patch)) {
+            // Closing the patch must not close stdout
+            return new PrintStream(new NonClosingOutputStream(out), false, StandardCharsets.UTF_8);
+        }
+        return new PrintStream(Files.newOutputStream(Paths.get(patch)), false, StandardCharsets.UTF_8);
+    }
+
+    enum Mode {
+        CHECK, WRITE, PATCH
+    }
+
+    static final class Options {
+        private Path root;
+        private Mode mode = Mode.CHECK;
+        private boolean modeGiven;
+        private String patch;
+        private Integer threads;
+        private Path index;
+        private List<String> enable = List.of();
+        private List<String> disable = List.of();
+        private boolean indexGiven;
+        private boolean quiet;
+        /** Spring properties passed through to the context */
+        private final List<String> settings = new ArrayList<>();
+
+        /**
+         * @throws IllegalArgumentException On a usage error
+         */
+        static Options parse(String[] args) {
+            Options options = new Options();
+            for (String arg : args) {
+                String value = arg.contains("=") ? arg.substring(arg.indexOf('=') + 1) : null;
+                String name = value == null ? arg : arg.substring(0, arg.indexOf('='));
+                switch (name) {
+                    case "--check":
+                        options.setMode(Mode.CHECK);
+                        break;
+                    case "--write":
+                        options.setMode(Mode.WRITE);
+                        break;
+                    case "--patch":
+                        options.setMode(Mode.PATCH);
+                        options.patch = value == null || value.isEmpty() ? "-" : value;
+                        break;
+                    case "--threads":
+                        options.threads = positive(name, value);
+                        break;
+                    case "--index":
+                        options.index = value == null || value.isEmpty() ? null : Paths.get(value).toAbsolutePath();
+                        options.indexGiven = true;
+                        break;
+                    case "--enable":
+                        options.enable = ids(value);
+                        break;
+                    case "--disable":
+                        options.disable = ids(value);
+                        break;
+                    case "--quiet":
+                        options.quiet = true;
+                        break;
+                    default:
+                        if (name.startsWith("--code-enhancer.") || name.startsWith("--spring.")
+                                || name.startsWith("--logging.")) {
+                            options.settings.add(arg);
+                        } else if (name.startsWith("-")) {
+                            throw new IllegalArgumentException("Unknown option: " + arg);
+                        } else if (options.root != null) {
+                            throw new IllegalArgumentException("Only one path can be enhanced per run");
+                        } else {
+                            options.root = Paths.get(arg).toAbsolutePath().normalize();
+                        }
+                }
+            }
+            if (options.root == null) {
+                throw new IllegalArgumentException("No path given");
+            }
+            if (!Files.isDirectory(options.root) && !options.root.toString().endsWith(".java")) {
+                throw new IllegalArgumentException("Not a directory or .java file: " + options.root);
+            }
+            if (!Files.exists(options.root)) {
+                throw new IllegalArgumentException("No such file or directory: " + options.root);
+            }
+            if (options.indexGiven && options.index == null) {
+                Path directory = Files.isDirectory(options.root) ? options.root : options.root.getParent();
+                options.index = directory.resolve(DEFAULT_INDEX);
+            }
+            return options;
+        }
+
+        private void setMode(Mode mode) {
+            if (modeGiven && this.mode != mode) {
+                throw new IllegalArgumentException("--check, --write and --patch exclude each other");
+            }
+            this.mode = mode;
+            modeGiven = true;
+        }
+
+        private static int positive(String name, String value) {
+            try {
+                int number = Integer.parseInt(Objects.requireNonNull(value));
+                if (number > 0) {
+                    return number;
+                }
+            } catch (NumberFormatException | NullPointerException e) {
+                // Reported below
+            }
+            throw new IllegalArgumentException(name + " needs a positive number");
+        }
+
+        private static List<String> ids(String value) {
+            List<String> ids = new ArrayList<>();
+            for (String id : (value == null ? "" : value).split(",")) {
+                if (!id.isBlank()) {
+                    ids.add(id.trim());
+                }
+            }
+            return ids;
+        }
+    }
+
+    private static final class Summary {
+        private int files;
+        private int changed;
+        private int failed;
+        private final CodeMetrics metrics = new CodeMetrics();
+    }
+
+    private static final class NonClosingOutputStream extends FilterOutputStream {
+        NonClosingOutputStream(OutputStream out) {
+            super(out);
+        }
+
+        @Override
+        public void close() throws IOException {
+            flush();
+        }
+    }
+}
@@ -0,0 +1,199 @@
+package com.codeenhancer.java_code_enhancer.config;
+
+import com.github.javaparser.ParserConfiguration;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Settings under the {@code code-enhancer} prefix in application.properties
+ */
+@Data
+@ConfigurationProperties(prefix = "code-enhancer")
+public class CodeEnhancerProperties {
+    private Cache cache = new Cache();
+    private Batch batch = new Batch();
+    private Parser parser = new Parser();
+    private Symbols symbols = new Symbols();
+    private Sessions sessions = new Sessions();
+    private Rules rules = new Rules();
+    private Admission admission = new Admission();
+    private Ingest ingest = new Ingest();
+    private Jobs jobs = new Jobs();
+    private Budget budget = new Budget();
+    private Scan scan = new Scan();
+    private Bytecode bytecode = new Bytecode();
+    private Backend backend = new Backend();
+
+    @Data
+    public static class Cache {
+        private boolean enabled = true;
+        /** Maximum number of cached responses */
+        private int maxEntries = 10_000;
+        /** Maximum total size of cached responses, in characters */
+        private long maxWeight = 64L * 1024 * 1024;
+        private Disk disk = new Disk();
+    }
+
+    @Data
+    public static class Parser {
+        /** Newest level supported by the bundled JavaParser; the build targets Java 21 */
+        private ParserConfiguration.LanguageLevel languageLevel = ParserConfiguration.LanguageLevel.JAVA_17;
+        private boolean attributeComments = true;
+        /** Token ranges are needed for node positions and lexical preservation */
+        private boolean storeTokens = true;
+        private boolean lexicalPreservation = false;
+        /** Maximum number of idle parsers kept for reuse */
+        private int maxIdle = 64;
+    }
+
+    @Data
+    public static class Symbols {
+        /** Resolve types for the type-sensitive rewrites (toURL, list, newInstance) */
+        private boolean enabled = true;
+        /** Source directories whose types can be resolved, in addition to the JDK */
+        private List<String> sourceRoots = new ArrayList<>();
+        /** Jar files whose types can be resolved, in addition to the JDK */
+        private List<String> jars = new ArrayList<>();
+        /** Maximum number of type declarations kept in the shared memo cache */
+        private int maxCachedTypes = 10_000;
+        /** Index the declarations of a multi-file request, so its sources resolve each other's types */
+        private boolean projectIndex = true;
+        /** Maximum number of parsed declaration stubs kept per project index */
+        private int maxProjectStubs = 1_000;
+    }
+
+    @Data
+    public static class Sessions {
+        /** Maximum number of open editor sessions */
+        private int maxSessions = 1_000;
+        /** Sessions without edits for this long are closed */
+        private Duration idleTimeout = Duration.ofMinutes(30);
+    }
+
+    @Data
+    public static class Rules {
+        /** Ids of rules that are off unless a tenant or request turns them on */
+        private List<String> disabled = new ArrayList<>();
+        /** Rule settings per tenant, by the tenant id sent in the X-Tenant-Id header */
+        private Map<String, Tenant> tenants = new HashMap<>();
+    }
+
+    @Data
+    public static class Tenant {
+        private List<String> enabled = new ArrayList<>();
+        private List<String> disabled = new ArrayList<>();
+    }
+
+    @Data
+    public static class Admission {
+        private boolean enabled = true;
+        /** Requests larger than this go through the batch lane, whatever the endpoint */
+        private long largeRequestBytes = 1024 * 1024;
+        /** Single-source endpoints: validation, enhancement, streaming and sessions */
+        private Lane interactive = new Lane(16L * 1024 * 1024, Duration.ofMillis(200), Duration.ofSeconds(1));
+        /** Batch endpoints, and any request larger than largeRequestBytes or of unknown size */
+        private Lane batch = new Lane(512L * 1024 * 1024, Duration.ofSeconds(2), Duration.ofSeconds(30));
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Lane {
+        /** Total request bytes being processed at once */
+        private long maxBytes;
+        /** Longest time a request waits for room before it is rejected */
+        private Duration maxWait;
+        /** Value of the Retry-After header of a rejected request */
+        private Duration retryAfter;
+        /** Smallest cost of a request, which bounds the number of small requests as well */
+        private long minRequestBytes = 16 * 1024;
+
+        public Lane(long maxBytes, Duration maxWait, Duration retryAfter) {
+            this(maxBytes, maxWait, retryAfter, 16 * 1024);
+        }
+    }
+
+    @Data
+    public static class Ingest {
+        /** Maximum size of one uploaded source, or of one source in an archive, in bytes */
+        private long maxBytes = 8L * 1024 * 1024;
+        /** Maximum number of lines of one uploaded source */
+        private int maxLines = 200_000;
+        /** Charset of uploads without a byte order mark or a declared charset */
+        private Charset defaultCharset = StandardCharsets.UTF_8;
+        /** Charset used when the default does not decode an upload; decodes any bytes */
+        private Charset fallbackCharset = StandardCharsets.ISO_8859_1;
+    }
+
+    @Data
+    public static class Jobs {
+        /** Journal of the jobs: one directory per job with its inputs, state and results */
+        private String directory = "jobs";
+        /** Jobs run at once; each one enhances its files on the batch pool */
+        private int workers = 2;
+        /** Jobs waiting to run; further submissions are rejected */
+        private int maxQueued = 100;
+        /** Finished jobs and their results are removed after this long */
+        private Duration retention = Duration.ofDays(7);
+        /** Directories under which server-side paths may be submitted; none when empty */
+        private List<String> allowedRoots = new ArrayList<>();
+    }
+
+    @Data
+    public static class Budget {
+        /** Time the scan and rewrites of one source may take from the start of its parse; 0 for no limit */
+        private Duration time = Duration.ofSeconds(10);
+        /** Nodes the scans of one source may visit; 0 for no limit */
+        private long maxNodes = 5_000_000;
+    }
+
+    @Data
+    public static class Scan {
+        /** Scan large sources on a fork-join pool, split by types, methods and statements */
+        private boolean parallel = true;
+        /** Threads of the scan pool, 0 for one per available core */
+        private int parallelism = 0;
+        /** Sources with fewer lines are scanned on the request thread */
+        private int minLines = 10_000;
+        /** Declarations and blocks longer than this are split into units of about this size */
+        private int unitLines = 1_000;
+    }
+
+    @Data
+    public static class Backend {
+        /** Parser behind validation and metrics-only analysis: javaparser or jdt */
+        private String type = "javaparser";
+    }
+
+    @Data
+    public static class Bytecode {
+        /** Maximum number of classes read from the uploads of one request */
+        private int maxClasses = 100_000;
+    }
+
+    @Data
+    public static class Batch {
+        /** Worker threads of the batch pool, 0 for one per available core */
+        private int parallelism = 0;
+        /** Maximum number of source files of one batch */
+        private int maxFiles = 10_000;
+    }
+
+    @Data
+    public static class Disk {
+        private boolean enabled = false;
+        private String directory = "cache/results";
+        /** Maximum size of the on-disk tier, in bytes */
+        private long maxBytes = 512L * 1024 * 1024;
+    }
+}
@@ -0,0 +1,92 @@
+package com.codeenhancer.java_code_enhancer.config;
+
+import com.github.javaparser.ParserConfiguration;
+import com.github.javaparser.resolution.SymbolResolver;
+import com.github.javaparser.resolution.TypeSolver;
+import com.github.javaparser.resolution.declarations.ResolvedReferenceTypeDeclaration;
+import com.github.javaparser.resolution.model.SymbolReference;
+import com.github.javaparser.symbolsolver.JavaSymbolSolver;
+import com.github.javaparser.symbolsolver.cache.GuavaCache;
+import com.github.javaparser.symbolsolver.resolution.typesolvers.CombinedTypeSolver;
+import com.github.javaparser.symbolsolver.resolution.typesolvers.JarTypeSolver;
+import com.github.javaparser.symbolsolver.resolution.typesolvers.JavaParserTypeSolver;
+import com.github.javaparser.symbolsolver.resolution.typesolvers.ReflectionTypeSolver;
+import com.google.common.cache.CacheBuilder;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Application-wide symbol resolution, shared by every parser of the pool.
+ * <p>
+ * One CombinedTypeSolver resolves types from the JDK and from the configured
+ * source roots and jars. Resolved declarations are memoized in a bounded,
+ * concurrent cache, so after warm-up a lookup is a single map access. The
+ * library defaults are not safe for concurrent requests (an unsynchronized
+ * WeakHashMap, a single JavaParser per source root), which is why the caches
+ * are replaced and source lookups are serialized here.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "code-enhancer.symbols", name = "enabled", matchIfMissing = true)
+public class SymbolSolverConfig {
+
+    @Bean
+    public TypeSolver typeSolver(CodeEnhancerProperties properties) {
+        CodeEnhancerProperties.Symbols settings = properties.getSymbols();
+        int maxCachedTypes = settings.getMaxCachedTypes();
+
+        List<TypeSolver> solvers = new ArrayList<>();
+        solvers.add(new ReflectionTypeSolver(false));
+        ParserConfiguration configuration = new ParserConfiguration()
+                .setLanguageLevel(properties.getParser().getLanguageLevel());
+        for (String root : settings.getSourceRoots()) {
+            if (!root.isBlank()) {
+                solvers.add(new SerializedSourceTypeSolver(Path.of(root.trim()), configuration, maxCachedTypes));
+            }
+        }
+        for (String jar : settings.getJars()) {
+            if (!jar.isBlank()) {
+                try {
+                    solvers.add(new JarTypeSolver(Path.of(jar.trim())));
+                } catch (IOException e) {
+                    throw new UncheckedIOException("Cannot read jar for symbol resolution: " + jar, e);
+                }
+            }
+        }
+
+        return new CombinedTypeSolver(
+                e -> false,
+                solvers,
+                GuavaCache.create(CacheBuilder.newBuilder()
+                        .maximumSize(maxCachedTypes)
+                        .concurrencyLevel(Runtime.getRuntime().availableProcessors())
+                        .<String, SymbolReference<ResolvedReferenceTypeDeclaration>>build()));
+    }
+
+    @Bean
+    public SymbolResolver symbolResolver(TypeSolver typeSolver) {
+        return new JavaSymbolSolver(typeSolver);
+    }
+
+    /**
+     * Source root lookup. The solver parses files lazily with a single
+     * JavaParser, so misses are serialized; hits never get here because the
+     * combined solver answers them from its cache.
+     */
+    private static class SerializedSourceTypeSolver extends JavaParserTypeSolver {
+        SerializedSourceTypeSolver(Path root, ParserConfiguration configuration, long maxCachedTypes) {
+            super(root, configuration, maxCachedTypes);
+        }
+
+        @Override
+        public synchronized SymbolReference<ResolvedReferenceTypeDeclaration> tryToSolveType(String name) {
+            return super.tryToSolveType(name);
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package com.codeenhancer.java_code_enhancer.config;
+
+import com.codeenhancer.java_code_enhancer.controller.RuleSetArgumentResolver;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.method.support.HandlerMethodArgumentResolver;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.util.List;
+
+@Configuration
+@RequiredArgsConstructor
+public class WebConfig implements WebMvcConfigurer {
+    private final RuleSetArgumentResolver ruleSetArgumentResolver;
+
+    @Override
+    public void addArgumentResolvers(List<HandlerMethodArgumentResolver> resolvers) {
+        resolvers.add(ruleSetArgumentResolver);
+    }
+}
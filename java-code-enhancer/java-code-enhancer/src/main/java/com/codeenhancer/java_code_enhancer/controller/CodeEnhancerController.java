@@ -1,15 +1,43 @@
 package com.codeenhancer.java_code_enhancer.controller;
 
+import com.codeenhancer.java_code_enhancer.cache.ResultCache;
+import com.codeenhancer.java_code_enhancer.dto.BatchAnalysisResponse;
+import com.codeenhancer.java_code_enhancer.dto.BatchEnhancementResponse;
+import com.codeenhancer.java_code_enhancer.dto.BytecodeReport;
+import com.codeenhancer.java_code_enhancer.dto.CacheStatsResponse;
 import com.codeenhancer.java_code_enhancer.dto.EnhancementResponse;
+import com.codeenhancer.java_code_enhancer.dto.JobState;
+import com.codeenhancer.java_code_enhancer.dto.JobStatus;
+import com.codeenhancer.java_code_enhancer.dto.OutputMode;
+import com.codeenhancer.java_code_enhancer.dto.RuleInfo;
+import com.codeenhancer.java_code_enhancer.dto.SessionUpdateResponse;
+import com.codeenhancer.java_code_enhancer.dto.TextEdit;
+import com.codeenhancer.java_code_enhancer.dto.ValidatedEnhancementResponse;
 import com.codeenhancer.java_code_enhancer.dto.ValidationResponse;
+import com.codeenhancer.java_code_enhancer.rules.RuleRegistry;
+import com.codeenhancer.java_code_enhancer.rules.RuleSet;
+import com.codeenhancer.java_code_enhancer.service.BatchEnhancementService;
+import com.codeenhancer.java_code_enhancer.service.BytecodeAnalysisService;
 import com.codeenhancer.java_code_enhancer.service.CodeEnhancementService;
 import com.codeenhancer.java_code_enhancer.service.CodeValidationService;
+import com.codeenhancer.java_code_enhancer.service.EditorSessionService;
+import com.codeenhancer.java_code_enhancer.service.JobService;
 
+import java.net.URI;
+import java.util.List;
 import java.util.Map;
+import java.util.stream.Collectors;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
 @RestController
 @RequestMapping("/api/code-enhancer")
@@ -17,6 +45,13 @@ import org.springframework.web.multipart.MultipartFile;
 public class CodeEnhancerController {
     private final CodeValidationService codeValidationService;
     private final CodeEnhancementService codeEnhancementService;
+    private final BatchEnhancementService batchEnhancementService;
+    private final ResultCache resultCache;
+    private final EnhancementStreams enhancementStreams;
+    private final EditorSessionService editorSessionService;
+    private final RuleRegistry ruleRegistry;
+    private final JobService jobService;
+    private final BytecodeAnalysisService bytecodeAnalysisService;
 
     @PostMapping("/validate/text")
     public ValidationResponse validateText(@RequestBody Map<String, String> payload) {
@@ -31,13 +66,206 @@ public class CodeEnhancerController {
     }
 
     @PostMapping("/enhance/text")
-    public EnhancementResponse enhanceText(@RequestBody Map<String, String> payload) {
+    public EnhancementResponse enhanceText(@RequestBody Map<String, String> payload,
+                                           @RequestParam(value = "output", defaultValue = "full") OutputMode output,
+                                           @RequestParam(value = "explain", defaultValue = "false") boolean explain,
+                                           RuleSet rules) {
         String code = payload.get("code");
-        return codeEnhancementService.enhanceTextCode(code);
+        return codeEnhancementService.enhanceTextCode(code, output, explain, rules);
     }
 
     @PostMapping("/enhance/file")
-    public EnhancementResponse enhanceFile(@RequestParam("file") MultipartFile file) {
-        return codeEnhancementService.enhanceFileCode(file);
+    public EnhancementResponse enhanceFile(@RequestParam("file") MultipartFile file,
+                                           @RequestParam(value = "output", defaultValue = "full") OutputMode output,
+                                           @RequestParam(value = "explain", defaultValue = "false") boolean explain,
+                                           RuleSet rules) {
+        return codeEnhancementService.enhanceFileCode(file, output, explain, rules);
+    }
+
+    @PostMapping("/validate-enhance/text")
+    public ValidatedEnhancementResponse validateAndEnhanceText(@RequestBody Map<String, String> payload,
+                                                               @RequestParam(value = "output", defaultValue = "full") OutputMode output,
+                                                               RuleSet rules) {
+        String code = payload.get("code");
+        return codeEnhancementService.validateAndEnhanceText(code, output, rules);
+    }
+
+    @PostMapping("/validate-enhance/file")
+    public ValidatedEnhancementResponse validateAndEnhanceFile(@RequestParam("file") MultipartFile file,
+                                                               @RequestParam(value = "output", defaultValue = "full") OutputMode output,
+                                                               RuleSet rules) {
+        return codeEnhancementService.validateAndEnhanceFile(file, output, rules);
+    }
+
+    /**
+     * Enhance many sources in one request: any mix of .java files and .zip archives
+     */
+    @PostMapping("/enhance/batch")
+    public BatchEnhancementResponse enhanceBatch(@RequestParam("files") List<MultipartFile> files,
+                                                 @RequestParam(value = "concurrency", required = false) Integer concurrency,
+                                                 @RequestParam(value = "output", defaultValue = "full") OutputMode output,
+                                                 RuleSet rules) {
+        return batchEnhancementService.enhanceBatch(files, concurrency, output, rules);
+    }
+
+    @PostMapping(value = "/enhance/batch/stream", produces = EnhancementStreams.NDJSON)
+    public ResponseEntity<StreamingResponseBody> streamBatch(@RequestParam("files") List<MultipartFile> files,
+                                                             @RequestParam(value = "concurrency", required = false) Integer concurrency,
+                                                             @RequestParam(value = "output", defaultValue = "full") OutputMode output,
+                                                             RuleSet rules) {
+        return enhancementStreams.ndjson(sink -> batchEnhancementService.streamBatch(files, concurrency, output, rules, sink));
+    }
+
+    @PostMapping(value = "/enhance/batch/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamBatchEvents(@RequestParam("files") List<MultipartFile> files,
+                                        @RequestParam(value = "concurrency", required = false) Integer concurrency,
+                                        @RequestParam(value = "output", defaultValue = "full") OutputMode output,
+                                        RuleSet rules) {
+        return enhancementStreams.sse(sink -> batchEnhancementService.streamBatch(files, concurrency, output, rules, sink));
+    }
+
+    @PostMapping(value = "/enhance/text/stream", produces = EnhancementStreams.NDJSON)
+    public ResponseEntity<StreamingResponseBody> streamText(@RequestBody Map<String, String> payload, RuleSet rules) {
+        String code = payload.get("code");
+        return enhancementStreams.ndjson(sink -> codeEnhancementService.streamText(code, rules, sink));
+    }
+
+    @PostMapping(value = "/enhance/text/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamTextEvents(@RequestBody Map<String, String> payload, RuleSet rules) {
+        String code = payload.get("code");
+        return enhancementStreams.sse(sink -> codeEnhancementService.streamText(code, rules, sink));
+    }
+
+    /**
+     * Validate many sources and compute their metrics without enhancing them,
+     * resolving types across the sources where the backend can
+     */
+    @PostMapping("/analyze/batch")
+    public BatchAnalysisResponse analyzeBatch(@RequestParam("files") List<MultipartFile> files, RuleSet rules) {
+        return codeValidationService.analyzeBatch(files, rules);
+    }
+
+    /**
+     * Metrics and deprecated API use of compiled code: any mix of .class files,
+     * and .jar and .zip archives, read without decompiling
+     */
+    @PostMapping("/analyze/bytecode")
+    public List<BytecodeReport> analyzeBytecode(@RequestParam("files") List<MultipartFile> files,
+                                                @RequestParam(value = "classes", defaultValue = "true") boolean classes) {
+        return bytecodeAnalysisService.analyze(files, classes);
+    }
+
+    /**
+     * Open an editor session; later edits are re-analyzed incrementally with
+     * the rules resolved when it is opened
+     */
+    @PostMapping("/sessions")
+    public SessionUpdateResponse openSession(@RequestBody Map<String, String> payload, RuleSet rules) {
+        String code = payload.get("code");
+        return editorSessionService.open(code, rules);
+    }
+
+    @PostMapping("/sessions/{sessionId}/edits")
+    public SessionUpdateResponse editSession(@PathVariable String sessionId, @RequestBody TextEdit edit) {
+        return editorSessionService.edit(sessionId, edit);
+    }
+
+    @DeleteMapping("/sessions/{sessionId}")
+    public ResponseEntity<Void> closeSession(@PathVariable String sessionId) {
+        return editorSessionService.close(sessionId)
+                ? ResponseEntity.noContent().build()
+                : ResponseEntity.notFound().build();
+    }
+
+    /**
+     * Run an enhancement in the background; poll the returned job for progress.
+     * A job already completed for the same input is returned with 200 instead of 202.
+     */
+    @PostMapping("/jobs/text")
+    public ResponseEntity<JobStatus> submitTextJob(@RequestBody Map<String, String> payload,
+                                                   @RequestParam(value = "output", defaultValue = "full") OutputMode output,
+                                                   RuleSet rules) {
+        return submitted(jobService.submitText(payload.get("code"), payload.get("name"), output, rules));
+    }
+
+    @PostMapping("/jobs/files")
+    public ResponseEntity<JobStatus> submitFilesJob(@RequestParam("files") List<MultipartFile> files,
+                                                    @RequestParam(value = "concurrency", required = false) Integer concurrency,
+                                                    @RequestParam(value = "output", defaultValue = "full") OutputMode output,
+                                                    RuleSet rules) {
+        return submitted(jobService.submitFiles(files, concurrency, output, rules));
+    }
+
+    /**
+     * Enhance a file, archive or directory on the server, under one of the allowed roots
+     */
+    @PostMapping("/jobs/path")
+    public ResponseEntity<JobStatus> submitPathJob(@RequestBody Map<String, String> payload,
+                                                   @RequestParam(value = "concurrency", required = false) Integer concurrency,
+                                                   @RequestParam(value = "output", defaultValue = "full") OutputMode output,
+                                                   RuleSet rules) {
+        return submitted(jobService.submitPath(payload.get("path"), concurrency, output, rules));
+    }
+
+    @GetMapping("/jobs")
+    public List<JobStatus> jobs() {
+        return jobService.list();
+    }
+
+    @GetMapping("/jobs/{jobId}")
+    public JobStatus job(@PathVariable String jobId) {
+        return jobService.get(jobId);
+    }
+
+    @PostMapping("/jobs/{jobId}/cancel")
+    public JobStatus cancelJob(@PathVariable String jobId) {
+        return jobService.cancel(jobId);
+    }
+
+    @DeleteMapping("/jobs/{jobId}")
+    public ResponseEntity<Void> deleteJob(@PathVariable String jobId) {
+        jobService.delete(jobId);
+        return ResponseEntity.noContent().build();
+    }
+
+    /**
+     * Results of a finished job as NDJSON, in the format of /enhance/batch/stream;
+     * can be downloaded any number of times until the job is deleted or expires
+     */
+    @GetMapping(value = "/jobs/{jobId}/results", produces = EnhancementStreams.NDJSON)
+    public ResponseEntity<Resource> jobResults(@PathVariable String jobId) {
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(EnhancementStreams.NDJSON))
+                .body(new FileSystemResource(jobService.results(jobId)));
+    }
+
+    private static ResponseEntity<JobStatus> submitted(JobStatus status) {
+        URI location = ServletUriComponentsBuilder.fromCurrentContextPath()
+                .path("/api/code-enhancer/jobs/{jobId}")
+                .buildAndExpand(status.getJobId())
+                .toUri();
+        return (status.getState() == JobState.COMPLETED ? ResponseEntity.ok() : ResponseEntity.accepted())
+                .location(location)
+                .body(status);
+    }
+
+    /**
+     * Every known rule and whether it runs for the tenant and parameters of this request
+     */
+    @GetMapping("/rules")
+    public List<RuleInfo> rules(RuleSet rules) {
+        return ruleRegistry.getRules().stream()
+                .map(rule -> RuleInfo.builder()
+                        .id(rule.id())
+                        .version(rule.version())
+                        .rewrites(rule.rewrites())
+                        .enabled(rules.indexOf(rule) >= 0)
+                        .build())
+                .collect(Collectors.toList());
+    }
+
+    @GetMapping("/cache/stats")
+    public CacheStatsResponse cacheStats() {
+        return resultCache.getStats();
     }
 }
\ No newline at end of file
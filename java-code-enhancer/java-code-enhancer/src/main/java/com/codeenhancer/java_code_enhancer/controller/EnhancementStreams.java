@@ -0,0 +1,75 @@
+package com.codeenhancer.java_code_enhancer.controller;
+
+import com.codeenhancer.java_code_enhancer.dto.EnhancementStreamEvent;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.function.Consumer;
+
+/**
+ * Writes streamed enhancement events as NDJSON or Server-Sent Events.
+ * <p>
+ * Every event is written and flushed before the producer continues, so a
+ * slow client slows the producer down instead of making the server buffer
+ * the whole result.
+ */
+@Component
+@RequiredArgsConstructor
+public class EnhancementStreams {
+    public static final String NDJSON = "application/x-ndjson";
+
+    private final ObjectMapper objectMapper;
+    private final AsyncTaskExecutor taskExecutor;
+
+    /**
+     * @param producer Produces the events into the sink it is given
+     * @return Response writing one JSON object per line
+     */
+    public ResponseEntity<StreamingResponseBody> ndjson(Consumer<Consumer<EnhancementStreamEvent>> producer) {
+        StreamingResponseBody body = out -> producer.accept(event -> {
+            try {
+                out.write(objectMapper.writeValueAsBytes(event));
+                out.write('\n');
+                out.flush();
+            } catch (IOException e) {
+                // The client went away; stop producing
+                throw new UncheckedIOException(e);
+            }
+        });
+        return ResponseEntity.ok().contentType(MediaType.parseMediaType(NDJSON)).body(body);
+    }
+
+    /**
+     * @param producer Produces the events into the sink it is given
+     * @return Emitter sending one named event per result
+     */
+    public SseEmitter sse(Consumer<Consumer<EnhancementStreamEvent>> producer) {
+        SseEmitter emitter = new SseEmitter(0L);
+        taskExecutor.execute(() -> {
+            try {
+                producer.accept(event -> {
+                    try {
+                        emitter.send(SseEmitter.event()
+                                .id(String.valueOf(event.getSequence()))
+                                .name(event.getType())
+                                .data(event, MediaType.APPLICATION_JSON));
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+                emitter.complete();
+            } catch (Exception e) {
+                emitter.completeWithError(e);
+            }
+        });
+        return emitter;
+    }
+}
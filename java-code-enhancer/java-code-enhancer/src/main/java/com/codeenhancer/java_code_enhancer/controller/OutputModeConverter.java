@@ -0,0 +1,19 @@
+package com.codeenhancer.java_code_enhancer.controller;
+
+import com.codeenhancer.java_code_enhancer.dto.OutputMode;
+import org.springframework.core.convert.converter.Converter;
+import org.springframework.stereotype.Component;
+
+import java.util.Locale;
+
+/**
+ * Accept {@code ?output=diff} as well as {@code ?output=DIFF}
+ */
+@Component
+public class OutputModeConverter implements Converter<String, OutputMode> {
+
+    @Override
+    public OutputMode convert(String value) {
+        return OutputMode.valueOf(value.trim().toUpperCase(Locale.ROOT));
+    }
+}
@@ -0,0 +1,62 @@
+package com.codeenhancer.java_code_enhancer.controller;
+
+import com.codeenhancer.java_code_enhancer.rules.RuleRegistry;
+import com.codeenhancer.java_code_enhancer.rules.RuleSet;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.bind.support.WebDataBinderFactory;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.method.support.HandlerMethodArgumentResolver;
+import org.springframework.web.method.support.ModelAndViewContainer;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Resolves a {@link RuleSet} handler parameter from the {@code X-Tenant-Id}
+ * header and the {@code enable} and {@code disable} request parameters, each
+ * a comma-separated list of rule ids
+ */
+@Component
+@RequiredArgsConstructor
+public class RuleSetArgumentResolver implements HandlerMethodArgumentResolver {
+    public static final String TENANT_HEADER = "X-Tenant-Id";
+
+    private final RuleRegistry ruleRegistry;
+
+    @Override
+    public boolean supportsParameter(MethodParameter parameter) {
+        return parameter.getParameterType() == RuleSet.class;
+    }
+
+    @Override
+    public RuleSet resolveArgument(MethodParameter parameter, ModelAndViewContainer mavContainer,
+                                   NativeWebRequest request, WebDataBinderFactory binderFactory) {
+        String tenant = request.getHeader(TENANT_HEADER);
+        List<String> enable = ids(request.getParameterValues("enable"));
+        List<String> disable = ids(request.getParameterValues("disable"));
+        if (tenant == null && enable.isEmpty() && disable.isEmpty()) {
+            return ruleRegistry.getDefaults();
+        }
+        try {
+            return ruleRegistry.resolve(tenant, enable, disable);
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage());
+        }
+    }
+
+    private static List<String> ids(String[] values) {
+        if (values == null) {
+            return List.of();
+        }
+        return Arrays.stream(values)
+                .flatMap(value -> Arrays.stream(value.split(",")))
+                .map(String::trim)
+                .filter(id -> !id.isEmpty())
+                .collect(Collectors.toList());
+    }
+}
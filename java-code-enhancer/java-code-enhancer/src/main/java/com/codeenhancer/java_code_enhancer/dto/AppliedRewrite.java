@@ -0,0 +1,22 @@
+package com.codeenhancer.java_code_enhancer.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * A rewrite applied to the source, at the position in the original of the
+ * code it replaced. Code created by an earlier rewrite has the position of
+ * the original code around it.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AppliedRewrite {
+    /** Id of the rule that applied it */
+    private String rule;
+    private int line;
+    private int column;
+}
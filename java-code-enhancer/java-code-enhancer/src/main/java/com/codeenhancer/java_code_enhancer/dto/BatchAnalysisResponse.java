@@ -0,0 +1,24 @@
+package com.codeenhancer.java_code_enhancer.dto;
+
+import com.codeenhancer.java_code_enhancer.util.CodeMetrics;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.Map;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BatchAnalysisResponse {
+    private String backend;
+    private int totalFiles;
+    private int valid;
+    private int invalid;
+    private CodeMetrics totalMetrics;
+    private Map<String, Integer> deprecatedApis;
+    private List<SourceAnalysisResult> files;
+}
@@ -0,0 +1,21 @@
+package com.codeenhancer.java_code_enhancer.dto;
+
+import com.codeenhancer.java_code_enhancer.util.CodeMetrics;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BatchEnhancementResponse {
+    private int totalFiles;
+    private int succeeded;
+    private int failed;
+    private CodeMetrics totalMetrics;
+    private List<FileEnhancementResult> files;
+}
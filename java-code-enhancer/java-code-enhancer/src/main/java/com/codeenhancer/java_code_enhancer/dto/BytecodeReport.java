@@ -0,0 +1,31 @@
+package com.codeenhancer.java_code_enhancer.dto;
+
+import com.codeenhancer.java_code_enhancer.util.CodeMetrics;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Totals of the classes of one uploaded .class file, jar or zip archive;
+ * the per-class reports are left out on request
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class BytecodeReport {
+    private String name;
+    private boolean success;
+    private String error;
+    private int totalClasses;
+    private int failed;
+    private CodeMetrics totalMetrics;
+    private Map<String, Integer> deprecatedApis;
+    private List<ClassBytecodeReport> classes;
+}
@@ -0,0 +1,22 @@
+package com.codeenhancer.java_code_enhancer.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CacheStatsResponse {
+    private boolean enabled;
+    private long entries;
+    private long hits;
+    private long misses;
+    private long evictions;
+    private boolean diskEnabled;
+    private long diskHits;
+    private long diskMisses;
+    private long diskBytes;
+}
@@ -0,0 +1,28 @@
+package com.codeenhancer.java_code_enhancer.dto;
+
+import com.codeenhancer.java_code_enhancer.util.CodeMetrics;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+
+/**
+ * Metrics of one compiled class, and the deprecated APIs it uses by
+ * qualified name
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class ClassBytecodeReport {
+    private String path;
+    private String className;
+    private boolean success;
+    private String error;
+    private CodeMetrics codeMetrics;
+    private Map<String, Integer> deprecatedApis;
+}
@@ -1,14 +1,46 @@
 package com.codeenhancer.java_code_enhancer.dto;
 
 import com.codeenhancer.java_code_enhancer.util.CodeMetrics;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.Map;
 
 @Data
 @Builder
+@NoArgsConstructor
+@AllArgsConstructor
 public class EnhancementResponse {
     private String originalCode;
     private String enhancedCode;
     private CodeMetrics codeMetrics;
     private String[] warnings;
+
+    /** Performance anti-patterns with their rule, severity and position */
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private List<PerformanceFinding> findings;
+
+    /** Rewrites applied to the original, with their rule and position */
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private List<AppliedRewrite> appliedRewrites;
+
+    /** Whether the time or node budget ran out and only part of the analysis and rewrites is included */
+    @JsonInclude(JsonInclude.Include.NON_DEFAULT)
+    private boolean partial;
+
+    /** Unified diff against the original, in DIFF output mode */
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private String diff;
+
+    /** Edits of the original, in EDITS output mode */
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private List<TextEdit> edits;
+
+    /** Milliseconds spent in each pipeline stage and rewrite rule, when explain is requested */
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Map<String, Double> timings;
 }
\ No newline at end of file
@@ -0,0 +1,44 @@
+package com.codeenhancer.java_code_enhancer.dto;
+
+import com.codeenhancer.java_code_enhancer.util.CodeMetrics;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * One record of a streamed enhancement: the result of a file ("file"), of a
+ * top-level type or the package/import header ("unit"), or the final totals
+ * ("summary"). The original code is never echoed back.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class EnhancementStreamEvent {
+    public static final String FILE = "file";
+    public static final String UNIT = "unit";
+    public static final String SUMMARY = "summary";
+
+    private String type;
+    private int sequence;
+    private String path;
+    private String name;
+    private boolean success;
+    private String error;
+    private String enhancedCode;
+    private String diff;
+    private List<TextEdit> edits;
+    private CodeMetrics codeMetrics;
+    private String[] warnings;
+    private List<PerformanceFinding> findings;
+    private List<AppliedRewrite> appliedRewrites;
+    @JsonInclude(JsonInclude.Include.NON_DEFAULT)
+    private boolean partial;
+    private Integer totalFiles;
+    private Integer failed;
+}
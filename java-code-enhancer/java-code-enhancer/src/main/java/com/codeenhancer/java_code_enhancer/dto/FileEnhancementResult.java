@@ -0,0 +1,17 @@
+package com.codeenhancer.java_code_enhancer.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class FileEnhancementResult {
+    private String path;
+    private boolean success;
+    private String error;
+    private EnhancementResponse enhancement;
+}
@@ -0,0 +1,19 @@
+package com.codeenhancer.java_code_enhancer.dto;
+
+/**
+ * Lifecycle of an asynchronous job
+ */
+public enum JobState {
+    /** Waiting for a worker, also after a restart interrupted it */
+    QUEUED,
+    RUNNING,
+    /** Every source was processed; single files may still have failed */
+    COMPLETED,
+    /** The job stopped on an error before processing every source */
+    FAILED,
+    CANCELLED;
+
+    public boolean isFinished() {
+        return this == COMPLETED || this == FAILED || this == CANCELLED;
+    }
+}
@@ -0,0 +1,35 @@
+package com.codeenhancer.java_code_enhancer.dto;
+
+import com.codeenhancer.java_code_enhancer.util.CodeMetrics;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+/**
+ * Progress of an asynchronous job. totalFiles is known once every source has
+ * been read; processed counts the files whose results are in the journal.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class JobStatus {
+    private String jobId;
+    private JobState state;
+    private String source;
+    private OutputMode output;
+    private Integer totalFiles;
+    private int processed;
+    private int succeeded;
+    private int failed;
+    private CodeMetrics totalMetrics;
+    private String error;
+    private Instant createdAt;
+    private Instant startedAt;
+    private Instant finishedAt;
+}
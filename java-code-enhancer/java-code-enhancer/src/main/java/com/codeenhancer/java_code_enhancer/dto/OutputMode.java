@@ -0,0 +1,13 @@
+package com.codeenhancer.java_code_enhancer.dto;
+
+/**
+ * How an enhancement returns the transformed code
+ */
+public enum OutputMode {
+    /** The original and the pretty-printed enhanced source */
+    FULL,
+    /** A unified diff against the original, with the original layout kept */
+    DIFF,
+    /** Offset-based edits of the original, with the original layout kept */
+    EDITS
+}
@@ -0,0 +1,23 @@
+package com.codeenhancer.java_code_enhancer.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * A performance anti-pattern found in the source, at the position where it
+ * starts. Positions are 1-based, as in compiler messages.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PerformanceFinding {
+    /** Id of the rule that reported it */
+    private String rule;
+    private Severity severity;
+    private int line;
+    private int column;
+    private String message;
+}
@@ -0,0 +1,15 @@
+package com.codeenhancer.java_code_enhancer.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class RewriteSuggestion {
+    private String kind;
+    private int line;
+}
@@ -0,0 +1,19 @@
+package com.codeenhancer.java_code_enhancer.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class RuleInfo {
+    private String id;
+    private int version;
+    /** Whether the rule rewrites code, or only contributes metrics and warnings */
+    private boolean rewrites;
+    /** Whether the rule runs for the tenant and parameters of the request */
+    private boolean enabled;
+}
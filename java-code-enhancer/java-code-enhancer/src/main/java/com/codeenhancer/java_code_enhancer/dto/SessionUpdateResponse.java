@@ -0,0 +1,35 @@
+package com.codeenhancer.java_code_enhancer.dto;
+
+import com.codeenhancer.java_code_enhancer.util.CodeMetrics;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Analysis changes after opening or editing a session. Lines startLine to
+ * endLine of the new source were re-analyzed and rewrites holds every rewrite
+ * in them; lines after the range moved by lineDelta. A partial update ran
+ * out of the analysis budget and covers only part of the document.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SessionUpdateResponse {
+    private String sessionId;
+    private long version;
+    private boolean valid;
+    private boolean partial;
+    private String message;
+    private boolean wholeDocument;
+    private int startLine;
+    private int endLine;
+    private int lineDelta;
+    private CodeMetrics codeMetrics;
+    private List<String> addedWarnings;
+    private List<String> removedWarnings;
+    private List<RewriteSuggestion> rewrites;
+}
@@ -0,0 +1,13 @@
+package com.codeenhancer.java_code_enhancer.dto;
+
+/**
+ * How much a performance finding is likely to cost at run time
+ */
+public enum Severity {
+    /** Measurable only in hot code */
+    LOW,
+    /** Extra allocation or work on every pass */
+    MEDIUM,
+    /** Cost that grows faster than the input, or a needless expensive operation */
+    HIGH
+}
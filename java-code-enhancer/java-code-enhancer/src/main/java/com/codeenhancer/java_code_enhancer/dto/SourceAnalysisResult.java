@@ -0,0 +1,27 @@
+package com.codeenhancer.java_code_enhancer.dto;
+
+import com.codeenhancer.java_code_enhancer.util.CodeMetrics;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+
+/**
+ * Validity and metrics of one source of a multi-file analysis, with the
+ * deprecated APIs it uses by qualified name, as far as their types resolve
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class SourceAnalysisResult {
+    private String path;
+    private boolean valid;
+    private String error;
+    private CodeMetrics codeMetrics;
+    private Map<String, Integer> deprecatedApis;
+}
@@ -0,0 +1,23 @@
+package com.codeenhancer.java_code_enhancer.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Replace {@code length} characters at {@code offset} with {@code text}.
+ * When {@code version} is set, it must match the current version of the session.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TextEdit {
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Long version;
+    private int offset;
+    private int length;
+    private String text;
+}
@@ -0,0 +1,15 @@
+package com.codeenhancer.java_code_enhancer.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ValidatedEnhancementResponse {
+    private ValidationResponse validation;
+    private EnhancementResponse enhancement;
+}
@@ -1,10 +1,14 @@
 package com.codeenhancer.java_code_enhancer.dto;
 
+import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
+import lombok.NoArgsConstructor;
 
 @Data
 @Builder
+@NoArgsConstructor
+@AllArgsConstructor
 public class ValidationResponse {
     private boolean valid;
     private String message;
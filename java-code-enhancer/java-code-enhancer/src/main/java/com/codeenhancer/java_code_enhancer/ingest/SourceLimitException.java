@@ -0,0 +1,21 @@
+package com.codeenhancer.java_code_enhancer.ingest;
+
+import java.io.IOException;
+
+/**
+ * An uploaded source is larger than the configured ingestion limits
+ */
+public class SourceLimitException extends IOException {
+
+    public SourceLimitException(String message) {
+        super(message);
+    }
+
+    static SourceLimitException bytes(long maxBytes) {
+        return new SourceLimitException("Source exceeds the limit of " + maxBytes + " bytes");
+    }
+
+    static SourceLimitException lines(int maxLines) {
+        return new SourceLimitException("Source exceeds the limit of " + maxLines + " lines");
+    }
+}
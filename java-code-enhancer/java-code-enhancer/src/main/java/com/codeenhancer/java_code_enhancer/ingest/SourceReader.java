@@ -0,0 +1,156 @@
+package com.codeenhancer.java_code_enhancer.ingest;
+
+import com.codeenhancer.java_code_enhancer.config.CodeEnhancerProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.util.MimeType;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.CharacterCodingException;
+import java.nio.charset.Charset;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * Decodes uploaded sources. The upload is read once into a buffer of its
+ * exact size, checking the byte limit as it goes, so an oversized upload is
+ * rejected after reading just past the limit; the line limit is checked on
+ * the decoded text before it reaches the parser.
+ * <p>
+ * The charset is taken from a byte order mark, then from the charset of the
+ * part's content type, then from the configured default. When a guessed
+ * default does not decode the upload, the fallback charset, which accepts
+ * any bytes, is used instead.
+ */
+@Component
+public class SourceReader {
+    private static final int BUFFER_SIZE = 8 * 1024;
+
+    private final long maxBytes;
+    private final int maxLines;
+    private final Charset defaultCharset;
+    private final Charset fallbackCharset;
+
+    public SourceReader(CodeEnhancerProperties properties) {
+        CodeEnhancerProperties.Ingest settings = properties.getIngest();
+        this.maxBytes = settings.getMaxBytes();
+        this.maxLines = settings.getMaxLines();
+        this.defaultCharset = settings.getDefaultCharset();
+        this.fallbackCharset = settings.getFallbackCharset();
+    }
+
+    /**
+     * Read the text of an uploaded file
+     *
+     * @throws SourceLimitException When the file exceeds the byte or line limit
+     */
+    public String read(MultipartFile file) throws IOException {
+        if (file.getSize() > maxBytes) {
+            throw SourceLimitException.bytes(maxBytes);
+        }
+        try (InputStream in = file.getInputStream()) {
+            return read(in, declaredCharset(file.getContentType()), file.getSize());
+        }
+    }
+
+    /**
+     * Read a source to its end, leaving the stream open
+     *
+     * @param declared Charset named by the sender, or null
+     * @param sizeHint Size of the source in bytes, or -1 when unknown
+     * @throws SourceLimitException When the source exceeds the byte or line limit
+     */
+    public String read(InputStream in, Charset declared, long sizeHint) throws IOException {
+        int capacity = sizeHint >= 0 && sizeHint <= maxBytes ? (int) sizeHint : BUFFER_SIZE;
+        byte[] bytes = new byte[capacity];
+        int length = 0;
+        while (true) {
+            length += in.readNBytes(bytes, length, bytes.length - length);
+            if (length < bytes.length) {
+                break;
+            }
+            // Full: the size was unknown or wrong, so look for more before growing
+            int next = in.read();
+            if (next == -1) {
+                break;
+            }
+            if (length + 1L > maxBytes) {
+                throw SourceLimitException.bytes(maxBytes);
+            }
+            bytes = Arrays.copyOf(bytes, (int) Math.min(Math.max(2L * bytes.length, BUFFER_SIZE), maxBytes));
+            bytes[length++] = (byte) next;
+        }
+
+        int offset = 0;
+        Charset charset = byteOrderMark(bytes, length);
+        if (charset != null) {
+            offset = charset.equals(StandardCharsets.UTF_8) ? 3 : 2;
+        } else {
+            charset = declared != null ? declared : defaultCharset;
+        }
+        String text = new String(bytes, offset, length - offset, charset);
+        if (declared == null && !charset.equals(fallbackCharset) && offset == 0
+                && text.indexOf('\uFFFD') >= 0 && !decodes(charset, bytes, length)) {
+            // The default was a guess, and a wrong one
+            text = new String(bytes, 0, length, fallbackCharset);
+        }
+        checkLines(text);
+        return text;
+    }
+
+    private void checkLines(String text) throws SourceLimitException {
+        int lines = 1;
+        for (int i = text.indexOf('\n'); i >= 0; i = text.indexOf('\n', i + 1)) {
+            if (++lines > maxLines) {
+                throw SourceLimitException.lines(maxLines);
+            }
+        }
+    }
+
+    /**
+     * Whether the bytes are valid in the charset, rather than holding a
+     * replacement character of their own
+     */
+    private static boolean decodes(Charset charset, byte[] bytes, int length) {
+        try {
+            charset.newDecoder()
+                    .onMalformedInput(CodingErrorAction.REPORT)
+                    .onUnmappableCharacter(CodingErrorAction.REPORT)
+                    .decode(ByteBuffer.wrap(bytes, 0, length));
+            return true;
+        } catch (CharacterCodingException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Charset named by the byte order mark at the start of the bytes, or null
+     */
+    private static Charset byteOrderMark(byte[] bytes, int length) {
+        if (length >= 2 && (bytes[0] & 0xFF) == 0xFE && (bytes[1] & 0xFF) == 0xFF) {
+            return StandardCharsets.UTF_16BE;
+        }
+        if (length >= 2 && (bytes[0] & 0xFF) == 0xFF && (bytes[1] & 0xFF) == 0xFE) {
+            return StandardCharsets.UTF_16LE;
+        }
+        if (length >= 3 && (bytes[0] & 0xFF) == 0xEF && (bytes[1] & 0xFF) == 0xBB && (bytes[2] & 0xFF) == 0xBF) {
+            return StandardCharsets.UTF_8;
+        }
+        return null;
+    }
+
+    private static Charset declaredCharset(String contentType) {
+        if (contentType == null) {
+            return null;
+        }
+        try {
+            return MimeType.valueOf(contentType).getCharset();
+        } catch (IllegalArgumentException e) {
+            // A malformed content type or unknown charset names nothing
+            return null;
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package com.codeenhancer.java_code_enhancer.jobs;
+
+import com.codeenhancer.java_code_enhancer.dto.JobState;
+import com.codeenhancer.java_code_enhancer.dto.OutputMode;
+import com.codeenhancer.java_code_enhancer.util.CodeMetrics;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * A job as kept in its journal directory: what to run, and how far it got.
+ * The counters are rebuilt from the results file when a job resumes.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class JobRecord {
+    private String id;
+    private JobState state;
+    /** What was submitted: text, files or path */
+    private String source;
+    /** Files, archives and directories to enhance, in order */
+    private List<String> inputs;
+    private OutputMode mode;
+    /** Ids of the rules to run, so that a resumed job uses the same rules */
+    private List<String> rules;
+    private Integer concurrency;
+    /** Hash of the inputs, output mode and rules; null when the inputs may change */
+    private String digest;
+    private Integer totalFiles;
+    private int processed;
+    private int succeeded;
+    private int failed;
+    private CodeMetrics totalMetrics;
+    private String error;
+    private Instant createdAt;
+    private Instant startedAt;
+    private Instant finishedAt;
+}
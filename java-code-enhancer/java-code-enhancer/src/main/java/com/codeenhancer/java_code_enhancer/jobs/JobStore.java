@@ -0,0 +1,186 @@
+package com.codeenhancer.java_code_enhancer.jobs;
+
+import com.codeenhancer.java_code_enhancer.config.CodeEnhancerProperties;
+import com.codeenhancer.java_code_enhancer.dto.EnhancementStreamEvent;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.RandomAccessFile;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Journal of the asynchronous jobs. Every job is a directory holding its
+ * inputs, its state as job.json and its results as results.ndjson, one
+ * file event per line in the format of the streaming endpoints. The state is
+ * replaced atomically and results are appended line by line, so after a
+ * crash a job can resume from the results already written.
+ */
+@Slf4j
+@Component
+public class JobStore {
+    private static final String STATE = "job.json";
+    private static final String RESULTS = "results.ndjson";
+    private static final String INPUT = "input";
+
+    private final Path directory;
+    private final ObjectMapper objectMapper;
+
+    public JobStore(CodeEnhancerProperties properties, ObjectMapper objectMapper) {
+        this.directory = Paths.get(properties.getJobs().getDirectory());
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * Create the directory of a new job
+     *
+     * @return Directory for the job's inputs
+     */
+    public Path create(String id) throws IOException {
+        return Files.createDirectories(directory.resolve(id).resolve(INPUT));
+    }
+
+    public void save(JobRecord job) {
+        Path jobDirectory = directory.resolve(job.getId());
+        try {
+            // Write to a temporary file first so a crash never leaves a partial state
+            Path temp = Files.createTempFile(jobDirectory, STATE, ".tmp");
+            Files.write(temp, objectMapper.writeValueAsBytes(job));
+            Files.move(temp, jobDirectory.resolve(STATE),
+                    StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not save job " + job.getId(), e);
+        }
+    }
+
+    /**
+     * Every job in the journal, oldest first. Unreadable jobs are skipped.
+     */
+    public List<JobRecord> loadAll() {
+        if (!Files.isDirectory(directory)) {
+            return List.of();
+        }
+        List<JobRecord> jobs = new ArrayList<>();
+        try (Stream<Path> entries = Files.list(directory)) {
+            for (Path state : entries.map(entry -> entry.resolve(STATE)).collect(Collectors.toList())) {
+                if (!Files.exists(state)) continue;
+                try {
+                    jobs.add(objectMapper.readValue(state.toFile(), JobRecord.class));
+                } catch (IOException e) {
+                    log.warn("Skipping unreadable job {}: {}", state, e.getMessage());
+                }
+            }
+        } catch (IOException e) {
+            log.warn("Could not read job directory {}: {}", directory, e.getMessage());
+        }
+        jobs.sort(Comparator.comparing(JobRecord::getCreatedAt));
+        return jobs;
+    }
+
+    public void delete(String id) {
+        Path jobDirectory = directory.resolve(id);
+        if (!Files.exists(jobDirectory)) {
+            return;
+        }
+        try (Stream<Path> walk = Files.walk(jobDirectory)) {
+            for (Path path : walk.sorted(Comparator.reverseOrder()).collect(Collectors.toList())) {
+                Files.deleteIfExists(path);
+            }
+        } catch (IOException e) {
+            log.warn("Could not delete job {}: {}", jobDirectory, e.getMessage());
+        }
+    }
+
+    public Path resultsFile(String id) {
+        return directory.resolve(id).resolve(RESULTS);
+    }
+
+    /**
+     * Hand every complete result line of a job to the consumer. A line cut
+     * short by a crash is removed from the file.
+     */
+    public void readResults(String id, Consumer<EnhancementStreamEvent> consumer) throws IOException {
+        Path results = resultsFile(id);
+        if (!Files.exists(results)) {
+            return;
+        }
+        truncateToLastLine(results);
+        try (BufferedReader reader = Files.newBufferedReader(results, StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (!line.isEmpty()) {
+                    consumer.accept(objectMapper.readValue(line, EnhancementStreamEvent.class));
+                }
+            }
+        }
+    }
+
+    /**
+     * Open the results of a job for appending
+     */
+    public ResultJournal openResults(String id) throws IOException {
+        return new ResultJournal(Files.newOutputStream(resultsFile(id),
+                StandardOpenOption.CREATE, StandardOpenOption.APPEND));
+    }
+
+    private static void truncateToLastLine(Path file) throws IOException {
+        try (RandomAccessFile raf = new RandomAccessFile(file.toFile(), "rw")) {
+            long end = raf.length();
+            while (end > 0) {
+                raf.seek(end - 1);
+                if (raf.read() == '\n') break;
+                end--;
+            }
+            if (end < raf.length()) {
+                log.warn("Removing an incomplete result line from {}", file);
+                raf.setLength(end);
+            }
+        }
+    }
+
+    /**
+     * Appends the results of one run; every line is written in one piece and
+     * flushed before the next
+     */
+    public class ResultJournal implements Closeable {
+        private final OutputStream out;
+
+        private ResultJournal(OutputStream out) {
+            this.out = out;
+        }
+
+        public void append(EnhancementStreamEvent event) {
+            try {
+                byte[] json = objectMapper.writeValueAsBytes(event);
+                byte[] line = new byte[json.length + 1];
+                System.arraycopy(json, 0, line, 0, json.length);
+                line[json.length] = '\n';
+                out.write(line);
+                out.flush();
+            } catch (IOException e) {
+                throw new UncheckedIOException("Could not write job result", e);
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            out.close();
+        }
+    }
+}
@@ -0,0 +1,146 @@
+package com.codeenhancer.java_code_enhancer.metrics;
+
+import com.codeenhancer.java_code_enhancer.analysis.AnalysisContext;
+import com.codeenhancer.java_code_enhancer.analysis.PipelineTrace;
+import com.codeenhancer.java_code_enhancer.rules.ModernizationRule;
+import com.codeenhancer.java_code_enhancer.rules.RuleRegistry;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Publishes the trace of every analyzed source to Micrometer: a timer per
+ * pipeline stage and per rewrite rule, the input size, the nodes visited,
+ * the rewrites applied and the sources cut short. Meters are registered once, so publishing a trace
+ * does not look anything up in the registry.
+ */
+@Component
+public class PipelineMetrics {
+    private static final double[] PERCENTILES = {0.5, 0.95, 0.99};
+    // Bounds of the histogram buckets, which keep the scrape small
+    private static final Duration MIN_EXPECTED = Duration.ofMillis(1);
+    private static final Duration MAX_EXPECTED = Duration.ofMinutes(1);
+
+    private final Map<PipelineTrace.Stage, Timer> stages = new EnumMap<>(PipelineTrace.Stage.class);
+    private final Map<String, Timer> rewrites = new HashMap<>();
+    private final Map<String, Counter> rewritesApplied = new HashMap<>();
+    private final Map<String, Counter> rewriteFailures = new HashMap<>();
+    private final DistributionSummary inputChars;
+    private final DistributionSummary inputLines;
+    private final DistributionSummary nodesVisited;
+    private final Counter parseFailures;
+    private final Counter partialResults;
+
+    public PipelineMetrics(MeterRegistry registry, RuleRegistry rules) {
+        for (PipelineTrace.Stage stage : PipelineTrace.Stage.values()) {
+            stages.put(stage, Timer.builder("code_enhancer.stage")
+                    .description("Time spent in one stage of the enhancement pipeline")
+                    .tag("stage", stage.label())
+                    .publishPercentiles(PERCENTILES)
+                    .publishPercentileHistogram()
+                    .minimumExpectedValue(MIN_EXPECTED)
+                    .maximumExpectedValue(MAX_EXPECTED)
+                    .register(registry));
+        }
+        for (ModernizationRule rule : rules.getRules()) {
+            if (!rule.rewrites()) continue;
+            String tag = rule.id();
+            rewrites.put(tag, Timer.builder("code_enhancer.rewrite")
+                    .description("Time spent applying one rewrite rule to a source")
+                    .tag("rule", tag)
+                    .publishPercentiles(PERCENTILES)
+                    .publishPercentileHistogram()
+                    .minimumExpectedValue(MIN_EXPECTED)
+                    .maximumExpectedValue(MAX_EXPECTED)
+                    .register(registry));
+            rewritesApplied.put(tag, Counter.builder("code_enhancer.rewrites.applied")
+                    .tag("rule", tag)
+                    .register(registry));
+            rewriteFailures.put(tag, Counter.builder("code_enhancer.rewrites.failed")
+                    .tag("rule", tag)
+                    .register(registry));
+        }
+        inputChars = DistributionSummary.builder("code_enhancer.input.size")
+                .baseUnit("chars")
+                .publishPercentiles(PERCENTILES)
+                .register(registry);
+        inputLines = DistributionSummary.builder("code_enhancer.input.lines")
+                .baseUnit("lines")
+                .publishPercentiles(PERCENTILES)
+                .register(registry);
+        nodesVisited = DistributionSummary.builder("code_enhancer.scan")
+                .description("Nodes visited by the fused scan of one source")
+                .baseUnit("nodes")
+                .register(registry);
+        parseFailures = Counter.builder("code_enhancer.parse.failures")
+                .register(registry);
+        partialResults = Counter.builder("code_enhancer.partial")
+                .description("Sources whose analysis or rewrites stopped early")
+                .register(registry);
+    }
+
+    /**
+     * Record everything the trace of the context holds. Stages and rules that
+     * did not run are left out.
+     */
+    public void publish(AnalysisContext context) {
+        PipelineTrace trace = context.getTrace();
+        inputChars.record(context.getSource().length());
+        inputLines.record(context.getLineCount());
+        if (trace.isParseFailed()) {
+            parseFailures.increment();
+        }
+        if (trace.isPartial()) {
+            partialResults.increment();
+        }
+        if (trace.getNodesVisited() > 0) {
+            nodesVisited.record(trace.getNodesVisited());
+        }
+        stages.forEach((stage, timer) -> {
+            long nanos = trace.getStageNanos(stage);
+            if (nanos > 0) {
+                timer.record(nanos, TimeUnit.NANOSECONDS);
+            }
+        });
+        for (String rule : trace.getRewriteRules()) {
+            Timer timer = rewrites.get(rule);
+            if (timer != null) {
+                timer.record(trace.getRewriteNanos(rule), TimeUnit.NANOSECONDS);
+                rewritesApplied.get(rule).increment(trace.getRewriteCount(rule));
+            }
+        }
+        if (trace.getFailedRewrite() != null && rewriteFailures.containsKey(trace.getFailedRewrite())) {
+            rewriteFailures.get(trace.getFailedRewrite()).increment();
+        }
+    }
+
+    /**
+     * Milliseconds spent in each stage and rewrite rule that ran, in pipeline order
+     */
+    public static Map<String, Double> timings(PipelineTrace trace) {
+        Map<String, Double> timings = new LinkedHashMap<>();
+        for (PipelineTrace.Stage stage : PipelineTrace.Stage.values()) {
+            long nanos = trace.getStageNanos(stage);
+            if (nanos > 0) {
+                timings.put(stage.label(), millis(nanos));
+            }
+        }
+        for (String rule : trace.getRewriteRules()) {
+            timings.put("rewrite." + rule, millis(trace.getRewriteNanos(rule)));
+        }
+        return timings;
+    }
+
+    private static double millis(long nanos) {
+        return Math.round(nanos / 1_000.0) / 1_000.0;
+    }
+}
@@ -0,0 +1,43 @@
+package com.codeenhancer.java_code_enhancer.rules;
+
+import com.codeenhancer.java_code_enhancer.analysis.ScanResult;
+import com.codeenhancer.java_code_enhancer.dto.Severity;
+import com.github.javaparser.ast.expr.CastExpr;
+import com.github.javaparser.ast.expr.DoubleLiteralExpr;
+import com.github.javaparser.ast.expr.Expression;
+import com.github.javaparser.ast.expr.ObjectCreationExpr;
+
+/**
+ * Report new BigDecimal(double), which keeps the binary rounding error of the
+ * double in a long exact expansion
+ */
+final class BigDecimalDoubleRule extends TypedRule<ObjectCreationExpr> {
+
+    BigDecimalDoubleRule() {
+        super("bigdecimal_double", ObjectCreationExpr.class);
+    }
+
+    @Override
+    protected void inspect(ObjectCreationExpr creation, ScanResult result) {
+        if (!creation.getType().getNameAsString().equals("BigDecimal") || creation.getArguments().size() != 1) {
+            return;
+        }
+        if (isDouble(creation.getArgument(0))) {
+            PerformanceChecks.report(this, Severity.MEDIUM, creation,
+                    "new BigDecimal(double) keeps the rounding error of the double; use BigDecimal.valueOf", result);
+        }
+    }
+
+    private static boolean isDouble(Expression argument) {
+        if (argument instanceof DoubleLiteralExpr) {
+            // 1.5f is a float, which widens the same way
+            return true;
+        }
+        if (argument instanceof CastExpr) {
+            String type = ((CastExpr) argument).getType().asString();
+            return type.equals("double") || type.equals("float");
+        }
+        String held = PerformanceChecks.heldClass(argument);
+        return held.equals("double") || held.equals("Double") || held.equals("float") || held.equals("Float");
+    }
+}
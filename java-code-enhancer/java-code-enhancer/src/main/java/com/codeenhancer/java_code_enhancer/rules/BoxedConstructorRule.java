@@ -0,0 +1,123 @@
+package com.codeenhancer.java_code_enhancer.rules;
+
+import com.codeenhancer.java_code_enhancer.analysis.JavaParserPool;
+import com.codeenhancer.java_code_enhancer.analysis.ScanResult;
+import com.github.javaparser.ast.Node;
+import com.github.javaparser.ast.body.VariableDeclarator;
+import com.github.javaparser.ast.expr.BinaryExpr;
+import com.github.javaparser.ast.expr.DoubleLiteralExpr;
+import com.github.javaparser.ast.expr.EnclosedExpr;
+import com.github.javaparser.ast.expr.Expression;
+import com.github.javaparser.ast.expr.IntegerLiteralExpr;
+import com.github.javaparser.ast.expr.MethodCallExpr;
+import com.github.javaparser.ast.expr.NameExpr;
+import com.github.javaparser.ast.expr.ObjectCreationExpr;
+import com.github.javaparser.ast.expr.StringLiteralExpr;
+import com.github.javaparser.ast.stmt.BlockStmt;
+import com.github.javaparser.ast.stmt.ExpressionStmt;
+import com.github.javaparser.ast.stmt.SynchronizedStmt;
+
+import java.util.Optional;
+
+import static com.codeenhancer.java_code_enhancer.analysis.ModernizationPatterns.BOXED_TYPES;
+
+/**
+ * Replace the deprecated boxing constructors, new Integer(x) and the like,
+ * with valueOf, which reuses cached boxes instead of allocating one each time.
+ * <p>
+ * A cached box is not a new object, so the rewrite is skipped where the
+ * object's identity shows nearby: compared with == or !=, or locked on,
+ * directly or through the local variable it is assigned to.
+ */
+final class BoxedConstructorRule extends TypedRule<ObjectCreationExpr> {
+    BoxedConstructorRule() {
+        super("boxed_constructor", ObjectCreationExpr.class);
+    }
+
+    @Override
+    public boolean rewrites() {
+        return true;
+    }
+
+    @Override
+    protected void inspect(ObjectCreationExpr creation, ScanResult result) {
+        String type = creation.getType().getNameAsString();
+        if (BOXED_TYPES.contains(type) && creation.getArguments().size() == 1 && creation.getAnonymousClassBody().isEmpty()
+                && creation.getType().getTypeArguments().isEmpty()) {
+            result.addDeprecatedApi();
+            candidate(creation, result);
+        }
+    }
+
+    @Override
+    protected boolean canRewrite(ObjectCreationExpr creation) {
+        // Float.valueOf takes no double, where new Float(double) does
+        if (creation.getType().getNameAsString().equals("Float") && !isFloatArgument(creation.getArgument(0))) {
+            return false;
+        }
+        if (isIdentityUse(creation)) {
+            return false;
+        }
+        Optional<Node> parent = parentSkippingParentheses(creation);
+        if (parent.isPresent() && parent.get() instanceof VariableDeclarator) {
+            VariableDeclarator variable = (VariableDeclarator) parent.get();
+            Optional<ExpressionStmt> declaration = PerformanceChecks.declaringStatement(variable);
+            if (declaration.isPresent()) {
+                BlockStmt block = (BlockStmt) declaration.get().getParentNode().orElseThrow();
+                for (NameExpr use : PerformanceChecks.uses(block, variable.getNameAsString())) {
+                    if (isIdentityUse(use)) {
+                        return false;
+                    }
+                }
+            }
+        }
+        return true;
+    }
+
+    @Override
+    protected Node apply(ObjectCreationExpr creation, JavaParserPool parsers) {
+        MethodCallExpr valueOf = new MethodCallExpr(new NameExpr(creation.getType().asString()), "valueOf",
+                creation.getArguments());
+        creation.replace(valueOf);
+        return null;
+    }
+
+    private static boolean isIdentityUse(Expression expression) {
+        Optional<Node> parent = parentSkippingParentheses(expression);
+        if (parent.isEmpty()) {
+            return false;
+        }
+        if (parent.get() instanceof SynchronizedStmt) {
+            return true;
+        }
+        if (parent.get() instanceof BinaryExpr) {
+            BinaryExpr.Operator operator = ((BinaryExpr) parent.get()).getOperator();
+            return operator == BinaryExpr.Operator.EQUALS || operator == BinaryExpr.Operator.NOT_EQUALS;
+        }
+        if (parent.get() instanceof MethodCallExpr) {
+            MethodCallExpr call = (MethodCallExpr) parent.get();
+            return call.getNameAsString().equals("identityHashCode");
+        }
+        return false;
+    }
+
+    private static Optional<Node> parentSkippingParentheses(Node node) {
+        Optional<Node> parent = node.getParentNode();
+        while (parent.isPresent() && parent.get() instanceof EnclosedExpr) {
+            parent = parent.get().getParentNode();
+        }
+        return parent;
+    }
+
+    private static boolean isFloatArgument(Expression argument) {
+        if (argument instanceof StringLiteralExpr || argument instanceof IntegerLiteralExpr) {
+            return true;
+        }
+        if (argument instanceof DoubleLiteralExpr) {
+            String value = ((DoubleLiteralExpr) argument).getValue();
+            return value.endsWith("f") || value.endsWith("F");
+        }
+        String held = PerformanceChecks.heldClass(argument);
+        return held.equals("float") || held.equals("Float") || held.equals("int") || held.equals("String");
+    }
+}
@@ -0,0 +1,58 @@
+package com.codeenhancer.java_code_enhancer.rules;
+
+import com.codeenhancer.java_code_enhancer.analysis.ScanResult;
+import com.codeenhancer.java_code_enhancer.dto.Severity;
+import com.github.javaparser.ast.Node;
+import com.github.javaparser.ast.expr.AssignExpr;
+import com.github.javaparser.ast.expr.Expression;
+import com.github.javaparser.ast.expr.UnaryExpr;
+
+import java.util.Set;
+
+/**
+ * Report arithmetic on boxed numbers in a loop, which unboxes the value and
+ * allocates a new box on every pass
+ */
+final class BoxingInLoopRule implements ModernizationRule {
+    private static final Set<UnaryExpr.Operator> STEPS = Set.of(
+            UnaryExpr.Operator.PREFIX_INCREMENT, UnaryExpr.Operator.PREFIX_DECREMENT,
+            UnaryExpr.Operator.POSTFIX_INCREMENT, UnaryExpr.Operator.POSTFIX_DECREMENT);
+
+    @Override
+    public String id() {
+        return "boxing_in_loop";
+    }
+
+    @Override
+    public Set<Class<? extends Node>> nodeTypes() {
+        return Set.of(AssignExpr.class, UnaryExpr.class);
+    }
+
+    @Override
+    public void collect(Node node, ScanResult result) {
+        Expression target;
+        if (node instanceof AssignExpr) {
+            AssignExpr assign = (AssignExpr) node;
+            if (assign.getOperator() == AssignExpr.Operator.ASSIGN) {
+                return;
+            }
+            target = assign.getTarget();
+        } else {
+            UnaryExpr unary = (UnaryExpr) node;
+            if (!STEPS.contains(unary.getOperator())) {
+                return;
+            }
+            target = unary.getExpression();
+        }
+        // Finding the loop is cheaper than finding the declaration
+        if (!PerformanceChecks.inLoop(node)) {
+            return;
+        }
+        String held = PerformanceChecks.heldClass(target);
+        if (PerformanceChecks.WRAPPERS.contains(held)) {
+            PerformanceChecks.report(this, Severity.MEDIUM, node,
+                    held + " " + target + " is updated in a loop, boxing a new value on every pass; use a primitive",
+                    result);
+        }
+    }
+}
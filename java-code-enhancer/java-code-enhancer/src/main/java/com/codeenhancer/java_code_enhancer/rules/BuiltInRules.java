@@ -0,0 +1,37 @@
+package com.codeenhancer.java_code_enhancer.rules;
+
+import java.util.List;
+
+/**
+ * The rules shipped with the enhancer
+ */
+public final class BuiltInRules {
+
+    private BuiltInRules() {
+    }
+
+    /**
+     * Built-in rules, in the order their rewrites are applied
+     */
+    public static List<ModernizationRule> all() {
+        return List.of(
+                new CollectionLoopRule(),
+                new InfiniteWhileRule(),
+                new IndexedLoopRule(),
+                new SwitchRule(),
+                new DeprecatedCallRule(),
+                new LegacyTypeRule(),
+                new DeprecatedDeclarationRule(),
+                new SynchronizedTypeRule(),
+                new BoxedConstructorRule(),
+                new PresizedListRule(),
+                new StringConcatInLoopRule(),
+                new RegexInLoopRule(),
+                new BoxingInLoopRule(),
+                new StreamInLoopRule(),
+                new BigDecimalDoubleRule(),
+                new LinkedListIndexRule(),
+                new ExceptionControlFlowRule()
+        );
+    }
+}
@@ -0,0 +1,57 @@
+package com.codeenhancer.java_code_enhancer.rules;
+
+import com.codeenhancer.java_code_enhancer.analysis.JavaParserPool;
+import com.codeenhancer.java_code_enhancer.analysis.ScanResult;
+import com.github.javaparser.ast.Node;
+import com.github.javaparser.ast.expr.BinaryExpr;
+import com.github.javaparser.ast.expr.Expression;
+import com.github.javaparser.ast.expr.VariableDeclarationExpr;
+import com.github.javaparser.ast.stmt.BlockStmt;
+import com.github.javaparser.ast.stmt.ForStmt;
+import com.github.javaparser.ast.stmt.Statement;
+
+import static com.codeenhancer.java_code_enhancer.analysis.ModernizationPatterns.isArrayOrCollectionLoop;
+
+/**
+ * Convert for loops over an array or collection to forEach
+ */
+final class CollectionLoopRule extends TypedRule<ForStmt> {
+
+    CollectionLoopRule() {
+        super("collection_loop", ForStmt.class);
+    }
+
+    @Override
+    public boolean rewrites() {
+        return true;
+    }
+
+    @Override
+    protected void inspect(ForStmt forStmt, ScanResult result) {
+        if (isArrayOrCollectionLoop(forStmt)) {
+            result.addModernizationOpportunity();
+            candidate(forStmt, result);
+        }
+    }
+
+    /**
+     * @return The new loop body
+     */
+    @Override
+    protected Node apply(ForStmt forStmt, JavaParserPool parsers) {
+        VariableDeclarationExpr varDecl = (VariableDeclarationExpr) forStmt.getInitialization().get(0);
+
+        // Create enhanced for loop
+        Statement body = forStmt.getBody();
+        Expression collection = ((BinaryExpr) forStmt.getCompare().get()).getRight();
+
+        String enhancedFor = String.format("for (%s : %s) %s",
+                varDecl.toString(),
+                collection.toString(),
+                body.toString());
+
+        BlockStmt newBody = new BlockStmt().addStatement(parsers.parseStatement(enhancedFor));
+        forStmt.setBody(newBody);
+        return newBody;
+    }
+}
@@ -0,0 +1,118 @@
+package com.codeenhancer.java_code_enhancer.rules;
+
+import com.codeenhancer.java_code_enhancer.analysis.JavaParserPool;
+import com.codeenhancer.java_code_enhancer.analysis.ScanResult;
+import com.codeenhancer.java_code_enhancer.symbols.ProjectTypeIndex;
+import com.github.javaparser.ast.Node;
+import com.github.javaparser.ast.NodeList;
+import com.github.javaparser.ast.expr.Expression;
+import com.github.javaparser.ast.expr.MethodCallExpr;
+import com.github.javaparser.ast.expr.NameExpr;
+
+import java.util.Optional;
+
+import static com.codeenhancer.java_code_enhancer.analysis.ModernizationPatterns.DEPRECATED_METHODS;
+
+/**
+ * Update File API and reflection calls deprecated in newer JDKs
+ */
+final class DeprecatedCallRule extends TypedRule<MethodCallExpr> {
+
+    DeprecatedCallRule() {
+        super("deprecated_call", MethodCallExpr.class);
+    }
+
+    @Override
+    public boolean rewrites() {
+        return true;
+    }
+
+    @Override
+    protected void inspect(MethodCallExpr method, ScanResult result) {
+        if (DEPRECATED_METHODS.contains(method.getNameAsString())) {
+            result.addDeprecatedApi();
+            // Receiver types are checked when the tree is transformed
+            candidate(method, result);
+        }
+    }
+
+    @Override
+    protected boolean canRewrite(MethodCallExpr method) {
+        switch (method.getNameAsString()) {
+            case "list":
+            case "toURL":
+                return isFileType(method);
+            case "getBytes":
+                return !method.getArguments().isEmpty();
+            case "newInstance":
+                return isClassType(method);
+            default:
+                return false;
+        }
+    }
+
+    @Override
+    protected Node apply(MethodCallExpr method, JavaParserPool parsers) {
+        var methodName = method.getNameAsString();
+        switch (methodName) {
+            case "list":
+                method.setName("listFiles");
+                break;
+
+            case "toURL":
+                chainBefore(method, "toURI");
+                break;
+
+            case "getBytes":
+                method.setArguments(NodeList.nodeList(
+                        new NameExpr("StandardCharsets.UTF_8")
+                ));
+                break;
+
+            case "newInstance":
+                chainBefore(method, "getDeclaredConstructor");
+                break;
+        }
+        return null;
+    }
+
+    /**
+     * Turn {@code scope.m()} into {@code scope.call().m()}
+     */
+    private static void chainBefore(MethodCallExpr method, String call) {
+        Expression scope = method.getScope().orElseThrow();
+        method.setScope(new MethodCallExpr(scope.clone(), call));
+    }
+
+    /**
+     * Whether the call is File's: on a File, or on a project type extending
+     * File that declares no method of that name on the way
+     */
+    private static boolean isFileType(MethodCallExpr method) {
+        return resolvedScopeType(method).filter(type -> type.equals("java.io.File")
+                || ProjectTypeIndex.of(method)
+                        .filter(index -> index.inherits(type.replaceFirst("<.*", ""), "java.io.File",
+                                method.getNameAsString()))
+                        .isPresent())
+                .isPresent();
+    }
+
+    private static boolean isClassType(MethodCallExpr method) {
+        return resolvedScopeType(method).filter(type -> type.startsWith("java.lang.Class")).isPresent();
+    }
+
+    /**
+     * Resolved type of the scope of a call. Resolution failures (unknown
+     * types, no symbol solver configured) only skip this one rewrite.
+     */
+    private static Optional<String> resolvedScopeType(MethodCallExpr method) {
+        if (method.getScope().isEmpty()) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(method.getScope().get().calculateResolvedType().describe());
+        } catch (RuntimeException e) {
+            return Optional.empty();
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package com.codeenhancer.java_code_enhancer.rules;
+
+import com.codeenhancer.java_code_enhancer.analysis.ScanResult;
+import com.github.javaparser.ast.body.MethodDeclaration;
+
+/**
+ * Warn about methods declared as deprecated
+ */
+final class DeprecatedDeclarationRule extends TypedRule<MethodDeclaration> {
+
+    DeprecatedDeclarationRule() {
+        super("deprecated_declaration", MethodDeclaration.class);
+    }
+
+    @Override
+    protected void inspect(MethodDeclaration method, ScanResult result) {
+        if (method.getAnnotationByName("Deprecated").isPresent()) {
+            result.addWarning("Deprecated method found: " + method.getName());
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package com.codeenhancer.java_code_enhancer.rules;
+
+import com.codeenhancer.java_code_enhancer.analysis.ScanResult;
+import com.codeenhancer.java_code_enhancer.dto.Severity;
+import com.github.javaparser.ast.Node;
+import com.github.javaparser.ast.body.BodyDeclaration;
+import com.github.javaparser.ast.expr.LambdaExpr;
+import com.github.javaparser.ast.expr.ObjectCreationExpr;
+import com.github.javaparser.ast.stmt.CatchClause;
+import com.github.javaparser.ast.stmt.ThrowStmt;
+import com.github.javaparser.ast.stmt.TryStmt;
+import com.github.javaparser.ast.type.Type;
+
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Report exceptions used for control flow: thrown to be caught by the same
+ * method, or unchecked exceptions caught in place of a check. Creating the
+ * exception fills in its stack trace, which is far slower than a branch.
+ */
+final class ExceptionControlFlowRule implements ModernizationRule {
+    /** Unchecked exceptions that a check before the call avoids */
+    private static final Set<String> AVOIDABLE = Set.of(
+            "ArrayIndexOutOfBoundsException", "StringIndexOutOfBoundsException", "IndexOutOfBoundsException",
+            "NullPointerException", "NoSuchElementException", "ClassCastException", "ArithmeticException");
+
+    @Override
+    public String id() {
+        return "exception_control_flow";
+    }
+
+    @Override
+    public Set<Class<? extends Node>> nodeTypes() {
+        return Set.of(ThrowStmt.class, CatchClause.class);
+    }
+
+    @Override
+    public void collect(Node node, ScanResult result) {
+        if (node instanceof ThrowStmt) {
+            ThrowStmt throwStmt = (ThrowStmt) node;
+            if (throwStmt.getExpression() instanceof ObjectCreationExpr) {
+                String thrown = ((ObjectCreationExpr) throwStmt.getExpression()).getType().getNameAsString();
+                if (caughtLocally(throwStmt, thrown)) {
+                    PerformanceChecks.report(this, Severity.MEDIUM, throwStmt,
+                            thrown + " is thrown and caught in the same method as control flow; use a condition or a return value",
+                            result);
+                }
+            }
+            return;
+        }
+
+        CatchClause catchClause = (CatchClause) node;
+        for (String name : caughtNames(catchClause)) {
+            if (AVOIDABLE.contains(name)) {
+                boolean inLoop = PerformanceChecks.inLoop(catchClause);
+                PerformanceChecks.report(this, inLoop ? Severity.HIGH : Severity.MEDIUM, catchClause,
+                        name + " is caught instead of checked for" + (inLoop ? " in a loop" : "")
+                                + "; test the condition before the call",
+                        result);
+                return;
+            }
+        }
+    }
+
+    /**
+     * Whether a try block around the throw, in the same method, catches the
+     * exception by its own name
+     */
+    private static boolean caughtLocally(ThrowStmt throwStmt, String thrown) {
+        Node child = throwStmt;
+        for (Node parent = throwStmt.getParentNode().orElse(null); parent != null;
+             child = parent, parent = parent.getParentNode().orElse(null)) {
+            if (parent instanceof BodyDeclaration || parent instanceof LambdaExpr) {
+                return false;
+            }
+            if (parent instanceof TryStmt && ((TryStmt) parent).getTryBlock() == child) {
+                for (CatchClause catchClause : ((TryStmt) parent).getCatchClauses()) {
+                    if (caughtNames(catchClause).contains(thrown)) {
+                        return true;
+                    }
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Simple names of the exception types a catch clause catches
+     */
+    private static List<String> caughtNames(CatchClause catchClause) {
+        Type caught = catchClause.getParameter().getType();
+        List<? extends Type> types = caught.isUnionType() ? caught.asUnionType().getElements() : List.of(caught);
+        return types.stream()
+                .map(type -> type.isClassOrInterfaceType() ? type.asClassOrInterfaceType().getNameAsString() : type.asString())
+                .collect(Collectors.toList());
+    }
+}
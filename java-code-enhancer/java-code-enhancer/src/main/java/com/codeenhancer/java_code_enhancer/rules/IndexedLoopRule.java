@@ -0,0 +1,62 @@
+package com.codeenhancer.java_code_enhancer.rules;
+
+import com.codeenhancer.java_code_enhancer.analysis.JavaParserPool;
+import com.codeenhancer.java_code_enhancer.analysis.ScanResult;
+import com.github.javaparser.ast.Node;
+import com.github.javaparser.ast.NodeList;
+import com.github.javaparser.ast.expr.LambdaExpr;
+import com.github.javaparser.ast.expr.MethodCallExpr;
+import com.github.javaparser.ast.expr.NameExpr;
+import com.github.javaparser.ast.stmt.ExpressionStmt;
+import com.github.javaparser.ast.stmt.ForStmt;
+
+import static com.codeenhancer.java_code_enhancer.analysis.ModernizationPatterns.isArrayOrCollectionLoop;
+import static com.codeenhancer.java_code_enhancer.analysis.ModernizationPatterns.isIndexBasedLoop;
+
+/**
+ * Convert indexed for loops to streams where applicable
+ */
+final class IndexedLoopRule extends TypedRule<ForStmt> {
+
+    IndexedLoopRule() {
+        super("indexed_loop", ForStmt.class);
+    }
+
+    @Override
+    public boolean rewrites() {
+        return true;
+    }
+
+    @Override
+    protected void inspect(ForStmt forStmt, ScanResult result) {
+        if (isIndexBasedLoop(forStmt)) {
+            // Loops over an array or collection are counted by collection_loop
+            if (!isArrayOrCollectionLoop(forStmt)) {
+                result.addModernizationOpportunity();
+            }
+            candidate(forStmt, result);
+        }
+    }
+
+    @Override
+    protected Node apply(ForStmt forStmt, JavaParserPool parsers) {
+        // Convert to IntStream
+        MethodCallExpr streamExpr = new MethodCallExpr(
+                new NameExpr("IntStream"),
+                "range"
+        );
+
+        // Add stream operations
+        LambdaExpr lambda = new LambdaExpr();
+        lambda.setBody(forStmt.getBody());
+
+        MethodCallExpr forEachExpr = new MethodCallExpr(
+                streamExpr,
+                "forEach",
+                NodeList.nodeList(lambda)
+        );
+
+        forStmt.replace(new ExpressionStmt(forEachExpr));
+        return null;
+    }
+}
@@ -0,0 +1,43 @@
+package com.codeenhancer.java_code_enhancer.rules;
+
+import com.codeenhancer.java_code_enhancer.analysis.JavaParserPool;
+import com.codeenhancer.java_code_enhancer.analysis.ScanResult;
+import com.github.javaparser.ast.Node;
+import com.github.javaparser.ast.expr.BooleanLiteralExpr;
+import com.github.javaparser.ast.stmt.WhileStmt;
+
+import static com.codeenhancer.java_code_enhancer.analysis.ModernizationPatterns.isInfiniteLoop;
+
+/**
+ * Convert while loops to modern patterns where applicable
+ */
+final class InfiniteWhileRule extends TypedRule<WhileStmt> {
+
+    InfiniteWhileRule() {
+        super("infinite_while", WhileStmt.class);
+    }
+
+    @Override
+    public boolean rewrites() {
+        return true;
+    }
+
+    @Override
+    protected void inspect(WhileStmt whileStmt, ScanResult result) {
+        if (isInfiniteLoop(whileStmt)) {
+            result.addModernizationOpportunity();
+            candidate(whileStmt, result);
+        }
+    }
+
+    @Override
+    protected Node apply(WhileStmt whileStmt, JavaParserPool parsers) {
+        // Convert to modern infinite loop pattern
+        WhileStmt modernWhile = new WhileStmt();
+        modernWhile.setCondition(new BooleanLiteralExpr(true));
+        modernWhile.setBody(whileStmt.getBody());
+
+        whileStmt.replace(modernWhile);
+        return null;
+    }
+}
@@ -0,0 +1,55 @@
+package com.codeenhancer.java_code_enhancer.rules;
+
+import com.codeenhancer.java_code_enhancer.analysis.JavaParserPool;
+import com.codeenhancer.java_code_enhancer.analysis.ScanResult;
+import com.github.javaparser.ast.Node;
+import com.github.javaparser.ast.NodeList;
+import com.github.javaparser.ast.expr.MethodCallExpr;
+import com.github.javaparser.ast.expr.NameExpr;
+import com.github.javaparser.ast.expr.ObjectCreationExpr;
+
+import static com.codeenhancer.java_code_enhancer.analysis.ModernizationPatterns.DEPRECATED_TYPES;
+
+/**
+ * Update legacy type instantiations
+ */
+final class LegacyTypeRule extends TypedRule<ObjectCreationExpr> {
+
+    LegacyTypeRule() {
+        super("legacy_type", ObjectCreationExpr.class);
+    }
+
+    @Override
+    public boolean rewrites() {
+        return true;
+    }
+
+    @Override
+    protected void inspect(ObjectCreationExpr expr, ScanResult result) {
+        if (DEPRECATED_TYPES.contains(expr.getTypeAsString())) {
+            result.addDeprecatedApi();
+            candidate(expr, result);
+        }
+    }
+
+    @Override
+    protected Node apply(ObjectCreationExpr expr, JavaParserPool parsers) {
+        var typeStr = expr.getTypeAsString();
+        switch (typeStr) {
+            case "Date":
+                expr.setType("Instant");
+                expr.setArguments(NodeList.nodeList(
+                        new MethodCallExpr("now")
+                ));
+                break;
+
+            case "SecureRandom":
+                expr.replace(new MethodCallExpr(
+                        new NameExpr("SecureRandom"),
+                        "getInstanceStrong"
+                ));
+                break;
+        }
+        return null;
+    }
+}
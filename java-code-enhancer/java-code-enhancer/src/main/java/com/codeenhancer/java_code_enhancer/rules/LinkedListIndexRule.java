@@ -0,0 +1,31 @@
+package com.codeenhancer.java_code_enhancer.rules;
+
+import com.codeenhancer.java_code_enhancer.analysis.ScanResult;
+import com.codeenhancer.java_code_enhancer.dto.Severity;
+import com.github.javaparser.ast.expr.MethodCallExpr;
+
+/**
+ * Report indexed access to a LinkedList in a loop, which walks the list from
+ * an end on every pass and makes an index loop quadratic
+ */
+final class LinkedListIndexRule extends TypedRule<MethodCallExpr> {
+
+    LinkedListIndexRule() {
+        super("linkedlist_index_access", MethodCallExpr.class);
+    }
+
+    @Override
+    protected void inspect(MethodCallExpr call, ScanResult result) {
+        String name = call.getNameAsString();
+        boolean indexed = name.equals("get") && call.getArguments().size() == 1
+                || name.equals("set") && call.getArguments().size() == 2;
+        if (!indexed || call.getScope().isEmpty() || !PerformanceChecks.inLoop(call)) {
+            return;
+        }
+        if (PerformanceChecks.heldClass(call.getScope().get()).equals("LinkedList")) {
+            PerformanceChecks.report(this, Severity.HIGH, call,
+                    "LinkedList." + name + "(index) in a loop walks the list on every pass; iterate it instead",
+                    result);
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package com.codeenhancer.java_code_enhancer.rules;
+
+import com.codeenhancer.java_code_enhancer.analysis.JavaParserPool;
+import com.codeenhancer.java_code_enhancer.analysis.NodeCollector;
+import com.github.javaparser.ast.Node;
+
+/**
+ * One modernization rule: the metrics and warnings it contributes and,
+ * optionally, the rewrite it applies. The rule is offered only the nodes of
+ * the types it declares, during the single scan of the tree; nodes it wants
+ * rewritten are reported as {@link com.codeenhancer.java_code_enhancer.analysis.RewriteCandidate}s
+ * of this rule and handed back to {@link #rewrite} when the tree is transformed.
+ * <p>
+ * Rules are stateless and shared by all threads. Additional rules are picked
+ * up as Spring beans of this type and run after the built-in ones.
+ */
+public interface ModernizationRule extends NodeCollector {
+
+    /**
+     * Stable identifier, used to turn the rule on or off and in metric tags
+     */
+    String id();
+
+    /**
+     * Version of the rule's output. Bump it whenever the rule changes what it
+     * reports or rewrites, so cached results of the older rule are not reused.
+     */
+    default int version() {
+        return 1;
+    }
+
+    /**
+     * @return Whether the rule reports rewrite candidates
+     */
+    default boolean rewrites() {
+        return false;
+    }
+
+    /**
+     * Whether rewriting a candidate would change it. Checks too costly for the
+     * scan, such as resolving types or following a variable's uses, belong
+     * here; a candidate the rule does not apply to is neither rewritten nor
+     * reported as applied.
+     *
+     * @param node Candidate node, still attached to the tree
+     */
+    default boolean appliesTo(Node node) {
+        return true;
+    }
+
+    /**
+     * Rewrite a node this rule reported as a candidate and {@link #appliesTo}
+     *
+     * @param node    Candidate node, still attached to the tree
+     * @param parsers Parsers for code the rewrite builds from text
+     * @return Subtree created from source text, scanned for candidates of later rules, or null
+     */
+    default Node rewrite(Node node, JavaParserPool parsers) {
+        throw new UnsupportedOperationException("Rule " + id() + " does not rewrite");
+    }
+}
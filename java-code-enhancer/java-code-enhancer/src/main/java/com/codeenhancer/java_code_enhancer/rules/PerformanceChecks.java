@@ -0,0 +1,315 @@
+package com.codeenhancer.java_code_enhancer.rules;
+
+import com.codeenhancer.java_code_enhancer.analysis.ScanResult;
+import com.codeenhancer.java_code_enhancer.dto.PerformanceFinding;
+import com.codeenhancer.java_code_enhancer.dto.Severity;
+import com.github.javaparser.Position;
+import com.github.javaparser.ast.Node;
+import com.github.javaparser.ast.NodeList;
+import com.github.javaparser.ast.body.BodyDeclaration;
+import com.github.javaparser.ast.body.CallableDeclaration;
+import com.github.javaparser.ast.body.FieldDeclaration;
+import com.github.javaparser.ast.body.Parameter;
+import com.github.javaparser.ast.body.TypeDeclaration;
+import com.github.javaparser.ast.body.VariableDeclarator;
+import com.github.javaparser.ast.expr.Expression;
+import com.github.javaparser.ast.expr.FieldAccessExpr;
+import com.github.javaparser.ast.expr.LambdaExpr;
+import com.github.javaparser.ast.expr.NameExpr;
+import com.github.javaparser.ast.expr.ObjectCreationExpr;
+import com.github.javaparser.ast.expr.ThisExpr;
+import com.github.javaparser.ast.expr.VariableDeclarationExpr;
+import com.github.javaparser.ast.stmt.BlockStmt;
+import com.github.javaparser.ast.stmt.CatchClause;
+import com.github.javaparser.ast.stmt.DoStmt;
+import com.github.javaparser.ast.stmt.ExpressionStmt;
+import com.github.javaparser.ast.stmt.ForEachStmt;
+import com.github.javaparser.ast.stmt.ForStmt;
+import com.github.javaparser.ast.stmt.Statement;
+import com.github.javaparser.ast.stmt.SwitchEntry;
+import com.github.javaparser.ast.stmt.TryStmt;
+import com.github.javaparser.ast.stmt.WhileStmt;
+import com.github.javaparser.ast.type.Type;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Where a node runs and what a variable holds, as far as the surrounding tree
+ * tells without resolving types. The performance rules look only upwards from
+ * the node they are offered, so they add no traversal of their own; the
+ * checks on a variable's uses are made only when a rewrite is about to be
+ * applied.
+ */
+final class PerformanceChecks {
+
+    static final Set<String> WRAPPERS = Set.of(
+            "Integer", "Long", "Double", "Float", "Short", "Byte", "Character");
+
+    private PerformanceChecks() {
+    }
+
+    /**
+     * Innermost loop that runs the node on every pass: from its body, or from
+     * the condition and update of a for or while loop. Loops outside the
+     * enclosing method, initializer or lambda do not count.
+     */
+    static Optional<Statement> enclosingLoop(Node node) {
+        Node child = node;
+        for (Node parent = node.getParentNode().orElse(null); parent != null;
+             child = parent, parent = parent.getParentNode().orElse(null)) {
+            if (parent instanceof BodyDeclaration || parent instanceof LambdaExpr) {
+                return Optional.empty();
+            }
+            if (parent instanceof ForStmt) {
+                ForStmt loop = (ForStmt) parent;
+                if (!containsSame(loop.getInitialization(), child)) {
+                    return Optional.of(loop);
+                }
+            } else if (parent instanceof ForEachStmt) {
+                // The iterable is evaluated once
+                if (((ForEachStmt) parent).getBody() == child) {
+                    return Optional.of((ForEachStmt) parent);
+                }
+            } else if (parent instanceof WhileStmt || parent instanceof DoStmt) {
+                return Optional.of((Statement) parent);
+            }
+        }
+        return Optional.empty();
+    }
+
+    static boolean inLoop(Node node) {
+        return enclosingLoop(node).isPresent();
+    }
+
+    /**
+     * Nearest ancestor of a type. Node.findAncestor takes the types as
+     * varargs, which is an unchecked generic array for generic node types.
+     */
+    static <N extends Node> Optional<N> ancestor(Node node, Class<N> type) {
+        for (Node parent = node.getParentNode().orElse(null); parent != null;
+             parent = parent.getParentNode().orElse(null)) {
+            if (type.isInstance(parent)) {
+                return Optional.of(type.cast(parent));
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Declaration of the local variable, parameter or field a name or
+     * {@code this.name} refers to: a {@link VariableDeclarator} or a
+     * {@link Parameter}
+     */
+    static Optional<Node> declaration(Expression target) {
+        if (target instanceof NameExpr) {
+            return declaration(((NameExpr) target).getNameAsString(), target);
+        }
+        if (target instanceof FieldAccessExpr && ((FieldAccessExpr) target).getScope() instanceof ThisExpr) {
+            String name = ((FieldAccessExpr) target).getNameAsString();
+            return ancestor(target, TypeDeclaration.class).flatMap(type -> field(type, name));
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Simple name of the class a declared variable holds: the class it is
+     * initialized with by {@code new}, else its declared type. Empty when
+     * neither says, as for {@code var} with another initializer.
+     */
+    static String heldClass(Node declaration) {
+        if (declaration instanceof Parameter) {
+            return simpleName(((Parameter) declaration).getType());
+        }
+        VariableDeclarator variable = (VariableDeclarator) declaration;
+        Optional<Expression> initializer = variable.getInitializer();
+        if (initializer.isPresent() && initializer.get() instanceof ObjectCreationExpr) {
+            return ((ObjectCreationExpr) initializer.get()).getType().getNameAsString();
+        }
+        if (variable.getType().isVarType()) {
+            return initializer.filter(Expression::isStringLiteralExpr).isPresent() ? "String" : "";
+        }
+        return simpleName(variable.getType());
+    }
+
+    /**
+     * Class held by the variable an expression names, empty when unknown
+     */
+    static String heldClass(Expression target) {
+        return declaration(target).map(PerformanceChecks::heldClass).orElse("");
+    }
+
+    /**
+     * Every use of a variable in a subtree, by its simple name
+     */
+    static List<NameExpr> uses(Node scope, String name) {
+        return scope.findAll(NameExpr.class, use -> use.getNameAsString().equals(name));
+    }
+
+    /**
+     * Whether a subtree declares a variable or parameter of the name, which
+     * would hide the one outside
+     */
+    static boolean declares(Node scope, String name) {
+        return !scope.findAll(VariableDeclarator.class, variable -> variable.getNameAsString().equals(name)).isEmpty()
+                || !scope.findAll(Parameter.class, parameter -> parameter.getNameAsString().equals(name)).isEmpty();
+    }
+
+    /**
+     * Whether a use sits in a lambda or a local or anonymous class inside the
+     * scope, which may run it later or on another thread
+     */
+    static boolean isCaptured(Node use, Node scope) {
+        for (Node parent = use.getParentNode().orElse(null); parent != null && parent != scope;
+             parent = parent.getParentNode().orElse(null)) {
+            if (parent instanceof LambdaExpr || parent instanceof TypeDeclaration
+                    || parent instanceof ObjectCreationExpr && ((ObjectCreationExpr) parent).getAnonymousClassBody().isPresent()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Statement that declares a local variable, when it is a statement of a
+     * block
+     */
+    static Optional<ExpressionStmt> declaringStatement(VariableDeclarator variable) {
+        return variable.getParentNode()
+                .filter(VariableDeclarationExpr.class::isInstance)
+                .flatMap(Node::getParentNode)
+                .filter(ExpressionStmt.class::isInstance)
+                .map(ExpressionStmt.class::cast)
+                .filter(statement -> statement.getParentNode().filter(BlockStmt.class::isInstance).isPresent());
+    }
+
+    /**
+     * Make sure the compilation unit can refer to a java.util class by its
+     * simple name, adding an import when it cannot
+     */
+    static void importUtil(Node node, String simpleName) {
+        node.findCompilationUnit().ifPresent(cu -> {
+            boolean imported = cu.getImports().stream().anyMatch(declaration -> !declaration.isStatic()
+                    && (declaration.isAsterisk() && declaration.getNameAsString().equals("java.util")
+                    || !declaration.isAsterisk() && declaration.getNameAsString().equals("java.util." + simpleName)));
+            if (!imported) {
+                cu.addImport("java.util." + simpleName);
+            }
+        });
+    }
+
+    static void report(ModernizationRule rule, Severity severity, Node node, String message, ScanResult result) {
+        Optional<Position> begin = node.getBegin();
+        result.addFinding(PerformanceFinding.builder()
+                .rule(rule.id())
+                .severity(severity)
+                .line(begin.map(position -> position.line).orElse(0))
+                .column(begin.map(position -> position.column).orElse(0))
+                .message(message)
+                .build());
+    }
+
+    private static Optional<Node> declaration(String name, Node use) {
+        Node child = use;
+        for (Node scope = use.getParentNode().orElse(null); scope != null;
+             child = scope, scope = scope.getParentNode().orElse(null)) {
+            Optional<Node> found = declaredIn(scope, child, name);
+            if (found.isPresent()) {
+                return found;
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Declaration of a name in one scope, visible from the given child of it
+     */
+    private static Optional<Node> declaredIn(Node scope, Node child, String name) {
+        if (scope instanceof BlockStmt) {
+            return declaredBefore(((BlockStmt) scope).getStatements(), child, name);
+        }
+        if (scope instanceof SwitchEntry) {
+            return declaredBefore(((SwitchEntry) scope).getStatements(), child, name);
+        }
+        if (scope instanceof ForStmt) {
+            for (Expression init : ((ForStmt) scope).getInitialization()) {
+                Optional<Node> found = variable(init, name);
+                if (found.isPresent()) {
+                    return found;
+                }
+            }
+        } else if (scope instanceof ForEachStmt) {
+            return variable(((ForEachStmt) scope).getVariable(), name);
+        } else if (scope instanceof TryStmt) {
+            for (Expression resource : ((TryStmt) scope).getResources()) {
+                Optional<Node> found = variable(resource, name);
+                if (found.isPresent()) {
+                    return found;
+                }
+            }
+        } else if (scope instanceof CatchClause) {
+            Parameter parameter = ((CatchClause) scope).getParameter();
+            return parameter.getNameAsString().equals(name) ? Optional.of(parameter) : Optional.empty();
+        } else if (scope instanceof CallableDeclaration) {
+            return ((CallableDeclaration<?>) scope).getParameterByName(name).map(Node.class::cast);
+        } else if (scope instanceof LambdaExpr) {
+            return ((LambdaExpr) scope).getParameters().stream()
+                    .filter(parameter -> parameter.getNameAsString().equals(name))
+                    .findFirst()
+                    .map(Node.class::cast);
+        } else if (scope instanceof TypeDeclaration) {
+            return field((TypeDeclaration<?>) scope, name);
+        }
+        return Optional.empty();
+    }
+
+    private static Optional<Node> declaredBefore(List<Statement> statements, Node child, String name) {
+        Optional<Node> found = Optional.empty();
+        for (Statement statement : statements) {
+            if (statement == child) {
+                break;
+            }
+            if (statement instanceof ExpressionStmt) {
+                // A later declaration of the same name shadows an earlier one
+                Optional<Node> declared = variable(((ExpressionStmt) statement).getExpression(), name);
+                if (declared.isPresent()) {
+                    found = declared;
+                }
+            }
+        }
+        return found;
+    }
+
+    private static Optional<Node> variable(Expression expression, String name) {
+        if (!(expression instanceof VariableDeclarationExpr)) {
+            return Optional.empty();
+        }
+        return ((VariableDeclarationExpr) expression).getVariables().stream()
+                .filter(variable -> variable.getNameAsString().equals(name))
+                .findFirst()
+                .map(Node.class::cast);
+    }
+
+    private static Optional<Node> field(TypeDeclaration<?> type, String name) {
+        return type.getFieldByName(name)
+                .map(FieldDeclaration::getVariables)
+                .flatMap(variables -> variables.stream()
+                        .filter(variable -> variable.getNameAsString().equals(name))
+                        .findFirst())
+                .map(Node.class::cast);
+    }
+
+    private static String simpleName(Type type) {
+        return type.isClassOrInterfaceType() ? type.asClassOrInterfaceType().getNameAsString() : type.asString();
+    }
+
+    private static boolean containsSame(NodeList<? extends Node> nodes, Node node) {
+        for (Node candidate : nodes) {
+            if (candidate == node) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,198 @@
+package com.codeenhancer.java_code_enhancer.rules;
+
+import com.codeenhancer.java_code_enhancer.analysis.JavaParserPool;
+import com.codeenhancer.java_code_enhancer.analysis.ScanResult;
+import com.github.javaparser.ast.Node;
+import com.github.javaparser.ast.body.Parameter;
+import com.github.javaparser.ast.body.VariableDeclarator;
+import com.github.javaparser.ast.expr.BinaryExpr;
+import com.github.javaparser.ast.expr.Expression;
+import com.github.javaparser.ast.expr.FieldAccessExpr;
+import com.github.javaparser.ast.expr.IntegerLiteralExpr;
+import com.github.javaparser.ast.expr.MethodCallExpr;
+import com.github.javaparser.ast.expr.NameExpr;
+import com.github.javaparser.ast.expr.ObjectCreationExpr;
+import com.github.javaparser.ast.expr.UnaryExpr;
+import com.github.javaparser.ast.expr.VariableDeclarationExpr;
+import com.github.javaparser.ast.stmt.BlockStmt;
+import com.github.javaparser.ast.stmt.ExpressionStmt;
+import com.github.javaparser.ast.stmt.ForEachStmt;
+import com.github.javaparser.ast.stmt.ForStmt;
+import com.github.javaparser.ast.stmt.Statement;
+
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Give an ArrayList filled by the loop right after it the capacity the loop
+ * needs, so it is not copied into larger arrays as it grows.
+ * <p>
+ * The loop must add to the list on every pass, and its length must be known
+ * before it starts: the size of a collection, the length of an array, or the
+ * bound of a counting for loop. The capacity is only a hint, so the list
+ * behaves the same either way.
+ */
+final class PresizedListRule extends TypedRule<ObjectCreationExpr> {
+    private static final Set<String> SIZED = Set.of(
+            "Collection", "List", "ArrayList", "LinkedList", "Set", "HashSet", "LinkedHashSet", "TreeSet",
+            "SortedSet", "Queue", "Deque", "ArrayDeque");
+
+    PresizedListRule() {
+        super("presized_list", ObjectCreationExpr.class);
+    }
+
+    @Override
+    public boolean rewrites() {
+        return true;
+    }
+
+    @Override
+    protected void inspect(ObjectCreationExpr creation, ScanResult result) {
+        if (creation.getType().getNameAsString().equals("ArrayList") && creation.getArguments().isEmpty()
+                && creation.getAnonymousClassBody().isEmpty() && nextLoop(creation).isPresent()) {
+            candidate(creation, result);
+        }
+    }
+
+    @Override
+    protected boolean canRewrite(ObjectCreationExpr creation) {
+        return nextLoop(creation).flatMap(loop -> capacity(loop, listName(creation))).isPresent();
+    }
+
+    @Override
+    protected Node apply(ObjectCreationExpr creation, JavaParserPool parsers) {
+        Statement loop = nextLoop(creation).orElseThrow();
+        creation.addArgument(capacity(loop, listName(creation)).orElseThrow().clone());
+        return null;
+    }
+
+    private static String listName(ObjectCreationExpr creation) {
+        return ((VariableDeclarator) creation.getParentNode().orElseThrow()).getNameAsString();
+    }
+
+    /**
+     * The for or for-each loop that directly follows the declaration the
+     * list is created in
+     */
+    private static Optional<Statement> nextLoop(ObjectCreationExpr creation) {
+        Optional<ExpressionStmt> declaration = creation.getParentNode()
+                .filter(VariableDeclarator.class::isInstance)
+                .flatMap(variable -> PerformanceChecks.declaringStatement((VariableDeclarator) variable));
+        if (declaration.isEmpty()) {
+            return Optional.empty();
+        }
+        BlockStmt block = (BlockStmt) declaration.get().getParentNode().orElseThrow();
+        int next = block.getStatements().indexOf(declaration.get()) + 1;
+        if (next >= block.getStatements().size()) {
+            return Optional.empty();
+        }
+        Statement statement = block.getStatement(next);
+        return statement instanceof ForEachStmt || statement instanceof ForStmt
+                ? Optional.of(statement) : Optional.empty();
+    }
+
+    /**
+     * Number of passes of the loop, when it adds to the list on every pass
+     */
+    private static Optional<Expression> capacity(Statement loop, String list) {
+        Statement body = loop instanceof ForEachStmt ? ((ForEachStmt) loop).getBody() : ((ForStmt) loop).getBody();
+        if (!addsEveryPass(body, list)) {
+            return Optional.empty();
+        }
+        Optional<Expression> passes = loop instanceof ForEachStmt
+                ? elements(((ForEachStmt) loop).getIterable())
+                : bound((ForStmt) loop);
+        return passes.filter(expression -> PerformanceChecks.uses(expression, list).isEmpty());
+    }
+
+    /**
+     * Whether the body is, or has at its top level, a statement that adds
+     * one element to the list
+     */
+    private static boolean addsEveryPass(Statement body, String list) {
+        if (body instanceof BlockStmt) {
+            return ((BlockStmt) body).getStatements().stream().anyMatch(statement -> isAdd(statement, list));
+        }
+        return isAdd(body, list);
+    }
+
+    private static boolean isAdd(Statement statement, String list) {
+        if (!(statement instanceof ExpressionStmt)
+                || !(((ExpressionStmt) statement).getExpression() instanceof MethodCallExpr)) {
+            return false;
+        }
+        MethodCallExpr call = (MethodCallExpr) ((ExpressionStmt) statement).getExpression();
+        return call.getNameAsString().equals("add") && call.getArguments().size() == 1
+                && call.getScope().filter(scope -> scope instanceof NameExpr
+                && ((NameExpr) scope).getNameAsString().equals(list)).isPresent();
+    }
+
+    /**
+     * {@code xs.size()} or {@code xs.length} for a collection or array a
+     * for-each loop iterates
+     */
+    private static Optional<Expression> elements(Expression iterable) {
+        if (!(iterable instanceof NameExpr)) {
+            return Optional.empty();
+        }
+        Optional<Node> declaration = PerformanceChecks.declaration(iterable);
+        if (declaration.isEmpty()) {
+            return Optional.empty();
+        }
+        String held = PerformanceChecks.heldClass(declaration.get());
+        boolean varArgs = declaration.get() instanceof Parameter && ((Parameter) declaration.get()).isVarArgs();
+        if (varArgs || held.endsWith("[]")) {
+            return Optional.of(new FieldAccessExpr(iterable.clone(), "length"));
+        }
+        if (SIZED.contains(held)) {
+            return Optional.of(new MethodCallExpr(iterable.clone(), "size"));
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Bound of {@code for (int i = 0; i < bound; i++)}, when it is a literal,
+     * a length or a size; a plain variable could be negative
+     */
+    private static Optional<Expression> bound(ForStmt loop) {
+        if (loop.getInitialization().size() != 1 || loop.getUpdate().size() != 1
+                || !(loop.getInitialization().get(0) instanceof VariableDeclarationExpr)) {
+            return Optional.empty();
+        }
+        VariableDeclarationExpr init = (VariableDeclarationExpr) loop.getInitialization().get(0);
+        if (init.getVariables().size() != 1 || !init.getVariable(0).getType().asString().equals("int")
+                || !init.getVariable(0).getInitializer().filter(value -> value instanceof IntegerLiteralExpr
+                && ((IntegerLiteralExpr) value).getValue().equals("0")).isPresent()) {
+            return Optional.empty();
+        }
+        String counter = init.getVariable(0).getNameAsString();
+        if (!isIncrement(loop.getUpdate().get(0), counter)) {
+            return Optional.empty();
+        }
+        Optional<Expression> compare = loop.getCompare();
+        if (compare.isEmpty() || !(compare.get() instanceof BinaryExpr)) {
+            return Optional.empty();
+        }
+        BinaryExpr less = (BinaryExpr) compare.get();
+        if (less.getOperator() != BinaryExpr.Operator.LESS || !less.getLeft().equals(new NameExpr(counter))) {
+            return Optional.empty();
+        }
+        Expression bound = less.getRight();
+        boolean known = bound instanceof IntegerLiteralExpr
+                || bound instanceof FieldAccessExpr && ((FieldAccessExpr) bound).getNameAsString().equals("length")
+                && ((FieldAccessExpr) bound).getScope() instanceof NameExpr
+                || bound instanceof MethodCallExpr && ((MethodCallExpr) bound).getNameAsString().equals("size")
+                && ((MethodCallExpr) bound).getArguments().isEmpty()
+                && ((MethodCallExpr) bound).getScope().filter(NameExpr.class::isInstance).isPresent();
+        return known ? Optional.of(bound) : Optional.empty();
+    }
+
+    private static boolean isIncrement(Expression update, String counter) {
+        if (update instanceof UnaryExpr) {
+            UnaryExpr.Operator operator = ((UnaryExpr) update).getOperator();
+            return (operator == UnaryExpr.Operator.POSTFIX_INCREMENT || operator == UnaryExpr.Operator.PREFIX_INCREMENT)
+                    && ((UnaryExpr) update).getExpression().equals(new NameExpr(counter));
+        }
+        return false;
+    }
+}
@@ -0,0 +1,79 @@
+package com.codeenhancer.java_code_enhancer.rules;
+
+import com.codeenhancer.java_code_enhancer.analysis.ScanResult;
+import com.codeenhancer.java_code_enhancer.dto.Severity;
+import com.github.javaparser.ast.expr.Expression;
+import com.github.javaparser.ast.expr.FieldAccessExpr;
+import com.github.javaparser.ast.expr.MethodCallExpr;
+import com.github.javaparser.ast.expr.NameExpr;
+import com.github.javaparser.ast.expr.StringLiteralExpr;
+
+import java.util.Map;
+
+/**
+ * Report regular expressions compiled on every pass of a loop, by
+ * Pattern.compile or by the String methods that take a regex
+ */
+final class RegexInLoopRule extends TypedRule<MethodCallExpr> {
+    /** String methods that compile their first argument, by argument count */
+    private static final Map<String, Integer> STRING_METHODS = Map.of(
+            "matches", 1,
+            "replaceAll", 2,
+            "replaceFirst", 2,
+            "split", 1);
+
+    private static final String REGEX_META = ".$|()[{^?*+\\";
+
+    RegexInLoopRule() {
+        super("regex_in_loop", MethodCallExpr.class);
+    }
+
+    @Override
+    protected void inspect(MethodCallExpr call, ScanResult result) {
+        String name = call.getNameAsString();
+        if (name.equals("compile") && call.getScope().filter(RegexInLoopRule::isPattern).isPresent()) {
+            if (PerformanceChecks.inLoop(call)) {
+                PerformanceChecks.report(this, Severity.HIGH, call,
+                        "Pattern.compile in a loop compiles the pattern on every pass; compile it once into a constant",
+                        result);
+            }
+            return;
+        }
+
+        Integer arguments = STRING_METHODS.get(name);
+        int count = call.getArguments().size();
+        if (arguments == null || call.getScope().isEmpty()
+                || !(count == arguments || name.equals("split") && count == 2)
+                || isFastSplit(call) || !PerformanceChecks.inLoop(call)) {
+            return;
+        }
+        Expression scope = call.getScope().get();
+        String held = PerformanceChecks.heldClass(scope);
+        // Pattern.split and Matcher.matches take no regex
+        if (!held.isEmpty() && !held.equals("String")) {
+            return;
+        }
+        PerformanceChecks.report(this, Severity.MEDIUM, call,
+                "String." + name + " in a loop compiles its regex on every pass; use a precompiled Pattern", result);
+    }
+
+    /**
+     * Whether a scope names the Pattern class, by its simple or qualified name
+     */
+    private static boolean isPattern(Expression scope) {
+        return scope instanceof NameExpr && ((NameExpr) scope).getNameAsString().equals("Pattern")
+                || scope instanceof FieldAccessExpr && scope.toString().equals("java.util.regex.Pattern");
+    }
+
+    /**
+     * String.split skips the regex engine for a single literal character
+     */
+    private static boolean isFastSplit(MethodCallExpr call) {
+        if (!call.getNameAsString().equals("split") || !(call.getArgument(0) instanceof StringLiteralExpr)) {
+            return false;
+        }
+        String regex = ((StringLiteralExpr) call.getArgument(0)).asString();
+        return regex.length() == 1 && REGEX_META.indexOf(regex.charAt(0)) < 0
+                || regex.length() == 2 && regex.charAt(0) == '\\' && !Character.isLetterOrDigit(regex.charAt(1));
+    }
+}
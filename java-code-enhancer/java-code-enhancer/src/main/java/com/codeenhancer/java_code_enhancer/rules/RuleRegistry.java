@@ -0,0 +1,100 @@
+package com.codeenhancer.java_code_enhancer.rules;
+
+import com.codeenhancer.java_code_enhancer.config.CodeEnhancerProperties;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.stream.Collectors;
+
+/**
+ * All known rules, and the rule set to use for a tenant and request.
+ * <p>
+ * The built-in rules come first, followed by every {@link ModernizationRule}
+ * bean in bean order. Which of them run is decided in three steps: the
+ * globally disabled rules are removed, then the tenant's settings are
+ * applied, then the rules the request turns on or off. Rule sets are cached
+ * by selection, so their dispatch tables are built only once.
+ */
+@Component
+public class RuleRegistry {
+    private final Map<String, ModernizationRule> rules = new LinkedHashMap<>();
+    private final CodeEnhancerProperties.Rules settings;
+    private final ConcurrentMap<Set<String>, RuleSet> ruleSets = new ConcurrentHashMap<>();
+    private final RuleSet defaults;
+
+    public RuleRegistry(CodeEnhancerProperties properties, ObjectProvider<ModernizationRule> additionalRules) {
+        this.settings = properties.getRules();
+        List<ModernizationRule> all = new ArrayList<>(BuiltInRules.all());
+        additionalRules.orderedStream().forEach(all::add);
+        for (ModernizationRule rule : all) {
+            if (rules.putIfAbsent(rule.id(), rule) != null) {
+                throw new IllegalStateException("Duplicate modernization rule id: " + rule.id());
+            }
+        }
+        checkKnown(settings.getDisabled());
+        settings.getTenants().values().forEach(tenant -> {
+            checkKnown(tenant.getEnabled());
+            checkKnown(tenant.getDisabled());
+        });
+        this.defaults = resolve(null, List.of(), List.of());
+    }
+
+    /**
+     * Every known rule, in the order their rewrites are applied
+     */
+    public Collection<ModernizationRule> getRules() {
+        return Collections.unmodifiableCollection(rules.values());
+    }
+
+    /**
+     * Rules enabled by configuration, for requests without tenant or rule selection
+     */
+    public RuleSet getDefaults() {
+        return defaults;
+    }
+
+    /**
+     * Rules for one request
+     *
+     * @param tenant  Tenant of the request, or null
+     * @param enable  Ids of rules the request turns on
+     * @param disable Ids of rules the request turns off
+     * @throws IllegalArgumentException When an id names no known rule
+     */
+    public RuleSet resolve(String tenant, Collection<String> enable, Collection<String> disable) {
+        checkKnown(enable);
+        checkKnown(disable);
+        Set<String> selected = new LinkedHashSet<>(rules.keySet());
+        selected.removeAll(settings.getDisabled());
+        CodeEnhancerProperties.Tenant tenantSettings = tenant == null ? null : settings.getTenants().get(tenant);
+        if (tenantSettings != null) {
+            selected.removeAll(tenantSettings.getDisabled());
+            selected.addAll(tenantSettings.getEnabled());
+        }
+        selected.removeAll(disable);
+        selected.addAll(enable);
+
+        return ruleSets.computeIfAbsent(Set.copyOf(selected), ids -> RuleSet.of(rules.values().stream()
+                .filter(rule -> ids.contains(rule.id()))
+                .collect(Collectors.toList())));
+    }
+
+    private void checkKnown(Collection<String> ids) {
+        for (String id : ids) {
+            if (!rules.containsKey(id)) {
+                throw new IllegalArgumentException("Unknown modernization rule: " + id
+                        + ", known rules are " + String.join(", ", rules.keySet()));
+            }
+        }
+    }
+}
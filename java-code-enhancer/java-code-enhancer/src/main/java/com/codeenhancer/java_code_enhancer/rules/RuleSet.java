@@ -0,0 +1,117 @@
+package com.codeenhancer.java_code_enhancer.rules;
+
+import com.codeenhancer.java_code_enhancer.analysis.AnalysisBudget;
+import com.codeenhancer.java_code_enhancer.analysis.AnalysisCollectors;
+import com.codeenhancer.java_code_enhancer.analysis.FusedAnalysisVisitor;
+import com.codeenhancer.java_code_enhancer.analysis.NodeCollector;
+import com.codeenhancer.java_code_enhancer.analysis.ScanResult;
+import com.github.javaparser.ast.Node;
+import com.google.common.hash.Hashing;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Collectors;
+
+/**
+ * An ordered selection of rules with the dispatch tables that run them.
+ * <p>
+ * Built once per distinct selection and shared by every request using it:
+ * one scan offers each node to the core collectors and to the enabled rules
+ * registered for its type, so enabling more rules never adds a traversal.
+ */
+public final class RuleSet {
+
+    /**
+     * The built-in rules, for callers outside the application context
+     */
+    public static final RuleSet BUILT_IN = of(BuiltInRules.all());
+
+    private final List<ModernizationRule> rules;
+    private final Map<ModernizationRule, Integer> positions = new IdentityHashMap<>();
+    private final FusedAnalysisVisitor scanner;
+    private final FusedAnalysisVisitor rewriteScanner;
+    private final String fingerprint;
+
+    private RuleSet(List<ModernizationRule> rules) {
+        this.rules = List.copyOf(rules);
+        for (int i = 0; i < this.rules.size(); i++) {
+            positions.put(this.rules.get(i), i);
+        }
+
+        List<NodeCollector> all = new ArrayList<>(AnalysisCollectors.core());
+        all.addAll(this.rules);
+        this.scanner = new FusedAnalysisVisitor(all);
+        this.rewriteScanner = new FusedAnalysisVisitor(this.rules.stream()
+                .filter(ModernizationRule::rewrites)
+                .collect(Collectors.toList()));
+
+        String ids = this.rules.stream()
+                .map(rule -> rule.id() + "@" + rule.version())
+                .collect(Collectors.joining(","));
+        this.fingerprint = Hashing.sha256().hashString(ids, StandardCharsets.UTF_8).toString().substring(0, 12);
+    }
+
+    /**
+     * @param rules Rules in the order their rewrites are applied
+     */
+    public static RuleSet of(List<ModernizationRule> rules) {
+        return new RuleSet(rules);
+    }
+
+    /**
+     * Metrics, warnings and rewrite candidates of a tree or subtree
+     */
+    public ScanResult scan(Node root) {
+        return scanner.scan(root);
+    }
+
+    /**
+     * Metrics, warnings and rewrite candidates of a tree, as far as the
+     * budget allows
+     */
+    public ScanResult scan(Node root, AnalysisBudget budget) {
+        return scanner.scan(root, budget);
+    }
+
+    /**
+     * The same as {@link #scan(Node, AnalysisBudget)}, with the parts of the
+     * tree longer than unitLines lines scanned in parallel on the pool
+     */
+    public ScanResult scan(Node root, AnalysisBudget budget, ForkJoinPool pool, int unitLines) {
+        return scanner.scan(root, budget, pool, unitLines);
+    }
+
+    /**
+     * Rewrite candidates of a subtree created by a rewrite. Metrics and
+     * warnings of the result are incomplete.
+     */
+    public ScanResult scanForRewrites(Node root) {
+        return rewriteScanner.scan(root);
+    }
+
+    public ScanResult scanForRewrites(Node root, AnalysisBudget budget) {
+        return rewriteScanner.scan(root, budget);
+    }
+
+    public List<ModernizationRule> getRules() {
+        return rules;
+    }
+
+    /**
+     * Position of a rule in this set, -1 when it is not part of it
+     */
+    public int indexOf(ModernizationRule rule) {
+        return positions.getOrDefault(rule, -1);
+    }
+
+    /**
+     * Short hash of the ids and versions of the rules, part of cache keys
+     */
+    public String getFingerprint() {
+        return fingerprint;
+    }
+}
@@ -0,0 +1,44 @@
+package com.codeenhancer.java_code_enhancer.rules;
+
+import com.codeenhancer.java_code_enhancer.analysis.ScanResult;
+import com.codeenhancer.java_code_enhancer.dto.Severity;
+import com.github.javaparser.ast.expr.MethodCallExpr;
+import com.github.javaparser.ast.expr.NameExpr;
+
+import java.util.Set;
+
+/**
+ * Report streams created on every pass of a loop, where the pipeline setup
+ * often costs more than the work on a few elements
+ */
+final class StreamInLoopRule extends TypedRule<MethodCallExpr> {
+    private static final Set<String> STREAM_TYPES = Set.of(
+            "Stream", "IntStream", "LongStream", "DoubleStream", "Arrays", "StreamSupport");
+    private static final Set<String> FACTORIES = Set.of(
+            "of", "range", "rangeClosed", "stream", "iterate", "generate", "concat");
+
+    StreamInLoopRule() {
+        super("stream_in_loop", MethodCallExpr.class);
+    }
+
+    @Override
+    protected void inspect(MethodCallExpr call, ScanResult result) {
+        if (isStreamCreation(call) && PerformanceChecks.inLoop(call)) {
+            PerformanceChecks.report(this, Severity.LOW, call,
+                    "A stream is created on every pass of a loop; a plain loop avoids the pipeline setup", result);
+        }
+    }
+
+    private static boolean isStreamCreation(MethodCallExpr call) {
+        String name = call.getNameAsString();
+        if (call.getScope().isEmpty()) {
+            return false;
+        }
+        if ((name.equals("stream") || name.equals("parallelStream")) && call.getArguments().isEmpty()) {
+            return true;
+        }
+        return call.getScope().get() instanceof NameExpr
+                && STREAM_TYPES.contains(((NameExpr) call.getScope().get()).getNameAsString())
+                && FACTORIES.contains(name);
+    }
+}
@@ -0,0 +1,277 @@
+package com.codeenhancer.java_code_enhancer.rules;
+
+import com.codeenhancer.java_code_enhancer.analysis.JavaParserPool;
+import com.codeenhancer.java_code_enhancer.analysis.ScanResult;
+import com.codeenhancer.java_code_enhancer.dto.Severity;
+import com.github.javaparser.ast.Node;
+import com.github.javaparser.ast.NodeList;
+import com.github.javaparser.ast.body.BodyDeclaration;
+import com.github.javaparser.ast.body.CallableDeclaration;
+import com.github.javaparser.ast.body.Parameter;
+import com.github.javaparser.ast.body.VariableDeclarator;
+import com.github.javaparser.ast.expr.AssignExpr;
+import com.github.javaparser.ast.expr.BinaryExpr;
+import com.github.javaparser.ast.expr.Expression;
+import com.github.javaparser.ast.expr.MethodCallExpr;
+import com.github.javaparser.ast.expr.NameExpr;
+import com.github.javaparser.ast.expr.NullLiteralExpr;
+import com.github.javaparser.ast.expr.ObjectCreationExpr;
+import com.github.javaparser.ast.expr.StringLiteralExpr;
+import com.github.javaparser.ast.expr.VariableDeclarationExpr;
+import com.github.javaparser.ast.stmt.BlockStmt;
+import com.github.javaparser.ast.stmt.BreakStmt;
+import com.github.javaparser.ast.stmt.ContinueStmt;
+import com.github.javaparser.ast.stmt.ExpressionStmt;
+import com.github.javaparser.ast.stmt.LabeledStmt;
+import com.github.javaparser.ast.stmt.Statement;
+import com.github.javaparser.ast.stmt.TryStmt;
+import com.github.javaparser.ast.type.ClassOrInterfaceType;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Report strings built up with + across the passes of a loop, which copies
+ * the whole string every time, and build them with a StringBuilder instead.
+ * <p>
+ * The rewrite takes a local string or parameter the loop only ever appends
+ * to: it starts a builder before the loop, appends to it inside and stores
+ * the result after, so nothing the loop does not contain sees the change.
+ */
+final class StringConcatInLoopRule extends TypedRule<AssignExpr> {
+
+    StringConcatInLoopRule() {
+        super("string_concat_in_loop", AssignExpr.class);
+    }
+
+    @Override
+    public boolean rewrites() {
+        return true;
+    }
+
+    @Override
+    protected void inspect(AssignExpr assign, ScanResult result) {
+        Expression target = assign.getTarget();
+        if (!isAppend(assign)) {
+            return;
+        }
+        Optional<Statement> loop = PerformanceChecks.enclosingLoop(assign);
+        if (loop.isEmpty()) {
+            return;
+        }
+        Optional<Node> declaration = PerformanceChecks.declaration(target);
+        // A string declared inside the loop starts over on every pass
+        if (declaration.isEmpty() || loop.get().isAncestorOf(declaration.get())
+                || !"String".equals(PerformanceChecks.heldClass(declaration.get()))) {
+            return;
+        }
+        PerformanceChecks.report(this, Severity.HIGH, assign,
+                "String " + target + " is concatenated in a loop; use a StringBuilder", result);
+        candidate(assign, result);
+    }
+
+    @Override
+    protected boolean canRewrite(AssignExpr assign) {
+        if (!(assign.getTarget() instanceof NameExpr)) {
+            return false;
+        }
+        String name = ((NameExpr) assign.getTarget()).getNameAsString();
+        Optional<Statement> loop = PerformanceChecks.enclosingLoop(assign);
+        Optional<Node> declaration = PerformanceChecks.declaration(assign.getTarget());
+        if (loop.isEmpty() || declaration.isEmpty() || !isLocal(declaration.get())) {
+            return false;
+        }
+        Statement outer = labeled(loop.get());
+        if (outer.getParentNode().filter(BlockStmt.class::isInstance).isEmpty()
+                || PerformanceChecks.declares(loop.get(), name)) {
+            return false;
+        }
+        // A jump out of the enclosing loops would skip storing the result
+        if (!loop.get().findAll(BreakStmt.class, jump -> jump.getLabel().isPresent()).isEmpty()
+                || !loop.get().findAll(ContinueStmt.class, jump -> jump.getLabel().isPresent()).isEmpty()) {
+            return false;
+        }
+        for (NameExpr use : PerformanceChecks.uses(loop.get(), name)) {
+            if (PerformanceChecks.isCaptured(use, loop.get()) || !isAppendStatement(use)) {
+                return false;
+            }
+        }
+        return !seenOnFailure(outer, declaration.get(), name);
+    }
+
+    @Override
+    protected Node apply(AssignExpr assign, JavaParserPool parsers) {
+        NameExpr target = (NameExpr) assign.getTarget();
+        String name = target.getNameAsString();
+        Statement loop = PerformanceChecks.enclosingLoop(assign).orElseThrow();
+        Node declaration = PerformanceChecks.declaration(target).orElseThrow();
+        Statement outer = labeled(loop);
+        BlockStmt block = (BlockStmt) outer.getParentNode().orElseThrow();
+        String builder = builderName(loop, name);
+
+        // Every use in the loop was checked to be the target or first operand of an append
+        for (AssignExpr append : loop.findAll(AssignExpr.class, assignment -> assignment.getTarget().equals(target))) {
+            Expression call = new NameExpr(builder);
+            for (Expression part : appended(append)) {
+                call = new MethodCallExpr(call, "append", NodeList.nodeList(part.clone()));
+            }
+            append.replace(call);
+        }
+
+        Expression initial = neverNull(declaration, name)
+                ? new NameExpr(name)
+                : new MethodCallExpr(new NameExpr("String"), "valueOf", NodeList.nodeList(new NameExpr(name)));
+        VariableDeclarator variable = new VariableDeclarator(new ClassOrInterfaceType(null, "StringBuilder"), builder,
+                new ObjectCreationExpr(null, new ClassOrInterfaceType(null, "StringBuilder"), NodeList.nodeList(initial)));
+        int index = block.getStatements().indexOf(outer);
+        block.getStatements().add(index + 1, new ExpressionStmt(new AssignExpr(new NameExpr(name),
+                new MethodCallExpr(new NameExpr(builder), "toString"), AssignExpr.Operator.ASSIGN)));
+        block.getStatements().add(index, new ExpressionStmt(new VariableDeclarationExpr(variable)));
+        return null;
+    }
+
+    /**
+     * {@code s += x} or {@code s = s + x}
+     */
+    private static boolean isAppend(AssignExpr assign) {
+        if (assign.getOperator() == AssignExpr.Operator.PLUS) {
+            return true;
+        }
+        if (assign.getOperator() != AssignExpr.Operator.ASSIGN || !(assign.getValue() instanceof BinaryExpr)) {
+            return false;
+        }
+        Expression left = assign.getValue();
+        while (left instanceof BinaryExpr && ((BinaryExpr) left).getOperator() == BinaryExpr.Operator.PLUS) {
+            left = ((BinaryExpr) left).getLeft();
+        }
+        return left != assign.getValue() && left.equals(assign.getTarget());
+    }
+
+    /**
+     * Operands an append adds to the string, left to right
+     */
+    private static List<Expression> appended(AssignExpr assign) {
+        List<Expression> parts = new ArrayList<>();
+        if (assign.getOperator() == AssignExpr.Operator.PLUS) {
+            parts.add(assign.getValue());
+            return parts;
+        }
+        Expression left = assign.getValue();
+        while (left instanceof BinaryExpr && ((BinaryExpr) left).getOperator() == BinaryExpr.Operator.PLUS) {
+            parts.add(0, ((BinaryExpr) left).getRight());
+            left = ((BinaryExpr) left).getLeft();
+        }
+        return parts;
+    }
+
+    /**
+     * Whether a use of the name is the string an append statement extends,
+     * appending values that convert to text the same way for both
+     */
+    private static boolean isAppendStatement(NameExpr use) {
+        Node parent = use.getParentNode().orElseThrow();
+        AssignExpr append;
+        if (parent instanceof AssignExpr && ((AssignExpr) parent).getTarget() == use) {
+            append = (AssignExpr) parent;
+        } else {
+            // The leftmost operand of s = s + x
+            Node node = parent;
+            while (node instanceof BinaryExpr && ((BinaryExpr) node).getOperator() == BinaryExpr.Operator.PLUS) {
+                node = node.getParentNode().orElseThrow();
+            }
+            if (!(parent instanceof BinaryExpr) || !(node instanceof AssignExpr)
+                    || ((AssignExpr) node).getOperator() != AssignExpr.Operator.ASSIGN) {
+                return false;
+            }
+            append = (AssignExpr) node;
+            Expression left = append.getValue();
+            while (left instanceof BinaryExpr) {
+                left = ((BinaryExpr) left).getLeft();
+            }
+            if (left != use) {
+                return false;
+            }
+        }
+        if (!isAppend(append) || !(append.getParentNode().orElse(null) instanceof ExpressionStmt)) {
+            return false;
+        }
+        for (Expression part : appended(append)) {
+            // String + char[] prints the array reference, append copies its characters;
+            // append(null) does not compile
+            if (part instanceof NullLiteralExpr
+                    || part instanceof NameExpr && PerformanceChecks.heldClass(part).endsWith("[]")) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * A local variable declared in a block, or a parameter of a method or
+     * constructor
+     */
+    private static boolean isLocal(Node declaration) {
+        if (declaration instanceof Parameter) {
+            return declaration.getParentNode().filter(CallableDeclaration.class::isInstance).isPresent();
+        }
+        return PerformanceChecks.declaringStatement((VariableDeclarator) declaration).isPresent();
+    }
+
+    /**
+     * Whether a catch or finally around the loop reads the string, which
+     * would see the value from before the loop if the loop throws
+     */
+    private static boolean seenOnFailure(Statement loop, Node declaration, String name) {
+        for (Node node = loop.getParentNode().orElse(null); node != null && !node.isAncestorOf(declaration);
+             node = node.getParentNode().orElse(null)) {
+            if (node instanceof TryStmt) {
+                TryStmt tryStmt = (TryStmt) node;
+                boolean inCatch = tryStmt.getCatchClauses().stream()
+                        .anyMatch(clause -> !PerformanceChecks.uses(clause, name).isEmpty());
+                boolean inFinally = tryStmt.getFinallyBlock()
+                        .filter(block -> !PerformanceChecks.uses(block, name).isEmpty())
+                        .isPresent();
+                if (inCatch || inFinally) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Whether the string starts from a literal and only ever grows
+     */
+    private static boolean neverNull(Node declaration, String name) {
+        if (!(declaration instanceof VariableDeclarator)
+                || !((VariableDeclarator) declaration).getInitializer().filter(StringLiteralExpr.class::isInstance).isPresent()) {
+            return false;
+        }
+        Node body = PerformanceChecks.ancestor(declaration, BodyDeclaration.class).map(Node.class::cast).orElse(declaration);
+        return body.findAll(AssignExpr.class, assign -> assign.getTarget() instanceof NameExpr
+                        && ((NameExpr) assign.getTarget()).getNameAsString().equals(name))
+                .stream()
+                .allMatch(StringConcatInLoopRule::isAppend);
+    }
+
+    /**
+     * Name for the builder that no variable of the method uses yet
+     */
+    private static String builderName(Node loop, String name) {
+        Node body = PerformanceChecks.ancestor(loop, BodyDeclaration.class).map(Node.class::cast).orElse(loop);
+        String builder = name + "Builder";
+        for (int i = 2; PerformanceChecks.declares(body, builder) || !PerformanceChecks.uses(body, builder).isEmpty(); i++) {
+            builder = name + "Builder" + i;
+        }
+        return builder;
+    }
+
+    private static Statement labeled(Statement loop) {
+        Statement outer = loop;
+        while (outer.getParentNode().orElse(null) instanceof LabeledStmt) {
+            outer = (Statement) outer.getParentNode().orElseThrow();
+        }
+        return outer;
+    }
+}
@@ -0,0 +1,84 @@
+package com.codeenhancer.java_code_enhancer.rules;
+
+import com.codeenhancer.java_code_enhancer.analysis.JavaParserPool;
+import com.codeenhancer.java_code_enhancer.analysis.ScanResult;
+import com.github.javaparser.ast.Node;
+import com.github.javaparser.ast.NodeList;
+import com.github.javaparser.ast.expr.StringLiteralExpr;
+import com.github.javaparser.ast.stmt.ExpressionStmt;
+import com.github.javaparser.ast.stmt.ReturnStmt;
+import com.github.javaparser.ast.stmt.Statement;
+import com.github.javaparser.ast.stmt.SwitchEntry;
+import com.github.javaparser.ast.stmt.SwitchStmt;
+import com.github.javaparser.ast.stmt.YieldStmt;
+
+import static com.codeenhancer.java_code_enhancer.analysis.ModernizationPatterns.isModernizableSwitch;
+
+/**
+ * Enhance Switch Expressions (Java 14+)
+ */
+final class SwitchRule extends TypedRule<SwitchStmt> {
+
+    SwitchRule() {
+        super("switch", SwitchStmt.class);
+    }
+
+    @Override
+    public boolean rewrites() {
+        return true;
+    }
+
+    @Override
+    protected void inspect(SwitchStmt switchStmt, ScanResult result) {
+        if (isModernizableSwitch(switchStmt)) {
+            result.addModernizationOpportunity();
+            candidate(switchStmt, result);
+        }
+    }
+
+    @Override
+    protected Node apply(SwitchStmt switchStmt, JavaParserPool parsers) {
+        // Process each case
+        for (SwitchEntry entry : switchStmt.getEntries()) {
+            NodeList<Statement> statements = entry.getStatements();
+            if (statements.isEmpty()) continue;
+
+            // Convert case labels
+            StringBuilder arrowCase = new StringBuilder();
+            if (entry.getLabels().isEmpty()) {
+                arrowCase.append("default");
+            } else {
+                arrowCase.append("case ").append(entry.getLabels().get(0));
+            }
+
+            // Convert to yield statements for returns
+            if (statements.size() == 1) {
+                Statement stmt = statements.get(0);
+                if (stmt.isReturnStmt()) {
+                    ReturnStmt returnStmt = (ReturnStmt) stmt;
+                    YieldStmt yieldStmt = new YieldStmt();
+                    returnStmt.getExpression().ifPresent(yieldStmt::setExpression);
+                    statements.set(0, yieldStmt);
+                }
+            }
+
+            // Build the arrow syntax
+            arrowCase.append(" -> ");
+            if (statements.size() == 1) {
+                arrowCase.append(statements.get(0).toString().trim());
+            } else {
+                arrowCase.append("{ ")
+                        .append(String.join("; ", statements.stream()
+                                .map(Statement::toString)
+                                .toArray(String[]::new)))
+                        .append(" }");
+            }
+
+            // Update the entry
+            entry.setStatements(new NodeList<>(new ExpressionStmt(
+                    new StringLiteralExpr(arrowCase.toString())
+            )));
+        }
+        return null;
+    }
+}
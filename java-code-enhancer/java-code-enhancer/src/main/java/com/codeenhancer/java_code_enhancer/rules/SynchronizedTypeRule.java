@@ -0,0 +1,252 @@
+package com.codeenhancer.java_code_enhancer.rules;
+
+import com.codeenhancer.java_code_enhancer.analysis.JavaParserPool;
+import com.codeenhancer.java_code_enhancer.analysis.ScanResult;
+import com.codeenhancer.java_code_enhancer.symbols.ProjectTypeIndex;
+import com.github.javaparser.ast.CompilationUnit;
+import com.github.javaparser.ast.ImportDeclaration;
+import com.github.javaparser.ast.Node;
+import com.github.javaparser.ast.body.TypeDeclaration;
+import com.github.javaparser.ast.body.VariableDeclarator;
+import com.github.javaparser.ast.expr.BinaryExpr;
+import com.github.javaparser.ast.expr.Expression;
+import com.github.javaparser.ast.expr.MethodCallExpr;
+import com.github.javaparser.ast.expr.NameExpr;
+import com.github.javaparser.ast.expr.NullLiteralExpr;
+import com.github.javaparser.ast.expr.ObjectCreationExpr;
+import com.github.javaparser.ast.stmt.BlockStmt;
+import com.github.javaparser.ast.stmt.ExpressionStmt;
+import com.github.javaparser.ast.stmt.ForEachStmt;
+import com.github.javaparser.ast.type.ClassOrInterfaceType;
+import com.github.javaparser.ast.type.Type;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Replace StringBuffer, Vector and Hashtable held in a local variable with
+ * their unsynchronized counterparts, when the object never leaves the method.
+ * <p>
+ * Every use of the variable must call a method both classes share, with the
+ * same result; a use that passes, returns, stores, locks or captures the
+ * object keeps the synchronized class. Hashtable is kept when its iteration
+ * order could show, since HashMap iterates in another order. A class of the
+ * same name from another package, declared or imported by the source or
+ * declared in its package, is left alone.
+ */
+final class SynchronizedTypeRule extends TypedRule<ObjectCreationExpr> {
+    private static final Map<String, String> REPLACEMENTS = Map.of(
+            "StringBuffer", "StringBuilder",
+            "Vector", "ArrayList",
+            "Hashtable", "HashMap");
+
+    /** Package of the replaced classes and of their replacements */
+    private static final Map<String, String> PACKAGES = Map.of(
+            "StringBuffer", "java.lang",
+            "Vector", "java.util",
+            "Hashtable", "java.util");
+
+    /** Types a variable may be declared with besides the class itself */
+    private static final Map<String, Set<String>> DECLARED_AS = Map.of(
+            "StringBuffer", Set.of("CharSequence", "Appendable", "Object"),
+            "Vector", Set.of("List", "Collection", "Iterable", "AbstractList", "Object"),
+            "Hashtable", Set.of("Map", "Object"));
+
+    /** Methods that return the object itself */
+    private static final Set<String> BUFFER_CHAINED = Set.of(
+            "append", "appendCodePoint", "insert", "reverse", "delete", "deleteCharAt", "replace");
+
+    private static final Map<String, Set<String>> SHARED_METHODS = Map.of(
+            "StringBuffer", Set.of("append", "appendCodePoint", "insert", "reverse", "delete", "deleteCharAt",
+                    "replace", "setLength", "setCharAt", "ensureCapacity", "trimToSize", "getChars", "toString",
+                    "length", "charAt", "indexOf", "lastIndexOf", "substring", "subSequence", "capacity",
+                    "codePointAt", "isEmpty"),
+            "Vector", Set.of("add", "addAll", "get", "set", "remove", "removeAll", "retainAll", "removeIf",
+                    "size", "isEmpty", "contains", "containsAll", "indexOf", "lastIndexOf", "clear", "toArray",
+                    "sort", "forEach", "ensureCapacity", "trimToSize", "equals", "hashCode", "toString"),
+            "Hashtable", Set.of("put", "putAll", "putIfAbsent", "get", "getOrDefault", "containsKey",
+                    "containsValue", "remove", "replace", "compute", "computeIfAbsent", "computeIfPresent",
+                    "merge", "size", "isEmpty", "clear", "equals", "hashCode"));
+
+    SynchronizedTypeRule() {
+        super("synchronized_type", ObjectCreationExpr.class);
+    }
+
+    @Override
+    public boolean rewrites() {
+        return true;
+    }
+
+    @Override
+    protected void inspect(ObjectCreationExpr creation, ScanResult result) {
+        String type = creation.getType().getNameAsString();
+        if (REPLACEMENTS.containsKey(type) && creation.getAnonymousClassBody().isEmpty()
+                && creation.getParentNode().filter(VariableDeclarator.class::isInstance).isPresent()
+                && isJdkType(creation.getType())) {
+            // Whether the object stays in the method is checked when the tree is transformed
+            candidate(creation, result);
+        }
+    }
+
+    @Override
+    protected boolean canRewrite(ObjectCreationExpr creation) {
+        String type = creation.getType().getNameAsString();
+        // Vector(int, int) sets a capacity increment ArrayList does not have
+        if (type.equals("Vector") && creation.getArguments().size() > 1) {
+            return false;
+        }
+        if (creation.getType().getScope().isEmpty() && hidden(creation, REPLACEMENTS.get(type), PACKAGES.get(type))) {
+            return false;
+        }
+        VariableDeclarator variable = (VariableDeclarator) creation.getParentNode().orElseThrow();
+        Optional<ExpressionStmt> declaration = PerformanceChecks.declaringStatement(variable);
+        if (declaration.isEmpty() || !declaredAs(variable.getType(), type)) {
+            return false;
+        }
+        BlockStmt block = (BlockStmt) declaration.get().getParentNode().orElseThrow();
+        String name = variable.getNameAsString();
+        if (!PerformanceChecks.uses(declaration.get(), name).isEmpty()) {
+            // Another variable of the same declaration starts out with it
+            return false;
+        }
+        int index = block.getStatements().indexOf(declaration.get());
+        for (int i = index + 1; i < block.getStatements().size(); i++) {
+            Node statement = block.getStatement(i);
+            if (PerformanceChecks.declares(statement, name)) {
+                return false;
+            }
+            for (NameExpr use : PerformanceChecks.uses(statement, name)) {
+                if (PerformanceChecks.isCaptured(use, block) || !isLocalUse(use, type)) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    @Override
+    protected Node apply(ObjectCreationExpr creation, JavaParserPool parsers) {
+        String type = creation.getType().getNameAsString();
+        String replacement = REPLACEMENTS.get(type);
+        VariableDeclarator variable = (VariableDeclarator) creation.getParentNode().orElseThrow();
+        if (variable.getType().isClassOrInterfaceType()
+                && variable.getType().asClassOrInterfaceType().getNameAsString().equals(type)) {
+            variable.getType().asClassOrInterfaceType().setName(replacement);
+        }
+        creation.getType().setName(replacement);
+        if (creation.getType().getScope().isEmpty() && !replacement.equals("StringBuilder")) {
+            PerformanceChecks.importUtil(creation, replacement);
+        }
+        return null;
+    }
+
+    /**
+     * Whether a created type is the JDK class: qualified with its package, or
+     * by the simple name where that name is imported from the package and no
+     * other class of the name hides it
+     */
+    private static boolean isJdkType(ClassOrInterfaceType created) {
+        String name = created.getNameAsString();
+        String packageName = PACKAGES.get(name);
+        if (created.getScope().isPresent()) {
+            return created.getScope().get().asString().equals(packageName);
+        }
+        Optional<CompilationUnit> cu = created.findCompilationUnit();
+        boolean imported = packageName.equals("java.lang") || cu.isPresent() && cu.get().getImports().stream()
+                .anyMatch(declaration -> !declaration.isStatic() && (declaration.isAsterisk()
+                        ? declaration.getNameAsString().equals(packageName)
+                        : declaration.getNameAsString().equals(packageName + "." + name)));
+        return imported && !hidden(created, name, packageName);
+    }
+
+    /**
+     * Whether a simple name refers to another class than the one of the
+     * package: one the source declares or imports by name, or, unless the
+     * source imports the package's class by name, one of the source's own
+     * package in the project
+     */
+    private static boolean hidden(Node node, String name, String packageName) {
+        Optional<CompilationUnit> cu = node.findCompilationUnit();
+        if (cu.isEmpty()) {
+            return false;
+        }
+        if (!cu.get().findAll(TypeDeclaration.class, type -> type.getNameAsString().equals(name)).isEmpty()) {
+            return true;
+        }
+        for (ImportDeclaration declaration : cu.get().getImports()) {
+            if (!declaration.isStatic() && !declaration.isAsterisk()
+                    && declaration.getName().getIdentifier().equals(name)) {
+                return !declaration.getNameAsString().equals(packageName + "." + name);
+            }
+        }
+        String samePackage = cu.get().getPackageDeclaration()
+                .map(declaration -> declaration.getNameAsString() + ".")
+                .orElse("") + name;
+        return ProjectTypeIndex.of(node).filter(index -> index.hasType(samePackage)).isPresent();
+    }
+
+    private static boolean declaredAs(Type declared, String type) {
+        if (declared.isVarType()) {
+            return true;
+        }
+        if (!declared.isClassOrInterfaceType()) {
+            return false;
+        }
+        ClassOrInterfaceType classType = declared.asClassOrInterfaceType();
+        return classType.getNameAsString().equals(type) || DECLARED_AS.get(type).contains(classType.getNameAsString());
+    }
+
+    /**
+     * Whether a use of the variable only calls shared methods on it, or
+     * iterates it, without letting the object itself out
+     */
+    private static boolean isLocalUse(NameExpr use, String type) {
+        Node parent = use.getParentNode().orElseThrow();
+        if (parent instanceof ForEachStmt) {
+            return type.equals("Vector") && ((ForEachStmt) parent).getIterable() == use;
+        }
+        if (parent instanceof BinaryExpr) {
+            // String conversion calls toString, which Hashtable prints in its own order
+            BinaryExpr binary = (BinaryExpr) parent;
+            return !type.equals("Hashtable") && binary.getOperator() == BinaryExpr.Operator.PLUS;
+        }
+        if (!(parent instanceof MethodCallExpr) || ((MethodCallExpr) parent).getScope().orElse(null) != use) {
+            return false;
+        }
+
+        // Follow calls that return the buffer itself to the end of the chain
+        MethodCallExpr call = (MethodCallExpr) parent;
+        while (true) {
+            if (!SHARED_METHODS.get(type).contains(call.getNameAsString()) || passesNull(call, type)) {
+                return false;
+            }
+            if (!type.equals("StringBuffer") || !BUFFER_CHAINED.contains(call.getNameAsString())) {
+                // The result is a value, not the object
+                return true;
+            }
+            Node next = call.getParentNode().orElseThrow();
+            if (next instanceof MethodCallExpr && ((MethodCallExpr) next).getScope().orElse(null) == call) {
+                call = (MethodCallExpr) next;
+            } else {
+                // The buffer itself is the result, so it must be discarded
+                return next instanceof ExpressionStmt;
+            }
+        }
+    }
+
+    /**
+     * Hashtable throws on null keys and values where HashMap accepts them
+     */
+    private static boolean passesNull(MethodCallExpr call, String type) {
+        if (!type.equals("Hashtable")) {
+            return false;
+        }
+        for (Expression argument : call.getArguments()) {
+            if (argument instanceof NullLiteralExpr) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,76 @@
+package com.codeenhancer.java_code_enhancer.rules;
+
+import com.codeenhancer.java_code_enhancer.analysis.JavaParserPool;
+import com.codeenhancer.java_code_enhancer.analysis.RewriteCandidate;
+import com.codeenhancer.java_code_enhancer.analysis.ScanResult;
+import com.github.javaparser.ast.Node;
+
+import java.util.Set;
+
+/**
+ * Base of a rule that looks at a single node type
+ *
+ * @param <T> Concrete node class the rule is offered
+ */
+public abstract class TypedRule<T extends Node> implements ModernizationRule {
+    private final String id;
+    private final Class<T> type;
+
+    protected TypedRule(String id, Class<T> type) {
+        this.id = id;
+        this.type = type;
+    }
+
+    @Override
+    public String id() {
+        return id;
+    }
+
+    @Override
+    public Set<Class<? extends Node>> nodeTypes() {
+        return Set.of(type);
+    }
+
+    @Override
+    public final void collect(Node node, ScanResult result) {
+        inspect(type.cast(node), result);
+    }
+
+    @Override
+    public final boolean appliesTo(Node node) {
+        return canRewrite(type.cast(node));
+    }
+
+    @Override
+    public final Node rewrite(Node node, JavaParserPool parsers) {
+        return apply(type.cast(node), parsers);
+    }
+
+    /**
+     * Record metrics, warnings or rewrite candidates for one node
+     */
+    protected abstract void inspect(T node, ScanResult result);
+
+    /**
+     * Whether {@link #apply} would change a candidate node
+     */
+    protected boolean canRewrite(T node) {
+        return true;
+    }
+
+    /**
+     * Rewrite one candidate node
+     *
+     * @return Subtree created from source text, or null
+     */
+    protected Node apply(T node, JavaParserPool parsers) {
+        throw new UnsupportedOperationException("Rule " + id + " does not rewrite");
+    }
+
+    /**
+     * Report a node for {@link #apply}
+     */
+    protected void candidate(T node, ScanResult result) {
+        result.addRewriteCandidate(new RewriteCandidate(this, node));
+    }
+}
@@ -0,0 +1,40 @@
+package com.codeenhancer.java_code_enhancer.service;
+
+import com.codeenhancer.java_code_enhancer.cache.FingerprintIndex;
+import com.codeenhancer.java_code_enhancer.dto.BatchEnhancementResponse;
+import com.codeenhancer.java_code_enhancer.dto.EnhancementStreamEvent;
+import com.codeenhancer.java_code_enhancer.dto.OutputMode;
+import com.codeenhancer.java_code_enhancer.rules.RuleSet;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.IntPredicate;
+
+public interface BatchEnhancementService {
+    BatchEnhancementResponse enhanceBatch(List<MultipartFile> uploads, Integer concurrency, OutputMode mode, RuleSet rules);
+
+    /**
+     * Enhance a batch and hand each file's result to the sink as soon as it is
+     * ready, followed by a summary. The sink is called on the calling thread;
+     * while it blocks, no further files are read.
+     */
+    void streamBatch(List<MultipartFile> uploads, Integer concurrency, OutputMode mode, RuleSet rules,
+                     Consumer<EnhancementStreamEvent> sink);
+
+    /**
+     * Enhance the sources under server-side paths: .java files, .zip archives
+     * and directories, whose .java files are read in path order. Each file's
+     * result goes to the sink as it is ready; no summary follows. Sources the
+     * filter rejects are counted but not enhanced, so indexes stay the same
+     * when a run is resumed. The filter or the sink may throw to stop the run.
+     *
+     * @param index Results of a previous scan, reused for files whose content,
+     *              rules and referenced declarations did not change and updated
+     *              with the others; or null
+     * @return Number of sources, including the skipped ones
+     */
+    int streamPaths(List<Path> paths, Integer concurrency, OutputMode mode, RuleSet rules,
+                    IntPredicate include, FingerprintIndex index, Consumer<EnhancementStreamEvent> sink);
+}
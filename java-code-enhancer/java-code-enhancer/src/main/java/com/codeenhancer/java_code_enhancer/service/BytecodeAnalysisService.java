@@ -0,0 +1,18 @@
+package com.codeenhancer.java_code_enhancer.service;
+
+import com.codeenhancer.java_code_enhancer.dto.BytecodeReport;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.util.List;
+
+public interface BytecodeAnalysisService {
+
+    /**
+     * Analyze compiled code without decompiling it
+     *
+     * @param uploads Any mix of .class files, and .jar and .zip archives
+     * @param classes Whether to include the report of each class
+     * @return One report per upload, in upload order
+     */
+    List<BytecodeReport> analyze(List<MultipartFile> uploads, boolean classes);
+}
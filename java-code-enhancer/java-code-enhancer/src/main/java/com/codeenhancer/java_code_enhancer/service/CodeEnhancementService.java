@@ -1,10 +1,47 @@
 package com.codeenhancer.java_code_enhancer.service;
 
+import com.codeenhancer.java_code_enhancer.analysis.AnalysisContext;
 import com.codeenhancer.java_code_enhancer.dto.EnhancementResponse;
+import com.codeenhancer.java_code_enhancer.dto.EnhancementStreamEvent;
+import com.codeenhancer.java_code_enhancer.dto.OutputMode;
+import com.codeenhancer.java_code_enhancer.dto.ValidatedEnhancementResponse;
+import com.codeenhancer.java_code_enhancer.rules.RuleSet;
+import com.codeenhancer.java_code_enhancer.symbols.ProjectTypeIndex;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.util.function.Consumer;
+
 public interface CodeEnhancementService {
-    EnhancementResponse enhanceTextCode(String code);
+    /**
+     * Enhance a source with the given rules, answering from the result cache
+     * when possible. With {@code explain} the source is always enhanced again
+     * and the response carries the time spent in each stage.
+     */
+    EnhancementResponse enhanceTextCode(String code, OutputMode mode, boolean explain, RuleSet rules);
+
+    /**
+     * Enhance a source of a multi-file request, resolving the types declared
+     * in its other sources through the project's index
+     */
+    EnhancementResponse enhanceProjectCode(String code, OutputMode mode, RuleSet rules, ProjectTypeIndex project);
+
+    EnhancementResponse enhanceFileCode(MultipartFile file, OutputMode mode, boolean explain, RuleSet rules);
+
+    /**
+     * Enhance a parsed source. In DIFF and EDITS mode the original layout is
+     * kept and only the changes are returned, without the original or the
+     * enhanced code.
+     */
+    EnhancementResponse enhance(AnalysisContext context, OutputMode mode);
+
+    ValidatedEnhancementResponse validateAndEnhanceText(String code, OutputMode mode, RuleSet rules);
+
+    ValidatedEnhancementResponse validateAndEnhanceFile(MultipartFile file, OutputMode mode, RuleSet rules);
 
-    EnhancementResponse enhanceFileCode(MultipartFile file);
-}
\ No newline at end of file
+    /**
+     * Enhance one source and hand the result to the sink piece by piece: the
+     * package and imports, then each top-level type as soon as it is printed,
+     * then a summary with metrics and warnings.
+     */
+    void streamText(String code, RuleSet rules, Consumer<EnhancementStreamEvent> sink);
+}
@@ -1,10 +1,35 @@
 package com.codeenhancer.java_code_enhancer.service;
 
+import com.codeenhancer.java_code_enhancer.analysis.AnalysisContext;
+import com.codeenhancer.java_code_enhancer.dto.BatchAnalysisResponse;
 import com.codeenhancer.java_code_enhancer.dto.ValidationResponse;
+import com.codeenhancer.java_code_enhancer.rules.RuleSet;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.util.List;
+
 public interface CodeValidationService {
     ValidationResponse validateTextInput(String code);
 
     ValidationResponse validateFileInput(MultipartFile file);
+
+    /**
+     * Validity, metrics and type-resolved deprecated API use of every source
+     * of the uploads, analyzed together by the configured backend
+     *
+     * @param uploads Any mix of .java files and .zip archives
+     * @param rules   Rules the metrics are counted with
+     * @throws org.springframework.web.server.ResponseStatusException When the
+     *         backend does not run one of the rules (400)
+     */
+    BatchAnalysisResponse analyzeBatch(List<MultipartFile> uploads, RuleSet rules);
+
+    ValidationResponse validate(AnalysisContext context);
+
+    /**
+     * Check an upload before its content is read
+     *
+     * @return Failed validation, or null when the file is acceptable
+     */
+    ValidationResponse checkFile(MultipartFile file);
 }
@@ -0,0 +1,30 @@
+package com.codeenhancer.java_code_enhancer.service;
+
+import com.codeenhancer.java_code_enhancer.dto.SessionUpdateResponse;
+import com.codeenhancer.java_code_enhancer.dto.TextEdit;
+import com.codeenhancer.java_code_enhancer.rules.RuleSet;
+
+/**
+ * Sources kept open on the server so that edits are re-analyzed incrementally
+ */
+public interface EditorSessionService {
+    /**
+     * Open a session whose source is analyzed with the given rules for as
+     * long as it stays open
+     */
+    SessionUpdateResponse open(String code, RuleSet rules);
+
+    /**
+     * Apply one edit to an open session
+     *
+     * @throws org.springframework.web.server.ResponseStatusException When the
+     *         session is unknown or expired, the version does not match or
+     *         the edit range is outside the source
+     */
+    SessionUpdateResponse edit(String sessionId, TextEdit edit);
+
+    /**
+     * @return Whether the session was open
+     */
+    boolean close(String sessionId);
+}
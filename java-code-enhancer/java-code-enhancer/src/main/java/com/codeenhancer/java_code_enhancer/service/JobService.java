@@ -0,0 +1,63 @@
+package com.codeenhancer.java_code_enhancer.service;
+
+import com.codeenhancer.java_code_enhancer.dto.JobStatus;
+import com.codeenhancer.java_code_enhancer.dto.OutputMode;
+import com.codeenhancer.java_code_enhancer.rules.RuleSet;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.nio.file.Path;
+import java.util.List;
+
+/**
+ * Enhancement jobs that run in the background and survive a restart.
+ * <p>
+ * A submission whose inputs, output mode and rules match those of a
+ * completed job returns that job instead of running again. Lookups of an
+ * unknown job throw {@link org.springframework.web.server.ResponseStatusException}
+ * with 404.
+ */
+public interface JobService {
+    JobStatus submitText(String code, String name, OutputMode mode, RuleSet rules);
+
+    /**
+     * Queue a job for uploaded .java files and .zip archives
+     */
+    JobStatus submitFiles(List<MultipartFile> uploads, Integer concurrency, OutputMode mode, RuleSet rules);
+
+    /**
+     * Queue a job for a file, archive or directory on the server
+     *
+     * @throws org.springframework.web.server.ResponseStatusException When the
+     *         path does not exist (400) or is outside the allowed roots (403)
+     */
+    JobStatus submitPath(String path, Integer concurrency, OutputMode mode, RuleSet rules);
+
+    JobStatus get(String jobId);
+
+    List<JobStatus> list();
+
+    /**
+     * Cancel a queued or running job; a running job stops after the files in flight
+     *
+     * @throws org.springframework.web.server.ResponseStatusException When the
+     *         job has already finished (409)
+     */
+    JobStatus cancel(String jobId);
+
+    /**
+     * Remove a job and its results
+     *
+     * @throws org.springframework.web.server.ResponseStatusException When the
+     *         job is running (409)
+     */
+    void delete(String jobId);
+
+    /**
+     * Results of a finished job: one file event per line, then a summary when
+     * the job completed
+     *
+     * @throws org.springframework.web.server.ResponseStatusException When the
+     *         job has not finished (409)
+     */
+    Path results(String jobId);
+}
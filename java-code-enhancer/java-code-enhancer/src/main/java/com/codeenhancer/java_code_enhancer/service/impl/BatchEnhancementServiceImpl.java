@@ -0,0 +1,357 @@
+package com.codeenhancer.java_code_enhancer.service.impl;
+
+import com.codeenhancer.java_code_enhancer.analysis.AnalysisContext;
+import com.codeenhancer.java_code_enhancer.cache.FingerprintIndex;
+import com.codeenhancer.java_code_enhancer.config.CodeEnhancerProperties;
+import com.codeenhancer.java_code_enhancer.dto.BatchEnhancementResponse;
+import com.codeenhancer.java_code_enhancer.dto.EnhancementResponse;
+import com.codeenhancer.java_code_enhancer.dto.EnhancementStreamEvent;
+import com.codeenhancer.java_code_enhancer.dto.FileEnhancementResult;
+import com.codeenhancer.java_code_enhancer.dto.OutputMode;
+import com.codeenhancer.java_code_enhancer.ingest.SourceReader;
+import com.codeenhancer.java_code_enhancer.rules.RuleSet;
+import com.codeenhancer.java_code_enhancer.service.BatchEnhancementService;
+import com.codeenhancer.java_code_enhancer.service.CodeEnhancementService;
+import com.codeenhancer.java_code_enhancer.symbols.ProjectIndexer;
+import com.codeenhancer.java_code_enhancer.symbols.ProjectTypeIndex;
+import com.codeenhancer.java_code_enhancer.util.CodeMetrics;
+import com.codeenhancer.java_code_enhancer.util.SourceEntries;
+import jakarta.annotation.PreDestroy;
+import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import java.util.function.IntPredicate;
+
+@Service
+public class BatchEnhancementServiceImpl implements BatchEnhancementService {
+    private final CodeEnhancementService codeEnhancementService;
+    private final CodeEnhancerProperties.Batch settings;
+    private final SourceReader sourceReader;
+    private final ProjectIndexer projectIndexer;
+    private final int parallelism;
+    private final ExecutorService pool;
+
+    public BatchEnhancementServiceImpl(CodeEnhancementService codeEnhancementService,
+                                       SourceReader sourceReader,
+                                       ProjectIndexer projectIndexer,
+                                       CodeEnhancerProperties properties) {
+        this.codeEnhancementService = codeEnhancementService;
+        this.sourceReader = sourceReader;
+        this.projectIndexer = projectIndexer;
+        this.settings = properties.getBatch();
+        this.parallelism = settings.getParallelism() > 0
+                ? settings.getParallelism()
+                : Runtime.getRuntime().availableProcessors();
+        this.pool = Executors.newWorkStealingPool(parallelism);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        pool.shutdownNow();
+    }
+
+    @Override
+    public BatchEnhancementResponse enhanceBatch(List<MultipartFile> uploads, Integer concurrency, OutputMode mode,
+                                                 RuleSet rules) {
+        List<FileEnhancementResult> files = new ArrayList<>();
+        CodeMetrics totals = new CodeMetrics();
+
+        process(uploads(uploads), concurrency, mode, rules, index -> true, null, (index, result) -> {
+            // Results arrive as they finish; keep them in upload order
+            while (files.size() <= index) {
+                files.add(null);
+            }
+            files.set(index, result);
+            if (result.isSuccess()) {
+                totals.add(result.getEnhancement().getCodeMetrics());
+            }
+        });
+
+        int failed = (int) files.stream().filter(result -> !result.isSuccess()).count();
+        return BatchEnhancementResponse.builder()
+                .totalFiles(files.size())
+                .succeeded(files.size() - failed)
+                .failed(failed)
+                .totalMetrics(totals)
+                .files(files)
+                .build();
+    }
+
+    @Override
+    public void streamBatch(List<MultipartFile> uploads, Integer concurrency, OutputMode mode, RuleSet rules,
+                            Consumer<EnhancementStreamEvent> sink) {
+        CodeMetrics totals = new CodeMetrics();
+        int[] failed = {0};
+
+        int total = process(uploads(uploads), concurrency, mode, rules, index -> true, null, (index, result) -> {
+            if (result.isSuccess()) {
+                totals.add(result.getEnhancement().getCodeMetrics());
+            } else {
+                failed[0]++;
+            }
+            sink.accept(fileEvent(index, result));
+        });
+
+        sink.accept(EnhancementStreamEvent.builder()
+                .type(EnhancementStreamEvent.SUMMARY)
+                .sequence(total)
+                .success(failed[0] == 0)
+                .codeMetrics(totals)
+                .totalFiles(total)
+                .failed(failed[0])
+                .build());
+    }
+
+    @Override
+    public int streamPaths(List<Path> paths, Integer concurrency, OutputMode mode, RuleSet rules,
+                           IntPredicate include, FingerprintIndex index, Consumer<EnhancementStreamEvent> sink) {
+        Sources sources = consumer -> SourceEntries.forEachPath(paths, settings.getMaxFiles(), sourceReader, consumer);
+        return process(sources, concurrency, mode, rules, include, index,
+                (sequence, result) -> sink.accept(fileEvent(sequence, result)));
+    }
+
+    private Sources uploads(List<MultipartFile> uploads) {
+        return consumer -> SourceEntries.forEach(uploads, settings.getMaxFiles(), sourceReader, consumer);
+    }
+
+    private static EnhancementStreamEvent fileEvent(int index, FileEnhancementResult result) {
+        EnhancementResponse enhancement = result.getEnhancement();
+        return EnhancementStreamEvent.builder()
+                .type(EnhancementStreamEvent.FILE)
+                .sequence(index)
+                .path(result.getPath())
+                .success(result.isSuccess())
+                .error(result.getError())
+                .enhancedCode(enhancement == null ? null : enhancement.getEnhancedCode())
+                .diff(enhancement == null ? null : enhancement.getDiff())
+                .edits(enhancement == null ? null : enhancement.getEdits())
+                .codeMetrics(enhancement == null ? null : enhancement.getCodeMetrics())
+                .warnings(enhancement == null ? null : enhancement.getWarnings())
+                .findings(enhancement == null ? null : enhancement.getFindings())
+                .appliedRewrites(enhancement == null ? null : enhancement.getAppliedRewrites())
+                .partial(enhancement != null && enhancement.isPartial())
+                .build();
+    }
+
+    /**
+     * Enhance every source on the pool.
+     * <p>
+     * Results are handed to the sink on the calling thread, in completion
+     * order. A file counts as in flight until its result has been consumed, and
+     * no more files are read than may be in flight, so a slow sink holds back
+     * the reader instead of letting finished results pile up in memory.
+     * Sources the filter rejects are read and counted, but not enhanced.
+     * With an index, unchanged sources are answered from it on the pool, so
+     * hashing them is spread over the workers like enhancing them would be.
+     * The sources are read twice: first to index the types they declare,
+     * then to enhance them. With an index they are first hashed as well, and
+     * when none changed the project is not indexed, since every file is
+     * answered from the index.
+     *
+     * @return Number of sources, including the skipped ones and a failed read
+     */
+    private int process(Sources sources, Integer concurrency, OutputMode mode, RuleSet rules,
+                        IntPredicate include, FingerprintIndex fingerprints,
+                        BiConsumer<Integer, FileEnhancementResult> sink) {
+        int workers = concurrency != null && concurrency > 0 ? Math.min(concurrency, parallelism) : parallelism;
+        boolean unchanged = fingerprints != null && isUnchanged(sources, FingerprintIndex.version(mode, rules),
+                fingerprints);
+        ProjectTypeIndex project = unchanged ? null : index(sources, workers);
+        BlockingQueue<Completed> ready = new ArrayBlockingQueue<>(workers);
+        int[] found = {0};
+        int[] submitted = {0};
+        int[] delivered = {0};
+        Runnable deliverOne = () -> {
+            Completed next = take(ready);
+            sink.accept(next.index, next.result);
+            delivered[0]++;
+        };
+
+        try {
+            sources.forEach((path, content) -> {
+                int index = found[0]++;
+                if (!include.test(index)) {
+                    return;
+                }
+                // Wait for a free slot, delivering finished results meanwhile
+                while (submitted[0] - delivered[0] >= workers) {
+                    deliverOne.run();
+                }
+                submitted[0]++;
+                pool.execute(() -> ready.add(new Completed(index,
+                        enhanceFile(path, content, mode, rules, fingerprints, project, unchanged))));
+                while (!ready.isEmpty()) {
+                    deliverOne.run();
+                }
+            });
+        } catch (IOException e) {
+            while (delivered[0] < submitted[0]) {
+                deliverOne.run();
+            }
+            sink.accept(found[0], failure(null, "Error reading upload: " + e.getMessage()));
+            return found[0] + 1;
+        }
+
+        while (delivered[0] < submitted[0]) {
+            deliverOne.run();
+        }
+        return found[0];
+    }
+
+    /**
+     * Whether the sources are the files of the previous scan with the content
+     * they had, so the declarations every file refers to are unchanged too.
+     * Without a project index there is nothing to save, so the sources are
+     * not read for it.
+     */
+    private boolean isUnchanged(Sources sources, String version, FingerprintIndex fingerprints) {
+        if (!projectIndexer.isEnabled()) {
+            return false;
+        }
+        Map<String, String> hashes = new HashMap<>();
+        try {
+            sources.forEach((path, content) -> hashes.put(path, FingerprintIndex.hash(content)));
+        } catch (IOException e) {
+            return false;
+        }
+        return fingerprints.isUnchanged(hashes, version);
+    }
+
+    /**
+     * Index the declarations of all sources, so each one resolves the types
+     * of the others. Sources are read on the pool, at most one per worker at
+     * a time, and indexed in order. There is no index for a single source,
+     * nor when the sources cannot be read, which enhancing them reports.
+     */
+    private ProjectTypeIndex index(Sources sources, int workers) {
+        if (!projectIndexer.isEnabled()) {
+            return null;
+        }
+        ProjectTypeIndex.Builder builder = projectIndexer.newIndex();
+        Deque<Future<ProjectTypeIndex.SourceDeclarations>> reading = new ArrayDeque<>();
+        try {
+            sources.forEach((path, content) -> {
+                if (reading.size() >= workers) {
+                    builder.add(await(reading.poll()));
+                }
+                reading.add(pool.submit(() -> builder.read(content)));
+            });
+        } catch (IOException e) {
+            reading.forEach(future -> future.cancel(true));
+            return null;
+        }
+        while (!reading.isEmpty()) {
+            builder.add(await(reading.poll()));
+        }
+        return builder.size() > 1 ? builder.build() : null;
+    }
+
+    private static <T> T await(Future<T> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while indexing the batch", e);
+        } catch (ExecutionException e) {
+            // A source the index cannot read is enhanced without it
+            return null;
+        }
+    }
+
+    private static Completed take(BlockingQueue<Completed> queue) {
+        try {
+            return queue.take();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for batch results", e);
+        }
+    }
+
+    /**
+     * Result of one file from the index when neither it nor the declarations
+     * it refers to changed, else enhance it and record the result
+     *
+     * @param unchanged Whether no source changed since the previous scan
+     */
+    private FileEnhancementResult enhanceFile(String path, String content, OutputMode mode, RuleSet rules,
+                                              FingerprintIndex fingerprints, ProjectTypeIndex project,
+                                              boolean unchanged) {
+        if (fingerprints == null) {
+            return enhanceFile(path, content, mode, rules, project);
+        }
+        String hash = FingerprintIndex.hash(content);
+        String version = FingerprintIndex.version(mode, rules);
+        // A signature elsewhere in the project matters only to the files that may refer to it
+        String dependencies = unchanged ? null : project == null ? "" : project.getFingerprint(content);
+        FileEnhancementResult known = fingerprints.get(path, hash, version, dependencies);
+        if (known != null) {
+            return known;
+        }
+        FileEnhancementResult result = enhanceFile(path, content, mode, rules, project);
+        fingerprints.put(path, hash, version, dependencies, result);
+        return result;
+    }
+
+    /**
+     * Enhance one file of the batch; a failure is reported on the file only
+     */
+    private FileEnhancementResult enhanceFile(String path, String content, OutputMode mode, RuleSet rules,
+                                              ProjectTypeIndex project) {
+        try {
+            EnhancementResponse enhancement = project == null
+                    ? codeEnhancementService.enhanceTextCode(content, mode, false, rules)
+                    : codeEnhancementService.enhanceProjectCode(content, mode, rules, project);
+            // Failed enhancements carry no metrics, whatever the output mode
+            boolean success = enhancement.getCodeMetrics() != null;
+            return FileEnhancementResult.builder()
+                    .path(path)
+                    .success(success)
+                    .error(success ? null : String.join("; ", enhancement.getWarnings()))
+                    .enhancement(enhancement)
+                    .build();
+        } catch (Exception e) {
+            return failure(path, "Error during enhancement: " + AnalysisContext.cleanMessage(e));
+        } catch (StackOverflowError e) {
+            // Every submitted file must produce a result, or the batch would wait forever
+            return failure(path, "Error during enhancement: source is nested too deeply");
+        }
+    }
+
+    private static FileEnhancementResult failure(String path, String error) {
+        return FileEnhancementResult.builder()
+                .path(path)
+                .success(false)
+                .error(error)
+                .build();
+    }
+
+    private interface Sources {
+        void forEach(BiConsumer<String, String> consumer) throws IOException;
+    }
+
+    private static final class Completed {
+        private final int index;
+        private final FileEnhancementResult result;
+
+        private Completed(int index, FileEnhancementResult result) {
+            this.index = index;
+            this.result = result;
+        }
+    }
+}
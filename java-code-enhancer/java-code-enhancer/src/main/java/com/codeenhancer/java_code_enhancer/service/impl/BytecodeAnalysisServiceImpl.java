@@ -0,0 +1,133 @@
+package com.codeenhancer.java_code_enhancer.service.impl;
+
+import com.codeenhancer.java_code_enhancer.bytecode.ClassFileScanner;
+import com.codeenhancer.java_code_enhancer.config.CodeEnhancerProperties;
+import com.codeenhancer.java_code_enhancer.dto.BytecodeReport;
+import com.codeenhancer.java_code_enhancer.dto.ClassBytecodeReport;
+import com.codeenhancer.java_code_enhancer.ingest.SourceLimitException;
+import com.codeenhancer.java_code_enhancer.service.BytecodeAnalysisService;
+import com.codeenhancer.java_code_enhancer.util.CodeMetrics;
+import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+
+/**
+ * Reads class files from uploads, streaming archives entry by entry, and
+ * scans each one as soon as it is read, so only the reports are held.
+ */
+@Service
+public class BytecodeAnalysisServiceImpl implements BytecodeAnalysisService {
+    private final int maxClasses;
+    private final long maxClassBytes;
+
+    public BytecodeAnalysisServiceImpl(CodeEnhancerProperties properties) {
+        this.maxClasses = properties.getBytecode().getMaxClasses();
+        this.maxClassBytes = properties.getIngest().getMaxBytes();
+    }
+
+    @Override
+    public List<BytecodeReport> analyze(List<MultipartFile> uploads, boolean classes) {
+        List<BytecodeReport> reports = new ArrayList<>();
+        int read = 0;
+        for (MultipartFile upload : uploads) {
+            String name = upload.getOriginalFilename() == null ? "" : upload.getOriginalFilename();
+            Totals totals = new Totals(classes);
+            String error = null;
+            try (InputStream in = upload.getInputStream()) {
+                if (isClassFile(name)) {
+                    checkLimit(read++);
+                    totals.add(ClassFileScanner.scan(name, readClass(in)));
+                } else if (isArchive(name)) {
+                    ZipInputStream zip = new ZipInputStream(in);
+                    ZipEntry entry;
+                    while ((entry = zip.getNextEntry()) != null) {
+                        if (entry.isDirectory() || !isClassFile(entry.getName())) {
+                            continue;
+                        }
+                        checkLimit(read++);
+                        // Reads only the current entry
+                        totals.add(ClassFileScanner.scan(entry.getName(), readClass(zip)));
+                    }
+                } else {
+                    error = "Invalid file type. Only .class, .jar and .zip files are allowed";
+                }
+            } catch (IOException e) {
+                error = "Error reading upload: " + e.getMessage();
+            }
+            reports.add(totals.report(name, error));
+        }
+        return reports;
+    }
+
+    private byte[] readClass(InputStream in) throws IOException {
+        byte[] bytes = in.readNBytes((int) Math.min(maxClassBytes + 1, Integer.MAX_VALUE - 8));
+        if (bytes.length > maxClassBytes) {
+            throw new SourceLimitException("Class file exceeds the limit of " + maxClassBytes + " bytes");
+        }
+        return bytes;
+    }
+
+    private void checkLimit(int count) throws IOException {
+        if (count >= maxClasses) {
+            throw new IOException("Request exceeds the limit of " + maxClasses + " classes");
+        }
+    }
+
+    private static boolean isClassFile(String name) {
+        return name.toLowerCase().endsWith(".class");
+    }
+
+    private static boolean isArchive(String name) {
+        String lower = name.toLowerCase();
+        return lower.endsWith(".jar") || lower.endsWith(".zip");
+    }
+
+    /**
+     * Sums of the class reports of one upload
+     */
+    private static final class Totals {
+        private final CodeMetrics metrics = new CodeMetrics();
+        private final Map<String, Integer> deprecatedApis = new TreeMap<>();
+        private final List<ClassBytecodeReport> classes;
+        private int total;
+        private int failed;
+
+        private Totals(boolean keepClasses) {
+            this.classes = keepClasses ? new ArrayList<>() : null;
+        }
+
+        private void add(ClassBytecodeReport report) {
+            total++;
+            if (report.isSuccess()) {
+                metrics.add(report.getCodeMetrics());
+                report.getDeprecatedApis().forEach((api, count) -> deprecatedApis.merge(api, count, Integer::sum));
+            } else {
+                failed++;
+            }
+            if (classes != null) {
+                classes.add(report);
+            }
+        }
+
+        private BytecodeReport report(String name, String error) {
+            return BytecodeReport.builder()
+                    .name(name)
+                    .success(error == null)
+                    .error(error)
+                    .totalClasses(total)
+                    .failed(failed)
+                    .totalMetrics(metrics)
+                    .deprecatedApis(deprecatedApis)
+                    .classes(classes)
+                    .build();
+        }
+    }
+}
@@ -1,15 +1,37 @@
 package com.codeenhancer.java_code_enhancer.service.impl;
 
+import com.codeenhancer.java_code_enhancer.analysis.AnalysisBudget;
+import com.codeenhancer.java_code_enhancer.analysis.AnalysisContext;
+import com.codeenhancer.java_code_enhancer.analysis.JavaParserPool;
+import com.codeenhancer.java_code_enhancer.analysis.ParallelScanner;
+import com.codeenhancer.java_code_enhancer.analysis.PipelineTrace;
+import com.codeenhancer.java_code_enhancer.backend.JavaParserBackend;
+import com.codeenhancer.java_code_enhancer.cache.ResultCache;
+import com.codeenhancer.java_code_enhancer.config.CodeEnhancerProperties;
 import com.codeenhancer.java_code_enhancer.dto.EnhancementResponse;
+import com.codeenhancer.java_code_enhancer.dto.EnhancementStreamEvent;
+import com.codeenhancer.java_code_enhancer.dto.OutputMode;
+import com.codeenhancer.java_code_enhancer.dto.PerformanceFinding;
+import com.codeenhancer.java_code_enhancer.dto.ValidatedEnhancementResponse;
+import com.codeenhancer.java_code_enhancer.dto.ValidationResponse;
+import com.codeenhancer.java_code_enhancer.ingest.SourceReader;
+import com.codeenhancer.java_code_enhancer.metrics.PipelineMetrics;
+import com.codeenhancer.java_code_enhancer.rules.RuleSet;
 import com.codeenhancer.java_code_enhancer.service.CodeEnhancementService;
+import com.codeenhancer.java_code_enhancer.service.CodeValidationService;
+import com.codeenhancer.java_code_enhancer.symbols.ProjectTypeIndex;
 import com.codeenhancer.java_code_enhancer.util.CodeMetrics;
 import com.codeenhancer.java_code_enhancer.util.CodeTransformationUtils;
-import com.github.javaparser.StaticJavaParser;
+import com.codeenhancer.java_code_enhancer.util.TextDiff;
+import com.github.javaparser.ast.CompilationUnit;
+import com.github.javaparser.ast.body.TypeDeclaration;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
+import java.util.List;
+import java.util.function.Consumer;
 
 
 @Service
@@ -18,44 +40,258 @@ public class CodeEnhancementServiceImpl implements CodeEnhancementService {
     @Autowired
     DashboardServiceImpl dashboardService;
 
+    @Autowired
+    CodeValidationService codeValidationService;
+
+    @Autowired
+    ResultCache resultCache;
+
+    @Autowired
+    JavaParserPool javaParserPool;
+
+    @Autowired
+    PipelineMetrics pipelineMetrics;
+
+    @Autowired
+    SourceReader sourceReader;
+
+    @Autowired
+    CodeEnhancerProperties properties;
+
+    @Autowired
+    ParallelScanner parallelScanner;
+
     @Override
-    public EnhancementResponse enhanceTextCode(String code) {
-        try {
-            var cu = StaticJavaParser.parse(code);
+    public EnhancementResponse enhanceTextCode(String code, OutputMode mode, boolean explain, RuleSet rules) {
+        if (explain) {
+            // Timings describe this request, so the result is neither cached nor taken from the cache
+            AnalysisContext context = parse(code, rules);
+            EnhancementResponse response = enhance(context, mode);
+            pipelineMetrics.publish(context);
+            response.setTimings(PipelineMetrics.timings(context.getTrace()));
+            return response;
+        }
+        return resultCache.getEnhancement(code, mode, rules, () -> {
+            AnalysisContext context = parse(code, rules);
+            EnhancementResponse response = enhance(context, mode);
+            pipelineMetrics.publish(context);
+            return response;
+        });
+    }
 
-            CodeMetrics codeMetrics = dashboardService.analyzeCode(code);
+    @Override
+    public EnhancementResponse enhanceProjectCode(String code, OutputMode mode, RuleSet rules,
+                                                  ProjectTypeIndex project) {
+        // Resolved types depend on the other sources, so entries are per version of their declarations
+        return resultCache.getEnhancement(code, mode, rules, project.getFingerprint(), () -> {
+            AnalysisContext context = parse(code, rules);
+            if (context.isParsed()) {
+                project.attach(context.getCompilationUnit());
+            }
+            EnhancementResponse response = enhance(context, mode);
+            pipelineMetrics.publish(context);
+            return response;
+        });
+    }
 
-            String enhancedCode = CodeTransformationUtils.transformToLatestVersion(cu);
+    @Override
+    public EnhancementResponse enhance(AnalysisContext context, OutputMode mode) {
+        // Only the full output echoes the original code back
+        String originalCode = mode == OutputMode.FULL ? context.getSource() : null;
+        if (!context.isParsed()) {
+            return failure(originalCode, "Error during enhancement: " + context.getParseError());
+        }
+        try {
+            // Metrics and warnings are taken from the tree before it is transformed
+            context.getScan();
+            PipelineTrace trace = context.getTrace();
+            CodeMetrics codeMetrics = trace.time(PipelineTrace.Stage.ANALYZE, () -> dashboardService.analyzeCode(context));
 
-            String[] warnings = CodeTransformationUtils.detectWarnings(cu);
+            String[] warnings = trace.time(PipelineTrace.Stage.WARNINGS, () -> CodeTransformationUtils.detectWarnings(context));
 
-            return EnhancementResponse.builder()
-                    .originalCode(code)
-                    .enhancedCode(enhancedCode)
+            EnhancementResponse.EnhancementResponseBuilder response = EnhancementResponse.builder()
                     .warnings(warnings)
-                    .codeMetrics(codeMetrics)
-                    .build();
+                    .findings(CodeTransformationUtils.detectFindings(context))
+                    .codeMetrics(codeMetrics);
+            switch (mode) {
+                case DIFF: {
+                    String enhanced = CodeTransformationUtils.transformPreservingLayout(context);
+                    return response
+                            .appliedRewrites(CodeTransformationUtils.detectAppliedRewrites(context))
+                            .partial(trace.isPartial())
+                            .diff(trace.time(PipelineTrace.Stage.DIFF,
+                                    () -> TextDiff.unified(diffName(context), context.getSource(), enhanced, 3)))
+                            .build();
+                }
+                case EDITS: {
+                    String enhanced = CodeTransformationUtils.transformPreservingLayout(context);
+                    return response
+                            .appliedRewrites(CodeTransformationUtils.detectAppliedRewrites(context))
+                            .partial(trace.isPartial())
+                            .edits(trace.time(PipelineTrace.Stage.DIFF,
+                                    () -> TextDiff.edits(context.getSource(), enhanced)))
+                            .build();
+                }
+                default:
+                    return response
+                            .originalCode(originalCode)
+                            .enhancedCode(CodeTransformationUtils.transformToLatestVersion(context))
+                            .appliedRewrites(CodeTransformationUtils.detectAppliedRewrites(context))
+                            .partial(trace.isPartial())
+                            .build();
+            }
         } catch (Exception e) {
-            return EnhancementResponse.builder()
-                    .originalCode(code)
-                    .enhancedCode(null)
-                    .warnings(new String[]{"Error during enhancement: " + e.getMessage().split("Problem stacktrace :")[0].trim()})
-                    .codeMetrics(null)
-                    .build();
+            return failure(originalCode, "Error during enhancement: " + AnalysisContext.cleanMessage(e));
+        }
+    }
+
+    /**
+     * File name for diff headers, taken from the public type of the source
+     */
+    private static String diffName(AnalysisContext context) {
+        return context.getCompilationUnit().getTypes().stream()
+                .filter(type -> type.isPublic())
+                .findFirst()
+                .or(() -> context.getCompilationUnit().getTypes().getFirst())
+                .map(type -> type.getNameAsString() + ".java")
+                .orElse("Source.java");
+    }
+
+    @Override
+    public EnhancementResponse enhanceFileCode(MultipartFile file, OutputMode mode, boolean explain, RuleSet rules) {
+        try {
+            String content = sourceReader.read(file);
+            return enhanceTextCode(content, mode, explain, rules);
+        } catch (IOException e) {
+            return failure(null, "Error reading file: " + e.getMessage().split("Problem stacktrace :")[0].trim());
+        }
+    }
+
+    @Override
+    public ValidatedEnhancementResponse validateAndEnhanceText(String code, OutputMode mode, RuleSet rules) {
+        // Both results may already be cached from an earlier request
+        ValidationResponse validation = resultCache.peekValidation(code, JavaParserBackend.ID);
+        if (validation != null && !validation.isValid()) {
+            return ValidatedEnhancementResponse.builder().validation(validation).build();
+        }
+        EnhancementResponse enhancement = validation != null ? resultCache.peekEnhancement(code, mode, rules) : null;
+        if (enhancement != null) {
+            return ValidatedEnhancementResponse.builder().validation(validation).enhancement(enhancement).build();
+        }
+
+        AnalysisContext context = parse(code, rules);
+        validation = codeValidationService.validate(context);
+        resultCache.putValidation(code, JavaParserBackend.ID, validation);
+        if (validation.isValid()) {
+            enhancement = enhance(context, mode);
+            resultCache.putEnhancement(code, mode, rules, enhancement);
         }
+        pipelineMetrics.publish(context);
+        return ValidatedEnhancementResponse.builder()
+                .validation(validation)
+                .enhancement(enhancement)
+                .build();
     }
 
     @Override
-    public EnhancementResponse enhanceFileCode(MultipartFile file) {
+    public ValidatedEnhancementResponse validateAndEnhanceFile(MultipartFile file, OutputMode mode, RuleSet rules) {
+        ValidationResponse rejected = codeValidationService.checkFile(file);
+        if (rejected != null) {
+            return ValidatedEnhancementResponse.builder().validation(rejected).build();
+        }
         try {
-            String content = new String(file.getBytes());
-            return enhanceTextCode(content);
+            // Read once; validation and enhancement share the parsed source
+            ValidatedEnhancementResponse result = validateAndEnhanceText(sourceReader.read(file), mode, rules);
+            // Cached responses are shared, so the file name goes on a copy
+            return ValidatedEnhancementResponse.builder()
+                    .validation(ValidationResponse.builder()
+                            .valid(result.getValidation().isValid())
+                            .message(result.getValidation().getMessage())
+                            .fileName(file.getOriginalFilename())
+                            .build())
+                    .enhancement(result.getEnhancement())
+                    .build();
         } catch (IOException e) {
-            return EnhancementResponse.builder()
-                    .originalCode(null)
-                    .enhancedCode(null)
-                    .warnings(new String[]{"Error reading file: " + e.getMessage().split("Problem stacktrace :")[0].trim()})
+            return ValidatedEnhancementResponse.builder()
+                    .validation(ValidationResponse.builder()
+                            .valid(false)
+                            .message("Error reading file: " + e.getMessage().split("Problem stacktrace :")[0].trim())
+                            .fileName(file.getOriginalFilename())
+                            .build())
                     .build();
         }
     }
+
+    @Override
+    public void streamText(String code, RuleSet rules, Consumer<EnhancementStreamEvent> sink) {
+        AnalysisContext context = parse(code, rules);
+        if (!context.isParsed()) {
+            pipelineMetrics.publish(context);
+            sink.accept(EnhancementStreamEvent.builder()
+                    .type(EnhancementStreamEvent.SUMMARY)
+                    .success(false)
+                    .error("Error during enhancement: " + context.getParseError())
+                    .build());
+            return;
+        }
+
+        CodeMetrics codeMetrics = dashboardService.analyzeCode(context);
+        String[] warnings = CodeTransformationUtils.detectWarnings(context);
+        List<PerformanceFinding> findings = CodeTransformationUtils.detectFindings(context);
+        CompilationUnit cu = CodeTransformationUtils.transformInPlace(context);
+
+        // Print the header and every top-level type separately instead of the whole file
+        int sequence = 0;
+        StringBuilder header = new StringBuilder();
+        cu.getPackageDeclaration().ifPresent(declaration -> header.append(declaration));
+        cu.getImports().forEach(declaration -> header.append(declaration));
+        if (header.length() > 0) {
+            sink.accept(unit(sequence++, null, header.toString()));
+        }
+        for (TypeDeclaration<?> type : cu.getTypes()) {
+            sink.accept(unit(sequence++, type.getNameAsString(), type.toString() + System.lineSeparator()));
+        }
+
+        sink.accept(EnhancementStreamEvent.builder()
+                .type(EnhancementStreamEvent.SUMMARY)
+                .sequence(sequence)
+                .success(true)
+                .codeMetrics(codeMetrics)
+                .warnings(warnings)
+                .findings(findings)
+                .appliedRewrites(CodeTransformationUtils.detectAppliedRewrites(context))
+                .partial(context.getTrace().isPartial())
+                .build());
+        pipelineMetrics.publish(context);
+    }
+
+    /**
+     * Parse a source into a context with its own budget, starting now
+     */
+    private AnalysisContext parse(String code, RuleSet rules) {
+        CodeEnhancerProperties.Budget budget = properties.getBudget();
+        return AnalysisContext.parse(code, javaParserPool, AnalysisContext.options()
+                .rules(rules)
+                .budget(AnalysisBudget.of(budget.getTime(), budget.getMaxNodes()))
+                .scanner(parallelScanner));
+    }
+
+    private static EnhancementStreamEvent unit(int sequence, String name, String code) {
+        return EnhancementStreamEvent.builder()
+                .type(EnhancementStreamEvent.UNIT)
+                .sequence(sequence)
+                .name(name)
+                .success(true)
+                .enhancedCode(code)
+                .build();
+    }
+
+    private EnhancementResponse failure(String originalCode, String message) {
+        return EnhancementResponse.builder()
+                .originalCode(originalCode)
+                .enhancedCode(null)
+                .warnings(new String[]{message})
+                .codeMetrics(null)
+                .build();
+    }
 }
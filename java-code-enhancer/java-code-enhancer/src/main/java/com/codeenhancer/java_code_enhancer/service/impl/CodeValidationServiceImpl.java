@@ -1,36 +1,141 @@
 package com.codeenhancer.java_code_enhancer.service.impl;
 
+import com.codeenhancer.java_code_enhancer.analysis.AnalysisContext;
+import com.codeenhancer.java_code_enhancer.backend.AnalysisBackend;
+import com.codeenhancer.java_code_enhancer.backend.SourceFile;
+import com.codeenhancer.java_code_enhancer.cache.ResultCache;
+import com.codeenhancer.java_code_enhancer.config.CodeEnhancerProperties;
+import com.codeenhancer.java_code_enhancer.dto.BatchAnalysisResponse;
+import com.codeenhancer.java_code_enhancer.dto.SourceAnalysisResult;
 import com.codeenhancer.java_code_enhancer.dto.ValidationResponse;
-//import com.github.javaparser.StaticJavaParser;
+import com.codeenhancer.java_code_enhancer.ingest.SourceReader;
+import com.codeenhancer.java_code_enhancer.rules.RuleSet;
 import com.codeenhancer.java_code_enhancer.service.CodeValidationService;
-import com.github.javaparser.StaticJavaParser;
+import com.codeenhancer.java_code_enhancer.util.CodeMetrics;
+import com.codeenhancer.java_code_enhancer.util.SourceEntries;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.server.ResponseStatusException;
 
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
 
 @Service
 public class CodeValidationServiceImpl implements CodeValidationService {
 
+    @Autowired
+    ResultCache resultCache;
+
+    @Autowired
+    AnalysisBackend analysisBackend;
+
+    @Autowired
+    SourceReader sourceReader;
+
+    @Autowired
+    CodeEnhancerProperties properties;
+
     @Override
     public ValidationResponse validateTextInput(String code) {
+        return resultCache.getValidation(code, analysisBackend.id(), () -> {
+            String error = analysisBackend.syntaxError(code);
+            return ValidationResponse.builder()
+                    .valid(error == null)
+                    .message(error == null ? "Valid Java code" : "Invalid Java syntax: " + error)
+                    .build();
+        });
+    }
+
+    @Override
+    public BatchAnalysisResponse analyzeBatch(List<MultipartFile> uploads, RuleSet rules) {
+        List<SourceFile> sources = new ArrayList<>();
+        String readError = null;
         try {
-            // Attempt to parse the code
-            StaticJavaParser.parse(code);
+            SourceEntries.forEach(uploads, properties.getBatch().getMaxFiles(), sourceReader,
+                    (path, content) -> sources.add(new SourceFile(path, content)));
+        } catch (IOException e) {
+            // The sources read so far are still analyzed
+            readError = "Error reading upload: " + e.getMessage();
+        }
+
+        List<SourceAnalysisResult> files;
+        try {
+            files = new ArrayList<>(analysisBackend.analyzeAll(sources, rules));
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage());
+        }
+        if (readError != null) {
+            files.add(SourceAnalysisResult.builder().valid(false).error(readError).build());
+        }
+        CodeMetrics totals = new CodeMetrics();
+        Map<String, Integer> deprecatedApis = new TreeMap<>();
+        int valid = 0;
+        for (SourceAnalysisResult file : files) {
+            if (file.isValid()) {
+                valid++;
+                totals.add(file.getCodeMetrics());
+                file.getDeprecatedApis().forEach((api, count) -> deprecatedApis.merge(api, count, Integer::sum));
+            }
+        }
+        return BatchAnalysisResponse.builder()
+                .backend(analysisBackend.id())
+                .totalFiles(files.size())
+                .valid(valid)
+                .invalid(files.size() - valid)
+                .totalMetrics(totals)
+                .deprecatedApis(deprecatedApis)
+                .files(files)
+                .build();
+    }
+
+    @Override
+    public ValidationResponse validate(AnalysisContext context) {
+        // The context has already attempted to parse the code
+        if (context.isParsed()) {
             return ValidationResponse.builder()
                     .valid(true)
                     .message("Valid Java code")
                     .build();
-        } catch (Exception e) {
+        }
+        return ValidationResponse.builder()
+                .valid(false)
+                .message("Invalid Java syntax: " + context.getParseError())
+                .build();
+    }
+
+    @Override
+    public ValidationResponse validateFileInput(MultipartFile file) {
+        ValidationResponse rejected = checkFile(file);
+        if (rejected != null) {
+            return rejected;
+        }
+
+        // Validate file content
+        try {
+            String content = sourceReader.read(file);
+            ValidationResponse textValidation = validateTextInput(content);
+
+            return ValidationResponse.builder()
+                    .valid(textValidation.isValid())
+                    .message(textValidation.getMessage())
+                    .fileName(file.getOriginalFilename())
+                    .build();
+        } catch (IOException e) {
             return ValidationResponse.builder()
                     .valid(false)
-                    .message("Invalid Java syntax: " + e.getMessage().split("Problem stacktrace :")[0].trim())
+                    .message("Error reading file: " + e.getMessage().split("Problem stacktrace :")[0].trim())
+                    .fileName(file.getOriginalFilename())
                     .build();
         }
     }
 
     @Override
-    public ValidationResponse validateFileInput(MultipartFile file) {
+    public ValidationResponse checkFile(MultipartFile file) {
         // Check if file is empty
         if (file.isEmpty()) {
             return ValidationResponse.builder()
@@ -48,23 +153,6 @@ public class CodeValidationServiceImpl implements CodeValidationService {
                     .fileName(fileName)
                     .build();
         }
-
-        // Validate file content
-        try {
-            String content = new String(file.getBytes());
-            ValidationResponse textValidation = validateTextInput(content);
-
-            return ValidationResponse.builder()
-                    .valid(textValidation.isValid())
-                    .message(textValidation.getMessage())
-                    .fileName(fileName)
-                    .build();
-        } catch (IOException e) {
-            return ValidationResponse.builder()
-                    .valid(false)
-                    .message("Error reading file: " + e.getMessage().split("Problem stacktrace :")[0].trim())
-                    .fileName(fileName)
-                    .build();
-        }
+        return null;
     }
-}
\ No newline at end of file
+}
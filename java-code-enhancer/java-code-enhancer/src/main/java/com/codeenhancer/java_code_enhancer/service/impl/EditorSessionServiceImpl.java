@@ -0,0 +1,108 @@
+package com.codeenhancer.java_code_enhancer.service.impl;
+
+import com.codeenhancer.java_code_enhancer.analysis.AnalysisBudget;
+import com.codeenhancer.java_code_enhancer.analysis.IncrementalDocument;
+import com.codeenhancer.java_code_enhancer.analysis.JavaParserPool;
+import com.codeenhancer.java_code_enhancer.config.CodeEnhancerProperties;
+import com.codeenhancer.java_code_enhancer.dto.RewriteSuggestion;
+import com.codeenhancer.java_code_enhancer.dto.SessionUpdateResponse;
+import com.codeenhancer.java_code_enhancer.dto.TextEdit;
+import com.codeenhancer.java_code_enhancer.rules.RuleSet;
+import com.codeenhancer.java_code_enhancer.service.EditorSessionService;
+import com.codeenhancer.java_code_enhancer.util.CodeMetrics;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+@Service
+public class EditorSessionServiceImpl implements EditorSessionService {
+    private final JavaParserPool javaParserPool;
+    private final CodeEnhancerProperties properties;
+    private final Cache<String, IncrementalDocument> sessions;
+
+    public EditorSessionServiceImpl(JavaParserPool javaParserPool, CodeEnhancerProperties properties) {
+        this.javaParserPool = javaParserPool;
+        this.properties = properties;
+        CodeEnhancerProperties.Sessions settings = properties.getSessions();
+        this.sessions = CacheBuilder.newBuilder()
+                .maximumSize(settings.getMaxSessions())
+                .expireAfterAccess(settings.getIdleTimeout())
+                .build();
+    }
+
+    @Override
+    public SessionUpdateResponse open(String code, RuleSet rules) {
+        IncrementalDocument document = new IncrementalDocument(code, javaParserPool, rules, this::budget);
+        String sessionId = UUID.randomUUID().toString();
+        sessions.put(sessionId, document);
+        return toResponse(sessionId, document, document.snapshot());
+    }
+
+    @Override
+    public SessionUpdateResponse edit(String sessionId, TextEdit edit) {
+        IncrementalDocument document = sessions.getIfPresent(sessionId);
+        if (document == null) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "Unknown or expired session: " + sessionId);
+        }
+        // Edits of one session are applied one at a time, in order
+        synchronized (document) {
+            if (edit.getVersion() != null && edit.getVersion() != document.getVersion()) {
+                throw new ResponseStatusException(HttpStatus.CONFLICT,
+                        "Session is at version " + document.getVersion() + ", edit was made on " + edit.getVersion());
+            }
+            try {
+                IncrementalDocument.Change change = document.applyEdit(edit.getOffset(), edit.getLength(), edit.getText());
+                return toResponse(sessionId, document, change);
+            } catch (IllegalArgumentException e) {
+                throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage());
+            }
+        }
+    }
+
+    @Override
+    public boolean close(String sessionId) {
+        return sessions.asMap().remove(sessionId) != null;
+    }
+
+    /**
+     * Budget of the analysis of one open or edit, starting now
+     */
+    private AnalysisBudget budget() {
+        CodeEnhancerProperties.Budget budget = properties.getBudget();
+        return AnalysisBudget.of(budget.getTime(), budget.getMaxNodes());
+    }
+
+    private SessionUpdateResponse toResponse(String sessionId, IncrementalDocument document,
+                                             IncrementalDocument.Change change) {
+        SessionUpdateResponse.SessionUpdateResponseBuilder response = SessionUpdateResponse.builder()
+                .sessionId(sessionId)
+                .version(document.getVersion())
+                .valid(document.isValid())
+                .partial(document.isPartial())
+                .message(document.isValid() ? "Valid Java code" : "Invalid Java syntax: " + document.getParseError())
+                .wholeDocument(change.isWholeDocument())
+                .startLine(change.getStartLine())
+                .endLine(change.getEndLine())
+                .lineDelta(change.getLineDelta())
+                .addedWarnings(change.getAddedWarnings())
+                .removedWarnings(change.getRemovedWarnings())
+                .rewrites(change.getRewrites().stream()
+                        .map(site -> new RewriteSuggestion(site.getRule(), site.getLine()))
+                        .collect(Collectors.toList()));
+
+        if (document.isValid()) {
+            CodeMetrics metrics = new CodeMetrics();
+            metrics.setTotalLinesOfCode(document.getLineCount());
+            metrics.setCyclomaticComplexity(document.getCyclomaticComplexity());
+            metrics.setDeprecatedApiCount(document.getDeprecatedApiCount());
+            metrics.setModernizationOpportunities(document.getModernizationOpportunities());
+            response.codeMetrics(metrics);
+        }
+        return response.build();
+    }
+}
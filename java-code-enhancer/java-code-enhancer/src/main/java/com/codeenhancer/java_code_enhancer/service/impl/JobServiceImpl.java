@@ -0,0 +1,459 @@
+package com.codeenhancer.java_code_enhancer.service.impl;
+
+import com.codeenhancer.java_code_enhancer.analysis.AnalysisContext;
+import com.codeenhancer.java_code_enhancer.config.CodeEnhancerProperties;
+import com.codeenhancer.java_code_enhancer.dto.EnhancementStreamEvent;
+import com.codeenhancer.java_code_enhancer.dto.JobState;
+import com.codeenhancer.java_code_enhancer.dto.JobStatus;
+import com.codeenhancer.java_code_enhancer.dto.OutputMode;
+import com.codeenhancer.java_code_enhancer.jobs.JobRecord;
+import com.codeenhancer.java_code_enhancer.jobs.JobStore;
+import com.codeenhancer.java_code_enhancer.rules.ModernizationRule;
+import com.codeenhancer.java_code_enhancer.rules.RuleRegistry;
+import com.codeenhancer.java_code_enhancer.rules.RuleSet;
+import com.codeenhancer.java_code_enhancer.service.BatchEnhancementService;
+import com.codeenhancer.java_code_enhancer.service.JobService;
+import com.codeenhancer.java_code_enhancer.util.CodeMetrics;
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
+import com.google.common.hash.HashingInputStream;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.event.EventListener;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Collectors;
+
+@Slf4j
+@Service
+public class JobServiceImpl implements JobService {
+    private final BatchEnhancementService batchEnhancementService;
+    private final RuleRegistry ruleRegistry;
+    private final JobStore store;
+    private final CodeEnhancerProperties.Jobs settings;
+    private final Map<String, JobRecord> jobs = new ConcurrentHashMap<>();
+    private final Set<String> cancelRequested = ConcurrentHashMap.newKeySet();
+    private final ExecutorService workers;
+    private volatile boolean stopping;
+
+    public JobServiceImpl(BatchEnhancementService batchEnhancementService, RuleRegistry ruleRegistry,
+                          JobStore store, CodeEnhancerProperties properties) {
+        this.batchEnhancementService = batchEnhancementService;
+        this.ruleRegistry = ruleRegistry;
+        this.store = store;
+        this.settings = properties.getJobs();
+        this.workers = Executors.newFixedThreadPool(settings.getWorkers());
+    }
+
+    /**
+     * Queue again the jobs a shutdown or crash left unfinished
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void resume(ApplicationReadyEvent event) {
+        if (!(event.getApplicationContext() instanceof WebServerApplicationContext)) {
+            return; // The command line runs no jobs
+        }
+        int resumed = 0;
+        for (JobRecord job : store.loadAll()) {
+            jobs.put(job.getId(), job);
+            if (!job.getState().isFinished()) {
+                job.setState(JobState.QUEUED);
+                workers.execute(() -> run(job));
+                resumed++;
+            }
+        }
+        removeExpired();
+        if (resumed > 0) {
+            log.info("Resumed {} unfinished jobs from {}", resumed, settings.getDirectory());
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        // Running jobs stay RUNNING in the journal and resume on the next start
+        stopping = true;
+        workers.shutdownNow();
+    }
+
+    @Override
+    public JobStatus submitText(String code, String name, OutputMode mode, RuleSet rules) {
+        String fileName = name == null || name.isBlank() ? "Source.java" : safeName(name);
+        return submit("text", null, mode, rules, (input, hasher) -> {
+            byte[] bytes = (code == null ? "" : code).getBytes(StandardCharsets.UTF_8);
+            Path file = Files.write(input.resolve(fileName), bytes);
+            hasher.putString(fileName, StandardCharsets.UTF_8).putBytes(bytes);
+            return List.of(file);
+        });
+    }
+
+    @Override
+    public JobStatus submitFiles(List<MultipartFile> uploads, Integer concurrency, OutputMode mode, RuleSet rules) {
+        return submit("files", concurrency, mode, rules, (input, hasher) -> {
+            List<Path> files = new ArrayList<>();
+            for (MultipartFile upload : uploads) {
+                // One directory per upload keeps files of the same name apart
+                Path directory = Files.createDirectory(input.resolve(String.valueOf(files.size())));
+                String fileName = safeName(upload.getOriginalFilename());
+                Path file = directory.resolve(fileName);
+                try (HashingInputStream in = new HashingInputStream(Hashing.sha256(), upload.getInputStream())) {
+                    Files.copy(in, file);
+                    hasher.putString(fileName, StandardCharsets.UTF_8).putBytes(in.hash().asBytes());
+                }
+                files.add(file);
+            }
+            return files;
+        });
+    }
+
+    @Override
+    public JobStatus submitPath(String path, Integer concurrency, OutputMode mode, RuleSet rules) {
+        Path real;
+        try {
+            real = Paths.get(path == null ? "" : path).toRealPath();
+        } catch (IOException | RuntimeException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "No such file or directory: " + path);
+        }
+        boolean allowed = allowedRoots().stream().anyMatch(real::startsWith);
+        if (!allowed) {
+            throw new ResponseStatusException(HttpStatus.FORBIDDEN,
+                    "Path is not under an allowed root (code-enhancer.jobs.allowed-roots): " + path);
+        }
+        // The files may change between runs, so path jobs are never reused
+        return submit("path", concurrency, mode, rules, null, List.of(real));
+    }
+
+    @Override
+    public JobStatus get(String jobId) {
+        return toStatus(find(jobId));
+    }
+
+    @Override
+    public List<JobStatus> list() {
+        return jobs.values().stream()
+                .sorted(Comparator.comparing(JobRecord::getCreatedAt).reversed())
+                .map(this::toStatus)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public JobStatus cancel(String jobId) {
+        JobRecord job = find(jobId);
+        synchronized (job) {
+            if (job.getState().isFinished()) {
+                throw new ResponseStatusException(HttpStatus.CONFLICT, "Job has already finished: " + jobId);
+            }
+            if (job.getState() == JobState.QUEUED) {
+                finish(job, JobState.CANCELLED, null);
+            } else {
+                cancelRequested.add(jobId);
+            }
+            return toStatus(job);
+        }
+    }
+
+    @Override
+    public void delete(String jobId) {
+        JobRecord job = find(jobId);
+        synchronized (job) {
+            if (job.getState() == JobState.RUNNING) {
+                throw new ResponseStatusException(HttpStatus.CONFLICT, "Cancel the running job before deleting it: " + jobId);
+            }
+            // A queued job is skipped by its worker once it is gone
+            job.setState(JobState.CANCELLED);
+            jobs.remove(jobId);
+            store.delete(jobId);
+        }
+    }
+
+    @Override
+    public Path results(String jobId) {
+        JobRecord job = find(jobId);
+        if (!job.getState().isFinished()) {
+            throw new ResponseStatusException(HttpStatus.CONFLICT, "Job has not finished: " + jobId);
+        }
+        Path results = store.resultsFile(jobId);
+        if (!Files.exists(results)) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "Job has no results: " + jobId);
+        }
+        return results;
+    }
+
+    private JobStatus submit(String source, Integer concurrency, OutputMode mode, RuleSet rules, Inputs inputs) {
+        return submit(source, concurrency, mode, rules, inputs, null);
+    }
+
+    /**
+     * Journal a new job and queue it
+     *
+     * @param inputs Writes the submitted content to the job's input directory
+     * @param paths  Server-side inputs, used instead of written ones when not null
+     */
+    private JobStatus submit(String source, Integer concurrency, OutputMode mode, RuleSet rules,
+                             Inputs inputs, List<Path> paths) {
+        removeExpired();
+        long queued = jobs.values().stream().filter(job -> job.getState() == JobState.QUEUED).count();
+        if (queued >= settings.getMaxQueued()) {
+            throw new ResponseStatusException(HttpStatus.TOO_MANY_REQUESTS,
+                    "Too many queued jobs (" + queued + "), try again later");
+        }
+
+        String id = UUID.randomUUID().toString();
+        Hasher hasher = Hashing.sha256().newHasher()
+                .putString(mode.name(), StandardCharsets.UTF_8)
+                .putString(rules.getFingerprint(), StandardCharsets.UTF_8);
+        List<Path> files;
+        try {
+            Path input = store.create(id);
+            files = paths != null ? paths : inputs.write(input, hasher);
+        } catch (IOException e) {
+            store.delete(id);
+            throw new UncheckedIOException("Could not store the inputs of job " + id, e);
+        }
+
+        String digest = paths == null ? hasher.hash().toString() : null;
+        if (digest != null) {
+            JobRecord done = jobs.values().stream()
+                    .filter(job -> job.getState() == JobState.COMPLETED && digest.equals(job.getDigest()))
+                    .findFirst()
+                    .orElse(null);
+            if (done != null) {
+                store.delete(id);
+                return toStatus(done);
+            }
+        }
+
+        JobRecord job = JobRecord.builder()
+                .id(id)
+                .state(JobState.QUEUED)
+                .source(source)
+                .inputs(files.stream().map(Path::toString).collect(Collectors.toList()))
+                .mode(mode)
+                .rules(rules.getRules().stream().map(ModernizationRule::id).collect(Collectors.toList()))
+                .concurrency(concurrency)
+                .digest(digest)
+                .totalMetrics(new CodeMetrics())
+                .createdAt(Instant.now())
+                .build();
+        store.save(job);
+        jobs.put(id, job);
+        workers.execute(() -> run(job));
+        return toStatus(job);
+    }
+
+    /**
+     * Run a job on a worker, skipping the files whose results an earlier run
+     * already journaled
+     */
+    private void run(JobRecord job) {
+        synchronized (job) {
+            if (job.getState() != JobState.QUEUED || !jobs.containsKey(job.getId())) {
+                return; // Cancelled or deleted while queued
+            }
+            job.setState(JobState.RUNNING);
+            if (job.getStartedAt() == null) {
+                job.setStartedAt(Instant.now());
+            }
+            store.save(job);
+        }
+        String id = job.getId();
+        try {
+            BitSet done = new BitSet();
+            boolean[] summarized = {false};
+            CodeMetrics totals = new CodeMetrics();
+            synchronized (job) {
+                job.setProcessed(0);
+                job.setSucceeded(0);
+                job.setFailed(0);
+                job.setTotalMetrics(totals);
+            }
+            store.readResults(id, event -> {
+                if (EnhancementStreamEvent.SUMMARY.equals(event.getType())) {
+                    summarized[0] = true;
+                } else {
+                    done.set(event.getSequence());
+                    record(job, event);
+                }
+            });
+            if (summarized[0]) {
+                // The previous run finished but stopped before saving its state
+                finish(job, JobState.COMPLETED, null);
+                return;
+            }
+
+            RuleSet rules = ruleSet(job.getRules());
+            List<Path> inputs = job.getInputs().stream().map(Paths::get).collect(Collectors.toList());
+            try (JobStore.ResultJournal journal = store.openResults(id)) {
+                int total = batchEnhancementService.streamPaths(inputs, job.getConcurrency(), job.getMode(), rules,
+                        index -> {
+                            if (stopping || cancelRequested.contains(id)) {
+                                throw new CancellationException();
+                            }
+                            return !done.get(index);
+                        },
+                        null,
+                        event -> {
+                            journal.append(event);
+                            record(job, event);
+                        });
+                synchronized (job) {
+                    job.setTotalFiles(total);
+                    journal.append(EnhancementStreamEvent.builder()
+                            .type(EnhancementStreamEvent.SUMMARY)
+                            .sequence(total)
+                            .success(job.getFailed() == 0)
+                            .codeMetrics(job.getTotalMetrics())
+                            .totalFiles(total)
+                            .failed(job.getFailed())
+                            .build());
+                }
+            }
+            finish(job, JobState.COMPLETED, null);
+        } catch (CancellationException e) {
+            if (!stopping) {
+                finish(job, JobState.CANCELLED, null);
+            }
+        } catch (Exception e) {
+            if (!stopping) {
+                log.warn("Job {} failed: {}", id, e.getMessage());
+                finish(job, JobState.FAILED, AnalysisContext.cleanMessage(e));
+            }
+        } finally {
+            cancelRequested.remove(id);
+        }
+    }
+
+    private static void record(JobRecord job, EnhancementStreamEvent event) {
+        synchronized (job) {
+            job.setProcessed(job.getProcessed() + 1);
+            if (event.isSuccess()) {
+                job.setSucceeded(job.getSucceeded() + 1);
+                job.getTotalMetrics().add(event.getCodeMetrics());
+            } else {
+                job.setFailed(job.getFailed() + 1);
+            }
+        }
+    }
+
+    private void finish(JobRecord job, JobState state, String error) {
+        synchronized (job) {
+            job.setState(state);
+            job.setError(error);
+            job.setFinishedAt(Instant.now());
+            if (jobs.containsKey(job.getId())) {
+                store.save(job);
+            }
+        }
+    }
+
+    /**
+     * The rules a job was submitted with, whatever the configuration is now
+     */
+    private RuleSet ruleSet(List<String> ids) {
+        List<String> others = ruleRegistry.getRules().stream()
+                .map(ModernizationRule::id)
+                .filter(id -> !ids.contains(id))
+                .collect(Collectors.toList());
+        return ruleRegistry.resolve(null, ids, others);
+    }
+
+    private void removeExpired() {
+        Instant cutoff = Instant.now().minus(settings.getRetention());
+        for (JobRecord job : List.copyOf(jobs.values())) {
+            if (job.getState().isFinished() && job.getFinishedAt() != null && job.getFinishedAt().isBefore(cutoff)) {
+                jobs.remove(job.getId());
+                store.delete(job.getId());
+            }
+        }
+    }
+
+    /**
+     * The allowed roots with their links resolved, as the submitted path is.
+     * A root that does not exist allows nothing.
+     */
+    private List<Path> allowedRoots() {
+        List<Path> roots = new ArrayList<>();
+        for (String root : settings.getAllowedRoots()) {
+            try {
+                roots.add(Paths.get(root).toRealPath());
+            } catch (IOException | RuntimeException e) {
+                log.warn("Ignoring allowed root {}: {}", root, e.getMessage());
+            }
+        }
+        return roots;
+    }
+
+    private JobRecord find(String jobId) {
+        JobRecord job = jobs.get(jobId);
+        if (job == null) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "Unknown job: " + jobId);
+        }
+        return job;
+    }
+
+    private JobStatus toStatus(JobRecord job) {
+        synchronized (job) {
+            return JobStatus.builder()
+                    .jobId(job.getId())
+                    .state(job.getState())
+                    .source(job.getSource())
+                    .output(job.getMode())
+                    .totalFiles(job.getTotalFiles())
+                    .processed(job.getProcessed())
+                    .succeeded(job.getSucceeded())
+                    .failed(job.getFailed())
+                    .totalMetrics(copy(job.getTotalMetrics()))
+                    .error(job.getError())
+                    .createdAt(job.getCreatedAt())
+                    .startedAt(job.getStartedAt())
+                    .finishedAt(job.getFinishedAt())
+                    .build();
+        }
+    }
+
+    private static CodeMetrics copy(CodeMetrics metrics) {
+        CodeMetrics copy = new CodeMetrics();
+        if (metrics != null) {
+            copy.add(metrics);
+        }
+        return copy;
+    }
+
+    /**
+     * File name of an upload without any directory part
+     */
+    private static String safeName(String name) {
+        String fileName = name == null ? "" : name.substring(Math.max(name.lastIndexOf('/'), name.lastIndexOf('\\')) + 1);
+        fileName = fileName.replaceAll("[^A-Za-z0-9._-]", "_");
+        return fileName.isEmpty() || fileName.startsWith(".") ? "upload" + fileName : fileName;
+    }
+
+    private interface Inputs {
+        /**
+         * @return The written inputs, in order
+         */
+        List<Path> write(Path directory, Hasher hasher) throws IOException;
+    }
+}
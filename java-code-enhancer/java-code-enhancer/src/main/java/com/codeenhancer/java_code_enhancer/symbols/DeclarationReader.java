@@ -0,0 +1,223 @@
+package com.codeenhancer.java_code_enhancer.symbols;
+
+import org.eclipse.jdt.core.compiler.CategorizedProblem;
+import org.eclipse.jdt.core.compiler.IProblem;
+import org.eclipse.jdt.core.dom.AST;
+import org.eclipse.jdt.core.dom.ASTNode;
+import org.eclipse.jdt.core.dom.ASTParser;
+import org.eclipse.jdt.core.dom.ASTVisitor;
+import org.eclipse.jdt.core.dom.AbstractTypeDeclaration;
+import org.eclipse.jdt.core.dom.ArrayType;
+import org.eclipse.jdt.core.dom.Comment;
+import org.eclipse.jdt.core.dom.CompilationUnit;
+import org.eclipse.jdt.core.dom.EnumConstantDeclaration;
+import org.eclipse.jdt.core.dom.EnumDeclaration;
+import org.eclipse.jdt.core.dom.Expression;
+import org.eclipse.jdt.core.dom.FieldDeclaration;
+import org.eclipse.jdt.core.dom.ImportDeclaration;
+import org.eclipse.jdt.core.dom.Initializer;
+import org.eclipse.jdt.core.dom.MethodDeclaration;
+import org.eclipse.jdt.core.dom.NameQualifiedType;
+import org.eclipse.jdt.core.dom.ParameterizedType;
+import org.eclipse.jdt.core.dom.QualifiedType;
+import org.eclipse.jdt.core.dom.RecordDeclaration;
+import org.eclipse.jdt.core.dom.SimpleType;
+import org.eclipse.jdt.core.dom.SingleVariableDeclaration;
+import org.eclipse.jdt.core.dom.Type;
+import org.eclipse.jdt.core.dom.TypeDeclaration;
+import org.eclipse.jdt.core.dom.VariableDeclarationFragment;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Reads the declarations of a source for the project index with the Eclipse
+ * compiler's parser, which skips method bodies rather than parsing them. The
+ * types are taken from its tree, and the stub is the source with bodies,
+ * initializers and comments cut out.
+ */
+final class DeclarationReader {
+    private final Map<String, String> options;
+
+    DeclarationReader(Map<String, String> options) {
+        this.options = options;
+    }
+
+    /**
+     * Declarations of one source, or null when its declarations do not parse
+     */
+    ProjectTypeIndex.SourceDeclarations read(String source) {
+        ASTParser parser = ASTParser.newParser(AST.getJLSLatest());
+        parser.setKind(ASTParser.K_COMPILATION_UNIT);
+        parser.setCompilerOptions(new HashMap<>(options));
+        parser.setIgnoreMethodBodies(true);
+        parser.setSource(source.toCharArray());
+        CompilationUnit unit = (CompilationUnit) parser.createAST(null);
+        for (IProblem problem : unit.getProblems()) {
+            if (problem.isError() && problem instanceof CategorizedProblem
+                    && ((CategorizedProblem) problem).getCategoryID() == CategorizedProblem.CAT_SYNTAX) {
+                return null;
+            }
+        }
+
+        String packageName = unit.getPackage() == null ? "" : unit.getPackage().getName().getFullyQualifiedName();
+        ProjectTypeIndex.FileScope scope = new ProjectTypeIndex.FileScope(packageName);
+        for (Object item : unit.imports()) {
+            ImportDeclaration declaration = (ImportDeclaration) item;
+            if (!declaration.isStatic()) {
+                scope.addImport(declaration.getName().getFullyQualifiedName(), declaration.isOnDemand());
+            }
+        }
+        ProjectTypeIndex.SourceDeclarations declarations = new ProjectTypeIndex.SourceDeclarations(scope);
+        for (Object type : unit.types()) {
+            AbstractTypeDeclaration declaration = (AbstractTypeDeclaration) type;
+            declare(declaration, scope.qualify(declaration.getName().getIdentifier()), null, declarations.types);
+        }
+        declarations.stub = stub(source, unit);
+        return declarations;
+    }
+
+    private static void declare(AbstractTypeDeclaration type, String name, String outer,
+                                List<ProjectTypeIndex.Declared> types) {
+        ProjectTypeIndex.Declared declared = new ProjectTypeIndex.Declared(name, outer);
+        List<?> interfaces = List.of();
+        if (type instanceof TypeDeclaration) {
+            TypeDeclaration declaration = (TypeDeclaration) type;
+            if (declaration.getSuperclassType() != null) {
+                declared.supertypes.add(erasure(declaration.getSuperclassType()));
+            }
+            interfaces = declaration.superInterfaceTypes();
+        } else if (type instanceof EnumDeclaration) {
+            interfaces = ((EnumDeclaration) type).superInterfaceTypes();
+            for (Object constant : ((EnumDeclaration) type).enumConstants()) {
+                declared.members.add(((EnumConstantDeclaration) constant).getName().getIdentifier());
+            }
+        } else if (type instanceof RecordDeclaration) {
+            interfaces = ((RecordDeclaration) type).superInterfaceTypes();
+            for (Object component : ((RecordDeclaration) type).recordComponents()) {
+                String field = ((SingleVariableDeclaration) component).getName().getIdentifier();
+                declared.members.add(field);
+                declared.members.add(field + "()");
+            }
+        }
+        for (Object supertype : interfaces) {
+            declared.supertypes.add(erasure((Type) supertype));
+        }
+        for (Object member : type.bodyDeclarations()) {
+            if (member instanceof AbstractTypeDeclaration) {
+                AbstractTypeDeclaration nested = (AbstractTypeDeclaration) member;
+                declare(nested, name + "." + nested.getName().getIdentifier(), name, types);
+            } else if (member instanceof MethodDeclaration && !((MethodDeclaration) member).isConstructor()) {
+                declared.members.add(signature((MethodDeclaration) member));
+            } else if (member instanceof FieldDeclaration) {
+                for (Object fragment : ((FieldDeclaration) member).fragments()) {
+                    declared.members.add(((VariableDeclarationFragment) fragment).getName().getIdentifier());
+                }
+            }
+        }
+        types.add(declared);
+    }
+
+    private static String signature(MethodDeclaration method) {
+        StringBuilder signature = new StringBuilder(method.getName().getIdentifier()).append('(');
+        List<?> parameters = method.parameters();
+        for (int i = 0; i < parameters.size(); i++) {
+            SingleVariableDeclaration parameter = (SingleVariableDeclaration) parameters.get(i);
+            signature.append(i == 0 ? "" : ",").append(erasure(parameter.getType()))
+                    .append("[]".repeat(parameter.getExtraDimensions()));
+            if (parameter.isVarargs()) {
+                signature.append("...");
+            }
+        }
+        return signature.append(')').toString();
+    }
+
+    /**
+     * Name of a type as written, without type arguments
+     */
+    private static String erasure(Type type) {
+        if (type instanceof ArrayType) {
+            ArrayType array = (ArrayType) type;
+            return erasure(array.getElementType()) + "[]".repeat(array.getDimensions());
+        }
+        if (type instanceof ParameterizedType) {
+            return erasure(((ParameterizedType) type).getType());
+        }
+        if (type instanceof SimpleType) {
+            return ((SimpleType) type).getName().getFullyQualifiedName();
+        }
+        if (type instanceof QualifiedType) {
+            QualifiedType qualified = (QualifiedType) type;
+            return erasure(qualified.getQualifier()) + "." + qualified.getName().getIdentifier();
+        }
+        if (type instanceof NameQualifiedType) {
+            NameQualifiedType qualified = (NameQualifiedType) type;
+            return qualified.getQualifier().getFullyQualifiedName() + "." + qualified.getName().getIdentifier();
+        }
+        return type.toString();
+    }
+
+    /**
+     * The source without what resolution of its types never looks into: the
+     * code of bodies and initializers, enum constant arguments, and comments.
+     * Cuts inside an earlier cut are skipped.
+     */
+    private static String stub(String source, CompilationUnit unit) {
+        List<int[]> cuts = new ArrayList<>();
+        for (Object comment : unit.getCommentList()) {
+            cuts.add(range((Comment) comment));
+        }
+        unit.accept(new ASTVisitor() {
+            @Override
+            public boolean visit(MethodDeclaration node) {
+                if (node.getBody() != null) {
+                    // The braces are kept, so the body is left empty
+                    int[] body = range(node.getBody());
+                    cuts.add(new int[]{body[0] + 1, body[1] - 1});
+                }
+                return true;
+            }
+
+            @Override
+            public boolean visit(Initializer node) {
+                cuts.add(range(node));
+                return false;
+            }
+
+            @Override
+            public boolean visit(VariableDeclarationFragment node) {
+                Expression initializer = node.getInitializer();
+                if (initializer != null && node.getParent() instanceof FieldDeclaration) {
+                    int[] name = range(node.getName());
+                    cuts.add(new int[]{source.indexOf('=', name[1]), range(initializer)[1]});
+                }
+                return false;
+            }
+
+            @Override
+            public boolean visit(EnumConstantDeclaration node) {
+                // Arguments and class body
+                cuts.add(new int[]{range(node.getName())[1], range(node)[1]});
+                return false;
+            }
+        });
+        cuts.sort((a, b) -> Integer.compare(a[0], b[0]));
+
+        StringBuilder stub = new StringBuilder(source.length() / 4);
+        int copied = 0;
+        for (int[] cut : cuts) {
+            if (cut[0] < copied) {
+                continue;
+            }
+            stub.append(source, copied, cut[0]).append(' ');
+            copied = cut[1];
+        }
+        return stub.append(source, copied, source.length()).toString();
+    }
+
+    private static int[] range(ASTNode node) {
+        return new int[]{node.getStartPosition(), node.getStartPosition() + node.getLength()};
+    }
+}
@@ -0,0 +1,45 @@
+package com.codeenhancer.java_code_enhancer.symbols;
+
+import com.codeenhancer.java_code_enhancer.analysis.JavaParserPool;
+import com.codeenhancer.java_code_enhancer.config.CodeEnhancerProperties;
+import com.github.javaparser.ParserConfiguration;
+import com.github.javaparser.resolution.TypeSolver;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+/**
+ * Starts the type index of a multi-file request, when symbol resolution and
+ * project indexes are enabled. The index falls back to the application's
+ * type solver for the JDK and the configured libraries.
+ */
+@Component
+public class ProjectIndexer {
+    private final JavaParserPool parsers;
+    private final TypeSolver libraries;
+    private final boolean enabled;
+    private final int maxCachedFiles;
+    private final ParserConfiguration.LanguageLevel languageLevel;
+
+    @Autowired
+    public ProjectIndexer(CodeEnhancerProperties properties, JavaParserPool parsers,
+                          ObjectProvider<TypeSolver> typeSolver) {
+        this(properties, parsers, typeSolver.getIfAvailable());
+    }
+
+    public ProjectIndexer(CodeEnhancerProperties properties, JavaParserPool parsers, TypeSolver libraries) {
+        this.parsers = parsers;
+        this.libraries = libraries;
+        this.enabled = libraries != null && properties.getSymbols().isProjectIndex();
+        this.maxCachedFiles = properties.getSymbols().getMaxProjectStubs();
+        this.languageLevel = properties.getParser().getLanguageLevel();
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public ProjectTypeIndex.Builder newIndex() {
+        return ProjectTypeIndex.builder(parsers, libraries, maxCachedFiles, languageLevel);
+    }
+}
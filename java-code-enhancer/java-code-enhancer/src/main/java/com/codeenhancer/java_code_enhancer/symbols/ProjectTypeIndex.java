@@ -0,0 +1,530 @@
+package com.codeenhancer.java_code_enhancer.symbols;
+
+import com.codeenhancer.java_code_enhancer.analysis.JavaParserPool;
+import com.codeenhancer.java_code_enhancer.backend.JdtBackend;
+import com.github.javaparser.ParserConfiguration;
+import com.github.javaparser.ast.CompilationUnit;
+import com.github.javaparser.ast.DataKey;
+import com.github.javaparser.ast.Node;
+import com.github.javaparser.resolution.TypeSolver;
+import com.github.javaparser.symbolsolver.JavaSymbolSolver;
+import com.google.common.hash.HashCode;
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeSet;
+
+/**
+ * The type declarations of the sources of one project, indexed once so that
+ * each source resolves the types declared in the others.
+ * <p>
+ * Each type is kept as its qualified name, its supertypes and the signatures
+ * of its methods and fields. Every name is interned into one table, and
+ * types refer to it by int ids held in flat arrays, so a project of
+ * thousands of files costs one string per distinct name. Names are found by
+ * their hash in an open-addressing table of ids.
+ * <p>
+ * For resolution each file also keeps a stub, its package, imports and
+ * declarations with the bodies emptied, which is parsed when one of its
+ * types is first resolved.
+ * <p>
+ * Besides the fingerprint of all declarations, a source has the
+ * fingerprint of the stubs it may refer to, so a result kept for it stays
+ * valid while other files of the project change.
+ */
+public final class ProjectTypeIndex {
+    private static final DataKey<ProjectTypeIndex> KEY = new DataKey<>() {
+    };
+
+    /** Distinct names of types, supertypes and members, sorted */
+    private final String[] names;
+    /** Open-addressing table from the hash of a name to its id plus one, 0 for a free slot */
+    private final int[] slots;
+    /** Type declared under each name, -1 for the names of no project type */
+    private final int[] typeOfName;
+    private final int[] typeNames;
+    private final int[] typeFiles;
+    /** Supertypes of type t are superNames[superOffsets[t]] until superOffsets[t + 1] */
+    private final int[] superOffsets;
+    private final int[] superNames;
+    private final int[] memberOffsets;
+    private final int[] memberNames;
+    private final String[] stubs;
+    private final HashCode[] stubHashes;
+    /** Files declaring a type of each simple name */
+    private final Map<String, int[]> filesBySimpleName = new HashMap<>();
+    /** Files named by the stub of each file, read on first use */
+    private volatile int[][] references;
+    private final String fingerprint;
+    private final ProjectTypeSolver typeSolver;
+    private final JavaSymbolSolver symbolResolver;
+
+    private ProjectTypeIndex(Builder builder, String[] names) {
+        this.names = names;
+        this.slots = new int[Integer.highestOneBit(Math.max(names.length, 1) * 2) * 2];
+        int mask = slots.length - 1;
+        for (int i = 0; i < names.length; i++) {
+            int slot = names[i].hashCode() & mask;
+            while (slots[slot] != 0) {
+                slot = (slot + 1) & mask;
+            }
+            slots[slot] = i + 1;
+        }
+        int types = builder.types.size();
+        this.typeOfName = new int[names.length];
+        Arrays.fill(typeOfName, -1);
+        this.typeNames = new int[types];
+        this.typeFiles = new int[types];
+        this.superOffsets = new int[types + 1];
+        this.memberOffsets = new int[types + 1];
+        int supers = 0;
+        int members = 0;
+        for (Declared type : builder.types) {
+            supers += type.supertypes.size();
+            members += type.members.size();
+        }
+        this.superNames = new int[supers];
+        this.memberNames = new int[members];
+
+        for (int t = 0; t < types; t++) {
+            Declared type = builder.types.get(t);
+            typeNames[t] = id(type.name);
+            typeOfName[typeNames[t]] = t;
+            typeFiles[t] = type.file;
+            superOffsets[t + 1] = superOffsets[t] + type.supertypes.size();
+            for (int i = 0; i < type.supertypes.size(); i++) {
+                superNames[superOffsets[t] + i] = id(type.supertypes.get(i));
+            }
+            memberOffsets[t + 1] = memberOffsets[t] + type.members.size();
+            for (int i = 0; i < type.members.size(); i++) {
+                memberNames[memberOffsets[t] + i] = id(type.members.get(i));
+            }
+        }
+        Map<String, BitSet> declaring = new HashMap<>();
+        for (int t = 0; t < types; t++) {
+            String name = names[typeNames[t]];
+            declaring.computeIfAbsent(name.substring(name.lastIndexOf('.') + 1), simple -> new BitSet())
+                    .set(typeFiles[t]);
+        }
+        declaring.forEach((simple, files) -> filesBySimpleName.put(simple, files.stream().toArray()));
+
+        this.stubs = builder.stubs.toArray(new String[0]);
+        this.stubHashes = new HashCode[stubs.length];
+        // The stubs hold every declaration, and nothing else
+        Hasher hasher = Hashing.sha256().newHasher();
+        for (int file = 0; file < stubs.length; file++) {
+            hasher.putString(stubs[file], StandardCharsets.UTF_8).putByte((byte) 0);
+            stubHashes[file] = Hashing.sha256().hashString(stubs[file], StandardCharsets.UTF_8);
+        }
+        this.fingerprint = hasher.hash().toString();
+        this.typeSolver = new ProjectTypeSolver(this, builder.parsers, builder.libraries, builder.maxCachedFiles);
+        this.symbolResolver = new JavaSymbolSolver(typeSolver);
+    }
+
+    /**
+     * Start an index of the sources of one project
+     *
+     * @param parsers        Parsers for the stubs
+     * @param libraries      Solver of the types outside the project, null for none
+     * @param maxCachedFiles Maximum number of parsed stubs kept for resolution
+     * @param languageLevel  Language level the declarations of the sources are read at
+     */
+    public static Builder builder(JavaParserPool parsers, TypeSolver libraries, int maxCachedFiles,
+                                  ParserConfiguration.LanguageLevel languageLevel) {
+        return new Builder(parsers, libraries, maxCachedFiles,
+                new DeclarationReader(JdtBackend.compilerOptions(languageLevel)));
+    }
+
+    /**
+     * Index of the project the node's source was attached to
+     */
+    public static Optional<ProjectTypeIndex> of(Node node) {
+        return node.findCompilationUnit()
+                .filter(cu -> cu.containsData(KEY))
+                .map(cu -> cu.getData(KEY));
+    }
+
+    /**
+     * Resolve the types of a parsed source of the project through this index,
+     * falling back to the library types
+     */
+    public void attach(CompilationUnit cu) {
+        symbolResolver.inject(cu);
+        cu.setData(KEY, this);
+    }
+
+    public TypeSolver getTypeSolver() {
+        return typeSolver;
+    }
+
+    /**
+     * Hash of the declarations of the project, which changes with a
+     * signature or an import but not with the code of method bodies
+     */
+    public String getFingerprint() {
+        return fingerprint;
+    }
+
+    /**
+     * Hash of the declarations a source may refer to: the stubs of the files
+     * declaring a type of a name it mentions, and of the files those stubs
+     * mention in turn. It changes with a signature or an import of these
+     * files, or when another file starts declaring a type of such a name,
+     * but not with the rest of the project.
+     *
+     * @return The hash, or an empty string when the source mentions no project type
+     */
+    public String getFingerprint(String source) {
+        int[][] named = references();
+        BitSet files = new BitSet(stubs.length);
+        Deque<Integer> pending = new ArrayDeque<>();
+        for (int file : mentioned(source)) {
+            files.set(file);
+            pending.push(file);
+        }
+        while (!pending.isEmpty()) {
+            for (int file : named[pending.pop()]) {
+                if (!files.get(file)) {
+                    files.set(file);
+                    pending.push(file);
+                }
+            }
+        }
+        if (files.isEmpty()) {
+            return "";
+        }
+        List<HashCode> hashes = new ArrayList<>(files.cardinality());
+        files.stream().forEach(file -> hashes.add(stubHashes[file]));
+        // File numbers shift as files are added, so the hash does not depend on their order
+        return Hashing.combineUnordered(hashes).toString();
+    }
+
+    public int getFileCount() {
+        return stubs.length;
+    }
+
+    public int getTypeCount() {
+        return typeNames.length;
+    }
+
+    public int getNameCount() {
+        return names.length;
+    }
+
+    public boolean hasType(String qualifiedName) {
+        return typeId(qualifiedName) >= 0;
+    }
+
+    /**
+     * Supertypes of a project type, qualified where the import or the project
+     * resolves them and as written otherwise
+     */
+    public List<String> getSupertypes(String qualifiedName) {
+        int type = typeId(qualifiedName);
+        return type < 0 ? List.of() : slice(superOffsets, superNames, type);
+    }
+
+    /**
+     * Members of a project type: fields by name and methods by name and
+     * parameter types as written, such as {@code list(FilenameFilter)}
+     */
+    public List<String> getMembers(String qualifiedName) {
+        int type = typeId(qualifiedName);
+        return type < 0 ? List.of() : slice(memberOffsets, memberNames, type);
+    }
+
+    /**
+     * Whether a project type has the ancestor among its supertypes and calls
+     * the ancestor's method, as no project type between them declares a method
+     * of that name
+     */
+    public boolean inherits(String qualifiedName, String ancestor, String method) {
+        int start = typeId(qualifiedName);
+        if (start < 0) {
+            return false;
+        }
+        String prefix = method + "(";
+        boolean found = false;
+        BitSet visited = new BitSet(typeNames.length);
+        Deque<Integer> pending = new ArrayDeque<>();
+        pending.push(start);
+        visited.set(start);
+        while (!pending.isEmpty()) {
+            int type = pending.pop();
+            for (int i = memberOffsets[type]; i < memberOffsets[type + 1]; i++) {
+                if (names[memberNames[i]].startsWith(prefix)) {
+                    return false;
+                }
+            }
+            for (int i = superOffsets[type]; i < superOffsets[type + 1]; i++) {
+                int supertype = typeOfName[superNames[i]];
+                if (names[superNames[i]].equals(ancestor)) {
+                    found = true;
+                } else if (supertype >= 0 && !visited.get(supertype)) {
+                    visited.set(supertype);
+                    pending.push(supertype);
+                }
+            }
+        }
+        return found;
+    }
+
+    int typeId(String qualifiedName) {
+        int name = id(qualifiedName);
+        return name < 0 ? -1 : typeOfName[name];
+    }
+
+    int fileOf(int type) {
+        return typeFiles[type];
+    }
+
+    String stub(int file) {
+        return stubs[file];
+    }
+
+    private int[][] references() {
+        int[][] named = references;
+        if (named == null) {
+            synchronized (this) {
+                named = references;
+                if (named == null) {
+                    named = new int[stubs.length][];
+                    for (int file = 0; file < stubs.length; file++) {
+                        named[file] = mentioned(stubs[file]);
+                    }
+                    references = named;
+                }
+            }
+        }
+        return named;
+    }
+
+    /**
+     * Files declaring a type of a name the text mentions. Every identifier
+     * counts, including those in comments and strings, which may only add
+     * files.
+     */
+    private int[] mentioned(String text) {
+        BitSet files = new BitSet(stubs.length);
+        int length = text.length();
+        int i = 0;
+        while (i < length) {
+            if (!Character.isJavaIdentifierStart(text.charAt(i))) {
+                i++;
+                continue;
+            }
+            int start = i++;
+            while (i < length && Character.isJavaIdentifierPart(text.charAt(i))) {
+                i++;
+            }
+            int[] declaring = filesBySimpleName.get(text.substring(start, i));
+            if (declaring != null) {
+                for (int file : declaring) {
+                    files.set(file);
+                }
+            }
+        }
+        return files.stream().toArray();
+    }
+
+    private int id(String name) {
+        int mask = slots.length - 1;
+        for (int slot = name.hashCode() & mask; slots[slot] != 0; slot = (slot + 1) & mask) {
+            if (names[slots[slot] - 1].equals(name)) {
+                return slots[slot] - 1;
+            }
+        }
+        return -1;
+    }
+
+    private List<String> slice(int[] offsets, int[] ids, int type) {
+        List<String> slice = new ArrayList<>(offsets[type + 1] - offsets[type]);
+        for (int i = offsets[type]; i < offsets[type + 1]; i++) {
+            slice.add(names[ids[i]]);
+        }
+        return slice;
+    }
+
+    /**
+     * Collects the declarations of the sources one by one. Supertypes are
+     * qualified when the index is built, once every project type is known.
+     */
+    public static final class Builder {
+        private final JavaParserPool parsers;
+        private final TypeSolver libraries;
+        private final int maxCachedFiles;
+        private final DeclarationReader reader;
+        private final List<String> stubs = new ArrayList<>();
+        private final List<FileScope> scopes = new ArrayList<>();
+        private final List<Declared> types = new ArrayList<>();
+        /** Enclosing type of each declared type, null for top-level ones */
+        private final Map<String, String> outers = new HashMap<>();
+
+        private Builder(JavaParserPool parsers, TypeSolver libraries, int maxCachedFiles,
+                        DeclarationReader reader) {
+            this.parsers = parsers;
+            this.libraries = libraries;
+            this.maxCachedFiles = maxCachedFiles;
+            this.reader = reader;
+        }
+
+        /**
+         * Index the declarations of one source
+         *
+         * @return Whether the source parsed; one that does not declares nothing
+         */
+        public boolean add(String source) {
+            return add(read(source));
+        }
+
+        /**
+         * Collect the declarations of one source. Sources may be read on any
+         * thread, and are added in order afterwards.
+         *
+         * @return Declarations of the source, or null when they do not parse
+         */
+        public SourceDeclarations read(String source) {
+            return reader.read(source);
+        }
+
+        /**
+         * Index the declarations read from one source
+         *
+         * @return Whether there were any; a source that does not parse has none
+         */
+        public boolean add(SourceDeclarations declarations) {
+            if (declarations == null) {
+                return false;
+            }
+            int file = stubs.size();
+            for (Declared type : declarations.types) {
+                type.file = file;
+                types.add(type);
+                outers.put(type.name, type.outer);
+            }
+            scopes.add(declarations.scope);
+            stubs.add(declarations.stub);
+            return true;
+        }
+
+        public int size() {
+            return stubs.size();
+        }
+
+        public ProjectTypeIndex build() {
+            TreeSet<String> names = new TreeSet<>();
+            for (Declared type : types) {
+                FileScope scope = scopes.get(type.file);
+                type.supertypes.replaceAll(name -> qualify(name, type.outer, scope));
+                names.add(type.name);
+                names.addAll(type.supertypes);
+                names.addAll(type.members);
+            }
+            return new ProjectTypeIndex(this, names.toArray(new String[0]));
+        }
+
+        /**
+         * Qualified name of a supertype as seen from the declaring file: an
+         * enclosing type's member, a single-type import, the file's package,
+         * an on-demand import or java.lang, in that order
+         */
+        private String qualify(String name, String outer, FileScope scope) {
+            int dot = name.indexOf('.');
+            String first = dot < 0 ? name : name.substring(0, dot);
+            String rest = dot < 0 ? "" : name.substring(dot);
+            for (String enclosing = outer; enclosing != null; enclosing = outers.get(enclosing)) {
+                if (outers.containsKey(enclosing + "." + first)) {
+                    return enclosing + "." + name;
+                }
+            }
+            String imported = scope.imports.get(first);
+            if (imported != null) {
+                return imported + rest;
+            }
+            if (outers.containsKey(scope.packagePrefix + first)) {
+                return scope.packagePrefix + name;
+            }
+            for (String onDemand : scope.onDemand) {
+                if (outers.containsKey(onDemand + "." + first) || isLibraryType(onDemand + "." + first)) {
+                    return onDemand + "." + name;
+                }
+            }
+            if (dot < 0 && isLibraryType("java.lang." + name)) {
+                return "java.lang." + name;
+            }
+            return name;
+        }
+
+        private boolean isLibraryType(String name) {
+            try {
+                return libraries != null && libraries.hasType(name);
+            } catch (RuntimeException e) {
+                return false;
+            }
+        }
+    }
+
+    /**
+     * Package and imports of a source, kept while the index is built
+     */
+    static final class FileScope {
+        private final String packagePrefix;
+        private final Map<String, String> imports = new HashMap<>();
+        private final List<String> onDemand = new ArrayList<>();
+
+        FileScope(String packageName) {
+            this.packagePrefix = packageName.isEmpty() ? "" : packageName + ".";
+        }
+
+        void addImport(String name, boolean onDemand) {
+            if (onDemand) {
+                this.onDemand.add(name);
+            } else {
+                imports.put(name.substring(name.lastIndexOf('.') + 1), name);
+            }
+        }
+
+        String qualify(String topLevelType) {
+            return packagePrefix + topLevelType;
+        }
+    }
+
+    /**
+     * The types, scope and stub of one source, read but not yet indexed
+     */
+    public static final class SourceDeclarations {
+        private final FileScope scope;
+        final List<Declared> types = new ArrayList<>();
+        String stub;
+
+        SourceDeclarations(FileScope scope) {
+            this.scope = scope;
+        }
+    }
+
+    /**
+     * A type as collected, before its names are interned
+     */
+    static final class Declared {
+        private final String name;
+        private final String outer;
+        final List<String> supertypes = new ArrayList<>();
+        final List<String> members = new ArrayList<>();
+        private int file;
+
+        Declared(String name, String outer) {
+            this.name = name;
+            this.outer = outer;
+        }
+    }
+}
@@ -0,0 +1,109 @@
+package com.codeenhancer.java_code_enhancer.symbols;
+
+import com.codeenhancer.java_code_enhancer.analysis.JavaParserPool;
+import com.codeenhancer.java_code_enhancer.analysis.ParseProfile;
+import com.github.javaparser.ParseResult;
+import com.github.javaparser.ast.CompilationUnit;
+import com.github.javaparser.ast.body.BodyDeclaration;
+import com.github.javaparser.ast.body.TypeDeclaration;
+import com.github.javaparser.resolution.TypeSolver;
+import com.github.javaparser.resolution.declarations.ResolvedReferenceTypeDeclaration;
+import com.github.javaparser.resolution.model.SymbolReference;
+import com.github.javaparser.symbolsolver.javaparsermodel.JavaParserFacade;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+
+/**
+ * Resolves the types of a project from its index, and every other type with
+ * the library solver. Names the project does not declare cost one probe of
+ * the index before they go to the libraries; a project type is declared by
+ * the stub of its file, parsed once and kept in a bounded cache. A type
+ * whose stub JavaParser does not accept goes to the libraries as well.
+ * <p>
+ * The library solver is consulted but never adopted as a child, since it
+ * is shared by every project and request.
+ */
+final class ProjectTypeSolver implements TypeSolver {
+    private final ProjectTypeIndex index;
+    private final JavaParserPool parsers;
+    private final TypeSolver libraries;
+    private final Cache<Integer, Optional<CompilationUnit>> stubs;
+    private TypeSolver parent;
+
+    ProjectTypeSolver(ProjectTypeIndex index, JavaParserPool parsers, TypeSolver libraries, int maxCachedFiles) {
+        this.index = index;
+        this.parsers = parsers;
+        this.libraries = libraries;
+        this.stubs = CacheBuilder.newBuilder()
+                .maximumSize(maxCachedFiles)
+                .concurrencyLevel(Runtime.getRuntime().availableProcessors())
+                .build();
+    }
+
+    @Override
+    public TypeSolver getParent() {
+        return parent;
+    }
+
+    @Override
+    public void setParent(TypeSolver parent) {
+        if (this.parent != null) {
+            throw new IllegalStateException("This TypeSolver already has a parent.");
+        }
+        this.parent = parent;
+    }
+
+    @Override
+    public SymbolReference<ResolvedReferenceTypeDeclaration> tryToSolveType(String name) {
+        int type = index.typeId(name);
+        // The symbol solver has no declaration model for records
+        Optional<TypeDeclaration<?>> declaration = type < 0 ? Optional.empty() : stub(index.fileOf(type))
+                .flatMap(cu -> find(cu.getTypes(), name))
+                .filter(found -> !found.isRecordDeclaration());
+        if (declaration.isPresent()) {
+            return SymbolReference.solved(JavaParserFacade.get(this).getTypeDeclaration(declaration.get()));
+        }
+        return libraries == null ? SymbolReference.unsolved() : libraries.tryToSolveType(name);
+    }
+
+    private Optional<CompilationUnit> stub(int file) {
+        try {
+            return stubs.get(file, () -> {
+                ParseResult<CompilationUnit> result = parsers.parse(index.stub(file), ParseProfile.LEAN);
+                Optional<CompilationUnit> cu = result.getResult().filter(parsed -> result.isSuccessful());
+                cu.ifPresent(index::attach);
+                return cu;
+            });
+        } catch (ExecutionException e) {
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    /**
+     * Declaration of a type by qualified name among the types and their
+     * nested types
+     */
+    private static Optional<TypeDeclaration<?>> find(Iterable<? extends TypeDeclaration<?>> types, String name) {
+        for (TypeDeclaration<?> type : types) {
+            String qualified = type.getFullyQualifiedName().orElse("");
+            if (qualified.equals(name)) {
+                return Optional.of(type);
+            }
+            if (name.startsWith(qualified + ".")) {
+                List<TypeDeclaration<?>> nested = new ArrayList<>();
+                for (BodyDeclaration<?> member : type.getMembers()) {
+                    if (member instanceof TypeDeclaration) {
+                        nested.add((TypeDeclaration<?>) member);
+                    }
+                }
+                return find(nested, name);
+            }
+        }
+        return Optional.empty();
+    }
+}
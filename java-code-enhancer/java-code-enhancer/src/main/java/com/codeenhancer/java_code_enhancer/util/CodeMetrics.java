@@ -40,4 +40,14 @@ public class CodeMetrics {
     public void setModernizationOpportunities(int modernizationOpportunities) {
         this.modernizationOpportunities = modernizationOpportunities;
     }
+
+    /**
+     * Add the values of another file's metrics to these, for batch totals
+     */
+    public void add(CodeMetrics other) {
+        totalLinesOfCode += other.totalLinesOfCode;
+        cyclomaticComplexity += other.cyclomaticComplexity;
+        deprecatedApiCount += other.deprecatedApiCount;
+        modernizationOpportunities += other.modernizationOpportunities;
+    }
 }
\ No newline at end of file
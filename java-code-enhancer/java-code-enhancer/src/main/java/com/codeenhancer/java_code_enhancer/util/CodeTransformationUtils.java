@@ -1,10 +1,19 @@
 package com.codeenhancer.java_code_enhancer.util;
 
+import com.codeenhancer.java_code_enhancer.analysis.AnalysisBudget;
+import com.codeenhancer.java_code_enhancer.analysis.AnalysisContext;
+import com.codeenhancer.java_code_enhancer.analysis.JavaParserPool;
+import com.codeenhancer.java_code_enhancer.analysis.PipelineTrace;
+import com.codeenhancer.java_code_enhancer.analysis.RewriteCandidate;
+import com.codeenhancer.java_code_enhancer.analysis.ScanResult;
+import com.codeenhancer.java_code_enhancer.dto.AppliedRewrite;
+import com.codeenhancer.java_code_enhancer.dto.PerformanceFinding;
+import com.codeenhancer.java_code_enhancer.rules.ModernizationRule;
+import com.codeenhancer.java_code_enhancer.rules.RuleSet;
+import com.github.javaparser.Position;
 import com.github.javaparser.ast.CompilationUnit;
-import com.github.javaparser.ast.NodeList;
-import com.github.javaparser.ast.body.MethodDeclaration;
-import com.github.javaparser.ast.expr.*;
-import com.github.javaparser.ast.stmt.*;
+import com.github.javaparser.ast.Node;
+import com.github.javaparser.printer.lexicalpreservation.LexicalPreservingPrinter;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -12,287 +21,234 @@ import java.util.Optional;
 
 public class CodeTransformationUtils {
 
-
     /**
-     * Main method to transform Java code to latest version
-     *
-     * @param cu CompilationUnit to transform
-     * @return Transformed code as String
+     * Version of the analysis and rewrite engine. Bump it whenever a change
+     * outside the rules alters the output, so cached results are not reused;
+     * a change to one rule bumps that rule's version instead.
      */
-    public static String transformToLatestVersion(CompilationUnit cu) {
-        try {
-            // Apply multiple transformation strategies
-            applyTransformations(cu);
-            return cu.toString();
-        } catch (Exception e) {
-            // Fallback to original code if transformation fails
-            return cu.toString();
-        }
-    }
+    public static final String RULE_SET_VERSION = "4";
 
     /**
-     * Apply multiple code transformation strategies
+     * Main method to transform Java code to latest version.
+     * The tree of the context is mutated in place, so metrics and warnings
+     * must be taken from the context before calling this.
      *
-     * @param cu CompilationUnit to transform
+     * @param context Analysis context holding the parsed CompilationUnit
+     * @return Transformed code as String
      */
-    private static void applyTransformations(CompilationUnit cu) {
-        // Java 21 Transformation Strategies
-        modernizeLoops(cu);
-        enhanceSwitchExpressions(cu);
-        updateDeprecatedAPIs(cu);
+    public static String transformToLatestVersion(AnalysisContext context) {
+        if (outOfBudget(context)) {
+            return context.getSource();
+        }
+        CompilationUnit cu = transformInPlace(context);
+        return context.getTrace().time(PipelineTrace.Stage.PRINT, cu::toString);
     }
 
     /**
-     * Modernize loop constructs
+     * Transform the tree of the context and print it with the original layout
+     * kept for every node the rewrites did not touch, so that a diff against
+     * the source shows only the rewritten code. Falls back to pretty-printing
+     * when the layout cannot be kept.
      *
-     * @param cu CompilationUnit to transform
+     * @param context Analysis context holding the parsed CompilationUnit
+     * @return Transformed code as String
      */
-
-    private static void modernizeLoops(CompilationUnit cu) {
-        // Convert for loops to forEach
-        cu.findAll(ForStmt.class).forEach(forStmt -> {
-            Optional<Expression> init = forStmt.getInitialization().stream().findFirst();
-            Optional<Expression> compare = forStmt.getCompare();
-            Optional<Expression> update = forStmt.getUpdate().stream().findFirst();
-
-            if (isArrayOrCollectionLoop(init, compare, update)) {
-                VariableDeclarationExpr varDecl = (VariableDeclarationExpr) init.get();
-
-                // Create enhanced for loop
-                Statement body = forStmt.getBody();
-                Expression collection = extractCollection(compare.get());
-
-                String enhancedFor = String.format("for (%s : %s) %s",
-                        varDecl.toString(),
-                        collection.toString(),
-                        body.toString());
-
-                forStmt.setBody(new BlockStmt().addStatement(enhancedFor));
-            }
-        });
-
-        // Convert while loops to modern patterns where applicable
-        cu.findAll(WhileStmt.class).forEach(whileStmt -> {
-            if (isInfiniteLoop(whileStmt)) {
-                // Convert to modern infinite loop pattern
-                WhileStmt modernWhile = new WhileStmt();
-                modernWhile.setCondition(new BooleanLiteralExpr(true));
-                modernWhile.setBody(whileStmt.getBody());
-
-                whileStmt.replace(modernWhile);
+    public static String transformPreservingLayout(AnalysisContext context) {
+        if (outOfBudget(context)) {
+            return context.getSource();
+        }
+        CompilationUnit cu = context.getCompilationUnit();
+        boolean preserving = LexicalPreservingPrinter.isAvailableOn(cu);
+        if (!preserving) {
+            long start = System.nanoTime();
+            try {
+                LexicalPreservingPrinter.setup(cu);
+                preserving = true;
+            } catch (RuntimeException e) {
+                // Without token ranges the layout is unknown
             }
-        });
-
-        // Convert indexed for loops to streams where applicable
-        cu.findAll(ForStmt.class).forEach(forStmt -> {
-            if (isIndexBasedLoop(forStmt)) {
-                // Convert to IntStream
-                MethodCallExpr streamExpr = new MethodCallExpr(
-                        new NameExpr("IntStream"),
-                        "range"
-                );
-
-                // Add stream operations
-                LambdaExpr lambda = new LambdaExpr();
-                lambda.setBody(forStmt.getBody());
-
-                MethodCallExpr forEachExpr = new MethodCallExpr(
-                        streamExpr,
-                        "forEach",
-                        NodeList.nodeList(lambda)
-                );
-
-                forStmt.replace(new ExpressionStmt(forEachExpr));
+            context.getTrace().addStage(PipelineTrace.Stage.TRANSFORM, System.nanoTime() - start);
+        }
+        transformInPlace(context);
+        PipelineTrace trace = context.getTrace();
+        if (preserving) {
+            try {
+                return trace.time(PipelineTrace.Stage.PRINT, () -> LexicalPreservingPrinter.print(cu));
+            } catch (RuntimeException e) {
+                // Some node changes cannot be printed in place
             }
-        });
+        }
+        return trace.time(PipelineTrace.Stage.PRINT, cu::toString);
     }
 
-    private static boolean isArrayOrCollectionLoop(Optional<Expression> init,
-                                                   Optional<Expression> compare,
-                                                   Optional<Expression> update) {
-        if (init.isEmpty() || compare.isEmpty() || update.isEmpty()) return false;
-
-        Expression initExpr = init.get();
-        if (!(initExpr instanceof VariableDeclarationExpr)) return false;
-
-        Expression compareExpr = compare.get();
-        return compareExpr instanceof BinaryExpr &&
-                ((BinaryExpr) compareExpr).getOperator() == BinaryExpr.Operator.LESS;
+    /**
+     * When the budget ran out before the transformation, no rewrite can be
+     * applied and the source is returned as it is, without the cost of
+     * printing the tree. Marks the context transformed and partial.
+     */
+    private static boolean outOfBudget(AnalysisContext context) {
+        if (!context.getBudget().isExceeded()) {
+            return false;
+        }
+        context.markTransformed();
+        context.getTrace().markPartial();
+        return true;
     }
 
-    private static Expression extractCollection(Expression compareExpr) {
-        BinaryExpr binary = (BinaryExpr) compareExpr;
-        return binary.getRight();
+    /**
+     * Transform the tree of the context without printing it, for callers
+     * that print it piece by piece
+     *
+     * @param context Analysis context holding the parsed CompilationUnit
+     * @return The transformed CompilationUnit
+     */
+    public static CompilationUnit transformInPlace(AnalysisContext context) {
+        CompilationUnit cu = context.getCompilationUnit();
+        // Candidates found by the shared scan, taken before the tree is mutated
+        List<RewriteCandidate> candidates = context.getScan().getRewriteCandidates();
+        context.markTransformed();
+        PipelineTrace trace = context.getTrace();
+        long start = System.nanoTime();
+        try {
+            // Apply multiple transformation strategies
+            applyRewrites(cu, candidates, context.getRules(), context.getParsers(), trace, context.getBudget());
+        } catch (Exception e) {
+            // Fallback to the code as transformed so far if a transformation fails,
+            // which leaves the remaining rewrites out
+            trace.markPartial();
+        } finally {
+            trace.addStage(PipelineTrace.Stage.TRANSFORM, System.nanoTime() - start);
+        }
+        return cu;
     }
 
-    private static boolean isInfiniteLoop(WhileStmt whileStmt) {
-        Expression condition = whileStmt.getCondition();
-        return condition instanceof BooleanLiteralExpr &&
-                ((BooleanLiteralExpr) condition).getValue();
+    /**
+     * Apply rewrite candidates rule by rule, in the order of the rule set.
+     * Candidates of rules outside the set are ignored, candidates whose node
+     * was detached by an earlier rewrite are skipped, and subtrees created by
+     * a rewrite are scanned for candidates of later rules.
+     *
+     * @param cu         CompilationUnit to transform
+     * @param candidates Candidates found by the scan, in document order
+     * @param rules      Rules whose rewrites are applied
+     * @param parsers    Parsers for code the rewrites build from text
+     */
+    public static void applyRewrites(CompilationUnit cu, List<RewriteCandidate> candidates, RuleSet rules,
+                                     JavaParserPool parsers) {
+        applyRewrites(cu, candidates, rules, parsers, new PipelineTrace());
     }
 
-    private static boolean isIndexBasedLoop(ForStmt forStmt) {
-        Optional<Expression> init = forStmt.getInitialization().stream().findFirst();
-        Optional<Expression> compare = forStmt.getCompare();
-        Optional<Expression> update = forStmt.getUpdate().stream().findFirst();
-
-        return init.isPresent() &&
-                compare.isPresent() &&
-                update.isPresent() &&
-                init.get() instanceof VariableDeclarationExpr &&
-                compare.get() instanceof BinaryExpr &&
-                update.get() instanceof UnaryExpr;
+    /**
+     * Apply rewrite candidates, adding the time and count of every applied
+     * rewrite to the trace under its rule
+     */
+    public static void applyRewrites(CompilationUnit cu, List<RewriteCandidate> candidates, RuleSet rules,
+                                     JavaParserPool parsers, PipelineTrace trace) {
+        applyRewrites(cu, candidates, rules, parsers, trace, AnalysisBudget.unlimited());
     }
 
     /**
-     * Enhance Switch Expressions (Java 14+)
-     *
-     * @param cu CompilationUnit to transform
+     * Apply rewrite candidates until the budget runs out. The budget is
+     * checked before every candidate, so a rewrite is either applied whole or
+     * not at all, and the trace is marked partial when candidates are left.
      */
+    public static void applyRewrites(CompilationUnit cu, List<RewriteCandidate> candidates, RuleSet rules,
+                                     JavaParserPool parsers, PipelineTrace trace, AnalysisBudget budget) {
+        List<ModernizationRule> ordered = rules.getRules();
+        List<List<Node>> pending = new ArrayList<>(ordered.size());
+        for (int i = 0; i < ordered.size(); i++) {
+            pending.add(new ArrayList<>());
+        }
+        for (RewriteCandidate candidate : candidates) {
+            int index = rules.indexOf(candidate.getRule());
+            if (index >= 0) {
+                pending.get(index).add(candidate.getNode());
+            }
+        }
 
-
-    private static void enhanceSwitchExpressions(CompilationUnit cu) {
-        cu.findAll(SwitchStmt.class).forEach(switchStmt -> {
-            Expression selector = switchStmt.getSelector();
-
-            // Process each case
-            for (SwitchEntry entry : switchStmt.getEntries()) {
-                NodeList<Statement> statements = entry.getStatements();
-                if (statements.isEmpty()) continue;
-
-                // Convert case labels
-                StringBuilder arrowCase = new StringBuilder();
-                if (entry.getLabels().isEmpty()) {
-                    arrowCase.append("default");
-                } else {
-                    arrowCase.append("case ").append(entry.getLabels().get(0));
+        for (int index = 0; index < ordered.size(); index++) {
+            ModernizationRule rule = ordered.get(index);
+            for (Node node : pending.get(index)) {
+                if (node.findCompilationUnit().orElse(null) != cu) continue;
+                if (budget.isExceeded()) {
+                    trace.markPartial();
+                    return;
                 }
 
-                // Convert to yield statements for returns
-                if (statements.size() == 1) {
-                    Statement stmt = statements.get(0);
-                    if (stmt.isReturnStmt()) {
-                        ReturnStmt returnStmt = (ReturnStmt) stmt;
-                        YieldStmt yieldStmt = new YieldStmt();
-                        returnStmt.getExpression().ifPresent(yieldStmt::setExpression);
-                        statements.set(0, yieldStmt);
-                    }
+                long start = System.nanoTime();
+                Node created;
+                try {
+                    // A candidate the rule turns down is not counted as a rewrite
+                    if (!rule.appliesTo(node)) continue;
+                    // Taken before the rewrite replaces or moves the node
+                    Optional<Position> position = originalPosition(node);
+                    created = rule.rewrite(node, parsers);
+                    trace.addRewrite(rule.id(), System.nanoTime() - start);
+                    trace.addApplied(AppliedRewrite.builder()
+                            .rule(rule.id())
+                            .line(position.map(p -> p.line).orElse(0))
+                            .column(position.map(p -> p.column).orElse(0))
+                            .build());
+                } catch (RuntimeException e) {
+                    trace.addRewrite(rule.id(), System.nanoTime() - start);
+                    trace.markRewriteFailed(rule.id());
+                    throw e;
                 }
-
-                // Build the arrow syntax
-                arrowCase.append(" -> ");
-                if (statements.size() == 1) {
-                    arrowCase.append(statements.get(0).toString().trim());
-                } else {
-                    arrowCase.append("{ ")
-                            .append(String.join("; ", statements.stream()
-                                    .map(Statement::toString)
-                                    .toArray(String[]::new)))
-                            .append(" }");
-                }
-
-                // Update the entry
-                entry.setStatements(new NodeList<>(new ExpressionStmt(
-                        new StringLiteralExpr(arrowCase.toString())
-                )));
-            }
-        });
-    }
-
-
-    private static void updateDeprecatedAPIs(CompilationUnit cu) {
-        // Update File API calls
-        cu.findAll(MethodCallExpr.class).forEach(method -> {
-            var methodName = method.getNameAsString();
-            switch (methodName) {
-                case "list":
-                    if (isFileType(method)) {
-                        method.setName("listFiles");
-                    }
-                    break;
-
-                case "toURL":
-                    if (isFileType(method)) {
-                        method.setName("toURI().toURL()");
-                    }
-                    break;
-
-                case "getBytes":
-                    if (!method.getArguments().isEmpty()) {
-                        method.setArguments(NodeList.nodeList(
-                                new NameExpr("StandardCharsets.UTF_8")
-                        ));
+                if (created != null) {
+                    ScanResult rescan = rules.scanForRewrites(created, budget);
+                    if (rescan.isTruncated()) {
+                        trace.markPartial();
                     }
-                    break;
-
-                case "newInstance":
-                    if (isClassType(method)) {
-                        method.setName("getDeclaredConstructor().newInstance");
+                    for (RewriteCandidate candidate : rescan.getRewriteCandidates()) {
+                        int later = rules.indexOf(candidate.getRule());
+                        if (later > index) {
+                            pending.get(later).add(candidate.getNode());
+                        }
                     }
-                    break;
-            }
-        });
-
-        // Update legacy type instantiations
-        cu.findAll(ObjectCreationExpr.class).forEach(expr -> {
-            var typeStr = expr.getTypeAsString();
-            switch (typeStr) {
-                case "Date":
-                    expr.setType("Instant");
-                    expr.setArguments(NodeList.nodeList(
-                            new MethodCallExpr("now")
-                    ));
-                    break;
-
-                case "SecureRandom":
-                    expr.replace(new MethodCallExpr(
-                            new NameExpr("SecureRandom"),
-                            "getInstanceStrong"
-                    ));
-                    break;
+                }
             }
-        });
+        }
     }
 
-    private static boolean isFileType(MethodCallExpr method) {
-        return method.getScope().isPresent() &&
-                method.getScope().get().calculateResolvedType().describe().equals("java.io.File");
+    /**
+     * Position of a node in the original source, or of the nearest enclosing
+     * node that has one when an earlier rewrite created it
+     */
+    private static Optional<Position> originalPosition(Node node) {
+        for (Node current = node; current != null; current = current.getParentNode().orElse(null)) {
+            if (current.getBegin().isPresent()) {
+                return current.getBegin();
+            }
+        }
+        return Optional.empty();
     }
 
-    private static boolean isClassType(MethodCallExpr method) {
-        return method.getScope().isPresent() &&
-                method.getScope().get().calculateResolvedType().describe().contains("Class");
+    /**
+     * Rewrites applied by the transformation of the context, in the order
+     * they ran; empty until the context is transformed
+     */
+    public static List<AppliedRewrite> detectAppliedRewrites(AnalysisContext context) {
+        return context.getTrace().getAppliedRewrites();
     }
 
-
     /**
-     * Detect potential warnings and issues in the code
+     * Detect potential warnings and issues in the code.
+     * Warnings come from the fused scan, taken on the untransformed tree.
      *
-     * @param cu CompilationUnit to analyze
+     * @param context Analysis context to analyze
      * @return Array of warning messages
      */
-    public static String[] detectWarnings(CompilationUnit cu) {
-        List<String> warnings = new ArrayList<>();
-
-        // Deprecated method detection
-        cu.findAll(MethodDeclaration.class).forEach(method -> {
-            if (method.getAnnotationByName("Deprecated").isPresent()) {
-                warnings.add("Deprecated method found: " + method.getName());
-            }
-        });
-
-        // Potential performance issues
-        cu.findAll(MethodCallExpr.class).forEach(methodCall -> {
-            String methodName = methodCall.getName().asString();
-
-            // Example warning conditions
-            if (methodName.equals("equals") || methodName.equals("hashCode")) {
-                warnings.add("Potential performance-sensitive method: " + methodName);
-            }
-        });
+    public static String[] detectWarnings(AnalysisContext context) {
+        return context.getScan().getWarnings().toArray(new String[0]);
+    }
 
-        return warnings.toArray(new String[0]);
+    /**
+     * Performance findings of the fused scan, with rule ids and positions in
+     * the untransformed source
+     */
+    public static List<PerformanceFinding> detectFindings(AnalysisContext context) {
+        return context.getScan().getFindings();
     }
 
 
-}
\ No newline at end of file
+}
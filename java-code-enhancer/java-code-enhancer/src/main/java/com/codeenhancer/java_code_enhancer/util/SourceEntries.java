@@ -0,0 +1,157 @@
+package com.codeenhancer.java_code_enhancer.util;
+
+import com.codeenhancer.java_code_enhancer.ingest.SourceReader;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.LinkOption;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.function.BiConsumer;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+
+/**
+ * Reads the Java sources of a batch upload: plain .java files, and the .java
+ * entries of .zip archives. Archives are streamed entry by entry and never
+ * unpacked to disk. Server-side paths may also name directories.
+ */
+public final class SourceEntries {
+
+    private SourceEntries() {
+    }
+
+    /**
+     * Hand every source of the uploads to the consumer, in upload order
+     *
+     * @param uploads  Uploaded .java files and .zip archives
+     * @param maxFiles Maximum number of sources to read
+     * @param reader   Decodes each source within the ingestion limits
+     * @param consumer Receives the path and content of each source
+     * @return Number of sources read
+     */
+    public static int forEach(List<MultipartFile> uploads, int maxFiles, SourceReader reader,
+                              BiConsumer<String, String> consumer) throws IOException {
+        int count = 0;
+        for (MultipartFile upload : uploads) {
+            String name = upload.getOriginalFilename() == null ? "" : upload.getOriginalFilename();
+            if (isArchive(name)) {
+                try (InputStream in = upload.getInputStream()) {
+                    count += forEachInZip(in, count, maxFiles, reader, consumer);
+                }
+            } else {
+                checkLimit(count, maxFiles);
+                consumer.accept(name, read(name, () -> reader.read(upload)));
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Hand every source under server-side paths to the consumer. Directories
+     * contribute their .java files, in path order, named relative to the
+     * directory. Symbolic links inside a directory are not followed, so a
+     * walk never leaves it.
+     *
+     * @return Number of sources read
+     */
+    public static int forEachPath(List<Path> paths, int maxFiles, SourceReader reader,
+                                  BiConsumer<String, String> consumer) throws IOException {
+        int count = 0;
+        for (Path path : paths) {
+            if (Files.isDirectory(path)) {
+                List<Path> files;
+                try (Stream<Path> walk = Files.walk(path)) {
+                    files = walk.filter(file -> Files.isRegularFile(file, LinkOption.NOFOLLOW_LINKS)
+                                    && file.getFileName().toString().toLowerCase().endsWith(".java"))
+                            .sorted()
+                            .collect(Collectors.toList());
+                }
+                for (Path file : files) {
+                    checkLimit(count, maxFiles);
+                    String name = path.relativize(file).toString().replace('\\', '/');
+                    consumer.accept(name, read(name, () -> readFile(file, reader)));
+                    count++;
+                }
+                continue;
+            }
+            String name = path.getFileName().toString();
+            if (isArchive(name)) {
+                try (InputStream in = Files.newInputStream(path)) {
+                    count += forEachInZip(in, count, maxFiles, reader, consumer);
+                }
+            } else {
+                checkLimit(count, maxFiles);
+                consumer.accept(name, read(name, () -> readFile(path, reader)));
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Hand every .java entry of a zip stream to the consumer
+     */
+    public static int forEachInZip(InputStream in, int maxFiles, SourceReader reader,
+                                   BiConsumer<String, String> consumer) throws IOException {
+        return forEachInZip(in, 0, maxFiles, reader, consumer);
+    }
+
+    /**
+     * Hand every .java entry of a zip stream to the consumer, after the
+     * given number of sources of the same batch
+     *
+     * @return Number of entries read
+     */
+    private static int forEachInZip(InputStream in, int before, int maxFiles, SourceReader reader,
+                                    BiConsumer<String, String> consumer) throws IOException {
+        int count = 0;
+        ZipInputStream zip = new ZipInputStream(in, StandardCharsets.UTF_8);
+        ZipEntry entry;
+        while ((entry = zip.getNextEntry()) != null) {
+            if (entry.isDirectory() || !entry.getName().toLowerCase().endsWith(".java")) {
+                continue;
+            }
+            checkLimit(before + count, maxFiles);
+            // Reads only the current entry
+            long size = entry.getSize();
+            consumer.accept(entry.getName(), read(entry.getName(), () -> reader.read(zip, null, size)));
+            count++;
+        }
+        return count;
+    }
+
+    public static boolean isArchive(String name) {
+        return name.toLowerCase().endsWith(".zip");
+    }
+
+    private static String read(String name, Source source) throws IOException {
+        try {
+            return source.read();
+        } catch (IOException e) {
+            throw new IOException(name + ": " + e.getMessage(), e);
+        }
+    }
+
+    private static String readFile(Path file, SourceReader reader) throws IOException {
+        try (InputStream in = Files.newInputStream(file)) {
+            return reader.read(in, null, Files.size(file));
+        }
+    }
+
+    private interface Source {
+        String read() throws IOException;
+    }
+
+    private static void checkLimit(int count, int maxFiles) throws IOException {
+        if (count >= maxFiles) {
+            throw new IOException("Batch exceeds the limit of " + maxFiles + " files");
+        }
+    }
+}
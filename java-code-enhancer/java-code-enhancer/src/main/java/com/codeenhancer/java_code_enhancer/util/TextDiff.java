@@ -0,0 +1,300 @@
+package com.codeenhancer.java_code_enhancer.util;
+
+import com.codeenhancer.java_code_enhancer.dto.TextEdit;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Line diff of two texts (Myers' algorithm), rendered as a unified diff or
+ * as offset-based edits of the original text.
+ * <p>
+ * Common leading and trailing lines are skipped before the search. When the
+ * remaining lines differ in more than {@link #MAX_EDIT_DISTANCE} places, the
+ * whole middle part is reported as one change instead of searching further.
+ */
+public final class TextDiff {
+
+    static final int MAX_EDIT_DISTANCE = 1_024;
+
+    private TextDiff() {
+    }
+
+    /**
+     * Edits that turn {@code original} into {@code revised}, in ascending
+     * order of offset and each trimmed to the characters that differ
+     */
+    public static List<TextEdit> edits(String original, String revised) {
+        Lines a = new Lines(original);
+        Lines b = new Lines(revised);
+        List<TextEdit> edits = new ArrayList<>();
+        for (Block block : blocks(a, b)) {
+            int from = a.offset(block.fromA);
+            int to = a.offset(block.toA);
+            String replacement = revised.substring(b.offset(block.fromB), b.offset(block.toB));
+
+            // Keep only the characters that changed inside the block
+            int prefix = 0;
+            int max = Math.min(to - from, replacement.length());
+            while (prefix < max && original.charAt(from + prefix) == replacement.charAt(prefix)) {
+                prefix++;
+            }
+            int suffix = 0;
+            while (suffix < max - prefix
+                    && original.charAt(to - 1 - suffix) == replacement.charAt(replacement.length() - 1 - suffix)) {
+                suffix++;
+            }
+            edits.add(TextEdit.builder()
+                    .offset(from + prefix)
+                    .length(to - from - prefix - suffix)
+                    .text(replacement.substring(prefix, replacement.length() - suffix))
+                    .build());
+        }
+        return edits;
+    }
+
+    /**
+     * Unified diff of the two texts, empty when they are equal
+     *
+     * @param name    File name used in the diff header
+     * @param context Number of unchanged lines shown around each change
+     */
+    public static String unified(String name, String original, String revised, int context) {
+        Lines a = new Lines(original);
+        Lines b = new Lines(revised);
+        List<Block> blocks = blocks(a, b);
+        if (blocks.isEmpty()) {
+            return "";
+        }
+
+        StringBuilder diff = new StringBuilder()
+                .append("--- a/").append(name).append('\n')
+                .append("+++ b/").append(name).append('\n');
+        int first = 0;
+        while (first < blocks.size()) {
+            // Changes closer than twice the context share one hunk
+            int last = first;
+            while (last + 1 < blocks.size() && blocks.get(last + 1).fromA - blocks.get(last).toA <= 2 * context) {
+                last++;
+            }
+            Block head = blocks.get(first);
+            Block tail = blocks.get(last);
+            int startA = Math.max(0, head.fromA - context);
+            int startB = head.fromB - (head.fromA - startA);
+            int endA = Math.min(a.count(), tail.toA + context);
+            int endB = tail.toB + (endA - tail.toA);
+
+            diff.append("@@ -").append(range(startA, endA - startA))
+                    .append(" +").append(range(startB, endB - startB)).append(" @@\n");
+            int lineA = startA;
+            for (int i = first; i <= last; i++) {
+                Block block = blocks.get(i);
+                for (; lineA < block.fromA; lineA++) {
+                    appendLine(diff, ' ', a, lineA);
+                }
+                for (int line = block.fromA; line < block.toA; line++) {
+                    appendLine(diff, '-', a, line);
+                }
+                for (int line = block.fromB; line < block.toB; line++) {
+                    appendLine(diff, '+', b, line);
+                }
+                lineA = block.toA;
+            }
+            for (; lineA < endA; lineA++) {
+                appendLine(diff, ' ', a, lineA);
+            }
+            first = last + 1;
+        }
+        return diff.toString();
+    }
+
+    private static String range(int start, int length) {
+        // An empty range names the line before it
+        return (length == 0 ? start : start + 1) + "," + length;
+    }
+
+    private static void appendLine(StringBuilder diff, char marker, Lines lines, int line) {
+        String text = lines.line(line);
+        diff.append(marker);
+        if (text.endsWith("\n")) {
+            diff.append(text);
+        } else {
+            diff.append(text).append("\n\\ No newline at end of file\n");
+        }
+    }
+
+    /**
+     * Changed line ranges, in order
+     */
+    private static List<Block> blocks(Lines a, Lines b) {
+        int n = a.count();
+        int m = b.count();
+        int prefix = 0;
+        while (prefix < n && prefix < m && a.line(prefix).equals(b.line(prefix))) {
+            prefix++;
+        }
+        int suffix = 0;
+        while (suffix < n - prefix && suffix < m - prefix
+                && a.line(n - 1 - suffix).equals(b.line(m - 1 - suffix))) {
+            suffix++;
+        }
+
+        // Lines are compared as numbers from here on
+        Map<String, Integer> ids = new HashMap<>();
+        int[] x = new int[n - prefix - suffix];
+        int[] y = new int[m - prefix - suffix];
+        for (int i = 0; i < x.length; i++) {
+            x[i] = ids.computeIfAbsent(a.line(prefix + i), line -> ids.size());
+        }
+        for (int i = 0; i < y.length; i++) {
+            y[i] = ids.computeIfAbsent(b.line(prefix + i), line -> ids.size());
+        }
+
+        boolean[] deleted = new boolean[x.length];
+        boolean[] inserted = new boolean[y.length];
+        if (!shortestEditScript(x, y, deleted, inserted)) {
+            Arrays.fill(deleted, true);
+            Arrays.fill(inserted, true);
+        }
+
+        List<Block> blocks = new ArrayList<>();
+        int i = 0;
+        int j = 0;
+        while (i < x.length || j < y.length) {
+            if (i < x.length && j < y.length && !deleted[i] && !inserted[j]) {
+                i++;
+                j++;
+                continue;
+            }
+            int fromA = i;
+            int fromB = j;
+            while (i < x.length && deleted[i]) i++;
+            while (j < y.length && inserted[j]) j++;
+            blocks.add(new Block(prefix + fromA, prefix + i, prefix + fromB, prefix + j));
+        }
+        return blocks;
+    }
+
+    /**
+     * Mark the lines of a shortest edit script from x to y
+     *
+     * @return false when the edit distance exceeds {@link #MAX_EDIT_DISTANCE}
+     */
+    private static boolean shortestEditScript(int[] x, int[] y, boolean[] deleted, boolean[] inserted) {
+        int n = x.length;
+        int m = y.length;
+        int max = n + m;
+        if (max == 0) {
+            return true;
+        }
+        int offset = max + 1;
+        int[] v = new int[2 * max + 3];
+        List<int[]> trace = new ArrayList<>();
+
+        for (int d = 0; d <= Math.min(max, MAX_EDIT_DISTANCE); d++) {
+            // Furthest reaching x of every diagonal before this step, diagonals -d-1 to d+1
+            int[] saved = new int[2 * d + 3];
+            System.arraycopy(v, offset - d - 1, saved, 0, saved.length);
+            trace.add(saved);
+
+            for (int k = -d; k <= d; k += 2) {
+                int px = k == -d || (k != d && v[offset + k - 1] < v[offset + k + 1])
+                        ? v[offset + k + 1]
+                        : v[offset + k - 1] + 1;
+                int py = px - k;
+                while (px < n && py < m && x[px] == y[py]) {
+                    px++;
+                    py++;
+                }
+                v[offset + k] = px;
+                if (px >= n && py >= m) {
+                    backtrack(trace, n, m, deleted, inserted);
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private static void backtrack(List<int[]> trace, int n, int m, boolean[] deleted, boolean[] inserted) {
+        int px = n;
+        int py = m;
+        for (int d = trace.size() - 1; d > 0; d--) {
+            int[] saved = trace.get(d);
+            int k = px - py;
+            // saved[i] holds diagonal i - d - 1
+            boolean down = k == -d || (k != d && saved[k - 1 + d + 1] < saved[k + 1 + d + 1]);
+            int previousK = down ? k + 1 : k - 1;
+            int previousX = saved[previousK + d + 1];
+            int previousY = previousX - previousK;
+            while (px > previousX && py > previousY) {
+                px--;
+                py--;
+            }
+            if (down) {
+                inserted[previousY] = true;
+            } else {
+                deleted[previousX] = true;
+            }
+            px = previousX;
+            py = previousY;
+        }
+    }
+
+    /**
+     * Half-open line ranges [fromA, toA) of the original replaced by [fromB, toB) of the revision
+     */
+    private static class Block {
+        final int fromA;
+        final int toA;
+        final int fromB;
+        final int toB;
+
+        Block(int fromA, int toA, int fromB, int toB) {
+            this.fromA = fromA;
+            this.toA = toA;
+            this.fromB = fromB;
+            this.toB = toB;
+        }
+    }
+
+    /**
+     * A text split after every '\n', so that the lines join back into it
+     */
+    private static class Lines {
+        private final String text;
+        private final int[] starts;
+
+        Lines(String text) {
+            this.text = text;
+            int count = 0;
+            for (int i = 0; i < text.length(); i++) {
+                if (text.charAt(i) == '\n') count++;
+            }
+            if (!text.isEmpty() && text.charAt(text.length() - 1) != '\n') {
+                count++;
+            }
+            starts = new int[count + 1];
+            int line = 1;
+            for (int i = 0; i < text.length() && line < count; i++) {
+                if (text.charAt(i) == '\n') starts[line++] = i + 1;
+            }
+            starts[count] = text.length();
+        }
+
+        int count() {
+            return starts.length - 1;
+        }
+
+        String line(int index) {
+            return text.substring(starts[index], starts[index + 1]);
+        }
+
+        int offset(int line) {
+            return starts[line];
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package com.codeenhancer.java_code_enhancer.admission;
+
+import com.codeenhancer.java_code_enhancer.config.CodeEnhancerProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AdmissionControlTests {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+    @Test
+    void chargesRequestsTheirSizeWithinTheBudget() {
+        AdmissionControl control = control(64 * 1024, 16 * 1024);
+
+        AdmissionControl.Permit large = control.tryAdmit(Lane.INTERACTIVE, 40 * 1024);
+        AdmissionControl.Permit small = control.tryAdmit(Lane.INTERACTIVE, 100);
+
+        assertThat(large).isNotNull();
+        assertThat(small).isNotNull();
+        assertThat(control.tryAdmit(Lane.INTERACTIVE, 100)).isNull();
+        assertThat(inFlight(Lane.INTERACTIVE)).isEqualTo(56 * 1024);
+
+        small.close();
+        small.close();
+
+        assertThat(inFlight(Lane.INTERACTIVE)).isEqualTo(40 * 1024);
+        assertThat(registry.get("code_enhancer.admission.rejected").tag("lane", "interactive").counter().count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    void runsRequestsOfUnknownSizeAlone() {
+        AdmissionControl control = control(64 * 1024, 1024);
+
+        AdmissionControl.Permit unknown = control.tryAdmit(Lane.INTERACTIVE, -1);
+
+        assertThat(unknown).isNotNull();
+        assertThat(control.tryAdmit(Lane.INTERACTIVE, 1)).isNull();
+        unknown.close();
+        assertThat(control.tryAdmit(Lane.INTERACTIVE, 1024 * 1024)).isNotNull();
+    }
+
+    @Test
+    void keepsTheLanesApart() {
+        AdmissionControl control = control(16 * 1024, 16 * 1024);
+
+        assertThat(control.tryAdmit(Lane.BATCH, -1)).isNotNull();
+        assertThat(control.tryAdmit(Lane.BATCH, 1)).isNull();
+        assertThat(control.tryAdmit(Lane.INTERACTIVE, 1)).isNotNull();
+        assertThat(control.retryAfter(Lane.BATCH)).isEqualTo(Duration.ofSeconds(3));
+    }
+
+    private AdmissionControl control(long maxBytes, long minRequestBytes) {
+        CodeEnhancerProperties properties = new CodeEnhancerProperties();
+        properties.getAdmission().setInteractive(
+                new CodeEnhancerProperties.Lane(maxBytes, Duration.ZERO, Duration.ofSeconds(1), minRequestBytes));
+        properties.getAdmission().setBatch(
+                new CodeEnhancerProperties.Lane(maxBytes, Duration.ZERO, Duration.ofSeconds(3), minRequestBytes));
+        return new AdmissionControl(properties, registry);
+    }
+
+    private double inFlight(Lane lane) {
+        return registry.get("code_enhancer.admission.in_flight").tag("lane", lane.name().toLowerCase()).gauge().value();
+    }
+}
@@ -0,0 +1,82 @@
+package com.codeenhancer.java_code_enhancer.admission;
+
+import com.codeenhancer.java_code_enhancer.config.CodeEnhancerProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AdmissionFilterTests {
+
+    private final List<Lane> lanes = new ArrayList<>();
+    private boolean reject;
+
+    private final CodeEnhancerProperties properties = new CodeEnhancerProperties();
+    private final AdmissionFilter filter = new AdmissionFilter(
+            new AdmissionControl(properties, new SimpleMeterRegistry()) {
+                @Override
+                public Permit tryAdmit(Lane lane, long bytes) {
+                    lanes.add(lane);
+                    return reject ? null : super.tryAdmit(lane, bytes);
+                }
+            }, properties);
+
+    @Test
+    void routesRequestsByEndpointKind() throws Exception {
+        post("/api/code-enhancer/enhance/text", 100);
+        post("/api/code-enhancer/sessions", 100);
+        post("/api/code-enhancer/jobs/text", 100);
+        post("/api/code-enhancer/enhance/batch", 100);
+        post("/api/code-enhancer/enhance/batch/stream", 100);
+        post("/api/code-enhancer/jobs/files", 100);
+        post("/api/code-enhancer/analyze/batch", 100);
+        post("/api/code-enhancer/analyze/bytecode", 100);
+
+        assertThat(lanes).containsExactly(Lane.INTERACTIVE, Lane.INTERACTIVE, Lane.INTERACTIVE,
+                Lane.BATCH, Lane.BATCH, Lane.BATCH, Lane.BATCH, Lane.BATCH);
+    }
+
+    @Test
+    void sendsLargeAndUnsizedRequestsToTheBatchLane() throws Exception {
+        post("/api/code-enhancer/enhance/text", properties.getAdmission().getLargeRequestBytes() + 1);
+        post("/api/code-enhancer/enhance/text", -1);
+
+        assertThat(lanes).containsExactly(Lane.BATCH, Lane.BATCH);
+    }
+
+    @Test
+    void leavesOtherRequestsAlone() throws Exception {
+        MockHttpServletRequest get = new MockHttpServletRequest("GET", "/api/code-enhancer/jobs");
+        filter.doFilter(get, new MockHttpServletResponse(), new MockFilterChain());
+        post("/actuator/health", 100);
+
+        assertThat(lanes).isEmpty();
+    }
+
+    @Test
+    void rejectsWithRetryAfterWhenTheLaneIsFull() throws Exception {
+        reject = true;
+
+        MockHttpServletResponse response = post("/api/code-enhancer/jobs/files", 100);
+
+        assertThat(response.getStatus()).isEqualTo(429);
+        assertThat(response.getHeader("Retry-After")).isEqualTo("30");
+        assertThat(response.getContentAsString()).contains("batch lane is at capacity");
+    }
+
+    private MockHttpServletResponse post(String uri, long length) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", uri);
+        if (length >= 0) {
+            request.setContent(new byte[(int) length]);
+        }
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, new MockFilterChain());
+        return response;
+    }
+}
@@ -0,0 +1,88 @@
+package com.codeenhancer.java_code_enhancer.analysis;
+
+import com.codeenhancer.java_code_enhancer.config.CodeEnhancerProperties;
+import com.codeenhancer.java_code_enhancer.util.CodeTransformationUtils;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AnalysisBudgetTests {
+
+    private static final String LARGE = large(300);
+
+    private final JavaParserPool parsers = new JavaParserPool(new CodeEnhancerProperties.Parser(), null);
+
+    @Test
+    void withoutLimitsIsNeverExceeded() {
+        AnalysisBudget unlimited = AnalysisBudget.unlimited();
+        AnalysisBudget unset = AnalysisBudget.of(Duration.ZERO, 0);
+
+        assertThat(unlimited.charge(Long.MAX_VALUE / 2)).isTrue();
+        assertThat(unset.charge(Long.MAX_VALUE / 2)).isTrue();
+        assertThat(unlimited.isExceeded()).isFalse();
+        assertThat(unset.isExceeded()).isFalse();
+    }
+
+    @Test
+    void staysExceededOnceTheNodesAreUsedUp() {
+        AnalysisBudget budget = AnalysisBudget.of(null, 100);
+
+        assertThat(budget.charge(100)).isTrue();
+        assertThat(budget.charge(1)).isFalse();
+        assertThat(budget.isExceeded()).isTrue();
+        assertThat(budget.charge(0)).isFalse();
+    }
+
+    @Test
+    void truncatesTheScanWhenTheNodesRunOut() {
+        ScanResult full = AnalysisContext.parse(LARGE, parsers).getScan();
+        AnalysisContext context = AnalysisContext.parse(LARGE, parsers, AnalysisContext.options()
+                .budget(AnalysisBudget.of(Duration.ZERO, 3 * AnalysisBudget.CHUNK)));
+
+        ScanResult truncated = context.getScan();
+
+        assertThat(full.isTruncated()).isFalse();
+        assertThat(full.getWarnings()).hasSize(300);
+        assertThat(truncated.isTruncated()).isTrue();
+        assertThat(truncated.getWarnings()).isNotEmpty().hasSizeLessThan(300);
+        assertThat(full.getWarnings()).startsWith(truncated.getWarnings().toArray(new String[0]));
+    }
+
+    @Test
+    void truncatesTheScanWhenTheTimeRunsOut() throws InterruptedException {
+        AnalysisBudget budget = AnalysisBudget.of(Duration.ofNanos(1), 0);
+        Thread.sleep(1);
+
+        ScanResult scan = AnalysisContext.parse(LARGE, parsers, AnalysisContext.options().budget(budget)).getScan();
+
+        assertThat(budget.isExceeded()).isTrue();
+        assertThat(scan.isTruncated()).isTrue();
+        assertThat(scan.getWarnings()).hasSizeLessThan(300);
+    }
+
+    @Test
+    void leavesTheSourceAsItIsWhenTheBudgetRanOut() {
+        AnalysisContext context = AnalysisContext.parse(LARGE, parsers, AnalysisContext.options()
+                .budget(AnalysisBudget.of(Duration.ZERO, AnalysisBudget.CHUNK)));
+        context.getScan();
+
+        assertThat(CodeTransformationUtils.transformToLatestVersion(context)).isSameAs(LARGE);
+        assertThat(context.getTrace().isPartial()).isTrue();
+    }
+
+    private static String large(int methods) {
+        StringBuilder source = new StringBuilder("class Large {\n");
+        for (int i = 0; i < methods; i++) {
+            source.append("    String m").append(i).append("(int[] values) {\n")
+                    .append("        String s = \"\";\n")
+                    .append("        for (int value : values) {\n")
+                    .append("            s += value;\n")
+                    .append("        }\n")
+                    .append("        return s;\n")
+                    .append("    }\n");
+        }
+        return source.append("}\n").toString();
+    }
+}
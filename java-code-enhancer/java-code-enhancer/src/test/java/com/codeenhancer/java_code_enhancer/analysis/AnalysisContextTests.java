@@ -0,0 +1,112 @@
+package com.codeenhancer.java_code_enhancer.analysis;
+
+import com.codeenhancer.java_code_enhancer.config.CodeEnhancerProperties;
+import com.codeenhancer.java_code_enhancer.rules.BuiltInRules;
+import com.codeenhancer.java_code_enhancer.rules.RuleSet;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class AnalysisContextTests {
+
+    private final JavaParserPool parsers = new JavaParserPool(new CodeEnhancerProperties().getParser(), null);
+
+    @Test
+    void parsesOnceAndSharesTheTree() {
+        AnalysisContext context = AnalysisContext.parse("class A { void m() { } }", parsers);
+
+        assertThat(context.isParsed()).isTrue();
+        assertThat(context.getParseError()).isNull();
+        assertThat(context.getCompilationUnit()).isSameAs(context.getCompilationUnit());
+        assertThat(context.getScan()).isSameAs(context.getScan());
+        assertThat(context.getRules()).isSameAs(RuleSet.BUILT_IN);
+    }
+
+    @Test
+    void keepsTheParseErrorWithoutATree() {
+        AnalysisContext context = AnalysisContext.parse("class A { void m( }", parsers);
+
+        assertThat(context.isParsed()).isFalse();
+        assertThat(context.getParseError()).contains("line 1").doesNotContain("Problem stacktrace");
+        assertThat(context.getTrace().isParseFailed()).isTrue();
+        assertThatThrownBy(context::getCompilationUnit).isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void countsLinesLikeSplit() {
+        for (String source : new String[]{"", "\n", "a", "a\n", "a\nb", "a\n\nb\n\n", "\n\na"}) {
+            int expected = source.split("\n").length;
+            assertThat(AnalysisContext.parse(source, parsers).getLineCount()).as(source).isEqualTo(expected);
+            assertThat(AnalysisContext.countLines(source)).as(source).isEqualTo(expected);
+        }
+    }
+
+    @Test
+    void convertsLinesAndColumnsToOffsets() {
+        AnalysisContext context = AnalysisContext.parse("class A {\n  int x;\n}\n", parsers);
+
+        assertThat(context.offsetOf(1, 1)).isEqualTo(0);
+        assertThat(context.offsetOf(2, 3)).isEqualTo(12);
+        assertThat(context.getSource().substring(context.offsetOf(2, 3))).startsWith("int x;");
+        assertThat(context.offsetOf(99, 1)).isEqualTo(context.getSource().length());
+    }
+
+    @Test
+    void scanBeforeTransformationSurvivesIt() {
+        AnalysisContext context = AnalysisContext.parse(
+                "class A { Object m() { return new Date(); } }", parsers);
+
+        context.markTransformed();
+
+        assertThat(context.isTransformed()).isTrue();
+        assertThat(context.getScan().getRewriteCandidates()).isNotEmpty();
+    }
+
+    @Test
+    void leanParseScansWithTheGivenRules() {
+        String source = "class A {\n    // Now\n    Object m() { return new Date(); }\n}\n";
+        RuleSet withoutLegacyTypes = RuleSet.of(BuiltInRules.all().stream()
+                .filter(rule -> !rule.id().equals("legacy_type"))
+                .collect(Collectors.toList()));
+
+        AnalysisContext all = AnalysisContext.parse(source, parsers, AnalysisContext.options()
+                .profile(ParseProfile.LEAN));
+        AnalysisContext fewer = AnalysisContext.parse(source, parsers, AnalysisContext.options()
+                .rules(withoutLegacyTypes)
+                .profile(ParseProfile.LEAN));
+
+        assertThat(all.getScan().getDeprecatedApiCount()).isEqualTo(1);
+        assertThat(fewer.getRules()).isSameAs(withoutLegacyTypes);
+        assertThat(fewer.getScan().getDeprecatedApiCount()).isZero();
+        assertThat(fewer.getCompilationUnit().getAllContainedComments()).isEmpty();
+    }
+
+    @Test
+    void leanParseStopsTheScanWhenTheBudgetRunsOut() {
+        StringBuilder source = new StringBuilder("class A {\n");
+        for (int i = 0; i < 200; i++) {
+            source.append("    Object m").append(i).append("() { return new Date(").append(i).append("L); }\n");
+        }
+        AnalysisBudget budget = AnalysisBudget.of(Duration.ZERO, 100);
+
+        AnalysisContext context = AnalysisContext.parse(source.append("}\n").toString(), parsers,
+                AnalysisContext.options().budget(budget).profile(ParseProfile.LEAN));
+
+        assertThat(context.getBudget()).isSameAs(budget);
+        assertThat(context.getScan().isTruncated()).isTrue();
+        assertThat(context.getScan().getDeprecatedApiCount()).isLessThan(200);
+    }
+
+    @Test
+    void leanParseReportsWhereTheSourceFailsToParse() {
+        AnalysisContext context = AnalysisContext.parse("class A {\n  void m( }", parsers,
+                AnalysisContext.options().profile(ParseProfile.LEAN));
+
+        assertThat(context.isParsed()).isFalse();
+        assertThat(context.getParseError()).contains("line 2");
+    }
+}
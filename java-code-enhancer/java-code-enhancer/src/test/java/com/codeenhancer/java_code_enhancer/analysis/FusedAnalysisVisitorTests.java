@@ -0,0 +1,65 @@
+package com.codeenhancer.java_code_enhancer.analysis;
+
+import com.github.javaparser.StaticJavaParser;
+import com.github.javaparser.ast.CompilationUnit;
+import com.github.javaparser.ast.Node;
+import com.github.javaparser.ast.expr.MethodCallExpr;
+import com.github.javaparser.ast.stmt.IfStmt;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class FusedAnalysisVisitorTests {
+
+    private static final String SOURCE = "class A {\n"
+            + "    void m(int x) {\n"
+            + "        if (x > 0) { a(); }\n"
+            + "        if (x > 1) { b(); } else { c(); }\n"
+            + "    }\n"
+            + "}\n";
+
+    @Test
+    void offersEveryNodeOnceInDocumentOrder() {
+        CompilationUnit cu = StaticJavaParser.parse(SOURCE);
+        List<Node> seen = new ArrayList<>();
+        NodeCollector all = new NodeCollector() {
+            @Override
+            public Set<Class<? extends Node>> nodeTypes() {
+                Set<Class<? extends Node>> types = new HashSet<>();
+                cu.walk(Node.TreeTraversal.PREORDER, node -> types.add(node.getClass()));
+                return types;
+            }
+
+            @Override
+            public void collect(Node node, ScanResult result) {
+                seen.add(node);
+            }
+        };
+
+        ScanResult result = new FusedAnalysisVisitor(List.of(all)).scan(cu);
+
+        assertThat(seen).containsExactlyElementsOf(cu.findAll(Node.class));
+        assertThat(result.getNodesVisited()).isEqualTo(seen.size());
+    }
+
+    @Test
+    void runsEveryCollectorOfANodeTypeInOneWalk() {
+        CompilationUnit cu = StaticJavaParser.parse(SOURCE);
+        List<String> calls = new ArrayList<>();
+
+        ScanResult result = new FusedAnalysisVisitor(List.of(
+                NodeCollector.of(IfStmt.class, (stmt, scan) -> scan.addComplexity(1)),
+                NodeCollector.of(MethodCallExpr.class, (call, scan) -> calls.add(call.getNameAsString())),
+                NodeCollector.of(MethodCallExpr.class, (call, scan) -> scan.addWarning(call.getNameAsString()))
+        )).scan(cu);
+
+        assertThat(result.getCyclomaticComplexity()).isEqualTo(3);
+        assertThat(calls).containsExactly("a", "b", "c");
+        assertThat(result.getWarnings()).containsExactly("a", "b", "c");
+    }
+}
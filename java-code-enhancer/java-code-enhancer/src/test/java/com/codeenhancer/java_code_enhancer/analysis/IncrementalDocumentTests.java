@@ -0,0 +1,248 @@
+package com.codeenhancer.java_code_enhancer.analysis;
+
+import com.codeenhancer.java_code_enhancer.config.CodeEnhancerProperties;
+import com.codeenhancer.java_code_enhancer.rules.RuleSet;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class IncrementalDocumentTests {
+
+    private static final String SOURCE = "package p;\n"
+            + "\n"
+            + "import java.util.*;\n"
+            + "\n"
+            + "class A {\n"
+            + "    // Counts the items that are set\n"
+            + "    int count(List<String> items) {\n"
+            + "        int n = 0;\n"
+            + "        for (int i = 0; i < items.size(); i++) {\n"
+            + "            if (items.get(i) != null) n++;\n"
+            + "        }\n"
+            + "        return n;\n"
+            + "    }\n"
+            + "\n"
+            + "    Object now() {\n"
+            + "        return new Date();\n"
+            + "    }\n"
+            + "}\n";
+
+    private final JavaParserPool parsers = new JavaParserPool(new CodeEnhancerProperties.Parser(), null);
+
+    @Test
+    void reanalyzesOnlyTheEditedMember() {
+        IncrementalDocument document = open(SOURCE);
+        String inserted = "        String s = \"\";\n        for (int j = 0; j < 3; j++) s += j;\n";
+
+        IncrementalDocument.Change change = document.applyEdit(SOURCE.indexOf("        int n"), 0, inserted);
+
+        assertThat(change.isWholeDocument()).isFalse();
+        assertThat(change.getStartLine()).isEqualTo(6);
+        assertThat(change.getEndLine()).isEqualTo(15);
+        assertThat(change.getLineDelta()).isEqualTo(2);
+        assertThat(change.getAddedWarnings()).hasSize(1);
+        assertThat(change.getRemovedWarnings()).isEmpty();
+        assertMatchesFreshAnalysis(document);
+    }
+
+    @Test
+    void keepsLaterMembersInPlaceAfterAnEdit() {
+        IncrementalDocument document = open(SOURCE);
+
+        document.applyEdit(SOURCE.indexOf("int n = 0;"), 0, "\n\n");
+        IncrementalDocument.Change change = document.applyEdit(document.getSource().indexOf("new Date()"),
+                "new Date()".length(), "new Date(0L)");
+
+        assertThat(change.isWholeDocument()).isFalse();
+        assertThat(change.getStartLine()).isEqualTo(17);
+        assertMatchesFreshAnalysis(document);
+    }
+
+    @Test
+    void keepsFindingsOnFieldsAfterAnEditOfTheMethodUsingThem() {
+        String source = "import java.util.*;\n"
+                + "\n"
+                + "class A {\n"
+                + "    String s = \"\";\n"
+                + "    LinkedList<String> list = new LinkedList<>();\n"
+                + "\n"
+                + "    void m() {\n"
+                + "        for (int i = 0; i < 10; i++) {\n"
+                + "            s += i;\n"
+                + "            list.get(i);\n"
+                + "        }\n"
+                + "    }\n"
+                + "}\n";
+        IncrementalDocument document = open(source);
+        assertThat(document.getWarnings()).hasSize(2);
+
+        IncrementalDocument.Change change = document.applyEdit(source.indexOf("s += i"), 0, " ");
+
+        assertThat(change.isWholeDocument()).isFalse();
+        assertThat(change.getAddedWarnings()).isEmpty();
+        assertThat(change.getRemovedWarnings()).isEmpty();
+        assertThat(document.getWarnings()).hasSize(2);
+        assertMatchesFreshAnalysis(document);
+    }
+
+    @Test
+    void reanalyzesTheWholeDocumentForEditsOfAField() {
+        String source = "import java.util.*;\n"
+                + "\n"
+                + "class A {\n"
+                + "    LinkedList<String> list = new LinkedList<>();\n"
+                + "\n"
+                + "    void m() {\n"
+                + "        for (int i = 0; i < 10; i++) list.get(i);\n"
+                + "    }\n"
+                + "}\n";
+        IncrementalDocument document = open(source);
+        assertThat(document.getWarnings()).hasSize(1);
+
+        IncrementalDocument.Change change = document.applyEdit(source.indexOf("new LinkedList"),
+                "new LinkedList".length(), "new ArrayList");
+
+        assertThat(change.isWholeDocument()).isTrue();
+        assertThat(change.getRemovedWarnings()).hasSize(1);
+        assertMatchesFreshAnalysis(document);
+    }
+
+    @Test
+    void reanalyzesTheWholeDocumentForEditsBetweenMembers() {
+        IncrementalDocument document = open(SOURCE);
+
+        IncrementalDocument.Change change = document.applyEdit(SOURCE.indexOf("    Object now"), 0,
+                "    private final Vector<String> cache = new Vector<>();\n\n");
+
+        assertThat(change.isWholeDocument()).isTrue();
+        assertThat(change.getLineDelta()).isEqualTo(2);
+        assertMatchesFreshAnalysis(document);
+    }
+
+    @Test
+    void reportsAMemberThatNoLongerParsesAndRecovers() {
+        IncrementalDocument document = open(SOURCE);
+        int brace = SOURCE.indexOf("return n;") + "return n;".length();
+
+        document.applyEdit(brace, 0, " if (");
+
+        assertThat(document.isValid()).isFalse();
+        assertThat(document.getParseError()).isNotBlank();
+
+        IncrementalDocument.Change change = document.applyEdit(brace, " if (".length(), "");
+
+        assertThat(change.isWholeDocument()).isTrue();
+        assertThat(document.isValid()).isTrue();
+        assertThat(document.getSource()).isEqualTo(SOURCE);
+        assertMatchesFreshAnalysis(document);
+    }
+
+    @Test
+    void matchesAFreshAnalysisAfterEveryEditOfASequence() {
+        IncrementalDocument document = open(SOURCE);
+        String[][] edits = {
+                {"n++;", "n += 1;"},
+                {"new Date()", "new Date(System.currentTimeMillis())"},
+                {"int n = 0;", "int n = 0;\n        String s = \"\";"},
+                {"return n;", "s = s + n;\n        return n;"},
+                {"// Counts", "/** Counts"},
+                {"are set", "are set */"},
+        };
+
+        for (String[] edit : edits) {
+            document.applyEdit(document.getSource().indexOf(edit[0]), edit[0].length(), edit[1]);
+            assertMatchesFreshAnalysis(document);
+        }
+    }
+
+    @Test
+    void reportsAPartialDocumentUntilAnEditHasTheBudgetForIt() {
+        AtomicLong maxNodes = new AtomicLong(AnalysisBudget.CHUNK);
+        String source = large(300);
+        IncrementalDocument document = new IncrementalDocument(source, parsers, RuleSet.BUILT_IN,
+                () -> AnalysisBudget.of(Duration.ZERO, maxNodes.get()));
+
+        assertThat(document.isPartial()).isTrue();
+        assertThat(document.getWarnings()).isNotEmpty().hasSizeLessThan(300);
+
+        maxNodes.set(0);
+        IncrementalDocument.Change change = document.applyEdit(source.indexOf("s += 0;"), 0, " ");
+
+        assertThat(change.isWholeDocument()).isTrue();
+        assertThat(document.isPartial()).isFalse();
+        assertMatchesFreshAnalysis(document);
+    }
+
+    @Test
+    void analyzesTheWholeDocumentWithinTheBudgetWhenAMemberRunsOutOfIt() {
+        AtomicLong maxNodes = new AtomicLong(0);
+        String source = large(300);
+        IncrementalDocument document = new IncrementalDocument(source, parsers, RuleSet.BUILT_IN,
+                () -> AnalysisBudget.of(Duration.ZERO, maxNodes.get()));
+        assertThat(document.isPartial()).isFalse();
+
+        maxNodes.set(AnalysisBudget.CHUNK);
+        IncrementalDocument.Change change = document.applyEdit(source.indexOf("s += 0;"), 0, " ");
+
+        assertThat(change.isWholeDocument()).isTrue();
+        assertThat(document.isPartial()).isTrue();
+        assertThat(document.getWarnings()).hasSizeLessThan(300);
+    }
+
+    @Test
+    void rejectsEditsOutsideTheSource() {
+        IncrementalDocument document = open(SOURCE);
+
+        assertThatThrownBy(() -> document.applyEdit(SOURCE.length(), 1, "x"))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThat(document.getVersion()).isZero();
+    }
+
+    /**
+     * A class with one method that concatenates a string in the given number
+     * of loops
+     */
+    private static String large(int loops) {
+        StringBuilder source = new StringBuilder("class Large {\n")
+                .append("    String m(int[] values) {\n")
+                .append("        String s = \"\";\n");
+        for (int i = 0; i < loops; i++) {
+            source.append("        for (int value : values) {\n")
+                    .append("            s += ").append(i).append(";\n")
+                    .append("        }\n");
+        }
+        return source.append("        return s;\n    }\n}\n").toString();
+    }
+
+    private IncrementalDocument open(String source) {
+        return new IncrementalDocument(source, parsers, RuleSet.BUILT_IN);
+    }
+
+    /**
+     * The document must report what a full scan of its current source reports
+     */
+    private void assertMatchesFreshAnalysis(IncrementalDocument document) {
+        AnalysisContext fresh = AnalysisContext.parse(document.getSource(), parsers);
+        assertThat(document.isValid()).isEqualTo(fresh.isParsed());
+        assertThat(document.getLineCount()).isEqualTo(fresh.getLineCount());
+        if (!fresh.isParsed()) {
+            return;
+        }
+        ScanResult scan = fresh.getScan();
+        assertThat(document.getCyclomaticComplexity()).isEqualTo(scan.getCyclomaticComplexity());
+        assertThat(document.getDeprecatedApiCount()).isEqualTo(scan.getDeprecatedApiCount());
+        assertThat(document.getModernizationOpportunities()).isEqualTo(scan.getModernizationOpportunities());
+        assertThat(document.getWarnings()).containsExactlyInAnyOrderElementsOf(scan.getWarnings());
+        assertThat(document.snapshot().getRewrites().stream()
+                .map(site -> site.getRule() + "@" + site.getLine())
+                .collect(Collectors.toList()))
+                .containsExactlyInAnyOrderElementsOf(scan.getRewriteCandidates().stream()
+                        .map(candidate -> candidate.getRule().id() + "@" + candidate.getNode().getBegin().get().line)
+                        .collect(Collectors.toList()));
+    }
+}
@@ -0,0 +1,115 @@
+package com.codeenhancer.java_code_enhancer.analysis;
+
+import com.codeenhancer.java_code_enhancer.config.CodeEnhancerProperties;
+import com.github.javaparser.JavaParser;
+import com.github.javaparser.ParseProblemException;
+import com.github.javaparser.ParseResult;
+import com.github.javaparser.ParserConfiguration;
+import com.github.javaparser.ast.CompilationUnit;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class JavaParserPoolTests {
+
+    private static final String SOURCE = "/** doc */ class A { record R(int x) { } }";
+
+    @Test
+    void parsesWithTheConfiguredLanguageLevel() {
+        CodeEnhancerProperties.Parser settings = new CodeEnhancerProperties.Parser();
+        JavaParserPool pool = new JavaParserPool(settings, null);
+
+        ParseResult<CompilationUnit> result = pool.parse(SOURCE);
+
+        assertThat(result.isSuccessful()).isTrue();
+        assertThat(result.getResult().get().getType(0).getComment()).isPresent();
+
+        settings.setLanguageLevel(ParserConfiguration.LanguageLevel.JAVA_8);
+        assertThat(new JavaParserPool(settings, null).parse(SOURCE).isSuccessful()).isFalse();
+    }
+
+    @Test
+    void leanParsersSkipCommentsAndTokens() {
+        JavaParserPool pool = new JavaParserPool(new CodeEnhancerProperties.Parser(), null);
+
+        CompilationUnit unit = pool.parse(SOURCE, ParseProfile.LEAN).getResult().get();
+
+        assertThat(unit.getType(0).getComment()).isEmpty();
+        assertThat(unit.getTokenRange()).isEmpty();
+        assertThat(pool.parse(SOURCE).getResult().get().getTokenRange()).isPresent();
+    }
+
+    @Test
+    void reusesIdleParsersOfTheSameProfile() {
+        JavaParserPool pool = new JavaParserPool(new CodeEnhancerProperties.Parser(), null);
+
+        JavaParser first = pool.withParser(parser -> parser);
+        JavaParser second = pool.withParser(parser -> parser);
+        JavaParser lean = pool.withParser(ParseProfile.LEAN, parser -> parser);
+
+        assertThat(second).isSameAs(first);
+        assertThat(lean).isNotSameAs(first);
+    }
+
+    @Test
+    void keepsNoMoreIdleParsersThanConfigured() throws Exception {
+        CodeEnhancerProperties.Parser settings = new CodeEnhancerProperties.Parser();
+        settings.setMaxIdle(1);
+        JavaParserPool pool = new JavaParserPool(settings, null);
+
+        List<JavaParser> first = borrowTogether(pool, 2);
+        List<JavaParser> second = borrowTogether(pool, 2);
+
+        assertThat(first.get(0)).isNotSameAs(first.get(1));
+        assertThat(second.stream().filter(first::contains).count()).isEqualTo(1);
+    }
+
+    @Test
+    void rejectsInvalidStatements() {
+        JavaParserPool pool = new JavaParserPool(new CodeEnhancerProperties.Parser(), null);
+
+        assertThat(pool.parseStatement("x = 1;").toString()).isEqualTo("x = 1;");
+        assertThatThrownBy(() -> pool.parseStatement("x = ;")).isInstanceOf(ParseProblemException.class);
+    }
+
+    /**
+     * Borrow parsers on several threads at once and return them all
+     */
+    private static List<JavaParser> borrowTogether(JavaParserPool pool, int threads) throws Exception {
+        CountDownLatch borrowed = new CountDownLatch(threads);
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<JavaParser>> held = new ArrayList<>();
+            for (int i = 0; i < threads; i++) {
+                held.add(executor.submit(() -> pool.withParser(parser -> {
+                    borrowed.countDown();
+                    await(borrowed);
+                    return parser;
+                })));
+            }
+            List<JavaParser> parsers = new ArrayList<>();
+            for (Future<JavaParser> parser : held) {
+                parsers.add(parser.get());
+            }
+            return parsers;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
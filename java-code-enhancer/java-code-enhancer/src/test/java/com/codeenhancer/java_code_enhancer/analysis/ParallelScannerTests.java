@@ -0,0 +1,99 @@
+package com.codeenhancer.java_code_enhancer.analysis;
+
+import com.codeenhancer.java_code_enhancer.config.CodeEnhancerProperties;
+import com.codeenhancer.java_code_enhancer.util.CodeTransformationUtils;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ParallelScannerTests {
+
+    private static final String SOURCE = source(40);
+
+    private final JavaParserPool parsers = new JavaParserPool(new CodeEnhancerProperties.Parser(), null);
+    private final ParallelScanner scanner = new ParallelScanner(settings());
+
+    @AfterEach
+    void shutdown() {
+        scanner.shutdown();
+    }
+
+    @Test
+    void findsTheSameAsASequentialScanInTheSameOrder() {
+        ScanResult sequential = parse(ParallelScanner.SEQUENTIAL).getScan();
+
+        for (int run = 0; run < 5; run++) {
+            ScanResult parallel = parse(scanner).getScan();
+
+            assertThat(parallel.getCyclomaticComplexity()).isEqualTo(sequential.getCyclomaticComplexity());
+            assertThat(parallel.getDeprecatedApiCount()).isEqualTo(sequential.getDeprecatedApiCount());
+            assertThat(parallel.getModernizationOpportunities()).isEqualTo(sequential.getModernizationOpportunities());
+            assertThat(parallel.getWarnings()).isEqualTo(sequential.getWarnings());
+            assertThat(parallel.getFindings()).isEqualTo(sequential.getFindings());
+            assertThat(sites(parallel)).isEqualTo(sites(sequential));
+        }
+        assertThat(sequential.getWarnings()).hasSizeGreaterThan(40);
+    }
+
+    @Test
+    void rewritesTheSameCode() {
+        String sequential = CodeTransformationUtils.transformToLatestVersion(parse(ParallelScanner.SEQUENTIAL));
+
+        assertThat(CodeTransformationUtils.transformToLatestVersion(parse(scanner))).isEqualTo(sequential);
+    }
+
+    @Test
+    void sharesTheBudgetBetweenUnits() {
+        AnalysisBudget budget = AnalysisBudget.of(Duration.ZERO, AnalysisBudget.CHUNK);
+
+        ScanResult scan = AnalysisContext.parse(SOURCE, parsers, AnalysisContext.options().budget(budget).scanner(scanner)).getScan();
+
+        assertThat(scan.isTruncated()).isTrue();
+        assertThat(budget.isExceeded()).isTrue();
+    }
+
+    private AnalysisContext parse(ParallelScanner with) {
+        return AnalysisContext.parse(SOURCE, parsers, AnalysisContext.options().scanner(with));
+    }
+
+    private static List<String> sites(ScanResult scan) {
+        return scan.getRewriteCandidates().stream()
+                .map(candidate -> candidate.getRule().id() + "@" + candidate.getNode().getBegin().orElseThrow())
+                .collect(Collectors.toList());
+    }
+
+    private static CodeEnhancerProperties.Scan settings() {
+        CodeEnhancerProperties.Scan settings = new CodeEnhancerProperties.Scan();
+        settings.setParallelism(4);
+        settings.setMinLines(1);
+        settings.setUnitLines(8);
+        return settings;
+    }
+
+    private static String source(int methods) {
+        StringBuilder source = new StringBuilder("import java.util.*;\n\nclass Large {\n");
+        for (int i = 0; i < methods; i++) {
+            source.append("    String m").append(i).append("(int[] values, LinkedList<String> list) {\n")
+                    .append("        String s = \"\";\n")
+                    .append("        StringBuffer buffer = new StringBuffer();\n")
+                    .append("        for (int value : values) {\n")
+                    .append("            s += value;\n")
+                    .append("            buffer.append(list.get(value));\n")
+                    .append("            if (value > ").append(i).append(") {\n")
+                    .append("                return new Date().toString();\n")
+                    .append("            }\n")
+                    .append("        }\n")
+                    .append("        return s + buffer;\n")
+                    .append("    }\n\n")
+                    .append("    static class Inner").append(i).append(" {\n")
+                    .append("        Integer box(int x) { return new Integer(x); }\n")
+                    .append("    }\n\n");
+        }
+        return source.append("}\n").toString();
+    }
+}
@@ -0,0 +1,191 @@
+package com.codeenhancer.java_code_enhancer.backend;
+
+import com.codeenhancer.java_code_enhancer.analysis.JavaParserPool;
+import com.codeenhancer.java_code_enhancer.analysis.ParallelScanner;
+import com.codeenhancer.java_code_enhancer.analysis.ScanResult;
+import com.codeenhancer.java_code_enhancer.config.CodeEnhancerProperties;
+import com.codeenhancer.java_code_enhancer.dto.SourceAnalysisResult;
+import com.codeenhancer.java_code_enhancer.metrics.PipelineMetrics;
+import com.codeenhancer.java_code_enhancer.rules.BuiltInRules;
+import com.codeenhancer.java_code_enhancer.rules.ModernizationRule;
+import com.codeenhancer.java_code_enhancer.rules.RuleRegistry;
+import com.codeenhancer.java_code_enhancer.rules.RuleSet;
+import com.codeenhancer.java_code_enhancer.service.impl.DashboardServiceImpl;
+import com.codeenhancer.java_code_enhancer.symbols.ProjectIndexer;
+import com.codeenhancer.java_code_enhancer.util.CodeMetrics;
+import com.github.javaparser.ast.Node;
+import com.github.javaparser.ast.expr.ObjectCreationExpr;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+class AnalysisBackendTests {
+
+    private static final List<SourceFile> SOURCES = List.of(
+            new SourceFile("p/Legacy.java", "package p;\n"
+                    + "\n"
+                    + "import java.io.File;\n"
+                    + "import java.util.*;\n"
+                    + "\n"
+                    + "public class Legacy {\n"
+                    + "    int run(int k, File dir, List<String> items) throws Exception {\n"
+                    + "        Date now = new Date();\n"
+                    + "        Vector<String> names = new Vector<>();\n"
+                    + "        Integer boxed = new Integer(k);\n"
+                    + "        for (int i = 0; i < items.size(); i++) names.add(items.get(i));\n"
+                    + "        for (int i = 0; i != k; i++) names.add(\"\" + i);\n"
+                    + "        while (true) {\n"
+                    + "            if (dir.list().length > k) break;\n"
+                    + "        }\n"
+                    + "        switch (k) {\n"
+                    + "            case 1: k++; break;\n"
+                    + "            default: k--;\n"
+                    + "        }\n"
+                    + "        return k + boxed + new Helper().list().length;\n"
+                    + "    }\n"
+                    + "}\n"),
+            new SourceFile("p/Helper.java", "package p;\n"
+                    + "\n"
+                    + "class Helper {\n"
+                    + "    String[] list() {\n"
+                    + "        return new String[0];\n"
+                    + "    }\n"
+                    + "}\n"),
+            new SourceFile("p/Broken.java", "package p;\n\nclass Broken {\n    void m( }\n"));
+
+    @Autowired
+    AnalysisBackend javaParserBackend;
+
+    @Autowired
+    CodeEnhancerProperties properties;
+
+    @Autowired
+    RuleRegistry ruleRegistry;
+
+    @Autowired
+    JavaParserPool parsers;
+
+    @Autowired
+    DashboardServiceImpl dashboardService;
+
+    @Autowired
+    PipelineMetrics pipelineMetrics;
+
+    @Autowired
+    ProjectIndexer projectIndexer;
+
+    @Test
+    void bothBackendsReportTheSameMetricsAndResolvedApis() {
+        JdtBackend jdt = new JdtBackend(properties);
+
+        List<SourceAnalysisResult> fromJavaParser = javaParserBackend.analyzeAll(SOURCES, RuleSet.BUILT_IN);
+        List<SourceAnalysisResult> fromJdt = jdt.analyzeAll(SOURCES, RuleSet.BUILT_IN);
+
+        assertThat(javaParserBackend.id()).isEqualTo(JavaParserBackend.ID);
+        assertThat(fromJavaParser).extracting(SourceAnalysisResult::getPath)
+                .containsExactly("p/Legacy.java", "p/Helper.java", "p/Broken.java");
+        for (int i = 0; i < SOURCES.size(); i++) {
+            SourceAnalysisResult expected = fromJavaParser.get(i);
+            SourceAnalysisResult actual = fromJdt.get(i);
+            assertThat(actual.getPath()).isEqualTo(expected.getPath());
+            assertThat(actual.isValid()).as(expected.getPath()).isEqualTo(expected.isValid());
+            assertThat(counts(actual)).as(expected.getPath()).isEqualTo(counts(expected));
+            assertThat(actual.getDeprecatedApis()).as(expected.getPath()).isEqualTo(expected.getDeprecatedApis());
+        }
+        SourceAnalysisResult legacy = fromJavaParser.get(0);
+        assertThat(legacy.getCodeMetrics().getDeprecatedApiCount()).isEqualTo(4);
+        assertThat(legacy.getCodeMetrics().getModernizationOpportunities()).isEqualTo(4);
+        // Helper.list resolves to the other source, not to File.list
+        assertThat(legacy.getDeprecatedApis()).containsOnlyKeys("java.util.Date", "java.util.Vector", "java.io.File.list");
+        assertThat(fromJavaParser.get(2).getError()).contains("line");
+        assertThat(fromJdt.get(2).getError()).contains("line");
+    }
+
+    @Test
+    void bothBackendsCountOnlyTheSelectedRules() {
+        RuleSet fewer = ruleRegistry.resolve(null, List.of(), List.of("legacy_type", "switch", "indexed_loop"));
+        JdtBackend jdt = new JdtBackend(properties);
+
+        SourceAnalysisResult all = javaParserBackend.analyzeAll(SOURCES, RuleSet.BUILT_IN).get(0);
+        SourceAnalysisResult fromJavaParser = javaParserBackend.analyzeAll(SOURCES, fewer).get(0);
+        SourceAnalysisResult fromJdt = jdt.analyzeAll(SOURCES, fewer).get(0);
+
+        assertThat(counts(fromJdt)).isEqualTo(counts(fromJavaParser));
+        assertThat(fromJavaParser.getCodeMetrics().getDeprecatedApiCount())
+                .isEqualTo(all.getCodeMetrics().getDeprecatedApiCount() - 1);
+        assertThat(fromJavaParser.getCodeMetrics().getModernizationOpportunities())
+                .isEqualTo(all.getCodeMetrics().getModernizationOpportunities() - 2);
+        assertThat(jdt.metrics(SOURCES.get(0).getContent(), fewer).getDeprecatedApiCount())
+                .isEqualTo(javaParserBackend.metrics(SOURCES.get(0).getContent(), fewer).getDeprecatedApiCount());
+    }
+
+    @Test
+    void jdtRejectsRulesItDoesNotRun() {
+        RuleSet custom = RuleSet.of(List.of(new CreationRule()));
+        JdtBackend jdt = new JdtBackend(properties);
+
+        assertThat(javaParserBackend.metrics(SOURCES.get(0).getContent(), custom).getDeprecatedApiCount())
+                .isEqualTo(4);
+        assertThatThrownBy(() -> jdt.analyzeAll(SOURCES, custom))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("creation");
+        assertThatThrownBy(() -> jdt.metrics(SOURCES.get(0).getContent(), custom))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThat(BuiltInRules.all()).extracting(ModernizationRule::id).containsAll(JdtMetricsVisitor.RULES);
+    }
+
+    @Test
+    void javaParserAnalysisStopsWhenTheConfiguredBudgetRunsOut() {
+        CodeEnhancerProperties limited = new CodeEnhancerProperties();
+        limited.getBudget().setMaxNodes(100);
+        JavaParserBackend backend = new JavaParserBackend(parsers, dashboardService, pipelineMetrics, projectIndexer,
+                ruleRegistry, limited, ParallelScanner.SEQUENTIAL);
+        StringBuilder large = new StringBuilder("import java.util.Date;\n\nclass Large {\n");
+        for (int i = 0; i < 200; i++) {
+            large.append("    Object m").append(i).append("() { return new Date(").append(i).append("L); }\n");
+        }
+        List<SourceFile> sources = List.of(new SourceFile("Large.java", large.append("}\n").toString()));
+
+        SourceAnalysisResult bounded = backend.analyzeAll(sources, RuleSet.BUILT_IN).get(0);
+        SourceAnalysisResult full = javaParserBackend.analyzeAll(sources, RuleSet.BUILT_IN).get(0);
+
+        assertThat(full.getCodeMetrics().getDeprecatedApiCount()).isEqualTo(200);
+        assertThat(bounded.getCodeMetrics().getDeprecatedApiCount()).isLessThan(200);
+    }
+
+    /**
+     * Counts every instantiation as a deprecated API use
+     */
+    private static class CreationRule implements ModernizationRule {
+        @Override
+        public String id() {
+            return "creation";
+        }
+
+        @Override
+        public Set<Class<? extends Node>> nodeTypes() {
+            return Set.of(ObjectCreationExpr.class);
+        }
+
+        @Override
+        public void collect(Node node, ScanResult result) {
+            result.addDeprecatedApi();
+        }
+    }
+
+    private static List<Integer> counts(SourceAnalysisResult result) {
+        CodeMetrics metrics = result.getCodeMetrics();
+        if (metrics == null) {
+            return List.of();
+        }
+        return List.of(metrics.getTotalLinesOfCode(), metrics.getCyclomaticComplexity(),
+                metrics.getDeprecatedApiCount(), metrics.getModernizationOpportunities());
+    }
+}
@@ -0,0 +1,133 @@
+package com.codeenhancer.java_code_enhancer.bytecode;
+
+import com.codeenhancer.java_code_enhancer.config.CodeEnhancerProperties;
+import com.codeenhancer.java_code_enhancer.dto.BytecodeReport;
+import com.codeenhancer.java_code_enhancer.dto.ClassBytecodeReport;
+import com.codeenhancer.java_code_enhancer.service.impl.BytecodeAnalysisServiceImpl;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.mock.web.MockMultipartFile;
+
+import javax.tools.JavaCompiler;
+import javax.tools.ToolProvider;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ClassFileScannerTests {
+
+    private static final String LEGACY = "import java.io.File;\n"
+            + "import java.util.Date;\n"
+            + "\n"
+            + "class Legacy {\n"
+            + "    int pick(int k, File dir) throws Exception {\n"
+            + "        Date now = new Date();\n"
+            + "        String[] names = dir.list();\n"
+            + "        byte[] bytes = \"x\".getBytes();\n"
+            + "        switch (k) {\n"
+            + "            case 1: return 1;\n"
+            + "            case 2: return 2;\n"
+            + "            case 3: return bytes.length;\n"
+            + "            default: return names.length + list();\n"
+            + "        }\n"
+            + "    }\n"
+            + "\n"
+            + "    int list() {\n"
+            + "        return 0;\n"
+            + "    }\n"
+            + "}\n";
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void countsDeprecatedClassesAndMethodsByTheirOwner() throws IOException {
+        ClassBytecodeReport report = ClassFileScanner.scan("Legacy.class", compile("Legacy", LEGACY));
+
+        assertThat(report.isSuccess()).isTrue();
+        assertThat(report.getClassName()).isEqualTo("Legacy");
+        assertThat(report.getDeprecatedApis()).isEqualTo(Map.of(
+                "java.util.Date", 1,
+                "java.io.File.list", 1,
+                "java.lang.String.getBytes", 1));
+        assertThat(report.getCodeMetrics().getDeprecatedApiCount()).isEqualTo(3);
+    }
+
+    @Test
+    void addsTheBranchTargetsOfSwitchesToTheComplexity() throws IOException {
+        ClassBytecodeReport report = ClassFileScanner.scan("Legacy.class", compile("Legacy", LEGACY));
+        ClassBytecodeReport plain = ClassFileScanner.scan("Plain.class",
+                compile("Plain", "class Plain {\n    int one() {\n        return 1;\n    }\n}\n"));
+
+        assertThat(report.getCodeMetrics().getCyclomaticComplexity()).isEqualTo(5);
+        assertThat(plain.getCodeMetrics().getCyclomaticComplexity()).isEqualTo(1);
+        // The implicit constructor and the return hold code
+        assertThat(plain.getCodeMetrics().getTotalLinesOfCode()).isEqualTo(2);
+        assertThat(plain.getDeprecatedApis()).isEmpty();
+    }
+
+    @Test
+    void reportsBytesThatAreNotAClassFile() {
+        ClassBytecodeReport report = ClassFileScanner.scan("Broken.class", new byte[]{1, 2, 3});
+
+        assertThat(report.isSuccess()).isFalse();
+        assertThat(report.getError()).startsWith("Invalid class file");
+    }
+
+    @Test
+    void sumsTheClassesOfAnArchiveAndKeepsItsFailures() throws IOException {
+        ByteArrayOutputStream jar = new ByteArrayOutputStream();
+        try (ZipOutputStream zip = new ZipOutputStream(jar)) {
+            entry(zip, "p/", new byte[0]);
+            entry(zip, "p/Legacy.class", compile("Legacy", LEGACY));
+            entry(zip, "p/Other.class", compile("Legacy", LEGACY));
+            entry(zip, "p/Broken.class", new byte[]{(byte) 0xCA, (byte) 0xFE});
+            entry(zip, "META-INF/MANIFEST.MF", "Manifest-Version: 1.0\n".getBytes());
+        }
+        CodeEnhancerProperties properties = new CodeEnhancerProperties();
+
+        List<BytecodeReport> reports = new BytecodeAnalysisServiceImpl(properties).analyze(List.of(
+                new MockMultipartFile("files", "app.jar", null, jar.toByteArray()),
+                new MockMultipartFile("files", "notes.txt", null, new byte[1])), false);
+
+        assertThat(reports).hasSize(2);
+        BytecodeReport archive = reports.get(0);
+        assertThat(archive.isSuccess()).isTrue();
+        assertThat(archive.getTotalClasses()).isEqualTo(3);
+        assertThat(archive.getFailed()).isEqualTo(1);
+        assertThat(archive.getDeprecatedApis()).containsEntry("java.util.Date", 2);
+        assertThat(archive.getTotalMetrics().getDeprecatedApiCount()).isEqualTo(6);
+        assertThat(archive.getClasses()).isNull();
+        assertThat(reports.get(1).isSuccess()).isFalse();
+
+        properties.getBytecode().setMaxClasses(2);
+        BytecodeReport limited = new BytecodeAnalysisServiceImpl(properties).analyze(List.of(
+                new MockMultipartFile("files", "app.jar", null, jar.toByteArray())), true).get(0);
+
+        assertThat(limited.isSuccess()).isFalse();
+        assertThat(limited.getError()).contains("limit of 2 classes");
+        assertThat(limited.getClasses()).hasSize(2);
+    }
+
+    private byte[] compile(String name, String source) throws IOException {
+        Path sources = Files.createDirectories(directory.resolve("src-" + name + "-" + System.nanoTime()));
+        Path file = Files.writeString(sources.resolve(name + ".java"), source);
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        int status = compiler.run(null, null, null, "-g", "-d", sources.toString(), file.toString());
+        assertThat(status).isZero();
+        return Files.readAllBytes(sources.resolve(name + ".class"));
+    }
+
+    private static void entry(ZipOutputStream zip, String name, byte[] content) throws IOException {
+        zip.putNextEntry(new ZipEntry(name));
+        zip.write(content);
+        zip.closeEntry();
+    }
+}
@@ -0,0 +1,57 @@
+package com.codeenhancer.java_code_enhancer.cache;
+
+import com.codeenhancer.java_code_enhancer.dto.ValidationResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class DiskResultStoreTests {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void readsBackWhatItWrote() throws Exception {
+        DiskResultStore store = new DiskResultStore(directory, 1024 * 1024, new ObjectMapper());
+
+        store.write("key", ValidationResponse.builder().valid(true).message("fine").build());
+
+        assertThat(store.read("key", ValidationResponse.class).getMessage()).isEqualTo("fine");
+        assertThat(store.read("missing", ValidationResponse.class)).isNull();
+        assertThat(store.getTotalBytes()).isEqualTo(Files.size(directory.resolve("key.json")));
+    }
+
+    @Test
+    void discardsUnreadableEntries() throws Exception {
+        Files.writeString(directory.resolve("broken.json"), "{not json");
+        DiskResultStore store = new DiskResultStore(directory, 1024 * 1024, new ObjectMapper());
+
+        assertThat(store.read("broken", ValidationResponse.class)).isNull();
+        assertThat(directory.resolve("broken.json")).doesNotExist();
+        assertThat(store.getTotalBytes()).isZero();
+    }
+
+    @Test
+    void removesTheOldestEntriesPastItsBudget() throws Exception {
+        ObjectMapper objectMapper = new ObjectMapper();
+        ValidationResponse entry = ValidationResponse.builder().valid(true).message("x".repeat(100)).build();
+        long entryBytes = objectMapper.writeValueAsBytes(entry).length;
+        DiskResultStore store = new DiskResultStore(directory, entryBytes * 3, objectMapper);
+        for (int i = 0; i < 3; i++) {
+            store.write("entry" + i, entry);
+            Files.setLastModifiedTime(directory.resolve("entry" + i + ".json"), FileTime.fromMillis(1000L * (i + 1)));
+        }
+
+        store.write("entry3", entry);
+
+        assertThat(directory.resolve("entry0.json")).doesNotExist();
+        assertThat(directory.resolve("entry3.json")).exists();
+        assertThat(store.getTotalBytes()).isLessThanOrEqualTo(entryBytes * 3 * 9 / 10);
+    }
+}
@@ -0,0 +1,127 @@
+package com.codeenhancer.java_code_enhancer.cache;
+
+import com.codeenhancer.java_code_enhancer.dto.EnhancementResponse;
+import com.codeenhancer.java_code_enhancer.dto.FileEnhancementResult;
+import com.codeenhancer.java_code_enhancer.dto.OutputMode;
+import com.codeenhancer.java_code_enhancer.rules.BuiltInRules;
+import com.codeenhancer.java_code_enhancer.rules.RuleSet;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class FingerprintIndexTests {
+
+    private static final String VERSION = FingerprintIndex.version(OutputMode.EDITS, RuleSet.BUILT_IN);
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void reusesUnchangedFilesOfTheLastScan() throws Exception {
+        Path file = directory.resolve("index.json");
+        FingerprintIndex first = FingerprintIndex.open(file, objectMapper);
+        first.put("A.java", FingerprintIndex.hash("class A { }"), VERSION, result("A.java", "class A { }"));
+        first.put("B.java", FingerprintIndex.hash("class B { }"), VERSION, result("B.java", "class B { }"));
+        first.save();
+
+        FingerprintIndex second = FingerprintIndex.open(file, objectMapper);
+
+        FileEnhancementResult reused = second.get("A.java", FingerprintIndex.hash("class A { }"), VERSION);
+        assertThat(reused.isSuccess()).isTrue();
+        assertThat(reused.getEnhancement().getEnhancedCode()).isEqualTo("class A { }");
+        assertThat(second.get("B.java", FingerprintIndex.hash("class B { int x; }"), VERSION)).isNull();
+        assertThat(second.get("C.java", FingerprintIndex.hash("class C { }"), VERSION)).isNull();
+        assertThat(second.getReused()).isEqualTo(1);
+    }
+
+    @Test
+    void enhancesAgainWhenTheRulesOrModeChange() throws Exception {
+        Path file = directory.resolve("index.json");
+        FingerprintIndex first = FingerprintIndex.open(file, objectMapper);
+        first.put("A.java", FingerprintIndex.hash("class A { }"), VERSION, result("A.java", "class A { }"));
+        first.save();
+        RuleSet fewer = RuleSet.of(BuiltInRules.all().subList(1, BuiltInRules.all().size()));
+
+        FingerprintIndex second = FingerprintIndex.open(file, objectMapper);
+
+        assertThat(second.get("A.java", FingerprintIndex.hash("class A { }"),
+                FingerprintIndex.version(OutputMode.EDITS, fewer))).isNull();
+        assertThat(second.get("A.java", FingerprintIndex.hash("class A { }"),
+                FingerprintIndex.version(OutputMode.FULL, RuleSet.BUILT_IN))).isNull();
+    }
+
+    @Test
+    void enhancesAgainWhenTheDeclarationsAFileRefersToChange() throws Exception {
+        Path file = directory.resolve("index.json");
+        FingerprintIndex first = FingerprintIndex.open(file, objectMapper);
+        first.put("A.java", FingerprintIndex.hash("class A { }"), VERSION, "d1", result("A.java", "class A { }"));
+        first.put("B.java", FingerprintIndex.hash("class B { }"), VERSION, "", result("B.java", "class B { }"));
+        first.save();
+
+        FingerprintIndex second = FingerprintIndex.open(file, objectMapper);
+
+        assertThat(second.isUnchanged(Map.of("A.java", FingerprintIndex.hash("class A { }"),
+                "B.java", FingerprintIndex.hash("class B { }")), VERSION)).isTrue();
+        assertThat(second.isUnchanged(Map.of("A.java", FingerprintIndex.hash("class A { }"),
+                "B.java", FingerprintIndex.hash("class B { int x; }")), VERSION)).isFalse();
+        assertThat(second.isUnchanged(Map.of("A.java", FingerprintIndex.hash("class A { }")), VERSION)).isFalse();
+        assertThat(second.get("A.java", FingerprintIndex.hash("class A { }"), VERSION, "d2")).isNull();
+        assertThat(second.get("A.java", FingerprintIndex.hash("class A { }"), VERSION, "d1")).isNotNull();
+        assertThat(second.get("B.java", FingerprintIndex.hash("class B { }"), VERSION, null)).isNotNull();
+    }
+
+    @Test
+    void savesOnlyTheFilesOfTheCurrentScan() throws Exception {
+        Path file = directory.resolve("index.json");
+        FingerprintIndex first = FingerprintIndex.open(file, objectMapper);
+        first.put("A.java", FingerprintIndex.hash("a"), VERSION, result("A.java", "a"));
+        first.put("Deleted.java", FingerprintIndex.hash("d"), VERSION, result("Deleted.java", "d"));
+        first.put("Partial.java", FingerprintIndex.hash("p"), VERSION, FileEnhancementResult.builder()
+                .path("Partial.java").success(true)
+                .enhancement(EnhancementResponse.builder().enhancedCode("p").partial(true).build())
+                .build());
+        first.save();
+
+        FingerprintIndex second = FingerprintIndex.open(file, objectMapper);
+        assertThat(second.get("Partial.java", FingerprintIndex.hash("p"), VERSION)).isNull();
+        assertThat(second.get("A.java", FingerprintIndex.hash("a"), VERSION)).isNotNull();
+        second.save();
+
+        FingerprintIndex third = FingerprintIndex.open(file, objectMapper);
+        assertThat(third.get("A.java", FingerprintIndex.hash("a"), VERSION)).isNotNull();
+        assertThat(third.get("Deleted.java", FingerprintIndex.hash("d"), VERSION)).isNull();
+        try (Stream<Path> files = Files.list(directory)) {
+            assertThat(files).containsExactly(file);
+        }
+    }
+
+    @Test
+    void startsEmptyFromAnUnreadableIndex() throws Exception {
+        Path file = Files.writeString(directory.resolve("index.json"), "{broken");
+
+        FingerprintIndex index = FingerprintIndex.open(file, objectMapper);
+
+        assertThat(index.get("A.java", FingerprintIndex.hash("a"), VERSION)).isNull();
+        index.put("A.java", FingerprintIndex.hash("a"), VERSION, result("A.java", "a"));
+        index.save();
+        assertThat(FingerprintIndex.open(file, objectMapper).get("A.java", FingerprintIndex.hash("a"), VERSION))
+                .isNotNull();
+    }
+
+    private static FileEnhancementResult result(String path, String code) {
+        return FileEnhancementResult.builder()
+                .path(path)
+                .success(true)
+                .enhancement(EnhancementResponse.builder().enhancedCode(code).build())
+                .build();
+    }
+}
@@ -0,0 +1,129 @@
+package com.codeenhancer.java_code_enhancer.cache;
+
+import com.codeenhancer.java_code_enhancer.config.CodeEnhancerProperties;
+import com.codeenhancer.java_code_enhancer.dto.EnhancementResponse;
+import com.codeenhancer.java_code_enhancer.dto.OutputMode;
+import com.codeenhancer.java_code_enhancer.dto.ValidationResponse;
+import com.codeenhancer.java_code_enhancer.rules.BuiltInRules;
+import com.codeenhancer.java_code_enhancer.rules.RuleSet;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ResultCacheTests {
+
+    private static final String SOURCE = "class A { }";
+
+    @TempDir
+    Path directory;
+
+    private final AtomicInteger computed = new AtomicInteger();
+
+    @Test
+    void answersTheSameSourceFromTheCache() {
+        ResultCache cache = cache(false);
+
+        EnhancementResponse first = cache.getEnhancement(SOURCE, OutputMode.FULL, RuleSet.BUILT_IN, response("A"));
+        EnhancementResponse second = cache.getEnhancement(SOURCE, OutputMode.FULL, RuleSet.BUILT_IN, response("B"));
+
+        assertThat(second).isSameAs(first);
+        assertThat(computed).hasValue(1);
+        assertThat(cache.getStats().getHits()).isEqualTo(1);
+        assertThat(cache.getStats().getMisses()).isEqualTo(1);
+    }
+
+    @Test
+    void keepsModesRuleSetsAndProjectsApart() {
+        ResultCache cache = cache(false);
+        RuleSet fewer = RuleSet.of(BuiltInRules.all().subList(1, BuiltInRules.all().size()));
+
+        cache.getEnhancement(SOURCE, OutputMode.FULL, RuleSet.BUILT_IN, response("full"));
+        cache.getEnhancement(SOURCE, OutputMode.DIFF, RuleSet.BUILT_IN, response("diff"));
+        cache.getEnhancement(SOURCE, OutputMode.FULL, fewer, response("fewer"));
+        cache.getEnhancement(SOURCE, OutputMode.FULL, RuleSet.BUILT_IN, "p1", response("p1"));
+        cache.getEnhancement(SOURCE, OutputMode.FULL, RuleSet.BUILT_IN, "p2", response("p2"));
+        cache.getEnhancement(SOURCE + " ", OutputMode.FULL, RuleSet.BUILT_IN, response("other source"));
+
+        assertThat(computed).hasValue(6);
+        assertThat(cache.peekEnhancement(SOURCE, OutputMode.DIFF, RuleSet.BUILT_IN).getEnhancedCode())
+                .isEqualTo("diff");
+    }
+
+    @Test
+    void keepsTheValidationsOfBackendsApart() {
+        ResultCache cache = cache(false);
+
+        cache.putValidation(SOURCE, "javaparser", ValidationResponse.builder().valid(false).message("(line 1,col 9)").build());
+        ValidationResponse jdt = cache.getValidation(SOURCE, "jdt", () -> {
+            computed.incrementAndGet();
+            return ValidationResponse.builder().valid(false).message("(line 1,col 11)").build();
+        });
+
+        assertThat(computed).hasValue(1);
+        assertThat(jdt.getMessage()).isEqualTo("(line 1,col 11)");
+        assertThat(cache.peekValidation(SOURCE, "javaparser").getMessage()).isEqualTo("(line 1,col 9)");
+    }
+
+    @Test
+    void doesNotKeepPartialResults() {
+        ResultCache cache = cache(false);
+        Supplier<EnhancementResponse> partial = () -> {
+            computed.incrementAndGet();
+            return EnhancementResponse.builder().enhancedCode("cut short").partial(true).build();
+        };
+
+        cache.getEnhancement(SOURCE, OutputMode.FULL, RuleSet.BUILT_IN, partial);
+        cache.getEnhancement(SOURCE, OutputMode.FULL, RuleSet.BUILT_IN, partial);
+        cache.putEnhancement(SOURCE, OutputMode.FULL, RuleSet.BUILT_IN, partial.get());
+
+        assertThat(computed).hasValue(3);
+        assertThat(cache.peekEnhancement(SOURCE, OutputMode.FULL, RuleSet.BUILT_IN)).isNull();
+    }
+
+    @Test
+    void computesEveryTimeWhenDisabled() {
+        CodeEnhancerProperties properties = new CodeEnhancerProperties();
+        properties.getCache().setEnabled(false);
+        ResultCache cache = new ResultCache(properties, new ObjectMapper(), new SimpleMeterRegistry());
+
+        cache.getEnhancement(SOURCE, OutputMode.FULL, RuleSet.BUILT_IN, response("A"));
+        cache.getEnhancement(SOURCE, OutputMode.FULL, RuleSet.BUILT_IN, response("A"));
+
+        assertThat(computed).hasValue(2);
+    }
+
+    @Test
+    void diskTierServesResultsAfterARestart() {
+        cache(true).getEnhancement(SOURCE, OutputMode.FULL, RuleSet.BUILT_IN, response("stored"));
+        cache(true).putValidation(SOURCE, "javaparser", ValidationResponse.builder().valid(true).message("ok").build());
+
+        ResultCache restarted = cache(true);
+
+        assertThat(restarted.getEnhancement(SOURCE, OutputMode.FULL, RuleSet.BUILT_IN, response("again"))
+                .getEnhancedCode()).isEqualTo("stored");
+        assertThat(restarted.peekValidation(SOURCE, "javaparser").getMessage()).isEqualTo("ok");
+        assertThat(computed).hasValue(1);
+        assertThat(restarted.getStats().getDiskHits()).isEqualTo(2);
+    }
+
+    private ResultCache cache(boolean disk) {
+        CodeEnhancerProperties properties = new CodeEnhancerProperties();
+        properties.getCache().getDisk().setEnabled(disk);
+        properties.getCache().getDisk().setDirectory(directory.toString());
+        return new ResultCache(properties, new ObjectMapper(), new SimpleMeterRegistry());
+    }
+
+    private Supplier<EnhancementResponse> response(String enhancedCode) {
+        return () -> {
+            computed.incrementAndGet();
+            return EnhancementResponse.builder().enhancedCode(enhancedCode).build();
+        };
+    }
+}
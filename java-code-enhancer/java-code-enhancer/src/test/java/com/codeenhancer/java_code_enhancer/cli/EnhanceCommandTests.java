@@ -0,0 +1,134 @@
+package com.codeenhancer.java_code_enhancer.cli;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+class EnhanceCommandTests {
+
+    private static final String LEGACY = "class A {\n    Object m() {\n        return new Date();\n    }\n}\n";
+    private static final String MODERN = "class B {\n    int m() {\n        return 1;\n    }\n}\n";
+
+    @Autowired
+    EnhanceCommand command;
+
+    @TempDir
+    Path root;
+
+    private final ByteArrayOutputStream out = new ByteArrayOutputStream();
+    private final ByteArrayOutputStream err = new ByteArrayOutputStream();
+
+    @BeforeEach
+    void writeSources() throws IOException {
+        Files.createDirectories(root.resolve("p"));
+        Files.writeString(root.resolve("p/A.java"), LEGACY);
+        Files.writeString(root.resolve("p/B.java"), MODERN);
+    }
+
+    @Test
+    void checkListsTheFilesThatWouldChange() throws IOException {
+        assertThat(run(root.toString())).isEqualTo(EnhanceCommand.CHANGES);
+
+        assertThat(out()).contains("would change p/A.java (1 edit)")
+                .doesNotContain("p/B.java")
+                .contains("Files: 2, changed: 1, failed: 0");
+        assertThat(Files.readString(root.resolve("p/A.java"))).isEqualTo(LEGACY);
+    }
+
+    @Test
+    void writeRewritesOnlyTheChangedLines() throws IOException {
+        assertThat(run(root.toString(), "--write")).isEqualTo(EnhanceCommand.OK);
+
+        String rewritten = Files.readString(root.resolve("p/A.java"));
+        assertThat(rewritten).doesNotContain("new Date()")
+                .startsWith("class A {\n    Object m() {\n        return ")
+                .endsWith(";\n    }\n}\n");
+        assertThat(Files.readString(root.resolve("p/B.java"))).isEqualTo(MODERN);
+        assertThat(run(root.toString())).isEqualTo(EnhanceCommand.OK);
+    }
+
+    @Test
+    void patchPrintsAUnifiedDiffAndTheSummaryToStderr() throws IOException {
+        assertThat(run(root.toString(), "--patch")).isEqualTo(EnhanceCommand.OK);
+
+        assertThat(out()).startsWith("--- a/p/A.java\n+++ b/p/A.java\n@@ -1,5 +1,5 @@\n")
+                .contains("-        return new Date();\n")
+                .doesNotContain("Files:");
+        assertThat(err()).contains("Files: 2, changed: 1, failed: 0");
+        assertThat(Files.readString(root.resolve("p/A.java"))).isEqualTo(LEGACY);
+    }
+
+    @Test
+    void reportsFilesThatFailToParse() throws IOException {
+        Files.writeString(root.resolve("p/Broken.java"), "class Broken {");
+
+        assertThat(run(root.toString(), "--check")).isEqualTo(EnhanceCommand.FAILURES);
+
+        assertThat(err()).contains("error p/Broken.java");
+        assertThat(out()).contains("Files: 3, changed: 1, failed: 1");
+    }
+
+    @Test
+    void disabledRulesChangeNothing() throws IOException {
+        assertThat(run(root.toString(), "--disable=legacy_type", "--quiet")).isEqualTo(EnhanceCommand.OK);
+        assertThat(run(root.toString(), "--disable=no_such_rule")).isEqualTo(EnhanceCommand.USAGE);
+        assertThat(err()).contains("Unknown modernization rule: no_such_rule");
+    }
+
+    @Test
+    void indexEnhancesAgainOnlyTheFilesReferringToAChangedSignature() throws IOException {
+        Files.writeString(root.resolve("p/C.java"), "class C {\n    int m(B b) {\n        return b.m();\n    }\n}\n");
+
+        run(root.toString(), "--index");
+        assertThat(out()).contains("Reused from the index: 0, enhanced: 3");
+        run(root.toString(), "--index");
+        assertThat(out()).contains("Reused from the index: 3, enhanced: 0");
+
+        // B gains a method, which C may call but A does not refer to
+        Files.writeString(root.resolve("p/B.java"), MODERN.replace("}\n}\n", "}\n\n    int n() {\n        return 2;\n    }\n}\n"));
+        run(root.toString(), "--index");
+        assertThat(out()).contains("Reused from the index: 1, enhanced: 2");
+    }
+
+    @Test
+    void rejectsInvalidArguments() {
+        assertThatThrownBy(() -> EnhanceCommand.Options.parse(new String[0]))
+                .hasMessage("No path given");
+        assertThatThrownBy(() -> EnhanceCommand.Options.parse(new String[]{root.toString(), "--write", "--check"}))
+                .hasMessageContaining("exclude each other");
+        assertThatThrownBy(() -> EnhanceCommand.Options.parse(new String[]{root.toString(), "--threads=0"}))
+                .hasMessageContaining("positive number");
+        assertThatThrownBy(() -> EnhanceCommand.Options.parse(new String[]{root.toString(), "--fast"}))
+                .hasMessage("Unknown option: --fast");
+        assertThatThrownBy(() -> EnhanceCommand.Options.parse(new String[]{root.resolve("missing").toString()}))
+                .hasMessageContaining("Not a directory or .java file");
+    }
+
+    private int run(String... args) {
+        out.reset();
+        err.reset();
+        return command.run(EnhanceCommand.Options.parse(args), new PrintStream(out, true, StandardCharsets.UTF_8),
+                new PrintStream(err, true, StandardCharsets.UTF_8));
+    }
+
+    private String out() {
+        return out.toString(StandardCharsets.UTF_8);
+    }
+
+    private String err() {
+        return err.toString(StandardCharsets.UTF_8);
+    }
+}
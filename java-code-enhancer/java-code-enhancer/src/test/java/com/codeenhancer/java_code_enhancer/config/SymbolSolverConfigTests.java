@@ -0,0 +1,76 @@
+package com.codeenhancer.java_code_enhancer.config;
+
+import com.codeenhancer.java_code_enhancer.analysis.AnalysisContext;
+import com.codeenhancer.java_code_enhancer.analysis.JavaParserPool;
+import com.codeenhancer.java_code_enhancer.util.CodeTransformationUtils;
+import com.github.javaparser.resolution.TypeSolver;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SymbolSolverConfigTests {
+
+    @TempDir
+    Path sourceRoot;
+
+    @Test
+    void rewritesCallsOnResolvedJdkTypes() {
+        String enhanced = transform(new CodeEnhancerProperties(),
+                "import java.io.File;\n"
+                        + "class A {\n"
+                        + "    Object m(File file, Class<?> type) throws Exception {\n"
+                        + "        file.toURL();\n"
+                        + "        return type.newInstance();\n"
+                        + "    }\n"
+                        + "}\n");
+
+        assertThat(enhanced).contains("file.toURI().toURL()")
+                .contains("type.getDeclaredConstructor().newInstance()");
+    }
+
+    @Test
+    void skipsOnlyTheRewritesWhoseTypeDoesNotResolve() {
+        String enhanced = transform(new CodeEnhancerProperties(),
+                "import java.io.File;\n"
+                        + "class A {\n"
+                        + "    void m(File file, Unknown other) throws Exception {\n"
+                        + "        other.toURL();\n"
+                        + "        file.toURL();\n"
+                        + "    }\n"
+                        + "}\n");
+
+        assertThat(enhanced).contains("other.toURL()").contains("file.toURI().toURL()");
+    }
+
+    @Test
+    void resolvesTypesFromConfiguredSourceRoots() throws Exception {
+        Files.createDirectories(sourceRoot.resolve("p"));
+        Files.writeString(sourceRoot.resolve("p/Files.java"),
+                "package p;\npublic class Files { public static java.io.File home() { return null; } }\n");
+        CodeEnhancerProperties properties = new CodeEnhancerProperties();
+        properties.getSymbols().getSourceRoots().add(sourceRoot.toString());
+        TypeSolver typeSolver = new SymbolSolverConfig().typeSolver(properties);
+
+        assertThat(typeSolver.tryToSolveType("p.Files").isSolved()).isTrue();
+        assertThat(transform(properties, "class A { void m() throws Exception { p.Files.home().toURL(); } }"))
+                .contains("p.Files.home().toURI().toURL()");
+    }
+
+    @Test
+    void answersRepeatedLookupsWithTheSameDeclaration() {
+        TypeSolver typeSolver = new SymbolSolverConfig().typeSolver(new CodeEnhancerProperties());
+
+        assertThat(typeSolver.solveType("java.io.File")).isSameAs(typeSolver.solveType("java.io.File"));
+    }
+
+    private static String transform(CodeEnhancerProperties properties, String source) {
+        SymbolSolverConfig config = new SymbolSolverConfig();
+        JavaParserPool parsers = new JavaParserPool(properties.getParser(),
+                config.symbolResolver(config.typeSolver(properties)));
+        return CodeTransformationUtils.transformToLatestVersion(AnalysisContext.parse(source, parsers));
+    }
+}
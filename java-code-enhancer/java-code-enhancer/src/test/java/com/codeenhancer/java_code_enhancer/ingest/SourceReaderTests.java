@@ -0,0 +1,95 @@
+package com.codeenhancer.java_code_enhancer.ingest;
+
+import com.codeenhancer.java_code_enhancer.config.CodeEnhancerProperties;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockMultipartFile;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SourceReaderTests {
+
+    private static final String SOURCE = "class Grüße { String s = \"€\"; }";
+
+    private final CodeEnhancerProperties properties = new CodeEnhancerProperties();
+
+    @Test
+    void decodesUtf8ByDefault() throws IOException {
+        assertThat(reader().read(upload(SOURCE.getBytes(StandardCharsets.UTF_8), "text/plain"))).isEqualTo(SOURCE);
+    }
+
+    @Test
+    void followsAByteOrderMarkAndDropsIt() throws IOException {
+        byte[] text = SOURCE.getBytes(StandardCharsets.UTF_16LE);
+        byte[] marked = new byte[text.length + 2];
+        marked[0] = (byte) 0xFF;
+        marked[1] = (byte) 0xFE;
+        System.arraycopy(text, 0, marked, 2, text.length);
+
+        assertThat(reader().read(upload(marked, "text/plain;charset=UTF-8"))).isEqualTo(SOURCE);
+    }
+
+    @Test
+    void usesTheDeclaredCharset() throws IOException {
+        String latin = "class Grüße { }";
+        byte[] bytes = latin.getBytes(StandardCharsets.ISO_8859_1);
+
+        assertThat(reader().read(upload(bytes, "text/plain;charset=ISO-8859-1"))).isEqualTo(latin);
+        assertThat(reader().read(upload(bytes, "text/plain;charset=no-such-charset"))).isEqualTo(latin);
+    }
+
+    @Test
+    void fallsBackWhenTheDefaultCharsetDoesNotDecode() throws IOException {
+        String latin = "class Grüße { }";
+
+        assertThat(reader().read(upload(latin.getBytes(StandardCharsets.ISO_8859_1), null))).isEqualTo(latin);
+        assertThat(reader().read(upload("class A { char c = '�'; }".getBytes(StandardCharsets.UTF_8), null)))
+                .contains("�");
+    }
+
+    @Test
+    void rejectsSourcesOverTheByteLimitWhateverTheirDeclaredSize() {
+        properties.getIngest().setMaxBytes(10_000);
+        byte[] bytes = new byte[10_001];
+
+        assertThatThrownBy(() -> reader().read(upload(bytes, null))).isInstanceOf(SourceLimitException.class);
+        assertThatThrownBy(() -> reader().read(new ByteArrayInputStream(bytes), null, 100))
+                .isInstanceOf(SourceLimitException.class);
+        assertThatThrownBy(() -> reader().read(new ByteArrayInputStream(bytes), null, -1))
+                .isInstanceOf(SourceLimitException.class);
+    }
+
+    @Test
+    void readsSourcesOfUnknownOrWrongSize() throws IOException {
+        String text = "x".repeat(50_000);
+
+        assertThat(reader().read(stream(text), null, -1)).isEqualTo(text);
+        assertThat(reader().read(stream(text), null, 10)).isEqualTo(text);
+        assertThat(reader().read(stream(text), null, 60_000)).isEqualTo(text);
+    }
+
+    @Test
+    void rejectsSourcesOverTheLineLimit() throws IOException {
+        properties.getIngest().setMaxLines(3);
+
+        assertThat(reader().read(stream("a\nb\nc"), null, -1)).isEqualTo("a\nb\nc");
+        assertThatThrownBy(() -> reader().read(stream("a\nb\nc\nd"), null, -1))
+                .isInstanceOf(SourceLimitException.class);
+    }
+
+    private SourceReader reader() {
+        return new SourceReader(properties);
+    }
+
+    private static MockMultipartFile upload(byte[] content, String contentType) {
+        return new MockMultipartFile("file", "A.java", contentType, content);
+    }
+
+    private static ByteArrayInputStream stream(String text) {
+        return new ByteArrayInputStream(text.getBytes(StandardCharsets.UTF_8));
+    }
+}
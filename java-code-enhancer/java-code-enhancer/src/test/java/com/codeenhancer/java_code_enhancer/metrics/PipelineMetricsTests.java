@@ -0,0 +1,69 @@
+package com.codeenhancer.java_code_enhancer.metrics;
+
+import com.codeenhancer.java_code_enhancer.analysis.AnalysisContext;
+import com.codeenhancer.java_code_enhancer.analysis.JavaParserPool;
+import com.codeenhancer.java_code_enhancer.analysis.PipelineTrace;
+import com.codeenhancer.java_code_enhancer.config.CodeEnhancerProperties;
+import com.codeenhancer.java_code_enhancer.rules.ModernizationRule;
+import com.codeenhancer.java_code_enhancer.rules.RuleRegistry;
+import com.codeenhancer.java_code_enhancer.util.CodeTransformationUtils;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PipelineMetricsTests {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final JavaParserPool parsers = new JavaParserPool(new CodeEnhancerProperties.Parser(), null);
+    private final PipelineMetrics metrics = new PipelineMetrics(registry, new RuleRegistry(new CodeEnhancerProperties(),
+            new StaticListableBeanFactory().getBeanProvider(ModernizationRule.class)));
+
+    @Test
+    void recordsTheStagesAndRewritesOfASource() {
+        AnalysisContext context = AnalysisContext.parse(
+                "class A {\n    Object m() { return new Date(); }\n}\n", parsers);
+        CodeTransformationUtils.transformToLatestVersion(context);
+
+        metrics.publish(context);
+
+        assertThat(registry.get("code_enhancer.stage").tag("stage", "parse").timer().count()).isEqualTo(1);
+        assertThat(registry.get("code_enhancer.stage").tag("stage", "print").timer().count()).isEqualTo(1);
+        assertThat(registry.get("code_enhancer.stage").tag("stage", "diff").timer().count()).isZero();
+        assertThat(registry.get("code_enhancer.rewrite").tag("rule", "legacy_type").timer().count()).isEqualTo(1);
+        assertThat(registry.get("code_enhancer.rewrites.applied").tag("rule", "legacy_type").counter().count())
+                .isEqualTo(1);
+        assertThat(registry.get("code_enhancer.input.lines").summary().totalAmount()).isEqualTo(3);
+        assertThat(registry.get("code_enhancer.scan").summary().totalAmount())
+                .isEqualTo(context.getTrace().getNodesVisited());
+        assertThat(registry.get("code_enhancer.parse.failures").counter().count()).isZero();
+    }
+
+    @Test
+    void countsParseFailures() {
+        AnalysisContext context = AnalysisContext.parse("class A {", parsers);
+
+        metrics.publish(context);
+
+        assertThat(registry.get("code_enhancer.parse.failures").counter().count()).isEqualTo(1);
+        assertThat(registry.get("code_enhancer.scan").summary().count()).isZero();
+    }
+
+    @Test
+    void listsTheTimingsOfWhatRanInPipelineOrder() {
+        PipelineTrace trace = new PipelineTrace();
+        trace.addStage(PipelineTrace.Stage.PRINT, 2_000_000);
+        trace.addStage(PipelineTrace.Stage.PARSE, 1_500_000);
+        trace.addRewrite("legacy_type", 250_000);
+        trace.addRewrite("legacy_type", 250_000);
+
+        Map<String, Double> timings = PipelineMetrics.timings(trace);
+
+        assertThat(timings).containsExactly(Map.entry("parse", 1.5), Map.entry("print", 2.0),
+                Map.entry("rewrite.legacy_type", 0.5));
+        assertThat(trace.getRewriteCount("legacy_type")).isEqualTo(2);
+    }
+}
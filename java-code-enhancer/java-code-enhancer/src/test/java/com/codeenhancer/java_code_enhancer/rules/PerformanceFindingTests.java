@@ -0,0 +1,182 @@
+package com.codeenhancer.java_code_enhancer.rules;
+
+import com.codeenhancer.java_code_enhancer.analysis.AnalysisContext;
+import com.codeenhancer.java_code_enhancer.analysis.JavaParserPool;
+import com.codeenhancer.java_code_enhancer.config.CodeEnhancerProperties;
+import com.codeenhancer.java_code_enhancer.dto.PerformanceFinding;
+import com.codeenhancer.java_code_enhancer.dto.Severity;
+import org.assertj.core.groups.Tuple;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+class PerformanceFindingTests {
+
+    private final JavaParserPool parsers = new JavaParserPool(new CodeEnhancerProperties.Parser(), null);
+
+    @Test
+    void reportsRegexesCompiledInALoop() {
+        List<PerformanceFinding> findings = findings("regex_in_loop", "import java.util.regex.Pattern;\n"
+                + "class A {\n"
+                + "    void m(java.util.List<String> lines) {\n"
+                + "        Pattern comma = Pattern.compile(\",\");\n"
+                + "        for (String line : lines) {\n"
+                + "            java.util.regex.Pattern.compile(\"a+\").matcher(line);\n"
+                + "            Pattern.compile(\"b+\");\n"
+                + "            line.split(\"\\\\s+\");\n"
+                + "            line.replaceAll(\"x+\", \"y\");\n"
+                + "            line.split(\",\");\n"
+                + "            comma.split(line);\n"
+                + "            MyPattern.compile(\"c\");\n"
+                + "            urlPattern.compile(\"d\");\n"
+                + "        }\n"
+                + "    }\n"
+                + "}\n");
+
+        assertThat(findings).extracting(PerformanceFinding::getLine, PerformanceFinding::getColumn,
+                        PerformanceFinding::getSeverity)
+                .containsExactly(
+                        tuple(6, 13, Severity.HIGH),
+                        tuple(7, 13, Severity.HIGH),
+                        tuple(8, 13, Severity.MEDIUM),
+                        tuple(9, 13, Severity.MEDIUM));
+    }
+
+    @Test
+    void reportsBoxedNumbersUpdatedInALoop() {
+        List<PerformanceFinding> findings = findings("boxing_in_loop", "class A {\n"
+                + "    int m(int[] values) {\n"
+                + "        Integer total = 0;\n"
+                + "        int plain = 0;\n"
+                + "        Long count = 0L;\n"
+                + "        for (int value : values) {\n"
+                + "            total += value;\n"
+                + "            plain += value;\n"
+                + "            count++;\n"
+                + "            total = value;\n"
+                + "        }\n"
+                + "        total += 1;\n"
+                + "        return total + plain + count.intValue();\n"
+                + "    }\n"
+                + "}\n");
+
+        assertThat(positions(findings)).containsExactly(tuple(7, 13), tuple(9, 13));
+        assertThat(findings.get(0).getMessage()).startsWith("Integer total");
+    }
+
+    @Test
+    void reportsStreamsCreatedInALoop() {
+        List<PerformanceFinding> findings = findings("stream_in_loop", "import java.util.stream.IntStream;\n"
+                + "class A {\n"
+                + "    long m(java.util.List<String> items, int n) {\n"
+                + "        long sum = items.stream().count();\n"
+                + "        for (int i = 0; i < n; i++) {\n"
+                + "            sum += items.stream().count();\n"
+                + "            sum += IntStream.range(0, i).sum();\n"
+                + "            sum += items.size();\n"
+                + "            sum += items.stream(i);\n"
+                + "        }\n"
+                + "        return sum;\n"
+                + "    }\n"
+                + "}\n");
+
+        assertThat(positions(findings)).containsExactly(tuple(6, 20), tuple(7, 20));
+    }
+
+    @Test
+    void reportsBigDecimalsCreatedFromADouble() {
+        List<PerformanceFinding> findings = findings("bigdecimal_double", "import java.math.BigDecimal;\n"
+                + "class A {\n"
+                + "    Object[] m(double d, long l) {\n"
+                + "        return new Object[] {\n"
+                + "            new BigDecimal(0.1),\n"
+                + "            new BigDecimal(d),\n"
+                + "            new BigDecimal((double) l),\n"
+                + "            new BigDecimal(\"0.1\"),\n"
+                + "            new BigDecimal(l),\n"
+                + "            BigDecimal.valueOf(d)\n"
+                + "        };\n"
+                + "    }\n"
+                + "}\n");
+
+        assertThat(positions(findings)).containsExactly(tuple(5, 13), tuple(6, 13), tuple(7, 13));
+    }
+
+    @Test
+    void reportsIndexedAccessToALinkedListInALoop() {
+        List<PerformanceFinding> findings = findings("linkedlist_index_access", "import java.util.*;\n"
+                + "class A {\n"
+                + "    int m(LinkedList<Integer> linked, ArrayList<Integer> array) {\n"
+                + "        int sum = linked.get(0);\n"
+                + "        for (int i = 0; i < linked.size(); i++) {\n"
+                + "            sum += linked.get(i);\n"
+                + "            sum += array.get(i);\n"
+                + "            linked.set(i, 0);\n"
+                + "        }\n"
+                + "        return sum;\n"
+                + "    }\n"
+                + "}\n");
+
+        assertThat(positions(findings)).containsExactly(tuple(6, 20), tuple(8, 13));
+    }
+
+    @Test
+    void reportsExceptionsUsedForControlFlow() {
+        List<PerformanceFinding> findings = findings("exception_control_flow", "class A {\n"
+                + "    int m(String[] values, int k) {\n"
+                + "        int found = 0;\n"
+                + "        try {\n"
+                + "            if (k < 0) {\n"
+                + "                throw new IllegalStateException(\"negative\");\n"
+                + "            }\n"
+                + "        } catch (IllegalStateException e) {\n"
+                + "            found = -1;\n"
+                + "        }\n"
+                + "        for (String value : values) {\n"
+                + "            try {\n"
+                + "                found += Integer.parseInt(value);\n"
+                + "            } catch (NumberFormatException e) {\n"
+                + "                found--;\n"
+                + "            }\n"
+                + "            try {\n"
+                + "                found += value.length();\n"
+                + "            } catch (NullPointerException e) {\n"
+                + "                found++;\n"
+                + "            }\n"
+                + "        }\n"
+                + "        try {\n"
+                + "            return values[k].length();\n"
+                + "        } catch (ArrayIndexOutOfBoundsException | NullPointerException e) {\n"
+                + "            return found;\n"
+                + "        }\n"
+                + "    }\n"
+                + "\n"
+                + "    void fail() {\n"
+                + "        throw new IllegalStateException(\"failed\");\n"
+                + "    }\n"
+                + "}\n");
+
+        assertThat(findings).extracting(PerformanceFinding::getLine, PerformanceFinding::getColumn,
+                        PerformanceFinding::getSeverity)
+                .containsExactly(
+                        tuple(6, 17, Severity.MEDIUM),
+                        tuple(19, 15, Severity.HIGH),
+                        tuple(25, 11, Severity.MEDIUM));
+    }
+
+    private List<PerformanceFinding> findings(String rule, String source) {
+        return AnalysisContext.parse(source, parsers).getScan().getFindings().stream()
+                .filter(finding -> finding.getRule().equals(rule))
+                .collect(Collectors.toList());
+    }
+
+    private static List<Tuple> positions(List<PerformanceFinding> findings) {
+        return findings.stream()
+                .map(finding -> tuple(finding.getLine(), finding.getColumn()))
+                .collect(Collectors.toList());
+    }
+}
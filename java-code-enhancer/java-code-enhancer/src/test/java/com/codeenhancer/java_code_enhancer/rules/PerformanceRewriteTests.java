@@ -0,0 +1,259 @@
+package com.codeenhancer.java_code_enhancer.rules;
+
+import com.codeenhancer.java_code_enhancer.analysis.AnalysisContext;
+import com.codeenhancer.java_code_enhancer.analysis.JavaParserPool;
+import com.codeenhancer.java_code_enhancer.config.CodeEnhancerProperties;
+import com.codeenhancer.java_code_enhancer.symbols.ProjectTypeIndex;
+import com.codeenhancer.java_code_enhancer.util.CodeTransformationUtils;
+import com.github.javaparser.ParserConfiguration;
+import com.github.javaparser.symbolsolver.resolution.typesolvers.ReflectionTypeSolver;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PerformanceRewriteTests {
+
+    private final JavaParserPool parsers = new JavaParserPool(new CodeEnhancerProperties.Parser(), null);
+
+    @Test
+    void replacesSynchronizedTypesThatStayInTheMethod() {
+        String enhanced = enhance("class A {\n"
+                + "    String m(String[] parts) {\n"
+                + "        StringBuffer buffer = new StringBuffer();\n"
+                + "        for (String part : parts) buffer.append(part).append(',');\n"
+                + "        return buffer.toString();\n"
+                + "    }\n"
+                + "}\n");
+
+        assertThat(enhanced).contains("StringBuilder buffer = new StringBuilder()").doesNotContain("StringBuffer");
+    }
+
+    @Test
+    void keepsSynchronizedTypesThatEscape() {
+        String returned = enhance("class A {\n"
+                + "    java.util.List<String> m() {\n"
+                + "        java.util.Vector<String> items = new java.util.Vector<>();\n"
+                + "        items.add(\"a\");\n"
+                + "        return items;\n"
+                + "    }\n"
+                + "}\n");
+        String passed = enhance("class A {\n"
+                + "    void m(java.util.function.Consumer<Object> sink) {\n"
+                + "        StringBuffer buffer = new StringBuffer();\n"
+                + "        sink.accept(buffer);\n"
+                + "    }\n"
+                + "}\n");
+        String iterated = enhance("import java.util.*;\n"
+                + "class A {\n"
+                + "    void m() {\n"
+                + "        Hashtable<String, Integer> counts = new Hashtable<>();\n"
+                + "        counts.put(\"a\", 1);\n"
+                + "        System.out.println(counts.toString());\n"
+                + "    }\n"
+                + "}\n");
+
+        assertThat(returned).contains("new java.util.Vector<>()").doesNotContain("ArrayList");
+        assertThat(passed).contains("new StringBuffer()").doesNotContain("StringBuilder");
+        assertThat(iterated).contains("new Hashtable<>()").doesNotContain("HashMap");
+    }
+
+    @Test
+    void replacesSynchronizedTypesOnlyWhenTheyAreTheJdkClasses() {
+        String qualified = enhance("class A {\n"
+                + "    int m() {\n"
+                + "        java.util.Vector<String> items = new java.util.Vector<>();\n"
+                + "        items.add(\"a\");\n"
+                + "        return items.size();\n"
+                + "    }\n"
+                + "}\n");
+        String imported = enhance("import java.util.Vector;\n"
+                + "class A {\n"
+                + "    int m() {\n"
+                + "        Vector<String> items = new Vector<>();\n"
+                + "        items.add(\"a\");\n"
+                + "        return items.size();\n"
+                + "    }\n"
+                + "}\n");
+
+        assertThat(qualified).contains("java.util.ArrayList<String> items = new java.util.ArrayList<>();");
+        assertThat(imported).contains("ArrayList<String> items = new ArrayList<>();").contains("import java.util.ArrayList;");
+    }
+
+    @Test
+    void keepsClassesOfTheSameNameFromOtherPackages() {
+        String scoped = enhance("class A {\n"
+                + "    int m() {\n"
+                + "        org.acme.Vector items = new org.acme.Vector();\n"
+                + "        items.add(\"a\");\n"
+                + "        return items.size();\n"
+                + "    }\n"
+                + "}\n");
+        String declared = enhance("import java.util.*;\n"
+                + "class A {\n"
+                + "    static class Vector {\n"
+                + "        void add(String s) {\n"
+                + "        }\n"
+                + "    }\n"
+                + "    void m() {\n"
+                + "        Vector items = new Vector();\n"
+                + "        items.add(\"a\");\n"
+                + "    }\n"
+                + "}\n");
+        String imported = enhance("import org.acme.StringBuffer;\n"
+                + "class A {\n"
+                + "    String m() {\n"
+                + "        StringBuffer buffer = new StringBuffer();\n"
+                + "        buffer.append(\"a\");\n"
+                + "        return buffer.toString();\n"
+                + "    }\n"
+                + "}\n");
+        String unimported = enhance("package org.acme;\n"
+                + "class A {\n"
+                + "    int m() {\n"
+                + "        Hashtable table = new Hashtable();\n"
+                + "        return table.size();\n"
+                + "    }\n"
+                + "}\n");
+        String replacementTaken = enhance("import java.util.Vector;\n"
+                + "import org.acme.ArrayList;\n"
+                + "class A {\n"
+                + "    int m() {\n"
+                + "        Vector<String> items = new Vector<>();\n"
+                + "        items.add(\"a\");\n"
+                + "        return items.size();\n"
+                + "    }\n"
+                + "}\n");
+
+        assertThat(scoped).contains("new org.acme.Vector()").doesNotContain("ArrayList");
+        assertThat(declared).contains("Vector items = new Vector();").doesNotContain("ArrayList");
+        assertThat(imported).contains("new StringBuffer()").doesNotContain("StringBuilder");
+        assertThat(unimported).contains("new Hashtable()").doesNotContain("HashMap");
+        assertThat(replacementTaken).contains("new Vector<>()").doesNotContain("java.util.ArrayList");
+    }
+
+    @Test
+    void keepsClassesOfTheSameNameInTheSourcesPackage() {
+        String source = "package org.acme;\n"
+                + "\n"
+                + "import java.util.*;\n"
+                + "\n"
+                + "class A {\n"
+                + "    int m() {\n"
+                + "        Vector items = new Vector();\n"
+                + "        items.add(\"a\");\n"
+                + "        return items.size();\n"
+                + "    }\n"
+                + "}\n";
+        ProjectTypeIndex.Builder builder = ProjectTypeIndex.builder(parsers, new ReflectionTypeSolver(false), 8,
+                ParserConfiguration.LanguageLevel.JAVA_17);
+        builder.add(source);
+        builder.add("package org.acme;\n\npublic class Vector {\n    public void add(String s) {\n    }\n"
+                + "    public int size() {\n        return 0;\n    }\n}\n");
+        AnalysisContext context = AnalysisContext.parse(source, parsers);
+        builder.build().attach(context.getCompilationUnit());
+
+        assertThat(CodeTransformationUtils.transformToLatestVersion(context))
+                .contains("Vector items = new Vector();").doesNotContain("ArrayList");
+        assertThat(enhance(source)).contains("new ArrayList()");
+    }
+
+    @Test
+    void buildsStringsConcatenatedInALoopWithABuilder() {
+        String enhanced = enhance("class A {\n"
+                + "    String m(int[] values) {\n"
+                + "        String s = \"\";\n"
+                + "        for (int value : values) {\n"
+                + "            s += value + \",\";\n"
+                + "        }\n"
+                + "        return s;\n"
+                + "    }\n"
+                + "}\n");
+
+        assertThat(enhanced).contains("        StringBuilder sBuilder = new StringBuilder(s);\n"
+                + "        for (int value : values) {\n"
+                + "            sBuilder.append(value + \",\");\n"
+                + "        }\n"
+                + "        s = sBuilder.toString();\n"
+                + "        return s;\n");
+    }
+
+    @Test
+    void keepsConcatenationThatIsReadInTheLoopOrIsAField() {
+        String read = enhance("class A {\n"
+                + "    void m(int n) {\n"
+                + "        String s = \"\";\n"
+                + "        for (int i = 0; i < n; i++) {\n"
+                + "            s += i;\n"
+                + "            System.out.println(s);\n"
+                + "        }\n"
+                + "    }\n"
+                + "}\n");
+        String field = enhance("class A {\n"
+                + "    String s = \"\";\n"
+                + "    void m(int n) {\n"
+                + "        for (int i = 0; i < n; i++) {\n"
+                + "            s += i;\n"
+                + "        }\n"
+                + "    }\n"
+                + "}\n");
+        String labeled = enhance("class A {\n"
+                + "    void m(int[][] rows) {\n"
+                + "        String s = \"\";\n"
+                + "        outer:\n"
+                + "        for (int[] row : rows) {\n"
+                + "            for (int cell : row) {\n"
+                + "                if (cell < 0) break outer;\n"
+                + "                s += cell;\n"
+                + "            }\n"
+                + "        }\n"
+                + "        System.out.println(s);\n"
+                + "    }\n"
+                + "}\n");
+
+        assertThat(read).contains("s += i;").doesNotContain("StringBuilder");
+        assertThat(field).contains("s += i;").doesNotContain("StringBuilder");
+        assertThat(labeled).contains("s += cell;").doesNotContain("StringBuilder");
+    }
+
+    @Test
+    void replacesBoxedConstructorsWithValueOf() {
+        String enhanced = enhance("class A {\n"
+                + "    Object m(int i, long l) {\n"
+                + "        return new Object[] { new Integer(i), new Long(l) };\n"
+                + "    }\n"
+                + "}\n");
+
+        assertThat(enhanced).contains("Integer.valueOf(i)").contains("Long.valueOf(l)").doesNotContain("new Integer");
+    }
+
+    @Test
+    void presizesListsFilledByTheNextLoop() {
+        String sized = enhance("import java.util.*;\n"
+                + "class A {\n"
+                + "    List<String> m(List<Integer> values) {\n"
+                + "        List<String> names = new ArrayList<>();\n"
+                + "        for (Integer value : values) {\n"
+                + "            names.add(String.valueOf(value));\n"
+                + "        }\n"
+                + "        return names;\n"
+                + "    }\n"
+                + "}\n");
+        String filtered = enhance("import java.util.*;\n"
+                + "class A {\n"
+                + "    List<String> m(List<Integer> values) {\n"
+                + "        List<String> names = new ArrayList<>();\n"
+                + "        for (Integer value : values) {\n"
+                + "            if (value > 0) names.add(String.valueOf(value));\n"
+                + "        }\n"
+                + "        return names;\n"
+                + "    }\n"
+                + "}\n");
+
+        assertThat(sized).contains("new ArrayList<>(values.size())");
+        assertThat(filtered).contains("new ArrayList<>()").doesNotContain("values.size())");
+    }
+
+    private String enhance(String source) {
+        return CodeTransformationUtils.transformToLatestVersion(AnalysisContext.parse(source, parsers));
+    }
+}
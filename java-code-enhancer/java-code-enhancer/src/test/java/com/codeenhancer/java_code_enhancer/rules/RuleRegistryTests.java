@@ -0,0 +1,136 @@
+package com.codeenhancer.java_code_enhancer.rules;
+
+import com.codeenhancer.java_code_enhancer.analysis.AnalysisContext;
+import com.codeenhancer.java_code_enhancer.analysis.JavaParserPool;
+import com.codeenhancer.java_code_enhancer.analysis.ScanResult;
+import com.codeenhancer.java_code_enhancer.config.CodeEnhancerProperties;
+import com.codeenhancer.java_code_enhancer.util.CodeTransformationUtils;
+import com.github.javaparser.ast.Node;
+import com.github.javaparser.ast.expr.MethodCallExpr;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class RuleRegistryTests {
+
+    private final JavaParserPool parsers = new JavaParserPool(new CodeEnhancerProperties.Parser(), null);
+
+    @Test
+    void runsAdditionalRulesAfterTheBuiltInOnes() {
+        RecordingRule rule = new RecordingRule("print_calls");
+        RuleRegistry registry = registry(new CodeEnhancerProperties(), rule);
+
+        assertThat(registry.getRules()).hasSize(BuiltInRules.all().size() + 1).last().isSameAs(rule);
+
+        ScanResult scan = AnalysisContext.parse(
+                "class A { void m() { System.out.println(new Object()); println(); } }", parsers,
+                AnalysisContext.options().rules(registry.getDefaults())).getScan();
+
+        assertThat(rule.offered).containsExactly("System.out.println(new Object())", "println()");
+        assertThat(scan.getWarnings()).containsExactly("call println", "call println");
+    }
+
+    @Test
+    void rejectsDuplicateAndUnknownRuleIds() {
+        CodeEnhancerProperties properties = new CodeEnhancerProperties();
+
+        assertThatThrownBy(() -> registry(properties, new RecordingRule("legacy_type")))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("legacy_type");
+
+        properties.getRules().getDisabled().add("no_such_rule");
+        assertThatThrownBy(() -> registry(properties))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("no_such_rule");
+        assertThatThrownBy(() -> registry(new CodeEnhancerProperties()).resolve(null, List.of("other"), List.of()))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void appliesGlobalThenTenantThenRequestSettings() {
+        CodeEnhancerProperties properties = new CodeEnhancerProperties();
+        properties.getRules().getDisabled().add("legacy_type");
+        CodeEnhancerProperties.Tenant tenant = new CodeEnhancerProperties.Tenant();
+        tenant.getEnabled().add("legacy_type");
+        tenant.getDisabled().add("switch");
+        properties.getRules().getTenants().put("acme", tenant);
+        RuleRegistry registry = registry(properties);
+
+        assertThat(ids(registry.getDefaults())).doesNotContain("legacy_type").contains("switch");
+        assertThat(ids(registry.resolve("acme", List.of(), List.of()))).contains("legacy_type")
+                .doesNotContain("switch");
+        assertThat(ids(registry.resolve("acme", List.of("switch"), List.of("legacy_type"))))
+                .contains("switch").doesNotContain("legacy_type");
+        assertThat(registry.resolve("unknown tenant", List.of(), List.of())).isSameAs(registry.getDefaults());
+    }
+
+    @Test
+    void sharesOneRuleSetPerSelection() {
+        RuleRegistry registry = registry(new CodeEnhancerProperties());
+
+        RuleSet withoutSwitch = registry.resolve(null, List.of(), List.of("switch"));
+
+        assertThat(registry.resolve(null, List.of(), List.of("switch"))).isSameAs(withoutSwitch);
+        assertThat(withoutSwitch.getFingerprint()).isNotEqualTo(registry.getDefaults().getFingerprint());
+        assertThat(registry.getDefaults().getFingerprint()).isEqualTo(RuleSet.BUILT_IN.getFingerprint());
+    }
+
+    @Test
+    void disabledRulesNeitherReportNorRewrite() {
+        RuleSet rules = registry(new CodeEnhancerProperties()).resolve(null, List.of(), List.of("legacy_type"));
+        String source = "class A { Object m() { return new Date(); } }";
+
+        AnalysisContext context = AnalysisContext.parse(source, parsers, AnalysisContext.options().rules(rules));
+
+        assertThat(context.getScan().getDeprecatedApiCount()).isZero();
+        assertThat(CodeTransformationUtils.transformToLatestVersion(context)).contains("new Date()");
+    }
+
+    private static RuleRegistry registry(CodeEnhancerProperties properties, ModernizationRule... additional) {
+        StaticListableBeanFactory beans = new StaticListableBeanFactory();
+        for (ModernizationRule rule : additional) {
+            beans.addBean(rule.id(), rule);
+        }
+        return new RuleRegistry(properties, beans.getBeanProvider(ModernizationRule.class));
+    }
+
+    private static List<String> ids(RuleSet rules) {
+        List<String> ids = new ArrayList<>();
+        rules.getRules().forEach(rule -> ids.add(rule.id()));
+        return ids;
+    }
+
+    /**
+     * Warns about calls named println and remembers the nodes it was offered
+     */
+    private static class RecordingRule implements ModernizationRule {
+        private final String id;
+        private final List<String> offered = new ArrayList<>();
+
+        RecordingRule(String id) {
+            this.id = id;
+        }
+
+        @Override
+        public String id() {
+            return id;
+        }
+
+        @Override
+        public Set<Class<? extends Node>> nodeTypes() {
+            return Set.of(MethodCallExpr.class);
+        }
+
+        @Override
+        public void collect(Node node, ScanResult result) {
+            offered.add(node.toString());
+            result.addWarning("call " + ((MethodCallExpr) node).getNameAsString());
+        }
+    }
+}
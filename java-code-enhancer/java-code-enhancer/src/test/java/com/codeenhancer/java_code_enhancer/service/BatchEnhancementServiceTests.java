@@ -0,0 +1,53 @@
+package com.codeenhancer.java_code_enhancer.service;
+
+import com.codeenhancer.java_code_enhancer.dto.BatchEnhancementResponse;
+import com.codeenhancer.java_code_enhancer.dto.FileEnhancementResult;
+import com.codeenhancer.java_code_enhancer.dto.OutputMode;
+import com.codeenhancer.java_code_enhancer.rules.RuleSet;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+class BatchEnhancementServiceTests {
+
+    @Autowired
+    BatchEnhancementService batchEnhancementService;
+
+    @Test
+    void enhancesEveryFileAndKeepsUploadOrder() {
+        List<MultipartFile> uploads = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            uploads.add(java("C" + i + ".java", "class C" + i + " { Object m() { return new Date(); } }"));
+        }
+        uploads.add(java("Broken.java", "class Broken { void m( }"));
+
+        BatchEnhancementResponse response = batchEnhancementService.enhanceBatch(uploads, 4, OutputMode.FULL,
+                RuleSet.BUILT_IN);
+
+        assertThat(response.getTotalFiles()).isEqualTo(21);
+        assertThat(response.getSucceeded()).isEqualTo(20);
+        assertThat(response.getFailed()).isEqualTo(1);
+        assertThat(response.getFiles()).extracting(FileEnhancementResult::getPath)
+                .containsExactlyElementsOf(uploads.stream().map(MultipartFile::getOriginalFilename)
+                        .collect(Collectors.toList()));
+        assertThat(response.getFiles().get(3).getEnhancement().getEnhancedCode())
+                .contains("Instant").doesNotContain("new Date()");
+        assertThat(response.getFiles().get(20).getError()).contains("Error during enhancement");
+        assertThat(response.getTotalMetrics().getDeprecatedApiCount()).isEqualTo(20);
+        assertThat(response.getTotalMetrics().getTotalLinesOfCode()).isEqualTo(20);
+    }
+
+    private static MockMultipartFile java(String name, String content) {
+        return new MockMultipartFile("files", name, "text/plain", content.getBytes(StandardCharsets.UTF_8));
+    }
+}
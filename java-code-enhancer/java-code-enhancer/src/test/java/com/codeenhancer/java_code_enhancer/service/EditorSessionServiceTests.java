@@ -0,0 +1,48 @@
+package com.codeenhancer.java_code_enhancer.service;
+
+import com.codeenhancer.java_code_enhancer.dto.SessionUpdateResponse;
+import com.codeenhancer.java_code_enhancer.dto.TextEdit;
+import com.codeenhancer.java_code_enhancer.rules.RuleRegistry;
+import com.codeenhancer.java_code_enhancer.rules.RuleSet;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+class EditorSessionServiceTests {
+
+    private static final String SOURCE = "import java.util.Date;\n"
+            + "\n"
+            + "class A {\n"
+            + "    Object now() {\n"
+            + "        return new Date();\n"
+            + "    }\n"
+            + "}\n";
+
+    @Autowired
+    EditorSessionService editorSessionService;
+
+    @Autowired
+    RuleRegistry ruleRegistry;
+
+    @Test
+    void analyzesEveryEditWithTheRulesTheSessionWasOpenedWith() {
+        RuleSet withoutLegacyTypes = ruleRegistry.resolve(null, List.of(), List.of("legacy_type"));
+
+        SessionUpdateResponse all = editorSessionService.open(SOURCE, RuleSet.BUILT_IN);
+        SessionUpdateResponse opened = editorSessionService.open(SOURCE, withoutLegacyTypes);
+        SessionUpdateResponse edited = editorSessionService.edit(opened.getSessionId(),
+                new TextEdit(null, SOURCE.indexOf("new Date()"), "new Date()".length(), "new Date(0L)"));
+
+        assertThat(all.getCodeMetrics().getDeprecatedApiCount()).isEqualTo(1);
+        assertThat(all.isPartial()).isFalse();
+        assertThat(opened.getCodeMetrics().getDeprecatedApiCount()).isZero();
+        assertThat(edited.isWholeDocument()).isFalse();
+        assertThat(edited.getCodeMetrics().getDeprecatedApiCount()).isZero();
+        assertThat(edited.getRewrites()).isEmpty();
+    }
+}
@@ -0,0 +1,76 @@
+package com.codeenhancer.java_code_enhancer.service;
+
+import com.codeenhancer.java_code_enhancer.dto.EnhancementStreamEvent;
+import com.codeenhancer.java_code_enhancer.dto.OutputMode;
+import com.codeenhancer.java_code_enhancer.rules.RuleSet;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.mock.web.MockMultipartFile;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+class EnhancementStreamTests {
+
+    @Autowired
+    CodeEnhancementService codeEnhancementService;
+
+    @Autowired
+    BatchEnhancementService batchEnhancementService;
+
+    @Test
+    void streamsTheHeaderAndEachTypeBeforeTheSummary() {
+        List<EnhancementStreamEvent> events = new ArrayList<>();
+
+        codeEnhancementService.streamText("package p;\nimport java.util.Date;\n"
+                + "class A { Object m() { return new Date(); } }\nclass B { }\n", RuleSet.BUILT_IN, events::add);
+
+        assertThat(events).extracting(EnhancementStreamEvent::getType).containsExactly(
+                EnhancementStreamEvent.UNIT, EnhancementStreamEvent.UNIT, EnhancementStreamEvent.UNIT,
+                EnhancementStreamEvent.SUMMARY);
+        assertThat(events).extracting(EnhancementStreamEvent::getSequence).containsExactly(0, 1, 2, 3);
+        assertThat(events.get(0).getEnhancedCode()).startsWith("package p;");
+        assertThat(events).extracting(EnhancementStreamEvent::getName).containsExactly(null, "A", "B", null);
+        EnhancementStreamEvent summary = events.get(3);
+        assertThat(summary.isSuccess()).isTrue();
+        assertThat(summary.getCodeMetrics().getDeprecatedApiCount()).isEqualTo(1);
+    }
+
+    @Test
+    void streamsAParseErrorAsAFailedSummary() {
+        List<EnhancementStreamEvent> events = new ArrayList<>();
+
+        codeEnhancementService.streamText("class A {", RuleSet.BUILT_IN, events::add);
+
+        assertThat(events).hasSize(1);
+        assertThat(events.get(0).getType()).isEqualTo(EnhancementStreamEvent.SUMMARY);
+        assertThat(events.get(0).isSuccess()).isFalse();
+        assertThat(events.get(0).getError()).startsWith("Error during enhancement");
+    }
+
+    @Test
+    void streamsOneEventPerFileAndATotal() {
+        List<EnhancementStreamEvent> events = new ArrayList<>();
+
+        batchEnhancementService.streamBatch(List.of(java("A.java", "class A { }"), java("B.java", "class B {")),
+                2, OutputMode.DIFF, RuleSet.BUILT_IN, events::add);
+
+        assertThat(events).hasSize(3);
+        assertThat(events.subList(0, 2)).extracting(EnhancementStreamEvent::getPath)
+                .containsExactlyInAnyOrder("A.java", "B.java");
+        EnhancementStreamEvent summary = events.get(2);
+        assertThat(summary.getType()).isEqualTo(EnhancementStreamEvent.SUMMARY);
+        assertThat(summary.getTotalFiles()).isEqualTo(2);
+        assertThat(summary.getFailed()).isEqualTo(1);
+        assertThat(summary.isSuccess()).isFalse();
+    }
+
+    private static MockMultipartFile java(String name, String content) {
+        return new MockMultipartFile("files", name, "text/plain", content.getBytes(StandardCharsets.UTF_8));
+    }
+}
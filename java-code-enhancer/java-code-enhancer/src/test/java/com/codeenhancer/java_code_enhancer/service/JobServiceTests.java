@@ -0,0 +1,200 @@
+package com.codeenhancer.java_code_enhancer.service;
+
+import com.codeenhancer.java_code_enhancer.config.CodeEnhancerProperties;
+import com.codeenhancer.java_code_enhancer.dto.EnhancementStreamEvent;
+import com.codeenhancer.java_code_enhancer.dto.JobState;
+import com.codeenhancer.java_code_enhancer.dto.JobStatus;
+import com.codeenhancer.java_code_enhancer.dto.OutputMode;
+import com.codeenhancer.java_code_enhancer.jobs.JobRecord;
+import com.codeenhancer.java_code_enhancer.jobs.JobStore;
+import com.codeenhancer.java_code_enhancer.rules.ModernizationRule;
+import com.codeenhancer.java_code_enhancer.rules.RuleRegistry;
+import com.codeenhancer.java_code_enhancer.rules.RuleSet;
+import com.codeenhancer.java_code_enhancer.service.impl.JobServiceImpl;
+import com.codeenhancer.java_code_enhancer.util.CodeMetrics;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.web.servlet.context.ServletWebServerApplicationContext;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+
+@SpringBootTest
+class JobServiceTests {
+
+    @Autowired
+    BatchEnhancementService batchEnhancementService;
+
+    @Autowired
+    RuleRegistry ruleRegistry;
+
+    @Autowired
+    ObjectMapper objectMapper;
+
+    @TempDir
+    Path directory;
+
+    private final CodeEnhancerProperties properties = new CodeEnhancerProperties();
+    private final List<JobServiceImpl> services = new ArrayList<>();
+
+    @AfterEach
+    void stopServices() {
+        services.forEach(JobServiceImpl::shutdown);
+    }
+
+    @Test
+    void runsASubmittedJobAndJournalsItsResults() throws Exception {
+        JobService jobs = jobService();
+
+        JobStatus submitted = jobs.submitText("class A { Object m() { return new Date(); } }", "A.java",
+                OutputMode.DIFF, RuleSet.BUILT_IN);
+        JobStatus done = awaitFinished(jobs, submitted.getJobId());
+
+        assertThat(done.getState()).isEqualTo(JobState.COMPLETED);
+        assertThat(done.getTotalFiles()).isEqualTo(1);
+        assertThat(done.getSucceeded()).isEqualTo(1);
+        assertThat(done.getTotalMetrics().getDeprecatedApiCount()).isEqualTo(1);
+        assertThat(events(jobs.results(submitted.getJobId()))).extracting(EnhancementStreamEvent::getType)
+                .containsExactly(EnhancementStreamEvent.FILE, EnhancementStreamEvent.SUMMARY);
+
+        JobStatus again = jobs.submitText("class A { Object m() { return new Date(); } }", "A.java",
+                OutputMode.DIFF, RuleSet.BUILT_IN);
+        assertThat(again.getJobId()).isEqualTo(submitted.getJobId());
+    }
+
+    @Test
+    void cancelsQueuedAndRunningJobs() throws Exception {
+        properties.getJobs().setWorkers(1);
+        JobService jobs = jobService();
+        List<MultipartFile> uploads = new ArrayList<>();
+        for (int i = 0; i < 300; i++) {
+            uploads.add(java("C" + i + ".java", "class C" + i + " { Object m() { return new Date(); } }"));
+        }
+
+        JobStatus running = jobs.submitFiles(uploads, 1, OutputMode.FULL, RuleSet.BUILT_IN);
+        JobStatus queued = jobs.submitText("class A { }", null, OutputMode.FULL, RuleSet.BUILT_IN);
+
+        assertThat(jobs.cancel(queued.getJobId()).getState()).isEqualTo(JobState.CANCELLED);
+        jobs.cancel(running.getJobId());
+        JobStatus cancelled = awaitFinished(jobs, running.getJobId());
+
+        assertThat(cancelled.getState()).isEqualTo(JobState.CANCELLED);
+        assertThat(cancelled.getProcessed()).isLessThan(300);
+        assertThatThrownBy(() -> jobs.cancel(running.getJobId())).isInstanceOf(ResponseStatusException.class)
+                .hasMessageContaining("already finished");
+        jobs.delete(running.getJobId());
+        assertThat(Files.exists(directory.resolve(running.getJobId()))).isFalse();
+    }
+
+    @Test
+    void resumesAnInterruptedJobFromItsJournal() throws Exception {
+        JobStore store = new JobStore(settings(), objectMapper);
+        String id = "interrupted";
+        Path input = store.create(id);
+        List<String> inputs = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            Path file = Files.writeString(input.resolve("C" + i + ".java"), "class C" + i + " { }");
+            inputs.add(file.toString());
+        }
+        store.save(JobRecord.builder()
+                .id(id)
+                .state(JobState.RUNNING)
+                .source("files")
+                .inputs(inputs)
+                .mode(OutputMode.DIFF)
+                .rules(ruleRegistry.getDefaults().getRules().stream().map(ModernizationRule::id)
+                        .collect(Collectors.toList()))
+                .totalMetrics(new CodeMetrics())
+                .createdAt(Instant.now())
+                .startedAt(Instant.now())
+                .build());
+        try (JobStore.ResultJournal journal = store.openResults(id)) {
+            journal.append(EnhancementStreamEvent.builder().type(EnhancementStreamEvent.FILE).sequence(0)
+                    .path("journaled").success(true).codeMetrics(new CodeMetrics()).build());
+        }
+        Files.writeString(store.resultsFile(id), "{\"type\":\"FI", StandardOpenOption.APPEND);
+
+        JobServiceImpl jobs = jobService();
+        jobs.resume(new ApplicationReadyEvent(new SpringApplication(), new String[0],
+                mock(ServletWebServerApplicationContext.class), Duration.ZERO));
+        JobStatus done = awaitFinished(jobs, id);
+
+        assertThat(done.getState()).isEqualTo(JobState.COMPLETED);
+        assertThat(done.getProcessed()).isEqualTo(3);
+        assertThat(events(jobs.results(id))).extracting(EnhancementStreamEvent::getPath)
+                .containsExactly("journaled", "C1.java", "C2.java", null);
+    }
+
+    @Test
+    void acceptsOnlyPathsUnderTheRealAllowedRoots() throws Exception {
+        Path root = Files.createDirectories(directory.resolve("root"));
+        Path outside = Files.createDirectories(directory.resolve("outside"));
+        Files.writeString(root.resolve("A.java"), "class A { }");
+        Path linkToRoot = Files.createSymbolicLink(directory.resolve("link"), root);
+        Files.createSymbolicLink(root.resolve("escape"), outside);
+        properties.getJobs().getAllowedRoots().add(linkToRoot.toString());
+        JobService jobs = jobService();
+
+        JobStatus status = jobs.submitPath(root.toString(), null, OutputMode.DIFF, RuleSet.BUILT_IN);
+
+        assertThat(awaitFinished(jobs, status.getJobId()).getTotalFiles()).isEqualTo(1);
+        assertThatThrownBy(() -> jobs.submitPath(root.resolve("escape").toString(), null, OutputMode.DIFF,
+                RuleSet.BUILT_IN)).isInstanceOf(ResponseStatusException.class).hasMessageContaining("allowed root");
+        assertThatThrownBy(() -> jobs.submitPath(directory.resolve("missing").toString(), null, OutputMode.DIFF,
+                RuleSet.BUILT_IN)).isInstanceOf(ResponseStatusException.class).hasMessageContaining("No such file");
+    }
+
+    private JobServiceImpl jobService() {
+        JobServiceImpl service = new JobServiceImpl(batchEnhancementService, ruleRegistry,
+                new JobStore(settings(), objectMapper), settings());
+        services.add(service);
+        return service;
+    }
+
+    private CodeEnhancerProperties settings() {
+        properties.getJobs().setDirectory(directory.toString());
+        return properties;
+    }
+
+    private static JobStatus awaitFinished(JobService jobs, String id) throws InterruptedException {
+        long deadline = System.nanoTime() + Duration.ofSeconds(60).toNanos();
+        JobStatus status = jobs.get(id);
+        while (!status.getState().isFinished() && System.nanoTime() < deadline) {
+            Thread.sleep(20);
+            status = jobs.get(id);
+        }
+        return status;
+    }
+
+    private List<EnhancementStreamEvent> events(Path results) throws Exception {
+        List<EnhancementStreamEvent> events = new ArrayList<>();
+        for (String line : Files.readAllLines(results, StandardCharsets.UTF_8)) {
+            events.add(objectMapper.readValue(line, EnhancementStreamEvent.class));
+        }
+        return events;
+    }
+
+    private static MockMultipartFile java(String name, String content) {
+        return new MockMultipartFile("files", name, "text/plain", content.getBytes(StandardCharsets.UTF_8));
+    }
+}
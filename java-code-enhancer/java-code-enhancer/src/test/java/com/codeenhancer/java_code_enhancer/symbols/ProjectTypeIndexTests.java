@@ -0,0 +1,175 @@
+package com.codeenhancer.java_code_enhancer.symbols;
+
+import com.codeenhancer.java_code_enhancer.analysis.JavaParserPool;
+import com.codeenhancer.java_code_enhancer.analysis.ParseProfile;
+import com.codeenhancer.java_code_enhancer.config.CodeEnhancerProperties;
+import com.github.javaparser.ParserConfiguration;
+import com.github.javaparser.ast.CompilationUnit;
+import com.github.javaparser.ast.expr.MethodCallExpr;
+import com.github.javaparser.symbolsolver.resolution.typesolvers.ReflectionTypeSolver;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ProjectTypeIndexTests {
+
+    private static final String BASE = "package p;\n"
+            + "\n"
+            + "import java.io.File;\n"
+            + "\n"
+            + "public class Base extends File {\n"
+            + "    protected int size;\n"
+            + "\n"
+            + "    public Base(String path) {\n"
+            + "        super(path);\n"
+            + "    }\n"
+            + "\n"
+            + "    public String[] names(java.io.FilenameFilter filter, int... limits) {\n"
+            + "        return list(filter);\n"
+            + "    }\n"
+            + "\n"
+            + "    public static class Entry implements Comparable<Entry> {\n"
+            + "        public int compareTo(Entry other) {\n"
+            + "            return 0;\n"
+            + "        }\n"
+            + "    }\n"
+            + "}\n";
+
+    private static final String CHILD = "package p.sub;\n"
+            + "\n"
+            + "import p.Base;\n"
+            + "import java.util.*;\n"
+            + "\n"
+            + "class Child extends Base implements RandomAccess {\n"
+            + "    Child() {\n"
+            + "        super(\"c\");\n"
+            + "    }\n"
+            + "\n"
+            + "    class Nested extends Entry {\n"
+            + "    }\n"
+            + "}\n";
+
+    private static final String OVERRIDING = "package p.sub;\n"
+            + "\n"
+            + "class Overriding extends Child {\n"
+            + "    @Override\n"
+            + "    public String[] list() {\n"
+            + "        return new String[0];\n"
+            + "    }\n"
+            + "}\n";
+
+    private final JavaParserPool parsers = new JavaParserPool(new CodeEnhancerProperties.Parser(), null);
+
+    @Test
+    void indexesTheTypesAndMembersOfEverySource() {
+        ProjectTypeIndex index = index(BASE, CHILD, OVERRIDING);
+
+        assertThat(index.getFileCount()).isEqualTo(3);
+        assertThat(index.getTypeCount()).isEqualTo(5);
+        assertThat(index.hasType("p.Base")).isTrue();
+        assertThat(index.hasType("p.Base.Entry")).isTrue();
+        assertThat(index.hasType("p.sub.Child.Nested")).isTrue();
+        assertThat(index.hasType("Base")).isFalse();
+        assertThat(index.hasType("java.io.File")).isFalse();
+        assertThat(index.getMembers("p.Base")).containsExactly("size", "names(java.io.FilenameFilter,int...)");
+        assertThat(index.getMembers("p.Other")).isEmpty();
+    }
+
+    @Test
+    void qualifiesSupertypesFromTheScopeOfTheirFile() {
+        ProjectTypeIndex index = index(BASE, CHILD, OVERRIDING);
+
+        assertThat(index.getSupertypes("p.Base")).containsExactly("java.io.File");
+        assertThat(index.getSupertypes("p.Base.Entry")).containsExactly("java.lang.Comparable");
+        assertThat(index.getSupertypes("p.sub.Child")).containsExactly("p.Base", "java.util.RandomAccess");
+        // Entry is inherited from Base, not declared by an enclosing type
+        assertThat(index.getSupertypes("p.sub.Child.Nested")).containsExactly("Entry");
+        assertThat(index.getSupertypes("p.sub.Overriding")).containsExactly("p.sub.Child");
+    }
+
+    @Test
+    void inheritsAMethodUntilAProjectTypeDeclaresOneOfItsName() {
+        ProjectTypeIndex index = index(BASE, CHILD, OVERRIDING);
+
+        assertThat(index.inherits("p.Base", "java.io.File", "list")).isTrue();
+        assertThat(index.inherits("p.sub.Child", "java.io.File", "list")).isTrue();
+        assertThat(index.inherits("p.sub.Overriding", "java.io.File", "list")).isFalse();
+        assertThat(index.inherits("p.sub.Child", "java.io.File", "names")).isFalse();
+        assertThat(index.inherits("p.sub.Child", "java.util.List", "list")).isFalse();
+        assertThat(index.inherits("p.Missing", "java.io.File", "list")).isFalse();
+    }
+
+    @Test
+    void resolvesProjectTypesFromTheStubsAndTheRestFromTheLibraries() {
+        ProjectTypeIndex index = index(BASE, CHILD);
+        CompilationUnit cu = parsers.parse("package p.sub;\n"
+                + "\n"
+                + "class Use {\n"
+                + "    Object m(Child child, java.io.FilenameFilter filter) {\n"
+                + "        return child.names(filter).length + child.list().length;\n"
+                + "    }\n"
+                + "}\n", ParseProfile.FULL).getResult().orElseThrow();
+        index.attach(cu);
+
+        assertThat(ProjectTypeIndex.of(cu)).containsSame(index);
+        assertThat(cu.findAll(MethodCallExpr.class))
+                .extracting(call -> call.resolve().declaringType().getQualifiedName())
+                .containsExactlyInAnyOrder("p.Base", "java.io.File");
+        assertThat(index.getTypeSolver().tryToSolveType("java.util.Date").isSolved()).isTrue();
+        assertThat(index.getTypeSolver().tryToSolveType("p.Missing").isSolved()).isFalse();
+    }
+
+    @Test
+    void fingerprintsTheDeclarationsButNotTheBodies() {
+        String fingerprint = index(BASE, CHILD).getFingerprint();
+
+        assertThat(index(BASE, CHILD).getFingerprint()).isEqualTo(fingerprint);
+        assertThat(index(BASE.replace("return list(filter);", "return null;"), CHILD).getFingerprint())
+                .isEqualTo(fingerprint);
+        assertThat(index(BASE.replace("protected int size;", "protected long size;"), CHILD).getFingerprint())
+                .isNotEqualTo(fingerprint);
+        assertThat(index(BASE, CHILD.replace("import java.util.*;", "import java.util.List;")).getFingerprint())
+                .isNotEqualTo(fingerprint);
+    }
+
+    @Test
+    void fingerprintsASourceByTheDeclarationsItMayReferTo() {
+        String other = "package q;\n\npublic class Other {\n    public int count() {\n        return 0;\n    }\n}\n";
+        String use = "package p.sub;\n\nclass Use {\n    Object m(Child child) {\n        return child;\n    }\n}\n";
+        String fingerprint = index(BASE, CHILD, other).getFingerprint(use);
+
+        assertThat(fingerprint).isNotEmpty();
+        assertThat(index(BASE, CHILD, other.replace("int count()", "long count()")).getFingerprint(use))
+                .isEqualTo(fingerprint);
+        assertThat(index(other, CHILD, BASE).getFingerprint(use)).isEqualTo(fingerprint);
+        // Child extends Base, so a signature of Base matters as well
+        assertThat(index(BASE.replace("protected int size;", "protected long size;"), CHILD, other)
+                .getFingerprint(use)).isNotEqualTo(fingerprint);
+        assertThat(index(BASE, CHILD, other, "package q;\n\npublic class Child {\n}\n").getFingerprint(use))
+                .isNotEqualTo(fingerprint);
+        assertThat(index(BASE, CHILD, other).getFingerprint("class Plain {\n}\n")).isEmpty();
+    }
+
+    @Test
+    void leavesOutSourcesThatDoNotParse() {
+        ProjectTypeIndex.Builder builder = builder();
+
+        assertThat(builder.add(BASE)).isTrue();
+        assertThat(builder.add("package p;\n\nclass Broken {\n    void m( }\n")).isFalse();
+        assertThat(builder.size()).isEqualTo(1);
+        assertThat(builder.build().hasType("p.Broken")).isFalse();
+    }
+
+    private ProjectTypeIndex index(String... sources) {
+        ProjectTypeIndex.Builder builder = builder();
+        for (String source : sources) {
+            assertThat(builder.add(source)).isTrue();
+        }
+        return builder.build();
+    }
+
+    private ProjectTypeIndex.Builder builder() {
+        return ProjectTypeIndex.builder(parsers, new ReflectionTypeSolver(false), 8,
+                ParserConfiguration.LanguageLevel.JAVA_17);
+    }
+}
@@ -0,0 +1,92 @@
+package com.codeenhancer.java_code_enhancer.util;
+
+import com.codeenhancer.java_code_enhancer.config.CodeEnhancerProperties;
+import com.codeenhancer.java_code_enhancer.ingest.SourceReader;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SourceEntriesTests {
+
+    private final SourceReader reader = new SourceReader(new CodeEnhancerProperties());
+
+    @Test
+    void readsFilesAndArchiveEntriesInUploadOrder() throws IOException {
+        List<MultipartFile> uploads = List.of(
+                java("A.java", "class A { }"),
+                zip("sources.zip", "p/B.java", "class B { }", "README.md", "not java", "p/C.java", "class C { }"),
+                java("D.java", "class D { }"));
+        List<String> names = new ArrayList<>();
+        List<String> contents = new ArrayList<>();
+
+        int count = SourceEntries.forEach(uploads, 10, reader, (name, content) -> {
+            names.add(name);
+            contents.add(content);
+        });
+
+        assertThat(count).isEqualTo(4);
+        assertThat(names).containsExactly("A.java", "p/B.java", "p/C.java", "D.java");
+        assertThat(contents).containsExactly("class A { }", "class B { }", "class C { }", "class D { }");
+    }
+
+    @Test
+    void rejectsABatchOverTheFileLimit() throws IOException {
+        List<MultipartFile> uploads = List.of(
+                java("A.java", "class A { }"),
+                zip("sources.zip", "B.java", "class B { }", "C.java", "class C { }"));
+        List<String> names = new ArrayList<>();
+
+        assertThatThrownBy(() -> SourceEntries.forEach(uploads, 2, reader, (name, content) -> names.add(name)))
+                .isInstanceOf(IOException.class)
+                .hasMessageContaining("limit of 2 files");
+        assertThat(names).containsExactly("A.java", "B.java");
+    }
+
+    @Test
+    void readsDirectoriesWithoutFollowingLinks(@TempDir Path directory) throws IOException {
+        Path root = Files.createDirectories(directory.resolve("root/p"));
+        Path outside = Files.createDirectories(directory.resolve("outside"));
+        Files.writeString(root.resolve("B.java"), "class B { }");
+        Files.writeString(root.resolve("A.java"), "class A { }");
+        Files.writeString(outside.resolve("Secret.java"), "class Secret { }");
+        Files.createSymbolicLink(root.resolve("Linked.java"), outside.resolve("Secret.java"));
+        Files.createSymbolicLink(root.resolve("linked"), outside);
+        List<String> names = new ArrayList<>();
+
+        int count = SourceEntries.forEachPath(List.of(directory.resolve("root")), 10, reader,
+                (name, content) -> names.add(name));
+
+        assertThat(count).isEqualTo(2);
+        assertThat(names).containsExactly("p/A.java", "p/B.java");
+    }
+
+    static MockMultipartFile java(String name, String content) {
+        return new MockMultipartFile("files", name, "text/plain", content.getBytes(StandardCharsets.UTF_8));
+    }
+
+    static MockMultipartFile zip(String name, String... entries) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ZipOutputStream zip = new ZipOutputStream(bytes)) {
+            for (int i = 0; i < entries.length; i += 2) {
+                zip.putNextEntry(new ZipEntry(entries[i]));
+                zip.write(entries[i + 1].getBytes(StandardCharsets.UTF_8));
+                zip.closeEntry();
+            }
+        }
+        return new MockMultipartFile("files", name, "application/zip", bytes.toByteArray());
+    }
+}
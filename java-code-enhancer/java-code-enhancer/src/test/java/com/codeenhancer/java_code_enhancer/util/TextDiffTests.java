@@ -0,0 +1,117 @@
+package com.codeenhancer.java_code_enhancer.util;
+
+import com.codeenhancer.java_code_enhancer.dto.TextEdit;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TextDiffTests {
+
+    @Test
+    void rendersAUnifiedDiffWithContext() {
+        String original = "a\nb\nc\nd\ne\nf\ng\n";
+        String revised = "a\nb\nC\nd\ne\nf\ng\nh\n";
+
+        assertThat(TextDiff.unified("A.java", original, revised, 1)).isEqualTo(
+                "--- a/A.java\n"
+                        + "+++ b/A.java\n"
+                        + "@@ -2,3 +2,3 @@\n"
+                        + " b\n"
+                        + "-c\n"
+                        + "+C\n"
+                        + " d\n"
+                        + "@@ -7,1 +7,2 @@\n"
+                        + " g\n"
+                        + "+h\n");
+        assertThat(TextDiff.unified("A.java", original, revised, 3)).contains("@@ -1,7 +1,8 @@");
+        assertThat(TextDiff.unified("A.java", original, original, 3)).isEmpty();
+    }
+
+    @Test
+    void marksALastLineWithoutNewline() {
+        assertThat(TextDiff.unified("A.java", "a\nb", "a\nc", 0)).isEqualTo(
+                "--- a/A.java\n"
+                        + "+++ b/A.java\n"
+                        + "@@ -2,1 +2,1 @@\n"
+                        + "-b\n"
+                        + "\\ No newline at end of file\n"
+                        + "+c\n"
+                        + "\\ No newline at end of file\n");
+    }
+
+    @Test
+    void trimsEditsToTheCharactersThatChanged() {
+        List<TextEdit> edits = TextDiff.edits("class A {\n    Date d;\n}\n", "class A {\n    Instant d;\n}\n");
+
+        assertThat(edits).hasSize(1);
+        assertThat(edits.get(0).getOffset()).isEqualTo(14);
+        assertThat(edits.get(0).getLength()).isEqualTo(4);
+        assertThat(edits.get(0).getText()).isEqualTo("Instant");
+        assertThat(TextDiff.edits("same\n", "same\n")).isEmpty();
+    }
+
+    @Test
+    void editsReproduceTheRevisedText() {
+        Random random = new Random(42);
+        for (int i = 0; i < 200; i++) {
+            String original = randomLines(random, random.nextInt(30));
+            String revised = mutate(random, original);
+
+            assertThat(apply(original, TextDiff.edits(original, revised))).isEqualTo(revised);
+        }
+    }
+
+    @Test
+    void reportsTextsBeyondTheEditDistanceLimitAsOneChange() {
+        StringBuilder original = new StringBuilder("first\n");
+        StringBuilder revised = new StringBuilder("first\n");
+        for (int i = 0; i <= TextDiff.MAX_EDIT_DISTANCE; i++) {
+            original.append("a").append(i).append('\n');
+            revised.append("b").append(i).append('\n');
+        }
+
+        List<TextEdit> edits = TextDiff.edits(original.toString(), revised.toString());
+
+        assertThat(edits).hasSize(1);
+        assertThat(apply(original.toString(), edits)).isEqualTo(revised.toString());
+    }
+
+    /**
+     * Apply edits of ascending offsets, as a client would
+     */
+    private static String apply(String text, List<TextEdit> edits) {
+        StringBuilder result = new StringBuilder(text);
+        for (int i = edits.size() - 1; i >= 0; i--) {
+            TextEdit edit = edits.get(i);
+            result.replace(edit.getOffset(), edit.getOffset() + edit.getLength(), edit.getText());
+        }
+        return result.toString();
+    }
+
+    private static String randomLines(Random random, int count) {
+        StringBuilder text = new StringBuilder();
+        for (int i = 0; i < count; i++) {
+            text.append("line").append(random.nextInt(5)).append('\n');
+        }
+        return random.nextBoolean() ? text.toString() : text + "tail";
+    }
+
+    private static String mutate(Random random, String text) {
+        StringBuilder result = new StringBuilder(text);
+        for (int i = random.nextInt(4); i >= 0; i--) {
+            int at = result.length() == 0 ? 0 : random.nextInt(result.length());
+            int kind = random.nextInt(3);
+            if (kind == 0) {
+                result.insert(at, "new" + random.nextInt(3) + "\n");
+            } else if (kind == 1) {
+                result.delete(at, Math.min(result.length(), at + random.nextInt(8)));
+            } else {
+                result.insert(at, 'x');
+            }
+        }
+        return result.toString();
+    }
+}